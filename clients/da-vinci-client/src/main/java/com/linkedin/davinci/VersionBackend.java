@@ -7,6 +7,7 @@ import static com.linkedin.venice.ConfigKeys.SERVER_STOP_CONSUMPTION_TIMEOUT_IN_
 import com.linkedin.davinci.config.VeniceStoreVersionConfig;
 import com.linkedin.davinci.storage.chunking.AbstractAvroChunkingAdapter;
 import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.venice.client.store.predicate.Predicate;
 import com.linkedin.venice.client.store.streaming.StreamingCallback;
 import com.linkedin.venice.compression.VeniceCompressor;
 import com.linkedin.venice.compute.ComputeRequestWrapper;
@@ -244,6 +245,7 @@ public class VersionBackend {
 
   public void computeWithKeyPrefixFilter(
       byte[] keyPrefix,
+      Predicate keyFilter,
       int partition,
       StreamingCallback<GenericRecord, GenericRecord> callback,
       ComputeRequestWrapper computeRequestWrapper,
@@ -280,6 +282,7 @@ public class VersionBackend {
         partition,
         this.version.getPartitionerConfig(),
         keyPrefix,
+        keyFilter,
         reusableValueRecord,
         reusableBinaryDecoder,
         keyRecordDeserializer,
@@ -291,6 +294,31 @@ public class VersionBackend {
         computingCallback);
   }
 
+  public <K, V> void readByKeyRange(
+      byte[] startKeyBytes,
+      byte[] endKeyBytes,
+      int partition,
+      AbstractAvroChunkingAdapter<V> chunkingAdaptor,
+      StoreDeserializerCache<V> storeDeserializerCache,
+      RecordDeserializer<K> keyDeserializer,
+      BinaryDecoder reusableBinaryDecoder,
+      StreamingCallback<K, V> callback) {
+    chunkingAdaptor.getByKeyRange(
+        getStorageEngineOrThrow(),
+        partition,
+        this.version.getPartitionerConfig(),
+        startKeyBytes,
+        endKeyBytes,
+        reusableBinaryDecoder,
+        keyDeserializer,
+        this.version.isChunkingEnabled(),
+        null,
+        getSupersetOrLatestValueSchemaId(),
+        storeDeserializerCache,
+        this.compressor.get(),
+        callback);
+  }
+
   public int getPartitionCount() {
     return version.getPartitionCount();
   }
@@ -308,6 +336,14 @@ public class VersionBackend {
     return future != null && future.isDone() && !future.isCompletedExceptionally();
   }
 
+  /**
+   * @return whether the partition, which is not ready to serve yet, can already serve the data ingested so far.
+   */
+  public boolean isPartitionReadableDuringIngestion(int partition) {
+    return isPartitionSubscribed(partition)
+        && backend.getIngestionBackend().isPartitionReadableDuringIngestion(version.kafkaTopicName(), partition);
+  }
+
   public int getSupersetOrLatestValueSchemaId() {
     return backend.getSchemaRepository().getSupersetOrLatestValueSchema(version.getStoreName()).getId();
   }
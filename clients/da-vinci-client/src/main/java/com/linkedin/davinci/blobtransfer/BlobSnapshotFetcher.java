@@ -0,0 +1,246 @@
+package com.linkedin.davinci.blobtransfer;
+
+import com.linkedin.davinci.storage.StorageEngineRepository;
+import com.linkedin.davinci.storage.StorageMetadataService;
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.httpclient.HttpClientUtils;
+import com.linkedin.venice.kafka.protocol.state.PartitionState;
+import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
+import com.linkedin.venice.meta.QueryAction;
+import com.linkedin.venice.offsets.OffsetRecord;
+import com.linkedin.venice.security.SSLFactory;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
+import com.linkedin.venice.throttle.EventThrottler;
+import com.linkedin.venice.utils.LatencyUtils;
+import com.linkedin.venice.utils.Time;
+import com.linkedin.venice.utils.Utils;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import org.apache.commons.io.FileUtils;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.util.EntityUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * Bootstraps a new replica of a partition from the snapshot of a ready-to-serve peer, served by its
+ * {@link BlobSnapshotManager}, instead of re-ingesting the whole version topic.
+ *
+ * The files of the snapshot are downloaded chunk by chunk into a temporary directory, with all the bytes received by
+ * this host throttled together, and their size and CRC32 checksum are verified against the manifest. The partition is
+ * then replaced by the snapshot, and the offset record of the snapshot is persisted, so that the ingestion resumes
+ * from there. If any peer fails, the next one is tried, and if all of them fail the partition is left untouched and
+ * gets ingested from the version topic as usual.
+ */
+public class BlobSnapshotFetcher implements Closeable {
+  private static final Logger LOGGER = LogManager.getLogger(BlobSnapshotFetcher.class);
+  private static final InternalAvroSpecificSerializer<StoreVersionState> STORE_VERSION_STATE_SERIALIZER =
+      AvroProtocolDefinition.STORE_VERSION_STATE.getSerializer();
+  private static final InternalAvroSpecificSerializer<PartitionState> PARTITION_STATE_SERIALIZER =
+      AvroProtocolDefinition.PARTITION_STATE.getSerializer();
+  private static final String BLOB_SNAPSHOT_ACTION = QueryAction.BLOB_SNAPSHOT.toString().toLowerCase();
+  private static final int CONNECTION_TIMEOUT_MS = 30 * Time.MS_PER_SECOND;
+  private static final int SOCKET_TIMEOUT_MS = 60 * Time.MS_PER_SECOND;
+  private static final int REQUEST_TIMEOUT_MS = 5 * Time.MS_PER_MINUTE;
+  private static final int IO_THREAD_COUNT = 2;
+  private static final int MAX_CONNECTION_PER_ROUTE = 2;
+  private static final int MAX_CONNECTION_TOTAL = 10;
+  private static final int IDLE_CONNECTION_CLEANUP_THRESHOLD_IN_MINUTES = 10;
+
+  private final StorageEngineRepository storageEngineRepository;
+  private final StorageMetadataService storageMetadataService;
+  private final String tempBaseDir;
+  private final EventThrottler throttler;
+  private final CloseableHttpAsyncClient httpClient;
+
+  /**
+   * @param tempBaseDir where the snapshots are downloaded, which has to be on the same file system as the partitions
+   */
+  public BlobSnapshotFetcher(
+      StorageEngineRepository storageEngineRepository,
+      StorageMetadataService storageMetadataService,
+      Optional<SSLFactory> sslFactory,
+      String tempBaseDir,
+      long maxBytesPerSecond) {
+    this.storageEngineRepository = storageEngineRepository;
+    this.storageMetadataService = storageMetadataService;
+    this.tempBaseDir = tempBaseDir;
+    this.throttler = new EventThrottler(
+        maxBytesPerSecond,
+        Time.MS_PER_SECOND,
+        "blob_snapshot_bootstrap_bandwidth",
+        false,
+        EventThrottler.BLOCK_STRATEGY);
+    this.httpClient =
+        HttpClientUtils
+            .getMinimalHttpClientWithConnManager(
+                IO_THREAD_COUNT,
+                MAX_CONNECTION_PER_ROUTE,
+                MAX_CONNECTION_TOTAL,
+                SOCKET_TIMEOUT_MS,
+                CONNECTION_TIMEOUT_MS,
+                sslFactory,
+                Optional.empty(),
+                Optional.empty(),
+                true,
+                IDLE_CONNECTION_CLEANUP_THRESHOLD_IN_MINUTES)
+            .getClient();
+    httpClient.start();
+    // Downloads interrupted by a previous run cannot be resumed
+    deleteDirectory(new File(tempBaseDir));
+  }
+
+  /**
+   * @param peerUrls the base urls of the peers to try, in order
+   * @return whether the partition has been bootstrapped from the snapshot of one of the peers
+   */
+  public boolean bootstrapFromPeers(String topic, int partition, List<String> peerUrls) {
+    for (String peerUrl: peerUrls) {
+      long startTimeMs = System.currentTimeMillis();
+      File snapshotDir = new File(tempBaseDir, topic + "-" + partition);
+      try {
+        BlobSnapshotManifest manifest = fetchSnapshot(peerUrl, topic, partition, snapshotDir);
+        installSnapshot(manifest, snapshotDir);
+        LOGGER.info(
+            "Bootstrapped partition: {} of: {} from snapshot: {} of peer: {} with {} bytes in {} ms",
+            partition,
+            topic,
+            manifest.getSnapshotId(),
+            peerUrl,
+            manifest.getTotalSize(),
+            LatencyUtils.getElapsedTimeInMs(startTimeMs));
+        return true;
+      } catch (Exception e) {
+        LOGGER.warn("Failed to bootstrap partition: {} of: {} from peer: {}", partition, topic, peerUrl, e);
+      } finally {
+        deleteDirectory(snapshotDir);
+      }
+      if (Thread.currentThread().isInterrupted()) {
+        LOGGER.info("Stop bootstrapping partition: {} of: {} as the download was cancelled", partition, topic);
+        break;
+      }
+    }
+    return false;
+  }
+
+  BlobSnapshotManifest fetchSnapshot(String peerUrl, String topic, int partition, File snapshotDir) {
+    String snapshotUrl = peerUrl + "/" + BLOB_SNAPSHOT_ACTION + "/" + topic + "/" + partition;
+    BlobSnapshotManifest manifest = BlobSnapshotManifest.fromBytes(get(snapshotUrl));
+    if (!topic.equals(manifest.getTopic()) || partition != manifest.getPartition()) {
+      throw new VeniceException(
+          "Received the manifest of partition: " + manifest.getPartition() + " of: " + manifest.getTopic()
+              + " instead of partition: " + partition + " of: " + topic);
+    }
+    deleteDirectory(snapshotDir);
+    if (!snapshotDir.mkdirs()) {
+      throw new VeniceException("Failed to create directory: " + snapshotDir);
+    }
+    for (BlobSnapshotManifest.FileInfo fileInfo: manifest.getFiles()) {
+      if (fileInfo.getName().contains("/") || fileInfo.getName().startsWith(".")) {
+        throw new VeniceException(
+            "Invalid file name: " + fileInfo.getName() + " in snapshot: " + manifest.getSnapshotId());
+      }
+      String fileUrl = snapshotUrl + "/" + manifest.getSnapshotId() + "/" + fileInfo.getName() + "/";
+      File file = new File(snapshotDir, fileInfo.getName());
+      CRC32 crc32 = new CRC32();
+      long position = 0;
+      try (OutputStream outputStream = new FileOutputStream(file)) {
+        while (position < fileInfo.getSize()) {
+          byte[] chunk = get(fileUrl + position);
+          if (chunk.length == 0) {
+            throw new VeniceException("Received an empty chunk of file: " + fileInfo.getName() + " at: " + position);
+          }
+          throttler.maybeThrottle(chunk.length);
+          crc32.update(chunk, 0, chunk.length);
+          outputStream.write(chunk);
+          position += chunk.length;
+        }
+      } catch (IOException e) {
+        throw new VeniceException("Failed to write file: " + file, e);
+      }
+      if (position != fileInfo.getSize() || crc32.getValue() != fileInfo.getCrc32()) {
+        throw new VeniceException(
+            "Checksum mismatch for file: " + fileInfo.getName() + " of snapshot: " + manifest.getSnapshotId()
+                + ", expected size: " + fileInfo.getSize() + " and crc32: " + fileInfo.getCrc32() + ", received size: "
+                + position + " and crc32: " + crc32.getValue());
+      }
+    }
+    return manifest;
+  }
+
+  private void installSnapshot(BlobSnapshotManifest manifest, File snapshotDir) {
+    String topic = manifest.getTopic();
+    int partition = manifest.getPartition();
+    AbstractStorageEngine storageEngine = storageEngineRepository.getLocalStorageEngine(topic);
+    if (storageEngine == null) {
+      throw new VeniceException("Storage engine of: " + topic + " does not exist");
+    }
+    StoreVersionState storeVersionState =
+        STORE_VERSION_STATE_SERIALIZER.deserialize(topic, manifest.getStoreVersionState());
+    OffsetRecord offsetRecord = new OffsetRecord(manifest.getOffsetRecord(), PARTITION_STATE_SERIALIZER);
+    storageMetadataService.computeStoreVersionState(topic, previous -> previous != null ? previous : storeVersionState);
+    try {
+      storageEngine.restorePartitionFromSnapshot(partition, snapshotDir.getAbsolutePath());
+    } catch (Exception e) {
+      // Make sure that the partition can still be ingested from the version topic
+      if (!storageEngine.containsPartition(partition)) {
+        storageEngine.addStoragePartition(partition);
+      }
+      throw e;
+    }
+    storageMetadataService.put(topic, partition, offsetRecord);
+  }
+
+  private byte[] get(String url) {
+    HttpGet request = new HttpGet(url);
+    HttpResponse response;
+    try {
+      response = httpClient.execute(request, null).get(REQUEST_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new VeniceException("Interrupted while sending request: " + url, e);
+    } catch (Exception e) {
+      request.abort();
+      throw new VeniceException("Failed to send request: " + url, e);
+    }
+    byte[] body;
+    try {
+      body = EntityUtils.toByteArray(response.getEntity());
+    } catch (IOException e) {
+      throw new VeniceException("Failed to read the response of: " + url, e);
+    }
+    int statusCode = response.getStatusLine().getStatusCode();
+    if (statusCode != HttpStatus.SC_OK) {
+      throw new VeniceException(
+          "Request: " + url + " failed with status: " + statusCode + ", " + new String(body, StandardCharsets.UTF_8));
+    }
+    return body;
+  }
+
+  private static void deleteDirectory(File dir) {
+    try {
+      FileUtils.deleteDirectory(dir);
+    } catch (IOException e) {
+      LOGGER.warn("Failed to delete snapshot directory: {}", dir, e);
+    }
+  }
+
+  @Override
+  public void close() {
+    Utils.closeQuietlyWithErrorLogged(httpClient);
+  }
+}
@@ -0,0 +1,273 @@
+package com.linkedin.davinci.blobtransfer;
+
+import com.linkedin.davinci.storage.StorageEngineRepository;
+import com.linkedin.davinci.storage.StorageMetadataService;
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.exceptions.VeniceNoStoreException;
+import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
+import com.linkedin.venice.offsets.OffsetRecord;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
+import com.linkedin.venice.throttle.EventThrottler;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.Time;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import com.linkedin.venice.utils.locks.AutoCloseableLock;
+import com.linkedin.venice.utils.locks.ResourceAutoClosableLockManager;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+import org.apache.commons.io.FileUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * Serves consistent snapshots of the ready-to-serve partitions of this host to the peers bootstrapping a new replica,
+ * see {@link BlobSnapshotFetcher}.
+ *
+ * A snapshot is created on the first request for the manifest of a partition, and is then reused by all the peers
+ * asking for it until it has not been accessed for the configured retention, at which point it gets deleted. Taking
+ * a snapshot is cheap since the SST files are hard-linked, but the checksums of all the files have to be computed
+ * once, which is why the snapshots are not recreated for every request.
+ *
+ * The files are served in chunks of at most {@link #CHUNK_SIZE} bytes, so that the responses fit in the regular
+ * request/response pipeline of the storage node, and all the bytes sent are throttled together. The requests are
+ * executed in a dedicated pool so that they cannot starve the read requests.
+ */
+public class BlobSnapshotManager implements Closeable {
+  private static final Logger LOGGER = LogManager.getLogger(BlobSnapshotManager.class);
+  private static final InternalAvroSpecificSerializer<StoreVersionState> STORE_VERSION_STATE_SERIALIZER =
+      AvroProtocolDefinition.STORE_VERSION_STATE.getSerializer();
+  public static final int CHUNK_SIZE = 4 * 1024 * 1024;
+  private static final int THREAD_NUM = 2;
+
+  private final StorageEngineRepository storageEngineRepository;
+  private final StorageMetadataService storageMetadataService;
+  private final String snapshotBaseDir;
+  private final long retentionMs;
+  private final EventThrottler throttler;
+  private final Time time;
+  private final Map<String, Snapshot> snapshots = new VeniceConcurrentHashMap<>();
+  private final ResourceAutoClosableLockManager<String> snapshotLockManager =
+      new ResourceAutoClosableLockManager<>(ReentrantLock::new);
+  private final ExecutorService executor;
+  private final ScheduledExecutorService cleanupExecutor;
+
+  public BlobSnapshotManager(
+      StorageEngineRepository storageEngineRepository,
+      StorageMetadataService storageMetadataService,
+      String snapshotBaseDir,
+      long retentionMs,
+      long maxBytesPerSecond,
+      Time time) {
+    this.storageEngineRepository = storageEngineRepository;
+    this.storageMetadataService = storageMetadataService;
+    this.snapshotBaseDir = snapshotBaseDir;
+    this.retentionMs = retentionMs;
+    this.throttler = new EventThrottler(
+        maxBytesPerSecond,
+        Time.MS_PER_SECOND,
+        "blob_snapshot_serving_bandwidth",
+        false,
+        EventThrottler.BLOCK_STRATEGY);
+    this.time = time;
+
+    // Snapshots left over by a previous run are not tracked anymore
+    deleteDirectory(new File(snapshotBaseDir));
+    this.executor = Executors.newFixedThreadPool(THREAD_NUM, new DaemonThreadFactory("BlobSnapshotServing"));
+    this.cleanupExecutor = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("BlobSnapshotCleanup"));
+    long cleanupIntervalMs = Math.max(retentionMs / 2, 1);
+    cleanupExecutor.scheduleWithFixedDelay(
+        this::deleteExpiredSnapshots,
+        cleanupIntervalMs,
+        cleanupIntervalMs,
+        TimeUnit.MILLISECONDS);
+  }
+
+  public CompletableFuture<BlobSnapshotManifest> getManifest(String topic, int partition) {
+    return CompletableFuture.supplyAsync(() -> getOrCreateSnapshot(topic, partition).manifest, executor);
+  }
+
+  /**
+   * Reads at most {@link #CHUNK_SIZE} bytes of a file of a snapshot, starting at the given position.
+   */
+  public CompletableFuture<ByteBuffer> readFileChunk(
+      String topic,
+      int partition,
+      long snapshotId,
+      String fileName,
+      long position) {
+    return CompletableFuture.supplyAsync(() -> {
+      Snapshot snapshot = snapshots.get(getSnapshotKey(topic, partition));
+      if (snapshot == null || snapshot.manifest.getSnapshotId() != snapshotId) {
+        throw new VeniceException(
+            "Snapshot: " + snapshotId + " of partition: " + partition + " of: " + topic + " does not exist anymore");
+      }
+      snapshot.lastAccessTimeMs = time.getMilliseconds();
+      BlobSnapshotManifest.FileInfo fileInfo = snapshot.manifest.getFile(fileName);
+      if (fileInfo == null) {
+        throw new VeniceException("File: " + fileName + " is not part of snapshot: " + snapshotId + " of: " + topic);
+      }
+      if (position < 0 || position > fileInfo.getSize()) {
+        throw new VeniceException("Invalid position: " + position + " in file: " + fileName + " of: " + topic);
+      }
+      int length = (int) Math.min(CHUNK_SIZE, fileInfo.getSize() - position);
+      ByteBuffer chunk = ByteBuffer.allocate(length);
+      try (RandomAccessFile file = new RandomAccessFile(new File(snapshot.dir, fileName), "r")) {
+        while (chunk.hasRemaining()) {
+          if (file.getChannel().read(chunk, position + chunk.position()) < 0) {
+            throw new VeniceException("Unexpected end of file: " + fileName + " of snapshot: " + snapshotId);
+          }
+        }
+      } catch (IOException e) {
+        throw new VeniceException("Failed to read file: " + fileName + " of snapshot: " + snapshotId, e);
+      }
+      throttler.maybeThrottle(length);
+      chunk.flip();
+      return chunk;
+    }, executor);
+  }
+
+  private Snapshot getOrCreateSnapshot(String topic, int partition) {
+    String key = getSnapshotKey(topic, partition);
+    try (AutoCloseableLock ignore = snapshotLockManager.getLockForResource(key)) {
+      Snapshot snapshot = snapshots.get(key);
+      if (snapshot == null) {
+        snapshot = createSnapshot(topic, partition);
+        snapshots.put(key, snapshot);
+      }
+      snapshot.lastAccessTimeMs = time.getMilliseconds();
+      return snapshot;
+    }
+  }
+
+  private Snapshot createSnapshot(String topic, int partition) {
+    AbstractStorageEngine storageEngine = storageEngineRepository.getLocalStorageEngine(topic);
+    if (storageEngine == null || !storageEngine.containsPartition(partition)) {
+      throw new VeniceNoStoreException(topic);
+    }
+    // The offset has to be read before taking the snapshot, see BlobSnapshotManifest
+    OffsetRecord offsetRecord = storageMetadataService.getLastOffset(topic, partition);
+    if (!offsetRecord.isEndOfPushReceived()) {
+      throw new VeniceException("Partition: " + partition + " of: " + topic + " has not received end of push yet");
+    }
+    StoreVersionState storeVersionState = storageMetadataService.getStoreVersionState(topic);
+    if (storeVersionState == null) {
+      throw new VeniceException("Store version state of: " + topic + " does not exist");
+    }
+
+    long snapshotId = time.getMilliseconds();
+    File dir = new File(snapshotBaseDir, getSnapshotKey(topic, partition) + "-" + snapshotId);
+    if (!dir.getParentFile().exists() && !dir.getParentFile().mkdirs()) {
+      throw new VeniceException("Failed to create snapshot directory: " + snapshotBaseDir);
+    }
+    long startTimeMs = time.getMilliseconds();
+    List<String> fileNames;
+    List<BlobSnapshotManifest.FileInfo> files = new ArrayList<>();
+    try {
+      fileNames = storageEngine.createSnapshot(partition, dir.getAbsolutePath());
+      for (String fileName: fileNames) {
+        File file = new File(dir, fileName);
+        files.add(new BlobSnapshotManifest.FileInfo(fileName, file.length(), computeCrc32(file)));
+      }
+    } catch (Exception e) {
+      deleteDirectory(dir);
+      throw e;
+    }
+    BlobSnapshotManifest manifest = new BlobSnapshotManifest();
+    manifest.setTopic(topic);
+    manifest.setPartition(partition);
+    manifest.setSnapshotId(snapshotId);
+    manifest.setOffsetRecord(offsetRecord.toBytes());
+    manifest.setStoreVersionState(STORE_VERSION_STATE_SERIALIZER.serialize(topic, storeVersionState));
+    manifest.setFiles(Collections.unmodifiableList(files));
+    LOGGER.info(
+        "Created snapshot: {} of partition: {} of: {} with {} files and {} bytes at offset: {} in {} ms",
+        snapshotId,
+        partition,
+        topic,
+        files.size(),
+        manifest.getTotalSize(),
+        offsetRecord.getLocalVersionTopicOffset(),
+        time.getMilliseconds() - startTimeMs);
+    return new Snapshot(dir, manifest);
+  }
+
+  static long computeCrc32(File file) {
+    CRC32 crc32 = new CRC32();
+    byte[] buffer = new byte[64 * 1024];
+    try (InputStream inputStream = new FileInputStream(file)) {
+      int length;
+      while ((length = inputStream.read(buffer)) >= 0) {
+        crc32.update(buffer, 0, length);
+      }
+    } catch (IOException e) {
+      throw new VeniceException("Failed to compute the checksum of file: " + file, e);
+    }
+    return crc32.getValue();
+  }
+
+  void deleteExpiredSnapshots() {
+    long nowMs = time.getMilliseconds();
+    for (Map.Entry<String, Snapshot> entry: snapshots.entrySet()) {
+      try (AutoCloseableLock ignore = snapshotLockManager.getLockForResource(entry.getKey())) {
+        Snapshot snapshot = snapshots.get(entry.getKey());
+        if (snapshot != null && nowMs - snapshot.lastAccessTimeMs >= retentionMs) {
+          snapshots.remove(entry.getKey());
+          deleteDirectory(snapshot.dir);
+          LOGGER.info("Deleted expired snapshot: {}", snapshot.dir);
+        }
+      } catch (Exception e) {
+        LOGGER.error("Failed to delete expired snapshot: {}", entry.getKey(), e);
+      }
+    }
+  }
+
+  private static String getSnapshotKey(String topic, int partition) {
+    return topic + "-" + partition;
+  }
+
+  private static void deleteDirectory(File dir) {
+    try {
+      FileUtils.deleteDirectory(dir);
+    } catch (IOException e) {
+      LOGGER.warn("Failed to delete snapshot directory: {}", dir, e);
+    }
+  }
+
+  @Override
+  public void close() {
+    cleanupExecutor.shutdownNow();
+    executor.shutdownNow();
+    snapshots.clear();
+    deleteDirectory(new File(snapshotBaseDir));
+  }
+
+  private static class Snapshot {
+    private final File dir;
+    private final BlobSnapshotManifest manifest;
+    private volatile long lastAccessTimeMs;
+
+    private Snapshot(File dir, BlobSnapshotManifest manifest) {
+      this.dir = dir;
+      this.manifest = manifest;
+    }
+  }
+}
@@ -0,0 +1,158 @@
+package com.linkedin.davinci.blobtransfer;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.ObjectMapperFactory;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Describes a snapshot of a storage partition served by {@link BlobSnapshotManager}: the files to download, along with
+ * their size and CRC32 checksum, and the serialized {@link com.linkedin.venice.offsets.OffsetRecord} and
+ * {@link com.linkedin.venice.kafka.protocol.state.StoreVersionState} of the partition at the time of the snapshot.
+ *
+ * The offset record is read before the snapshot is taken, so the data of the snapshot is at least as recent as the
+ * offset, and resuming the ingestion from it only replays records which were already applied.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class BlobSnapshotManifest {
+  private static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.getInstance();
+
+  private String topic;
+  private int partition;
+  private long snapshotId;
+  private byte[] offsetRecord;
+  private byte[] storeVersionState;
+  private List<FileInfo> files = new ArrayList<>();
+
+  public String getTopic() {
+    return topic;
+  }
+
+  public void setTopic(String topic) {
+    this.topic = topic;
+  }
+
+  public int getPartition() {
+    return partition;
+  }
+
+  public void setPartition(int partition) {
+    this.partition = partition;
+  }
+
+  /**
+   * Identifies the snapshot, so that the files of a snapshot which has since been replaced are not mixed with the
+   * ones of the new snapshot.
+   */
+  public long getSnapshotId() {
+    return snapshotId;
+  }
+
+  public void setSnapshotId(long snapshotId) {
+    this.snapshotId = snapshotId;
+  }
+
+  public byte[] getOffsetRecord() {
+    return offsetRecord;
+  }
+
+  public void setOffsetRecord(byte[] offsetRecord) {
+    this.offsetRecord = offsetRecord;
+  }
+
+  public byte[] getStoreVersionState() {
+    return storeVersionState;
+  }
+
+  public void setStoreVersionState(byte[] storeVersionState) {
+    this.storeVersionState = storeVersionState;
+  }
+
+  public List<FileInfo> getFiles() {
+    return files;
+  }
+
+  public void setFiles(List<FileInfo> files) {
+    this.files = files;
+  }
+
+  @JsonIgnore
+  public FileInfo getFile(String name) {
+    for (FileInfo file: files) {
+      if (file.getName().equals(name)) {
+        return file;
+      }
+    }
+    return null;
+  }
+
+  @JsonIgnore
+  public long getTotalSize() {
+    long totalSize = 0;
+    for (FileInfo file: files) {
+      totalSize += file.getSize();
+    }
+    return totalSize;
+  }
+
+  public byte[] toBytes() {
+    try {
+      return OBJECT_MAPPER.writeValueAsBytes(this);
+    } catch (IOException e) {
+      throw new VeniceException("Failed to serialize the manifest of snapshot: " + snapshotId + " of: " + topic, e);
+    }
+  }
+
+  public static BlobSnapshotManifest fromBytes(byte[] bytes) {
+    try {
+      return OBJECT_MAPPER.readValue(bytes, BlobSnapshotManifest.class);
+    } catch (IOException e) {
+      throw new VeniceException("Failed to deserialize snapshot manifest", e);
+    }
+  }
+
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  public static class FileInfo {
+    private String name;
+    private long size;
+    private long crc32;
+
+    public FileInfo() {
+    }
+
+    public FileInfo(String name, long size, long crc32) {
+      this.name = name;
+      this.size = size;
+      this.crc32 = crc32;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public long getSize() {
+      return size;
+    }
+
+    public void setSize(long size) {
+      this.size = size;
+    }
+
+    public long getCrc32() {
+      return crc32;
+    }
+
+    public void setCrc32(long crc32) {
+      this.crc32 = crc32;
+    }
+  }
+}
@@ -13,6 +13,8 @@ import static com.linkedin.venice.ConfigKeys.INGESTION_MEMORY_LIMIT;
 import static com.linkedin.venice.ConfigKeys.INGESTION_USE_DA_VINCI_CLIENT;
 import static com.linkedin.venice.ConfigKeys.KAFKA_ADMIN_CLASS;
 import static com.linkedin.venice.ConfigKeys.KAFKA_BOOTSTRAP_SERVERS;
+import static com.linkedin.venice.ConfigKeys.PERSISTENCE_TYPE;
+import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_MODE;
 import static com.linkedin.venice.ConfigKeys.ZOOKEEPER_ADDRESS;
 import static com.linkedin.venice.client.store.ClientFactory.getAndStartAvroClient;
 import static com.linkedin.venice.client.store.ClientFactory.getTransportClient;
@@ -36,6 +38,7 @@ import com.linkedin.venice.client.store.ClientConfig;
 import com.linkedin.venice.client.store.ComputeGenericRecord;
 import com.linkedin.venice.client.store.ComputeRequestBuilder;
 import com.linkedin.venice.client.store.D2ServiceDiscovery;
+import com.linkedin.venice.client.store.predicate.Predicate;
 import com.linkedin.venice.client.store.streaming.StreamingCallback;
 import com.linkedin.venice.client.store.transport.D2TransportClient;
 import com.linkedin.venice.client.store.transport.TransportClient;
@@ -45,6 +48,8 @@ import com.linkedin.venice.compute.ComputeUtils;
 import com.linkedin.venice.controllerapi.D2ServiceDiscoveryResponse;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.exceptions.VeniceUnsupportedOperationException;
+import com.linkedin.venice.meta.IngestionMode;
+import com.linkedin.venice.meta.PersistenceType;
 import com.linkedin.venice.meta.ReadOnlySchemaRepository;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.Version;
@@ -516,6 +521,15 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
       byte[] keyPrefix,
       ComputeRequestWrapper computeRequestWrapper,
       StreamingCallback<GenericRecord, GenericRecord> callback) {
+    computeWithKeyPrefixFilter(keyPrefix, null, computeRequestWrapper, callback);
+  }
+
+  @Override
+  public void computeWithKeyPrefixFilter(
+      byte[] keyPrefix,
+      Predicate keyFilter,
+      ComputeRequestWrapper computeRequestWrapper,
+      StreamingCallback<GenericRecord, GenericRecord> callback) {
     throwIfNotReady();
     try (ReferenceCounted<VersionBackend> versionRef = storeBackend.getDaVinciCurrentVersion()) {
       VersionBackend versionBackend = versionRef.get();
@@ -547,6 +561,7 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
           try {
             versionBackend.computeWithKeyPrefixFilter(
                 keyPrefix,
+                keyFilter,
                 currPartition,
                 callback,
                 computeRequestWrapper,
@@ -566,6 +581,44 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
     }
   }
 
+  @Override
+  public void getByKeyRange(K startKey, K endKey, StreamingCallback<K, V> callback) {
+    throwIfNotReady();
+    try (ReferenceCounted<VersionBackend> versionRef = storeBackend.getDaVinciCurrentVersion()) {
+      VersionBackend versionBackend = versionRef.get();
+      if (versionBackend == null) {
+        storeBackend.getStats().recordBadRequest();
+        callback.onCompletion(
+            Optional.of(new VeniceClientException("Da Vinci client is not subscribed, storeName=" + getStoreName())));
+        return;
+      }
+
+      byte[] startKeyBytes = startKey == null ? null : keySerializer.serialize(startKey);
+      byte[] endKeyBytes = endKey == null ? null : keySerializer.serialize(endKey);
+      ReusableObjects reusableObjects = REUSABLE_OBJECTS.get();
+      int partitionCount = versionBackend.getPartitionCount();
+      for (int currPartition = 0; currPartition < partitionCount; currPartition++) {
+        if (isPartitionReadyToServe(versionBackend, currPartition)) {
+          try {
+            versionBackend.readByKeyRange(
+                startKeyBytes,
+                endKeyBytes,
+                currPartition,
+                getAvroChunkingAdapter(),
+                this.storeDeserializerCache,
+                keyDeserializer,
+                reusableObjects.binaryDecoder,
+                callback);
+          } catch (VeniceException e) {
+            callback.onCompletion(Optional.of(e));
+            return;
+          }
+        }
+      }
+      callback.onCompletion(Optional.empty());
+    }
+  }
+
   private boolean handleCallbackForEmptyKeySet(Set<K> keys, StreamingCallback callback) {
     if (keys.isEmpty()) {
       // no result for empty key set
@@ -586,11 +639,16 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
   /**
    * Check if user partition is ready to serve traffic.
    */
+  /**
+   * A partition which is not ready to serve would return null for every key, unless reads can fall back to Venice, so
+   * it rather serves the data ingested so far when the ingestion backend can read it during ingestion.
+   */
   protected boolean isPartitionReadyToServe(VersionBackend versionBackend, int partition) {
     if (daVinciConfig.isIsolated() && !subscription.contains(partition)) {
       return false;
     }
-    return versionBackend.isPartitionReadyToServe(partition);
+    return versionBackend.isPartitionReadyToServe(partition)
+        || (!isVeniceQueryAllowed() && versionBackend.isPartitionReadableDuringIngestion(partition));
   }
 
   protected boolean isPartitionSubscribed(VersionBackend versionBackend, int partition) {
@@ -654,7 +712,8 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
     if (kafkaBootstrapServers == null) {
       kafkaBootstrapServers = backendConfig.getString(KAFKA_BOOTSTRAP_SERVERS);
     }
-    VeniceProperties config = new PropertyBuilder().put(KAFKA_ADMIN_CLASS, ApacheKafkaAdminAdapter.class.getName())
+    PropertyBuilder configBuilder = new PropertyBuilder()
+        .put(KAFKA_ADMIN_CLASS, ApacheKafkaAdminAdapter.class.getName())
         .put(ROCKSDB_LEVEL0_FILE_NUM_COMPACTION_TRIGGER, 4) // RocksDB default config
         .put(ROCKSDB_LEVEL0_SLOWDOWN_WRITES_TRIGGER, 20) // RocksDB default config
         .put(ROCKSDB_LEVEL0_STOPS_WRITES_TRIGGER, 36) // RocksDB default config
@@ -667,9 +726,19 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
         .put(KAFKA_BOOTSTRAP_SERVERS, kafkaBootstrapServers)
         .put(ROCKSDB_PLAIN_TABLE_FORMAT_ENABLED, daVinciConfig.getStorageClass() == StorageClass.MEMORY_BACKED_BY_DISK)
         .put(INGESTION_USE_DA_VINCI_CLIENT, true)
-        .put(INGESTION_ISOLATION_CONFIG_PREFIX + "." + INGESTION_MEMORY_LIMIT, -1) // Explicitly disable memory limiter
-                                                                                   // in Isolated Process
-        .build();
+        .put(INGESTION_ISOLATION_CONFIG_PREFIX + "." + INGESTION_MEMORY_LIMIT, -1); // Explicitly disable memory limiter
+                                                                                    // in Isolated Process
+    if (daVinciConfig.getStorageClass() == StorageClass.MEMORY) {
+      configBuilder.put(PERSISTENCE_TYPE, PersistenceType.OFF_HEAP);
+    }
+    VeniceProperties config = configBuilder.build();
+    if (daVinciConfig.getStorageClass() == StorageClass.MEMORY && config.containsKey(SERVER_INGESTION_MODE)
+        && IngestionMode.valueOf(config.getString(SERVER_INGESTION_MODE)) == IngestionMode.ISOLATED) {
+      // The isolated process would ingest into its own memory, which cannot be handed over to the main process
+      throw new VeniceClientException(
+          "Storage class: " + StorageClass.MEMORY + " is not supported with isolated ingestion, storeName="
+              + getStoreName());
+    }
     logger.info("backendConfig=" + config.toString(true));
     return new VeniceConfigLoader(config, config);
   }
@@ -1,6 +1,7 @@
 package com.linkedin.davinci.client;
 
 import com.linkedin.venice.client.store.AvroGenericStoreClient;
+import com.linkedin.venice.client.store.streaming.StreamingCallback;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
@@ -55,4 +56,18 @@ public interface DaVinciClient<K, V> extends AvroGenericStoreClient<K, V> {
    * @return partition count
    */
   int getPartitionCount();
+
+  /**
+   * Stream the locally served records whose serialized keys are greater than or equal to the start key, and strictly
+   * less than the end key. The keys are compared by the lexicographic order of their serialized bytes, which for
+   * record keys means that a range on the leading fields can be expressed by bounds which only differ in the last
+   * fields. The records are streamed partition by partition, so they are only sorted within each partition.
+   *
+   * This is not supported by stores with chunking enabled.
+   *
+   * @param startKey inclusive lower bound, or null to start from the first key
+   * @param endKey exclusive upper bound, or null to stop at the last key
+   * @param callback receives the records, and then the completion once all the partitions have been scanned
+   */
+  void getByKeyRange(K startKey, K endKey, StreamingCallback<K, V> callback);
 }
@@ -5,6 +5,7 @@ import com.linkedin.venice.client.stats.ClientStats;
 import com.linkedin.venice.client.store.AvroGenericReadComputeStoreClient;
 import com.linkedin.venice.client.store.ComputeGenericRecord;
 import com.linkedin.venice.client.store.ComputeRequestBuilder;
+import com.linkedin.venice.client.store.predicate.Predicate;
 import com.linkedin.venice.client.store.streaming.StreamingCallback;
 import com.linkedin.venice.compute.ComputeRequestWrapper;
 import java.util.Map;
@@ -51,6 +52,11 @@ public class DelegatingAvroGenericDaVinciClient<K, V>
     return delegate.getPartitionCount();
   }
 
+  @Override
+  public void getByKeyRange(K startKey, K endKey, StreamingCallback<K, V> callback) {
+    delegate.getByKeyRange(startKey, endKey, callback);
+  }
+
   @Override
   public CompletableFuture<V> get(K key) throws VeniceClientException {
     return delegate.get(key);
@@ -127,4 +133,13 @@ public class DelegatingAvroGenericDaVinciClient<K, V>
       StreamingCallback<GenericRecord, GenericRecord> callback) {
     delegate.computeWithKeyPrefixFilter(prefixBytes, computeRequestWrapper, callback);
   }
+
+  @Override
+  public void computeWithKeyPrefixFilter(
+      byte[] prefixBytes,
+      Predicate keyFilter,
+      ComputeRequestWrapper computeRequestWrapper,
+      StreamingCallback<GenericRecord, GenericRecord> callback) {
+    delegate.computeWithKeyPrefixFilter(prefixBytes, keyFilter, computeRequestWrapper, callback);
+  }
 }
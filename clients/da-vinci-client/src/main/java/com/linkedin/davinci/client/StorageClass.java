@@ -2,4 +2,10 @@ package com.linkedin.davinci.client;
 
 public enum StorageClass {
   DISK, MEMORY_BACKED_BY_DISK,
+
+  /**
+   * The local state is only kept in off-heap memory, see {@link com.linkedin.venice.meta.PersistenceType#OFF_HEAP},
+   * so it has to be ingested again after a restart. It cannot be used along with isolated ingestion.
+   */
+  MEMORY,
 }
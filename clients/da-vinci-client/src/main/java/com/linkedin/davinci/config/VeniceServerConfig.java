@@ -34,13 +34,20 @@ import static com.linkedin.venice.ConfigKeys.MAX_LEADER_FOLLOWER_STATE_TRANSITIO
 import static com.linkedin.venice.ConfigKeys.META_STORE_WRITER_CLOSE_CONCURRENCY;
 import static com.linkedin.venice.ConfigKeys.META_STORE_WRITER_CLOSE_TIMEOUT_MS;
 import static com.linkedin.venice.ConfigKeys.OFFSET_LAG_DELTA_RELAX_FACTOR_FOR_FAST_ONLINE_TRANSITION_IN_RESTART;
+import static com.linkedin.venice.ConfigKeys.OFF_HEAP_STORAGE_MMAP_ENABLED;
+import static com.linkedin.venice.ConfigKeys.OFF_HEAP_STORAGE_SEGMENT_SIZE;
 import static com.linkedin.venice.ConfigKeys.PARTICIPANT_MESSAGE_CONSUMPTION_DELAY_MS;
 import static com.linkedin.venice.ConfigKeys.PUB_SUB_ADMIN_ADAPTER_FACTORY_CLASS;
 import static com.linkedin.venice.ConfigKeys.PUB_SUB_CONSUMER_ADAPTER_FACTORY_CLASS;
 import static com.linkedin.venice.ConfigKeys.PUB_SUB_PRODUCER_ADAPTER_FACTORY_CLASS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_PRINCIPAL_NAME;
+import static com.linkedin.venice.ConfigKeys.SERVER_BLOB_SNAPSHOT_BOOTSTRAP_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_BLOB_SNAPSHOT_RETENTION_MS;
+import static com.linkedin.venice.ConfigKeys.SERVER_BLOB_SNAPSHOT_SERVING_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_BLOB_SNAPSHOT_TRANSFER_MAX_BYTES_PER_SECOND;
 import static com.linkedin.venice.ConfigKeys.SERVER_BLOCKING_QUEUE_TYPE;
 import static com.linkedin.venice.ConfigKeys.SERVER_COMPUTE_FAST_AVRO_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_COMPUTE_FLOAT_VECTOR_PROJECTION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_COMPUTE_QUEUE_CAPACITY;
 import static com.linkedin.venice.ConfigKeys.SERVER_COMPUTE_THREAD_NUM;
 import static com.linkedin.venice.ConfigKeys.SERVER_CONSUMER_POOL_SIZE_PER_KAFKA_CLUSTER;
@@ -61,6 +68,8 @@ import static com.linkedin.venice.ConfigKeys.SERVER_DISK_HEALTH_CHECK_SERVICE_EN
 import static com.linkedin.venice.ConfigKeys.SERVER_DISK_HEALTH_CHECK_TIMEOUT_IN_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_ENABLE_LIVE_CONFIG_BASED_KAFKA_THROTTLING;
 import static com.linkedin.venice.ConfigKeys.SERVER_ENABLE_PARALLEL_BATCH_GET;
+import static com.linkedin.venice.ConfigKeys.SERVER_FAST_CLASS_WARMUP_AT_START_TIME_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_FAST_CLASS_WARMUP_THREAD_COUNT;
 import static com.linkedin.venice.ConfigKeys.SERVER_FORKED_PROCESS_JVM_ARGUMENT_LIST;
 import static com.linkedin.venice.ConfigKeys.SERVER_HTTP2_HEADER_TABLE_SIZE;
 import static com.linkedin.venice.ConfigKeys.SERVER_HTTP2_INBOUND_ENABLED;
@@ -77,11 +86,15 @@ import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_TASK_MAX_IDLE_COUN
 import static com.linkedin.venice.ConfigKeys.SERVER_KAFKA_CONSUMER_OFFSET_COLLECTION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_KAFKA_MAX_POLL_RECORDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_KAFKA_PRODUCER_POOL_SIZE_PER_KAFKA_CLUSTER;
+import static com.linkedin.venice.ConfigKeys.SERVER_LARGE_VALUE_STREAMING_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_LEADER_COMPLETE_STATE_CHECK_IN_FOLLOWER_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_LEADER_COMPLETE_STATE_CHECK_IN_FOLLOWER_VALID_INTERVAL_MS;
+import static com.linkedin.venice.ConfigKeys.SERVER_LEADER_PRODUCE_PIPELINE_THREAD_COUNT;
+import static com.linkedin.venice.ConfigKeys.SERVER_LEADER_PRODUCE_PIPELINE_WINDOW_SIZE;
 import static com.linkedin.venice.ConfigKeys.SERVER_LEAKED_RESOURCE_CLEANUP_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_LEAKED_RESOURCE_CLEAN_UP_INTERVAL_IN_MINUTES;
 import static com.linkedin.venice.ConfigKeys.SERVER_LOCAL_CONSUMER_CONFIG_PREFIX;
+import static com.linkedin.venice.ConfigKeys.SERVER_LOW_OVERHEAD_LATENCY_METRICS_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_MAX_REQUEST_SIZE;
 import static com.linkedin.venice.ConfigKeys.SERVER_NETTY_GRACEFUL_SHUTDOWN_PERIOD_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_NETTY_IDLE_TIME_SECONDS;
@@ -108,9 +121,12 @@ import static com.linkedin.venice.ConfigKeys.SERVER_ROUTER_CONNECTION_WARMING_DE
 import static com.linkedin.venice.ConfigKeys.SERVER_SCHEMA_FAST_CLASS_WARMUP_TIMEOUT;
 import static com.linkedin.venice.ConfigKeys.SERVER_SCHEMA_PRESENCE_CHECK_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_SHARED_CONSUMER_ASSIGNMENT_STRATEGY;
+import static com.linkedin.venice.ConfigKeys.SERVER_SHARED_CONSUMER_LOAD_REBALANCE_INTERVAL_MS;
+import static com.linkedin.venice.ConfigKeys.SERVER_SHARED_CONSUMER_LOAD_SKEW_THRESHOLD;
 import static com.linkedin.venice.ConfigKeys.SERVER_SHARED_CONSUMER_NON_EXISTING_TOPIC_CLEANUP_DELAY_MS;
 import static com.linkedin.venice.ConfigKeys.SERVER_SHARED_KAFKA_PRODUCER_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_SHUTDOWN_DISK_UNHEALTHY_TIME_MS;
+import static com.linkedin.venice.ConfigKeys.SERVER_SINGLE_GET_FAST_PATH_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_SOURCE_TOPIC_OFFSET_CHECK_INTERVAL_MS;
 import static com.linkedin.venice.ConfigKeys.SERVER_SSL_HANDSHAKE_QUEUE_CAPACITY;
 import static com.linkedin.venice.ConfigKeys.SERVER_SSL_HANDSHAKE_THREAD_POOL_SIZE;
@@ -120,7 +136,11 @@ import static com.linkedin.venice.ConfigKeys.SERVER_STUCK_CONSUMER_REPAIR_ENABLE
 import static com.linkedin.venice.ConfigKeys.SERVER_STUCK_CONSUMER_REPAIR_INTERVAL_SECOND;
 import static com.linkedin.venice.ConfigKeys.SERVER_STUCK_CONSUMER_REPAIR_THRESHOLD_SECOND;
 import static com.linkedin.venice.ConfigKeys.SERVER_SYSTEM_STORE_PROMOTION_TO_LEADER_REPLICA_DELAY_SECONDS;
+import static com.linkedin.venice.ConfigKeys.SERVER_TRANSIENT_RECORD_BUFFER_MAX_WAIT_TIME_MS;
+import static com.linkedin.venice.ConfigKeys.SERVER_TRANSIENT_RECORD_BUFFER_MEMORY_CAPACITY;
 import static com.linkedin.venice.ConfigKeys.SERVER_UNSUB_AFTER_BATCHPUSH;
+import static com.linkedin.venice.ConfigKeys.SERVER_ZERO_COPY_BATCH_GET_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_ZERO_COPY_BATCH_GET_VALUE_BUFFER_SIZE;
 import static com.linkedin.venice.ConfigKeys.SEVER_CALCULATE_QUOTA_USAGE_BASED_ON_PARTITIONS_ASSIGNMENT_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SORTED_INPUT_DRAINER_SIZE;
 import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_AFTER_LEADER_LOGIC_ENABLED;
@@ -251,6 +271,15 @@ public class VeniceServerConfig extends VeniceClusterConfig {
    */
   private final long storeWriterBufferNotifyDelta;
 
+  /**
+   * The memory shared by the transient records of all the leader partitions, or a non-positive value for no limit.
+   */
+  private final long transientRecordBufferMemoryCapacity;
+  private final long transientRecordBufferMaxWaitTimeMs;
+
+  private final int leaderProducePipelineWindowSize;
+  private final int leaderProducePipelineThreadCount;
+
   /**
    * The number of threads being used to serve get requests.
    */
@@ -326,6 +355,8 @@ public class VeniceServerConfig extends VeniceClusterConfig {
 
   private final boolean computeFastAvroEnabled;
 
+  private final boolean computeFloatVectorProjectionEnabled;
+
   private final long participantMessageConsumptionDelayMs;
 
   /**
@@ -345,6 +376,15 @@ public class VeniceServerConfig extends VeniceClusterConfig {
 
   private final int parallelBatchGetChunkSize;
 
+  private final boolean zeroCopyBatchGetEnabled;
+
+  private final int zeroCopyBatchGetValueBufferSize;
+
+  private final boolean singleGetFastPathEnabled;
+
+  private final boolean lowOverheadLatencyMetricsEnabled;
+  private final boolean largeValueStreamingEnabled;
+
   private final boolean keyValueProfilingEnabled;
 
   private final boolean enableDatabaseMemoryStats;
@@ -363,6 +403,14 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   private final long ssdHealthCheckShutdownTimeMs;
   private final KafkaConsumerService.ConsumerAssignmentStrategy sharedConsumerAssignmentStrategy;
   private final int consumerPoolSizePerKafkaCluster;
+  private final long sharedConsumerLoadRebalanceIntervalMs;
+  private final double sharedConsumerLoadSkewThreshold;
+  private final boolean blobSnapshotServingEnabled;
+  private final boolean blobSnapshotBootstrapEnabled;
+  private final long blobSnapshotTransferMaxBytesPerSecond;
+  private final long blobSnapshotRetentionMs;
+  private final long offHeapStorageSegmentSize;
+  private final boolean offHeapStorageMmapEnabled;
   private final boolean leakedResourceCleanupEnabled;
   private final long delayReadyToServeMS;
 
@@ -406,6 +454,8 @@ public class VeniceServerConfig extends VeniceClusterConfig {
 
   private final int numSchemaFastClassWarmup;
   private final long fastClassSchemaWarmupTimeout;
+  private final boolean fastClassWarmupAtStartTimeEnabled;
+  private final int fastClassWarmupThreadCount;
 
   private final boolean schemaPresenceCheckEnabled;
   private final boolean systemSchemaInitializationAtStartTimeEnabled;
@@ -506,6 +556,12 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     storeWriterBufferMemoryCapacity =
         serverProperties.getSizeInBytes(STORE_WRITER_BUFFER_MEMORY_CAPACITY, 10 * 1024 * 1024);
     storeWriterBufferNotifyDelta = serverProperties.getSizeInBytes(STORE_WRITER_BUFFER_NOTIFY_DELTA, 1 * 1024 * 1024);
+    transientRecordBufferMemoryCapacity =
+        serverProperties.getSizeInBytes(SERVER_TRANSIENT_RECORD_BUFFER_MEMORY_CAPACITY, -1);
+    transientRecordBufferMaxWaitTimeMs =
+        serverProperties.getLong(SERVER_TRANSIENT_RECORD_BUFFER_MAX_WAIT_TIME_MS, 1000);
+    leaderProducePipelineWindowSize = serverProperties.getInt(SERVER_LEADER_PRODUCE_PIPELINE_WINDOW_SIZE, 0);
+    leaderProducePipelineThreadCount = serverProperties.getInt(SERVER_LEADER_PRODUCE_PIPELINE_THREAD_COUNT, 8);
     restServiceStorageThreadNum = serverProperties.getInt(SERVER_REST_SERVICE_STORAGE_THREAD_NUM, 16);
     serverComputeThreadNum = serverProperties.getInt(SERVER_COMPUTE_THREAD_NUM, 16);
     nettyIdleTimeInSeconds = serverProperties.getInt(SERVER_NETTY_IDLE_TIME_SECONDS, (int) TimeUnit.HOURS.toSeconds(3));
@@ -546,6 +602,8 @@ public class VeniceServerConfig extends VeniceClusterConfig {
         TimeUnit.SECONDS.toMillis(serverProperties.getLong(SERVER_DISK_HEALTH_CHECK_TIMEOUT_IN_SECONDS, 30));
     diskHealthCheckServiceEnabled = serverProperties.getBoolean(SERVER_DISK_HEALTH_CHECK_SERVICE_ENABLED, true);
     computeFastAvroEnabled = serverProperties.getBoolean(SERVER_COMPUTE_FAST_AVRO_ENABLED, true);
+    computeFloatVectorProjectionEnabled =
+        serverProperties.getBoolean(SERVER_COMPUTE_FLOAT_VECTOR_PROJECTION_ENABLED, false);
     participantMessageConsumptionDelayMs = serverProperties.getLong(PARTICIPANT_MESSAGE_CONSUMPTION_DELAY_MS, 60000);
     serverPromotionToLeaderReplicaDelayMs =
         TimeUnit.SECONDS.toMillis(serverProperties.getLong(SERVER_PROMOTION_TO_LEADER_REPLICA_DELAY_SECONDS, 300));
@@ -555,6 +613,12 @@ public class VeniceServerConfig extends VeniceClusterConfig {
 
     enableParallelBatchGet = serverProperties.getBoolean(SERVER_ENABLE_PARALLEL_BATCH_GET, false);
     parallelBatchGetChunkSize = serverProperties.getInt(SERVER_PARALLEL_BATCH_GET_CHUNK_SIZE, 5);
+    zeroCopyBatchGetEnabled = serverProperties.getBoolean(SERVER_ZERO_COPY_BATCH_GET_ENABLED, false);
+    zeroCopyBatchGetValueBufferSize =
+        (int) serverProperties.getSizeInBytes(SERVER_ZERO_COPY_BATCH_GET_VALUE_BUFFER_SIZE, 4 * 1024);
+    singleGetFastPathEnabled = serverProperties.getBoolean(SERVER_SINGLE_GET_FAST_PATH_ENABLED, false);
+    lowOverheadLatencyMetricsEnabled = serverProperties.getBoolean(SERVER_LOW_OVERHEAD_LATENCY_METRICS_ENABLED, false);
+    largeValueStreamingEnabled = serverProperties.getBoolean(SERVER_LARGE_VALUE_STREAMING_ENABLED, false);
 
     keyValueProfilingEnabled = serverProperties.getBoolean(KEY_VALUE_PROFILING_ENABLED, false);
     enableDatabaseMemoryStats = serverProperties.getBoolean(SERVER_DATABASE_MEMORY_STATS_ENABLED, true);
@@ -611,6 +675,22 @@ public class VeniceServerConfig extends VeniceClusterConfig {
               + MINIMUM_CONSUMER_NUM_IN_CONSUMER_POOL_PER_KAFKA_CLUSTER + ", but it is "
               + consumerPoolSizePerKafkaCluster);
     }
+    sharedConsumerLoadRebalanceIntervalMs =
+        serverProperties.getLong(SERVER_SHARED_CONSUMER_LOAD_REBALANCE_INTERVAL_MS, 0);
+    sharedConsumerLoadSkewThreshold = serverProperties.getDouble(SERVER_SHARED_CONSUMER_LOAD_SKEW_THRESHOLD, 1.5);
+    blobSnapshotServingEnabled = serverProperties.getBoolean(SERVER_BLOB_SNAPSHOT_SERVING_ENABLED, false);
+    blobSnapshotBootstrapEnabled = serverProperties.getBoolean(SERVER_BLOB_SNAPSHOT_BOOTSTRAP_ENABLED, false);
+    blobSnapshotTransferMaxBytesPerSecond =
+        serverProperties.getSizeInBytes(SERVER_BLOB_SNAPSHOT_TRANSFER_MAX_BYTES_PER_SECOND, 100 * 1024 * 1024L);
+    blobSnapshotRetentionMs =
+        serverProperties.getLong(SERVER_BLOB_SNAPSHOT_RETENTION_MS, TimeUnit.MINUTES.toMillis(30));
+    offHeapStorageSegmentSize = serverProperties.getSizeInBytes(OFF_HEAP_STORAGE_SEGMENT_SIZE, 64 * 1024 * 1024L);
+    if (offHeapStorageSegmentSize <= 0 || offHeapStorageSegmentSize > Integer.MAX_VALUE) {
+      throw new VeniceException(
+          OFF_HEAP_STORAGE_SEGMENT_SIZE + " should be positive and at most " + Integer.MAX_VALUE + ", but it is "
+              + offHeapStorageSegmentSize);
+    }
+    offHeapStorageMmapEnabled = serverProperties.getBoolean(OFF_HEAP_STORAGE_MMAP_ENABLED, false);
     leakedResourceCleanupEnabled = serverProperties.getBoolean(SERVER_LEAKED_RESOURCE_CLEANUP_ENABLED, true);
     delayReadyToServeMS = serverProperties.getLong(SERVER_DELAY_REPORT_READY_TO_SERVE_MS, 0);
 
@@ -670,6 +750,9 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     numSchemaFastClassWarmup = serverProperties.getInt(SERVER_NUM_SCHEMA_FAST_CLASS_WARMUP, 10);
     fastClassSchemaWarmupTimeout =
         serverProperties.getLong(SERVER_SCHEMA_FAST_CLASS_WARMUP_TIMEOUT, 2 * Time.MS_PER_MINUTE);
+    fastClassWarmupAtStartTimeEnabled =
+        serverProperties.getBoolean(SERVER_FAST_CLASS_WARMUP_AT_START_TIME_ENABLED, false);
+    fastClassWarmupThreadCount = serverProperties.getInt(SERVER_FAST_CLASS_WARMUP_THREAD_COUNT, 4);
     schemaPresenceCheckEnabled = serverProperties.getBoolean(SERVER_SCHEMA_PRESENCE_CHECK_ENABLED, true);
     systemSchemaInitializationAtStartTimeEnabled =
         serverProperties.getBoolean(SYSTEM_SCHEMA_INITIALIZATION_AT_START_TIME_ENABLED, false);
@@ -910,6 +993,22 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return this.storeWriterBufferNotifyDelta;
   }
 
+  public long getTransientRecordBufferMemoryCapacity() {
+    return transientRecordBufferMemoryCapacity;
+  }
+
+  public long getTransientRecordBufferMaxWaitTimeMs() {
+    return transientRecordBufferMaxWaitTimeMs;
+  }
+
+  public int getLeaderProducePipelineWindowSize() {
+    return leaderProducePipelineWindowSize;
+  }
+
+  public int getLeaderProducePipelineThreadCount() {
+    return leaderProducePipelineThreadCount;
+  }
+
   public int getRestServiceStorageThreadNum() {
     return restServiceStorageThreadNum;
   }
@@ -1010,6 +1109,10 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return computeFastAvroEnabled;
   }
 
+  public boolean isComputeFloatVectorProjectionEnabled() {
+    return computeFloatVectorProjectionEnabled;
+  }
+
   public long getParticipantMessageConsumptionDelayMs() {
     return participantMessageConsumptionDelayMs;
   }
@@ -1034,6 +1137,26 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return parallelBatchGetChunkSize;
   }
 
+  public boolean isZeroCopyBatchGetEnabled() {
+    return zeroCopyBatchGetEnabled;
+  }
+
+  public int getZeroCopyBatchGetValueBufferSize() {
+    return zeroCopyBatchGetValueBufferSize;
+  }
+
+  public boolean isSingleGetFastPathEnabled() {
+    return singleGetFastPathEnabled;
+  }
+
+  public boolean isLowOverheadLatencyMetricsEnabled() {
+    return lowOverheadLatencyMetricsEnabled;
+  }
+
+  public boolean isLargeValueStreamingEnabled() {
+    return largeValueStreamingEnabled;
+  }
+
   public boolean isKeyValueProfilingEnabled() {
     return keyValueProfilingEnabled;
   }
@@ -1090,6 +1213,38 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return consumerPoolSizePerKafkaCluster;
   }
 
+  public long getSharedConsumerLoadRebalanceIntervalMs() {
+    return sharedConsumerLoadRebalanceIntervalMs;
+  }
+
+  public double getSharedConsumerLoadSkewThreshold() {
+    return sharedConsumerLoadSkewThreshold;
+  }
+
+  public boolean isBlobSnapshotServingEnabled() {
+    return blobSnapshotServingEnabled;
+  }
+
+  public boolean isBlobSnapshotBootstrapEnabled() {
+    return blobSnapshotBootstrapEnabled;
+  }
+
+  public long getBlobSnapshotTransferMaxBytesPerSecond() {
+    return blobSnapshotTransferMaxBytesPerSecond;
+  }
+
+  public long getBlobSnapshotRetentionMs() {
+    return blobSnapshotRetentionMs;
+  }
+
+  public long getOffHeapStorageSegmentSize() {
+    return offHeapStorageSegmentSize;
+  }
+
+  public boolean isOffHeapStorageMmapEnabled() {
+    return offHeapStorageMmapEnabled;
+  }
+
   public boolean isLeakedResourceCleanupEnabled() {
     return leakedResourceCleanupEnabled;
   }
@@ -1214,6 +1369,14 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return fastClassSchemaWarmupTimeout;
   }
 
+  public boolean isFastClassWarmupAtStartTimeEnabled() {
+    return fastClassWarmupAtStartTimeEnabled;
+  }
+
+  public int getFastClassWarmupThreadCount() {
+    return fastClassWarmupThreadCount;
+  }
+
   public boolean isSchemaPresenceCheckEnabled() {
     return schemaPresenceCheckEnabled;
   }
@@ -11,4 +11,9 @@ public interface DaVinciIngestionBackend extends IngestionBackendBase {
 
   // setStorageEngineReference is used by Da Vinci exclusively to speed up storage engine retrieval for read path.
   void setStorageEngineReference(String topicName, AtomicReference<AbstractStorageEngine> storageEngineReference);
+
+  // isPartitionReadableDuringIngestion is used by Da Vinci read path to serve a partition before it is ready to serve.
+  default boolean isPartitionReadableDuringIngestion(String topicName, int partition) {
+    return false;
+  }
 }
@@ -51,12 +51,7 @@ public class DefaultIngestionBackend implements DaVinciIngestionBackend, VeniceI
     Utils.waitStoreVersionOrThrow(storeVersion, getStoreIngestionService().getMetadataRepo());
     Supplier<StoreVersionState> svsSupplier = () -> storageMetadataService.getStoreVersionState(storeVersion);
     AbstractStorageEngine storageEngine = storageService.openStoreForNewPartition(storeConfig, partition, svsSupplier);
-    topicStorageEngineReferenceMap.compute(storeVersion, (key, storageEngineAtomicReference) -> {
-      if (storageEngineAtomicReference != null) {
-        storageEngineAtomicReference.set(storageEngine);
-      }
-      return storageEngineAtomicReference;
-    });
+    updateStorageEngineReference(storeVersion, storageEngine);
     LOGGER.info(
         "Retrieved storage engine for store {} partition {}. Starting consumption in ingestion service",
         storeVersion,
@@ -133,6 +128,15 @@ public class DefaultIngestionBackend implements DaVinciIngestionBackend, VeniceI
     getStoreIngestionService().replaceAndAddTestNotifier(pushStatusNotifier);
   }
 
+  protected void updateStorageEngineReference(String topicName, AbstractStorageEngine storageEngine) {
+    topicStorageEngineReferenceMap.compute(topicName, (key, storageEngineAtomicReference) -> {
+      if (storageEngineAtomicReference != null) {
+        storageEngineAtomicReference.set(storageEngine);
+      }
+      return storageEngineAtomicReference;
+    });
+  }
+
   @Override
   public void setStorageEngineReference(
       String topicName,
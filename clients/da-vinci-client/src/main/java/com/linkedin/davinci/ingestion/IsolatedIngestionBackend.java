@@ -1,5 +1,8 @@
 package com.linkedin.davinci.ingestion;
 
+import static com.linkedin.davinci.ingestion.SecondaryPartitionManager.SecondaryPartitionState.HANDED_OVER;
+import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_SECONDARY_CATCH_UP_INTERVAL_MS;
+import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_SECONDARY_READ_ENABLED;
 import static com.linkedin.venice.ingestion.protocol.enums.IngestionCommandType.DEMOTE_TO_STANDBY;
 import static com.linkedin.venice.ingestion.protocol.enums.IngestionCommandType.PROMOTE_TO_LEADER;
 import static com.linkedin.venice.ingestion.protocol.enums.IngestionCommandType.REMOVE_PARTITION;
@@ -24,8 +27,10 @@ import com.linkedin.venice.ingestion.protocol.LoadedStoreUserPartitionMapping;
 import com.linkedin.venice.ingestion.protocol.enums.IngestionCommandType;
 import com.linkedin.venice.ingestion.protocol.enums.IngestionComponentType;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.Time;
 import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.locks.AutoCloseableLock;
 import com.linkedin.venice.utils.locks.AutoCloseableSingleLock;
 import io.tehuti.metrics.MetricsRepository;
@@ -36,6 +41,8 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
@@ -52,6 +59,11 @@ import org.apache.logging.log4j.Logger;
  * metadata cache and persist the metadata updates from main process to metadata partition in child process.
  * Topic partition ingestion requests will first be sent to child process and after COMPLETED is reported, they will be
  * re-subscribed in main process to serve read traffics for user application and receive future updates.
+ * When {@link com.linkedin.venice.ConfigKeys#SERVER_INGESTION_ISOLATION_SECONDARY_READ_ENABLED} is enabled, the main
+ * process follows the partitions ingested in child process with read-only RocksDB secondary instances, which catch up
+ * periodically with the databases. A partition serves reads from its secondary partition while child process is
+ * ingesting it, and is reported COMPLETED as soon as main process has taken its database over, without waiting for the
+ * re-subscribed partition to catch up.
  * The implementation of APIs in this class should consider the states in both main process and child process, as we need
  * to make sure we send the command to the correct process which holds the target storage engine.
  */
@@ -63,6 +75,11 @@ public class IsolatedIngestionBackend extends DefaultIngestionBackend
   private final MainIngestionMonitorService mainIngestionMonitorService;
   private final VeniceConfigLoader configLoader;
   private final ExecutorService completionReportHandlingExecutor = Executors.newFixedThreadPool(10);
+  /**
+   * Only set when the partitions ingested in child process are followed by secondary partitions in main process.
+   */
+  private SecondaryPartitionManager secondaryPartitionManager;
+  private ScheduledExecutorService secondaryPartitionCatchUpExecutor;
   private Process isolatedIngestionServiceProcess;
   private AtomicBoolean isShuttingDown = new AtomicBoolean(false);
 
@@ -77,6 +94,23 @@ public class IsolatedIngestionBackend extends DefaultIngestionBackend
     int servicePort = configLoader.getVeniceServerConfig().getIngestionServicePort();
     int listenerPort = configLoader.getVeniceServerConfig().getIngestionApplicationPort();
     this.configLoader = configLoader;
+    VeniceProperties combinedProperties = configLoader.getCombinedProperties();
+    if (combinedProperties.getBoolean(SERVER_INGESTION_ISOLATION_SECONDARY_READ_ENABLED, false)) {
+      secondaryPartitionManager = new SecondaryPartitionManager(
+          configLoader,
+          storageService,
+          storageMetadataService,
+          this::updateStorageEngineReference);
+      long catchUpIntervalMs =
+          combinedProperties.getLong(SERVER_INGESTION_ISOLATION_SECONDARY_CATCH_UP_INTERVAL_MS, Time.MS_PER_SECOND);
+      secondaryPartitionCatchUpExecutor =
+          Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("IsolatedIngestionSecondaryCatchUp"));
+      secondaryPartitionCatchUpExecutor.scheduleWithFixedDelay(
+          secondaryPartitionManager::catchUpPartitions,
+          catchUpIntervalMs,
+          catchUpIntervalMs,
+          TimeUnit.MILLISECONDS);
+    }
     // Create the ingestion request client.
     mainIngestionRequestClient = new MainIngestionRequestClient(configLoader);
     // Create the forked isolated ingestion process.
@@ -89,6 +123,9 @@ public class IsolatedIngestionBackend extends DefaultIngestionBackend
       mainIngestionMonitorService.setStoreIngestionService(storeIngestionService);
       mainIngestionMonitorService
           .setStorageMetadataService((MainIngestionStorageMetadataService) storageMetadataService);
+      if (secondaryPartitionManager != null) {
+        mainIngestionMonitorService.addIngestionNotifier(getSecondaryPartitionNotifier(secondaryPartitionManager));
+      }
 
       mainIngestionMonitorService.startInner();
       LOGGER.info("Ingestion Report Listener started.");
@@ -105,18 +142,35 @@ public class IsolatedIngestionBackend extends DefaultIngestionBackend
       int partition,
       Optional<LeaderFollowerStateType> leaderState) {
     String topicName = storeConfig.getStoreVersionName();
-    executeCommandWithRetry(
-        topicName,
-        partition,
-        START_CONSUMPTION,
-        () -> mainIngestionRequestClient.startConsumption(storeConfig.getStoreVersionName(), partition),
-        () -> super.startConsumption(storeConfig, partition, leaderState));
+    SecondaryPartitionManager secondaryPartitionManager = getSecondaryPartitionManager();
+    if (secondaryPartitionManager != null) {
+      secondaryPartitionManager.clearHandover(topicName, partition);
+    }
+    executeCommandWithRetry(topicName, partition, START_CONSUMPTION, () -> {
+      if (secondaryPartitionManager != null) {
+        // Registered beforehand, since child process may report the ingestion started before the command returns.
+        secondaryPartitionManager.registerPartition(topicName, partition);
+      }
+      boolean result = false;
+      try {
+        result = getMainIngestionRequestClient().startConsumption(storeConfig.getStoreVersionName(), partition);
+        return result;
+      } finally {
+        if (!result && secondaryPartitionManager != null) {
+          secondaryPartitionManager.dropPartition(topicName, partition);
+        }
+      }
+    }, () -> super.startConsumption(storeConfig, partition, leaderState));
   }
 
   @Override
   public CompletableFuture<Void> stopConsumption(VeniceStoreVersionConfig storeConfig, int partition) {
     final CompletableFuture<Void> future = new CompletableFuture<>();
     String topicName = storeConfig.getStoreVersionName();
+    SecondaryPartitionManager secondaryPartitionManager = getSecondaryPartitionManager();
+    if (secondaryPartitionManager != null) {
+      secondaryPartitionManager.clearHandover(topicName, partition);
+    }
     executeCommandWithRetry(topicName, partition, STOP_CONSUMPTION, () -> {
       /**
        * For stopping consumption in II process, it is not easy to acknowledge when the action is finished.
@@ -173,6 +227,8 @@ public class IsolatedIngestionBackend extends DefaultIngestionBackend
       int timeoutInSeconds,
       boolean removeEmptyStorageEngine) {
     String topicName = storeConfig.getStoreVersionName();
+    // The files of the secondary instance live in the partition dir, so they have to go before the database.
+    dropSecondaryPartition(topicName, partition);
     executeCommandWithRetry(topicName, partition, REMOVE_PARTITION, () -> {
       boolean result = getMainIngestionRequestClient().removeTopicPartition(topicName, partition);
       // We will only clean up topic partition status if the remote execution is successful.
@@ -196,6 +252,7 @@ public class IsolatedIngestionBackend extends DefaultIngestionBackend
 
   @Override
   public void removeStorageEngine(String topicName) {
+    dropSecondaryPartitions(topicName);
     mainIngestionRequestClient.removeStorageEngine(topicName);
     super.removeStorageEngine(topicName);
     mainIngestionMonitorService.cleanupTopicState(topicName);
@@ -203,6 +260,7 @@ public class IsolatedIngestionBackend extends DefaultIngestionBackend
 
   @Override
   public void killConsumptionTask(String topicName) {
+    dropSecondaryPartitions(topicName);
     mainIngestionRequestClient.killConsumptionTask(topicName);
     super.killConsumptionTask(topicName);
     mainIngestionMonitorService.cleanupTopicState(topicName);
@@ -210,6 +268,7 @@ public class IsolatedIngestionBackend extends DefaultIngestionBackend
 
   @Override
   public void shutdownIngestionTask(String topicName) {
+    dropSecondaryPartitions(topicName);
     mainIngestionRequestClient.shutdownIngestionTask(topicName);
     super.shutdownIngestionTask(topicName);
     mainIngestionMonitorService.cleanupTopicState(topicName);
@@ -218,7 +277,7 @@ public class IsolatedIngestionBackend extends DefaultIngestionBackend
   @Override
   public void addIngestionNotifier(VeniceNotifier ingestionListener) {
     if (ingestionListener != null) {
-      super.addIngestionNotifier(ingestionListener);
+      super.addIngestionNotifier(getLocalIngestionNotifier(ingestionListener));
       mainIngestionMonitorService.addIngestionNotifier(getIsolatedIngestionNotifier(ingestionListener));
     }
   }
@@ -305,6 +364,9 @@ public class IsolatedIngestionBackend extends DefaultIngestionBackend
   public void close() {
     try {
       completionReportHandlingExecutor.shutdownNow();
+      if (secondaryPartitionCatchUpExecutor != null) {
+        secondaryPartitionCatchUpExecutor.shutdownNow();
+      }
       mainIngestionMonitorService.stopInner();
       mainIngestionRequestClient.shutdownForkedProcessComponent(IngestionComponentType.KAFKA_INGESTION_SERVICE);
       mainIngestionRequestClient.shutdownForkedProcessComponent(IngestionComponentType.STORAGE_SERVICE);
@@ -326,6 +388,20 @@ public class IsolatedIngestionBackend extends DefaultIngestionBackend
         .equals(MainPartitionIngestionStatus.NOT_EXIST);
   }
 
+  /**
+   * The secondary partition only exposes the data flushed by child process, which happens at every offset checkpoint
+   * since WAL is disabled, as of the last catch up.
+   */
+  @Override
+  public boolean isPartitionReadableDuringIngestion(String topicName, int partition) {
+    SecondaryPartitionManager secondaryPartitionManager = getSecondaryPartitionManager();
+    return secondaryPartitionManager != null && secondaryPartitionManager.isPartitionReadable(topicName, partition);
+  }
+
+  SecondaryPartitionManager getSecondaryPartitionManager() {
+    return secondaryPartitionManager;
+  }
+
   ExecutorService getCompletionHandlingExecutor() {
     return completionReportHandlingExecutor;
   }
@@ -341,6 +417,73 @@ public class IsolatedIngestionBackend extends DefaultIngestionBackend
     super.startConsumption(storeVersionConfig, partition, leaderState);
   }
 
+  private void dropSecondaryPartition(String topicName, int partition) {
+    SecondaryPartitionManager secondaryPartitionManager = getSecondaryPartitionManager();
+    if (secondaryPartitionManager != null) {
+      secondaryPartitionManager.dropPartition(topicName, partition);
+    }
+  }
+
+  private void dropSecondaryPartitions(String topicName) {
+    SecondaryPartitionManager secondaryPartitionManager = getSecondaryPartitionManager();
+    if (secondaryPartitionManager != null) {
+      secondaryPartitionManager.dropPartitions(topicName);
+    }
+  }
+
+  /**
+   * Child process has created the database of a partition once it reports the ingestion started, so its secondary
+   * partition can be opened from then on.
+   */
+  private VeniceNotifier getSecondaryPartitionNotifier(SecondaryPartitionManager secondaryPartitionManager) {
+    return new VeniceNotifier() {
+      @Override
+      public void started(String kafkaTopic, int partitionId, String message) {
+        secondaryPartitionManager.markDatabaseCreated(kafkaTopic, partitionId);
+      }
+
+      @Override
+      public void restarted(String kafkaTopic, int partitionId, long offset, String message) {
+        secondaryPartitionManager.markDatabaseCreated(kafkaTopic, partitionId);
+      }
+    };
+  }
+
+  /**
+   * The COMPLETED of a partition handed over from child process has already been reported when main process took the
+   * database over, so the one reported by the local ingestion is not relayed again.
+   */
+  VeniceNotifier getLocalIngestionNotifier(VeniceNotifier notifier) {
+    SecondaryPartitionManager secondaryPartitionManager = getSecondaryPartitionManager();
+    if (secondaryPartitionManager == null) {
+      return notifier;
+    }
+    return new RelayNotifier(notifier) {
+      @Override
+      public void completed(
+          String kafkaTopic,
+          int partitionId,
+          long offset,
+          String message,
+          Optional<LeaderFollowerStateType> leaderState) {
+        if (!isHandedOver(kafkaTopic, partitionId)) {
+          super.completed(kafkaTopic, partitionId, offset, message, leaderState);
+        }
+      }
+
+      @Override
+      public void completed(String kafkaTopic, int partitionId, long offset, String message) {
+        if (!isHandedOver(kafkaTopic, partitionId)) {
+          super.completed(kafkaTopic, partitionId, offset, message);
+        }
+      }
+
+      private boolean isHandedOver(String kafkaTopic, int partitionId) {
+        return secondaryPartitionManager.getPartitionState(kafkaTopic, partitionId) == HANDED_OVER;
+      }
+    };
+  }
+
   VeniceNotifier getIsolatedIngestionNotifier(VeniceNotifier notifier) {
     return new RelayNotifier(notifier) {
       @Override
@@ -353,6 +496,19 @@ public class IsolatedIngestionBackend extends DefaultIngestionBackend
         // Use thread pool to handle the completion reporting to make sure it is not blocking the report.
         if (isTopicPartitionHosted(kafkaTopic, partition)) {
           getCompletionHandlingExecutor().submit(() -> {
+            SecondaryPartitionManager secondaryPartitionManager = getSecondaryPartitionManager();
+            boolean handedOver = false;
+            if (secondaryPartitionManager != null) {
+              try {
+                handedOver = secondaryPartitionManager.catchUpPartitionForHandover(kafkaTopic, partition);
+              } catch (Exception e) {
+                LOGGER.warn(
+                    "Failed to hand over secondary partition: {} of topic: {}, will wait for the local ingestion.",
+                    partition,
+                    kafkaTopic,
+                    e);
+              }
+            }
             /**
              * Start partition consumption locally.
              * If any error happens when starting the consumption, error will be reported.
@@ -362,7 +518,17 @@ public class IsolatedIngestionBackend extends DefaultIngestionBackend
               config.setRestoreDataPartitions(false);
               config.setRestoreMetadataPartition(false);
               startConsumptionLocally(config, partition, leaderState);
+              if (handedOver) {
+                /**
+                 * Main process took the database over, which holds all the data ingested by child process, so the
+                 * partition is ready to serve without waiting for the local ingestion, whose COMPLETED is not relayed.
+                 */
+                notifier.completed(kafkaTopic, partition, offset, message, leaderState);
+              }
             } catch (Exception e) {
+              if (handedOver) {
+                secondaryPartitionManager.clearHandover(kafkaTopic, partition);
+              }
               notifier.error(
                   kafkaTopic,
                   partition,
@@ -0,0 +1,198 @@
+package com.linkedin.davinci.ingestion;
+
+import com.linkedin.davinci.config.VeniceConfigLoader;
+import com.linkedin.davinci.config.VeniceStoreVersionConfig;
+import com.linkedin.davinci.storage.StorageMetadataService;
+import com.linkedin.davinci.storage.StorageService;
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.venice.utils.Pair;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * This class keeps track of the partitions ingested in child process, which main process follows with read-only
+ * secondary partitions in {@link IsolatedIngestionBackend}.
+ *
+ * A partition is registered when it is sent to child process, and its secondary partition is only opened once child
+ * process reports the ingestion started, as the database does not exist before. The secondary partition then catches
+ * up periodically, and serves reads once it has caught up, until main process takes the database over after COMPLETED
+ * is reported, or the partition is dropped. All the state changes are synchronized on this object, so a secondary
+ * partition is never opened again once its partition is dropped.
+ */
+class SecondaryPartitionManager {
+  private static final Logger LOGGER = LogManager.getLogger(SecondaryPartitionManager.class);
+
+  enum SecondaryPartitionState {
+    /**
+     * The partition is sent to child process, which has not created the database yet.
+     */
+    REGISTERED,
+    /**
+     * The database is created, so the secondary partition can be opened and caught up.
+     */
+    DATABASE_CREATED,
+    /**
+     * The secondary partition has caught up at least once, so it serves reads while child process is ingesting.
+     */
+    READABLE,
+    /**
+     * Main process took the database over, and has reported the partition completed.
+     */
+    HANDED_OVER
+  }
+
+  private final VeniceConfigLoader configLoader;
+  private final StorageService storageService;
+  private final StorageMetadataService storageMetadataService;
+  private final BiConsumer<String, AbstractStorageEngine> storageEngineReferenceUpdater;
+  private final Map<String, Map<Integer, SecondaryPartitionState>> topicToPartitionStatesMap = new HashMap<>();
+
+  SecondaryPartitionManager(
+      VeniceConfigLoader configLoader,
+      StorageService storageService,
+      StorageMetadataService storageMetadataService,
+      BiConsumer<String, AbstractStorageEngine> storageEngineReferenceUpdater) {
+    this.configLoader = configLoader;
+    this.storageService = storageService;
+    this.storageMetadataService = storageMetadataService;
+    this.storageEngineReferenceUpdater = storageEngineReferenceUpdater;
+  }
+
+  synchronized void registerPartition(String topicName, int partition) {
+    topicToPartitionStatesMap.computeIfAbsent(topicName, k -> new HashMap<>())
+        .putIfAbsent(partition, SecondaryPartitionState.REGISTERED);
+  }
+
+  synchronized void markDatabaseCreated(String topicName, int partition) {
+    Map<Integer, SecondaryPartitionState> partitionStates = topicToPartitionStatesMap.get(topicName);
+    if (partitionStates != null) {
+      partitionStates.replace(partition, SecondaryPartitionState.REGISTERED, SecondaryPartitionState.DATABASE_CREATED);
+    }
+  }
+
+  synchronized SecondaryPartitionState getPartitionState(String topicName, int partition) {
+    Map<Integer, SecondaryPartitionState> partitionStates = topicToPartitionStatesMap.get(topicName);
+    return partitionStates == null ? null : partitionStates.get(partition);
+  }
+
+  /**
+   * @return whether the secondary partition can serve the reads of a partition which is still ingested by child
+   * process, or which has been handed over to main process.
+   */
+  synchronized boolean isPartitionReadable(String topicName, int partition) {
+    SecondaryPartitionState state = getPartitionState(topicName, partition);
+    return state == SecondaryPartitionState.READABLE || state == SecondaryPartitionState.HANDED_OVER;
+  }
+
+  /**
+   * Opens and catches up the secondary partitions whose database exists. A failure only affects its own partition,
+   * which is retried by the next catch-up.
+   */
+  void catchUpPartitions() {
+    List<Pair<String, Integer>> partitionsToCatchUp = new ArrayList<>();
+    synchronized (this) {
+      topicToPartitionStatesMap.forEach((topicName, partitionStates) -> partitionStates.forEach((partition, state) -> {
+        if (isCatchingUp(state)) {
+          partitionsToCatchUp.add(Pair.create(topicName, partition));
+        }
+      }));
+    }
+    for (Pair<String, Integer> topicPartition: partitionsToCatchUp) {
+      String topicName = topicPartition.getFirst();
+      int partition = topicPartition.getSecond();
+      synchronized (this) {
+        // The partition may have been dropped or handed over in the meantime
+        if (!isCatchingUp(getPartitionState(topicName, partition))) {
+          continue;
+        }
+        try {
+          openAndCatchUpPartition(topicName, partition);
+          topicToPartitionStatesMap.get(topicName).put(partition, SecondaryPartitionState.READABLE);
+        } catch (Exception e) {
+          LOGGER.warn("Failed to catch up secondary partition: {} of topic: {}", partition, topicName, e);
+        }
+      }
+    }
+  }
+
+  /**
+   * Brings the secondary partition up to date with the database closed by child process before reporting COMPLETED,
+   * and marks the partition as handed over to main process.
+   * @return whether the partition is followed by a secondary partition, which can serve reads while main process takes
+   * the database over.
+   */
+  synchronized boolean catchUpPartitionForHandover(String topicName, int partition) {
+    SecondaryPartitionState state = getPartitionState(topicName, partition);
+    if (state == null) {
+      return false;
+    }
+    if (state != SecondaryPartitionState.HANDED_OVER) {
+      try {
+        openAndCatchUpPartition(topicName, partition);
+      } catch (Exception e) {
+        topicToPartitionStatesMap.get(topicName).remove(partition);
+        throw e;
+      }
+      topicToPartitionStatesMap.get(topicName).put(partition, SecondaryPartitionState.HANDED_OVER);
+    }
+    return true;
+  }
+
+  /**
+   * Forgets the hand over of the partition, if any, so that the next COMPLETED reported by main process is relayed.
+   */
+  synchronized void clearHandover(String topicName, int partition) {
+    Map<Integer, SecondaryPartitionState> partitionStates = topicToPartitionStatesMap.get(topicName);
+    if (partitionStates != null) {
+      partitionStates.remove(partition, SecondaryPartitionState.HANDED_OVER);
+      if (partitionStates.isEmpty()) {
+        topicToPartitionStatesMap.remove(topicName);
+      }
+    }
+  }
+
+  /**
+   * Unregisters the partition and drops its secondary partition, if any.
+   */
+  synchronized void dropPartition(String topicName, int partition) {
+    Map<Integer, SecondaryPartitionState> partitionStates = topicToPartitionStatesMap.get(topicName);
+    if (partitionStates != null) {
+      partitionStates.remove(partition);
+      if (partitionStates.isEmpty()) {
+        topicToPartitionStatesMap.remove(topicName);
+      }
+    }
+    storageService.dropSecondaryStorePartition(topicName, partition);
+  }
+
+  synchronized void dropPartitions(String topicName) {
+    Map<Integer, SecondaryPartitionState> partitionStates = topicToPartitionStatesMap.remove(topicName);
+    if (partitionStates != null) {
+      for (int partition: partitionStates.keySet()) {
+        storageService.dropSecondaryStorePartition(topicName, partition);
+      }
+    }
+  }
+
+  private static boolean isCatchingUp(SecondaryPartitionState state) {
+    return state == SecondaryPartitionState.DATABASE_CREATED || state == SecondaryPartitionState.READABLE;
+  }
+
+  private void openAndCatchUpPartition(String topicName, int partition) {
+    VeniceStoreVersionConfig config = configLoader.getStoreConfig(topicName);
+    config.setRestoreDataPartitions(false);
+    config.setRestoreMetadataPartition(false);
+    AbstractStorageEngine storageEngine = storageService.openStoreForSecondaryPartition(
+        config,
+        partition,
+        () -> storageMetadataService.getStoreVersionState(topicName));
+    storageEngineReferenceUpdater.accept(topicName, storageEngine);
+    storageService.catchUpSecondaryStorePartition(topicName, partition);
+  }
+}
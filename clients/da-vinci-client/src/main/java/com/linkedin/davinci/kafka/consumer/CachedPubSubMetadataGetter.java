@@ -1,18 +1,32 @@
 package com.linkedin.davinci.kafka.consumer;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
+import com.linkedin.davinci.stats.PubSubMetadataCacheStats;
 import com.linkedin.venice.kafka.TopicManager;
 import com.linkedin.venice.pubsub.PubSubTopicPartitionImpl;
 import com.linkedin.venice.pubsub.api.PubSubTopic;
 import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+import com.linkedin.venice.pubsub.api.exceptions.PubSubOpTimeoutException;
 import com.linkedin.venice.pubsub.api.exceptions.PubSubTopicDoesNotExistException;
 import com.linkedin.venice.stats.StatsErrorCode;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.RetryUtils;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -20,22 +34,67 @@ import org.apache.logging.log4j.Logger;
 
 /**
  * Because get real-time topic offset, get producer timestamp, and check topic existence are expensive, so we will only
- * retrieve such information after the predefined ttlMs
+ * retrieve such information after the predefined ttlMs.
+ *
+ * A single instance is shared by all the ingestion tasks of a server, so that the requests of all the partitions
+ * hosted by the server are coalesced:
+ *
+ * 1. End offsets are fetched for all the partitions of a topic at once, with a single endOffsets call, and cached per
+ *    topic. The lag checks of thousands of partitions of the same topic thus only need one broker round trip.
+ * 2. Concurrent requests for the same missing entry wait for the same fetch instead of each issuing their own.
+ * 3. Entries are refreshed asynchronously once they reach {@link #REFRESH_AHEAD_RATIO} of their TTL, and the cached
+ *    value keeps being returned in the meantime, so the callers only ever block on the very first fetch of an entry.
+ *
+ * The empty results, like the end offsets of a topic without any partition or the producer timestamp of an empty
+ * partition, are returned but not cached, so the next request fetches them again instead of seeing them for a full TTL.
  */
-class CachedPubSubMetadataGetter {
+class CachedPubSubMetadataGetter implements Closeable {
   private static final Logger LOGGER = LogManager.getLogger(CachedPubSubMetadataGetter.class);
   private static final int DEFAULT_MAX_RETRY = 10;
+  private static final List<Class<? extends Throwable>> RETRIABLE_FAILURES =
+      Collections.singletonList(PubSubOpTimeoutException.class);
+  /**
+   * Entries which are read after this fraction of their TTL get refreshed in the background, so that the hot ones
+   * never expire.
+   */
+  private static final double REFRESH_AHEAD_RATIO = 0.75;
+  private static final int REFRESH_THREAD_COUNT = 4;
 
   private final long ttlNs;
+  private final long refreshAheadNs;
+  private final PubSubMetadataCacheStats stats;
   private final Map<PubSubMetadataCacheKey, ValueAndExpiryTime<Boolean>> topicExistenceCache;
-  private final Map<PubSubMetadataCacheKey, ValueAndExpiryTime<Long>> offsetCache;
+  /**
+   * Keyed by topic, with a partition of -1, since the end offsets of all the partitions are fetched together.
+   */
+  private final Map<PubSubMetadataCacheKey, ValueAndExpiryTime<Int2LongMap>> topicOffsetCache;
   private final Map<PubSubMetadataCacheKey, ValueAndExpiryTime<Long>> lastProducerTimestampCache;
+  /**
+   * The fetches of the missing entries in progress, which the concurrent requests of the same entry wait for.
+   */
+  private final Map<PendingFetchKey, CompletableFuture<ValueAndExpiryTime<?>>> pendingFetches;
+  /**
+   * The refreshes call the brokers, so they must not run in the common pool, which is shared with other CPU bound work.
+   */
+  private final ExecutorService refreshExecutor;
 
   CachedPubSubMetadataGetter(long timeToLiveMs) {
+    this(timeToLiveMs, null);
+  }
+
+  /**
+   * @param stats may be null, in which case no stats are recorded
+   */
+  CachedPubSubMetadataGetter(long timeToLiveMs, PubSubMetadataCacheStats stats) {
     this.ttlNs = MILLISECONDS.toNanos(timeToLiveMs);
+    this.refreshAheadNs = (long) (ttlNs * (1 - REFRESH_AHEAD_RATIO));
+    this.stats = stats;
     this.topicExistenceCache = new VeniceConcurrentHashMap<>();
-    this.offsetCache = new VeniceConcurrentHashMap<>();
+    this.topicOffsetCache = new VeniceConcurrentHashMap<>();
     this.lastProducerTimestampCache = new VeniceConcurrentHashMap<>();
+    this.pendingFetches = new VeniceConcurrentHashMap<>();
+    this.refreshExecutor =
+        Executors.newFixedThreadPool(REFRESH_THREAD_COUNT, new DaemonThreadFactory("pubsub-metadata-cache-refresh"));
   }
 
   /**
@@ -45,16 +104,28 @@ class CachedPubSubMetadataGetter {
    */
   long getOffset(TopicManager topicManager, PubSubTopic pubSubTopic, int partitionId) {
     final String sourcePubSubServer = topicManager.getPubSubBootstrapServers();
-    PubSubTopicPartition pubSubTopicPartition = new PubSubTopicPartitionImpl(pubSubTopic, partitionId);
     try {
-      return fetchMetadata(
-          new PubSubMetadataCacheKey(sourcePubSubServer, pubSubTopicPartition),
-          offsetCache,
-          () -> topicManager.getPartitionLatestOffsetAndRetry(pubSubTopicPartition, DEFAULT_MAX_RETRY));
+      PubSubMetadataCacheKey key =
+          new PubSubMetadataCacheKey(sourcePubSubServer, new PubSubTopicPartitionImpl(pubSubTopic, -1));
+      Int2LongMap topicOffsets = fetchMetadata(
+          key,
+          topicOffsetCache,
+          () -> RetryUtils.executeWithMaxAttempt(
+              () -> topicManager.getTopicLatestOffsets(pubSubTopic),
+              DEFAULT_MAX_RETRY,
+              Duration.ZERO,
+              RETRIABLE_FAILURES),
+          offsets -> offsets != null && !offsets.isEmpty());
+      if (topicOffsets == null || !topicOffsets.containsKey(partitionId)) {
+        // The offsets were fetched before the partition showed up, so they are fetched again by the next request
+        invalidate(key, topicOffsetCache, topicOffsets);
+        return StatsErrorCode.LAG_MEASUREMENT_FAILURE.code;
+      }
+      return topicOffsets.get(partitionId);
     } catch (PubSubTopicDoesNotExistException e) {
       // It's observed in production that with java based admin client the topic may not be found temporarily, return
       // error code
-      LOGGER.error("Failed to get offset for topic partition {}", pubSubTopicPartition, e);
+      LOGGER.error("Failed to get offset for topic: {} partition: {}", pubSubTopic, partitionId, e);
       return StatsErrorCode.LAG_MEASUREMENT_FAILURE.code;
     }
   }
@@ -64,7 +135,8 @@ class CachedPubSubMetadataGetter {
       return fetchMetadata(
           new PubSubMetadataCacheKey(topicManager.getPubSubBootstrapServers(), pubSubTopicPartition),
           lastProducerTimestampCache,
-          () -> topicManager.getProducerTimestampOfLastDataRecord(pubSubTopicPartition, DEFAULT_MAX_RETRY));
+          () -> topicManager.getProducerTimestampOfLastDataRecord(pubSubTopicPartition, DEFAULT_MAX_RETRY),
+          timestamp -> timestamp != null && timestamp >= 0);
     } catch (PubSubTopicDoesNotExistException e) {
       // It's observed in production that with java based admin client the topic may not be found temporarily, return
       // error code
@@ -81,36 +153,128 @@ class CachedPubSubMetadataGetter {
         () -> topicManager.containsTopic(pubSubTopic));
   }
 
+  <T> T fetchMetadata(
+      PubSubMetadataCacheKey key,
+      Map<PubSubMetadataCacheKey, ValueAndExpiryTime<T>> metadataCache,
+      Supplier<T> valueSupplier) {
+    return fetchMetadata(key, metadataCache, valueSupplier, Objects::nonNull);
+  }
+
   /**
    * Helper function to fetch metadata from cache or PubSub servers.
    * @param key cache key: Topic name or TopicPartition
    * @param metadataCache cache for this specific metadata
    * @param valueSupplier function to fetch metadata from PubSub servers
+   * @param isCacheable tells whether a fetched value is cached, or only returned to the caller
    * @param <T> type of the metadata
    * @return the cache value or the fresh metadata from PubSub servers
    */
   <T> T fetchMetadata(
       PubSubMetadataCacheKey key,
       Map<PubSubMetadataCacheKey, ValueAndExpiryTime<T>> metadataCache,
-      Supplier<T> valueSupplier) {
+      Supplier<T> valueSupplier,
+      Predicate<T> isCacheable) {
     final long now = System.nanoTime();
-    final ValueAndExpiryTime<T> cachedValue =
-        metadataCache.computeIfAbsent(key, k -> new ValueAndExpiryTime<>(valueSupplier.get(), now + ttlNs));
+    ValueAndExpiryTime<T> cachedValue = metadataCache.get(key);
+    if (cachedValue == null) {
+      cachedValue = fetchMissingMetadata(key, metadataCache, valueSupplier, isCacheable);
+    }
 
     // For a given key in the given cache, we will only issue one async request at the same time.
-    if (cachedValue.getExpiryTimeNs() <= now && cachedValue.valueUpdateInProgress.compareAndSet(false, true)) {
+    if (cachedValue.getExpiryTimeNs() - refreshAheadNs <= now
+        && cachedValue.valueUpdateInProgress.compareAndSet(false, true)) {
+      final ValueAndExpiryTime<T> valueToRefresh = cachedValue;
       CompletableFuture.runAsync(() -> {
         try {
-          T newValue = valueSupplier.get();
-          metadataCache.put(key, new ValueAndExpiryTime<>(newValue, System.nanoTime() + ttlNs));
+          T newValue = callBroker(valueSupplier);
+          if (isCacheable.test(newValue)) {
+            metadataCache.put(key, new ValueAndExpiryTime<>(newValue, System.nanoTime() + ttlNs));
+          } else {
+            metadataCache.remove(key, valueToRefresh);
+          }
         } catch (Exception e) {
-          metadataCache.remove(key);
+          metadataCache.remove(key, valueToRefresh);
         }
-      });
+      }, refreshExecutor);
+    }
+    if (stats != null) {
+      stats.recordRequest(NANOSECONDS.toMillis(Math.max(0, now - (cachedValue.getExpiryTimeNs() - ttlNs))));
     }
     return cachedValue.getValue();
   }
 
+  /**
+   * Fetches a missing entry outside of the lock of the cache, so that the broker call of one entry does not block the
+   * other entries of the same cache bin. Concurrent callers of the same missing entry all wait for the fetch of the
+   * first one.
+   */
+  @SuppressWarnings("unchecked")
+  private <T> ValueAndExpiryTime<T> fetchMissingMetadata(
+      PubSubMetadataCacheKey key,
+      Map<PubSubMetadataCacheKey, ValueAndExpiryTime<T>> metadataCache,
+      Supplier<T> valueSupplier,
+      Predicate<T> isCacheable) {
+    PendingFetchKey pendingFetchKey = new PendingFetchKey(metadataCache, key);
+    CompletableFuture<ValueAndExpiryTime<?>> fetch = new CompletableFuture<>();
+    CompletableFuture<ValueAndExpiryTime<?>> pendingFetch = pendingFetches.putIfAbsent(pendingFetchKey, fetch);
+    if (pendingFetch != null) {
+      try {
+        return (ValueAndExpiryTime<T>) pendingFetch.join();
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        throw e;
+      }
+    }
+    try {
+      // The entry may have been cached by a fetch which completed in between
+      ValueAndExpiryTime<T> value = metadataCache.get(key);
+      if (value == null) {
+        T newValue = callBroker(valueSupplier);
+        value = new ValueAndExpiryTime<>(newValue, System.nanoTime() + ttlNs);
+        if (isCacheable.test(newValue)) {
+          metadataCache.put(key, value);
+        }
+      }
+      fetch.complete(value);
+      return value;
+    } catch (RuntimeException e) {
+      fetch.completeExceptionally(e);
+      throw e;
+    } finally {
+      pendingFetches.remove(pendingFetchKey, fetch);
+    }
+  }
+
+  private <T> void invalidate(
+      PubSubMetadataCacheKey key,
+      Map<PubSubMetadataCacheKey, ValueAndExpiryTime<T>> metadataCache,
+      T value) {
+    ValueAndExpiryTime<T> cachedValue = metadataCache.get(key);
+    if (cachedValue != null && cachedValue.getValue() == value) {
+      metadataCache.remove(key, cachedValue);
+    }
+  }
+
+  @Override
+  public void close() {
+    refreshExecutor.shutdownNow();
+  }
+
+  private <T> T callBroker(Supplier<T> valueSupplier) {
+    if (stats == null) {
+      return valueSupplier.get();
+    }
+    stats.recordBrokerCall();
+    try {
+      return valueSupplier.get();
+    } catch (RuntimeException e) {
+      stats.recordBrokerCallFailure();
+      throw e;
+    }
+  }
+
   static class PubSubMetadataCacheKey {
     private final String pubSubServer;
     private final PubSubTopicPartition pubSubTopicPartition;
@@ -143,6 +307,36 @@ class CachedPubSubMetadataGetter {
     }
   }
 
+  /**
+   * Tells apart the same key of the different caches, since e.g. the existence and the offsets of a topic share it.
+   */
+  private static class PendingFetchKey {
+    private final Map<PubSubMetadataCacheKey, ?> metadataCache;
+    private final PubSubMetadataCacheKey key;
+
+    PendingFetchKey(Map<PubSubMetadataCacheKey, ?> metadataCache, PubSubMetadataCacheKey key) {
+      this.metadataCache = metadataCache;
+      this.key = key;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * System.identityHashCode(metadataCache) + key.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof PendingFetchKey)) {
+        return false;
+      }
+      final PendingFetchKey other = (PendingFetchKey) o;
+      return metadataCache == other.metadataCache && key.equals(other.key);
+    }
+  }
+
   /**
    * A POJO contains a value and its expiry time in milliseconds.
    *
@@ -0,0 +1,64 @@
+package com.linkedin.davinci.kafka.consumer;
+
+/**
+ * Keeps track of how much data a {@link ConsumptionTask} has handed over to the {@link
+ * com.linkedin.davinci.ingestion.consumption.ConsumedDataReceiver} of a given topic-partition, and of the offset of
+ * the last record handed over, which is where another consumer has to resume from if the partition gets moved.
+ *
+ * The counters are only written by the consumption task thread, and the rates are only computed by the thread
+ * rebalancing the consumer pool, see {@link KafkaConsumerService#rebalanceConsumerLoad()}, so there is no need for
+ * anything more than volatile fields.
+ */
+class ConsumedPartitionLoad {
+  private volatile long records = 0;
+  private volatile long bytes = 0;
+  private volatile long lastDeliveredOffset = -1;
+
+  private long recordsAtLastUpdate = 0;
+  private long bytesAtLastUpdate = 0;
+  private long lastUpdateTimeMs;
+  private volatile double recordsPerSecond = 0;
+  private volatile double bytesPerSecond = 0;
+
+  ConsumedPartitionLoad(long nowMs) {
+    this.lastUpdateTimeMs = nowMs;
+  }
+
+  void record(int recordCount, int byteCount, long lastOffset) {
+    records += recordCount;
+    bytes += byteCount;
+    lastDeliveredOffset = lastOffset;
+  }
+
+  /**
+   * Computes the throughput since the previous call.
+   */
+  void updateRates(long nowMs) {
+    long elapsedMs = nowMs - lastUpdateTimeMs;
+    if (elapsedMs <= 0) {
+      return;
+    }
+    long currentRecords = records;
+    long currentBytes = bytes;
+    recordsPerSecond = (currentRecords - recordsAtLastUpdate) * 1000d / elapsedMs;
+    bytesPerSecond = (currentBytes - bytesAtLastUpdate) * 1000d / elapsedMs;
+    recordsAtLastUpdate = currentRecords;
+    bytesAtLastUpdate = currentBytes;
+    lastUpdateTimeMs = nowMs;
+  }
+
+  double getRecordsPerSecond() {
+    return recordsPerSecond;
+  }
+
+  double getBytesPerSecond() {
+    return bytesPerSecond;
+  }
+
+  /**
+   * @return the offset of the last record handed over to the data receiver, or -1 if there is none yet
+   */
+  long getLastDeliveredOffset() {
+    return lastDeliveredOffset;
+  }
+}
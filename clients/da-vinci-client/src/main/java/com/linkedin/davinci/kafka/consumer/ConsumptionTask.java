@@ -48,6 +48,11 @@ class ConsumptionTask implements Runnable {
   private final KafkaConsumerServiceStats stats;
   private final ConsumerSubscriptionCleaner cleaner;
 
+  /**
+   * The throughput of each topic-partition funneled into a data receiver, used to balance the load of the consumer pool.
+   */
+  private final Map<PubSubTopicPartition, ConsumedPartitionLoad> partitionLoadMap = new VeniceConcurrentHashMap<>();
+
   private volatile boolean running = true;
 
   /**
@@ -85,6 +90,7 @@ class ConsumptionTask implements Runnable {
     Map<PubSubTopicPartition, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> polledPubSubMessages;
     long beforeProducingToWriteBufferTimestamp;
     ConsumedDataReceiver<List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> consumedDataReceiver;
+    ConsumedPartitionLoad partitionLoad;
     Set<PubSubTopicPartition> topicPartitionsToUnsub = new HashSet<>();
     int payloadBytesConsumedInOnePoll;
     int polledPubSubMessagesCount = 0;
@@ -105,6 +111,7 @@ class ConsumptionTask implements Runnable {
         for (PubSubTopicPartition topicPartitionToUnSub: topicPartitionsToUnsub) {
           ConsumedDataReceiver<List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> dataReceiver =
               dataReceiverMap.remove(topicPartitionToUnSub);
+          partitionLoadMap.remove(topicPartitionToUnSub);
           if (dataReceiver != null) {
             dataReceiver.notifyOfTopicDeletion(topicPartitionToUnSub.getPubSubTopic().getName());
           }
@@ -138,10 +145,23 @@ class ConsumptionTask implements Runnable {
               continue;
             }
             polledPubSubMessagesCount += topicPartitionMessages.size();
+            int payloadBytesConsumedForPartition = 0;
             for (PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> pubSubMessage: topicPartitionMessages) {
-              payloadBytesConsumedInOnePoll += pubSubMessage.getPayloadSize();
+              payloadBytesConsumedForPartition += pubSubMessage.getPayloadSize();
             }
+            payloadBytesConsumedInOnePoll += payloadBytesConsumedForPartition;
             consumedDataReceiver.write(topicPartitionMessages);
+            if (!topicPartitionMessages.isEmpty()) {
+              partitionLoad = partitionLoadMap.get(pubSubTopicPartition);
+              if (partitionLoad == null) {
+                partitionLoad = new ConsumedPartitionLoad(lastSuccessfulPollTimestamp);
+                partitionLoadMap.put(pubSubTopicPartition, partitionLoad);
+              }
+              partitionLoad.record(
+                  topicPartitionMessages.size(),
+                  payloadBytesConsumedForPartition,
+                  topicPartitionMessages.get(topicPartitionMessages.size() - 1).getOffset());
+            }
           }
           stats.recordConsumerRecordsProducingToWriterBufferLatency(
               LatencyUtils.getElapsedTimeInMs(beforeProducingToWriteBufferTimestamp));
@@ -203,5 +223,40 @@ class ConsumptionTask implements Runnable {
 
   void removeDataReceiver(PubSubTopicPartition topicPartition) {
     dataReceiverMap.remove(topicPartition);
+    partitionLoadMap.remove(topicPartition);
+  }
+
+  ConsumedDataReceiver<List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> getDataReceiver(
+      PubSubTopicPartition topicPartition) {
+    return dataReceiverMap.get(topicPartition);
+  }
+
+  ConsumedPartitionLoad getPartitionLoad(PubSubTopicPartition topicPartition) {
+    return partitionLoadMap.get(topicPartition);
+  }
+
+  /**
+   * Used when a topic-partition is moved from another task, so that its throughput keeps being accounted for.
+   */
+  void setPartitionLoad(PubSubTopicPartition topicPartition, ConsumedPartitionLoad partitionLoad) {
+    partitionLoadMap.put(topicPartition, partitionLoad);
+  }
+
+  /**
+   * Updates the throughput of all the topic-partitions of this task.
+   *
+   * @return the total bytes per second consumed by this task
+   */
+  double updatePartitionLoads(long nowMs) {
+    double bytesPerSecond = 0;
+    for (ConsumedPartitionLoad partitionLoad: partitionLoadMap.values()) {
+      partitionLoad.updateRates(nowMs);
+      bytesPerSecond += partitionLoad.getBytesPerSecond();
+    }
+    return bytesPerSecond;
+  }
+
+  Map<PubSubTopicPartition, ConsumedPartitionLoad> getPartitionLoads() {
+    return partitionLoadMap;
   }
 }
@@ -33,6 +33,7 @@ import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.IntConsumer;
 import java.util.function.LongSupplier;
@@ -63,6 +64,8 @@ import org.apache.logging.log4j.Logger;
  *    caller to start funneling consumed data into a receiver (i.e. into another task).
  * 3. Provide a single abstract function that must be overridden by subclasses in order to implement a consumption
  *    load balancing strategy: {@link #pickConsumerForPartition(PubSubTopic, PubSubTopicPartition)}
+ * 4. Optionally, measure the throughput of each consumer and move hot partitions away from the overloaded ones, see
+ *    {@link #rebalanceConsumerLoad()}.
  *
  * @see AggKafkaConsumerService which wraps one instance of this class per Kafka cluster.
  */
@@ -72,6 +75,7 @@ public abstract class KafkaConsumerService extends AbstractKafkaConsumerService
       RedundantExceptionFilter.getRedundantExceptionFilter();
 
   private final ExecutorService consumerExecutor;
+  private final Time time;
   protected final String kafkaUrl;
   protected final String kafkaUrlForLogger;
   private final Logger LOGGER;
@@ -81,6 +85,11 @@ public abstract class KafkaConsumerService extends AbstractKafkaConsumerService
   protected final Map<PubSubTopic, Map<PubSubTopicPartition, SharedKafkaConsumer>> versionTopicToTopicPartitionToConsumer =
       new VeniceConcurrentHashMap<>();
 
+  private long loadRebalanceIntervalMs = 0;
+  private double loadSkewThreshold;
+  private ScheduledExecutorService loadRebalanceExecutor;
+  private volatile ConsumerPoolLoad consumerPoolLoad;
+
   /**
    * @param statsOverride injection of stats, for test purposes
    */
@@ -104,6 +113,7 @@ public abstract class KafkaConsumerService extends AbstractKafkaConsumerService
     this.kafkaUrl = consumerProperties.getProperty(KAFKA_BOOTSTRAP_SERVERS);
     this.kafkaUrlForLogger = Utils.getSanitizedStringForLogger(kafkaUrl);
     this.LOGGER = LogManager.getLogger(KafkaConsumerService.class.getSimpleName() + " [" + kafkaUrlForLogger + "]");
+    this.time = time;
 
     // Initialize consumers and consumerExecutor
     consumerExecutor = Executors.newFixedThreadPool(
@@ -158,13 +168,66 @@ public abstract class KafkaConsumerService extends AbstractKafkaConsumerService
       consumerToConsumptionTask.putByIndex(pubSubConsumer, consumptionTask, i);
     }
 
+    this.consumerPoolLoad =
+        new ConsumerPoolLoad(new double[numOfConsumersPerKafkaCluster], new int[numOfConsumersPerKafkaCluster], 0);
+
     LOGGER.info("KafkaConsumerService was initialized with {} consumers.", numOfConsumersPerKafkaCluster);
   }
 
+  /**
+   * Enables the throughput-aware assignment of the partitions to the consumers, which must be done before starting
+   * this service.
+   *
+   * @param loadRebalanceIntervalMs how often the throughput of the consumers is measured and the pool rebalanced
+   * @param loadSkewThreshold the ratio between the load of the most loaded consumer and the average load of the pool
+   *                          above which a partition is moved to the least loaded consumer
+   */
+  void enableThroughputAwareAssignment(long loadRebalanceIntervalMs, double loadSkewThreshold) {
+    if (isRunning()) {
+      throw new IllegalStateException("The throughput-aware assignment must be enabled before starting the service");
+    }
+    this.loadRebalanceIntervalMs = loadRebalanceIntervalMs;
+    this.loadSkewThreshold = loadSkewThreshold;
+  }
+
+  protected boolean isThroughputAwareAssignmentEnabled() {
+    return loadRebalanceIntervalMs > 0;
+  }
+
+  /**
+   * The partitions assigned since the last measurement are accounted for with the average throughput of a partition,
+   * so that a burst of new partitions doesn't all go to the same consumer.
+   *
+   * @return the estimated bytes per second consumed by the given consumer
+   */
+  protected double getEstimatedConsumerLoad(SharedKafkaConsumer consumer) {
+    int index = consumerToConsumptionTask.indexOf(consumer);
+    if (index < 0) {
+      return 0;
+    }
+    ConsumerPoolLoad poolLoad = consumerPoolLoad;
+    int unmeasuredPartitions = Math.max(0, consumer.getAssignmentSize() - poolLoad.measuredPartitions[index]);
+    return poolLoad.bytesPerSecond[index] + unmeasuredPartitions * poolLoad.bytesPerSecondPerPartition;
+  }
+
   /** May be overridden to clean up state in sub-classes */
   void handleUnsubscription(SharedKafkaConsumer consumer, PubSubTopicPartition topicPartition) {
   }
 
+  /**
+   * May be overridden by sub-classes which allow {@link #rebalanceConsumerLoad()} to move partitions between consumers.
+   * Must not have any side effect.
+   *
+   * @return whether the given topic-partition can be moved to the given consumer, false by default
+   */
+  boolean canMigratePartitionTo(SharedKafkaConsumer consumer, PubSubTopicPartition topicPartition) {
+    return false;
+  }
+
+  /** May be overridden to update state in sub-classes, right before a partition gets subscribed to its new consumer */
+  void handlePartitionMigration(SharedKafkaConsumer consumer, PubSubTopicPartition topicPartition) {
+  }
+
   private String getUniqueClientId(String kafkaUrl, int suffix) {
     return Utils.getHostName() + "_" + kafkaUrl + "_" + suffix;
   }
@@ -224,50 +287,47 @@ public abstract class KafkaConsumerService extends AbstractKafkaConsumerService
    */
   @Override
   public void unSubscribe(PubSubTopic versionTopic, PubSubTopicPartition pubSubTopicPartition) {
-    PubSubConsumerAdapter consumer = getConsumerAssignedToVersionTopicPartition(versionTopic, pubSubTopicPartition);
-    if (consumer != null) {
-      consumer.unSubscribe(pubSubTopicPartition);
-      consumerToConsumptionTask.get(consumer).removeDataReceiver(pubSubTopicPartition);
-      versionTopicToTopicPartitionToConsumer.compute(versionTopic, (k, topicPartitionToConsumerMap) -> {
-        if (topicPartitionToConsumerMap != null) {
-          topicPartitionToConsumerMap.remove(pubSubTopicPartition);
-          return topicPartitionToConsumerMap.isEmpty() ? null : topicPartitionToConsumerMap;
-        } else {
-          return null;
-        }
-      });
-    }
+    /**
+     * N.B. The consumer is looked up while holding the version topic entry, so that it cannot be changed concurrently
+     * by {@link #migratePartition(PubSubTopic, PubSubTopicPartition, SharedKafkaConsumer, SharedKafkaConsumer)}.
+     */
+    versionTopicToTopicPartitionToConsumer.computeIfPresent(versionTopic, (k, topicPartitionToConsumerMap) -> {
+      PubSubConsumerAdapter consumer = topicPartitionToConsumerMap.get(pubSubTopicPartition);
+      if (consumer != null) {
+        consumer.unSubscribe(pubSubTopicPartition);
+        consumerToConsumptionTask.get(consumer).removeDataReceiver(pubSubTopicPartition);
+        topicPartitionToConsumerMap.remove(pubSubTopicPartition);
+      }
+      return topicPartitionToConsumerMap.isEmpty() ? null : topicPartitionToConsumerMap;
+    });
   }
 
   @Override
   public void batchUnsubscribe(PubSubTopic versionTopic, Set<PubSubTopicPartition> topicPartitionsToUnSub) {
-    Map<PubSubConsumerAdapter, Set<PubSubTopicPartition>> consumerUnSubTopicPartitionSet = new HashMap<>();
-    PubSubConsumerAdapter consumer;
-    for (PubSubTopicPartition topicPartition: topicPartitionsToUnSub) {
-      consumer = getConsumerAssignedToVersionTopicPartition(versionTopic, topicPartition);
-      if (consumer != null) {
-        Set<PubSubTopicPartition> topicPartitionSet =
-            consumerUnSubTopicPartitionSet.computeIfAbsent(consumer, k -> new HashSet<>());
-        topicPartitionSet.add(topicPartition);
+    // N.B. The consumers are looked up while holding the version topic entry, same as in unSubscribe.
+    versionTopicToTopicPartitionToConsumer.computeIfPresent(versionTopic, (k, topicPartitionToConsumerMap) -> {
+      Map<PubSubConsumerAdapter, Set<PubSubTopicPartition>> consumerUnSubTopicPartitionSet = new HashMap<>();
+      PubSubConsumerAdapter consumer;
+      for (PubSubTopicPartition topicPartition: topicPartitionsToUnSub) {
+        consumer = topicPartitionToConsumerMap.get(topicPartition);
+        if (consumer != null) {
+          Set<PubSubTopicPartition> topicPartitionSet =
+              consumerUnSubTopicPartitionSet.computeIfAbsent(consumer, c -> new HashSet<>());
+          topicPartitionSet.add(topicPartition);
+        }
       }
-    }
-    /**
-     * Leverage {@link PubSubConsumerAdapter#batchUnsubscribe(Set)}.
-     */
-    consumerUnSubTopicPartitionSet.forEach((c, tpSet) -> {
-      c.batchUnsubscribe(tpSet);
-      ConsumptionTask task = consumerToConsumptionTask.get(c);
-      tpSet.forEach(tp -> {
-        task.removeDataReceiver(tp);
-        versionTopicToTopicPartitionToConsumer.compute(versionTopic, (k, topicPartitionToConsumerMap) -> {
-          if (topicPartitionToConsumerMap != null) {
-            topicPartitionToConsumerMap.remove(tp);
-            return topicPartitionToConsumerMap.isEmpty() ? null : topicPartitionToConsumerMap;
-          } else {
-            return null;
-          }
+      /**
+       * Leverage {@link PubSubConsumerAdapter#batchUnsubscribe(Set)}.
+       */
+      consumerUnSubTopicPartitionSet.forEach((c, tpSet) -> {
+        c.batchUnsubscribe(tpSet);
+        ConsumptionTask task = consumerToConsumptionTask.get(c);
+        tpSet.forEach(tp -> {
+          task.removeDataReceiver(tp);
+          topicPartitionToConsumerMap.remove(tp);
         });
       });
+      return topicPartitionToConsumerMap.isEmpty() ? null : topicPartitionToConsumerMap;
     });
   }
 
@@ -275,12 +335,26 @@ public abstract class KafkaConsumerService extends AbstractKafkaConsumerService
   public boolean startInner() {
     consumerToConsumptionTask.values().forEach(consumerExecutor::submit);
     consumerExecutor.shutdown();
+    if (isThroughputAwareAssignmentEnabled()) {
+      loadRebalanceExecutor = Executors.newSingleThreadScheduledExecutor(
+          new DaemonThreadFactory("venice-shared-consumer-load-rebalancer-for-" + kafkaUrl));
+      loadRebalanceExecutor.scheduleWithFixedDelay(() -> {
+        try {
+          rebalanceConsumerLoad();
+        } catch (Exception e) {
+          LOGGER.error("Failed to rebalance the load of the consumers", e);
+        }
+      }, loadRebalanceIntervalMs, loadRebalanceIntervalMs, TimeUnit.MILLISECONDS);
+    }
     LOGGER.info("KafkaConsumerService started for {}", kafkaUrl);
     return true;
   }
 
   @Override
   public void stopInner() throws Exception {
+    if (loadRebalanceExecutor != null) {
+      loadRebalanceExecutor.shutdownNow();
+    }
     consumerToConsumptionTask.values().forEach(ConsumptionTask::stop);
     long beginningTime = System.currentTimeMillis();
     boolean gracefulShutdownSuccess = consumerExecutor.awaitTermination(SHUTDOWN_TIMEOUT_IN_SECOND, TimeUnit.SECONDS);
@@ -361,27 +435,45 @@ public abstract class KafkaConsumerService extends AbstractKafkaConsumerService
       long lastReadOffset,
       ConsumedDataReceiver<List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> consumedDataReceiver) {
     PubSubTopic versionTopic = consumedDataReceiver.destinationIdentifier();
-    SharedKafkaConsumer consumer = assignConsumerFor(versionTopic, topicPartition);
-
-    if (consumer == null) {
-      // Defensive code. Shouldn't happen except in case of a regression.
-      throw new VeniceException(
-          "Shared consumer must exist for version topic: " + versionTopic + " in Kafka cluster: " + kafkaUrl);
-    }
-
-    ConsumptionTask consumptionTask = consumerToConsumptionTask.get(consumer);
-    if (consumptionTask == null) {
-      // Defensive coding. Should never happen except in case of a regression.
-      throw new IllegalStateException(
-          "There should be a " + ConsumptionTask.class.getSimpleName() + " assigned for this "
-              + SharedKafkaConsumer.class.getSimpleName());
+    boolean[] subscribed = new boolean[1];
+    while (!subscribed[0]) {
+      /**
+       * The consumer is assigned before taking the version topic entry, since some implementations pick it while
+       * holding the lock of the service, which they also hold when taking the entry.
+       */
+      if (assignConsumerFor(versionTopic, topicPartition) == null) {
+        // Defensive code. Shouldn't happen except in case of a regression.
+        throw new VeniceException(
+            "Shared consumer must exist for version topic: " + versionTopic + " in Kafka cluster: " + kafkaUrl);
+      }
+      /**
+       * N.B. The partition is subscribed while holding the version topic entry, same as in
+       * {@link #migratePartition(PubSubTopic, PubSubTopicPartition, SharedKafkaConsumer, SharedKafkaConsumer)}, so that
+       * the consumer assigned to the partition cannot be changed concurrently.
+       */
+      versionTopicToTopicPartitionToConsumer.computeIfPresent(versionTopic, (k, topicPartitionToConsumerMap) -> {
+        SharedKafkaConsumer consumer = topicPartitionToConsumerMap.get(topicPartition);
+        if (consumer == null) {
+          // Unsubscribed in the meantime, so the consumer is assigned again
+          return topicPartitionToConsumerMap;
+        }
+        ConsumptionTask consumptionTask = consumerToConsumptionTask.get(consumer);
+        if (consumptionTask == null) {
+          // Defensive coding. Should never happen except in case of a regression.
+          throw new IllegalStateException(
+              "There should be a " + ConsumptionTask.class.getSimpleName() + " assigned for this "
+                  + SharedKafkaConsumer.class.getSimpleName());
+        }
+        /**
+         * N.B. it's important to set the {@link ConsumedDataReceiver} prior to subscribing, otherwise the
+         * {@link KafkaConsumerService.ConsumptionTask} will not be able to funnel the messages.
+         */
+        consumptionTask.setDataReceiver(topicPartition, consumedDataReceiver);
+        consumer.subscribe(versionTopic, topicPartition, lastReadOffset);
+        subscribed[0] = true;
+        return topicPartitionToConsumerMap;
+      });
     }
-    /**
-     * N.B. it's important to set the {@link ConsumedDataReceiver} prior to subscribing, otherwise the
-     * {@link KafkaConsumerService.ConsumptionTask} will not be able to funnel the messages.
-     */
-    consumptionTask.setDataReceiver(topicPartition, consumedDataReceiver);
-    consumer.subscribe(consumedDataReceiver.destinationIdentifier(), topicPartition, lastReadOffset);
   }
 
   interface KCSConstructor {
@@ -423,6 +515,163 @@ public abstract class KafkaConsumerService extends AbstractKafkaConsumerService
     stats.recordMinPartitionsPerConsumer(minPartitionsPerConsumer);
   }
 
+  /**
+   * Measures the bytes per second consumed by each consumer since the previous call, and if the most loaded consumer
+   * is above the configured skew threshold, moves one of its partitions to the least loaded consumer. The partition
+   * picked is the one which brings the load of both consumers the closest to each other, and a partition which is the
+   * only load of its consumer is never moved, since that would just move the hot spot.
+   */
+  void rebalanceConsumerLoad() {
+    long nowMs = time.getMilliseconds();
+    int consumerCount = consumerToConsumptionTask.size();
+    double[] bytesPerSecond = new double[consumerCount];
+    int[] measuredPartitions = new int[consumerCount];
+    int totalMeasuredPartitions = 0;
+    double totalBytesPerSecond = 0;
+    int mostLoadedIndex = 0;
+    int leastLoadedIndex = 0;
+    for (int i = 0; i < consumerCount; i++) {
+      ConsumptionTask task = consumerToConsumptionTask.getByIndex(i).getValue();
+      bytesPerSecond[i] = task.updatePartitionLoads(nowMs);
+      measuredPartitions[i] = task.getPartitionLoads().size();
+      totalBytesPerSecond += bytesPerSecond[i];
+      totalMeasuredPartitions += measuredPartitions[i];
+      if (bytesPerSecond[i] > bytesPerSecond[mostLoadedIndex]) {
+        mostLoadedIndex = i;
+      }
+      if (bytesPerSecond[i] < bytesPerSecond[leastLoadedIndex]) {
+        leastLoadedIndex = i;
+      }
+    }
+    consumerPoolLoad = new ConsumerPoolLoad(
+        bytesPerSecond,
+        measuredPartitions,
+        totalMeasuredPartitions == 0 ? 0 : totalBytesPerSecond / totalMeasuredPartitions);
+
+    double avgBytesPerSecond = totalBytesPerSecond / consumerCount;
+    double skew = avgBytesPerSecond > 0 ? bytesPerSecond[mostLoadedIndex] / avgBytesPerSecond : 1;
+    stats.recordMaxBytesPerSecondPerConsumer(bytesPerSecond[mostLoadedIndex]);
+    stats.recordMinBytesPerSecondPerConsumer(bytesPerSecond[leastLoadedIndex]);
+    stats.recordConsumerLoadSkew(skew);
+    if (skew < loadSkewThreshold || mostLoadedIndex == leastLoadedIndex) {
+      return;
+    }
+
+    Map.Entry<SharedKafkaConsumer, ConsumptionTask> mostLoaded = consumerToConsumptionTask.getByIndex(mostLoadedIndex);
+    SharedKafkaConsumer leastLoadedConsumer = consumerToConsumptionTask.getByIndex(leastLoadedIndex).getKey();
+    double gap = bytesPerSecond[mostLoadedIndex] - bytesPerSecond[leastLoadedIndex];
+    PubSubTopicPartition partitionToMigrate = null;
+    double distanceToHalfGap = Double.MAX_VALUE;
+    for (Map.Entry<PubSubTopicPartition, ConsumedPartitionLoad> entry: mostLoaded.getValue()
+        .getPartitionLoads()
+        .entrySet()) {
+      double partitionBytesPerSecond = entry.getValue().getBytesPerSecond();
+      // Moving a partition only narrows the gap if it is smaller than the gap
+      if (partitionBytesPerSecond <= 0 || partitionBytesPerSecond >= gap
+          || Math.abs(gap / 2 - partitionBytesPerSecond) >= distanceToHalfGap
+          || mostLoaded.getKey().isPaused(entry.getKey())
+          || !canMigratePartitionTo(leastLoadedConsumer, entry.getKey())) {
+        continue;
+      }
+      partitionToMigrate = entry.getKey();
+      distanceToHalfGap = Math.abs(gap / 2 - partitionBytesPerSecond);
+    }
+    if (partitionToMigrate == null) {
+      return;
+    }
+    ConsumedDataReceiver<List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> dataReceiver =
+        mostLoaded.getValue().getDataReceiver(partitionToMigrate);
+    if (dataReceiver == null) {
+      return;
+    }
+    migratePartition(
+        dataReceiver.destinationIdentifier(),
+        partitionToMigrate,
+        mostLoaded.getKey(),
+        leastLoadedConsumer);
+  }
+
+  /**
+   * Moves a topic-partition from a consumer to another one, without skipping nor duplicating any record, so that the
+   * ingestion task downstream, and its data integrity validation, cannot tell the difference:
+   * 1. The partition is paused on the current consumer, which waits for the records it has already polled to be handed
+   *    over to the data receiver, see {@link SharedKafkaConsumer#waitForNextPoll()}. If they are not handed over in
+   *    time, the migration is aborted and the partition resumed on the current consumer. Otherwise, the partition is
+   *    unsubscribed from the current consumer.
+   * 2. The data receiver is attached to the consumption task of the new consumer.
+   * 3. The new consumer subscribes to the partition right after the last record handed over, and resumes consuming.
+   *
+   * The whole handoff happens while holding the entry of the version topic, so that it cannot interleave with the
+   * ingestion task subscribing to or unsubscribing from the partition.
+   *
+   * @return whether the partition was moved
+   */
+  boolean migratePartition(
+      PubSubTopic versionTopic,
+      PubSubTopicPartition topicPartition,
+      SharedKafkaConsumer from,
+      SharedKafkaConsumer to) {
+    boolean[] migrated = new boolean[1];
+    versionTopicToTopicPartitionToConsumer.computeIfPresent(versionTopic, (k, topicPartitionToConsumerMap) -> {
+      ConsumptionTask fromTask = consumerToConsumptionTask.get(from);
+      ConsumptionTask toTask = consumerToConsumptionTask.get(to);
+      ConsumedDataReceiver<List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> dataReceiver =
+          fromTask.getDataReceiver(topicPartition);
+      ConsumedPartitionLoad partitionLoad = fromTask.getPartitionLoad(topicPartition);
+      if (topicPartitionToConsumerMap.get(topicPartition) != from || !from.hasSubscription(topicPartition)
+          || from.isPaused(topicPartition) || dataReceiver == null || partitionLoad == null
+          || partitionLoad.getLastDeliveredOffset() < 0) {
+        // Unsubscribed or paused in the meantime
+        return topicPartitionToConsumerMap;
+      }
+      from.pause(topicPartition);
+      if (!from.waitForNextPoll()) {
+        stats.recordPartitionMigrationError();
+        LOGGER.warn(
+            "Consumer {} did not poll in time, keeping {} of version topic: {} on it",
+            consumerToConsumptionTask.indexOf(from),
+            topicPartition,
+            versionTopic);
+        from.resume(topicPartition);
+        return topicPartitionToConsumerMap;
+      }
+      from.unSubscribe(topicPartition);
+      fromTask.removeDataReceiver(topicPartition);
+      long lastDeliveredOffset = partitionLoad.getLastDeliveredOffset();
+      try {
+        handlePartitionMigration(to, topicPartition);
+        toTask.setDataReceiver(topicPartition, dataReceiver);
+        toTask.setPartitionLoad(topicPartition, partitionLoad);
+        to.subscribe(versionTopic, topicPartition, lastDeliveredOffset);
+        topicPartitionToConsumerMap.put(topicPartition, to);
+        migrated[0] = true;
+        stats.recordPartitionMigration();
+        LOGGER.info(
+            "Moved {} of version topic: {} from consumer {} to consumer {}, resuming after offset {}",
+            topicPartition,
+            versionTopic,
+            consumerToConsumptionTask.indexOf(from),
+            consumerToConsumptionTask.indexOf(to),
+            lastDeliveredOffset);
+      } catch (Exception e) {
+        stats.recordPartitionMigrationError();
+        LOGGER.error("Failed to move {} of version topic: {}, will resubscribe it", topicPartition, versionTopic, e);
+        if (to.hasSubscription(topicPartition)) {
+          to.unSubscribe(topicPartition);
+        } else {
+          handleUnsubscription(to, topicPartition);
+        }
+        toTask.removeDataReceiver(topicPartition);
+        handlePartitionMigration(from, topicPartition);
+        fromTask.setDataReceiver(topicPartition, dataReceiver);
+        fromTask.setPartitionLoad(topicPartition, partitionLoad);
+        from.subscribe(versionTopic, topicPartition, lastDeliveredOffset);
+      }
+      return topicPartitionToConsumerMap;
+    });
+    return migrated[0];
+  }
+
   public long getOffsetLagFor(PubSubTopic versionTopic, PubSubTopicPartition pubSubTopicPartition) {
     return getSomeOffsetFor(
         versionTopic,
@@ -462,6 +711,22 @@ public abstract class KafkaConsumerService extends AbstractKafkaConsumerService
     }
   }
 
+  /**
+   * The throughput of the consumers, by index in {@link #consumerToConsumptionTask}, as of the last
+   * {@link #rebalanceConsumerLoad()}.
+   */
+  private static class ConsumerPoolLoad {
+    final double[] bytesPerSecond;
+    final int[] measuredPartitions;
+    final double bytesPerSecondPerPartition;
+
+    ConsumerPoolLoad(double[] bytesPerSecond, int[] measuredPartitions, double bytesPerSecondPerPartition) {
+      this.bytesPerSecond = bytesPerSecond;
+      this.measuredPartitions = measuredPartitions;
+      this.bytesPerSecondPerPartition = bytesPerSecondPerPartition;
+    }
+  }
+
   private interface OffsetGetter {
     long apply(PubSubConsumerAdapter consumer, PubSubTopicPartition pubSubTopicPartition);
   }
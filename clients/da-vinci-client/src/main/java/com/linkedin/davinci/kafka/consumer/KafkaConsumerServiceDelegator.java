@@ -53,6 +53,16 @@ public class KafkaConsumerServiceDelegator extends AbstractKafkaConsumerService
     } else {
       this.consumerServiceForAAWCLeader = null;
     }
+    if (serverConfig.getSharedConsumerLoadRebalanceIntervalMs() > 0) {
+      this.defaultConsumerService.enableThroughputAwareAssignment(
+          serverConfig.getSharedConsumerLoadRebalanceIntervalMs(),
+          serverConfig.getSharedConsumerLoadSkewThreshold());
+      if (this.consumerServiceForAAWCLeader != null) {
+        this.consumerServiceForAAWCLeader.enableThroughputAwareAssignment(
+            serverConfig.getSharedConsumerLoadRebalanceIntervalMs(),
+            serverConfig.getSharedConsumerLoadSkewThreshold());
+      }
+    }
     this.isAAWCStoreFunc = vt -> storeVersionAAWCFlagMap.computeIfAbsent(vt, ignored -> isAAWCStoreFunc.apply(vt));
   }
 
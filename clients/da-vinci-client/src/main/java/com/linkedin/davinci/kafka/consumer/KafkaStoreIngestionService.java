@@ -16,6 +16,8 @@ import static com.linkedin.venice.kafka.TopicManager.DEFAULT_KAFKA_OPERATION_TIM
 import static java.lang.Thread.currentThread;
 import static java.lang.Thread.sleep;
 
+import com.linkedin.davinci.blobtransfer.BlobSnapshotFetcher;
+import com.linkedin.davinci.blobtransfer.BlobSnapshotManager;
 import com.linkedin.davinci.compression.StorageEngineBackedCompressorFactory;
 import com.linkedin.davinci.config.VeniceConfigLoader;
 import com.linkedin.davinci.config.VeniceServerConfig;
@@ -32,6 +34,7 @@ import com.linkedin.davinci.stats.AggLagStats;
 import com.linkedin.davinci.stats.AggVersionedDIVStats;
 import com.linkedin.davinci.stats.AggVersionedIngestionStats;
 import com.linkedin.davinci.stats.ParticipantStoreConsumptionStats;
+import com.linkedin.davinci.stats.PubSubMetadataCacheStats;
 import com.linkedin.davinci.stats.StoreBufferServiceStats;
 import com.linkedin.davinci.storage.StorageEngineRepository;
 import com.linkedin.davinci.storage.StorageMetadataService;
@@ -49,6 +52,7 @@ import com.linkedin.venice.kafka.TopicManagerRepository;
 import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
 import com.linkedin.venice.kafka.protocol.state.PartitionState;
 import com.linkedin.venice.meta.ClusterInfoProvider;
+import com.linkedin.venice.meta.IngestionMode;
 import com.linkedin.venice.meta.Instance;
 import com.linkedin.venice.meta.Partition;
 import com.linkedin.venice.meta.ReadOnlyLiveClusterConfigRepository;
@@ -70,6 +74,7 @@ import com.linkedin.venice.pubsub.adapter.kafka.producer.ApacheKafkaProducerAdap
 import com.linkedin.venice.pubsub.adapter.kafka.producer.ApacheKafkaProducerConfig;
 import com.linkedin.venice.pubsub.adapter.kafka.producer.SharedKafkaProducerAdapterFactory;
 import com.linkedin.venice.pubsub.api.PubSubMessageDeserializer;
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
 import com.linkedin.venice.schema.SchemaEntry;
 import com.linkedin.venice.schema.SchemaReader;
 import com.linkedin.venice.security.SSLFactory;
@@ -94,11 +99,13 @@ import com.linkedin.venice.utils.SystemTime;
 import com.linkedin.venice.utils.Time;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import com.linkedin.venice.utils.locks.AutoCloseableLock;
 import com.linkedin.venice.utils.locks.ResourceAutoClosableLockManager;
 import com.linkedin.venice.utils.pools.LandFillObjectPool;
 import com.linkedin.venice.writer.VeniceWriterFactory;
 import io.tehuti.metrics.MetricsRepository;
+import java.io.File;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -117,6 +124,7 @@ import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantLock;
@@ -140,6 +148,7 @@ import org.apache.logging.log4j.Logger;
  */
 public class KafkaStoreIngestionService extends AbstractVeniceService implements StoreIngestionService {
   private static final String GROUP_ID_FORMAT = "%s_%s";
+  private static final String BLOB_SNAPSHOT_DIR_NAME = "blob_snapshots";
 
   private static final Logger LOGGER = LogManager.getLogger(KafkaStoreIngestionService.class);
 
@@ -185,10 +194,15 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
   private final boolean isIsolatedIngestion;
 
   private final TopicManagerRepository topicManagerRepository;
+  // Shared by all the ingestion tasks, so that their metadata requests are coalesced
+  private final CachedPubSubMetadataGetter cachedPubSubMetadataGetter;
   private ExecutorService participantStoreConsumerExecutorService;
 
   private ExecutorService ingestionExecutorService;
 
+  // Runs the produce calls of the pipelined leaders, or null when the leader produce is not pipelined
+  private final ExecutorService leaderProduceExecutorService;
+
   private ParticipantStoreConsumptionTask participantStoreConsumptionTask;
 
   // TODO: This could be a composite storage engine which keeps secondary storage engines updated in lockstep with a
@@ -209,6 +223,24 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
 
   private KafkaValueSerializer kafkaValueSerializer;
 
+  private final BlobSnapshotManager blobSnapshotManager;
+
+  private final BlobSnapshotFetcher blobSnapshotFetcher;
+
+  /**
+   * Downloads the peer snapshots, so that the Helix state transitions do not wait for them.
+   */
+  private final ExecutorService blobSnapshotBootstrapExecutorService;
+
+  /**
+   * The partitions whose peer snapshot is being downloaded, which are subscribed once the download
+   * completes or fails. Guarded by the lock of their topic in {@link #topicLockManager}.
+   */
+  private final Map<PubSubTopicPartition, PendingPeerSnapshotBootstrap> pendingPeerSnapshotBootstraps =
+      new VeniceConcurrentHashMap<>();
+
+  private final String localNodeId;
+
   public KafkaStoreIngestionService(
       StorageEngineRepository storageEngineRepository,
       VeniceConfigLoader veniceConfigLoader,
@@ -491,6 +523,28 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
 
     VeniceViewWriterFactory viewWriterFactory = new VeniceViewWriterFactory(veniceConfigLoader);
 
+    leaderProduceExecutorService = serverConfig.getLeaderProducePipelineWindowSize() > 0
+        ? Executors.newFixedThreadPool(
+            serverConfig.getLeaderProducePipelineThreadCount(),
+            new DaemonThreadFactory("Venice-leader-produce"))
+        : null;
+
+    /**
+     * Use the same limiter for all ingestion tasks, so that the transient records of all the leader partitions of the
+     * host are bounded together.
+     */
+    TransientRecordBufferLimiter transientRecordBufferLimiter =
+        serverConfig.getTransientRecordBufferMemoryCapacity() > 0
+            ? new TransientRecordBufferLimiter(
+                serverConfig.getTransientRecordBufferMemoryCapacity(),
+                serverConfig.getTransientRecordBufferMaxWaitTimeMs(),
+                hostLevelIngestionStats.getTotalStats())
+            : null;
+
+    cachedPubSubMetadataGetter = new CachedPubSubMetadataGetter(
+        serverConfig.getTopicOffsetCheckIntervalMs(),
+        new PubSubMetadataCacheStats(metricsRepository));
+
     ingestionTaskFactory = StoreIngestionTaskFactory.builder()
         .setVeniceWriterFactory(veniceWriterFactory)
         .setStorageEngineRepository(storageEngineRepository)
@@ -503,6 +557,8 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
         .setVersionedDIVStats(versionedDIVStats)
         .setVersionedIngestionStats(versionedIngestionStats)
         .setStoreBufferService(storeBufferService)
+        .setTransientRecordBufferLimiter(transientRecordBufferLimiter)
+        .setLeaderProduceExecutor(leaderProduceExecutorService)
         .setServerConfig(serverConfig)
         .setDiskUsage(diskUsage)
         .setAggKafkaConsumerService(aggKafkaConsumerService)
@@ -514,9 +570,40 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
         .setCompressorFactory(compressorFactory)
         .setVeniceViewWriterFactory(viewWriterFactory)
         .setPubSubTopicRepository(pubSubTopicRepository)
+        .setCachedPubSubMetadataGetter(cachedPubSubMetadataGetter)
         .setRunnableForKillIngestionTasksForNonCurrentVersions(
             serverConfig.getIngestionMemoryLimit() > 0 ? () -> killConsumptionTaskForNonCurrentVersions() : null)
         .build();
+
+    /**
+     * The snapshots are only transferred between storage nodes ingesting in process, since they are the ones which can
+     * find their peers in the customized view, and which own the storage engines they serve and restore.
+     */
+    boolean isBlobSnapshotTransferSupported =
+        !isDaVinciClient && !isIsolatedIngestion && serverConfig.getIngestionMode().equals(IngestionMode.BUILT_IN);
+    File blobSnapshotDir = new File(serverConfig.getDataBasePath(), BLOB_SNAPSHOT_DIR_NAME);
+    this.blobSnapshotManager = isBlobSnapshotTransferSupported && serverConfig.isBlobSnapshotServingEnabled()
+        ? new BlobSnapshotManager(
+            storageEngineRepository,
+            storageMetadataService,
+            new File(blobSnapshotDir, "outgoing").getAbsolutePath(),
+            serverConfig.getBlobSnapshotRetentionMs(),
+            serverConfig.getBlobSnapshotTransferMaxBytesPerSecond(),
+            SystemTime.INSTANCE)
+        : null;
+    this.blobSnapshotFetcher = isBlobSnapshotTransferSupported && serverConfig.isBlobSnapshotBootstrapEnabled()
+        && customizedViewFuture.isPresent()
+            ? new BlobSnapshotFetcher(
+                storageEngineRepository,
+                storageMetadataService,
+                sslFactory,
+                new File(blobSnapshotDir, "incoming").getAbsolutePath(),
+                serverConfig.getBlobSnapshotTransferMaxBytesPerSecond())
+            : null;
+    this.blobSnapshotBootstrapExecutorService = blobSnapshotFetcher != null
+        ? Executors.newCachedThreadPool(new DaemonThreadFactory("Venice-blob-snapshot-bootstrap"))
+        : null;
+    this.localNodeId = Utils.getHelixNodeIdentifier(serverConfig.getListenerHostname(), serverConfig.getListenerPort());
   }
 
   /**
@@ -605,6 +692,8 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
    */
   @Override
   public void stopInner() {
+    // Interrupts the pending downloads, which then skip subscribing their partitions as the service is stopping
+    shutdownExecutorService(blobSnapshotBootstrapExecutorService, "blobSnapshotBootstrapExecutorService", true);
     Utils.closeQuietlyWithErrorLogged(participantStoreConsumptionTask);
     shutdownExecutorService(participantStoreConsumerExecutorService, "participantStoreConsumerExecutorService", true);
 
@@ -614,8 +703,15 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
      */
     topicNameToIngestionTaskMap.values().forEach(StoreIngestionTask::close);
     shutdownExecutorService(ingestionExecutorService, "ingestionExecutorService", false);
+    /**
+     * Each ingestion task has issued its pending produce calls before closing its producers, see
+     * {@link LeaderFollowerStoreIngestionTask#closeVeniceWriters(boolean)}, so this is only left with the ones of the
+     * tasks which failed to stop in time.
+     */
+    shutdownExecutorService(leaderProduceExecutorService, "leaderProduceExecutorService", false);
 
     Utils.closeQuietlyWithErrorLogged(aggKafkaConsumerService);
+    Utils.closeQuietlyWithErrorLogged(cachedPubSubMetadataGetter);
 
     leaderFollowerNotifiers.forEach(VeniceNotifier::close);
     Utils.closeQuietlyWithErrorLogged(metaStoreWriter);
@@ -629,6 +725,12 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
     Utils.closeQuietlyWithErrorLogged(storeBufferService);
     Utils.closeQuietlyWithErrorLogged(topicManagerRepository);
     topicLockManager.removeAllLocks();
+    if (blobSnapshotManager != null) {
+      Utils.closeQuietlyWithErrorLogged(blobSnapshotManager);
+    }
+    if (blobSnapshotFetcher != null) {
+      Utils.closeQuietlyWithErrorLogged(blobSnapshotFetcher);
+    }
   }
 
   /**
@@ -644,6 +746,16 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
       int partitionId,
       Optional<LeaderFollowerStateType> leaderState) {
 
+    if (blobSnapshotFetcher != null && maybeBootstrapFromPeerSnapshot(veniceStore, partitionId, leaderState)) {
+      return;
+    }
+    subscribePartition(veniceStore, partitionId, leaderState);
+  }
+
+  private void subscribePartition(
+      VeniceStoreVersionConfig veniceStore,
+      int partitionId,
+      Optional<LeaderFollowerStateType> leaderState) {
     final String topic = veniceStore.getStoreVersionName();
 
     try (AutoCloseableLock ignore = topicLockManager.getLockForResource(topic)) {
@@ -724,6 +836,16 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
     final String topic = veniceStoreVersionConfig.getStoreVersionName();
 
     try (AutoCloseableLock ignore = topicLockManager.getLockForResource(topic)) {
+      PendingPeerSnapshotBootstrap pendingBootstrap = pendingPeerSnapshotBootstraps
+          .get(new PubSubTopicPartitionImpl(pubSubTopicRepository.getTopic(topic), partitionId));
+      if (pendingBootstrap != null) {
+        LOGGER.info(
+            "Deferring standby to leader transition of Topic {} Partition {} after bootstrap",
+            topic,
+            partitionId);
+        pendingBootstrap.leaderSessionIdChecker = checker;
+        return;
+      }
       StoreIngestionTask consumerTask = topicNameToIngestionTaskMap.get(topic);
       if (consumerTask != null && consumerTask.isRunning()) {
         consumerTask
@@ -742,6 +864,13 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
     final String topic = veniceStoreVersionConfig.getStoreVersionName();
 
     try (AutoCloseableLock ignore = topicLockManager.getLockForResource(topic)) {
+      PendingPeerSnapshotBootstrap pendingBootstrap = pendingPeerSnapshotBootstraps
+          .get(new PubSubTopicPartitionImpl(pubSubTopicRepository.getTopic(topic), partitionId));
+      if (pendingBootstrap != null) {
+        LOGGER.info("Dropping deferred leader transition of Topic {} Partition {}", topic, partitionId);
+        pendingBootstrap.leaderSessionIdChecker = null;
+        return;
+      }
       StoreIngestionTask consumerTask = topicNameToIngestionTaskMap.get(topic);
       if (consumerTask != null && consumerTask.isRunning()) {
         consumerTask
@@ -873,6 +1002,89 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
     return maxVersionNumber;
   }
 
+  /**
+   * Starts downloading a snapshot of the partition from a peer in {@link #blobSnapshotBootstrapExecutorService}, if
+   * the partition has nothing ingested locally and some peers are ready to serve it. The partition is subscribed once
+   * the download completes, or fails, in which case it falls back to consuming from the beginning.
+   *
+   * @return whether a download was started, in which case the partition must not be subscribed yet.
+   */
+  private boolean maybeBootstrapFromPeerSnapshot(
+      VeniceStoreVersionConfig veniceStore,
+      int partitionId,
+      Optional<LeaderFollowerStateType> leaderState) {
+    final String topic = veniceStore.getStoreVersionName();
+    final PubSubTopicPartition topicPartition =
+        new PubSubTopicPartitionImpl(pubSubTopicRepository.getTopic(topic), partitionId);
+    if (customizedViewRepository == null || isPartitionConsuming(topic, partitionId)) {
+      return false;
+    }
+    try {
+      OffsetRecord offsetRecord = storageMetadataService.getLastOffset(topic, partitionId);
+      if (offsetRecord.getLocalVersionTopicOffset() != OffsetRecord.LOWEST_OFFSET) {
+        return false;
+      }
+      List<String> peerUrls = new ArrayList<>();
+      for (Instance instance: customizedViewRepository.getReadyToServeInstances(topic, partitionId)) {
+        if (!instance.getNodeId().equals(localNodeId)) {
+          peerUrls.add(instance.getUrl(sslFactory.isPresent()));
+        }
+      }
+      if (peerUrls.isEmpty()) {
+        return false;
+      }
+      Collections.shuffle(peerUrls);
+      try (AutoCloseableLock ignore = topicLockManager.getLockForResource(topic)) {
+        if (pendingPeerSnapshotBootstraps.containsKey(topicPartition)) {
+          LOGGER.info("Partition: {} of: {} is already being bootstrapped from a peer snapshot", partitionId, topic);
+          return true;
+        }
+        PendingPeerSnapshotBootstrap pendingBootstrap = new PendingPeerSnapshotBootstrap();
+        // The download cannot complete before it is registered, since completing it takes the same lock
+        pendingBootstrap.future = blobSnapshotBootstrapExecutorService
+            .submit(() -> bootstrapFromPeerSnapshot(veniceStore, partitionId, leaderState, peerUrls));
+        pendingPeerSnapshotBootstraps.put(topicPartition, pendingBootstrap);
+      }
+      LOGGER.info("Started bootstrapping partition: {} of: {} from a peer snapshot", partitionId, topic);
+      return true;
+    } catch (Exception e) {
+      LOGGER.warn("Failed to bootstrap partition: {} of: {} from a peer snapshot", partitionId, topic, e);
+      return false;
+    }
+  }
+
+  private void bootstrapFromPeerSnapshot(
+      VeniceStoreVersionConfig veniceStore,
+      int partitionId,
+      Optional<LeaderFollowerStateType> leaderState,
+      List<String> peerUrls) {
+    final String topic = veniceStore.getStoreVersionName();
+    boolean bootstrapped = false;
+    try {
+      bootstrapped = blobSnapshotFetcher.bootstrapFromPeers(topic, partitionId, peerUrls);
+    } catch (Exception e) {
+      LOGGER.warn("Failed to bootstrap partition: {} of: {} from a peer snapshot", partitionId, topic, e);
+    }
+
+    try (AutoCloseableLock ignore = topicLockManager.getLockForResource(topic)) {
+      PendingPeerSnapshotBootstrap pendingBootstrap = pendingPeerSnapshotBootstraps
+          .remove(new PubSubTopicPartitionImpl(pubSubTopicRepository.getTopic(topic), partitionId));
+      if (pendingBootstrap == null || pendingBootstrap.future.isCancelled()) {
+        LOGGER.info("Skip subscribing partition: {} of: {} as it was stopped during bootstrap", partitionId, topic);
+        return;
+      }
+      if (!bootstrapped) {
+        LOGGER.info("Partition: {} of: {} falls back to consuming from the beginning", partitionId, topic);
+      }
+      subscribePartition(veniceStore, partitionId, leaderState);
+      if (pendingBootstrap.leaderSessionIdChecker != null) {
+        promoteToLeader(veniceStore, partitionId, pendingBootstrap.leaderSessionIdChecker);
+      }
+    } catch (Exception e) {
+      LOGGER.error("Failed to start consumption of partition: {} of: {} after bootstrap", partitionId, topic, e);
+    }
+  }
+
   /**
    * Stops consuming messages from Kafka Partition corresponding to Venice Partition.
    * @param veniceStore Venice Store for the partition.
@@ -883,6 +1095,14 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
     final String topic = veniceStore.getStoreVersionName();
 
     try (AutoCloseableLock ignore = topicLockManager.getLockForResource(topic)) {
+      PendingPeerSnapshotBootstrap pendingBootstrap = pendingPeerSnapshotBootstraps
+          .get(new PubSubTopicPartitionImpl(pubSubTopicRepository.getTopic(topic), partitionId));
+      if (pendingBootstrap != null) {
+        // The partition is not subscribed yet, so it is enough to make sure it never gets subscribed
+        LOGGER.info("Cancelling bootstrap from a peer snapshot of Topic {} Partition {}", topic, partitionId);
+        pendingBootstrap.future.cancel(true);
+        return CompletableFuture.completedFuture(null);
+      }
       StoreIngestionTask ingestionTask = topicNameToIngestionTaskMap.get(topic);
       if (ingestionTask != null && ingestionTask.isRunning()) {
         return ingestionTask
@@ -1054,6 +1274,11 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
   @Override
   public boolean isPartitionConsuming(String topic, int partitionId) {
     try (AutoCloseableLock ignore = topicLockManager.getLockForResource(topic)) {
+      // A cancelled download stays pending until it stops writing to the storage engine
+      if (pendingPeerSnapshotBootstraps
+          .containsKey(new PubSubTopicPartitionImpl(pubSubTopicRepository.getTopic(topic), partitionId))) {
+        return true;
+      }
       StoreIngestionTask ingestionTask = topicNameToIngestionTaskMap.get(topic);
       return ingestionTask != null && ingestionTask.isRunning()
           && ingestionTask.isPartitionConsumingOrHasPendingIngestionAction(partitionId);
@@ -1223,6 +1448,11 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
     return response;
   }
 
+  @Override
+  public Optional<BlobSnapshotManager> getBlobSnapshotManager() {
+    return Optional.ofNullable(blobSnapshotManager);
+  }
+
   /**
    * Return the metadata information for the given store. The data is retrieved from its respective repositories which
    * originate from the VeniceServer.
@@ -1408,4 +1638,13 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
   public KafkaValueSerializer getKafkaValueSerializer() {
     return kafkaValueSerializer;
   }
+
+  private static class PendingPeerSnapshotBootstrap {
+    private Future<?> future;
+    /**
+     * The checker of the standby to leader transition received during the download, if any, which is applied once the
+     * partition is subscribed.
+     */
+    private LeaderFollowerPartitionStateModel.LeaderSessionIdChecker leaderSessionIdChecker;
+  }
 }
@@ -87,6 +87,7 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -173,6 +174,12 @@ public class LeaderFollowerStoreIngestionTask extends StoreIngestionTask {
   protected final Int2ObjectMap<String> kafkaClusterIdToUrlMap;
   private long dataRecoveryCompletionTimeLagThresholdInMs = 0;
 
+  /**
+   * Runs the produce calls of the leaders when they are pipelined, null otherwise. The stores with views already chain
+   * their version topic writes after the view writes, so they are not pipelined.
+   */
+  private final LeaderProducePipeline leaderProducePipeline;
+
   protected final Map<String, VeniceViewWriter> viewWriters;
 
   protected final AvroStoreDeserializerCache storeDeserializerCache;
@@ -283,15 +290,37 @@ public class LeaderFollowerStoreIngestionTask extends StoreIngestionTask {
     } else {
       viewWriters = Collections.emptyMap();
     }
+    ExecutorService leaderProduceExecutor = builder.getLeaderProduceExecutor();
+    int leaderProducePipelineWindowSize = serverConfig.getLeaderProducePipelineWindowSize();
+    if (leaderProduceExecutor != null && leaderProducePipelineWindowSize > 0 && viewWriters.isEmpty()) {
+      this.leaderProducePipeline = new LeaderProducePipeline(
+          leaderProduceExecutor,
+          leaderProducePipelineWindowSize,
+          hostLevelIngestionStats,
+          (partition, e) -> {
+            LOGGER.error("Failed to produce to version topic: {} partition: {}", kafkaVersionTopic, partition, e);
+            setIngestionException(partition, e);
+          });
+    } else {
+      this.leaderProducePipeline = null;
+    }
     this.storeDeserializerCache = new AvroStoreDeserializerCache(
         builder.getSchemaRepo(),
         getStoreName(),
         serverConfig.isComputeFastAvroEnabled());
   }
 
+  /**
+   * When flushing, the pending produce calls of the leaders are issued before the writer is closed, otherwise they
+   * would fail against the closed producer. Without flushing, the writer is closed right away, since that is used to
+   * interrupt produce calls which are stuck.
+   */
   @Override
   public void closeVeniceWriters(boolean doFlush) {
     if (veniceWriter.isPresent()) {
+      if (doFlush && leaderProducePipeline != null) {
+        partitionConsumptionStateMap.values().forEach(leaderProducePipeline::waitForPendingProduceCalls);
+      }
       veniceWriter.get().close(doFlush);
     }
   }
@@ -1547,7 +1576,13 @@ public class LeaderFollowerStoreIngestionTask extends StoreIngestionTask {
     long sourceTopicOffset = consumerRecord.getOffset();
     LeaderMetadataWrapper leaderMetadataWrapper = new LeaderMetadataWrapper(sourceTopicOffset, kafkaClusterId);
     partitionConsumptionState.setLastLeaderPersistFuture(leaderProducedRecordContext.getPersistedToDBFuture());
-    produceFunction.accept(callback, leaderMetadataWrapper);
+    if (leaderProducePipeline != null) {
+      leaderProducePipeline.produce(partitionConsumptionState, leaderProducedRecordContext, () -> {
+        produceFunction.accept(callback, leaderMetadataWrapper);
+      });
+    } else {
+      produceFunction.accept(callback, leaderMetadataWrapper);
+    }
   }
 
   @Override
@@ -2039,15 +2074,23 @@ public class LeaderFollowerStoreIngestionTask extends StoreIngestionTask {
      */
     long producerTimeStamp =
         max(consumerRecord.getPubSubMessageTime(), consumerRecord.getValue().producerMetadata.messageTimestamp);
-    for (int subPartition: subPartitions) {
-      PubSubTopicPartition topicPartition = new PubSubTopicPartitionImpl(getVersionTopic(), subPartition);
-      sendIngestionHeartbeat(
-          topicPartition,
-          callback,
-          leaderMetadataWrapper,
-          true,
-          leaderCompleteState,
-          producerTimeStamp);
+    Runnable sendHeartbeats = () -> {
+      for (int subPartition: subPartitions) {
+        PubSubTopicPartition topicPartition = new PubSubTopicPartitionImpl(getVersionTopic(), subPartition);
+        sendIngestionHeartbeat(
+            topicPartition,
+            callback,
+            leaderMetadataWrapper,
+            true,
+            leaderCompleteState,
+            producerTimeStamp);
+      }
+    };
+    if (leaderProducePipeline != null) {
+      // The heartbeats must reach the version topic after the records still pending in the pipeline
+      leaderProducePipeline.produce(partitionConsumptionState, leaderProducedRecordContext, sendHeartbeats);
+    } else {
+      sendHeartbeats.run();
     }
   }
 
@@ -2758,8 +2801,12 @@ public class LeaderFollowerStoreIngestionTask extends StoreIngestionTask {
     }
 
     /**
-     * Leader of the user partition should close all subPartitions it is producing to.
+     * Leader of the user partition should close all subPartitions it is producing to, once the records still pending
+     * in the pipeline are produced, otherwise they would land after the end of the segment.
      */
+    if (leaderProducePipeline != null && veniceWriter.isPresent()) {
+      leaderProducePipeline.waitForPendingProduceCalls(partitionConsumptionState);
+    }
     veniceWriter.ifPresent(vw -> vw.closePartition(partitionId));
   }
 
@@ -0,0 +1,104 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import com.linkedin.davinci.stats.HostLevelIngestionStats;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.LatencyUtils;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.BiConsumer;
+
+
+/**
+ * This class hands the version topic produce calls of the leaders over to {@link #executor}, so that the consumer
+ * thread can process the next record while the current one is produced.
+ *
+ * The produce calls of a partition are chained on {@link PartitionConsumptionState#getLastVTProduceCallFuture()}, so
+ * they still reach the {@link com.linkedin.venice.writer.VeniceWriter}, which assigns the DIV sequence numbers, in the
+ * order the records are processed, and the producer callbacks, hence the persistence, follow that order too. Any other
+ * write of the leader to the version topic must either go through {@link #produce} as well, or happen after
+ * {@link #waitForPendingProduceCalls}.
+ *
+ * At most {@link #windowSize} produce calls of a partition are pending, beyond which the consumer thread waits for the
+ * previous ones. Once a produce call fails, the following ones of the partition fail too.
+ */
+class LeaderProducePipeline {
+  private final ExecutorService executor;
+  private final int windowSize;
+  private final HostLevelIngestionStats hostLevelIngestionStats;
+  private final BiConsumer<Integer, Exception> produceFailureHandler;
+
+  /**
+   * @param produceFailureHandler called with the partition and the exception of the first failed produce call of a
+   *                              partition.
+   */
+  LeaderProducePipeline(
+      ExecutorService executor,
+      int windowSize,
+      HostLevelIngestionStats hostLevelIngestionStats,
+      BiConsumer<Integer, Exception> produceFailureHandler) {
+    if (windowSize <= 0) {
+      throw new IllegalArgumentException("Param windowSize should be positive: " + windowSize);
+    }
+    this.executor = executor;
+    this.windowSize = windowSize;
+    this.hostLevelIngestionStats = hostLevelIngestionStats;
+    this.produceFailureHandler = produceFailureHandler;
+  }
+
+  /**
+   * Runs {@param produceCall} in {@link #executor} once the previous produce calls of the partition are done. If it
+   * fails, the persisted future of {@param leaderProducedRecordContext} is completed with the failure.
+   */
+  void produce(
+      PartitionConsumptionState partitionConsumptionState,
+      LeaderProducedRecordContext leaderProducedRecordContext,
+      Runnable produceCall) {
+    CompletableFuture<Void> lastProduceCallFuture = partitionConsumptionState.getLastVTProduceCallFuture();
+    if (partitionConsumptionState.getPendingVTProduceCallCount() >= windowSize) {
+      long waitStartTimeInNS = System.nanoTime();
+      waitFor(lastProduceCallFuture);
+      hostLevelIngestionStats.recordLeaderProducePipelineWaitLatency(LatencyUtils.getLatencyInMS(waitStartTimeInNS));
+    }
+    partitionConsumptionState.incrementPendingVTProduceCallCount();
+    CompletableFuture<Void> produceCallFuture = lastProduceCallFuture.handleAsync((ignored, previousException) -> {
+      try {
+        if (previousException != null) {
+          // Producing this record after a failed one would break the ordering, so fail it too
+          throw new VeniceException("Skipping produce call after a failed one", previousException);
+        }
+        produceCall.run();
+        return null;
+      } catch (Exception e) {
+        if (previousException == null) {
+          produceFailureHandler.accept(partitionConsumptionState.getPartition(), e);
+        }
+        if (leaderProducedRecordContext != null) {
+          leaderProducedRecordContext.completePersistedToDBFuture(e);
+        }
+        throw e instanceof VeniceException ? (VeniceException) e : new VeniceException(e);
+      } finally {
+        partitionConsumptionState.decrementPendingVTProduceCallCount();
+      }
+    }, executor);
+    partitionConsumptionState.setLastVTProduceCallFuture(produceCallFuture);
+  }
+
+  /**
+   * Waits until the pending produce calls of the partition are done, whether they succeed or not.
+   */
+  void waitForPendingProduceCalls(PartitionConsumptionState partitionConsumptionState) {
+    waitFor(partitionConsumptionState.getLastVTProduceCallFuture());
+  }
+
+  private static void waitFor(CompletableFuture<Void> produceCallFuture) {
+    try {
+      produceCallFuture.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new VeniceException("Interrupted while waiting for the pending produce calls", e);
+    } catch (ExecutionException e) {
+      // The failure was already reported on the partition, and the following produce calls will fail as well
+    }
+  }
+}
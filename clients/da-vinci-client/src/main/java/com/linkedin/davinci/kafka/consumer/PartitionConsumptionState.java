@@ -24,6 +24,8 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.avro.generic.GenericRecord;
 
 
@@ -31,6 +33,12 @@ import org.apache.avro.generic.GenericRecord;
  * This class is used to maintain internal state for consumption of each partition.
  */
 public class PartitionConsumptionState {
+  /**
+   * The estimated size of a {@link TransientRecord} with its {@link ByteArrayKey} and its map entry, besides the key
+   * and value bytes.
+   */
+  static final int TRANSIENT_RECORD_OVERHEAD_IN_BYTES = 128;
+
   private final int partition;
   private final int amplificationFactor;
   private final int userPartition;
@@ -46,11 +54,16 @@ public class PartitionConsumptionState {
   private boolean errorReported;
   private boolean lagCaughtUp;
   private boolean completionReported;
-  private boolean isSubscribed;
+  private volatile boolean isSubscribed;
   private boolean isDataRecoveryCompleted;
   private LeaderFollowerStateType leaderFollowerState;
 
   private CompletableFuture<Void> lastVTProduceCallFuture;
+  /**
+   * The number of produce calls chained on {@link #lastVTProduceCallFuture} which have not run yet, when the leader
+   * produce is pipelined.
+   */
+  private final AtomicInteger pendingVTProduceCallCount = new AtomicInteger();
 
   /**
    * Only used in L/F model. Check if the partition has released the latch.
@@ -109,6 +122,13 @@ public class PartitionConsumptionState {
    */
   private final ConcurrentMap<ByteArrayKey, TransientRecord> transientRecordMap = new VeniceConcurrentHashMap<>();
 
+  /**
+   * The estimated memory held by {@link #transientRecordMap}, which is also reserved in
+   * {@link #transientRecordBufferLimiter}, if any, while this partition is subscribed.
+   */
+  private final AtomicLong transientRecordBufferSizeInBytes = new AtomicLong();
+  private TransientRecordBufferLimiter transientRecordBufferLimiter;
+
   /**
    * In-memory hash set which keeps track of all previous status this sub-partition has reported. It is the in-memory
    * cache of the previousStatuses field in {@link com.linkedin.venice.kafka.protocol.state.PartitionState} inside
@@ -261,6 +281,18 @@ public class PartitionConsumptionState {
     this.lastVTProduceCallFuture = lastVTProduceCallFuture;
   }
 
+  public int getPendingVTProduceCallCount() {
+    return pendingVTProduceCallCount.get();
+  }
+
+  public void incrementPendingVTProduceCallCount() {
+    pendingVTProduceCallCount.incrementAndGet();
+  }
+
+  public void decrementPendingVTProduceCallCount() {
+    pendingVTProduceCallCount.decrementAndGet();
+  }
+
   public int getUserPartition() {
     return userPartition;
   }
@@ -313,8 +345,12 @@ public class PartitionConsumptionState {
     return isSubscribed;
   }
 
+  /**
+   * The drainer skips the records of an unsubscribed partition, so its transient records would never be removed.
+   */
   public void unsubscribe() {
     this.isSubscribed = false;
+    clearTransientRecords();
   }
 
   public boolean isLatchReleased() {
@@ -524,8 +560,22 @@ public class PartitionConsumptionState {
     if (replicationMetadataRecord != null) {
       transientRecord.setReplicationMetadataRecord(replicationMetadataRecord);
     }
+    transientRecord.sizeInBytes = key.length + Math.max(valueLen, 0) + TRANSIENT_RECORD_OVERHEAD_IN_BYTES;
+    if (transientRecordBufferLimiter != null) {
+      // This blocks the consumer thread while the transient records of the host take too much memory
+      transientRecordBufferLimiter.acquire(transientRecord.sizeInBytes);
+    }
+    transientRecordBufferSizeInBytes.addAndGet(transientRecord.sizeInBytes);
 
-    transientRecordMap.put(ByteArrayKey.wrap(key), transientRecord);
+    ByteArrayKey transientRecordKey = ByteArrayKey.wrap(key);
+    TransientRecord previousRecord = transientRecordMap.put(transientRecordKey, transientRecord);
+    if (previousRecord != null) {
+      releaseTransientRecord(previousRecord);
+    }
+    // The partition might have been unsubscribed concurrently, after which nothing would remove this record
+    if (!isSubscribed && transientRecordMap.remove(transientRecordKey, transientRecord)) {
+      releaseTransientRecord(transientRecord);
+    }
   }
 
   public TransientRecord getTransientRecord(byte[] key) {
@@ -543,6 +593,7 @@ public class PartitionConsumptionState {
   public TransientRecord mayRemoveTransientRecord(int kafkaClusterId, long kafkaConsumedOffset, byte[] key) {
     TransientRecord removed = transientRecordMap.computeIfPresent(ByteArrayKey.wrap(key), (k, v) -> {
       if (v.kafkaClusterId == kafkaClusterId && v.kafkaConsumedOffset == kafkaConsumedOffset) {
+        releaseTransientRecord(v);
         return null;
       } else {
         return v;
@@ -567,10 +618,39 @@ public class PartitionConsumptionState {
     return new PubSubTopicPartitionImpl(topic, getSourceTopicPartitionNumber(topic));
   }
 
+  /**
+   * Releases the memory of all the transient records, once this state is discarded.
+   */
+  public void clearTransientRecords() {
+    for (Map.Entry<ByteArrayKey, TransientRecord> entry: transientRecordMap.entrySet()) {
+      if (transientRecordMap.remove(entry.getKey(), entry.getValue())) {
+        releaseTransientRecord(entry.getValue());
+      }
+    }
+  }
+
+  private void releaseTransientRecord(TransientRecord transientRecord) {
+    transientRecordBufferSizeInBytes.addAndGet(-transientRecord.sizeInBytes);
+    if (transientRecordBufferLimiter != null) {
+      transientRecordBufferLimiter.release(transientRecord.sizeInBytes);
+    }
+  }
+
   public int getTransientRecordMapSize() {
     return transientRecordMap.size();
   }
 
+  public long getTransientRecordBufferSizeInBytes() {
+    return transientRecordBufferSizeInBytes.get();
+  }
+
+  /**
+   * Must be set before any transient record is buffered, so that they are all released into the same limiter.
+   */
+  public void setTransientRecordBufferLimiter(TransientRecordBufferLimiter transientRecordBufferLimiter) {
+    this.transientRecordBufferLimiter = transientRecordBufferLimiter;
+  }
+
   public void recordSubPartitionStatus(String subPartitionStatus) {
     if (this.getOffsetRecord() != null) {
       this.getOffsetRecord().recordSubPartitionStatus(subPartitionStatus);
@@ -601,6 +681,8 @@ public class PartitionConsumptionState {
 
     private ChunkedValueManifest valueManifest;
     private ChunkedValueManifest rmdManifest;
+    // The memory accounted for this record in the transient record buffer, excluding the replication metadata
+    private int sizeInBytes;
 
     public TransientRecord(
         byte[] value,
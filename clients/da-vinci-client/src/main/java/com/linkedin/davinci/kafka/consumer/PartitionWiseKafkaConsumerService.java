@@ -24,7 +24,9 @@ import org.apache.logging.log4j.Logger;
  * One shared consumer may have multiple topics, and each topic may have multiple consumers.
  *
  * For this basic implementation, we rely on round-robin to allocate next consumer from pool to achieve efficient
- * and balanced shared consumer partition assignment load. We can improve this allocation strategy if we need to.
+ * and balanced shared consumer partition assignment load. When the throughput-aware assignment is enabled, the least
+ * loaded consumer is picked instead, and hot partitions can later be moved to another consumer, see
+ * {@link KafkaConsumerService#rebalanceConsumerLoad()}.
  */
 public class PartitionWiseKafkaConsumerService extends KafkaConsumerService {
   /**
@@ -80,6 +82,9 @@ public class PartitionWiseKafkaConsumerService extends KafkaConsumerService {
   protected synchronized SharedKafkaConsumer pickConsumerForPartition(
       PubSubTopic versionTopic,
       PubSubTopicPartition topicPartition) {
+    if (isThroughputAwareAssignmentEnabled()) {
+      return pickLeastLoadedConsumerForPartition(versionTopic, topicPartition);
+    }
     // Basic case, round-robin search to find next consumer for this partition.
     boolean seekNewConsumer = true;
     int consumerIndex = -1;
@@ -133,6 +138,42 @@ public class PartitionWiseKafkaConsumerService extends KafkaConsumerService {
     return consumer;
   }
 
+  private SharedKafkaConsumer pickLeastLoadedConsumerForPartition(
+      PubSubTopic versionTopic,
+      PubSubTopicPartition topicPartition) {
+    SharedKafkaConsumer chosenConsumer = null;
+    double minLoad = Double.MAX_VALUE;
+    for (SharedKafkaConsumer consumer: consumerToConsumptionTask.keySet()) {
+      if (topicPartition.getPubSubTopic().isRealTime()
+          && alreadySubscribedRealtimeTopicPartition(consumer, topicPartition)) {
+        continue;
+      }
+      double load = getEstimatedConsumerLoad(consumer);
+      if (chosenConsumer == null || load < minLoad
+          || load == minLoad && consumer.getAssignmentSize() < chosenConsumer.getAssignmentSize()) {
+        chosenConsumer = consumer;
+        minLoad = load;
+      }
+    }
+    if (chosenConsumer == null) {
+      throw new VeniceException(
+          "Can not find consumer for topic: " + topicPartition.getPubSubTopic().getName() + " and partition: "
+              + topicPartition.getPartitionNumber() + " from the ingestion task belonging to version topic: "
+              + versionTopic);
+    }
+    if (topicPartition.getPubSubTopic().isRealTime()) {
+      rtTopicPartitionToConsumerMap.computeIfAbsent(topicPartition, key -> new HashSet<>()).add(chosenConsumer);
+    }
+    LOGGER.info(
+        "Get least loaded shared consumer for: {} from the ingestion task belonging to version topic: {} with index: {}"
+            + " and an estimated load of {} bytes/sec",
+        topicPartition,
+        versionTopic,
+        consumerToConsumptionTask.indexOf(chosenConsumer),
+        minLoad);
+    return chosenConsumer;
+  }
+
   private boolean alreadySubscribedRealtimeTopicPartition(
       SharedKafkaConsumer consumer,
       PubSubTopicPartition topicPartition) {
@@ -149,4 +190,17 @@ public class PartitionWiseKafkaConsumerService extends KafkaConsumerService {
       }
     }
   }
+
+  @Override
+  synchronized boolean canMigratePartitionTo(SharedKafkaConsumer consumer, PubSubTopicPartition topicPartition) {
+    return !topicPartition.getPubSubTopic().isRealTime()
+        || !alreadySubscribedRealtimeTopicPartition(consumer, topicPartition);
+  }
+
+  @Override
+  synchronized void handlePartitionMigration(SharedKafkaConsumer consumer, PubSubTopicPartition topicPartition) {
+    if (topicPartition.getPubSubTopic().isRealTime()) {
+      rtTopicPartitionToConsumerMap.computeIfAbsent(topicPartition, key -> new HashSet<>()).add(consumer);
+    }
+  }
 }
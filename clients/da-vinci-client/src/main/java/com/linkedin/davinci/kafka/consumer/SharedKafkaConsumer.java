@@ -70,6 +70,12 @@ class SharedKafkaConsumer implements PubSubConsumerAdapter {
   private final VeniceConcurrentHashMap<PubSubTopicPartition, PubSubTopic> subscribedTopicPartitionToVersionTopic =
       new VeniceConcurrentHashMap();
 
+  /**
+   * The topic-partitions paused by the ingestion tasks, which {@link KafkaConsumerService} must not move to another
+   * consumer since they would be resumed in the process.
+   */
+  private final Set<PubSubTopicPartition> pausedTopicPartitions = VeniceConcurrentHashMap.newKeySet();
+
   /**
    * This cached assignment is for performance optimization purpose since {@link #hasSubscription} could be invoked frequently.
    * This set should be unmodifiable.
@@ -154,6 +160,7 @@ class SharedKafkaConsumer implements PubSubConsumerAdapter {
     unSubscribeAction(() -> {
       this.delegate.unSubscribe(pubSubTopicPartition);
       subscribedTopicPartitionToVersionTopic.remove(pubSubTopicPartition);
+      pausedTopicPartitions.remove(pubSubTopicPartition);
       unsubscriptionListener.call(this, pubSubTopicPartition);
       return 1;
     });
@@ -165,6 +172,7 @@ class SharedKafkaConsumer implements PubSubConsumerAdapter {
       this.delegate.batchUnsubscribe(pubSubTopicPartitionSet);
       for (PubSubTopicPartition pubSubTopicPartition: pubSubTopicPartitionSet) {
         subscribedTopicPartitionToVersionTopic.remove(pubSubTopicPartition);
+        pausedTopicPartitions.remove(pubSubTopicPartition);
         unsubscriptionListener.call(this, pubSubTopicPartition);
       }
       return pubSubTopicPartitionSet.size();
@@ -192,7 +200,17 @@ class SharedKafkaConsumer implements PubSubConsumerAdapter {
     waitAfterUnsubscribe(currentPollTimes);
   }
 
-  protected void waitAfterUnsubscribe(long currentPollTimes) {
+  /**
+   * Waits for the next {@link #poll(long)}, which means that the records polled before have been handed over to the
+   * data receivers, see {@link #unSubscribe(PubSubTopicPartition)}.
+   *
+   * @return whether the next poll happened before the timeout
+   */
+  synchronized boolean waitForNextPoll() {
+    return waitAfterUnsubscribe(pollTimes);
+  }
+
+  protected boolean waitAfterUnsubscribe(long currentPollTimes) {
     currentPollTimes++;
     waitingForPoll.set(true);
     // Wait for the next poll or maximum 10 seconds. Interestingly wait api does not provide any indication if wait
@@ -203,14 +221,15 @@ class SharedKafkaConsumer implements PubSubConsumerAdapter {
       while (currentPollTimes > pollTimes) {
         long waitMs = timeoutMs - (time.getNanoseconds() / Time.NS_PER_MS);
         if (waitMs <= 0) {
-          break;
+          return false;
         }
         wait(waitMs);
       }
-      // no action to take actually, just return;
+      return true;
     } catch (InterruptedException e) {
       LOGGER.info("Wait for poll request in `unsubscribe` function got interrupted.");
       Thread.currentThread().interrupt();
+      return false;
     }
   }
 
@@ -270,11 +289,17 @@ class SharedKafkaConsumer implements PubSubConsumerAdapter {
   @Override
   public synchronized void pause(PubSubTopicPartition pubSubTopicPartition) {
     this.delegate.pause(pubSubTopicPartition);
+    pausedTopicPartitions.add(pubSubTopicPartition);
   }
 
   @Override
   public synchronized void resume(PubSubTopicPartition pubSubTopicPartition) {
     this.delegate.resume(pubSubTopicPartition);
+    pausedTopicPartitions.remove(pubSubTopicPartition);
+  }
+
+  boolean isPaused(PubSubTopicPartition pubSubTopicPartition) {
+    return pausedTopicPartitions.contains(pubSubTopicPartition);
   }
 
   @Override
@@ -89,6 +89,7 @@ import com.linkedin.venice.utils.PartitionUtils;
 import com.linkedin.venice.utils.RedundantExceptionFilter;
 import com.linkedin.venice.utils.SparseConcurrentList;
 import com.linkedin.venice.utils.Timer;
+import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import com.linkedin.venice.utils.lazy.Lazy;
@@ -186,9 +187,13 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
   protected final StorageMetadataService storageMetadataService;
   protected final TopicManagerRepository topicManagerRepository;
   protected final CachedPubSubMetadataGetter cachedPubSubMetadataGetter;
+  // Whether the getter was created by this task rather than shared by the ingestion service, and so must be closed
+  private final boolean ownsCachedPubSubMetadataGetter;
   /** Per-partition consumption state map */
   protected final ConcurrentMap<Integer, PartitionConsumptionState> partitionConsumptionStateMap;
   protected final AbstractStoreBufferService storeBufferService;
+  /** Bounds the memory of the transient records of the whole host, or null if unbounded */
+  private final TransientRecordBufferLimiter transientRecordBufferLimiter;
 
   /**
    * Persists partitions that encountered exceptions in other threads. i.e. consumer, producer and drainer.
@@ -363,7 +368,10 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
         builder.getServerConfig().getDivProducerStateMaxAgeMs());
     this.consumerTaskId = String.format(CONSUMER_TASK_ID_FORMAT, kafkaVersionTopic);
     this.topicManagerRepository = builder.getTopicManagerRepository();
-    this.cachedPubSubMetadataGetter = new CachedPubSubMetadataGetter(storeConfig.getTopicOffsetCheckIntervalMs());
+    this.ownsCachedPubSubMetadataGetter = builder.getCachedPubSubMetadataGetter() == null;
+    this.cachedPubSubMetadataGetter = ownsCachedPubSubMetadataGetter
+        ? new CachedPubSubMetadataGetter(storeConfig.getTopicOffsetCheckIntervalMs())
+        : builder.getCachedPubSubMetadataGetter();
 
     this.hostLevelIngestionStats = builder.getIngestionStats().getStoreStats(storeName);
     this.versionedDIVStats = builder.getVersionedDIVStats();
@@ -373,6 +381,7 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     this.readOnlyForBatchOnlyStoreEnabled = storeConfig.isReadOnlyForBatchOnlyStoreEnabled();
 
     this.storeBufferService = builder.getStoreBufferService();
+    this.transientRecordBufferLimiter = builder.getTransientRecordBufferLimiter();
     this.isCurrentVersion = isCurrentVersion;
     this.hybridStoreConfig = Optional.ofNullable(
         version.isUseVersionLevelHybridConfig() ? version.getHybridStoreConfig() : store.getHybridStoreConfig());
@@ -1504,16 +1513,17 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     // Unsubscribe any topic partitions related to this version topic from the shared consumer.
     aggKafkaConsumerService.unsubscribeAll(versionTopic);
     LOGGER.info("Detached Kafka consumer(s) for version topic: {}", kafkaVersionTopic);
+    // The writers are closed before the partition consumption states are cleared, as they wait for their pending writes
     try {
-      partitionConsumptionStateMap.values().parallelStream().forEach(PartitionConsumptionState::unsubscribe);
-      partitionConsumptionStateMap.clear();
+      closeVeniceWriters(doFlush);
     } catch (Exception e) {
-      LOGGER.error("{} Error while unsubscribing topic.", consumerTaskId, e);
+      LOGGER.error("Error while closing venice writers", e);
     }
     try {
-      closeVeniceWriters(doFlush);
+      partitionConsumptionStateMap.values().parallelStream().forEach(PartitionConsumptionState::unsubscribe);
+      partitionConsumptionStateMap.clear();
     } catch (Exception e) {
-      LOGGER.error("Error while closing venice writers", e);
+      LOGGER.error("{} Error while unsubscribing topic.", consumerTaskId, e);
     }
 
     try {
@@ -1522,6 +1532,10 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
       LOGGER.error("Error while closing venice view writer", e);
     }
 
+    if (ownsCachedPubSubMetadataGetter) {
+      Utils.closeQuietlyWithErrorLogged(cachedPubSubMetadataGetter);
+    }
+
     close();
 
     synchronized (this) {
@@ -1749,6 +1763,7 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
         PartitionConsumptionState newPartitionConsumptionState =
             new PartitionConsumptionState(partition, amplificationFactor, offsetRecord, hybridStoreConfig.isPresent());
         newPartitionConsumptionState.setLeaderFollowerState(leaderState);
+        newPartitionConsumptionState.setTransientRecordBufferLimiter(transientRecordBufferLimiter);
 
         partitionConsumptionStateMap.put(partition, newPartitionConsumptionState);
         kafkaDataIntegrityValidator.setPartitionState(partition, offsetRecord);
@@ -1895,13 +1910,14 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
             consumerTaskId,
             topicPartition);
       }
-      partitionConsumptionStateMap.put(
+      PartitionConsumptionState newPartitionConsumptionState = new PartitionConsumptionState(
           partition,
-          new PartitionConsumptionState(
-              partition,
-              amplificationFactor,
-              new OffsetRecord(partitionStateSerializer),
-              hybridStoreConfig.isPresent()));
+          amplificationFactor,
+          new OffsetRecord(partitionStateSerializer),
+          hybridStoreConfig.isPresent());
+      newPartitionConsumptionState.setTransientRecordBufferLimiter(transientRecordBufferLimiter);
+      partitionConsumptionStateMap.put(partition, newPartitionConsumptionState);
+      partitionConsumptionState.clearTransientRecords();
       storageUtilizationManager.initPartition(partition);
       // Reset the error partition tracking
       partitionIngestionExceptionList.set(partition, null);
@@ -3760,6 +3776,17 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     return kafkaVersionTopic;
   }
 
+  /**
+   * @return the estimated memory held by the transient records of all the partitions of this task
+   */
+  public long getTransientRecordBufferSizeInBytes() {
+    long sizeInBytes = 0;
+    for (PartitionConsumptionState partitionConsumptionState: partitionConsumptionStateMap.values()) {
+      sizeInBytes += partitionConsumptionState.getTransientRecordBufferSizeInBytes();
+    }
+    return sizeInBytes;
+  }
+
   public boolean isStuckByMemoryConstraint() {
     for (PartitionExceptionInfo ex: partitionIngestionExceptionList) {
       if (ex == null) {
@@ -25,6 +25,7 @@ import com.linkedin.venice.writer.VeniceWriterFactory;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Queue;
+import java.util.concurrent.ExecutorService;
 import java.util.function.BooleanSupplier;
 
 
@@ -99,6 +100,8 @@ public class StoreIngestionTaskFactory {
     private AggVersionedDIVStats versionedDIVStats;
     private AggVersionedIngestionStats versionedStorageIngestionStats;
     private AbstractStoreBufferService storeBufferService;
+    private TransientRecordBufferLimiter transientRecordBufferLimiter;
+    private ExecutorService leaderProduceExecutor;
     private VeniceServerConfig serverConfig;
     private DiskUsage diskUsage;
     private AggKafkaConsumerService aggKafkaConsumerService;
@@ -110,6 +113,7 @@ public class StoreIngestionTaskFactory {
     private StorageEngineBackedCompressorFactory compressorFactory;
     private PubSubTopicRepository pubSubTopicRepository;
     private Runnable runnableForKillIngestionTasksForNonCurrentVersions;
+    private CachedPubSubMetadataGetter cachedPubSubMetadataGetter;
 
     private interface Setter {
       void apply();
@@ -240,6 +244,22 @@ public class StoreIngestionTaskFactory {
       return set(() -> this.storeBufferService = storeBufferService);
     }
 
+    public TransientRecordBufferLimiter getTransientRecordBufferLimiter() {
+      return transientRecordBufferLimiter;
+    }
+
+    public Builder setTransientRecordBufferLimiter(TransientRecordBufferLimiter transientRecordBufferLimiter) {
+      return set(() -> this.transientRecordBufferLimiter = transientRecordBufferLimiter);
+    }
+
+    public ExecutorService getLeaderProduceExecutor() {
+      return leaderProduceExecutor;
+    }
+
+    public Builder setLeaderProduceExecutor(ExecutorService leaderProduceExecutor) {
+      return set(() -> this.leaderProduceExecutor = leaderProduceExecutor);
+    }
+
     public VeniceServerConfig getServerConfig() {
       return serverConfig;
     }
@@ -312,5 +332,17 @@ public class StoreIngestionTaskFactory {
     public Builder setRunnableForKillIngestionTasksForNonCurrentVersions(Runnable runnable) {
       return set(() -> this.runnableForKillIngestionTasksForNonCurrentVersions = runnable);
     }
+
+    CachedPubSubMetadataGetter getCachedPubSubMetadataGetter() {
+      return cachedPubSubMetadataGetter;
+    }
+
+    /**
+     * Shared by all the ingestion tasks, so that their pub-sub metadata requests get coalesced. If it is not set, each
+     * ingestion task uses its own instance.
+     */
+    Builder setCachedPubSubMetadataGetter(CachedPubSubMetadataGetter cachedPubSubMetadataGetter) {
+      return set(() -> this.cachedPubSubMetadataGetter = cachedPubSubMetadataGetter);
+    }
   }
 }
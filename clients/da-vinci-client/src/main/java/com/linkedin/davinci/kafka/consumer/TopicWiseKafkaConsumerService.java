@@ -22,7 +22,9 @@ import org.apache.logging.log4j.Logger;
  * {@link TopicWiseKafkaConsumerService} is used to allocate share consumer from consumer pool at topic granularity.
  * One shared consumer may have multiple topics, while each topic can only take one consumer at most. All the partitions
  * from same topic will always be subscribed in the chosen consumer. Before consumer assignment happen, the consumer
- * with least partitions subscribed will be chosen ideally.
+ * with least partitions subscribed will be chosen ideally, or the one with the least throughput when the
+ * throughput-aware assignment is enabled. Since all the partitions of a topic have to stay on the same consumer, they
+ * are never moved to another consumer after the fact.
  */
 public class TopicWiseKafkaConsumerService extends KafkaConsumerService {
   /**
@@ -94,6 +96,7 @@ public class TopicWiseKafkaConsumerService extends KafkaConsumerService {
 
       boolean freshConsumer = false;
       int minAssignmentPerConsumer = Integer.MAX_VALUE;
+      double minLoadPerConsumer = Double.MAX_VALUE;
       for (SharedKafkaConsumer consumer: consumerToConsumptionTask.keySet()) {
         /**
          * A Venice server host may consume from 2 version topics that belongs to the same store because each store has 2
@@ -114,9 +117,16 @@ public class TopicWiseKafkaConsumerService extends KafkaConsumerService {
           break;
         }
 
-        // Find the least loaded consumer by partitions
+        // Find the least loaded consumer by throughput if measured, or else by partitions
         final int assignedPartitions = consumer.getAssignmentSize();
-        if (assignedPartitions < minAssignmentPerConsumer) {
+        if (isThroughputAwareAssignmentEnabled()) {
+          final double load = getEstimatedConsumerLoad(consumer);
+          if (load < minLoadPerConsumer) {
+            minLoadPerConsumer = load;
+            minAssignmentPerConsumer = assignedPartitions;
+            chosenConsumer = consumer;
+          }
+        } else if (assignedPartitions < minAssignmentPerConsumer) {
           minAssignmentPerConsumer = assignedPartitions;
           chosenConsumer = consumer;
         }
@@ -0,0 +1,118 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import com.linkedin.davinci.stats.HostLevelIngestionStats;
+import com.linkedin.venice.utils.LatencyUtils;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * This class bounds the memory held by the {@link PartitionConsumptionState.TransientRecord}s of all the partitions
+ * of this host.
+ *
+ * The transient records of a leader partition are only removed once the records produced to the version topic are
+ * persisted, so they pile up whenever the producer slows down, e.g. when the brokers throttle it. None of them can be
+ * evicted, since the following writes to the same keys need the latest values and replication metadata, which are not
+ * in the storage engine yet. Instead, the consumer thread buffering a transient record waits for the buffer to have
+ * enough memory, which applies backpressure to the consumption of the leader.
+ *
+ * The wait is bounded by {@link #maxWaitTimeMs}: once it elapses, the record is buffered anyway, so that a transient
+ * record which never gets removed cannot stall the ingestion of the whole host.
+ *
+ * Like {@link MemoryBoundBlockingQueue}, the buffer admits a record bigger than its capacity when it is empty.
+ */
+public class TransientRecordBufferLimiter {
+  private static final Logger LOGGER = LogManager.getLogger(TransientRecordBufferLimiter.class);
+
+  private final long memoryCapacityInBytes;
+  private final long maxWaitTimeMs;
+  private final HostLevelIngestionStats totalStats;
+  private final AtomicLong memoryUsageInBytes = new AtomicLong();
+  // Lets the releasing threads skip the lock when nobody waits, which is the common case
+  private final AtomicInteger waitingThreadCount = new AtomicInteger();
+  private final Lock lock = new ReentrantLock();
+  private final Condition hasEnoughMemory = lock.newCondition();
+
+  public TransientRecordBufferLimiter(
+      long memoryCapacityInBytes,
+      long maxWaitTimeMs,
+      HostLevelIngestionStats totalStats) {
+    if (memoryCapacityInBytes <= 0) {
+      throw new IllegalArgumentException("Param memoryCapacityInBytes should be positive: " + memoryCapacityInBytes);
+    }
+    this.memoryCapacityInBytes = memoryCapacityInBytes;
+    this.maxWaitTimeMs = maxWaitTimeMs;
+    this.totalStats = totalStats;
+  }
+
+  /**
+   * Reserves memory for a new transient record, waiting up to {@link #maxWaitTimeMs} for other records to release it.
+   */
+  public void acquire(int sizeInBytes) {
+    if (tryAcquire(sizeInBytes)) {
+      return;
+    }
+    long startTimeInNS = System.nanoTime();
+    boolean acquired = false;
+    waitingThreadCount.incrementAndGet();
+    lock.lock();
+    try {
+      long remainingWaitTimeInNS = TimeUnit.MILLISECONDS.toNanos(maxWaitTimeMs);
+      while (!(acquired = tryAcquire(sizeInBytes)) && remainingWaitTimeInNS > 0) {
+        remainingWaitTimeInNS = hasEnoughMemory.awaitNanos(remainingWaitTimeInNS);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      lock.unlock();
+      waitingThreadCount.decrementAndGet();
+    }
+    if (!acquired) {
+      memoryUsageInBytes.addAndGet(sizeInBytes);
+      totalStats.recordTransientRecordBufferWaitTimeout();
+      LOGGER.debug(
+          "Buffering a transient record of {} bytes beyond the capacity of {} bytes after waiting for {} ms",
+          sizeInBytes,
+          memoryCapacityInBytes,
+          maxWaitTimeMs);
+    }
+    totalStats.recordTransientRecordBufferWaitLatency(LatencyUtils.getLatencyInMS(startTimeInNS));
+  }
+
+  private boolean tryAcquire(int sizeInBytes) {
+    long currentUsage;
+    do {
+      currentUsage = memoryUsageInBytes.get();
+      if (currentUsage > 0 && currentUsage + sizeInBytes > memoryCapacityInBytes) {
+        return false;
+      }
+    } while (!memoryUsageInBytes.compareAndSet(currentUsage, currentUsage + sizeInBytes));
+    return true;
+  }
+
+  public void release(int sizeInBytes) {
+    memoryUsageInBytes.addAndGet(-sizeInBytes);
+    /**
+     * A waiting thread increments {@link #waitingThreadCount} before checking the memory usage under the lock, so it
+     * either sees the memory released above, or it is signaled below once it awaits.
+     */
+    if (waitingThreadCount.get() > 0) {
+      lock.lock();
+      try {
+        hasEnoughMemory.signalAll();
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  public long getMemoryUsageInBytes() {
+    return memoryUsageInBytes.get();
+  }
+}
@@ -200,6 +200,30 @@ public abstract class ReadResponse {
     return countOperatorCount;
   }
 
+  /**
+   * Restore the default value of all the fields, so that the responses which are pooled can be reused.
+   */
+  protected void reset() {
+    databaseLookupLatency = -1;
+    readComputeLatency = -1;
+    readComputeDeserializationLatency = -1;
+    readComputeSerializationLatency = -1;
+    storageExecutionSubmissionWaitTime = 0;
+    storageExecutionQueueLen = -1;
+    multiChunkLargeValueCount = 0;
+    compressionStrategy = CompressionStrategy.NO_OP;
+    isStreamingResponse = false;
+    keySizeList = null;
+    valueSizeList = null;
+    valueSize = 0;
+    readComputeOutputSize = 0;
+    dotProductCount = 0;
+    cosineSimilarityCount = 0;
+    hadamardProductCount = 0;
+    countOperatorCount = 0;
+    rcu = 0;
+  }
+
   public abstract int getRecordCount();
 
   public abstract ByteBuf getResponseBody();
@@ -74,6 +74,8 @@ public class HostLevelIngestionStats extends AbstractVeniceStats {
   private long diskQuotaAllowedGauge;
   // Measure the avg/max time we need to spend on waiting for the leader producer
   private final Sensor leaderProducerSynchronizeLatencySensor;
+  // Measure the avg/max time the consumer thread waits for the pending produce calls of a pipelined leader
+  private final Sensor leaderProducePipelineWaitLatencySensor;
   // Measure the avg/max latency for data lookup and deserialization
   private final Sensor leaderWriteComputeLookUpLatencySensor;
   // Measure the avg/max latency for the actual write computation
@@ -138,6 +140,17 @@ public class HostLevelIngestionStats extends AbstractVeniceStats {
    */
   private final LongAdderRateGauge totalTombstoneCreationDCRRate;
 
+  /**
+   * Measure the time consumer threads wait for the host-level transient record buffer to have enough memory, see
+   * {@link com.linkedin.davinci.kafka.consumer.TransientRecordBufferLimiter}
+   */
+  private final Sensor transientRecordBufferWaitLatencySensor;
+
+  /**
+   * Measure the count of transient records buffered beyond the capacity after waiting for the max wait time
+   */
+  private final LongAdderRateGauge totalTransientRecordBufferWaitTimeoutRate;
+
   /**
    * Measure the number of time request based metadata endpoint was invoked
    */
@@ -232,6 +245,15 @@ public class HostLevelIngestionStats extends AbstractVeniceStats {
         totalStats,
         () -> totalStats.totalOffsetRegressionDCRErrorRate);
 
+    this.totalTransientRecordBufferWaitTimeoutRate = registerOnlyTotalRate(
+        "transient_record_buffer_wait_timeout",
+        totalStats,
+        () -> totalStats.totalTransientRecordBufferWaitTimeoutRate);
+
+    this.transientRecordBufferWaitLatencySensor = totalStats == null
+        ? registerSensor("transient_record_buffer_wait_latency", avgAndMax())
+        : totalStats.transientRecordBufferWaitLatencySensor;
+
     Int2ObjectMap<String> kafkaClusterIdToAliasMap = serverConfig.getKafkaClusterIdToAliasMap();
     int listSize = kafkaClusterIdToAliasMap.isEmpty() ? 0 : Collections.max(kafkaClusterIdToAliasMap.keySet()) + 1;
     Sensor[] tmpTotalHybridBytesConsumedByRegionId = new Sensor[listSize];
@@ -283,6 +305,14 @@ public class HostLevelIngestionStats extends AbstractVeniceStats {
                 .filter(task -> isTotalStats ? true : task.getStoreName().equals(storeName))
                 .mapToLong(task -> task.isStuckByMemoryConstraint() ? 1 : 0)
                 .sum()));
+    registerSensor(
+        "transient_record_buffer_size_in_bytes",
+        new Gauge(
+            () -> ingestionTaskMap.values()
+                .stream()
+                .filter(task -> isTotalStats ? true : task.getStoreName().equals(storeName))
+                .mapToLong(StoreIngestionTask::getTransientRecordBufferSizeInBytes)
+                .sum()));
 
     // Stats which are per-store only:
     this.diskQuotaSensor =
@@ -346,6 +376,12 @@ public class HostLevelIngestionStats extends AbstractVeniceStats {
         () -> totalStats.leaderProducerSynchronizeLatencySensor,
         avgAndMax());
 
+    this.leaderProducePipelineWaitLatencySensor = registerPerStoreAndTotalSensor(
+        "leader_produce_pipeline_wait_latency",
+        totalStats,
+        () -> totalStats.leaderProducePipelineWaitLatencySensor,
+        avgAndMax());
+
     this.leaderWriteComputeLookUpLatencySensor = registerPerStoreAndTotalSensor(
         "leader_write_compute_lookup_latency",
         totalStats,
@@ -610,6 +646,18 @@ public class HostLevelIngestionStats extends AbstractVeniceStats {
     totalOffsetRegressionDCRErrorRate.record();
   }
 
+  public void recordLeaderProducePipelineWaitLatency(double latency) {
+    leaderProducePipelineWaitLatencySensor.record(latency);
+  }
+
+  public void recordTransientRecordBufferWaitLatency(double latency) {
+    transientRecordBufferWaitLatencySensor.record(latency);
+  }
+
+  public void recordTransientRecordBufferWaitTimeout() {
+    totalTransientRecordBufferWaitTimeoutRate.record();
+  }
+
   public void recordRequestBasedMetadataInvokeCount() {
     requestBasedMetadataInvokeCount.record();
   }
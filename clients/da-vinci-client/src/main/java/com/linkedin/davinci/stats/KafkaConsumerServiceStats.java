@@ -28,6 +28,11 @@ public class KafkaConsumerServiceStats extends AbstractVeniceStats {
   private final Sensor maxPartitionsPerConsumer;
   private final Sensor minPartitionsPerConsumer;
   private final Sensor avgPartitionsPerConsumer;
+  private final Sensor maxBytesPerSecondPerConsumer;
+  private final Sensor minBytesPerSecondPerConsumer;
+  private final Sensor consumerLoadSkew;
+  private final Sensor partitionMigrationSensor;
+  private final Sensor partitionMigrationErrorSensor;
   private final Sensor getOffsetLagIsAbsentSensor;
   private final Sensor getOffsetLagIsPresentSensor;
   private final Sensor getLatestOffsetIsAbsentSensor;
@@ -70,6 +75,14 @@ public class KafkaConsumerServiceStats extends AbstractVeniceStats {
     maxPartitionsPerConsumer = registerSensor("max_partitions_per_consumer", new Gauge());
     avgPartitionsPerConsumer = registerSensor("avg_partitions_per_consumer", new Gauge());
 
+    // Only recorded when the throughput-aware consumer assignment is enabled
+    maxBytesPerSecondPerConsumer = registerSensor("max_bytes_per_second_per_consumer", new Gauge());
+    minBytesPerSecondPerConsumer = registerSensor("min_bytes_per_second_per_consumer", new Gauge());
+    // The ratio between the bytes per second of the most loaded consumer and the average of the pool
+    consumerLoadSkew = registerSensor("consumer_load_skew", new Gauge());
+    partitionMigrationSensor = registerSensor("partition_migration", new OccurrenceRate());
+    partitionMigrationErrorSensor = registerSensor("partition_migration_error", new Count());
+
     Sensor getOffsetLagSensor = registerSensor("getOffsetLag", new OccurrenceRate());
     Sensor[] offsetLagParent = new Sensor[] { getOffsetLagSensor };
     this.getOffsetLagIsAbsentSensor =
@@ -139,6 +152,26 @@ public class KafkaConsumerServiceStats extends AbstractVeniceStats {
     avgPartitionsPerConsumer.record(count);
   }
 
+  public void recordMaxBytesPerSecondPerConsumer(double bytesPerSecond) {
+    maxBytesPerSecondPerConsumer.record(bytesPerSecond);
+  }
+
+  public void recordMinBytesPerSecondPerConsumer(double bytesPerSecond) {
+    minBytesPerSecondPerConsumer.record(bytesPerSecond);
+  }
+
+  public void recordConsumerLoadSkew(double skew) {
+    consumerLoadSkew.record(skew);
+  }
+
+  public void recordPartitionMigration() {
+    partitionMigrationSensor.record();
+  }
+
+  public void recordPartitionMigrationError() {
+    partitionMigrationErrorSensor.record();
+  }
+
   public void recordOffsetLagIsAbsent() {
     getOffsetLagIsAbsentSensor.record();
   }
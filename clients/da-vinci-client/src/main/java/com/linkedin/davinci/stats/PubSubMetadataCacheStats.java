@@ -0,0 +1,53 @@
+package com.linkedin.davinci.stats;
+
+import com.linkedin.venice.stats.AbstractVeniceStats;
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.Sensor;
+import io.tehuti.metrics.stats.Avg;
+import io.tehuti.metrics.stats.Gauge;
+import io.tehuti.metrics.stats.Max;
+import io.tehuti.metrics.stats.OccurrenceRate;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * Stats of the pub-sub metadata (end offsets, producer timestamps and topic existence) cached for the lag measurement
+ * of the ingestion tasks. The coalescing ratio is the number of metadata requests served per call to the pub-sub
+ * brokers, and the staleness is the age of the cached values handed out to the ingestion tasks.
+ */
+public class PubSubMetadataCacheStats extends AbstractVeniceStats {
+  private final LongAdder requestCount = new LongAdder();
+  private final LongAdder brokerCallCount = new LongAdder();
+  private final Sensor requestSensor;
+  private final Sensor brokerCallSensor;
+  private final Sensor brokerCallFailureSensor;
+  private final Sensor stalenessSensor;
+
+  public PubSubMetadataCacheStats(MetricsRepository metricsRepository) {
+    super(metricsRepository, "pubsub_metadata_cache");
+
+    this.requestSensor = registerSensor("request", new OccurrenceRate());
+    this.brokerCallSensor = registerSensor("broker_call", new OccurrenceRate());
+    this.brokerCallFailureSensor = registerSensor("broker_call_failure", new OccurrenceRate());
+    this.stalenessSensor = registerSensor("staleness_ms", new Avg(), new Max());
+    registerSensor("coalescing_ratio", new Gauge(() -> {
+      long brokerCalls = brokerCallCount.sum();
+      return brokerCalls == 0 ? 0 : (double) requestCount.sum() / brokerCalls;
+    }));
+  }
+
+  public void recordRequest(double stalenessMs) {
+    requestCount.increment();
+    requestSensor.record();
+    stalenessSensor.record(stalenessMs);
+  }
+
+  public void recordBrokerCall() {
+    brokerCallCount.increment();
+    brokerCallSensor.record();
+  }
+
+  public void recordBrokerCallFailure() {
+    brokerCallFailureSensor.record();
+  }
+}
@@ -121,12 +121,16 @@ public class RocksDBMemoryStats extends AbstractVeniceStats {
     hostedRocksDBPartitions.put(partitionName, rocksDBPartition);
   }
 
-  public void deregisterPartition(String partitionName) {
+  /**
+   * Only removes the partition if it is still the registered one, since the secondary instance of a partition is closed
+   * after the primary instance replacing it registers under the same name.
+   */
+  public void deregisterPartition(String partitionName, RocksDBStoragePartition rocksDBPartition) {
     // Synchronize on the hosted partitions so that this method does not return while
     // a metric collection is ongoing. This prevents venice-server from potentially
     // closing a RocksDB database while a property is being read.
     synchronized (hostedRocksDBPartitions) {
-      hostedRocksDBPartitions.remove(partitionName);
+      hostedRocksDBPartitions.remove(partitionName, rocksDBPartition);
     }
   }
 }
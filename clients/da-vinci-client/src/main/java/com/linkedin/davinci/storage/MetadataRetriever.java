@@ -1,10 +1,12 @@
 package com.linkedin.davinci.storage;
 
+import com.linkedin.davinci.blobtransfer.BlobSnapshotManager;
 import com.linkedin.davinci.listener.response.AdminResponse;
 import com.linkedin.davinci.listener.response.MetadataResponse;
 import com.linkedin.davinci.listener.response.ServerCurrentVersionResponse;
 import com.linkedin.venice.utils.ComplementSet;
 import java.nio.ByteBuffer;
+import java.util.Optional;
 
 
 public interface MetadataRetriever {
@@ -15,4 +17,9 @@ public interface MetadataRetriever {
   MetadataResponse getMetadata(String storeName);
 
   ServerCurrentVersionResponse getCurrentVersionResponse(String storeName);
+
+  /**
+   * @return the manager serving the snapshots of the local partitions to the peers, if enabled
+   */
+  Optional<BlobSnapshotManager> getBlobSnapshotManager();
 }
@@ -2,6 +2,7 @@ package com.linkedin.davinci.storage;
 
 import static com.linkedin.venice.meta.PersistenceType.BLACK_HOLE;
 import static com.linkedin.venice.meta.PersistenceType.IN_MEMORY;
+import static com.linkedin.venice.meta.PersistenceType.OFF_HEAP;
 import static com.linkedin.venice.meta.PersistenceType.ROCKS_DB;
 
 import com.linkedin.davinci.config.VeniceConfigLoader;
@@ -10,9 +11,12 @@ import com.linkedin.davinci.config.VeniceStoreVersionConfig;
 import com.linkedin.davinci.stats.AggVersionedStorageEngineStats;
 import com.linkedin.davinci.stats.RocksDBMemoryStats;
 import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.AbstractStoragePartition;
 import com.linkedin.davinci.store.StorageEngineFactory;
+import com.linkedin.davinci.store.StoragePartitionConfig;
 import com.linkedin.davinci.store.blackhole.BlackHoleStorageEngineFactory;
 import com.linkedin.davinci.store.memory.InMemoryStorageEngineFactory;
+import com.linkedin.davinci.store.offheap.OffHeapStorageEngineFactory;
 import com.linkedin.davinci.store.rocksdb.RocksDBStorageEngineFactory;
 import com.linkedin.venice.ConfigKeys;
 import com.linkedin.venice.exceptions.VeniceException;
@@ -205,6 +209,7 @@ public class StorageService extends AbstractVeniceService {
             storeVersionStateSerializer,
             partitionStateSerializer));
     persistenceTypeToStorageEngineFactoryMap.put(BLACK_HOLE, new BlackHoleStorageEngineFactory());
+    persistenceTypeToStorageEngineFactoryMap.put(OFF_HEAP, new OffHeapStorageEngineFactory(serverConfig));
   }
 
   static void deleteStorageEngineOnRocksDBError(
@@ -293,6 +298,9 @@ public class StorageService extends AbstractVeniceService {
       for (int subPartition: getSubPartition(storeConfig.getStoreVersionName(), partitionId)) {
         if (!engine.containsPartition(subPartition)) {
           engine.addStoragePartition(subPartition);
+        } else if (engine.getPartitionOrThrow(subPartition).isSecondary()) {
+          // The database is not written by the other process anymore, so this process takes it over.
+          engine.adjustStoragePartition(new StoragePartitionConfig(storeConfig.getStoreVersionName(), subPartition));
         }
       }
     }
@@ -300,6 +308,65 @@ public class StorageService extends AbstractVeniceService {
     return engine;
   }
 
+  /**
+   * Opens the partition as a read-only secondary partition following the database written by another process, unless
+   * the partition is already opened. Check {@link StoragePartitionConfig#setSecondary(boolean)}.
+   */
+  public synchronized AbstractStorageEngine openStoreForSecondaryPartition(
+      VeniceStoreVersionConfig storeConfig,
+      int partitionId,
+      Supplier<StoreVersionState> initialStoreVersionStateSupplier) {
+    AbstractStorageEngine engine = openStore(storeConfig, initialStoreVersionStateSupplier);
+    synchronized (engine) {
+      for (int subPartition: getSubPartition(storeConfig.getStoreVersionName(), partitionId)) {
+        if (!engine.containsPartition(subPartition)) {
+          StoragePartitionConfig partitionConfig =
+              new StoragePartitionConfig(storeConfig.getStoreVersionName(), subPartition);
+          partitionConfig.setSecondary(true);
+          engine.addStoragePartition(partitionConfig);
+          LOGGER.info("Opened secondary partition {} of {}", subPartition, storeConfig.getStoreVersionName());
+        }
+      }
+    }
+    return engine;
+  }
+
+  /**
+   * Makes the data persisted so far by the process writing the database visible to the reads of the secondary
+   * partitions of the given partition, the partitions which are not secondary are left untouched.
+   */
+  public void catchUpSecondaryStorePartition(String kafkaTopic, int partition) {
+    AbstractStorageEngine<?> storageEngine = storageEngineRepository.getLocalStorageEngine(kafkaTopic);
+    if (storageEngine == null) {
+      return;
+    }
+    for (int subPartition: getSubPartition(kafkaTopic, partition)) {
+      if (storageEngine.containsPartition(subPartition)) {
+        AbstractStoragePartition storagePartition = storageEngine.getPartitionOrThrow(subPartition);
+        if (storagePartition.isSecondary()) {
+          storagePartition.catchUpWithPrimary();
+        }
+      }
+    }
+  }
+
+  /**
+   * Drops the secondary partitions of the given partition, which only removes the files of the secondary instances,
+   * the database itself belongs to the process writing it.
+   */
+  public synchronized void dropSecondaryStorePartition(String kafkaTopic, int partition) {
+    AbstractStorageEngine<?> storageEngine = storageEngineRepository.getLocalStorageEngine(kafkaTopic);
+    if (storageEngine == null) {
+      return;
+    }
+    for (int subPartition: getSubPartition(kafkaTopic, partition)) {
+      if (storageEngine.containsPartition(subPartition)
+          && storageEngine.getPartitionOrThrow(subPartition).isSecondary()) {
+        storageEngine.dropPartition(subPartition);
+      }
+    }
+  }
+
   public BiConsumer<String, StoreVersionState> getStoreVersionStateSyncer() {
     return (storeVersionName, storeVersionState) -> {
       AbstractStorageEngine storageEngine = storageEngineRepository.getLocalStorageEngine(storeVersionName);
@@ -580,7 +647,8 @@ public class StorageService extends AbstractVeniceService {
 
   private boolean isReplicationMetadataEnabled(String topicName, PersistenceType persistenceType) {
     // Replication metadata will only be used in Server as Da Vinci will never become LEADER.
-    if (serverConfig.isDaVinciClient() || !Objects.equals(persistenceType, ROCKS_DB)) {
+    if (serverConfig.isDaVinciClient()
+        || (!Objects.equals(persistenceType, ROCKS_DB) && !Objects.equals(persistenceType, OFF_HEAP))) {
       return false;
     }
     String storeName;
@@ -4,6 +4,7 @@ import com.linkedin.davinci.listener.response.ReadResponse;
 import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.record.ByteBufferValueRecord;
 import com.linkedin.davinci.store.record.ValueRecord;
+import com.linkedin.venice.client.store.predicate.Predicate;
 import com.linkedin.venice.client.store.streaming.StreamingCallback;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.VeniceCompressor;
@@ -221,6 +222,7 @@ public abstract class AbstractAvroChunkingAdapter<T> implements ChunkingAdapter<
       int userPartition,
       PartitionerConfig partitionerConfig,
       byte[] keyPrefixBytes,
+      Predicate keyFilter,
       T reusedValue,
       BinaryDecoder reusedDecoder,
       RecordDeserializer<GenericRecord> keyRecordDeserializer,
@@ -245,6 +247,7 @@ public abstract class AbstractAvroChunkingAdapter<T> implements ChunkingAdapter<
           store,
           subPartition,
           keyPrefixBytes,
+          keyFilter,
           reusedValue,
           keyRecordDeserializer,
           reusedDecoder,
@@ -256,6 +259,44 @@ public abstract class AbstractAvroChunkingAdapter<T> implements ChunkingAdapter<
     }
   }
 
+  public <K> void getByKeyRange(
+      AbstractStorageEngine store,
+      int userPartition,
+      PartitionerConfig partitionerConfig,
+      byte[] startKeyBytes,
+      byte[] endKeyBytes,
+      BinaryDecoder reusedDecoder,
+      RecordDeserializer<K> keyDeserializer,
+      boolean isChunked,
+      ReadResponse response,
+      int readerSchemaId,
+      StoreDeserializerCache<T> storeDeserializerCache,
+      VeniceCompressor compressor,
+      StreamingCallback<K, T> callback) {
+
+    if (isChunked) {
+      throw new VeniceException("Reading by key range is not supported when chunking is enabled.");
+    }
+
+    int amplificationFactor = partitionerConfig == null ? 1 : partitionerConfig.getAmplificationFactor();
+    int subPartitionCount = (userPartition + 1) * amplificationFactor;
+    for (int subPartition = userPartition * amplificationFactor; subPartition < subPartitionCount; subPartition++) {
+      ChunkingUtils.getFromStorageByKeyRange(
+          this,
+          store,
+          subPartition,
+          startKeyBytes,
+          endKeyBytes,
+          keyDeserializer,
+          reusedDecoder,
+          response,
+          readerSchemaId,
+          storeDeserializerCache,
+          compressor,
+          callback);
+    }
+  }
+
   private final DecompressingDecoderWrapperValueOnly<byte[], T> byteArrayDecompressingDecoderValueOnly = (
       reusedDecoder,
       bytes,
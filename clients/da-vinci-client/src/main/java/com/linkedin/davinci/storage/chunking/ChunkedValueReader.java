@@ -0,0 +1,80 @@
+package com.linkedin.davinci.storage.chunking;
+
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.record.ValueRecord;
+import com.linkedin.venice.annotation.NotThreadsafe;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
+import io.netty.buffer.ByteBuf;
+
+
+/**
+ * This class reads the chunks of a large value one at a time, in the order of its {@link ChunkedValueManifest}, so
+ * that they can be streamed out of the storage node as they are read, instead of being assembled into a single
+ * buffer like {@link SingleGetChunkingAdapter} does. The memory held for a large value is thus bounded by the size of
+ * a chunk rather than by the size of the value.
+ *
+ * NOT intended for multi-threaded usage.
+ */
+@NotThreadsafe
+public class ChunkedValueReader {
+  private final AbstractStorageEngine store;
+  private final int partition;
+  private final ChunkedValueManifest chunkedValueManifest;
+  private int nextChunkIndex = 0;
+  private int readSize = 0;
+
+  private ChunkedValueReader(AbstractStorageEngine store, int partition, ChunkedValueManifest chunkedValueManifest) {
+    this.store = store;
+    this.partition = partition;
+    this.chunkedValueManifest = chunkedValueManifest;
+  }
+
+  /**
+   * @param topLevelValue the value of a top-level key, including its schema header
+   * @return a reader of the chunks of the value, or null if {@param topLevelValue} is a full value
+   */
+  public static ChunkedValueReader create(AbstractStorageEngine store, int partition, byte[] topLevelValue) {
+    int writerSchemaId = ValueRecord.parseSchemaId(topLevelValue);
+    if (writerSchemaId > 0) {
+      return null;
+    } else if (writerSchemaId != AvroProtocolDefinition.CHUNKED_VALUE_MANIFEST.getCurrentProtocolVersion()) {
+      throw new VeniceException("Found a record with invalid schema ID: " + writerSchemaId);
+    }
+    return new ChunkedValueReader(
+        store,
+        partition,
+        ChunkingUtils.CHUNKED_VALUE_MANIFEST_SERIALIZER.deserialize(topLevelValue, writerSchemaId));
+  }
+
+  public int getSchemaId() {
+    return chunkedValueManifest.schemaId;
+  }
+
+  /**
+   * @return the size of the assembled value, without any schema header
+   */
+  public int getValueSize() {
+    return chunkedValueManifest.size;
+  }
+
+  public boolean hasNextChunk() {
+    return nextChunkIndex < chunkedValueManifest.keysWithChunkIdSuffix.size();
+  }
+
+  /**
+   * @return the payload of the next chunk, without its schema header
+   */
+  public ByteBuf readNextChunk() {
+    if (!hasNextChunk()) {
+      throw new IllegalStateException("All the chunks have already been read");
+    }
+    byte[] valueChunk = ChunkingUtils.getChunk(store, partition, chunkedValueManifest, nextChunkIndex++, false);
+    readSize += valueChunk.length - ValueRecord.SCHEMA_HEADER_LENGTH;
+    if (!hasNextChunk() || readSize > chunkedValueManifest.size) {
+      ChunkingUtils.checkAssembledSize(store, partition, chunkedValueManifest, readSize);
+    }
+    return ValueRecord.parseDataAsByteBuf(valueChunk);
+  }
+}
@@ -5,6 +5,7 @@ import com.linkedin.davinci.listener.response.ReadResponse;
 import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.record.ByteBufferValueRecord;
 import com.linkedin.davinci.store.record.ValueRecord;
+import com.linkedin.venice.client.store.predicate.Predicate;
 import com.linkedin.venice.client.store.streaming.StreamingCallback;
 import com.linkedin.venice.compression.VeniceCompressor;
 import com.linkedin.venice.exceptions.VeniceException;
@@ -138,6 +139,7 @@ public class ChunkingUtils {
       AbstractStorageEngine store,
       int partition,
       byte[] keyPrefixBytes,
+      Predicate keyFilter,
       VALUE reusedValue,
       RecordDeserializer<GenericRecord> keyRecordDeserializer,
       BinaryDecoder reusedDecoder,
@@ -146,12 +148,66 @@ public class ChunkingUtils {
       StoreDeserializerCache<VALUE> storeDeserializerCache,
       VeniceCompressor compressor,
       StreamingCallback<GenericRecord, GenericRecord> computingCallback) {
+    BytesStreamingCallback callback = getDeserializingStreamingCallback(
+        adapter,
+        keyFilter == null ? null : keyFilter::evaluate,
+        reusedValue,
+        keyRecordDeserializer,
+        reusedDecoder,
+        response,
+        readerSchemaId,
+        storeDeserializerCache,
+        compressor,
+        (StreamingCallback<GenericRecord, VALUE>) (StreamingCallback) computingCallback,
+        "Filtering by key prefix is not supported when chunking is enabled.");
+    store.getByKeyPrefix(partition, keyPrefixBytes, callback);
+  }
 
-    long databaseLookupStartTimeInNS = (response != null) ? System.nanoTime() : 0;
+  static <KEY, CHUNKS_CONTAINER, VALUE> void getFromStorageByKeyRange(
+      ChunkingAdapter<CHUNKS_CONTAINER, VALUE> adapter,
+      AbstractStorageEngine store,
+      int partition,
+      byte[] startKeyBytes,
+      byte[] endKeyBytes,
+      RecordDeserializer<KEY> keyDeserializer,
+      BinaryDecoder reusedDecoder,
+      ReadResponse response,
+      int readerSchemaId,
+      StoreDeserializerCache<VALUE> storeDeserializerCache,
+      VeniceCompressor compressor,
+      StreamingCallback<KEY, VALUE> recordCallback) {
+    // The values are handed over to the caller, so they cannot be reused
+    BytesStreamingCallback callback = getDeserializingStreamingCallback(
+        adapter,
+        null,
+        null,
+        keyDeserializer,
+        reusedDecoder,
+        response,
+        readerSchemaId,
+        storeDeserializerCache,
+        compressor,
+        recordCallback,
+        "Reading by key range is not supported when chunking is enabled.");
+    store.getByKeyRange(partition, startKeyBytes, endKeyBytes, callback);
+  }
 
-    BytesStreamingCallback callback = new BytesStreamingCallback() {
-      GenericRecord deserializedValueRecord;
+  private static <KEY, CHUNKS_CONTAINER, VALUE> BytesStreamingCallback getDeserializingStreamingCallback(
+      ChunkingAdapter<CHUNKS_CONTAINER, VALUE> adapter,
+      java.util.function.Predicate<KEY> keyFilter,
+      VALUE reusedValue,
+      RecordDeserializer<KEY> keyDeserializer,
+      BinaryDecoder reusedDecoder,
+      ReadResponse response,
+      int readerSchemaId,
+      StoreDeserializerCache<VALUE> storeDeserializerCache,
+      VeniceCompressor compressor,
+      StreamingCallback<KEY, VALUE> recordCallback,
+      String chunkingNotSupportedMessage) {
+
+    long databaseLookupStartTimeInNS = (response != null) ? System.nanoTime() : 0;
 
+    return new BytesStreamingCallback() {
       @Override
       public void onRecordReceived(byte[] key, byte[] value) {
         if (key == null || value == null) {
@@ -167,9 +223,13 @@ public class ChunkingUtils {
             response.addDatabaseLookupLatency(LatencyUtils.getLatencyInMS(databaseLookupStartTimeInNS));
           }
 
-          GenericRecord deserializedKey = keyRecordDeserializer.deserialize(key);
+          KEY deserializedKey = keyDeserializer.deserialize(key);
+          if (keyFilter != null && !keyFilter.test(deserializedKey)) {
+            // Skip the value decompression and deserialization, which are far more expensive than the key's.
+            return;
+          }
 
-          deserializedValueRecord = (GenericRecord) adapter.constructValue(
+          VALUE deserializedValue = adapter.constructValue(
               value,
               value.length,
               reusedValue,
@@ -180,11 +240,11 @@ public class ChunkingUtils {
               storeDeserializerCache,
               compressor);
 
-          computingCallback.onRecordReceived(deserializedKey, deserializedValueRecord);
+          recordCallback.onRecordReceived(deserializedKey, deserializedValue);
         } else if (writerSchemaId != AvroProtocolDefinition.CHUNKED_VALUE_MANIFEST.getCurrentProtocolVersion()) {
           throw new VeniceException("Found a record with invalid schema ID: " + writerSchemaId);
         } else {
-          throw new VeniceException("Filtering by key prefix is not supported when chunking is enabled.");
+          throw new VeniceException(chunkingNotSupportedMessage);
         }
       }
 
@@ -193,8 +253,6 @@ public class ChunkingUtils {
         /* Nothing to do here. */
       }
     };
-
-    store.getByKeyPrefix(partition, keyPrefixBytes, callback);
   }
 
   /**
@@ -361,30 +419,13 @@ public class ChunkingUtils {
       // optimize large value retrieval in the future, it's unclear whether the concurrent retrieval approach
       // is optimal (as opposed to streaming the response out incrementally, for example). Since this is a
       // premature optimization, we are not addressing it right now.
-      byte[] chunkKey = chunkedValueManifest.keysWithChunkIdSuffix.get(chunkIndex).array();
-      byte[] valueChunk =
-          isRmdValue ? store.getReplicationMetadata(partition, chunkKey) : store.get(partition, chunkKey);
-
-      if (valueChunk == null) {
-        throw new VeniceException("Chunk not found in " + getExceptionMessageDetails(store, partition, chunkIndex));
-      } else if (ValueRecord.parseSchemaId(valueChunk) != AvroProtocolDefinition.CHUNK.getCurrentProtocolVersion()) {
-        throw new VeniceException(
-            "Did not get the chunk schema ID while attempting to retrieve a chunk! " + "Instead, got schema ID: "
-                + ValueRecord.parseSchemaId(valueChunk) + " from "
-                + getExceptionMessageDetails(store, partition, chunkIndex));
-      }
-
+      byte[] valueChunk = getChunk(store, partition, chunkedValueManifest, chunkIndex, isRmdValue);
       actualSize += valueChunk.length - ValueRecord.SCHEMA_HEADER_LENGTH;
       adapter.addChunkIntoContainer(assembledValueContainer, chunkIndex, valueChunk);
     }
 
     // Sanity check based on size...
-    if (actualSize != chunkedValueManifest.size) {
-      throw new VeniceException(
-          "The fully assembled large value does not have the expected size! " + "actualSize: " + actualSize
-              + ", chunkedValueManifest.size: " + chunkedValueManifest.size + ", "
-              + getExceptionMessageDetails(store, partition, null));
-    }
+    checkAssembledSize(store, partition, chunkedValueManifest, actualSize);
 
     if (response != null) {
       response.addDatabaseLookupLatency(LatencyUtils.getLatencyInMS(databaseLookupStartTimeInNS));
@@ -403,6 +444,42 @@ public class ChunkingUtils {
         compressor);
   }
 
+  /**
+   * @return the chunk at {@param chunkIndex} of the manifest, including its schema header
+   */
+  static byte[] getChunk(
+      AbstractStorageEngine store,
+      int partition,
+      ChunkedValueManifest chunkedValueManifest,
+      int chunkIndex,
+      boolean isRmdValue) {
+    byte[] chunkKey = chunkedValueManifest.keysWithChunkIdSuffix.get(chunkIndex).array();
+    byte[] valueChunk = isRmdValue ? store.getReplicationMetadata(partition, chunkKey) : store.get(partition, chunkKey);
+
+    if (valueChunk == null) {
+      throw new VeniceException("Chunk not found in " + getExceptionMessageDetails(store, partition, chunkIndex));
+    } else if (ValueRecord.parseSchemaId(valueChunk) != AvroProtocolDefinition.CHUNK.getCurrentProtocolVersion()) {
+      throw new VeniceException(
+          "Did not get the chunk schema ID while attempting to retrieve a chunk! " + "Instead, got schema ID: "
+              + ValueRecord.parseSchemaId(valueChunk) + " from "
+              + getExceptionMessageDetails(store, partition, chunkIndex));
+    }
+    return valueChunk;
+  }
+
+  static void checkAssembledSize(
+      AbstractStorageEngine store,
+      int partition,
+      ChunkedValueManifest chunkedValueManifest,
+      int actualSize) {
+    if (actualSize != chunkedValueManifest.size) {
+      throw new VeniceException(
+          "The fully assembled large value does not have the expected size! " + "actualSize: " + actualSize
+              + ", chunkedValueManifest.size: " + chunkedValueManifest.size + ", "
+              + getExceptionMessageDetails(store, partition, null));
+    }
+  }
+
   private static String getExceptionMessageDetails(AbstractStorageEngine store, int partition, Integer chunkIndex) {
     String message = "store: " + store.getStoreName() + ", partition: " + partition;
     if (chunkIndex != null) {
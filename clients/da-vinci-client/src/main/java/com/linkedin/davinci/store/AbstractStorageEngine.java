@@ -5,6 +5,7 @@ import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.exceptions.PersistenceFailureException;
 import com.linkedin.venice.exceptions.StorageInitializationException;
 import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.exceptions.VeniceUnsupportedOperationException;
 import com.linkedin.venice.kafka.protocol.state.PartitionState;
 import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
 import com.linkedin.venice.meta.PartitionerConfig;
@@ -196,6 +197,22 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     // Need to re-open storage partition according to the provided partition config
     LOGGER.info("Reopen database with storage partition config: {}", partitionConfig);
     ReadWriteLock readWriteLock = getRWLockForPartitionOrThrow(partitionId);
+    if (partition.isSecondary()) {
+      /**
+       * The database of a secondary partition is not locked by it, so the new partition can be opened while the
+       * secondary one keeps serving reads, and the reads only get blocked for the time of the swap.
+       */
+      Partition newPartition = createStoragePartition(partitionConfig);
+      readWriteLock.writeLock().lock();
+      try {
+        this.partitionList.set(partitionId, newPartition);
+      } finally {
+        readWriteLock.writeLock().unlock();
+      }
+      // Only removes the files of the secondary instance
+      partition.drop();
+      return;
+    }
     readWriteLock.writeLock().lock();
     try {
       closePartition(partitionId);
@@ -489,6 +506,26 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     });
   }
 
+  /**
+   * Create a consistent snapshot of the given partition in the given directory, see
+   * {@link AbstractStoragePartition#createSnapshot(String)}.
+   */
+  public List<String> createSnapshot(int partitionId, String snapshotDir) {
+    return executeWithSafeGuard(partitionId, () -> {
+      AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+      return partition.createSnapshot(snapshotDir);
+    });
+  }
+
+  /**
+   * Replace the given partition with the snapshot in the given directory, as created by {@link #createSnapshot}. The
+   * files of the snapshot are moved, so the directory has to be on the same file system as the partition. Nothing
+   * must be reading from or writing into the partition in the meantime.
+   */
+  public synchronized void restorePartitionFromSnapshot(int partitionId, String snapshotDir) {
+    throw new VeniceUnsupportedOperationException("restorePartitionFromSnapshot");
+  }
+
   public byte[] get(int partitionId, byte[] key) throws VeniceException {
     return executeWithSafeGuard(partitionId, () -> {
       AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
@@ -510,6 +547,27 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     });
   }
 
+  /**
+   * @see AbstractStoragePartition#multiGetIntoDirectBuffers(List, List)
+   */
+  public int[] multiGetIntoDirectBuffers(int partitionId, List<ByteBuffer> keys, List<ByteBuffer> values)
+      throws VeniceException {
+    return executeWithSafeGuard(partitionId, () -> {
+      AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+      return partition.multiGetIntoDirectBuffers(keys, values);
+    });
+  }
+
+  /**
+   * @see AbstractStoragePartition#getIntoDirectBuffer(ByteBuffer, ByteBuffer)
+   */
+  public int getIntoDirectBuffer(int partitionId, ByteBuffer key, ByteBuffer value) throws VeniceException {
+    return executeWithSafeGuard(partitionId, () -> {
+      AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+      return partition.getIntoDirectBuffer(key, value);
+    });
+  }
+
   public void getByKeyPrefix(int partitionId, byte[] partialKey, BytesStreamingCallback bytesStreamingCallback) {
     executeWithSafeGuard(partitionId, () -> {
       AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
@@ -517,6 +575,17 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     });
   }
 
+  public void getByKeyRange(
+      int partitionId,
+      byte[] startKey,
+      byte[] endKey,
+      BytesStreamingCallback bytesStreamingCallback) {
+    executeWithSafeGuard(partitionId, () -> {
+      AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+      partition.getByKeyRange(startKey, endKey, bytesStreamingCallback);
+    });
+  }
+
   public void delete(int partitionId, byte[] key) throws VeniceException {
     executeWithSafeGuard(partitionId, () -> {
       AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
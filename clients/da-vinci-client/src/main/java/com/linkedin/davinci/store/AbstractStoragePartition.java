@@ -4,6 +4,7 @@ import com.linkedin.davinci.callback.BytesStreamingCallback;
 import com.linkedin.davinci.store.rocksdb.ReplicationMetadataRocksDBStoragePartition;
 import com.linkedin.venice.exceptions.VeniceUnsupportedOperationException;
 import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -49,6 +50,51 @@ public abstract class AbstractStoragePartition {
     return ByteBuffer.wrap(get(key));
   }
 
+  /**
+   * Read the values of the given keys into the given direct buffers, starting from the position of each buffer, whose
+   * position and limit are left unchanged. The keys have to be direct buffers too.
+   *
+   * @return the full size of each value, which is bigger than the remaining space of its buffer if the value has been
+   *         truncated, or -1 if the key does not exist
+   */
+  public int[] multiGetIntoDirectBuffers(List<ByteBuffer> keys, List<ByteBuffer> values) {
+    // Naive default impl is not optimized... only storage engines that support the optimization implement it.
+    int[] valueSizes = new int[keys.size()];
+    for (int i = 0; i < valueSizes.length; i++) {
+      ByteBuffer key = keys.get(i).duplicate();
+      byte[] keyBytes = new byte[key.remaining()];
+      key.get(keyBytes);
+      byte[] value = get(keyBytes);
+      if (value == null) {
+        valueSizes[i] = -1;
+        continue;
+      }
+      ByteBuffer valueBuffer = values.get(i).duplicate();
+      valueBuffer.put(value, 0, Math.min(value.length, valueBuffer.remaining()));
+      valueSizes[i] = value.length;
+    }
+    return valueSizes;
+  }
+
+  /**
+   * Single key version of {@link #multiGetIntoDirectBuffers(List, List)}, which does not allocate anything on heap.
+   * N.B.: The position of the key and the limit of the value may be changed by the lookup.
+   *
+   * @return the full size of the value, or -1 if the key does not exist
+   */
+  public int getIntoDirectBuffer(ByteBuffer key, ByteBuffer value) {
+    // Naive default impl is not optimized... only storage engines that support the optimization implement it.
+    ByteBuffer keyBuffer = key.duplicate();
+    byte[] keyBytes = new byte[keyBuffer.remaining()];
+    keyBuffer.get(keyBytes);
+    byte[] valueBytes = get(keyBytes);
+    if (valueBytes == null) {
+      return -1;
+    }
+    value.duplicate().put(valueBytes, 0, Math.min(valueBytes.length, value.remaining()));
+    return valueBytes.length;
+  }
+
   /**
    * Get a Value from the partition database
    * @param <K> the type for Key
@@ -68,6 +114,18 @@ public abstract class AbstractStoragePartition {
    */
   public abstract void getByKeyPrefix(byte[] keyPrefix, BytesStreamingCallback callback);
 
+  /**
+   * Populate provided callback with key-value pairs from the partition database where the keys are greater than or
+   * equal to the start key, and strictly less than the end key, in lexicographic order of their bytes. A null bound
+   * means that the range is unbounded on that side.
+   * @param startKey inclusive lower bound, or null
+   * @param endKey exclusive upper bound, or null
+   * @param callback
+   */
+  public void getByKeyRange(byte[] startKey, byte[] endKey, BytesStreamingCallback callback) {
+    throw new VeniceUnsupportedOperationException("getByKeyRange");
+  }
+
   /**
    * Delete a key from the partition database
    */
@@ -123,10 +181,35 @@ public abstract class AbstractStoragePartition {
    */
   public abstract long getPartitionSizeInBytes();
 
+  /**
+   * Create a consistent point-in-time copy of the partition database in the given directory, which must not exist yet.
+   * The copy can be opened as a regular partition database once moved to the partition path.
+   * @param snapshotDir directory where the files of the snapshot will be created
+   * @return the names of the files of the snapshot
+   */
+  public List<String> createSnapshot(String snapshotDir) {
+    throw new VeniceUnsupportedOperationException("createSnapshot");
+  }
+
   public boolean validateBatchIngestion() {
     return true;
   }
 
+  /**
+   * Whether the partition is a read-only view of a database written by another process,
+   * check {@link StoragePartitionConfig#setSecondary(boolean)}.
+   */
+  public boolean isSecondary() {
+    return false;
+  }
+
+  /**
+   * Make the data persisted by the process writing the database visible to the reads of this secondary partition.
+   */
+  public void catchUpWithPrimary() {
+    throw new VeniceUnsupportedOperationException("catchUpWithPrimary");
+  }
+
   /**
    * This API takes in value and metadata as ByteBuffer format and put it into RocksDB.
    * Only {@link ReplicationMetadataRocksDBStoragePartition} will execute this method,
@@ -13,6 +13,7 @@ public class StoragePartitionConfig {
   private boolean deferredWrite;
   private boolean readOnly;
   private boolean writeOnlyConfig;
+  private boolean secondary;
 
   public StoragePartitionConfig(String storeName, int partitionId) {
     this.storeName = storeName;
@@ -20,6 +21,7 @@ public class StoragePartitionConfig {
     this.deferredWrite = false;
     this.readOnly = false;
     this.writeOnlyConfig = true;
+    this.secondary = false;
   }
 
   public String getStoreName() {
@@ -46,6 +48,8 @@ public class StoragePartitionConfig {
     this.readOnly = readOnly;
     if (readOnly) {
       setWriteOnlyConfig(false);
+    } else {
+      this.secondary = false;
     }
   }
 
@@ -60,6 +64,22 @@ public class StoragePartitionConfig {
     }
   }
 
+  public boolean isSecondary() {
+    return secondary;
+  }
+
+  /**
+   * A secondary partition is a read-only view of a partition whose database is written by another process, e.g. the
+   * isolated ingestion process, and which is brought up to date by
+   * {@link AbstractStoragePartition#catchUpWithPrimary()}.
+   */
+  public void setSecondary(boolean secondary) {
+    this.secondary = secondary;
+    if (secondary) {
+      setReadOnly(true);
+    }
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -70,17 +90,17 @@ public class StoragePartitionConfig {
     }
     StoragePartitionConfig that = (StoragePartitionConfig) o;
     return partitionId == that.partitionId && deferredWrite == that.deferredWrite && readOnly == that.readOnly
-        && writeOnlyConfig == that.writeOnlyConfig && storeName.equals(that.storeName);
+        && writeOnlyConfig == that.writeOnlyConfig && secondary == that.secondary && storeName.equals(that.storeName);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(storeName, partitionId, deferredWrite, readOnly, writeOnlyConfig);
+    return Objects.hash(storeName, partitionId, deferredWrite, readOnly, writeOnlyConfig, secondary);
   }
 
   @Override
   public String toString() {
     return "Store: " + storeName + ", partition id: " + partitionId + ", deferred-write: " + deferredWrite
-        + ", read-only: " + readOnly + ", write-only: " + writeOnlyConfig;
+        + ", read-only: " + readOnly + ", write-only: " + writeOnlyConfig + ", secondary: " + secondary;
   }
 }
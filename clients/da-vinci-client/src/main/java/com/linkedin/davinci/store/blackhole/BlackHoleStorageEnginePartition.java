@@ -51,6 +51,11 @@ public class BlackHoleStorageEnginePartition extends AbstractStoragePartition {
     callback.onCompletion();
   }
 
+  @Override
+  public void getByKeyRange(byte[] startKey, byte[] endKey, BytesStreamingCallback callback) {
+    callback.onCompletion();
+  }
+
   @Override
   public void delete(byte[] key) {
     // consider it done!
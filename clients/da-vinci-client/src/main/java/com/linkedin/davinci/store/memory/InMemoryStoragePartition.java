@@ -5,6 +5,7 @@ import com.linkedin.davinci.store.AbstractStoragePartition;
 import com.linkedin.davinci.store.StoragePartitionConfig;
 import com.linkedin.venice.exceptions.PersistenceFailureException;
 import com.linkedin.venice.utils.ByteArray;
+import com.linkedin.venice.utils.ByteUtils;
 import java.nio.ByteBuffer;
 import java.util.Collections;
 import java.util.Map;
@@ -87,6 +88,18 @@ public class InMemoryStoragePartition extends AbstractStoragePartition {
     callback.onCompletion();
   }
 
+  @Override
+  public void getByKeyRange(byte[] startKey, byte[] endKey, BytesStreamingCallback callback) {
+    for (Map.Entry<ByteArray, ByteArray> entry: partitionDb.entrySet()) {
+      byte[] key = entry.getKey().get();
+      if ((startKey == null || ByteUtils.compare(key, startKey) >= 0)
+          && (endKey == null || ByteUtils.compare(key, endKey) < 0)) {
+        callback.onRecordReceived(key, entry.getValue().get());
+      }
+    }
+    callback.onCompletion();
+  }
+
   public void delete(byte[] key) {
     ByteArray k = new ByteArray(key);
     ByteArray v = partitionDb.remove(k);
@@ -0,0 +1,181 @@
+package com.linkedin.davinci.store.offheap;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+
+/**
+ * Allocates the records of an {@link OffHeapStoragePartition} with a bump pointer from segments of off-heap memory,
+ * which are either direct buffers, or memory mapped files whose pages can be reclaimed by the OS under memory pressure.
+ *
+ * An address packs the index of a segment in its upper 32 bits and the offset in the segment in its lower 32 bits.
+ * Records are never updated in place: the space of the records which have been overwritten or deleted is tracked per
+ * segment, a segment is released as soon as it does not hold any live record, and the partition relocates the records
+ * of the sparse segments once the arena holds too much garbage, see {@link #shouldCompact()}.
+ *
+ * This class is not thread-safe, the mutations are serialized by the partition. Readers access the segments through
+ * {@link #getSegments()}, which returns a snapshot that is never mutated, so a released segment is only reclaimed once
+ * no reader references it anymore.
+ */
+class OffHeapMemoryArena {
+  static final long NULL_ADDRESS = -1;
+
+  private final int segmentSize;
+  private final File mmapDir;
+
+  private volatile ByteBuffer[] segments = new ByteBuffer[0];
+  private long[] segmentLiveBytes = new long[0];
+  private int currentSegment = -1;
+  private int currentPosition = 0;
+  private long allocatedBytes = 0;
+  private long liveBytes = 0;
+
+  /**
+   * @param mmapDir where to create the files backing the segments, or null to allocate direct buffers
+   */
+  OffHeapMemoryArena(int segmentSize, File mmapDir) {
+    this.segmentSize = segmentSize;
+    this.mmapDir = mmapDir;
+  }
+
+  static int getSegmentIndex(long address) {
+    return (int) (address >>> 32);
+  }
+
+  static int getOffset(long address) {
+    return (int) address;
+  }
+
+  ByteBuffer[] getSegments() {
+    return segments;
+  }
+
+  ByteBuffer getSegment(long address) {
+    return segments[getSegmentIndex(address)];
+  }
+
+  /**
+   * @return the address of a region of the given size, which is never split across segments
+   */
+  long allocate(int size) {
+    if (size > segmentSize) {
+      // Dedicated segment, so that the current one keeps being filled
+      int segment = addSegment(size);
+      segmentLiveBytes[segment] = size;
+      liveBytes += size;
+      return (long) segment << 32;
+    }
+    if (currentSegment < 0 || segments[currentSegment].capacity() - currentPosition < size) {
+      int previousSegment = currentSegment;
+      currentSegment = addSegment(segmentSize);
+      currentPosition = 0;
+      if (previousSegment >= 0 && segmentLiveBytes[previousSegment] == 0) {
+        releaseSegment(previousSegment);
+      }
+    }
+    long address = ((long) currentSegment << 32) | currentPosition;
+    currentPosition += size;
+    segmentLiveBytes[currentSegment] += size;
+    liveBytes += size;
+    return address;
+  }
+
+  void free(long address, int size) {
+    int segment = getSegmentIndex(address);
+    segmentLiveBytes[segment] -= size;
+    liveBytes -= size;
+    if (segmentLiveBytes[segment] == 0 && segment != currentSegment) {
+      releaseSegment(segment);
+    }
+  }
+
+  /**
+   * The garbage has to exceed both a segment and half of the allocated memory, so that the cost of the compactions is
+   * amortized over at least as many bytes written as the number of live bytes relocated.
+   */
+  boolean shouldCompact() {
+    long garbage = allocatedBytes - liveBytes;
+    if (currentSegment >= 0) {
+      garbage -= segments[currentSegment].capacity() - currentPosition;
+    }
+    return garbage > segmentSize && garbage > allocatedBytes / 2;
+  }
+
+  /**
+   * @return whether the records of the segment of the given address should be relocated by a compaction
+   */
+  boolean isSparse(long address) {
+    int segment = getSegmentIndex(address);
+    return segment != currentSegment && segmentLiveBytes[segment] < segments[segment].capacity() / 2;
+  }
+
+  long getAllocatedBytes() {
+    return allocatedBytes;
+  }
+
+  long getLiveBytes() {
+    return liveBytes;
+  }
+
+  void clear() {
+    segments = new ByteBuffer[0];
+    segmentLiveBytes = new long[0];
+    currentSegment = -1;
+    currentPosition = 0;
+    allocatedBytes = 0;
+    liveBytes = 0;
+  }
+
+  private int addSegment(int capacity) {
+    ByteBuffer segment = mmapDir == null ? ByteBuffer.allocateDirect(capacity) : mapSegment(capacity);
+    ByteBuffer[] newSegments = segments;
+    int index = 0;
+    while (index < newSegments.length && newSegments[index] != null) {
+      index++;
+    }
+    if (index == newSegments.length) {
+      newSegments = Arrays.copyOf(newSegments, Math.max(2 * newSegments.length, 4));
+      segmentLiveBytes = Arrays.copyOf(segmentLiveBytes, newSegments.length);
+    } else {
+      newSegments = newSegments.clone();
+    }
+    newSegments[index] = segment;
+    segmentLiveBytes[index] = 0;
+    allocatedBytes += capacity;
+    segments = newSegments;
+    return index;
+  }
+
+  private void releaseSegment(int index) {
+    ByteBuffer[] newSegments = segments.clone();
+    allocatedBytes -= newSegments[index].capacity();
+    newSegments[index] = null;
+    segments = newSegments;
+  }
+
+  private ByteBuffer mapSegment(int capacity) {
+    File file = null;
+    try {
+      if (!mmapDir.exists() && !mmapDir.mkdirs() && !mmapDir.exists()) {
+        throw new VeniceException("Failed to create directory: " + mmapDir);
+      }
+      file = File.createTempFile("segment-", ".mmap", mmapDir);
+      try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+        // The mapping stays valid once the channel is closed
+        return randomAccessFile.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+      }
+    } catch (IOException e) {
+      throw new VeniceException("Failed to map a segment of " + capacity + " bytes in: " + mmapDir, e);
+    } finally {
+      // The space is reclaimed by the file system once the segment gets unmapped, even if the process crashes
+      if (file != null && !file.delete()) {
+        file.deleteOnExit();
+      }
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package com.linkedin.davinci.store.offheap;
+
+import com.linkedin.davinci.config.VeniceStoreVersionConfig;
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.StoragePartitionConfig;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import java.io.File;
+import java.util.Collections;
+import java.util.Set;
+
+
+/**
+ * A non-persistent storage engine keeping its records in off-heap memory, see {@link OffHeapStoragePartition}.
+ */
+public class OffHeapStorageEngine extends AbstractStorageEngine<OffHeapStoragePartition> {
+  private final int segmentSize;
+  private final File mmapDir;
+
+  /**
+   * @param mmapDir where to create the files backing the memory of the partitions, or null to use direct buffers
+   */
+  public OffHeapStorageEngine(VeniceStoreVersionConfig storeDef, int segmentSize, File mmapDir) {
+    super(
+        storeDef.getStoreVersionName(),
+        AvroProtocolDefinition.STORE_VERSION_STATE.getSerializer(),
+        AvroProtocolDefinition.PARTITION_STATE.getSerializer());
+    this.segmentSize = segmentSize;
+    this.mmapDir = mmapDir;
+    restoreStoragePartitions();
+  }
+
+  @Override
+  public PersistenceType getType() {
+    return PersistenceType.OFF_HEAP;
+  }
+
+  @Override
+  public Set<Integer> getPersistedPartitionIds() {
+    // Nothing survives a restart
+    return Collections.emptySet();
+  }
+
+  @Override
+  public OffHeapStoragePartition createStoragePartition(StoragePartitionConfig storagePartitionConfig) {
+    return new OffHeapStoragePartition(storagePartitionConfig.getPartitionId(), segmentSize, mmapDir);
+  }
+
+  @Override
+  public long getStoreSizeInBytes() {
+    long size = 0;
+    for (int partitionId: getPartitionIds()) {
+      try {
+        size += getPartitionOrThrow(partitionId).getPartitionSizeInBytes();
+      } catch (VeniceException e) {
+        // The partition has been dropped in the meantime
+      }
+    }
+    return size;
+  }
+
+  @Override
+  public long getRMDSizeInBytes() {
+    long size = 0;
+    for (int partitionId: getPartitionIds()) {
+      try {
+        size += getPartitionOrThrow(partitionId).getRmdByteUsage();
+      } catch (VeniceException e) {
+        // The partition has been dropped in the meantime
+      }
+    }
+    return size;
+  }
+}
@@ -0,0 +1,94 @@
+package com.linkedin.davinci.store.offheap;
+
+import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.davinci.config.VeniceStoreVersionConfig;
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.StorageEngineFactory;
+import com.linkedin.venice.exceptions.StorageInitializationException;
+import com.linkedin.venice.meta.PersistenceType;
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Set;
+import org.apache.commons.io.FileUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+public class OffHeapStorageEngineFactory extends StorageEngineFactory {
+  private static final Logger LOGGER = LogManager.getLogger(OffHeapStorageEngineFactory.class);
+  private static final String MMAP_DIR_NAME = "off_heap";
+
+  private final int segmentSize;
+  private final File mmapDir;
+
+  public OffHeapStorageEngineFactory(VeniceServerConfig serverConfig) {
+    this.segmentSize = (int) serverConfig.getOffHeapStorageSegmentSize();
+    if (serverConfig.isOffHeapStorageMmapEnabled()) {
+      this.mmapDir = new File(serverConfig.getDataBasePath(), MMAP_DIR_NAME);
+      try {
+        // Files left over by a previous run, which could not be deleted while mapped
+        FileUtils.deleteDirectory(mmapDir);
+      } catch (IOException e) {
+        LOGGER.warn("Failed to delete directory: {}", mmapDir, e);
+      }
+    } else {
+      this.mmapDir = null;
+    }
+  }
+
+  @Override
+  public AbstractStorageEngine getStorageEngine(VeniceStoreVersionConfig storeConfig)
+      throws StorageInitializationException {
+    verifyPersistenceType(storeConfig);
+    try {
+      return new OffHeapStorageEngine(storeConfig, segmentSize, mmapDir);
+    } catch (Exception e) {
+      throw new StorageInitializationException(e);
+    }
+  }
+
+  /**
+   * Unlike the other non-RocksDB storage engines, {@link OffHeapStoragePartition} supports replication metadata.
+   */
+  @Override
+  public AbstractStorageEngine getStorageEngine(VeniceStoreVersionConfig storeDef, boolean replicationMetadataEnabled) {
+    return getStorageEngine(storeDef);
+  }
+
+  @Override
+  public Set<String> getPersistedStoreNames() {
+    // Nothing to restore here
+    return Collections.emptySet();
+  }
+
+  @Override
+  public void close() {
+    // Nothing to do here since we are not tracking specific created environments.
+  }
+
+  @Override
+  public void removeStorageEngine(AbstractStorageEngine engine) {
+    // Nothing to do here since we do not track the created storage engine
+  }
+
+  @Override
+  public void removeStorageEngine(String storeName) {
+    // Nothing to do here since we do not track the created storage engine
+  }
+
+  @Override
+  public void removeStorageEnginePartition(String storeName, int partition) {
+    // Nothing to do here since the memory of a partition is released when it is dropped
+  }
+
+  @Override
+  public void closeStorageEngine(AbstractStorageEngine engine) {
+    // Nothing to do here since we do not track the created storage engine
+  }
+
+  @Override
+  public PersistenceType getPersistenceType() {
+    return PersistenceType.OFF_HEAP;
+  }
+}
@@ -0,0 +1,620 @@
+package com.linkedin.davinci.store.offheap;
+
+import static com.linkedin.davinci.store.offheap.OffHeapMemoryArena.NULL_ADDRESS;
+
+import com.linkedin.davinci.callback.BytesStreamingCallback;
+import com.linkedin.davinci.store.AbstractStoragePartition;
+import com.linkedin.davinci.store.StoragePartitionConfig;
+import com.linkedin.venice.utils.ByteUtils;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.locks.StampedLock;
+
+
+/**
+ * A storage partition which keeps its records in off-heap memory allocated by an {@link OffHeapMemoryArena}, so that
+ * it does not put any pressure on the GC regardless of its size, behind an open-addressing hash index.
+ *
+ * Each record is laid out as: key length, value length, RMD length, key, value, RMD. A value length of -1 means that
+ * the value has been deleted while its RMD has been kept, which is how {@link #deleteWithReplicationMetadata} and
+ * {@link #delete} of a key with RMD behave, as in the RocksDB partitions with RMD. Chunked values do not need any
+ * special handling since each chunk, as well as the manifest, is a record of its own.
+ *
+ * The index is made of two parallel arrays holding the address and the hash of the key of each slot, with linear
+ * probing and backward shift deletion, so that there are no tombstones.
+ *
+ * Writes are serialized by the write lock of a {@link StampedLock}. Reads are optimistic: since the memory of the
+ * records is never reused while a reader may still reference it, a read racing with a write can only observe stale
+ * or inconsistent data, in which case the validation of the stamp fails and the read is retried under the read lock.
+ * Scans are always performed under the read lock.
+ */
+public class OffHeapStoragePartition extends AbstractStoragePartition {
+  private static final int HEADER_SIZE = 3 * Integer.BYTES;
+  private static final int VALUE_LENGTH_OFFSET = Integer.BYTES;
+  private static final int RMD_LENGTH_OFFSET = 2 * Integer.BYTES;
+  private static final int DELETED_VALUE_LENGTH = -1;
+  private static final int INITIAL_CAPACITY = 1024;
+  private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+  private final StampedLock lock = new StampedLock();
+  private final OffHeapMemoryArena arena;
+
+  private long[] addresses;
+  private int[] hashes;
+  private int size = 0;
+  private long rmdBytes = 0;
+
+  /**
+   * @param mmapDir where to create the files backing the memory of the partition, or null to use direct buffers
+   */
+  public OffHeapStoragePartition(Integer partitionId, int segmentSize, File mmapDir) {
+    super(partitionId);
+    this.arena = new OffHeapMemoryArena(segmentSize, mmapDir);
+    initIndex(INITIAL_CAPACITY);
+  }
+
+  @Override
+  public void put(byte[] key, byte[] value) {
+    upsert(key, ByteBuffer.wrap(value), null, false, true);
+  }
+
+  @Override
+  public void put(byte[] key, ByteBuffer value) {
+    upsert(key, value.duplicate(), null, false, true);
+  }
+
+  @Override
+  public <K, V> void put(K key, V value) {
+    throw new UnsupportedOperationException("Method not implemented!!");
+  }
+
+  @Override
+  public void putWithReplicationMetadata(byte[] key, ByteBuffer value, byte[] metadata) {
+    upsert(key, value.duplicate(), ByteBuffer.wrap(metadata), false, false);
+  }
+
+  @Override
+  public void putWithReplicationMetadata(byte[] key, byte[] value, byte[] metadata) {
+    upsert(key, ByteBuffer.wrap(value), ByteBuffer.wrap(metadata), false, false);
+  }
+
+  @Override
+  public void putReplicationMetadata(byte[] key, byte[] metadata) {
+    upsert(key, null, ByteBuffer.wrap(metadata), true, false);
+  }
+
+  @Override
+  public void deleteWithReplicationMetadata(byte[] key, byte[] replicationMetadata) {
+    upsert(key, null, ByteBuffer.wrap(replicationMetadata), false, false);
+  }
+
+  @Override
+  public void delete(byte[] key) {
+    long stamp = lock.writeLock();
+    try {
+      int hash = hash(key, 0, key.length);
+      int slot = findSlot(addresses, hashes, arena.getSegments(), key, 0, key.length, hash);
+      if (slot < 0) {
+        return;
+      }
+      long address = addresses[slot];
+      ByteBuffer segment = arena.getSegment(address);
+      int offset = OffHeapMemoryArena.getOffset(address);
+      int rmdLength = segment.getInt(offset + RMD_LENGTH_OFFSET);
+      if (rmdLength > 0) {
+        // Like RocksDB, only the value is deleted, and the RMD is kept
+        if (segment.getInt(offset + VALUE_LENGTH_OFFSET) != DELETED_VALUE_LENGTH) {
+          replaceRecord(slot, key, null, getRmdView(segment, offset));
+        }
+        return;
+      }
+      releaseRecord(address);
+      removeSlot(slot);
+      size--;
+      maybeCompact();
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public byte[] get(byte[] key) {
+    return read(key, 0, key.length, false);
+  }
+
+  @Override
+  public byte[] get(ByteBuffer key) {
+    return read(key.array(), key.arrayOffset() + key.position(), key.remaining(), false);
+  }
+
+  @Override
+  public <K, V> V get(K key) {
+    throw new UnsupportedOperationException("Method not implemented!!");
+  }
+
+  @Override
+  public ByteBuffer get(byte[] key, ByteBuffer valueToBePopulated) {
+    long stamp = lock.tryOptimisticRead();
+    if (stamp != 0) {
+      try {
+        ByteBuffer value = readInto(key, valueToBePopulated);
+        if (lock.validate(stamp)) {
+          return value;
+        }
+      } catch (RuntimeException e) {
+        if (lock.validate(stamp)) {
+          throw e;
+        }
+      }
+    }
+    stamp = lock.readLock();
+    try {
+      return readInto(key, valueToBePopulated);
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  @Override
+  public byte[] getReplicationMetadata(byte[] key) {
+    return read(key, 0, key.length, true);
+  }
+
+  @Override
+  public void getByKeyPrefix(byte[] keyPrefix, BytesStreamingCallback callback) {
+    long stamp = lock.readLock();
+    try {
+      ByteBuffer[] segments = arena.getSegments();
+      for (long address: addresses) {
+        if (address == NULL_ADDRESS) {
+          continue;
+        }
+        ByteBuffer segment = segments[OffHeapMemoryArena.getSegmentIndex(address)];
+        int offset = OffHeapMemoryArena.getOffset(address);
+        if (segment.getInt(offset + VALUE_LENGTH_OFFSET) == DELETED_VALUE_LENGTH
+            || (keyPrefix != null && !startsWith(segment, offset, keyPrefix))) {
+          continue;
+        }
+        callback.onRecordReceived(getKey(segment, offset), getValue(segment, offset));
+      }
+    } finally {
+      lock.unlockRead(stamp);
+    }
+    callback.onCompletion();
+  }
+
+  @Override
+  public void getByKeyRange(byte[] startKey, byte[] endKey, BytesStreamingCallback callback) {
+    long stamp = lock.readLock();
+    try {
+      ByteBuffer[] segments = arena.getSegments();
+      for (long address: addresses) {
+        if (address == NULL_ADDRESS) {
+          continue;
+        }
+        ByteBuffer segment = segments[OffHeapMemoryArena.getSegmentIndex(address)];
+        int offset = OffHeapMemoryArena.getOffset(address);
+        if (segment.getInt(offset + VALUE_LENGTH_OFFSET) == DELETED_VALUE_LENGTH) {
+          continue;
+        }
+        byte[] key = getKey(segment, offset);
+        if ((startKey == null || ByteUtils.compare(key, startKey) >= 0)
+            && (endKey == null || ByteUtils.compare(key, endKey) < 0)) {
+          callback.onRecordReceived(key, getValue(segment, offset));
+        }
+      }
+    } finally {
+      lock.unlockRead(stamp);
+    }
+    callback.onCompletion();
+  }
+
+  @Override
+  public Map<String, String> sync() {
+    // Nothing is persisted
+    return Collections.emptyMap();
+  }
+
+  @Override
+  public void drop() {
+    clear();
+  }
+
+  @Override
+  public void close() {
+    // Nothing survives the partition, as for the in-memory partition
+    clear();
+  }
+
+  @Override
+  public boolean verifyConfig(StoragePartitionConfig storagePartitionConfig) {
+    // no need to do any special check
+    return true;
+  }
+
+  /**
+   * @return the memory used by the live records and the index
+   */
+  @Override
+  public long getPartitionSizeInBytes() {
+    long stamp = lock.readLock();
+    try {
+      return arena.getLiveBytes() + (long) addresses.length * (Long.BYTES + Integer.BYTES);
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  @Override
+  public long getRmdByteUsage() {
+    long stamp = lock.readLock();
+    try {
+      return rmdBytes;
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  /**
+   * @return the off-heap memory allocated by this partition, including the garbage not compacted yet
+   */
+  public long getAllocatedBytes() {
+    long stamp = lock.readLock();
+    try {
+      return arena.getAllocatedBytes() + (long) addresses.length * (Long.BYTES + Integer.BYTES);
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  /**
+   * @param value the value to store, or null to delete it
+   * @param rmd the RMD to store, or null if there is none
+   * @param keepValue whether to keep the current value of the key, if any, in which case value is ignored
+   * @param keepRmd whether to keep the current RMD of the key, if any, in which case rmd is ignored
+   */
+  private void upsert(byte[] key, ByteBuffer value, ByteBuffer rmd, boolean keepValue, boolean keepRmd) {
+    long stamp = lock.writeLock();
+    try {
+      int hash = hash(key, 0, key.length);
+      int slot = findSlot(addresses, hashes, arena.getSegments(), key, 0, key.length, hash);
+      if (slot >= 0) {
+        long address = addresses[slot];
+        ByteBuffer segment = arena.getSegment(address);
+        int offset = OffHeapMemoryArena.getOffset(address);
+        if (keepValue) {
+          value = getValueView(segment, offset);
+        }
+        if (keepRmd) {
+          // Like RocksDB, where the value and the RMD are stored in separate column families
+          rmd = getRmdView(segment, offset);
+        }
+        replaceRecord(slot, key, value, rmd);
+      } else {
+        if (size + 1 > addresses.length - (addresses.length >>> 2)) {
+          resize();
+        }
+        slot = findEmptySlot(addresses, hash);
+        addresses[slot] = writeRecord(key, value, rmd);
+        hashes[slot] = hash;
+        size++;
+      }
+      maybeCompact();
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  private void replaceRecord(int slot, byte[] key, ByteBuffer value, ByteBuffer rmd) {
+    long previousAddress = addresses[slot];
+    // The new record is written before the previous one is released, since the value or RMD may be copied from it
+    addresses[slot] = writeRecord(key, value, rmd);
+    releaseRecord(previousAddress);
+  }
+
+  private long writeRecord(byte[] key, ByteBuffer value, ByteBuffer rmd) {
+    int valueLength = value == null ? DELETED_VALUE_LENGTH : value.remaining();
+    int rmdLength = rmd == null ? 0 : rmd.remaining();
+    int recordSize = HEADER_SIZE + key.length + Math.max(valueLength, 0) + rmdLength;
+    long address = arena.allocate(recordSize);
+    ByteBuffer segment = arena.getSegment(address).duplicate();
+    segment.position(OffHeapMemoryArena.getOffset(address));
+    segment.putInt(key.length);
+    segment.putInt(valueLength);
+    segment.putInt(rmdLength);
+    segment.put(key);
+    if (value != null) {
+      segment.put(value.duplicate());
+    }
+    if (rmd != null) {
+      segment.put(rmd.duplicate());
+    }
+    rmdBytes += rmdLength;
+    return address;
+  }
+
+  private void releaseRecord(long address) {
+    ByteBuffer segment = arena.getSegment(address);
+    int offset = OffHeapMemoryArena.getOffset(address);
+    int rmdLength = segment.getInt(offset + RMD_LENGTH_OFFSET);
+    rmdBytes -= rmdLength;
+    arena.free(address, getRecordSize(segment, offset));
+  }
+
+  /**
+   * Relocates the records of the sparse segments, so that these segments get released.
+   */
+  private void maybeCompact() {
+    if (!arena.shouldCompact()) {
+      return;
+    }
+    for (int slot = 0; slot < addresses.length; slot++) {
+      long address = addresses[slot];
+      if (address == NULL_ADDRESS || !arena.isSparse(address)) {
+        continue;
+      }
+      ByteBuffer source = arena.getSegment(address).duplicate();
+      int offset = OffHeapMemoryArena.getOffset(address);
+      int recordSize = getRecordSize(source, offset);
+      long newAddress = arena.allocate(recordSize);
+      source.limit(offset + recordSize);
+      source.position(offset);
+      ByteBuffer destination = arena.getSegment(newAddress).duplicate();
+      destination.position(OffHeapMemoryArena.getOffset(newAddress));
+      destination.put(source);
+      addresses[slot] = newAddress;
+      arena.free(address, recordSize);
+    }
+  }
+
+  private void resize() {
+    if (addresses.length >= MAXIMUM_CAPACITY) {
+      throw new IllegalStateException("Partition: " + partitionId + " cannot hold more than " + size + " keys");
+    }
+    long[] previousAddresses = addresses;
+    int[] previousHashes = hashes;
+    initIndex(previousAddresses.length * 2);
+    for (int i = 0; i < previousAddresses.length; i++) {
+      if (previousAddresses[i] != NULL_ADDRESS) {
+        int slot = findEmptySlot(addresses, previousHashes[i]);
+        addresses[slot] = previousAddresses[i];
+        hashes[slot] = previousHashes[i];
+      }
+    }
+  }
+
+  private void removeSlot(int slot) {
+    int mask = addresses.length - 1;
+    int hole = slot;
+    for (int i = (slot + 1) & mask; addresses[i] != NULL_ADDRESS; i = (i + 1) & mask) {
+      int idealSlot = hashes[i] & mask;
+      // The entry can be moved to the hole if the hole is between its ideal slot and its current one
+      if (((i - idealSlot) & mask) >= ((i - hole) & mask)) {
+        addresses[hole] = addresses[i];
+        hashes[hole] = hashes[i];
+        hole = i;
+      }
+    }
+    addresses[hole] = NULL_ADDRESS;
+    hashes[hole] = 0;
+  }
+
+  private void initIndex(int capacity) {
+    addresses = new long[capacity];
+    Arrays.fill(addresses, NULL_ADDRESS);
+    hashes = new int[capacity];
+  }
+
+  private void clear() {
+    long stamp = lock.writeLock();
+    try {
+      arena.clear();
+      initIndex(INITIAL_CAPACITY);
+      size = 0;
+      rmdBytes = 0;
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  private byte[] read(byte[] key, int keyOffset, int keyLength, boolean rmd) {
+    long stamp = lock.tryOptimisticRead();
+    if (stamp != 0) {
+      try {
+        byte[] result = doRead(key, keyOffset, keyLength, rmd);
+        if (lock.validate(stamp)) {
+          return result;
+        }
+      } catch (RuntimeException e) {
+        // Only a genuine failure if no write raced with the read
+        if (lock.validate(stamp)) {
+          throw e;
+        }
+      }
+    }
+    stamp = lock.readLock();
+    try {
+      return doRead(key, keyOffset, keyLength, rmd);
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  private byte[] doRead(byte[] key, int keyOffset, int keyLength, boolean rmd) {
+    long[] addresses = this.addresses;
+    ByteBuffer[] segments = arena.getSegments();
+    int slot = findSlot(addresses, hashes, segments, key, keyOffset, keyLength, hash(key, keyOffset, keyLength));
+    if (slot < 0) {
+      return null;
+    }
+    long address = addresses[slot];
+    ByteBuffer segment = segments[OffHeapMemoryArena.getSegmentIndex(address)];
+    int offset = OffHeapMemoryArena.getOffset(address);
+    if (rmd) {
+      ByteBuffer rmdView = getRmdView(segment, offset);
+      if (rmdView == null) {
+        return null;
+      }
+      byte[] bytes = new byte[rmdView.remaining()];
+      rmdView.get(bytes);
+      return bytes;
+    }
+    return segment.getInt(offset + VALUE_LENGTH_OFFSET) == DELETED_VALUE_LENGTH ? null : getValue(segment, offset);
+  }
+
+  private ByteBuffer readInto(byte[] key, ByteBuffer valueToBePopulated) {
+    long[] addresses = this.addresses;
+    ByteBuffer[] segments = arena.getSegments();
+    int slot = findSlot(addresses, hashes, segments, key, 0, key.length, hash(key, 0, key.length));
+    if (slot < 0) {
+      return null;
+    }
+    long address = addresses[slot];
+    ByteBuffer segment = segments[OffHeapMemoryArena.getSegmentIndex(address)];
+    int offset = OffHeapMemoryArena.getOffset(address);
+    if (segment.getInt(offset + VALUE_LENGTH_OFFSET) == DELETED_VALUE_LENGTH) {
+      return null;
+    }
+    ByteBuffer value = getValueView(segment, offset);
+    if (value.remaining() > valueToBePopulated.capacity()) {
+      valueToBePopulated = ByteBuffer.allocate(value.remaining());
+    }
+    valueToBePopulated.clear();
+    valueToBePopulated.put(value);
+    valueToBePopulated.flip();
+    return valueToBePopulated;
+  }
+
+  /**
+   * @return the slot of the key, or -1 if the key does not exist
+   */
+  private static int findSlot(
+      long[] addresses,
+      int[] hashes,
+      ByteBuffer[] segments,
+      byte[] key,
+      int keyOffset,
+      int keyLength,
+      int hash) {
+    int mask = addresses.length - 1;
+    // The number of probes is bounded in case a concurrent write has made the index inconsistent
+    for (int i = hash & mask, probes = 0; probes < addresses.length; i = (i + 1) & mask, probes++) {
+      long address = addresses[i];
+      if (address == NULL_ADDRESS) {
+        return -1;
+      }
+      if (hashes[i] == hash && keyEquals(
+          segments[OffHeapMemoryArena.getSegmentIndex(address)],
+          OffHeapMemoryArena.getOffset(address),
+          key,
+          keyOffset,
+          keyLength)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static int findEmptySlot(long[] addresses, int hash) {
+    int mask = addresses.length - 1;
+    int i = hash & mask;
+    while (addresses[i] != NULL_ADDRESS) {
+      i = (i + 1) & mask;
+    }
+    return i;
+  }
+
+  private static boolean keyEquals(ByteBuffer segment, int offset, byte[] key, int keyOffset, int keyLength) {
+    if (segment.getInt(offset) != keyLength) {
+      return false;
+    }
+    int position = offset + HEADER_SIZE;
+    for (int i = 0; i < keyLength; i++) {
+      if (segment.get(position + i) != key[keyOffset + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean startsWith(ByteBuffer segment, int offset, byte[] keyPrefix) {
+    if (segment.getInt(offset) < keyPrefix.length) {
+      return false;
+    }
+    int position = offset + HEADER_SIZE;
+    for (int i = 0; i < keyPrefix.length; i++) {
+      if (segment.get(position + i) != keyPrefix[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int hash(byte[] key, int offset, int length) {
+    int hash = 1;
+    for (int i = offset; i < offset + length; i++) {
+      hash = 31 * hash + key[i];
+    }
+    // Spread the bits, since the slot is taken from the lowest ones
+    hash *= 0x9E3779B9;
+    return hash ^ (hash >>> 16);
+  }
+
+  private static int getRecordSize(ByteBuffer segment, int offset) {
+    return HEADER_SIZE + segment.getInt(offset) + Math.max(segment.getInt(offset + VALUE_LENGTH_OFFSET), 0)
+        + segment.getInt(offset + RMD_LENGTH_OFFSET);
+  }
+
+  private static byte[] getKey(ByteBuffer segment, int offset) {
+    return copy(segment, offset + HEADER_SIZE, segment.getInt(offset));
+  }
+
+  private static byte[] getValue(ByteBuffer segment, int offset) {
+    ByteBuffer value = getValueView(segment, offset);
+    byte[] bytes = new byte[value.remaining()];
+    value.get(bytes);
+    return bytes;
+  }
+
+  private static ByteBuffer getValueView(ByteBuffer segment, int offset) {
+    int valueLength = segment.getInt(offset + VALUE_LENGTH_OFFSET);
+    if (valueLength == DELETED_VALUE_LENGTH) {
+      return null;
+    }
+    return slice(segment, offset + HEADER_SIZE + segment.getInt(offset), valueLength);
+  }
+
+  private static ByteBuffer getRmdView(ByteBuffer segment, int offset) {
+    int rmdLength = segment.getInt(offset + RMD_LENGTH_OFFSET);
+    if (rmdLength == 0) {
+      return null;
+    }
+    int position =
+        offset + HEADER_SIZE + segment.getInt(offset) + Math.max(segment.getInt(offset + VALUE_LENGTH_OFFSET), 0);
+    return slice(segment, position, rmdLength);
+  }
+
+  private static byte[] copy(ByteBuffer segment, int position, int length) {
+    ByteBuffer source = slice(segment, position, length);
+    byte[] bytes = new byte[length];
+    source.get(bytes);
+    return bytes;
+  }
+
+  /**
+   * The bounds are checked before anything gets allocated, since a read racing with a write may see any length.
+   */
+  private static ByteBuffer slice(ByteBuffer segment, int position, int length) {
+    if (length < 0 || position < 0 || position > segment.capacity() - length) {
+      throw new IndexOutOfBoundsException(
+          "Invalid region at: " + position + " of length: " + length + " in a segment of: " + segment.capacity());
+    }
+    ByteBuffer slice = segment.duplicate();
+    slice.limit(position + length);
+    slice.position(position);
+    return slice;
+  }
+}
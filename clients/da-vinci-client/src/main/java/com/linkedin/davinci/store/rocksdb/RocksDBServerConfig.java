@@ -3,6 +3,9 @@ package com.linkedin.davinci.store.rocksdb;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.utils.VeniceProperties;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import org.rocksdb.CompactionStyle;
 import org.rocksdb.CompressionType;
 
@@ -206,6 +209,35 @@ public class RocksDBServerConfig {
   public static final String ROCKSDB_SEPARATE_RMD_CACHE_ENABLED = "rocksdb.separate.rmd.cache.enabled";
   public static final String ROCKSDB_BLOCK_BASE_FORMAT_VERSION = "rocksdb.block.base.format.version";
 
+  /**
+   * Bits per key of the bloom filters of the block based tables. The filters are disabled if this is not positive.
+   * With a prefix extractor, see {@link #ROCKSDB_STORE_TO_PREFIX_EXTRACTOR_LENGTH_MAP}, the filters contain the key
+   * prefixes, which are used by the key prefix and key range scans, on top of the whole keys used by point lookups.
+   */
+  public static final String ROCKSDB_BLOCK_BASE_BLOOM_FILTER_BITS_PER_KEY =
+      "rocksdb.block.base.bloom.filter.bits.per.key";
+
+  /**
+   * Whether the bloom filters of the block based tables contain the whole keys, which are used by point lookups.
+   * This can be disabled for the stores which are only read by key prefix or key range, to save memory.
+   */
+  public static final String ROCKSDB_BLOCK_BASE_WHOLE_KEY_FILTERING = "rocksdb.block.base.whole.key.filtering";
+
+  /**
+   * Map from store name to the length of the fixed length prefix extractor used with the block based tables of its
+   * versions, e.g. "store1:8,store2:16". The length should be the serialized size of the leading key fields which are
+   * used to look up by key prefix. Be cautious when tweaking this config, since the filters of the files written with
+   * a different extractor are ignored until the files are rewritten, e.g. by the next push.
+   */
+  public static final String ROCKSDB_STORE_TO_PREFIX_EXTRACTOR_LENGTH_MAP =
+      "rocksdb.store.to.prefix.extractor.length.map";
+
+  /**
+   * Readahead size of the iterators which scan a whole partition or a key range. If this is not positive, RocksDB
+   * auto-tunes the readahead once it detects sequential reads, starting with small reads.
+   */
+  public static final String ROCKSDB_SCAN_READAHEAD_SIZE_IN_BYTES = "rocksdb.scan.readahead.size.in.bytes";
+
   public static final String ROCKSDB_MAX_LOG_FILE_NUM = "rocksdb.max.log.file.num";
   public static final String ROCKSDB_MAX_LOG_FILE_SIZE = "rocksdb.max.log.file.size";
 
@@ -266,6 +298,10 @@ public class RocksDBServerConfig {
   private final boolean atomicFlushEnabled;
   private final boolean separateRMDCacheEnabled;
   private int blockBaseFormatVersion;
+  private final double blockBaseBloomFilterBitsPerKey;
+  private final boolean blockBaseWholeKeyFiltering;
+  private final Map<String, Integer> storeToPrefixExtractorLengthMap;
+  private final long scanReadaheadSizeInBytes;
   private final int maxLogFileNum;
   private final long maxLogFileSize;
 
@@ -374,6 +410,19 @@ public class RocksDBServerConfig {
     this.separateRMDCacheEnabled = props.getBoolean(ROCKSDB_SEPARATE_RMD_CACHE_ENABLED, false);
 
     this.blockBaseFormatVersion = props.getInt(ROCKSDB_BLOCK_BASE_FORMAT_VERSION, 2);
+    this.blockBaseBloomFilterBitsPerKey = props.getDouble(ROCKSDB_BLOCK_BASE_BLOOM_FILTER_BITS_PER_KEY, 0);
+    this.blockBaseWholeKeyFiltering = props.getBoolean(ROCKSDB_BLOCK_BASE_WHOLE_KEY_FILTERING, true);
+    this.storeToPrefixExtractorLengthMap = new HashMap<>();
+    props.getMap(ROCKSDB_STORE_TO_PREFIX_EXTRACTOR_LENGTH_MAP, Collections.emptyMap()).forEach((storeName, length) -> {
+      int prefixLength = Integer.parseInt(length.trim());
+      if (prefixLength <= 0) {
+        throw new VeniceException(
+            "Invalid prefix extractor length: " + prefixLength + " for store: " + storeName + " in config: "
+                + ROCKSDB_STORE_TO_PREFIX_EXTRACTOR_LENGTH_MAP);
+      }
+      storeToPrefixExtractorLengthMap.put(storeName.trim(), prefixLength);
+    });
+    this.scanReadaheadSizeInBytes = props.getSizeInBytes(ROCKSDB_SCAN_READAHEAD_SIZE_IN_BYTES, 0);
 
     /**
      * The following configs are per store partition.
@@ -552,6 +601,25 @@ public class RocksDBServerConfig {
     return blockBaseFormatVersion;
   }
 
+  public double getBlockBaseBloomFilterBitsPerKey() {
+    return blockBaseBloomFilterBitsPerKey;
+  }
+
+  public boolean isBlockBaseWholeKeyFilteringEnabled() {
+    return blockBaseWholeKeyFiltering;
+  }
+
+  /**
+   * @return the length of the prefix extractor of the given store, or 0 if the store has no prefix extractor
+   */
+  public int getPrefixExtractorLength(String storeName) {
+    return storeToPrefixExtractorLengthMap.getOrDefault(storeName, 0);
+  }
+
+  public long getScanReadaheadSizeInBytes() {
+    return scanReadaheadSizeInBytes;
+  }
+
   // For test only
   public void setBlockBaseFormatVersion(int version) {
     this.blockBaseFormatVersion = version;
@@ -17,6 +17,9 @@ import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
@@ -145,6 +148,24 @@ public class RocksDBStorageEngine extends AbstractStorageEngine<RocksDBStoragePa
     }
   }
 
+  @Override
+  public synchronized void restorePartitionFromSnapshot(int partitionId, String snapshotDir) {
+    if (containsPartition(partitionId)) {
+      closePartition(partitionId);
+    }
+    File partitionDbDir = new File(RocksDBUtils.composePartitionDbDir(rocksDbPath, getStoreName(), partitionId));
+    try {
+      FileUtils.deleteDirectory(partitionDbDir);
+      Files.move(Paths.get(snapshotDir), partitionDbDir.toPath(), StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new VeniceException(
+          "Failed to move snapshot: " + snapshotDir + " to partition: " + partitionId + " of store: " + getStoreName(),
+          e);
+    }
+    addStoragePartition(partitionId);
+    LOGGER.info("Restored partition: {} of store: {} from snapshot: {}", partitionId, getStoreName(), snapshotDir);
+  }
+
   @Override
   public void drop() {
     super.drop();
@@ -29,6 +29,7 @@ import java.util.Set;
 import org.apache.commons.io.FileUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.rocksdb.BloomFilter;
 import org.rocksdb.Cache;
 import org.rocksdb.ClockCache;
 import org.rocksdb.Env;
@@ -64,6 +65,10 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
   private final String rocksDBPath;
   private final Cache sharedCache;
   private Cache sharedRMDCache;
+  /**
+   * Shared bloom filter policy across all the RocksDB databases, or null if the block based tables have no filter.
+   */
+  private final BloomFilter bloomFilter;
   private final Map<String, RocksDBStorageEngine> storageEngineMap = new HashMap<>();
   private final Optional<Statistics> aggStatistics;
 
@@ -166,6 +171,12 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
       }
     }
 
+    if (rocksDBServerConfig.getBlockBaseBloomFilterBitsPerKey() > 0) {
+      this.bloomFilter = new BloomFilter(rocksDBServerConfig.getBlockBaseBloomFilterBitsPerKey());
+    } else {
+      this.bloomFilter = null;
+    }
+
     if (rocksDBServerConfig.isRocksDBStatisticsEnabled()) {
       // Ignore all the histogram types for performance concern.
       this.aggStatistics = Optional.of(new Statistics(EnumSet.allOf(HistogramType.class)));
@@ -245,6 +256,10 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
     return rocksDBServerConfig.isUseSeparateRMDCacheEnabled() && isRMD ? sharedRMDCache : sharedCache;
   }
 
+  public BloomFilter getBloomFilter() {
+    return bloomFilter;
+  }
+
   @Override
   public synchronized AbstractStorageEngine getStorageEngine(VeniceStoreVersionConfig storeConfig)
       throws StorageInitializationException {
@@ -301,6 +316,9 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
     if (sharedRMDCache != null) {
       sharedRMDCache.close();
     }
+    if (bloomFilter != null) {
+      bloomFilter.close();
+    }
     writeBufferManager.close();
     rateLimiter.close();
     this.env.close();
@@ -28,8 +28,10 @@ import javax.annotation.concurrent.NotThreadSafe;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
 import org.rocksdb.ByteBufferGetStatus;
 import org.rocksdb.Cache;
+import org.rocksdb.Checkpoint;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ColumnFamilyOptions;
@@ -80,6 +82,10 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
 
   protected final String storeName;
   private final String storeNameWithoutVersionSuffix;
+  /**
+   * Length of the fixed length prefix extractor of the block based tables, or 0 if there is none.
+   */
+  private final int prefixExtractorLength;
   protected final int partitionId;
   private final String fullPathForPartitionDB;
 
@@ -123,6 +129,12 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
    */
   protected final boolean readOnly;
   protected final boolean writeOnly;
+  /**
+   * Whether the database is opened as a RocksDB secondary instance of a database written by another process,
+   * in which case it is read only as well.
+   */
+  protected final boolean secondary;
+  private final String fullPathForSecondaryDB;
   private final Optional<Statistics> aggStatistics;
   private final RocksDBMemoryStats rocksDBMemoryStats;
 
@@ -155,6 +167,9 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     // Create the folder for storage partition if it doesn't exist
     this.storeName = storagePartitionConfig.getStoreName();
     this.storeNameWithoutVersionSuffix = Version.parseStoreFromVersionTopic(storeName);
+    this.prefixExtractorLength = rocksDBServerConfig.isRocksDBPlainTableFormatEnabled()
+        ? 0
+        : rocksDBServerConfig.getPrefixExtractorLength(storeNameWithoutVersionSuffix);
     this.partitionId = storagePartitionConfig.getPartitionId();
     this.aggStatistics = factory.getAggStatistics();
 
@@ -179,7 +194,13 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     }
     this.readOnly = storagePartitionConfig.isReadOnly();
     this.writeOnly = storagePartitionConfig.isWriteOnlyConfig();
+    this.secondary = storagePartitionConfig.isSecondary();
     this.fullPathForPartitionDB = RocksDBUtils.composePartitionDbDir(dbDir, storeName, partitionId);
+    this.fullPathForSecondaryDB = RocksDBUtils.composeSecondaryDbDir(dbDir, storeName, partitionId);
+    if (secondary) {
+      // The secondary instance has to keep all the files open, since it cannot tell which ones the primary deleted
+      options.setMaxOpenFiles(-1);
+    }
     this.options = options;
     /**
      * TODO: check whether we should tune any config with {@link EnvOptions}.
@@ -222,13 +243,7 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
      */
     Runnable dbOpenRunnable = () -> {
       try {
-        if (this.readOnly) {
-          this.rocksDB = rocksDbThrottler
-              .openReadOnly(options, fullPathForPartitionDB, columnFamilyDescriptors, columnFamilyHandleList);
-        } else {
-          this.rocksDB =
-              rocksDbThrottler.open(options, fullPathForPartitionDB, columnFamilyDescriptors, columnFamilyHandleList);
-        }
+        this.rocksDB = openDB();
       } catch (RocksDBException | InterruptedException e) {
         throw new VeniceException(
             "Failed to open RocksDB for store: " + storeName + ", partition id: " + partitionId,
@@ -254,10 +269,26 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
         "Opened RocksDB for store: {}, partition: {}, in {} and {} mode",
         storeName,
         partitionId,
-        this.readOnly ? "read-only" : "read-write",
+        this.secondary ? "secondary" : (this.readOnly ? "read-only" : "read-write"),
         this.deferredWrite ? "deferred write" : "non-deferred write");
   }
 
+  private RocksDB openDB() throws RocksDBException, InterruptedException {
+    if (this.secondary) {
+      return rocksDBThrottler.openAsSecondary(
+          options,
+          fullPathForPartitionDB,
+          fullPathForSecondaryDB,
+          columnFamilyDescriptors,
+          columnFamilyHandleList);
+    } else if (this.readOnly) {
+      return rocksDBThrottler
+          .openReadOnly(options, fullPathForPartitionDB, columnFamilyDescriptors, columnFamilyHandleList);
+    } else {
+      return rocksDBThrottler.open(options, fullPathForPartitionDB, columnFamilyDescriptors, columnFamilyHandleList);
+    }
+  }
+
   public RocksDBStoragePartition(
       StoragePartitionConfig storagePartitionConfig,
       RocksDBStorageEngineFactory factory,
@@ -377,7 +408,16 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
       tableConfig.setBlockCache(factory.getSharedCache(isRMD));
       tableConfig.setCacheIndexAndFilterBlocks(rocksDBServerConfig.isRocksDBSetCacheIndexAndFilterBlocks());
       tableConfig.setFormatVersion(rocksDBServerConfig.getBlockBaseFormatVersion());
+      BloomFilter bloomFilter = factory.getBloomFilter();
+      if (bloomFilter != null) {
+        tableConfig.setFilterPolicy(bloomFilter);
+        tableConfig.setWholeKeyFiltering(rocksDBServerConfig.isBlockBaseWholeKeyFilteringEnabled());
+      }
       options.setTableFormatConfig(tableConfig);
+      // Key prefix and key range scans are only done on the values, not on the replication metadata
+      if (!isRMD && prefixExtractorLength > 0) {
+        options.useFixedLengthPrefixExtractor(prefixExtractorLength);
+      }
     }
 
     if (storagePartitionConfig.isWriteOnlyConfig()) {
@@ -638,22 +678,97 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     }
   }
 
+  @Override
+  public int getIntoDirectBuffer(ByteBuffer key, ByteBuffer value) {
+    readCloseRWLock.readLock().lock();
+    try {
+      makeSureRocksDBIsStillOpen();
+      // RocksDB returns the full value size even if the value got truncated
+      int valueSize = rocksDB.get(READ_OPTIONS_DEFAULT, key, value);
+      return valueSize == RocksDB.NOT_FOUND ? -1 : valueSize;
+    } catch (RocksDBException e) {
+      throw new VeniceException("Failed to get value from store: " + storeName + ", partition id: " + partitionId, e);
+    } finally {
+      readCloseRWLock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public int[] multiGetIntoDirectBuffers(List<ByteBuffer> keys, List<ByteBuffer> values) {
+    readCloseRWLock.readLock().lock();
+    try {
+      makeSureRocksDBIsStillOpen();
+      int[] valueSizes = new int[keys.size()];
+      if (valueSizes.length == 1) {
+        // Skip the batching overhead of multiGet, RocksDB returns the full value size even if the value got truncated
+        valueSizes[0] = rocksDB.get(READ_OPTIONS_DEFAULT, keys.get(0), values.get(0));
+        if (valueSizes[0] == RocksDB.NOT_FOUND) {
+          valueSizes[0] = -1;
+        }
+        return valueSizes;
+      }
+      List<ByteBufferGetStatus> statusList = rocksDB.multiGetByteBuffers(READ_OPTIONS_DEFAULT, keys, values);
+      if (statusList.size() != valueSizes.length) {
+        throw new VeniceException(
+            "RocksDB returns inconsistent number of statuses, key count: " + keys.size() + ", but returns: "
+                + statusList.size() + " in store: " + storeName + ", partition: " + partitionId);
+      }
+      for (int i = 0; i < valueSizes.length; i++) {
+        ByteBufferGetStatus bbStatus = statusList.get(i);
+        Status.Code statusCode = bbStatus.status.getCode();
+        if (statusCode.equals(Status.Code.Ok)) {
+          valueSizes[i] = bbStatus.requiredSize;
+        } else if (statusCode.equals(Status.Code.NotFound)) {
+          valueSizes[i] = -1;
+        } else {
+          throw new VeniceException(
+              "Received unexpected code from RocksDB: " + statusCode + " in store: " + storeName + ", partition: "
+                  + partitionId);
+        }
+      }
+      return valueSizes;
+    } catch (RocksDBException e) {
+      throw new VeniceException("Failed to get value from store: " + storeName + ", partition id: " + partitionId, e);
+    } finally {
+      readCloseRWLock.readLock().unlock();
+    }
+  }
+
   @Override
   public void getByKeyPrefix(byte[] keyPrefix, BytesStreamingCallback callback) {
     if (keyPrefix != null && rocksDBServerConfig.isRocksDBPlainTableFormatEnabled()) {
       throw new VeniceException("Get by key prefix is not supported with RocksDB PlainTable Format.");
     }
+    byte[] upperBound = keyPrefix == null ? null : getPrefixIterationUpperBound(keyPrefix);
+    scan(keyPrefix, upperBound, keyPrefix == null, callback);
+  }
 
+  @Override
+  public void getByKeyRange(byte[] startKey, byte[] endKey, BytesStreamingCallback callback) {
+    if ((startKey != null || endKey != null) && rocksDBServerConfig.isRocksDBPlainTableFormatEnabled()) {
+      throw new VeniceException("Get by key range is not supported with RocksDB PlainTable Format.");
+    }
+    scan(startKey, endKey, true, callback);
+  }
+
+  /**
+   * Scans the keys from the start key (inclusive) to the end key (exclusive). The null bounds are unbounded.
+   *
+   * With a prefix extractor, the auto prefix mode lets RocksDB use the prefix bloom filters whenever the scanned range
+   * is within a single prefix, and fall back to a total order seek otherwise.
+   */
+  private void scan(byte[] startKey, byte[] endKey, boolean isLongScan, BytesStreamingCallback callback) {
     readCloseRWLock.readLock().lock();
     try {
       makeSureRocksDBIsStillOpen();
 
-      try (ReadOptions readOptions = getReadOptionsForIteration(keyPrefix);
+      try (Slice upperBound = endKey == null ? null : new Slice(endKey);
+          ReadOptions readOptions = getReadOptionsForIteration(upperBound, isLongScan);
           RocksIterator iterator = rocksDB.newIterator(readOptions)) {
-        if (keyPrefix == null) {
+        if (startKey == null) {
           iterator.seekToFirst();
         } else {
-          iterator.seek(keyPrefix);
+          iterator.seek(startKey);
         }
         while (iterator.isValid()) {
           callback.onRecordReceived(iterator.key(), iterator.value());
@@ -673,17 +788,28 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     return rocksDBSstFileWriter.validateBatchIngestion();
   }
 
-  private ReadOptions getReadOptionsForIteration(byte[] keyPrefix) {
-    if (keyPrefix == null) {
-      return new ReadOptions();
-    } else {
-      return new ReadOptions().setIterateUpperBound(getPrefixIterationUpperBound(keyPrefix));
+  private ReadOptions getReadOptionsForIteration(Slice upperBound, boolean isLongScan) {
+    ReadOptions readOptions = new ReadOptions();
+    if (upperBound != null) {
+      readOptions.setIterateUpperBound(upperBound);
+    }
+    if (prefixExtractorLength > 0) {
+      readOptions.setAutoPrefixMode(true);
+    }
+    if (isLongScan && rocksDBServerConfig.getScanReadaheadSizeInBytes() > 0) {
+      readOptions.setReadaheadSize(rocksDBServerConfig.getScanReadaheadSizeInBytes());
     }
+    return readOptions;
   }
 
-  private Slice getPrefixIterationUpperBound(byte[] prefix) {
-    byte[] upperBound = getIncrementedByteArray(Arrays.copyOf(prefix, prefix.length), prefix.length - 1);
-    return upperBound == null ? null : new Slice(upperBound);
+  /**
+   * @return the smallest key which is greater than all the keys with the given prefix, or null if there is none
+   */
+  private byte[] getPrefixIterationUpperBound(byte[] prefix) {
+    if (prefix.length == 0) {
+      return null;
+    }
+    return getIncrementedByteArray(Arrays.copyOf(prefix, prefix.length), prefix.length - 1);
   }
 
   private byte[] getIncrementedByteArray(byte[] array, int indexToIncrement) {
@@ -782,6 +908,12 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
   @Override
   public synchronized void drop() {
     close();
+    if (secondary) {
+      // The database belongs to the process writing it, so only the files of the secondary instance are removed
+      deleteDirectory(fullPathForSecondaryDB);
+      LOGGER.info("RocksDB secondary instance for store: {}, partition: {} was dropped.", storeName, partitionId);
+      return;
+    }
     try {
       Options storeOptions = getStoreOptions(new StoragePartitionConfig(storeName, partitionId), false);
       RocksDB.destroyDB(fullPathForPartitionDB, storeOptions);
@@ -848,13 +980,7 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
           partitionId,
           LatencyUtils.getElapsedTimeInMs(startTimeInMs));
 
-      if (this.readOnly) {
-        this.rocksDB = rocksDBThrottler
-            .openReadOnly(options, fullPathForPartitionDB, columnFamilyDescriptors, columnFamilyHandleList);
-      } else {
-        this.rocksDB =
-            rocksDBThrottler.open(options, fullPathForPartitionDB, columnFamilyDescriptors, columnFamilyHandleList);
-      }
+      this.rocksDB = openDB();
       LOGGER.info("Reopened RocksDB for store: {}, partition: {}", storeName, partitionId);
     } catch (Exception e) {
       throw new VeniceException("Failed to reopen RocksDB for store: " + storeName + " partition: " + partitionId);
@@ -863,6 +989,36 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     }
   }
 
+  @Override
+  public boolean isSecondary() {
+    return secondary;
+  }
+
+  /**
+   * Replay the manifest and the WAL of the primary instance, so the reads see the data which has been flushed by the
+   * primary instance so far. Since the WAL of the data partitions is disabled, the data still in the memtables of the
+   * primary instance remains invisible until its next flush.
+   */
+  @Override
+  public void catchUpWithPrimary() {
+    if (!secondary) {
+      throw new VeniceException(
+          "Cannot catch up with primary while partition is not opened as a secondary instance" + ", partition="
+              + storeName + "_" + partitionId);
+    }
+    readCloseRWLock.readLock().lock();
+    try {
+      makeSureRocksDBIsStillOpen();
+      rocksDB.tryCatchUpWithPrimary();
+    } catch (RocksDBException e) {
+      throw new VeniceException(
+          "Failed to catch up with primary for store: " + storeName + ", partition id: " + partitionId,
+          e);
+    } finally {
+      readCloseRWLock.readLock().unlock();
+    }
+  }
+
   private void registerDBStats() {
     if (rocksDBMemoryStats != null) {
       rocksDBMemoryStats.registerPartition(RocksDBUtils.getPartitionDbName(storeName, partitionId), this);
@@ -871,7 +1027,7 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
 
   private void deRegisterDBStats() {
     if (rocksDBMemoryStats != null) {
-      rocksDBMemoryStats.deregisterPartition(RocksDBUtils.getPartitionDbName(storeName, partitionId));
+      rocksDBMemoryStats.deregisterPartition(RocksDBUtils.getPartitionDbName(storeName, partitionId), this);
     }
   }
 
@@ -909,10 +1065,11 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
   @Override
   public boolean verifyConfig(StoragePartitionConfig partitionConfig) {
     if (options.tableFormatConfig() instanceof PlainTableConfig) {
-      return readOnly == partitionConfig.isReadOnly() && writeOnly == partitionConfig.isWriteOnlyConfig();
+      return readOnly == partitionConfig.isReadOnly() && writeOnly == partitionConfig.isWriteOnlyConfig()
+          && secondary == partitionConfig.isSecondary();
     }
     return deferredWrite == partitionConfig.isDeferredWrite() && readOnly == partitionConfig.isReadOnly()
-        && writeOnly == partitionConfig.isWriteOnlyConfig();
+        && writeOnly == partitionConfig.isWriteOnlyConfig() && secondary == partitionConfig.isSecondary();
   }
 
   @Override
@@ -926,6 +1083,45 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     }
   }
 
+  /**
+   * Uses a RocksDB {@link Checkpoint}, which flushes the memtables and then hard-links the live SST files into the
+   * snapshot directory when it is on the same file system, so it is cheap even for large partitions. All the column
+   * families, including the replication metadata one, are part of the snapshot.
+   */
+  @Override
+  public List<String> createSnapshot(String snapshotDir) {
+    if (deferredWrite) {
+      throw new VeniceException(
+          "Cannot create a snapshot of store: " + storeName + ", partition: " + partitionId
+              + " while it is in deferred-write mode");
+    }
+    readCloseRWLock.readLock().lock();
+    try {
+      makeSureRocksDBIsStillOpen();
+      long startTimeInMs = System.currentTimeMillis();
+      try (Checkpoint checkpoint = Checkpoint.create(rocksDB)) {
+        checkpoint.createCheckpoint(snapshotDir);
+      }
+      String[] files = new File(snapshotDir).list();
+      if (files == null) {
+        throw new VeniceException("Failed to list the files of snapshot: " + snapshotDir);
+      }
+      LOGGER.info(
+          "Created snapshot of store: {}, partition: {} with {} files in {} ms.",
+          storeName,
+          partitionId,
+          files.length,
+          LatencyUtils.getElapsedTimeInMs(startTimeInMs));
+      return Arrays.asList(files);
+    } catch (RocksDBException e) {
+      throw new VeniceException(
+          "Failed to create snapshot of store: " + storeName + ", partition: " + partitionId + " in " + snapshotDir,
+          e);
+    } finally {
+      readCloseRWLock.readLock().unlock();
+    }
+  }
+
   protected Options getOptions() {
     return options;
   }
@@ -86,6 +86,29 @@ public class RocksDBThrottler {
         () -> RocksDB.openReadOnly(new DBOptions(options), dbPath, columnFamilyDescriptors, columnFamilyHandles));
   }
 
+  /**
+   * Open RocksDB as a secondary instance of the database in {@param primaryDbPath}, which is owned by another process,
+   * with provided column family descriptors and handlers. The secondary instance only sees the data flushed by the
+   * primary instance at the time of the last {@link RocksDB#tryCatchUpWithPrimary()}.
+   */
+  public RocksDB openAsSecondary(
+      Options options,
+      String primaryDbPath,
+      String secondaryDbPath,
+      List<ColumnFamilyDescriptor> columnFamilyDescriptors,
+      List<ColumnFamilyHandle> columnFamilyHandles) throws RocksDBException, InterruptedException {
+    columnFamilyHandles.clear(); // Make sure we pass in a clean column family handle list. RocksDB JNI only calls add
+                                 // to insert each handle.
+    return throttledOpen(
+        primaryDbPath,
+        () -> RocksDB.openAsSecondary(
+            new DBOptions(options),
+            primaryDbPath,
+            secondaryDbPath,
+            columnFamilyDescriptors,
+            columnFamilyHandles));
+  }
+
   /**
    * Open RocksDB in read-write mode with provided column family descriptors and handlers.
    */
@@ -1,5 +1,9 @@
 package com.linkedin.davinci.ingestion;
 
+import static com.linkedin.davinci.ingestion.SecondaryPartitionManager.SecondaryPartitionState.DATABASE_CREATED;
+import static com.linkedin.davinci.ingestion.SecondaryPartitionManager.SecondaryPartitionState.HANDED_OVER;
+import static com.linkedin.davinci.ingestion.SecondaryPartitionManager.SecondaryPartitionState.READABLE;
+import static com.linkedin.davinci.ingestion.SecondaryPartitionManager.SecondaryPartitionState.REGISTERED;
 import static com.linkedin.davinci.ingestion.main.MainPartitionIngestionStatus.ISOLATED;
 import static com.linkedin.davinci.ingestion.main.MainPartitionIngestionStatus.MAIN;
 import static com.linkedin.davinci.ingestion.main.MainPartitionIngestionStatus.NOT_EXIST;
@@ -8,10 +12,13 @@ import static com.linkedin.venice.ingestion.protocol.enums.IngestionCommandType.
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -23,6 +30,9 @@ import com.linkedin.davinci.ingestion.main.MainIngestionRequestClient;
 import com.linkedin.davinci.ingestion.main.MainTopicIngestionStatus;
 import com.linkedin.davinci.kafka.consumer.KafkaStoreIngestionService;
 import com.linkedin.davinci.notifier.VeniceNotifier;
+import com.linkedin.davinci.storage.StorageMetadataService;
+import com.linkedin.davinci.storage.StorageService;
+import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.exceptions.VeniceTimeoutException;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
@@ -38,6 +48,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -314,4 +325,204 @@ public class IsolatedIngestionBackendTest {
 
     }
   }
+
+  @Test
+  public void testSecondaryPartitionHandover() {
+    IsolatedIngestionBackend backend = mock(IsolatedIngestionBackend.class);
+    VeniceNotifier ingestionNotifier = mock(VeniceNotifier.class);
+    VeniceConfigLoader configLoader = mock(VeniceConfigLoader.class);
+    StorageService storageService = mock(StorageService.class);
+    MainIngestionMonitorService mainIngestionMonitorService = mock(MainIngestionMonitorService.class);
+    ExecutorService executor = Executors.newFixedThreadPool(1);
+    String topic = "topic_v1";
+    when(configLoader.getStoreConfig(topic)).thenReturn(mock(VeniceStoreVersionConfig.class));
+    SecondaryPartitionManager secondaryPartitionManager = createSecondaryPartitionManager(configLoader, storageService);
+    when(backend.getSecondaryPartitionManager()).thenReturn(secondaryPartitionManager);
+    when(backend.getMainIngestionMonitorService()).thenReturn(mainIngestionMonitorService);
+    when(backend.getCompletionHandlingExecutor()).thenReturn(executor);
+    when(backend.getIsolatedIngestionNotifier(any())).thenCallRealMethod();
+    when(backend.getLocalIngestionNotifier(any())).thenCallRealMethod();
+    when(backend.getConfigLoader()).thenReturn(configLoader);
+    when(backend.isTopicPartitionHosted(topic, 1)).thenReturn(true);
+    when(backend.isPartitionReadableDuringIngestion(anyString(), anyInt())).thenCallRealMethod();
+    VeniceNotifier localNotifier = backend.getLocalIngestionNotifier(ingestionNotifier);
+
+    try {
+      // The secondary partition is only opened once child process has created the database
+      secondaryPartitionManager.registerPartition(topic, 1);
+      secondaryPartitionManager.catchUpPartitions();
+      verify(storageService, never()).openStoreForSecondaryPartition(any(), anyInt(), any());
+      secondaryPartitionManager.markDatabaseCreated(topic, 1);
+      Assert.assertEquals(secondaryPartitionManager.getPartitionState(topic, 1), DATABASE_CREATED);
+      Assert.assertFalse(backend.isPartitionReadableDuringIngestion(topic, 1));
+
+      // The partition serves reads from its secondary partition once it has caught up, while child process ingests it
+      secondaryPartitionManager.catchUpPartitions();
+      verify(storageService, times(1)).openStoreForSecondaryPartition(any(), eq(1), any());
+      verify(storageService, times(1)).catchUpSecondaryStorePartition(topic, 1);
+      Assert.assertEquals(secondaryPartitionManager.getPartitionState(topic, 1), READABLE);
+      Assert.assertTrue(backend.isPartitionReadableDuringIngestion(topic, 1));
+      secondaryPartitionManager.catchUpPartitions();
+      verify(storageService, times(2)).catchUpSecondaryStorePartition(topic, 1);
+
+      // COMPLETED is reported once main process took the database over
+      backend.getIsolatedIngestionNotifier(ingestionNotifier).completed(topic, 1, 123L, "", Optional.empty());
+      TestUtils.waitForNonDeterministicAssertion(5, TimeUnit.SECONDS, true, () -> {
+        verify(backend, times(1)).startConsumptionLocally(any(), eq(1), any());
+        verify(ingestionNotifier, times(1)).completed(topic, 1, 123L, "", Optional.empty());
+      });
+      verify(storageService, times(3)).catchUpSecondaryStorePartition(topic, 1);
+      Assert.assertEquals(secondaryPartitionManager.getPartitionState(topic, 1), HANDED_OVER);
+      Assert.assertTrue(backend.isPartitionReadableDuringIngestion(topic, 1));
+
+      // The COMPLETED reported by the local ingestion is not relayed again
+      localNotifier.completed(topic, 1, 456L, "", Optional.empty());
+      localNotifier.completed(topic, 1, 456L, "");
+      verify(ingestionNotifier, times(1)).completed(anyString(), anyInt(), anyLong(), anyString(), any());
+      verify(ingestionNotifier, never()).completed(anyString(), anyInt(), anyLong(), anyString());
+
+      // The partition is not caught up anymore, and the next subscription reports COMPLETED again
+      secondaryPartitionManager.catchUpPartitions();
+      verify(storageService, times(3)).catchUpSecondaryStorePartition(topic, 1);
+      secondaryPartitionManager.clearHandover(topic, 1);
+      Assert.assertNull(secondaryPartitionManager.getPartitionState(topic, 1));
+      localNotifier.completed(topic, 1, 789L, "", Optional.empty());
+      verify(ingestionNotifier, times(1)).completed(topic, 1, 789L, "", Optional.empty());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testSecondaryPartitionHandoverFailure() {
+    IsolatedIngestionBackend backend = mock(IsolatedIngestionBackend.class);
+    VeniceNotifier ingestionNotifier = mock(VeniceNotifier.class);
+    VeniceConfigLoader configLoader = mock(VeniceConfigLoader.class);
+    StorageService storageService = mock(StorageService.class);
+    MainIngestionMonitorService mainIngestionMonitorService = mock(MainIngestionMonitorService.class);
+    ExecutorService executor = Executors.newFixedThreadPool(1);
+    String topic = "topic_v1";
+    when(configLoader.getStoreConfig(topic)).thenReturn(mock(VeniceStoreVersionConfig.class));
+    SecondaryPartitionManager secondaryPartitionManager = createSecondaryPartitionManager(configLoader, storageService);
+    when(backend.getSecondaryPartitionManager()).thenReturn(secondaryPartitionManager);
+    when(backend.getMainIngestionMonitorService()).thenReturn(mainIngestionMonitorService);
+    when(backend.getCompletionHandlingExecutor()).thenReturn(executor);
+    when(backend.getIsolatedIngestionNotifier(any())).thenCallRealMethod();
+    when(backend.getLocalIngestionNotifier(any())).thenCallRealMethod();
+    when(backend.getConfigLoader()).thenReturn(configLoader);
+    when(backend.isTopicPartitionHosted(anyString(), anyInt())).thenReturn(true);
+    VeniceNotifier localNotifier = backend.getLocalIngestionNotifier(ingestionNotifier);
+
+    try {
+      // Case 1: The take over fails, so ERROR is reported without any COMPLETED before.
+      secondaryPartitionManager.registerPartition(topic, 1);
+      secondaryPartitionManager.markDatabaseCreated(topic, 1);
+      doThrow(new VeniceException("Failed to open")).when(backend).startConsumptionLocally(any(), eq(1), any());
+      backend.getIsolatedIngestionNotifier(ingestionNotifier).completed(topic, 1, 123L, "", Optional.empty());
+      TestUtils.waitForNonDeterministicAssertion(5, TimeUnit.SECONDS, true, () -> {
+        verify(ingestionNotifier, times(1)).error(eq(topic), eq(1), anyString(), any());
+        verify(mainIngestionMonitorService, times(1)).setVersionPartitionToLocalIngestion(topic, 1);
+      });
+      verify(ingestionNotifier, never()).completed(anyString(), anyInt(), anyLong(), anyString(), any());
+      Assert.assertNull(secondaryPartitionManager.getPartitionState(topic, 1));
+
+      // Case 2: The final catch up fails, so COMPLETED is left to the local ingestion.
+      secondaryPartitionManager.registerPartition(topic, 2);
+      secondaryPartitionManager.markDatabaseCreated(topic, 2);
+      doThrow(new VeniceException("Failed to catch up")).when(storageService).catchUpSecondaryStorePartition(topic, 2);
+      backend.getIsolatedIngestionNotifier(ingestionNotifier).completed(topic, 2, 123L, "", Optional.empty());
+      TestUtils.waitForNonDeterministicAssertion(5, TimeUnit.SECONDS, true, () -> {
+        verify(backend, times(1)).startConsumptionLocally(any(), eq(2), any());
+        verify(mainIngestionMonitorService, times(1)).setVersionPartitionToLocalIngestion(topic, 2);
+      });
+      verify(ingestionNotifier, never()).completed(anyString(), anyInt(), anyLong(), anyString(), any());
+      Assert.assertNull(secondaryPartitionManager.getPartitionState(topic, 2));
+      localNotifier.completed(topic, 2, 456L, "", Optional.empty());
+      verify(ingestionNotifier, times(1)).completed(topic, 2, 456L, "", Optional.empty());
+
+      // Case 3: The catch up of a partition fails, which does not prevent the other ones from catching up.
+      secondaryPartitionManager.registerPartition(topic, 3);
+      secondaryPartitionManager.markDatabaseCreated(topic, 3);
+      secondaryPartitionManager.registerPartition(topic, 4);
+      secondaryPartitionManager.markDatabaseCreated(topic, 4);
+      doThrow(new VeniceException("Failed to catch up")).when(storageService).catchUpSecondaryStorePartition(topic, 3);
+      secondaryPartitionManager.catchUpPartitions();
+      verify(storageService, times(1)).catchUpSecondaryStorePartition(topic, 4);
+      Assert.assertEquals(secondaryPartitionManager.getPartitionState(topic, 3), DATABASE_CREATED);
+      Assert.assertEquals(secondaryPartitionManager.getPartitionState(topic, 4), READABLE);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testDroppedSecondaryPartitionIsNotReopened() {
+    try (MainIngestionMonitorService monitorService = mock(MainIngestionMonitorService.class);
+        IsolatedIngestionBackend backend = mock(IsolatedIngestionBackend.class)) {
+      String topic = "testTopic_v1";
+      VeniceConfigLoader configLoader = mock(VeniceConfigLoader.class);
+      when(configLoader.getStoreConfig(topic)).thenReturn(mock(VeniceStoreVersionConfig.class));
+      StorageService storageService = mock(StorageService.class);
+      SecondaryPartitionManager secondaryPartitionManager =
+          createSecondaryPartitionManager(configLoader, storageService);
+      when(backend.getSecondaryPartitionManager()).thenReturn(secondaryPartitionManager);
+      VeniceStoreVersionConfig storeVersionConfig = mock(VeniceStoreVersionConfig.class);
+      when(storeVersionConfig.getStoreVersionName()).thenReturn(topic);
+      MainIngestionRequestClient ingestionRequestClient = mock(MainIngestionRequestClient.class);
+      when(ingestionRequestClient.removeTopicPartition(anyString(), anyInt())).thenReturn(true);
+      when(backend.getMainIngestionRequestClient()).thenReturn(ingestionRequestClient);
+      when(backend.getMainIngestionMonitorService()).thenReturn(monitorService);
+      Map<String, MainTopicIngestionStatus> topicIngestionStatusMap = new VeniceConcurrentHashMap<>();
+      MainTopicIngestionStatus topicIngestionStatus = new MainTopicIngestionStatus(topic);
+      topicIngestionStatus.setPartitionIngestionStatusToIsolatedIngestion(0);
+      topicIngestionStatus.setPartitionIngestionStatusToIsolatedIngestion(1);
+      topicIngestionStatusMap.put(topic, topicIngestionStatus);
+      when(monitorService.getTopicPartitionIngestionStatus(anyString(), anyInt())).thenCallRealMethod();
+      when(monitorService.getTopicIngestionStatusMap()).thenReturn(topicIngestionStatusMap);
+      when(monitorService.getTopicPartitionCount(topic)).thenReturn(1L);
+      when(monitorService.getForkProcessActionLock()).thenReturn(new ReentrantReadWriteLock());
+      when(backend.isTopicPartitionHostedInMainProcess(anyString(), anyInt())).thenCallRealMethod();
+      when(backend.isTopicPartitionHosted(anyString(), anyInt())).thenCallRealMethod();
+      doCallRealMethod().when(backend).dropStoragePartitionGracefully(any(), anyInt(), anyInt(), anyBoolean());
+      doCallRealMethod().when(backend).executeCommandWithRetry(anyString(), anyInt(), any(), any(), any());
+
+      secondaryPartitionManager.registerPartition(topic, 0);
+      secondaryPartitionManager.markDatabaseCreated(topic, 0);
+      secondaryPartitionManager.registerPartition(topic, 1);
+      secondaryPartitionManager.markDatabaseCreated(topic, 1);
+      secondaryPartitionManager.catchUpPartitions();
+      verify(storageService, times(1)).catchUpSecondaryStorePartition(topic, 0);
+
+      // The secondary partition is dropped before the database, and never caught up again
+      backend.dropStoragePartitionGracefully(storeVersionConfig, 0, 180, false);
+      verify(storageService, times(1)).dropSecondaryStorePartition(topic, 0);
+      verify(ingestionRequestClient, times(1)).removeTopicPartition(topic, 0);
+      Assert.assertNull(secondaryPartitionManager.getPartitionState(topic, 0));
+      secondaryPartitionManager.markDatabaseCreated(topic, 0);
+      secondaryPartitionManager.catchUpPartitions();
+      verify(storageService, times(1)).catchUpSecondaryStorePartition(topic, 0);
+      verify(storageService, times(2)).catchUpSecondaryStorePartition(topic, 1);
+
+      // Dropping the topic drops the remaining secondary partitions
+      secondaryPartitionManager.dropPartitions(topic);
+      verify(storageService, times(1)).dropSecondaryStorePartition(topic, 1);
+      Assert.assertNull(secondaryPartitionManager.getPartitionState(topic, 1));
+      secondaryPartitionManager.registerPartition(topic, 2);
+      Assert.assertEquals(secondaryPartitionManager.getPartitionState(topic, 2), REGISTERED);
+    }
+  }
+
+  private static SecondaryPartitionManager createSecondaryPartitionManager(
+      VeniceConfigLoader configLoader,
+      StorageService storageService) {
+    when(storageService.openStoreForSecondaryPartition(any(), anyInt(), any()))
+        .thenReturn(mock(AbstractStorageEngine.class));
+    @SuppressWarnings("unchecked")
+    BiConsumer<String, AbstractStorageEngine> storageEngineReferenceUpdater = mock(BiConsumer.class);
+    return new SecondaryPartitionManager(
+        configLoader,
+        storageService,
+        mock(StorageMetadataService.class),
+        storageEngineReferenceUpdater);
+  }
 }
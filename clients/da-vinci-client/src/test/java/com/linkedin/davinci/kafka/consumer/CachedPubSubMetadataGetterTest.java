@@ -1,15 +1,34 @@
 package com.linkedin.davinci.kafka.consumer;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
+import com.linkedin.davinci.stats.PubSubMetadataCacheStats;
 import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.kafka.TopicManager;
 import com.linkedin.venice.pubsub.PubSubTopicPartitionImpl;
 import com.linkedin.venice.pubsub.PubSubTopicRepository;
+import com.linkedin.venice.pubsub.api.PubSubTopic;
+import com.linkedin.venice.stats.StatsErrorCode;
 import com.linkedin.venice.utils.TestUtils;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.tehuti.metrics.MetricsRepository;
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -61,4 +80,142 @@ public class CachedPubSubMetadataGetterTest {
       Assert.assertEquals(actualResult, expectedResult);
     });
   }
+
+  @Test
+  public void testOffsetsAreFetchedPerTopic() {
+    MetricsRepository metricsRepository = new MetricsRepository();
+    PubSubMetadataCacheStats stats = new PubSubMetadataCacheStats(metricsRepository);
+    CachedPubSubMetadataGetter cachedPubSubMetadataGetter = new CachedPubSubMetadataGetter(60_000, stats);
+    PubSubTopic topic = pubSubTopicRepository.getTopic(TestUtils.getUniqueTopicString("topic"));
+    TopicManager topicManager = mock(TopicManager.class);
+    doReturn("server").when(topicManager).getPubSubBootstrapServers();
+    Int2LongMap offsets = new Int2LongOpenHashMap();
+    offsets.put(0, 10L);
+    offsets.put(1, 20L);
+    doReturn(offsets).when(topicManager).getTopicLatestOffsets(topic);
+
+    Assert.assertEquals(cachedPubSubMetadataGetter.getOffset(topicManager, topic, 0), 10L);
+    Assert.assertEquals(cachedPubSubMetadataGetter.getOffset(topicManager, topic, 1), 20L);
+    Assert.assertEquals(
+        cachedPubSubMetadataGetter.getOffset(topicManager, topic, 2),
+        StatsErrorCode.LAG_MEASUREMENT_FAILURE.code);
+    // A single broker call for all the partitions of the topic
+    verify(topicManager, times(1)).getTopicLatestOffsets(topic);
+    verify(topicManager, never()).getPartitionLatestOffsetAndRetry(any(), anyInt());
+
+    Assert.assertEquals(metricsRepository.getMetric(".pubsub_metadata_cache--coalescing_ratio.Gauge").value(), 3.0);
+    Assert.assertEquals(
+        metricsRepository.getMetric(".pubsub_metadata_cache--broker_call_failure.OccurrenceRate").value(),
+        0.0);
+  }
+
+  @Test
+  public void testEmptyResultsAreNotCached() {
+    CachedPubSubMetadataGetter cachedPubSubMetadataGetter = new CachedPubSubMetadataGetter(60_000);
+    try {
+      PubSubTopic topic = pubSubTopicRepository.getTopic(TestUtils.getUniqueTopicString("topic"));
+      TopicManager topicManager = mock(TopicManager.class);
+      doReturn("server").when(topicManager).getPubSubBootstrapServers();
+      Int2LongMap offsets = new Int2LongOpenHashMap();
+      doReturn(offsets).when(topicManager).getTopicLatestOffsets(topic);
+
+      Assert.assertEquals(
+          cachedPubSubMetadataGetter.getOffset(topicManager, topic, 0),
+          StatsErrorCode.LAG_MEASUREMENT_FAILURE.code);
+      // The partition shows up, and the next request sees it right away
+      offsets.put(0, 10L);
+      Assert.assertEquals(cachedPubSubMetadataGetter.getOffset(topicManager, topic, 0), 10L);
+      Assert.assertEquals(cachedPubSubMetadataGetter.getOffset(topicManager, topic, 0), 10L);
+      verify(topicManager, times(2)).getTopicLatestOffsets(topic);
+
+      PubSubTopicPartitionImpl topicPartition = new PubSubTopicPartitionImpl(topic, 0);
+      doReturn(-1L).when(topicManager).getProducerTimestampOfLastDataRecord(topicPartition, 10);
+      Assert.assertEquals(
+          cachedPubSubMetadataGetter.getProducerTimestampOfLastDataMessage(topicManager, topicPartition),
+          -1L);
+      doReturn(100L).when(topicManager).getProducerTimestampOfLastDataRecord(topicPartition, 10);
+      Assert.assertEquals(
+          cachedPubSubMetadataGetter.getProducerTimestampOfLastDataMessage(topicManager, topicPartition),
+          100L);
+    } finally {
+      cachedPubSubMetadataGetter.close();
+    }
+  }
+
+  @Test
+  public void testConcurrentRequestsOfMissingEntryShareOneFetch() throws Exception {
+    CachedPubSubMetadataGetter cachedPubSubMetadataGetter = new CachedPubSubMetadataGetter(60_000);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      CachedPubSubMetadataGetter.PubSubMetadataCacheKey key = new CachedPubSubMetadataGetter.PubSubMetadataCacheKey(
+          "server",
+          new PubSubTopicPartitionImpl(pubSubTopicRepository.getTopic(TestUtils.getUniqueTopicString("topic")), 1));
+      CachedPubSubMetadataGetter.PubSubMetadataCacheKey otherKey =
+          new CachedPubSubMetadataGetter.PubSubMetadataCacheKey(
+              "server",
+              new PubSubTopicPartitionImpl(pubSubTopicRepository.getTopic(TestUtils.getUniqueTopicString("topic")), 1));
+      Map<CachedPubSubMetadataGetter.PubSubMetadataCacheKey, CachedPubSubMetadataGetter.ValueAndExpiryTime<Long>> cache =
+          new VeniceConcurrentHashMap<>();
+      CountDownLatch fetchStarted = new CountDownLatch(1);
+      CountDownLatch brokerCallDone = new CountDownLatch(1);
+      AtomicInteger brokerCallCount = new AtomicInteger();
+      Supplier<Long> slowSupplier = () -> {
+        brokerCallCount.incrementAndGet();
+        fetchStarted.countDown();
+        try {
+          brokerCallDone.await();
+        } catch (InterruptedException e) {
+          throw new VeniceException(e);
+        }
+        return 1L;
+      };
+      Future<Long> firstFetch =
+          executor.submit(() -> cachedPubSubMetadataGetter.fetchMetadata(key, cache, slowSupplier));
+      Assert.assertTrue(fetchStarted.await(5, TimeUnit.SECONDS));
+      // The other entries of the cache are not blocked by the pending fetch
+      Assert.assertEquals(cachedPubSubMetadataGetter.fetchMetadata(otherKey, cache, () -> 2L), (Long) 2L);
+
+      CompletableFuture<Long> secondFetch =
+          CompletableFuture.supplyAsync(() -> cachedPubSubMetadataGetter.fetchMetadata(key, cache, slowSupplier));
+      brokerCallDone.countDown();
+      Assert.assertEquals(firstFetch.get(5, TimeUnit.SECONDS), (Long) 1L);
+      Assert.assertEquals(secondFetch.get(5, TimeUnit.SECONDS), (Long) 1L);
+      Assert.assertEquals(brokerCallCount.get(), 1);
+    } finally {
+      executor.shutdownNow();
+      cachedPubSubMetadataGetter.close();
+    }
+  }
+
+  @Test
+  public void testStaleValueIsReturnedWhileRefreshing() throws Exception {
+    CachedPubSubMetadataGetter cachedPubSubMetadataGetter = new CachedPubSubMetadataGetter(1000);
+    CachedPubSubMetadataGetter.PubSubMetadataCacheKey key = new CachedPubSubMetadataGetter.PubSubMetadataCacheKey(
+        "server",
+        new PubSubTopicPartitionImpl(pubSubTopicRepository.getTopic(TestUtils.getUniqueTopicString("topic")), 1));
+    Map<CachedPubSubMetadataGetter.PubSubMetadataCacheKey, CachedPubSubMetadataGetter.ValueAndExpiryTime<Long>> cache =
+        new VeniceConcurrentHashMap<>();
+    // Not expired yet, but within the refresh-ahead window
+    cache.put(key, new CachedPubSubMetadataGetter.ValueAndExpiryTime<>(1L, System.nanoTime() + 100_000_000L));
+    CountDownLatch refreshStarted = new CountDownLatch(1);
+    CountDownLatch brokerCallDone = new CountDownLatch(1);
+    Supplier<Long> slowSupplier = () -> {
+      refreshStarted.countDown();
+      try {
+        brokerCallDone.await();
+      } catch (InterruptedException e) {
+        throw new VeniceException(e);
+      }
+      return 2L;
+    };
+    Assert.assertEquals(cachedPubSubMetadataGetter.fetchMetadata(key, cache, slowSupplier), (Long) 1L);
+    Assert.assertTrue(refreshStarted.await(5, TimeUnit.SECONDS));
+    // The refresh is in progress, the callers neither block nor trigger another refresh
+    Assert.assertEquals(cachedPubSubMetadataGetter.fetchMetadata(key, cache, () -> 3L), (Long) 1L);
+    brokerCallDone.countDown();
+    TestUtils.waitForNonDeterministicAssertion(
+        5,
+        TimeUnit.SECONDS,
+        () -> Assert.assertEquals(cachedPubSubMetadataGetter.fetchMetadata(key, cache, () -> 3L), (Long) 2L));
+  }
 }
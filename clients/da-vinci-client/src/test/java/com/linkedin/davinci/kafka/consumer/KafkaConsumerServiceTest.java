@@ -2,31 +2,40 @@ package com.linkedin.davinci.kafka.consumer;
 
 import static com.linkedin.venice.ConfigKeys.KAFKA_BOOTSTRAP_SERVERS;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.linkedin.davinci.ingestion.consumption.ConsumedDataReceiver;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
+import com.linkedin.venice.message.KafkaKey;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.pubsub.PubSubConsumerAdapterFactory;
 import com.linkedin.venice.pubsub.PubSubTopicPartitionImpl;
 import com.linkedin.venice.pubsub.PubSubTopicRepository;
 import com.linkedin.venice.pubsub.adapter.kafka.consumer.ApacheKafkaConsumerAdapter;
 import com.linkedin.venice.pubsub.api.PubSubConsumerAdapter;
+import com.linkedin.venice.pubsub.api.PubSubMessage;
 import com.linkedin.venice.pubsub.api.PubSubMessageDeserializer;
 import com.linkedin.venice.pubsub.api.PubSubTopic;
 import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
 import com.linkedin.venice.serialization.avro.OptimizedKafkaValueSerializer;
 import com.linkedin.venice.throttle.EventThrottler;
 import com.linkedin.venice.utils.SystemTime;
+import com.linkedin.venice.utils.Time;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.pools.LandFillObjectPool;
 import io.tehuti.metrics.MetricsRepository;
 import io.tehuti.metrics.Sensor;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -284,4 +293,127 @@ public class KafkaConsumerServiceTest {
     Assert.assertEquals(consumerForT1P0, consumerForT1P2);
     Assert.assertEquals(consumerForT1P3, consumerForT2P1);
   }
+
+  @Test
+  public void testPartitionWiseThroughputAwareAssignment() throws Exception {
+    ApacheKafkaConsumerAdapter consumer1 = mockConsumerWithAssignment();
+    ApacheKafkaConsumerAdapter consumer2 = mockConsumerWithAssignment();
+    PubSubConsumerAdapterFactory factory = mock(PubSubConsumerAdapterFactory.class);
+    when(factory.create(any(), anyBoolean(), any(), any())).thenReturn(consumer1, consumer2);
+
+    Properties properties = new Properties();
+    properties.put(KAFKA_BOOTSTRAP_SERVERS, "test_kafka_url");
+    MetricsRepository mockMetricsRepository = mock(MetricsRepository.class);
+    doReturn(mock(Sensor.class)).when(mockMetricsRepository).sensor(anyString(), any());
+    Time time = mock(Time.class);
+    PartitionWiseKafkaConsumerService consumerService = new PartitionWiseKafkaConsumerService(
+        factory,
+        properties,
+        10,
+        2,
+        mock(EventThrottler.class),
+        mock(EventThrottler.class),
+        mock(KafkaClusterBasedRecordThrottler.class),
+        mockMetricsRepository,
+        "test_kafka_cluster_alias",
+        TimeUnit.MINUTES.toMillis(1),
+        mock(TopicExistenceChecker.class),
+        false,
+        pubSubDeserializer,
+        time,
+        null,
+        false);
+    // Rebalance manually instead of on a schedule
+    consumerService.enableThroughputAwareAssignment(TimeUnit.HOURS.toMillis(1), 1.2);
+    consumerService.start();
+
+    PubSubTopic versionTopic = pubSubTopicRepository.getTopic(Version.composeKafkaTopic(Utils.getUniqueString("s"), 1));
+    ConsumedDataReceiver<List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> dataReceiver =
+        mock(ConsumedDataReceiver.class);
+    doReturn(versionTopic).when(dataReceiver).destinationIdentifier();
+    PubSubTopicPartition partitionA = new PubSubTopicPartitionImpl(versionTopic, 0);
+    PubSubTopicPartition partitionB = new PubSubTopicPartitionImpl(versionTopic, 1);
+    PubSubTopicPartition partitionC = new PubSubTopicPartitionImpl(versionTopic, 2);
+    consumerService.startConsumptionIntoDataReceiver(partitionA, 10, dataReceiver);
+    consumerService.startConsumptionIntoDataReceiver(partitionB, 10, dataReceiver);
+    consumerService.startConsumptionIntoDataReceiver(partitionC, 10, dataReceiver);
+    // Nothing is measured yet, so the partitions are spread by count
+    SharedKafkaConsumer hotConsumer =
+        consumerService.getConsumerAssignedToVersionTopicPartition(versionTopic, partitionA);
+    SharedKafkaConsumer coldConsumer =
+        consumerService.getConsumerAssignedToVersionTopicPartition(versionTopic, partitionB);
+    Assert.assertNotSame(hotConsumer, coldConsumer);
+    Assert
+        .assertSame(consumerService.getConsumerAssignedToVersionTopicPartition(versionTopic, partitionC), hotConsumer);
+
+    // A and C consume 100 and 60 bytes/sec on the hot consumer, and B 10 bytes/sec on the cold one
+    doReturn(0L).when(time).getMilliseconds();
+    setPartitionLoad(consumerService, hotConsumer, partitionA, 100, 50);
+    setPartitionLoad(consumerService, hotConsumer, partitionC, 60, 42);
+    setPartitionLoad(consumerService, coldConsumer, partitionB, 10, 20);
+    doReturn(1000L).when(time).getMilliseconds();
+    consumerService.rebalanceConsumerLoad();
+
+    // C is the partition which narrows the gap the most, and it is resumed right after the last delivered record
+    Assert
+        .assertSame(consumerService.getConsumerAssignedToVersionTopicPartition(versionTopic, partitionC), coldConsumer);
+    Assert
+        .assertSame(consumerService.getConsumerAssignedToVersionTopicPartition(versionTopic, partitionA), hotConsumer);
+    ApacheKafkaConsumerAdapter hotDelegate = hotConsumer.delegate == consumer1 ? consumer1 : consumer2;
+    ApacheKafkaConsumerAdapter coldDelegate = hotDelegate == consumer1 ? consumer2 : consumer1;
+    verify(hotDelegate).pause(partitionC);
+    verify(hotDelegate).unSubscribe(partitionC);
+    verify(coldDelegate).subscribe(partitionC, 42);
+    Assert.assertNull(consumerService.consumerToConsumptionTask.get(hotConsumer).getDataReceiver(partitionC));
+    Assert.assertSame(
+        consumerService.consumerToConsumptionTask.get(coldConsumer).getDataReceiver(partitionC),
+        dataReceiver);
+
+    // The cold consumer is still the least loaded one, even with the partition it just got
+    PubSubTopicPartition partitionD = new PubSubTopicPartitionImpl(versionTopic, 3);
+    consumerService.startConsumptionIntoDataReceiver(partitionD, 10, dataReceiver);
+    Assert
+        .assertSame(consumerService.getConsumerAssignedToVersionTopicPartition(versionTopic, partitionD), coldConsumer);
+
+    // B would narrow the gap the most but it is paused, so D is moved instead
+    setPartitionLoad(consumerService, coldConsumer, partitionB, 100, 70);
+    setPartitionLoad(consumerService, coldConsumer, partitionC, 10, 80);
+    setPartitionLoad(consumerService, coldConsumer, partitionD, 90, 90);
+    coldConsumer.pause(partitionB);
+    doReturn(2000L).when(time).getMilliseconds();
+    consumerService.rebalanceConsumerLoad();
+    Assert
+        .assertSame(consumerService.getConsumerAssignedToVersionTopicPartition(versionTopic, partitionB), coldConsumer);
+    Assert
+        .assertSame(consumerService.getConsumerAssignedToVersionTopicPartition(versionTopic, partitionD), hotConsumer);
+    verify(hotDelegate).subscribe(partitionD, 90);
+
+    consumerService.stop();
+  }
+
+  private static void setPartitionLoad(
+      KafkaConsumerService consumerService,
+      SharedKafkaConsumer consumer,
+      PubSubTopicPartition topicPartition,
+      int bytes,
+      long lastOffset) {
+    ConsumedPartitionLoad partitionLoad = new ConsumedPartitionLoad(0);
+    partitionLoad.record(1, bytes, lastOffset);
+    consumerService.consumerToConsumptionTask.get(consumer).setPartitionLoad(topicPartition, partitionLoad);
+  }
+
+  /**
+   * A mocked consumer which keeps track of its assignment, since the consumer service relies on it.
+   */
+  private static ApacheKafkaConsumerAdapter mockConsumerWithAssignment() {
+    ApacheKafkaConsumerAdapter consumer = mock(ApacheKafkaConsumerAdapter.class);
+    Set<PubSubTopicPartition> assignment = new HashSet<>();
+    doAnswer(invocation -> assignment.add(invocation.getArgument(0))).when(consumer)
+        .subscribe(any(PubSubTopicPartition.class), anyLong());
+    doAnswer(invocation -> assignment.remove(invocation.getArgument(0))).when(consumer)
+        .unSubscribe(any(PubSubTopicPartition.class));
+    doAnswer(invocation -> new HashSet<>(assignment)).when(consumer).getAssignment();
+    doReturn(Collections.emptyMap()).when(consumer).poll(anyLong());
+    return consumer;
+  }
 }
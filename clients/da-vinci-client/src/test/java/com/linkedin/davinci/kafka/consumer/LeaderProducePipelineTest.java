@@ -0,0 +1,134 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.davinci.stats.HostLevelIngestionStats;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.offsets.OffsetRecord;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+
+public class LeaderProducePipelineTest {
+  private ExecutorService executor;
+
+  @BeforeClass
+  public void setUp() {
+    executor = Executors.newFixedThreadPool(4);
+  }
+
+  @AfterClass
+  public void cleanUp() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void testProduceCallsKeepProcessingOrder() throws Exception {
+    LeaderProducePipeline pipeline =
+        new LeaderProducePipeline(executor, 8, mock(HostLevelIngestionStats.class), (partition, e) -> {});
+    PartitionConsumptionState pcs = new PartitionConsumptionState(0, 1, mock(OffsetRecord.class), true);
+    List<Integer> producedRecords = Collections.synchronizedList(new ArrayList<>());
+    int recordCount = 500;
+    for (int i = 0; i < recordCount; i++) {
+      int record = i;
+      pipeline.produce(pcs, null, () -> {
+        if (ThreadLocalRandom.current().nextInt(10) == 0) {
+          Thread.yield();
+        }
+        producedRecords.add(record);
+      });
+      Assert.assertTrue(pcs.getPendingVTProduceCallCount() <= 8);
+    }
+
+    // The other writes of the partition wait for the pending produce calls
+    pipeline.waitForPendingProduceCalls(pcs);
+    Assert.assertEquals(producedRecords.size(), recordCount);
+    for (int i = 0; i < recordCount; i++) {
+      Assert.assertEquals((int) producedRecords.get(i), i);
+    }
+    Assert.assertEquals(pcs.getPendingVTProduceCallCount(), 0);
+  }
+
+  @Test
+  public void testFullWindowBlocksConsumerThread() throws Exception {
+    HostLevelIngestionStats stats = mock(HostLevelIngestionStats.class);
+    LeaderProducePipeline pipeline = new LeaderProducePipeline(executor, 2, stats, (partition, e) -> {});
+    PartitionConsumptionState pcs = new PartitionConsumptionState(0, 1, mock(OffsetRecord.class), true);
+    CountDownLatch producerUnblocked = new CountDownLatch(1);
+    Runnable blockedProduceCall = () -> {
+      try {
+        producerUnblocked.await();
+      } catch (InterruptedException e) {
+        throw new VeniceException(e);
+      }
+    };
+    pipeline.produce(pcs, null, blockedProduceCall);
+    pipeline.produce(pcs, null, () -> {});
+    Assert.assertEquals(pcs.getPendingVTProduceCallCount(), 2);
+    verify(stats, never()).recordLeaderProducePipelineWaitLatency(anyDouble());
+
+    // The window is full, so the next produce call waits for the pending ones
+    CompletableFuture<Void> thirdProduce = CompletableFuture.runAsync(() -> pipeline.produce(pcs, null, () -> {}));
+    CompletableFuture<Void> closePartition = CompletableFuture.runAsync(() -> pipeline.waitForPendingProduceCalls(pcs));
+    Thread.sleep(100);
+    Assert.assertFalse(thirdProduce.isDone());
+    Assert.assertFalse(closePartition.isDone());
+
+    producerUnblocked.countDown();
+    thirdProduce.get(10, TimeUnit.SECONDS);
+    closePartition.get(10, TimeUnit.SECONDS);
+    pipeline.waitForPendingProduceCalls(pcs);
+    Assert.assertEquals(pcs.getPendingVTProduceCallCount(), 0);
+    verify(stats).recordLeaderProducePipelineWaitLatency(anyDouble());
+  }
+
+  @Test
+  public void testFailedProduceCallFailsTheFollowingOnes() {
+    @SuppressWarnings("unchecked")
+    BiConsumer<Integer, Exception> failureHandler = mock(BiConsumer.class);
+    LeaderProducePipeline pipeline =
+        new LeaderProducePipeline(executor, 8, mock(HostLevelIngestionStats.class), failureHandler);
+    PartitionConsumptionState pcs = new PartitionConsumptionState(3, 1, mock(OffsetRecord.class), true);
+    LeaderProducedRecordContext failedRecord = mock(LeaderProducedRecordContext.class);
+    LeaderProducedRecordContext skippedRecord = mock(LeaderProducedRecordContext.class);
+    VeniceException produceFailure = new VeniceException("Failed to produce");
+    List<Integer> producedRecords = Collections.synchronizedList(new ArrayList<>());
+
+    pipeline.produce(pcs, null, () -> producedRecords.add(0));
+    pipeline.produce(pcs, failedRecord, () -> {
+      throw produceFailure;
+    });
+    pipeline.produce(pcs, skippedRecord, () -> producedRecords.add(2));
+    // Waiting for the pending produce calls does not throw, since the failure is reported on the partition
+    pipeline.waitForPendingProduceCalls(pcs);
+
+    Assert.assertEquals(producedRecords, Collections.singletonList(0));
+    verify(failureHandler).accept(3, produceFailure);
+    verify(failureHandler, times(1)).accept(any(), any());
+    verify(failedRecord).completePersistedToDBFuture(produceFailure);
+    verify(skippedRecord).completePersistedToDBFuture(any(VeniceException.class));
+    verify(skippedRecord, never()).completePersistedToDBFuture(eq(produceFailure));
+    ExecutionException e = Assert.expectThrows(ExecutionException.class, () -> pcs.getLastVTProduceCallFuture().get());
+    Assert.assertTrue(e.getCause() instanceof VeniceException);
+    Assert.assertEquals(pcs.getPendingVTProduceCallCount(), 0);
+  }
+}
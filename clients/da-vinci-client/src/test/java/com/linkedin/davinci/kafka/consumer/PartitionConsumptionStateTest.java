@@ -5,6 +5,7 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
+import com.linkedin.davinci.stats.HostLevelIngestionStats;
 import com.linkedin.venice.kafka.protocol.Put;
 import com.linkedin.venice.kafka.validation.checksum.CheckSum;
 import com.linkedin.venice.kafka.validation.checksum.CheckSumType;
@@ -124,6 +125,40 @@ public class PartitionConsumptionStateTest {
 
   }
 
+  @Test
+  public void testTransientRecordBufferSize() {
+    PartitionConsumptionState pcs = new PartitionConsumptionState(0, 1, mock(OffsetRecord.class), false);
+    TransientRecordBufferLimiter limiter =
+        new TransientRecordBufferLimiter(1024, 10, mock(HostLevelIngestionStats.class));
+    pcs.setTransientRecordBufferLimiter(limiter);
+    int overhead = PartitionConsumptionState.TRANSIENT_RECORD_OVERHEAD_IN_BYTES;
+
+    byte[] key1 = new byte[] { 65, 66, 67, 68 };
+    byte[] key2 = new byte[] { 65, 66, 67, 69 };
+    byte[] value1 = new byte[] { 97, 98, 99 };
+    byte[] value2 = new byte[] { 97, 98, 99, 100, 101 };
+    pcs.setTransientRecord(-1, 1, key1, value1, 0, value1.length, 5, null);
+    pcs.setTransientRecord(-1, 2, key2, 5, null);
+    assertEquals(pcs.getTransientRecordBufferSizeInBytes(), 4 + 3 + overhead + 4 + overhead);
+    assertEquals(limiter.getMemoryUsageInBytes(), pcs.getTransientRecordBufferSizeInBytes());
+
+    // Replacing a record releases the previous one
+    pcs.setTransientRecord(-1, 3, key1, value2, 0, value2.length, 5, null);
+    assertEquals(pcs.getTransientRecordBufferSizeInBytes(), 4 + 5 + overhead + 4 + overhead);
+    // Only the removal of the latest record releases it
+    pcs.mayRemoveTransientRecord(-1, 1, key1);
+    assertEquals(pcs.getTransientRecordBufferSizeInBytes(), 4 + 5 + overhead + 4 + overhead);
+    pcs.mayRemoveTransientRecord(-1, 3, key1);
+    assertEquals(pcs.getTransientRecordBufferSizeInBytes(), 4 + overhead);
+    assertEquals(limiter.getMemoryUsageInBytes(), 4 + overhead);
+
+    // The remaining records are released when unsubscribing, as the drainer would not remove them anymore
+    pcs.unsubscribe();
+    assertEquals(pcs.getTransientRecordMapSize(), 0);
+    assertEquals(pcs.getTransientRecordBufferSizeInBytes(), 0);
+    assertEquals(limiter.getMemoryUsageInBytes(), 0);
+  }
+
   @Test
   public void testIsLeaderCompleted() {
     PartitionConsumptionState pcs = new PartitionConsumptionState(0, 1, mock(OffsetRecord.class), false);
@@ -16,12 +16,16 @@ import com.linkedin.venice.pubsub.api.PubSubConsumerAdapter;
 import com.linkedin.venice.pubsub.api.PubSubMessage;
 import com.linkedin.venice.pubsub.api.PubSubTopic;
 import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+import com.linkedin.venice.utils.Time;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
@@ -64,4 +68,23 @@ public class SharedKafkaConsumerTest {
     sharedConsumer.poll(1000);
     verify(consumer, times(1)).poll(1000);
   }
+
+  @Test(timeOut = 10 * Time.MS_PER_SECOND)
+  public void testWaitForNextPoll() throws Exception {
+    Time time = mock(Time.class);
+    SharedKafkaConsumer sharedConsumer =
+        new SharedKafkaConsumer(consumer, consumerServiceStats, () -> {}, (c, tp) -> {}, time);
+    when(consumer.getAssignment()).thenReturn(Collections.emptySet());
+
+    // The next poll happens before the timeout
+    CompletableFuture<Boolean> polled = CompletableFuture.supplyAsync(sharedConsumer::waitForNextPoll);
+    while (!polled.isDone()) {
+      sharedConsumer.poll(10);
+    }
+    Assert.assertTrue(polled.get());
+
+    // No poll happens before the timeout
+    when(time.getNanoseconds()).thenReturn(0L, TimeUnit.SECONDS.toNanos(11));
+    Assert.assertFalse(sharedConsumer.waitForNextPoll());
+  }
 }
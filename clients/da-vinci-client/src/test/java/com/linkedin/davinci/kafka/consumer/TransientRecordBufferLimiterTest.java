@@ -0,0 +1,57 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.davinci.stats.HostLevelIngestionStats;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TransientRecordBufferLimiterTest {
+  @Test
+  public void testAcquireWaitsForRelease() throws Exception {
+    HostLevelIngestionStats stats = mock(HostLevelIngestionStats.class);
+    TransientRecordBufferLimiter limiter = new TransientRecordBufferLimiter(100, TimeUnit.MINUTES.toMillis(1), stats);
+    limiter.acquire(60);
+    limiter.acquire(40);
+    Assert.assertEquals(limiter.getMemoryUsageInBytes(), 100);
+    verify(stats, never()).recordTransientRecordBufferWaitLatency(anyDouble());
+
+    CompletableFuture<Void> blockedAcquire = CompletableFuture.runAsync(() -> limiter.acquire(50));
+    Thread.sleep(50);
+    Assert.assertFalse(blockedAcquire.isDone());
+
+    limiter.release(40);
+    Thread.sleep(50);
+    // 40 bytes are not enough
+    Assert.assertFalse(blockedAcquire.isDone());
+
+    limiter.release(60);
+    blockedAcquire.get(10, TimeUnit.SECONDS);
+    Assert.assertEquals(limiter.getMemoryUsageInBytes(), 50);
+    verify(stats, timeout(1000)).recordTransientRecordBufferWaitLatency(anyDouble());
+    verify(stats, never()).recordTransientRecordBufferWaitTimeout();
+  }
+
+  @Test
+  public void testAcquireBeyondCapacityAfterMaxWaitTime() {
+    HostLevelIngestionStats stats = mock(HostLevelIngestionStats.class);
+    TransientRecordBufferLimiter limiter = new TransientRecordBufferLimiter(100, 10, stats);
+    // A record bigger than the capacity is admitted into an empty buffer
+    limiter.acquire(150);
+    limiter.acquire(10);
+    Assert.assertEquals(limiter.getMemoryUsageInBytes(), 160);
+    verify(stats).recordTransientRecordBufferWaitTimeout();
+    verify(stats).recordTransientRecordBufferWaitLatency(anyDouble());
+
+    limiter.release(150);
+    limiter.release(10);
+    Assert.assertEquals(limiter.getMemoryUsageInBytes(), 0);
+  }
+}
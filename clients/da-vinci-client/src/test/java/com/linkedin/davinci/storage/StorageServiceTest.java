@@ -1,7 +1,12 @@
 package com.linkedin.davinci.storage;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -12,7 +17,9 @@ import com.linkedin.davinci.config.VeniceStoreVersionConfig;
 import com.linkedin.davinci.stats.AggVersionedStorageEngineStats;
 import com.linkedin.davinci.stats.RocksDBMemoryStats;
 import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.AbstractStoragePartition;
 import com.linkedin.davinci.store.StorageEngineFactory;
+import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.exceptions.VeniceNoStoreException;
 import com.linkedin.venice.kafka.protocol.state.PartitionState;
 import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
@@ -121,4 +128,80 @@ public class StorageServiceTest {
     expectedMapping.put(resourceName, partitionSet);
     Assert.assertEquals(storageService.getStoreAndUserPartitionsMapping(), expectedMapping);
   }
+
+  @Test
+  public void testSecondaryStorePartitions() {
+    VeniceConfigLoader configLoader = mock(VeniceConfigLoader.class);
+    VeniceServerConfig mockServerConfig = mock(VeniceServerConfig.class);
+    when(mockServerConfig.getDataBasePath()).thenReturn("/tmp");
+    when(configLoader.getVeniceServerConfig()).thenReturn(mockServerConfig);
+    StorageEngineFactory mockStorageEngineFactory = mock(StorageEngineFactory.class);
+    String resourceName = "test_store_v1";
+    VeniceStoreVersionConfig storeVersionConfig = mock(VeniceStoreVersionConfig.class);
+    when(storeVersionConfig.getStoreVersionName()).thenReturn(resourceName);
+    when(storeVersionConfig.isStorePersistenceTypeKnown()).thenReturn(true);
+    when(storeVersionConfig.getPersistenceType()).thenReturn(PersistenceType.BLACK_HOLE);
+    when(storeVersionConfig.getStorePersistenceType()).thenReturn(PersistenceType.BLACK_HOLE);
+    when(configLoader.getStoreConfig(eq(resourceName), eq(PersistenceType.BLACK_HOLE))).thenReturn(storeVersionConfig);
+
+    AbstractStorageEngine mockStorageEngine = mock(AbstractStorageEngine.class);
+    when(mockStorageEngineFactory.getStorageEngine(storeVersionConfig, false)).thenReturn(mockStorageEngine);
+    when(mockStorageEngine.getPersistedPartitionIds()).thenReturn(new HashSet<>(Arrays.asList(1, 2)));
+    when(mockStorageEngine.getStoreName()).thenReturn(resourceName);
+    when(mockStorageEngineFactory.getPersistedStoreNames()).thenReturn(Sets.newSet(resourceName));
+    when(mockStorageEngineFactory.getPersistenceType()).thenReturn(PersistenceType.BLACK_HOLE);
+    // Partition 1 follows the database of another process, partition 2 is written by this one.
+    AbstractStoragePartition secondaryPartition = mock(AbstractStoragePartition.class);
+    when(secondaryPartition.isSecondary()).thenReturn(true);
+    AbstractStoragePartition primaryPartition = mock(AbstractStoragePartition.class);
+    when(mockStorageEngine.containsPartition(1)).thenReturn(true);
+    when(mockStorageEngine.containsPartition(2)).thenReturn(true);
+    when(mockStorageEngine.getPartitionOrThrow(1)).thenReturn(secondaryPartition);
+    when(mockStorageEngine.getPartitionOrThrow(2)).thenReturn(primaryPartition);
+
+    Map<PersistenceType, StorageEngineFactory> persistenceTypeToStorageEngineFactoryMap = new HashMap<>();
+    persistenceTypeToStorageEngineFactoryMap.put(PersistenceType.BLACK_HOLE, mockStorageEngineFactory);
+    StorageService storageService = new StorageService(
+        configLoader,
+        mock(AggVersionedStorageEngineStats.class),
+        mock(RocksDBMemoryStats.class),
+        mock(InternalAvroSpecificSerializer.class),
+        mock(InternalAvroSpecificSerializer.class),
+        mock(ReadOnlyStoreRepository.class),
+        true,
+        true,
+        (s) -> true,
+        Optional.of(persistenceTypeToStorageEngineFactoryMap));
+
+    // Only the partitions which are not opened yet are opened as secondary partitions
+    storageService.openStoreForSecondaryPartition(storeVersionConfig, 3, () -> null);
+    verify(mockStorageEngine)
+        .addStoragePartition(argThat(config -> config.getPartitionId() == 3 && config.isSecondary()));
+    storageService.openStoreForSecondaryPartition(storeVersionConfig, 2, () -> null);
+    verify(mockStorageEngine, never()).addStoragePartition(argThat(config -> config.getPartitionId() == 2));
+
+    // Only the secondary partitions catch up
+    storageService.catchUpSecondaryStorePartition(resourceName, 1);
+    storageService.catchUpSecondaryStorePartition(resourceName, 2);
+    verify(secondaryPartition, times(1)).catchUpWithPrimary();
+    verify(primaryPartition, never()).catchUpWithPrimary();
+    doThrow(new VeniceException("Failed to catch up")).when(secondaryPartition).catchUpWithPrimary();
+    Assert.assertThrows(VeniceException.class, () -> storageService.catchUpSecondaryStorePartition(resourceName, 1));
+    // Nothing to catch up for the stores which are not opened
+    storageService.catchUpSecondaryStorePartition("unknown_store_v1", 1);
+
+    // Opening a secondary partition for ingestion takes the database over
+    storageService.openStoreForNewPartition(storeVersionConfig, 1, () -> null);
+    verify(mockStorageEngine, times(1))
+        .adjustStoragePartition(argThat(config -> config.getPartitionId() == 1 && !config.isSecondary()));
+    storageService.openStoreForNewPartition(storeVersionConfig, 2, () -> null);
+    verify(mockStorageEngine, times(1)).adjustStoragePartition(any());
+
+    // Only the secondary partitions are dropped, which leaves the database to the process writing it
+    storageService.dropSecondaryStorePartition(resourceName, 2);
+    verify(mockStorageEngine, never()).dropPartition(anyInt());
+    storageService.dropSecondaryStorePartition(resourceName, 1);
+    verify(mockStorageEngine, times(1)).dropPartition(1);
+    storageService.dropSecondaryStorePartition("unknown_store_v1", 1);
+  }
 }
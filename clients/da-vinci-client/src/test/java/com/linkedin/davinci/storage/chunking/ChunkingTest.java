@@ -1,8 +1,12 @@
 package com.linkedin.davinci.storage.chunking;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import com.linkedin.davinci.compression.StorageEngineBackedCompressorFactory;
 import com.linkedin.davinci.storage.StorageMetadataService;
@@ -11,6 +15,7 @@ import com.linkedin.davinci.store.record.ByteBufferValueRecord;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.helix.HelixReadOnlySchemaRepository;
 import com.linkedin.venice.schema.SchemaEntry;
 import com.linkedin.venice.serialization.AvroStoreDeserializerCache;
@@ -20,8 +25,11 @@ import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import com.linkedin.venice.utils.ByteUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
@@ -284,4 +292,60 @@ public class ChunkingTest {
       return null;
     }, true);
   }
+
+  @Test
+  public void testChunkedValueReader() {
+    int partition = 9;
+    AbstractStorageEngine storageEngine = mock(AbstractStorageEngine.class);
+    byte[] fullValue = new byte[ValueRecord.SCHEMA_HEADER_LENGTH + 1];
+    ByteUtils.writeInt(fullValue, 1, 0);
+    Assert.assertNull(ChunkedValueReader.create(storageEngine, partition, fullValue));
+
+    ChunkedValueManifest chunkedValueManifest = new ChunkedValueManifest();
+    chunkedValueManifest.keysWithChunkIdSuffix = new ArrayList<>(3);
+    chunkedValueManifest.schemaId = 1;
+    chunkedValueManifest.size = 0;
+    List<byte[]> chunkPayloads = new ArrayList<>(3);
+    for (byte i = 0; i < 3; i++) {
+      byte[] chunkKey = new byte[] { i };
+      byte[] chunkPayload = new byte[10 + i];
+      Arrays.fill(chunkPayload, i);
+      byte[] chunk = new byte[ValueRecord.SCHEMA_HEADER_LENGTH + chunkPayload.length];
+      ByteUtils.writeInt(chunk, AvroProtocolDefinition.CHUNK.currentProtocolVersion.get(), 0);
+      System.arraycopy(chunkPayload, 0, chunk, ValueRecord.SCHEMA_HEADER_LENGTH, chunkPayload.length);
+      doReturn(chunk).when(storageEngine).get(eq(partition), eq(chunkKey));
+      chunkedValueManifest.keysWithChunkIdSuffix.add(ByteBuffer.wrap(chunkKey));
+      chunkedValueManifest.size += chunkPayload.length;
+      chunkPayloads.add(chunkPayload);
+    }
+    byte[] serializedCVM = SerializerDeserializerFactory.getAvroGenericSerializer(ChunkedValueManifest.SCHEMA$)
+        .serialize(chunkedValueManifest);
+    byte[] serializedCVMwithHeader = new byte[serializedCVM.length + ValueRecord.SCHEMA_HEADER_LENGTH];
+    ByteUtils.writeInt(
+        serializedCVMwithHeader,
+        AvroProtocolDefinition.CHUNKED_VALUE_MANIFEST.currentProtocolVersion.get(),
+        0);
+    System.arraycopy(serializedCVM, 0, serializedCVMwithHeader, ValueRecord.SCHEMA_HEADER_LENGTH, serializedCVM.length);
+
+    ChunkedValueReader reader = ChunkedValueReader.create(storageEngine, partition, serializedCVMwithHeader);
+    Assert.assertNotNull(reader);
+    Assert.assertEquals(reader.getSchemaId(), 1);
+    Assert.assertEquals(reader.getValueSize(), chunkedValueManifest.size);
+    // The chunks are read lazily, in the order of the manifest
+    verify(storageEngine, never()).get(anyInt(), any(byte[].class));
+    for (byte[] chunkPayload: chunkPayloads) {
+      Assert.assertTrue(reader.hasNextChunk());
+      ByteBuf chunk = reader.readNextChunk();
+      Assert.assertEquals(ByteBufUtil.getBytes(chunk), chunkPayload);
+    }
+    Assert.assertFalse(reader.hasNextChunk());
+    Assert.assertThrows(IllegalStateException.class, reader::readNextChunk);
+
+    // A missing chunk fails the read of that chunk only
+    doReturn(null).when(storageEngine).get(eq(partition), eq(new byte[] { 1 }));
+    ChunkedValueReader readerWithMissingChunk =
+        ChunkedValueReader.create(storageEngine, partition, serializedCVMwithHeader);
+    readerWithMissingChunk.readNextChunk();
+    Assert.assertThrows(VeniceException.class, readerWithMissingChunk::readNextChunk);
+  }
 }
@@ -0,0 +1,137 @@
+package com.linkedin.davinci.store.offheap;
+
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.davinci.config.VeniceConfigLoader;
+import com.linkedin.davinci.config.VeniceStoreVersionConfig;
+import com.linkedin.davinci.stats.AggVersionedStorageEngineStats;
+import com.linkedin.davinci.storage.StorageService;
+import com.linkedin.davinci.store.AbstractStorageEngineTest;
+import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.utils.VeniceProperties;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+
+public class OffHeapStorageEngineTest extends AbstractStorageEngineTest {
+  StorageService service;
+  VeniceStoreVersionConfig storeConfig;
+  final static String STORE_NAME = "testng-off-heap";
+  final static int PARTITION_ID = 0;
+
+  public OffHeapStorageEngineTest() {
+  }
+
+  @BeforeClass
+  public void setUp() {
+    createStorageEngineForTest();
+  }
+
+  @AfterClass
+  public void cleanUp() {
+    if (service != null && storeConfig != null) {
+      service.dropStorePartition(storeConfig, PARTITION_ID);
+    }
+  }
+
+  @Override
+  public void createStorageEngineForTest() {
+    VeniceProperties serverProperties = AbstractStorageEngineTest.getServerProperties(PersistenceType.OFF_HEAP);
+    VeniceConfigLoader configLoader = AbstractStorageEngineTest.getVeniceConfigLoader(serverProperties);
+
+    service = new StorageService(
+        configLoader,
+        mock(AggVersionedStorageEngineStats.class),
+        null,
+        AvroProtocolDefinition.STORE_VERSION_STATE.getSerializer(),
+        AvroProtocolDefinition.PARTITION_STATE.getSerializer(),
+        mock(ReadOnlyStoreRepository.class));
+    storeConfig = new VeniceStoreVersionConfig(STORE_NAME, serverProperties);
+
+    testStoreEngine = service.openStoreForNewPartition(storeConfig, PARTITION_ID, () -> null);
+    createStoreForTest();
+  }
+
+  @Test
+  public void testGetAndPut() {
+    super.testGetAndPut();
+  }
+
+  @Test
+  public void testGetByKeyPrefixManyKeys() {
+    super.testGetByKeyPrefixManyKeys();
+  }
+
+  @Test
+  public void testGetByKeyPrefixMaxSignedByte() {
+    super.testGetByKeyPrefixMaxSignedByte();
+  }
+
+  @Test
+  public void testGetByKeyPrefixMaxUnsignedByte() {
+    super.testGetByKeyPrefixMaxUnsignedByte();
+  }
+
+  @Test
+  public void testGetByKeyPrefixByteOverflow() {
+    super.testGetByKeyPrefixByteOverflow();
+  }
+
+  @Test
+  public void testDelete() {
+    super.testDelete();
+  }
+
+  @Test
+  public void testUpdate() {
+    super.testUpdate();
+  }
+
+  @Test
+  public void testGetInvalidKeys() {
+    super.testGetInvalidKeys();
+  }
+
+  @Test
+  public void testPartitioning() throws Exception {
+    super.testPartitioning();
+  }
+
+  @Test
+  public void testAddingAPartitionTwice() throws Exception {
+    super.testAddingAPartitionTwice();
+  }
+
+  @Test
+  public void testRemovingPartitionTwice() throws Exception {
+    super.testRemovingPartitionTwice();
+  }
+
+  @Test
+  public void testOperationsOnNonExistingPartition() throws Exception {
+    super.testOperationsOnNonExistingPartition();
+  }
+
+  /**
+   * The off-heap partition has no deferred-write mode, so {@link OffHeapStoragePartition#verifyConfig} accepts both the
+   * transactional and the deferred-write configs, which this test defined in {@link AbstractStorageEngineTest} tells
+   * apart.
+   */
+  @Test(enabled = false)
+  public void testAdjustStoragePartitionFromTransactionalToDeferredWrite() {
+    super.testAdjustStoragePartitionFromTransactionalToDeferredWrite();
+  }
+
+  /**
+   * The off-heap partition has no deferred-write mode, so {@link OffHeapStoragePartition#verifyConfig} accepts both the
+   * transactional and the deferred-write configs, which this test defined in {@link AbstractStorageEngineTest} tells
+   * apart.
+   */
+  @Test(enabled = false)
+  public void testAdjustStoragePartitionFromDeferredWriteToTransactional() {
+    super.testAdjustStoragePartitionFromDeferredWriteToTransactional();
+  }
+}
@@ -0,0 +1,234 @@
+package com.linkedin.davinci.store.offheap;
+
+import com.linkedin.davinci.callback.BytesStreamingCallback;
+import com.linkedin.venice.utils.Utils;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+
+public class OffHeapStoragePartitionTest {
+  private static final int PARTITION_ID = 0;
+  private static final int SEGMENT_SIZE = 64 * 1024;
+
+  @DataProvider(name = "mmap")
+  public static Object[][] mmap() {
+    return new Object[][] { { false }, { true } };
+  }
+
+  @Test(dataProvider = "mmap")
+  public void testGetPutAndDelete(boolean mmap) throws Exception {
+    File mmapDir = mmap ? new File(Utils.getUniqueTempPath("off-heap")) : null;
+    OffHeapStoragePartition partition = new OffHeapStoragePartition(PARTITION_ID, SEGMENT_SIZE, mmapDir);
+    try {
+      int keyCount = 10000;
+      for (int i = 0; i < keyCount; i++) {
+        partition.put(getKey(i), getValue(i, 0));
+      }
+      for (int i = 0; i < keyCount; i++) {
+        Assert.assertEquals(partition.get(getKey(i)), getValue(i, 0));
+      }
+      Assert.assertNull(partition.get("missing".getBytes()));
+
+      for (int i = 0; i < keyCount; i += 2) {
+        partition.delete(getKey(i));
+      }
+      for (int i = 0; i < keyCount; i++) {
+        if (i % 2 == 0) {
+          Assert.assertNull(partition.get(getKey(i)));
+        } else {
+          Assert.assertEquals(partition.get(ByteBuffer.wrap(getKey(i))), getValue(i, 0));
+        }
+      }
+      // Deleting a missing key is a no-op
+      partition.delete(getKey(0));
+    } finally {
+      partition.drop();
+      if (mmapDir != null) {
+        // The files backing the segments are deleted as soon as they are mapped
+        Assert.assertEquals(mmapDir.list().length, 0);
+        FileUtils.deleteDirectory(mmapDir);
+      }
+    }
+  }
+
+  @Test
+  public void testGetIntoBuffer() {
+    OffHeapStoragePartition partition = new OffHeapStoragePartition(PARTITION_ID, SEGMENT_SIZE, null);
+    partition.put("key".getBytes(), ByteBuffer.wrap("a longer value".getBytes()));
+    Assert.assertNull(partition.get("missing".getBytes(), ByteBuffer.allocate(4)));
+
+    ByteBuffer small = ByteBuffer.allocate(4);
+    ByteBuffer value = partition.get("key".getBytes(), small);
+    Assert.assertNotSame(value, small);
+    Assert.assertEquals(value, ByteBuffer.wrap("a longer value".getBytes()));
+
+    ByteBuffer large = ByteBuffer.allocate(100);
+    value = partition.get("key".getBytes(), large);
+    Assert.assertSame(value, large);
+    Assert.assertEquals(value, ByteBuffer.wrap("a longer value".getBytes()));
+  }
+
+  @Test
+  public void testValuesLargerThanSegment() {
+    OffHeapStoragePartition partition = new OffHeapStoragePartition(PARTITION_ID, SEGMENT_SIZE, null);
+    byte[] largeValue = new byte[3 * SEGMENT_SIZE];
+    largeValue[largeValue.length - 1] = 1;
+    partition.put("small".getBytes(), "value".getBytes());
+    partition.put("large".getBytes(), largeValue);
+    partition.put("other".getBytes(), "value".getBytes());
+    Assert.assertEquals(partition.get("large".getBytes()), largeValue);
+    Assert.assertEquals(partition.get("small".getBytes()), "value".getBytes());
+    Assert.assertEquals(partition.get("other".getBytes()), "value".getBytes());
+
+    // The dedicated segment is released along with the value
+    long allocatedBytes = partition.getAllocatedBytes();
+    partition.delete("large".getBytes());
+    Assert.assertTrue(partition.getAllocatedBytes() <= allocatedBytes - largeValue.length);
+  }
+
+  @Test
+  public void testOverwritesAreCompacted() {
+    OffHeapStoragePartition partition = new OffHeapStoragePartition(PARTITION_ID, SEGMENT_SIZE, null);
+    int keyCount = 1000;
+    int rounds = 50;
+    for (int round = 0; round < rounds; round++) {
+      for (int i = 0; i < keyCount; i++) {
+        partition.put(getKey(i), getValue(i, round));
+      }
+    }
+    for (int i = 0; i < keyCount; i++) {
+      Assert.assertEquals(partition.get(getKey(i)), getValue(i, rounds - 1));
+    }
+    long liveBytes = partition.getPartitionSizeInBytes();
+    // Without compaction, all the rounds would still be allocated
+    Assert.assertTrue(
+        partition.getAllocatedBytes() <= 2 * liveBytes + 2 * SEGMENT_SIZE,
+        "Allocated: " + partition.getAllocatedBytes() + ", live: " + liveBytes);
+  }
+
+  @Test
+  public void testReplicationMetadata() {
+    OffHeapStoragePartition partition = new OffHeapStoragePartition(PARTITION_ID, SEGMENT_SIZE, null);
+    byte[] key = "key".getBytes();
+    Assert.assertNull(partition.getReplicationMetadata(key));
+
+    partition.putWithReplicationMetadata(key, "value".getBytes(), "rmd1".getBytes());
+    Assert.assertEquals(partition.get(key), "value".getBytes());
+    Assert.assertEquals(partition.getReplicationMetadata(key), "rmd1".getBytes());
+    Assert.assertEquals(partition.getRmdByteUsage(), 4);
+
+    partition.putReplicationMetadata(key, "rmd22".getBytes());
+    Assert.assertEquals(partition.get(key), "value".getBytes());
+    Assert.assertEquals(partition.getReplicationMetadata(key), "rmd22".getBytes());
+    Assert.assertEquals(partition.getRmdByteUsage(), 5);
+
+    // The RMD is kept when only the value is updated or deleted
+    partition.put(key, ByteBuffer.wrap("value2".getBytes()));
+    Assert.assertEquals(partition.get(key), "value2".getBytes());
+    Assert.assertEquals(partition.getReplicationMetadata(key), "rmd22".getBytes());
+    partition.delete(key);
+    Assert.assertNull(partition.get(key));
+    Assert.assertEquals(partition.getReplicationMetadata(key), "rmd22".getBytes());
+
+    partition.putWithReplicationMetadata(key, ByteBuffer.wrap("value3".getBytes()), "rmd3".getBytes());
+    partition.deleteWithReplicationMetadata(key, "rmd4".getBytes());
+    Assert.assertNull(partition.get(key));
+    Assert.assertNull(partition.get(key, ByteBuffer.allocate(10)));
+    Assert.assertEquals(partition.getReplicationMetadata(key), "rmd4".getBytes());
+    Assert.assertEquals(partition.getRmdByteUsage(), 4);
+  }
+
+  @Test
+  public void testGetByKeyPrefixAndRange() {
+    OffHeapStoragePartition partition = new OffHeapStoragePartition(PARTITION_ID, SEGMENT_SIZE, null);
+    partition.put("a1".getBytes(), "v1".getBytes());
+    partition.put("a2".getBytes(), "v2".getBytes());
+    partition.put("b1".getBytes(), "v3".getBytes());
+    partition.putWithReplicationMetadata("a3".getBytes(), "v4".getBytes(), "rmd".getBytes());
+    partition.deleteWithReplicationMetadata("a3".getBytes(), "rmd".getBytes());
+
+    Map<String, String> records = new HashMap<>();
+    AtomicBoolean completed = new AtomicBoolean();
+    BytesStreamingCallback callback = new BytesStreamingCallback() {
+      @Override
+      public void onRecordReceived(byte[] key, byte[] value) {
+        records.put(new String(key), new String(value));
+      }
+
+      @Override
+      public void onCompletion() {
+        completed.set(true);
+      }
+    };
+    partition.getByKeyPrefix("a".getBytes(), callback);
+    Assert.assertTrue(completed.get());
+    Assert.assertEquals(records.size(), 2);
+    Assert.assertEquals(records.get("a1"), "v1");
+    Assert.assertEquals(records.get("a2"), "v2");
+
+    records.clear();
+    partition.getByKeyPrefix(null, callback);
+    Assert.assertEquals(records.size(), 3);
+
+    records.clear();
+    partition.getByKeyRange("a2".getBytes(), "b1".getBytes(), callback);
+    Assert.assertEquals(records.size(), 1);
+    Assert.assertEquals(records.get("a2"), "v2");
+  }
+
+  @Test(timeOut = 60 * 1000)
+  public void testConcurrentReadsDuringWrites() throws Exception {
+    OffHeapStoragePartition partition = new OffHeapStoragePartition(PARTITION_ID, SEGMENT_SIZE, null);
+    int keyCount = 2000;
+    for (int i = 0; i < keyCount; i++) {
+      partition.put(getKey(i), getValue(i, 0));
+    }
+    AtomicBoolean done = new AtomicBoolean();
+    AtomicReference<Throwable> failure = new AtomicReference<>();
+    Thread reader = new Thread(() -> {
+      try {
+        while (!done.get()) {
+          for (int i = 0; i < keyCount; i++) {
+            byte[] value = partition.get(getKey(i));
+            // The value of any round is valid, as long as it belongs to the key
+            if (value == null || !new String(value).startsWith("value_" + i + "_")) {
+              throw new AssertionError("Unexpected value of key: " + i);
+            }
+          }
+        }
+      } catch (Throwable e) {
+        failure.set(e);
+      }
+    });
+    reader.start();
+    try {
+      // Enough rounds to trigger compactions and resizes of the index while reading
+      for (int round = 1; round < 30; round++) {
+        for (int i = 0; i < keyCount; i++) {
+          partition.put(getKey(i), getValue(i, round));
+          partition.put(getKey(keyCount + round * keyCount + i), getValue(i, round));
+        }
+      }
+    } finally {
+      done.set(true);
+      reader.join();
+    }
+    Assert.assertNull(failure.get());
+  }
+
+  private static byte[] getKey(int i) {
+    return ("key_" + i).getBytes();
+  }
+
+  private static byte[] getValue(int i, int round) {
+    return ("value_" + i + "_" + round).getBytes();
+  }
+}
@@ -18,8 +18,11 @@ import com.linkedin.venice.offsets.OffsetRecord;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
+import java.io.File;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import org.apache.commons.io.FileUtils;
 import org.testng.Assert;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
@@ -183,6 +186,32 @@ public class RocksDBStorageEngineTest extends AbstractStorageEngineTest {
     Assert.assertTrue(persistedPartitionIds.contains(METADATA_PARTITION_ID));
   }
 
+  @Test
+  public void testCreateSnapshotAndRestorePartition() throws Exception {
+    int partitionId = 7;
+    String snapshotDir = Utils.getUniqueTempPath("snapshot");
+    testStoreEngine.addStoragePartition(partitionId);
+    try {
+      testStoreEngine.put(partitionId, "key1".getBytes(), "value1".getBytes());
+      List<String> files = testStoreEngine.createSnapshot(partitionId, snapshotDir);
+      Assert.assertFalse(files.isEmpty());
+      for (String file: files) {
+        Assert.assertTrue(new File(snapshotDir, file).exists(), "Missing snapshot file: " + file);
+      }
+      testStoreEngine.put(partitionId, "key2".getBytes(), "value2".getBytes());
+
+      testStoreEngine.restorePartitionFromSnapshot(partitionId, snapshotDir);
+      Assert.assertTrue(testStoreEngine.containsPartition(partitionId));
+      Assert.assertEquals(testStoreEngine.get(partitionId, "key1".getBytes()), "value1".getBytes());
+      Assert.assertNull(testStoreEngine.get(partitionId, "key2".getBytes()));
+      // The snapshot is moved into the partition
+      Assert.assertFalse(new File(snapshotDir).exists());
+    } finally {
+      testStoreEngine.dropPartition(partitionId);
+      FileUtils.deleteDirectory(new File(snapshotDir));
+    }
+  }
+
   @Test
   public void testRocksDBStoragePartitionType() {
     // Verify that data partition is created as regular RocksDB partition, not a RMD-RocksDB Partition.
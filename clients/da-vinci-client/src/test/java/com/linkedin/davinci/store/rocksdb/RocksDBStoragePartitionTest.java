@@ -1,5 +1,6 @@
 package com.linkedin.davinci.store.rocksdb;
 
+import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_BLOCK_BASE_BLOOM_FILTER_BITS_PER_KEY;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_BLOCK_CACHE_IMPLEMENTATION;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_LEVEL0_FILE_NUM_COMPACTION_TRIGGER;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_LEVEL0_FILE_NUM_COMPACTION_TRIGGER_WRITE_ONLY_VERSION;
@@ -10,12 +11,15 @@ import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_LEV
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_MAX_MEMTABLE_COUNT;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_MEMTABLE_SIZE_IN_BYTES;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_PLAIN_TABLE_FORMAT_ENABLED;
+import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_SCAN_READAHEAD_SIZE_IN_BYTES;
+import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_STORE_TO_PREFIX_EXTRACTOR_LENGTH_MAP;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_TOTAL_MEMTABLE_USAGE_CAP_IN_BYTES;
 import static com.linkedin.venice.ConfigKeys.INGESTION_MEMORY_LIMIT;
 import static com.linkedin.venice.ConfigKeys.INGESTION_USE_DA_VINCI_CLIENT;
 import static com.linkedin.venice.ConfigKeys.PERSISTENCE_TYPE;
 import static org.mockito.ArgumentMatchers.anyLong;
 
+import com.linkedin.davinci.callback.BytesStreamingCallback;
 import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.stats.RocksDBMemoryStats;
 import com.linkedin.davinci.store.AbstractStorageEngineTest;
@@ -27,14 +31,17 @@ import com.linkedin.venice.kafka.validation.checksum.CheckSumType;
 import com.linkedin.venice.meta.PersistenceType;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.store.rocksdb.RocksDBUtils;
 import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.DataProviderUtils;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
+import io.tehuti.metrics.MetricsRepository;
 import java.io.File;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -46,6 +53,7 @@ import org.apache.commons.lang.RandomStringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.mockito.Mockito;
+import org.rocksdb.BlockBasedTableConfig;
 import org.rocksdb.ComparatorOptions;
 import org.rocksdb.Options;
 import org.rocksdb.RocksDBException;
@@ -701,6 +709,300 @@ public class RocksDBStoragePartitionTest {
     removeDir(storeDir);
   }
 
+  @Test
+  public void testKeyPrefixAndRangeScansWithPrefixBloomFilter() {
+    String storeNameWithoutVersion = Utils.getUniqueString("test_store");
+    String storeName = Version.composeKafkaTopic(storeNameWithoutVersion, 1);
+    String storeDir = getTempDatabaseDir(storeName);
+    Properties properties = new Properties();
+    properties.put(ROCKSDB_BLOCK_BASE_BLOOM_FILTER_BITS_PER_KEY, "10");
+    properties.put(ROCKSDB_STORE_TO_PREFIX_EXTRACTOR_LENGTH_MAP, storeNameWithoutVersion + ":4");
+    properties.put(ROCKSDB_SCAN_READAHEAD_SIZE_IN_BYTES, "1MB");
+    VeniceProperties veniceServerProperties =
+        AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB, properties);
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+    Assert.assertEquals(rocksDBServerConfig.getPrefixExtractorLength(storeNameWithoutVersion), 4);
+    Assert.assertEquals(rocksDBServerConfig.getPrefixExtractorLength("other_store"), 0);
+
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+    RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+        new StoragePartitionConfig(storeName, 0),
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig);
+    BlockBasedTableConfig tableConfig = (BlockBasedTableConfig) storagePartition.getOptions().tableFormatConfig();
+    // The filter policy is shared by all the partitions of the factory, which owns it
+    Assert.assertNotNull(tableConfig.filterPolicy());
+    Assert.assertSame(tableConfig.filterPolicy(), factory.getBloomFilter());
+    Assert.assertTrue(tableConfig.wholeKeyFiltering());
+
+    for (int i = 0; i < 100; i++) {
+      storagePartition.put((KEY_PREFIX + i).getBytes(), (VALUE_PREFIX + i).getBytes());
+      storagePartition.put(("other_" + i).getBytes(), (VALUE_PREFIX + i).getBytes());
+    }
+    // Flush the memtable, so that the scans go through the filters of the SST files
+    storagePartition.sync();
+
+    // Prefixes of the same length as the prefix extractor, longer, and shorter
+    Assert.assertEquals(scanByKeyPrefix(storagePartition, KEY_PREFIX).size(), 100);
+    Assert.assertEquals(scanByKeyPrefix(storagePartition, KEY_PREFIX + "1").size(), 11);
+    Assert.assertEquals(scanByKeyPrefix(storagePartition, "ke").size(), 100);
+    Assert.assertEquals(scanByKeyPrefix(storagePartition, "missing_").size(), 0);
+    Assert.assertEquals(scanByKeyPrefix(storagePartition, null).size(), 200);
+    Assert.assertEquals(storagePartition.get((KEY_PREFIX + 10).getBytes()), (VALUE_PREFIX + 10).getBytes());
+    Assert.assertNull(storagePartition.get((KEY_PREFIX + 100).getBytes()));
+
+    List<String> keysInRange = scanByKeyRange(storagePartition, KEY_PREFIX + "1", KEY_PREFIX + "2");
+    Assert.assertEquals(keysInRange.size(), 11);
+    // The keys of a partition are scanned in order
+    Assert.assertEquals(keysInRange.get(0), KEY_PREFIX + "1");
+    Assert.assertEquals(keysInRange.get(10), KEY_PREFIX + "19");
+    Assert.assertEquals(scanByKeyRange(storagePartition, KEY_PREFIX + "99", "other_1").size(), 2);
+    Assert.assertEquals(scanByKeyRange(storagePartition, null, KEY_PREFIX).size(), 0);
+    Assert.assertEquals(scanByKeyRange(storagePartition, "other_", null).size(), 100);
+    Assert.assertEquals(scanByKeyRange(storagePartition, null, null).size(), 200);
+
+    storagePartition.drop();
+    factory.close();
+    removeDir(storeDir);
+  }
+
+  @Test
+  public void testMultiGetIntoDirectBuffers() {
+    String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
+    String storeDir = getTempDatabaseDir(storeName);
+    VeniceProperties veniceServerProperties =
+        AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB, new Properties());
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+    RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+        new StoragePartitionConfig(storeName, 0),
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig);
+    for (int i = 0; i < 10; i++) {
+      storagePartition.put((KEY_PREFIX + i).getBytes(), (VALUE_PREFIX + i).getBytes());
+    }
+
+    List<ByteBuffer> keys = new ArrayList<>();
+    List<ByteBuffer> values = new ArrayList<>();
+    for (String key: new String[] { KEY_PREFIX + 1, KEY_PREFIX + 100, KEY_PREFIX + 2 }) {
+      ByteBuffer keyBuffer = ByteBuffer.allocateDirect(key.length());
+      keyBuffer.put(key.getBytes()).flip();
+      keys.add(keyBuffer);
+      values.add(ByteBuffer.allocateDirect(64));
+    }
+    // Too small for the value, which has to be truncated
+    values.set(2, ByteBuffer.allocateDirect(2));
+
+    int[] valueSizes = storagePartition.multiGetIntoDirectBuffers(keys, values);
+    int expectedValueSize = (VALUE_PREFIX + 1).length();
+    Assert.assertEquals(valueSizes, new int[] { expectedValueSize, -1, expectedValueSize });
+    byte[] value = new byte[expectedValueSize];
+    values.get(0).duplicate().get(value);
+    Assert.assertEquals(value, (VALUE_PREFIX + 1).getBytes());
+    Assert.assertEquals(values.get(2).get(1), (VALUE_PREFIX + 2).getBytes()[1]);
+
+    // Single key lookups skip the multiGet, but have to behave the same
+    valueSizes = storagePartition
+        .multiGetIntoDirectBuffers(Collections.singletonList(keys.get(1)), Collections.singletonList(values.get(1)));
+    Assert.assertEquals(valueSizes, new int[] { -1 });
+    valueSizes = storagePartition
+        .multiGetIntoDirectBuffers(Collections.singletonList(keys.get(2)), Collections.singletonList(values.get(2)));
+    Assert.assertEquals(valueSizes, new int[] { expectedValueSize });
+
+    storagePartition.drop();
+    removeDir(storeDir);
+  }
+
+  @Test
+  public void testGetIntoDirectBuffer() {
+    String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
+    String storeDir = getTempDatabaseDir(storeName);
+    VeniceProperties veniceServerProperties =
+        AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB, new Properties());
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+    RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+        new StoragePartitionConfig(storeName, 0),
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig);
+    storagePartition.put((KEY_PREFIX + 1).getBytes(), (VALUE_PREFIX + 1).getBytes());
+
+    ByteBuffer key = ByteBuffer.allocateDirect(64);
+    key.put((KEY_PREFIX + 1).getBytes()).flip();
+    ByteBuffer value = ByteBuffer.allocateDirect(64);
+    int expectedValueSize = (VALUE_PREFIX + 1).length();
+    Assert.assertEquals(storagePartition.getIntoDirectBuffer(key, value), expectedValueSize);
+    byte[] valueBytes = new byte[expectedValueSize];
+    value.duplicate().get(valueBytes);
+    Assert.assertEquals(valueBytes, (VALUE_PREFIX + 1).getBytes());
+
+    // The full size is returned when the value gets truncated
+    key.position(0);
+    ByteBuffer smallValue = ByteBuffer.allocateDirect(2);
+    Assert.assertEquals(storagePartition.getIntoDirectBuffer(key, smallValue), expectedValueSize);
+    Assert.assertEquals(smallValue.get(1), (VALUE_PREFIX + 1).getBytes()[1]);
+
+    key.clear();
+    key.put((KEY_PREFIX + 100).getBytes()).flip();
+    Assert.assertEquals(storagePartition.getIntoDirectBuffer(key, value), -1);
+
+    storagePartition.drop();
+    removeDir(storeDir);
+  }
+
+  @Test
+  public void testSecondaryPartition() {
+    String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
+    String storeDir = getTempDatabaseDir(storeName);
+    VeniceProperties veniceServerProperties =
+        AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB, new Properties());
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+    RocksDBStoragePartition primaryPartition = new RocksDBStoragePartition(
+        new StoragePartitionConfig(storeName, 0),
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig);
+    primaryPartition.put((KEY_PREFIX + 1).getBytes(), (VALUE_PREFIX + 1).getBytes());
+    primaryPartition.sync();
+
+    StoragePartitionConfig secondaryPartitionConfig = new StoragePartitionConfig(storeName, 0);
+    secondaryPartitionConfig.setSecondary(true);
+    Assert.assertTrue(secondaryPartitionConfig.isReadOnly());
+    RocksDBStoragePartition secondaryPartition = new RocksDBStoragePartition(
+        secondaryPartitionConfig,
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig);
+    Assert.assertTrue(secondaryPartition.isSecondary());
+    Assert.assertTrue(secondaryPartition.verifyConfig(secondaryPartitionConfig));
+    Assert.assertFalse(secondaryPartition.verifyConfig(new StoragePartitionConfig(storeName, 0)));
+    Assert.assertEquals(secondaryPartition.get((KEY_PREFIX + 1).getBytes()), (VALUE_PREFIX + 1).getBytes());
+    Assert.assertThrows(
+        VeniceException.class,
+        () -> secondaryPartition.put((KEY_PREFIX + 2).getBytes(), (VALUE_PREFIX + 2).getBytes()));
+    Assert.assertThrows(VeniceException.class, () -> primaryPartition.catchUpWithPrimary());
+
+    // The data flushed by the primary instance only becomes visible after catching up
+    primaryPartition.put((KEY_PREFIX + 2).getBytes(), (VALUE_PREFIX + 2).getBytes());
+    primaryPartition.sync();
+    Assert.assertNull(secondaryPartition.get((KEY_PREFIX + 2).getBytes()));
+    secondaryPartition.catchUpWithPrimary();
+    Assert.assertEquals(secondaryPartition.get((KEY_PREFIX + 2).getBytes()), (VALUE_PREFIX + 2).getBytes());
+
+    // Dropping the secondary partition leaves the database to the primary instance
+    secondaryPartition.drop();
+    Assert.assertFalse(new File(RocksDBUtils.composeSecondaryDbDir(DATA_BASE_DIR, storeName, 0)).exists());
+    Assert.assertEquals(primaryPartition.get((KEY_PREFIX + 1).getBytes()), (VALUE_PREFIX + 1).getBytes());
+
+    primaryPartition.drop();
+    removeDir(storeDir);
+  }
+
+  @Test
+  public void testSecondaryPartitionHandoverKeepsMemoryStats() {
+    String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
+    String storeDir = getTempDatabaseDir(storeName);
+    VeniceProperties veniceServerProperties =
+        AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB, new Properties());
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    MetricsRepository metricsRepository = new MetricsRepository();
+    RocksDBMemoryStats memoryStats = new RocksDBMemoryStats(metricsRepository, "RocksDBMemoryStats", false);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(
+        serverConfig,
+        memoryStats,
+        AvroProtocolDefinition.STORE_VERSION_STATE.getSerializer(),
+        AvroProtocolDefinition.PARTITION_STATE.getSerializer());
+    RocksDBStoragePartition ingestingPartition = new RocksDBStoragePartition(
+        new StoragePartitionConfig(storeName, 0),
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig);
+    ingestingPartition.put((KEY_PREFIX + 1).getBytes(), (VALUE_PREFIX + 1).getBytes());
+    ingestingPartition.sync();
+
+    // The secondary instance serves the reads while the primary one is still ingesting
+    StoragePartitionConfig secondaryPartitionConfig = new StoragePartitionConfig(storeName, 0);
+    secondaryPartitionConfig.setSecondary(true);
+    RocksDBStoragePartition secondaryPartition = new RocksDBStoragePartition(
+        secondaryPartitionConfig,
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig);
+
+    // The new primary instance takes over before the secondary one is dropped
+    ingestingPartition.close();
+    RocksDBStoragePartition servingPartition = new RocksDBStoragePartition(
+        new StoragePartitionConfig(storeName, 0),
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig);
+    secondaryPartition.drop();
+    String estimateNumKeysMetric = ".RocksDBMemoryStats--rocksdb.estimate-num-keys.Gauge";
+    Assert.assertTrue(metricsRepository.getMetric(estimateNumKeysMetric).value() > 0);
+
+    servingPartition.drop();
+    Assert.assertEquals(metricsRepository.getMetric(estimateNumKeysMetric).value(), 0d);
+    removeDir(storeDir);
+  }
+
+  private List<String> scanByKeyPrefix(RocksDBStoragePartition storagePartition, String keyPrefix) {
+    List<String> keys = new ArrayList<>();
+    storagePartition
+        .getByKeyPrefix(keyPrefix == null ? null : keyPrefix.getBytes(), new CollectingBytesStreamingCallback(keys));
+    return keys;
+  }
+
+  private List<String> scanByKeyRange(RocksDBStoragePartition storagePartition, String startKey, String endKey) {
+    List<String> keys = new ArrayList<>();
+    storagePartition.getByKeyRange(
+        startKey == null ? null : startKey.getBytes(),
+        endKey == null ? null : endKey.getBytes(),
+        new CollectingBytesStreamingCallback(keys));
+    return keys;
+  }
+
+  private static class CollectingBytesStreamingCallback extends BytesStreamingCallback {
+    private final List<String> keys;
+
+    CollectingBytesStreamingCallback(List<String> keys) {
+      this.keys = keys;
+    }
+
+    @Override
+    public void onRecordReceived(byte[] key, byte[] value) {
+      keys.add(new String(key));
+    }
+
+    @Override
+    public void onCompletion() {
+    }
+  }
+
   @Test
   public void checkMemoryLimitAtDatabaseOpen() {
     String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
@@ -53,6 +53,20 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
   // Max allowed key count in batch-get request
   private final int maxAllowedKeyCntInBatchGetReq;
   protected static final int MAX_ALLOWED_KEY_COUNT_IN_BATCHGET = 150;
+  /**
+   * The window in microseconds to coalesce concurrent single gets into a streaming batch get of at most
+   * {@link #singleGetBatchingMaxKeyCount} keys. Single get batching is disabled if it's not positive.
+   * Please check {@link com.linkedin.venice.client.store.SingleGetBatcher} to find more details.
+   */
+  private final long singleGetBatchingWindowInMicros;
+  private final int singleGetBatchingMaxKeyCount;
+  /**
+   * The max number of entries of the near cache of the client, which is disabled if it's not positive.
+   * Please check {@link com.linkedin.venice.client.store.NearCache} to find more details.
+   */
+  private final int nearCacheMaxEntryCount;
+  private final long nearCacheMaxByteSize;
+  private final long nearCacheTtlInMs;
   private final DaVinciClient<StoreMetaKey, StoreMetaValue> daVinciClientForMetaStore;
   private final AvroSpecificStoreClient<StoreMetaKey, StoreMetaValue> thinClientForMetaStore;
   /**
@@ -112,6 +126,11 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
       long routingUnavailableRequestCounterResetDelayMS,
       int routingPendingRequestCounterInstanceBlockThreshold,
       int maxAllowedKeyCntInBatchGetReq,
+      long singleGetBatchingWindowInMicros,
+      int singleGetBatchingMaxKeyCount,
+      int nearCacheMaxEntryCount,
+      long nearCacheMaxByteSize,
+      long nearCacheTtlInMs,
       DaVinciClient<StoreMetaKey, StoreMetaValue> daVinciClientForMetaStore,
       AvroSpecificStoreClient<StoreMetaKey, StoreMetaValue> thinClientForMetaStore,
       long metadataRefreshIntervalInSeconds,
@@ -152,7 +171,8 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
     for (RequestType requestType: RequestType.values()) {
       clientStatsMap.put(
           requestType,
-          FastClientStats.getClientStats(metricsRepository, this.statsPrefix, storeName, requestType));
+          FastClientStats
+              .getClientStats(metricsRepository, this.statsPrefix, storeName, requestType, nearCacheMaxEntryCount > 0));
     }
     this.clusterStats = new ClusterStats(metricsRepository, storeName);
     this.speculativeQueryEnabled = speculativeQueryEnabled;
@@ -197,6 +217,26 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
 
     this.maxAllowedKeyCntInBatchGetReq = maxAllowedKeyCntInBatchGetReq;
 
+    this.singleGetBatchingWindowInMicros = singleGetBatchingWindowInMicros;
+    this.singleGetBatchingMaxKeyCount = singleGetBatchingMaxKeyCount;
+    if (this.singleGetBatchingWindowInMicros > 0) {
+      if (this.singleGetBatchingMaxKeyCount <= 0
+          || this.singleGetBatchingMaxKeyCount > this.maxAllowedKeyCntInBatchGetReq) {
+        throw new VeniceClientException(
+            "singleGetBatchingMaxKeyCount must be positive and at most maxAllowedKeyCntInBatchGetReq: "
+                + this.maxAllowedKeyCntInBatchGetReq + ", but got: " + this.singleGetBatchingMaxKeyCount);
+      }
+    }
+
+    this.nearCacheMaxEntryCount = nearCacheMaxEntryCount;
+    this.nearCacheMaxByteSize = nearCacheMaxByteSize;
+    this.nearCacheTtlInMs = nearCacheTtlInMs;
+    if (this.nearCacheMaxEntryCount > 0 && this.nearCacheMaxByteSize <= 0) {
+      throw new VeniceClientException(
+          "nearCacheMaxByteSize must be positive when the near cache is enabled, but got: "
+              + this.nearCacheMaxByteSize);
+    }
+
     this.daVinciClientForMetaStore = daVinciClientForMetaStore;
     this.thinClientForMetaStore = thinClientForMetaStore;
     this.metadataRefreshIntervalInSeconds = metadataRefreshIntervalInSeconds;
@@ -329,6 +369,26 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
     return maxAllowedKeyCntInBatchGetReq;
   }
 
+  public long getSingleGetBatchingWindowInMicros() {
+    return singleGetBatchingWindowInMicros;
+  }
+
+  public int getSingleGetBatchingMaxKeyCount() {
+    return singleGetBatchingMaxKeyCount;
+  }
+
+  public int getNearCacheMaxEntryCount() {
+    return nearCacheMaxEntryCount;
+  }
+
+  public long getNearCacheMaxByteSize() {
+    return nearCacheMaxByteSize;
+  }
+
+  public long getNearCacheTtlInMs() {
+    return nearCacheTtlInMs;
+  }
+
   public DaVinciClient<StoreMetaKey, StoreMetaValue> getDaVinciClientForMetaStore() {
     return daVinciClientForMetaStore;
   }
@@ -439,6 +499,13 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
      */
     private int maxAllowedKeyCntInBatchGetReq = MAX_ALLOWED_KEY_COUNT_IN_BATCHGET;
 
+    private long singleGetBatchingWindowInMicros = 0; // disabled
+    private int singleGetBatchingMaxKeyCount = 100;
+
+    private int nearCacheMaxEntryCount = 0; // disabled
+    private long nearCacheMaxByteSize = 64 * 1024 * 1024; // 64MB
+    private long nearCacheTtlInMs = TimeUnit.MINUTES.toMillis(1);
+
     private DaVinciClient<StoreMetaKey, StoreMetaValue> daVinciClientForMetaStore;
 
     private AvroSpecificStoreClient<StoreMetaKey, StoreMetaValue> thinClientForMetaStore;
@@ -578,6 +645,31 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
       return this;
     }
 
+    public ClientConfigBuilder<K, V, T> setSingleGetBatchingWindowInMicros(long singleGetBatchingWindowInMicros) {
+      this.singleGetBatchingWindowInMicros = singleGetBatchingWindowInMicros;
+      return this;
+    }
+
+    public ClientConfigBuilder<K, V, T> setSingleGetBatchingMaxKeyCount(int singleGetBatchingMaxKeyCount) {
+      this.singleGetBatchingMaxKeyCount = singleGetBatchingMaxKeyCount;
+      return this;
+    }
+
+    public ClientConfigBuilder<K, V, T> setNearCacheMaxEntryCount(int nearCacheMaxEntryCount) {
+      this.nearCacheMaxEntryCount = nearCacheMaxEntryCount;
+      return this;
+    }
+
+    public ClientConfigBuilder<K, V, T> setNearCacheMaxByteSize(long nearCacheMaxByteSize) {
+      this.nearCacheMaxByteSize = nearCacheMaxByteSize;
+      return this;
+    }
+
+    public ClientConfigBuilder<K, V, T> setNearCacheTtlInMs(long nearCacheTtlInMs) {
+      this.nearCacheTtlInMs = nearCacheTtlInMs;
+      return this;
+    }
+
     public ClientConfigBuilder<K, V, T> setLongTailRetryEnabledForSingleGet(boolean longTailRetryEnabledForSingleGet) {
       this.longTailRetryEnabledForSingleGet = longTailRetryEnabledForSingleGet;
       return this;
@@ -670,6 +762,11 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
           .setRoutingUnavailableRequestCounterResetDelayMS(routingUnavailableRequestCounterResetDelayMS)
           .setRoutingPendingRequestCounterInstanceBlockThreshold(routingPendingRequestCounterInstanceBlockThreshold)
           .setMaxAllowedKeyCntInBatchGetReq(maxAllowedKeyCntInBatchGetReq)
+          .setSingleGetBatchingWindowInMicros(singleGetBatchingWindowInMicros)
+          .setSingleGetBatchingMaxKeyCount(singleGetBatchingMaxKeyCount)
+          .setNearCacheMaxEntryCount(nearCacheMaxEntryCount)
+          .setNearCacheMaxByteSize(nearCacheMaxByteSize)
+          .setNearCacheTtlInMs(nearCacheTtlInMs)
           .setDaVinciClientForMetaStore(daVinciClientForMetaStore)
           .setThinClientForMetaStore(thinClientForMetaStore)
           .setMetadataRefreshIntervalInSeconds(metadataRefreshIntervalInSeconds)
@@ -709,6 +806,11 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
           routingUnavailableRequestCounterResetDelayMS,
           routingPendingRequestCounterInstanceBlockThreshold,
           maxAllowedKeyCntInBatchGetReq,
+          singleGetBatchingWindowInMicros,
+          singleGetBatchingMaxKeyCount,
+          nearCacheMaxEntryCount,
+          nearCacheMaxByteSize,
+          nearCacheTtlInMs,
           daVinciClientForMetaStore,
           thinClientForMetaStore,
           metadataRefreshIntervalInSeconds,
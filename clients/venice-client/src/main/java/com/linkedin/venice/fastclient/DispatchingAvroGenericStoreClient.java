@@ -13,6 +13,8 @@ import com.linkedin.venice.client.exceptions.VeniceClientHttpException;
 import com.linkedin.venice.client.stats.ClientStats;
 import com.linkedin.venice.client.store.AbstractAvroStoreClient;
 import com.linkedin.venice.client.store.ComputeGenericRecord;
+import com.linkedin.venice.client.store.NearCache;
+import com.linkedin.venice.client.store.SingleGetBatcher;
 import com.linkedin.venice.client.store.streaming.ComputeRecordStreamDecoder;
 import com.linkedin.venice.client.store.streaming.StreamingCallback;
 import com.linkedin.venice.client.store.streaming.TrackingStreamingCallback;
@@ -22,7 +24,9 @@ import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.VeniceCompressor;
 import com.linkedin.venice.compute.ComputeRequestWrapper;
 import com.linkedin.venice.compute.protocol.request.router.ComputeRouterRequestKeyV1;
+import com.linkedin.venice.compute.protocol.response.ComputeAggregationResponseV1;
 import com.linkedin.venice.fastclient.meta.StoreMetadata;
+import com.linkedin.venice.fastclient.stats.FastClientStats;
 import com.linkedin.venice.fastclient.transport.GrpcTransportClient;
 import com.linkedin.venice.fastclient.transport.R2TransportClient;
 import com.linkedin.venice.fastclient.transport.TransportClientResponseForRoute;
@@ -40,6 +44,7 @@ import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.utils.EncodingUtils;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.RedundantExceptionFilter;
+import com.linkedin.venice.utils.SystemTime;
 import com.linkedin.venice.utils.concurrent.ChainedCompletableFuture;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
@@ -84,6 +89,12 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
 
   // Key serializer
   private RecordSerializer<K> keySerializer;
+  private final SingleGetBatcher<K, V> singleGetBatcher;
+  /**
+   * Keyed by the current version of {@link #metadata}, so the cache is invalidated as soon as the metadata refresh
+   * picks up a version swap.
+   */
+  private final NearCache<K, V> nearCache;
   protected StoreDeserializerCache<V> storeDeserializerCache;
 
   private static final RecordSerializer<MultiGetRouterRequestKeyV1> MULTI_GET_REQUEST_SERIALIZER =
@@ -133,6 +144,26 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
     BATCH_GET_TRANSPORT_EXCEPTION_FILTER_MESSAGE = "BatchGet Transport Exception for " + storeName;
     COMPUTE_TRANSPORT_EXCEPTION_FILTER_MESSAGE = "Compute Transport Exception for " + storeName;
     this.storeDeserializerCache = new AvroStoreDeserializerCache<>(metadata);
+    if (config.getSingleGetBatchingWindowInMicros() > 0) {
+      this.singleGetBatcher = new SingleGetBatcher<>(
+          config.getSingleGetBatchingWindowInMicros(),
+          config.getSingleGetBatchingMaxKeyCount(),
+          (keys, callback) -> streamingBatchGetFromServers(
+              new BatchGetRequestContext<>(keys.size(), true),
+              keys,
+              callback));
+    } else {
+      this.singleGetBatcher = null;
+    }
+    if (config.getNearCacheMaxEntryCount() > 0) {
+      this.nearCache = new NearCache<>(
+          config.getNearCacheMaxEntryCount(),
+          config.getNearCacheMaxByteSize(),
+          config.getNearCacheTtlInMs(),
+          new SystemTime());
+    } else {
+      this.nearCache = null;
+    }
   }
 
   protected StoreMetadata getStoreMetadata() {
@@ -180,6 +211,12 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
     return metadata.getStoreName() + "_v" + currentVersion;
   }
 
+  private void putInNearCache(FastClientStats clientStats, int version, K key, V value, int valueSize) {
+    int evictedEntryCount = nearCache.put(version, key, value, valueSize);
+    clientStats.recordNearCacheEviction(evictedEntryCount);
+    clientStats.recordNearCacheSize(nearCache.getByteSize(), nearCache.getEntryCount());
+  }
+
   private int getCurrentVersion() {
     int currentVersion = metadata.getCurrentStoreVersion();
     if (currentVersion <= 0) {
@@ -197,6 +234,25 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
   protected CompletableFuture<V> get(GetRequestContext requestContext, K key) throws VeniceClientException {
     verifyMetadataInitialized();
     requestContext.instanceHealthMonitor = metadata.getInstanceHealthMonitor();
+    if (nearCache != null) {
+      V cachedValue = nearCache.get(getCurrentVersion(), key);
+      config.getStats(RequestType.SINGLE_GET).recordNearCacheLookup(cachedValue == null ? 0 : 1, 1);
+      if (cachedValue != null) {
+        requestContext.successRequestKeyCount.incrementAndGet();
+        return CompletableFuture.completedFuture(cachedValue);
+      }
+    }
+    if (singleGetBatcher != null && !requestContext.isTriggeredByBatchGet) {
+      /**
+       * The single get is sent as part of a streaming batch get, so its latency breakdown is not recorded. The
+       * long-tail retry still works above this layer, by sending another single get for the key.
+       */
+      return singleGetBatcher.get(key).whenComplete((value, throwable) -> {
+        if (throwable == null && value != null) {
+          requestContext.successRequestKeyCount.incrementAndGet();
+        }
+      });
+    }
     if (requestContext.requestUri == null) {
       /**
        * Reuse the request uri for the retry request.
@@ -297,6 +353,14 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
                 RecordDeserializer<V> deserializer = getDataRecordDeserializer(response.getSchemaId());
                 V value = tryToDeserialize(deserializer, data, response.getSchemaId(), key);
                 requestContext.responseDeserializationTime = LatencyUtils.getLatencyInMS(nanoTsBeforeDeserialization);
+                if (nearCache != null) {
+                  putInNearCache(
+                      config.getStats(RequestType.SINGLE_GET),
+                      requestContext.currentVersion,
+                      key,
+                      value,
+                      response.getBody().length);
+                }
                 requestContext.successRequestKeyCount.incrementAndGet();
                 valueFuture.complete(value);
               }
@@ -361,10 +425,42 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
       BatchGetRequestContext<K, V> requestContext,
       Set<K> keys,
       StreamingCallback<K, V> callback) {
+    Set<K> keysToRequest = keys;
+    if (nearCache != null) {
+      // Serve the cached keys right away, and only request the other ones
+      verifyMetadataInitialized();
+      int currentVersion = getCurrentVersion();
+      keysToRequest = new HashSet<>(keys.size());
+      for (K key: keys) {
+        V cachedValue = nearCache.get(currentVersion, key);
+        if (cachedValue == null) {
+          keysToRequest.add(key);
+        } else {
+          callback.onRecordReceived(key, cachedValue);
+        }
+      }
+      config.getStats(RequestType.MULTI_GET_STREAMING)
+          .recordNearCacheLookup(keys.size() - keysToRequest.size(), keys.size());
+      if (keysToRequest.isEmpty()) {
+        callback.onCompletion(Optional.empty());
+        return;
+      }
+    }
+    streamingBatchGetFromServers(requestContext, keysToRequest, callback);
+  }
+
+  /**
+   * Requests the keys from the servers without looking them up in the near cache, e.g. for the batches of single gets,
+   * whose keys were already looked up by {@link #get(GetRequestContext, Object)}.
+   */
+  private void streamingBatchGetFromServers(
+      BatchGetRequestContext<K, V> requestContext,
+      Set<K> keysToRequest,
+      StreamingCallback<K, V> callback) {
     multiKeyStreamingRequest(
         requestContext,
         RequestType.MULTI_GET_STREAMING,
-        keys,
+        keysToRequest,
         callback,
         composeRouteForBatchGetRequest(requestContext),
         HEADERS_FOR_MULTIGET_REQUEST,
@@ -577,6 +673,7 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
         metadata.getCompressor(transportClientResponse.getCompressionStrategy(), requestContext.currentVersion);
     for (MultiGetResponseRecordV1 r: records) {
       long nanoTsBeforeDecompression = System.nanoTime();
+      int valueSize = r.value.remaining();
 
       ByteBuffer decompressRecord = decompressRecord(
           transportClientResponse.getCompressionStrategy(),
@@ -593,6 +690,14 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
           getLatencyInNS(nanoTsBeforeDeserialization));
       MultiKeyRequestContext.KeyInfo<K> k = keyInfos.get(r.keyIndex);
       keysSeen.add(r.keyIndex);
+      if (nearCache != null) {
+        putInNearCache(
+            config.getStats(RequestType.MULTI_GET_STREAMING),
+            requestContext.currentVersion,
+            k.getKey(),
+            deserializedValue,
+            valueSize);
+      }
       callback.onRecordReceived(k.getKey(), deserializedValue);
     }
     requestContext.recordDecompressionTime(transportClientResponse.getRouteId(), totalDecompressionTimeForResponse);
@@ -615,9 +720,7 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
       long preRequestTimeInNS) throws VeniceClientException {
     verifyMetadataInitialized();
     Map<String, String> headers = new HashMap<>(2);
-    headers.put(
-        HttpConstants.VENICE_API_VERSION,
-        Integer.toString(ReadAvroProtocolDefinition.COMPUTE_REQUEST_V3.getProtocolVersion()));
+    headers.put(HttpConstants.VENICE_API_VERSION, Integer.toString(computeRequest.getComputeRequestVersion()));
     headers.put(
         VENICE_COMPUTE_VALUE_SCHEMA_ID,
         Integer.toString(metadata.getValueSchemaId(computeRequest.getValueSchema())));
@@ -655,6 +758,12 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
     for (MultiKeyRequestContext.KeyInfo keyInfo: keysForRoutes) {
       keyList.add((K) keyInfo.getKey());
     }
+    /**
+     * The partial aggregations of the route are only merged once the route completed successfully, together with the
+     * completion of all its keys, since a reducing compute doesn't return a record per key.
+     */
+    List<ComputeAggregationResponseV1> partialAggregations =
+        computeRequest.hasReduction() ? Collections.synchronizedList(new ArrayList<>()) : null;
 
     // Don't want it to mark the future for all routes complete
     TrackingStreamingCallback<K, GenericRecord> nonCompletingStreamingCallback =
@@ -677,9 +786,16 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
 
           @Override
           public void onRecordReceived(K key, GenericRecord value) {
-            allRecordsCallback.onRecordReceived(
-                key,
-                value != null ? new ComputeGenericRecord(value, computeRequest.getValueSchema()) : null);
+            ComputeGenericRecord result =
+                value != null ? new ComputeGenericRecord(value, computeRequest.getValueSchema()) : null;
+            if (computeRequest.hasReduction()) {
+              // Only the top-K records are returned, which are already covered by the partial aggregations
+              if (result != null) {
+                computeRequest.getReducer().offerTopKRecord(key, result);
+              }
+              return;
+            }
+            allRecordsCallback.onRecordReceived(key, result);
           }
 
           @Override
@@ -690,6 +806,13 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
               requestContext.markCompleteExceptionally(transportClientResponse, e);
               transportClientResponse.getRouteRequestFuture().completeExceptionally(e);
             } else {
+              if (computeRequest.hasReduction()) {
+                computeRequest.getReducer().mergePartialAggregations(partialAggregations);
+                // Report the keys of the route as done, so that a long tail retry only covers the other routes
+                for (K key: keyList) {
+                  allRecordsCallback.onRecordReceived(key, null);
+                }
+              }
               requestContext.markComplete(transportClientResponse);
               transportClientResponse.getRouteRequestFuture().complete(SC_OK);
             }
@@ -701,7 +824,8 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
         nonCompletingStreamingCallback,
         deserializationExecutor,
         STREAMING_FOOTER_RECORD_DESERIALIZER,
-        computeResultRecordDeserializer);
+        computeResultRecordDeserializer,
+        computeRequest.hasReduction() ? partialAggregations::add : null);
   }
 
   /**
@@ -852,6 +976,9 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
 
   @Override
   public void close() {
+    if (singleGetBatcher != null) {
+      singleGetBatcher.close();
+    }
     try {
       metadata.close();
     } catch (Exception e) {
@@ -52,13 +52,18 @@ public class FastClientStats extends com.linkedin.venice.client.stats.ClientStat
       MetricsRepository metricsRepository,
       String statsPrefix,
       String storeName,
-      RequestType requestType) {
+      RequestType requestType,
+      boolean nearCacheEnabled) {
     String metricName = statsPrefix.isEmpty() ? storeName : statsPrefix + "." + storeName;
-    return new FastClientStats(metricsRepository, metricName, requestType);
+    return new FastClientStats(metricsRepository, metricName, requestType, nearCacheEnabled);
   }
 
-  private FastClientStats(MetricsRepository metricsRepository, String storeName, RequestType requestType) {
-    super(metricsRepository, storeName, requestType);
+  private FastClientStats(
+      MetricsRepository metricsRepository,
+      String storeName,
+      RequestType requestType,
+      boolean nearCacheEnabled) {
+    super(metricsRepository, storeName, requestType, nearCacheEnabled);
 
     this.storeName = storeName;
     this.noAvailableReplicaRequestCountSensor =
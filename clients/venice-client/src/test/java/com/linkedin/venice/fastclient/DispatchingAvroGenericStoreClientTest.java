@@ -11,6 +11,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
@@ -22,11 +24,15 @@ import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
 import com.linkedin.avroutil1.compatibility.RandomRecordGenerator;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.client.store.ComputeGenericRecord;
+import com.linkedin.venice.client.store.ComputeReductionResult;
 import com.linkedin.venice.client.store.ComputeRequestBuilder;
 import com.linkedin.venice.client.store.streaming.VeniceResponseMap;
 import com.linkedin.venice.client.store.transport.TransportClient;
 import com.linkedin.venice.client.store.transport.TransportClientResponse;
 import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compute.ComputeUtils;
+import com.linkedin.venice.compute.protocol.response.ComputeAggregationResponseV1;
+import com.linkedin.venice.compute.protocol.response.ComputeAggregationResultV1;
 import com.linkedin.venice.compute.protocol.response.ComputeResponseRecordV1;
 import com.linkedin.venice.fastclient.meta.RequestBasedMetadataTestUtils;
 import com.linkedin.venice.fastclient.meta.StoreMetadata;
@@ -38,6 +44,7 @@ import com.linkedin.venice.router.exception.VeniceKeyCountLimitException;
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
 import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import com.linkedin.venice.streaming.StreamingConstants;
 import com.linkedin.venice.utils.DataProviderUtils;
 import com.linkedin.venice.utils.TestUtils;
 import com.linkedin.venice.utils.Time;
@@ -46,6 +53,7 @@ import io.tehuti.metrics.MetricsRepository;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -1235,6 +1243,111 @@ public class DispatchingAvroGenericStoreClientTest {
     }
   }
 
+  /**
+   * The 2nd route responds after the long tail retry kicked in, so the retry must only cover its key: the key of the
+   * 1st route is only returned as a top-K record, or not at all, and it still has to be reported as done.
+   */
+  @Test(timeOut = TEST_TIMEOUT)
+  public void testComputeWithReductionAndLongTailRetry() throws IOException, ExecutionException, InterruptedException {
+    try {
+      clientConfigBuilder = new ClientConfig.ClientConfigBuilder<>().setStoreName(STORE_NAME)
+          .setR2Client(getMockR2Client(false))
+          .setMetadataRefreshIntervalInSeconds(1L)
+          .setRoutingPendingRequestCounterInstanceBlockThreshold(10)
+          .setLongTailRetryEnabledForCompute(true)
+          .setLongTailRetryThresholdForComputeInMicroSeconds((int) TimeUnit.MILLISECONDS.toMicros(100))
+          .setMetricsRepository(new MetricsRepository());
+      clientConfig = clientConfigBuilder.build();
+      storeMetadata = RequestBasedMetadataTestUtils.getMockMetaData(
+          clientConfig,
+          STORE_NAME,
+          getMockRouterBackedSchemaReader(),
+          false,
+          false,
+          false,
+          null,
+          AvroCompatibilityHelper.parse(KEY_SCHEMA),
+          STORE_VALUE_SCHEMA);
+      TransportClient mockedTransportClient = mock(TransportClient.class);
+      dispatchingAvroGenericStoreClient =
+          new DispatchingAvroGenericStoreClient(storeMetadata, clientConfig, mockedTransportClient);
+      statsAvroGenericStoreClient = new StatsAvroGenericStoreClient(
+          new RetriableAvroGenericStoreClient(dispatchingAvroGenericStoreClient, clientConfig),
+          clientConfig);
+      statsAvroGenericStoreClient.start();
+      dispatchingAvroGenericStoreClient.verifyMetadataInitialized();
+
+      // The 1st route returns its key as the top-K record, and the 2nd one only returns its partial aggregation
+      Schema resultSchema = AvroCompatibilityHelper.parse(
+          "{\"type\":\"record\",\"name\":\"test_store_VeniceComputeResult\",\"fields\":["
+              + "{\"name\":\"age\",\"type\":\"int\"},{\"name\":\"" + VENICE_COMPUTATION_ERROR_MAP_FIELD_NAME
+              + "\",\"type\":{\"type\":\"map\",\"values\":\"string\"},\"default\":{}}]}");
+      GenericRecord topKRecord = new GenericData.Record(resultSchema);
+      topKRecord.put("age", 30);
+      topKRecord.put(VENICE_COMPUTATION_ERROR_MAP_FIELD_NAME, Collections.emptyMap());
+      ComputeResponseRecordV1 topKResponseRecord = new ComputeResponseRecordV1();
+      topKResponseRecord.keyIndex = 0;
+      topKResponseRecord.value =
+          ByteBuffer.wrap(SerializerDeserializerFactory.getAvroGenericSerializer(resultSchema).serialize(topKRecord));
+      CompletableFuture<TransportClientResponseForRoute> responseFuture0 = new CompletableFuture<>();
+      responseFuture0.complete(
+          new TransportClientResponseForRoute(
+              "0",
+              1,
+              CompressionStrategy.NO_OP,
+              COMPUTE_RESPONSE_SERIALIZER
+                  .serializeObjects(Arrays.asList(topKResponseRecord, getPartialAggregationRecord(0, 30))),
+              mock(CompletableFuture.class)));
+      doReturn(responseFuture0).when(mockedTransportClient)
+          .post(eq(REPLICA1_NAME + "/compute/test_store_v1"), any(), any());
+      CompletableFuture<TransportClientResponseForRoute> responseFuture1 = new CompletableFuture<>();
+      doReturn(responseFuture1).when(mockedTransportClient)
+          .post(eq(REPLICA2_NAME + "/compute/test_store_v1"), any(), any());
+
+      CompletableFuture<ComputeReductionResult<String>> resultFuture = statsAvroGenericStoreClient.compute()
+          .project("age")
+          .topK("age", 1)
+          .sum("age", "age_sum")
+          .executeWithReduction(COMPUTE_REQUEST_KEYS);
+      TestUtils.waitForNonDeterministicAssertion(
+          5,
+          TimeUnit.SECONDS,
+          () -> verify(mockedTransportClient, times(2))
+              .post(eq(REPLICA2_NAME + "/compute/test_store_v1"), any(), any()));
+      // Both the original request and the retry of the 2nd route complete, but its partial aggregation is merged once
+      responseFuture1.complete(
+          new TransportClientResponseForRoute(
+              "1",
+              1,
+              CompressionStrategy.NO_OP,
+              COMPUTE_RESPONSE_SERIALIZER
+                  .serializeObjects(Collections.singletonList(getPartialAggregationRecord(1, 20))),
+              mock(CompletableFuture.class)));
+
+      ComputeReductionResult<String> result = resultFuture.get();
+      verify(mockedTransportClient, times(1)).post(eq(REPLICA1_NAME + "/compute/test_store_v1"), any(), any());
+      assertEquals(result.getTopKRecords().keySet(), Collections.singleton("test_key_1"));
+      assertEquals(result.getSum("age_sum"), 50.0, 0.0);
+      assertEquals(result.getCount("age_sum"), 2);
+    } finally {
+      tearDown();
+    }
+  }
+
+  private ComputeResponseRecordV1 getPartialAggregationRecord(int partitionId, double sum) {
+    ComputeAggregationResultV1 aggregationResult = new ComputeAggregationResultV1();
+    aggregationResult.count = 1;
+    aggregationResult.value = sum;
+    aggregationResult.bucketCounts = Collections.emptyList();
+    ComputeAggregationResponseV1 partialResponse = new ComputeAggregationResponseV1();
+    partialResponse.partitionId = partitionId;
+    partialResponse.results = Collections.singletonList(aggregationResult);
+    ComputeResponseRecordV1 record = new ComputeResponseRecordV1();
+    record.keyIndex = StreamingConstants.KEY_ID_FOR_COMPUTE_AGGREGATION;
+    record.value = ComputeUtils.serializeComputeAggregationResponse(partialResponse);
+    return record;
+  }
+
   @Test(timeOut = TEST_TIMEOUT, dataProvider = "True-and-False", dataProviderClass = DataProviderUtils.class)
   public void testComputeWithEmptyKeys(boolean streamingCompute)
       throws ExecutionException, InterruptedException, IOException {
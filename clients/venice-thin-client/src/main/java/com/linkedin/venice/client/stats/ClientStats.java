@@ -38,6 +38,16 @@ public class ClientStats extends BasicClientStats {
    * Tracks the number of keys handled via MultiGet fallback mechanism for Client-Compute.
    */
   private final Sensor multiGetFallbackSensor;
+  /**
+   * Metrics of the near cache, see {@link com.linkedin.venice.client.store.NearCache}. They are only registered, and
+   * so may only be recorded, when the near cache of the client is enabled.
+   */
+  private final Sensor nearCacheHitCountSensor;
+  private final Sensor nearCacheLookupCountSensor;
+  private final Sensor nearCacheHitRatioSensor;
+  private final Sensor nearCacheEvictionCountSensor;
+  private final Sensor nearCacheByteSizeSensor;
+  private final Sensor nearCacheEntryCountSensor;
 
   public static ClientStats getClientStats(
       MetricsRepository metricsRepository,
@@ -46,10 +56,15 @@ public class ClientStats extends BasicClientStats {
       ClientConfig clientConfig) {
     String prefix = clientConfig == null ? null : clientConfig.getStatsPrefix();
     String metricName = prefix == null || prefix.isEmpty() ? storeName : prefix + "." + storeName;
-    return new ClientStats(metricsRepository, metricName, requestType);
+    boolean nearCacheEnabled = clientConfig != null && clientConfig.getNearCacheMaxEntryCount() > 0;
+    return new ClientStats(metricsRepository, metricName, requestType, nearCacheEnabled);
   }
 
-  protected ClientStats(MetricsRepository metricsRepository, String storeName, RequestType requestType) {
+  protected ClientStats(
+      MetricsRepository metricsRepository,
+      String storeName,
+      RequestType requestType,
+      boolean nearCacheEnabled) {
     super(metricsRepository, storeName, requestType);
 
     /**
@@ -114,6 +129,26 @@ public class ClientStats extends BasicClientStats {
         "retry_key_success_ratio",
         new TehutiUtils.SimpleRatioStat(retryRequestSuccessKeyCount, getSuccessRequestKeyCountRate()));
     multiGetFallbackSensor = registerSensor("multiget_fallback", new OccurrenceRate());
+
+    if (nearCacheEnabled) {
+      Rate nearCacheHitCount = new Rate();
+      Rate nearCacheLookupCount = new Rate();
+      nearCacheHitCountSensor = registerSensor("near_cache_hit_count", nearCacheHitCount);
+      nearCacheLookupCountSensor = registerSensor("near_cache_lookup_count", nearCacheLookupCount);
+      nearCacheHitRatioSensor = registerSensor(
+          "near_cache_hit_ratio",
+          new TehutiUtils.SimpleRatioStat(nearCacheHitCount, nearCacheLookupCount));
+      nearCacheEvictionCountSensor = registerSensor("near_cache_eviction_count", new Rate());
+      nearCacheByteSizeSensor = registerSensor("near_cache_byte_size", new Avg(), new Max());
+      nearCacheEntryCountSensor = registerSensor("near_cache_entry_count", new Avg(), new Max());
+    } else {
+      nearCacheHitCountSensor = null;
+      nearCacheLookupCountSensor = null;
+      nearCacheHitRatioSensor = null;
+      nearCacheEvictionCountSensor = null;
+      nearCacheByteSizeSensor = null;
+      nearCacheEntryCountSensor = null;
+    }
   }
 
   public void recordHttpRequest(int httpStatus) {
@@ -193,4 +228,18 @@ public class ClientStats extends BasicClientStats {
   public void recordMultiGetFallback(int keyCount) {
     multiGetFallbackSensor.record(keyCount);
   }
+
+  public void recordNearCacheLookup(int hitCount, int lookupCount) {
+    nearCacheHitCountSensor.record(hitCount);
+    nearCacheLookupCountSensor.record(lookupCount);
+  }
+
+  public void recordNearCacheEviction(int evictionCount) {
+    nearCacheEvictionCountSensor.record(evictionCount);
+  }
+
+  public void recordNearCacheSize(long byteSize, int entryCount) {
+    nearCacheByteSizeSensor.record(byteSize);
+    nearCacheEntryCountSensor.record(entryCount);
+  }
 }
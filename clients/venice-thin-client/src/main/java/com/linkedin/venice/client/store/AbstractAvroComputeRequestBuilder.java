@@ -15,16 +15,22 @@ import com.linkedin.venice.client.store.streaming.VeniceResponseCompletableFutur
 import com.linkedin.venice.client.store.streaming.VeniceResponseMap;
 import com.linkedin.venice.client.store.streaming.VeniceResponseMapImpl;
 import com.linkedin.venice.compute.ComputeRequestWrapper;
+import com.linkedin.venice.compute.ComputeResultReducer;
 import com.linkedin.venice.compute.ComputeUtils;
+import com.linkedin.venice.compute.protocol.request.ComputeAggregation;
 import com.linkedin.venice.compute.protocol.request.ComputeOperation;
 import com.linkedin.venice.compute.protocol.request.CosineSimilarity;
 import com.linkedin.venice.compute.protocol.request.DotProduct;
 import com.linkedin.venice.compute.protocol.request.HadamardProduct;
+import com.linkedin.venice.compute.protocol.request.TopK;
+import com.linkedin.venice.compute.protocol.request.enums.ComputeAggregationType;
 import com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType;
+import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.utils.Pair;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import io.tehuti.utils.SystemTime;
 import io.tehuti.utils.Time;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -75,6 +81,8 @@ public abstract class AbstractAvroComputeRequestBuilder<K> implements ComputeReq
   private List<DotProduct> dotProducts = new LinkedList<>();
   private List<CosineSimilarity> cosineSimilarities = new LinkedList<>();
   private List<HadamardProduct> hadamardProducts = new LinkedList<>();
+  private TopK topK = null;
+  private List<ComputeAggregation> aggregations = new ArrayList<>();
 
   public AbstractAvroComputeRequestBuilder(AvroGenericReadComputeStoreClient storeClient, Schema latestValueSchema) {
 
@@ -291,6 +299,113 @@ public abstract class AbstractAvroComputeRequestBuilder<K> implements ComputeReq
     return operations;
   }
 
+  @Override
+  public ComputeRequestBuilder<K> topK(String scoreFieldName, int k) {
+    if (k < 0) {
+      throw new VeniceClientException("Top-K requires a non-negative k, got: " + k);
+    }
+    this.topK = new TopK(scoreFieldName, k);
+    return this;
+  }
+
+  @Override
+  public ComputeRequestBuilder<K> sum(String fieldName, String resultFieldName) {
+    return addAggregation(ComputeAggregationType.SUM, fieldName, Collections.emptyList(), resultFieldName);
+  }
+
+  @Override
+  public ComputeRequestBuilder<K> min(String fieldName, String resultFieldName) {
+    return addAggregation(ComputeAggregationType.MIN, fieldName, Collections.emptyList(), resultFieldName);
+  }
+
+  @Override
+  public ComputeRequestBuilder<K> max(String fieldName, String resultFieldName) {
+    return addAggregation(ComputeAggregationType.MAX, fieldName, Collections.emptyList(), resultFieldName);
+  }
+
+  @Override
+  public ComputeRequestBuilder<K> histogram(String fieldName, List<Double> bucketBoundaries, String resultFieldName) {
+    return addAggregation(
+        ComputeAggregationType.HISTOGRAM,
+        fieldName,
+        bucketBoundaries == null ? Collections.emptyList() : bucketBoundaries,
+        resultFieldName);
+  }
+
+  private ComputeRequestBuilder<K> addAggregation(
+      ComputeAggregationType aggregationType,
+      String fieldName,
+      List<Double> bucketBoundaries,
+      String resultFieldName) {
+    ComputeAggregation aggregation = new ComputeAggregation();
+    aggregation.aggregationType = aggregationType.getValue();
+    aggregation.field = fieldName;
+    aggregation.resultFieldName = resultFieldName;
+    aggregation.bucketBoundaries = bucketBoundaries;
+    aggregations.add(aggregation);
+    return this;
+  }
+
+  private boolean hasReduction() {
+    return ComputeUtils.isReductionRequest(topK, aggregations);
+  }
+
+  @Override
+  public CompletableFuture<ComputeReductionResult<K>> executeWithReduction(Set<K> keys) throws VeniceClientException {
+    if (!hasReduction()) {
+      throw new VeniceClientException("Top-K or at least one aggregation is required by executeWithReduction");
+    }
+    checkNotExecuted();
+
+    long preRequestTimeInNS = time.nanoseconds();
+    SchemaAndToString resultSchema = getResultSchema();
+    ComputeRequestWrapper computeRequestWrapper;
+    try {
+      ComputeUtils.checkComputeReduction(topK, aggregations, resultSchema.getSchema());
+      computeRequestWrapper = new ComputeRequestWrapper(
+          this.latestValueSchema,
+          resultSchema.getSchema(),
+          resultSchema.getToString(),
+          getComputeRequestOperations(),
+          false,
+          topK,
+          aggregations);
+    } catch (VeniceClientException e) {
+      throw e;
+    } catch (VeniceException e) {
+      throw new VeniceClientException(e.getMessage(), e);
+    }
+
+    ComputeResultReducer reducer = computeRequestWrapper.getReducer();
+    CompletableFuture<ComputeReductionResult<K>> resultFuture = new CompletableFuture<>();
+    storeClient.compute(
+        computeRequestWrapper,
+        keys,
+        resultSchema.getSchema(),
+        new StreamingCallback<K, ComputeGenericRecord>() {
+          @Override
+          public void onRecordReceived(K key, ComputeGenericRecord value) {
+            // Only the records computed on the client side end up here, see ComputeRequestWrapper#getReducer
+            reducer.accumulate(key, value);
+          }
+
+          @Override
+          public void onCompletion(Optional<Exception> exception) {
+            if (exception.isPresent()) {
+              resultFuture.completeExceptionally(exception.get());
+            } else {
+              resultFuture.complete(new ComputeReductionResult<>(reducer));
+            }
+          }
+        },
+        preRequestTimeInNS);
+
+    if (streamingStats.isPresent()) {
+      return AppTimeOutTrackingCompletableFuture.track(resultFuture, streamingStats.get());
+    }
+    return resultFuture;
+  }
+
   @Override
   public CompletableFuture<Map<K, ComputeGenericRecord>> execute(Set<K> keys) throws VeniceClientException {
     CompletableFuture<Map<K, ComputeGenericRecord>> resultFuture = new CompletableFuture<>();
@@ -367,10 +482,8 @@ public abstract class AbstractAvroComputeRequestBuilder<K> implements ComputeReq
       Set<K> keys,
       boolean originallyStreaming,
       StreamingCallback<K, ComputeGenericRecord> callback) throws VeniceClientException {
-    if (executed) {
-      throw new VeniceClientException(getClass().getName() + " reuse is not supported.");
-    }
-    executed = true;
+    checkNoReduction();
+    checkNotExecuted();
 
     long preRequestTimeInNS = time.nanoseconds();
     SchemaAndToString resultSchema = getResultSchema();
@@ -379,6 +492,19 @@ public abstract class AbstractAvroComputeRequestBuilder<K> implements ComputeReq
     storeClient.compute(computeRequestWrapper, keys, resultSchema.getSchema(), callback, preRequestTimeInNS);
   }
 
+  private void checkNotExecuted() {
+    if (executed) {
+      throw new VeniceClientException(getClass().getName() + " reuse is not supported.");
+    }
+    executed = true;
+  }
+
+  protected void checkNoReduction() {
+    if (hasReduction()) {
+      throw new VeniceClientException("Top-K and aggregations are only supported by executeWithReduction");
+    }
+  }
+
   protected void checkComputeFieldValidity(
       String computeFieldName,
       String resultFieldName,
@@ -26,8 +26,10 @@ import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.CompressorFactory;
 import com.linkedin.venice.compute.ComputeRequestWrapper;
 import com.linkedin.venice.compute.ComputeUtils;
+import com.linkedin.venice.compute.protocol.response.ComputeAggregationResponseV1;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.exceptions.VeniceNoStoreException;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import com.linkedin.venice.read.protocol.response.streaming.StreamingFooterRecordV1;
 import com.linkedin.venice.schema.SchemaReader;
 import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
@@ -128,6 +130,8 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
   private final String storageRequestPath;
   private final String computeRequestPath;
   private final AtomicBoolean remoteComputationAllowed = new AtomicBoolean(true);
+  private final SingleGetBatcher<K, V> singleGetBatcher;
+  private final NearCache<K, V> nearCache;
 
   private volatile boolean isServiceDiscovered;
 
@@ -181,6 +185,19 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
     this.compressorFactory = new CompressorFactory();
     this.storageRequestPath = TYPE_STORAGE + "/" + clientConfig.getStoreName();
     this.computeRequestPath = TYPE_COMPUTE + "/" + clientConfig.getStoreName();
+    this.singleGetBatcher = clientConfig.getSingleGetBatchingWindowInMicros() > 0
+        ? new SingleGetBatcher<>(
+            clientConfig.getSingleGetBatchingWindowInMicros(),
+            clientConfig.getSingleGetBatchingMaxKeyCount(),
+            (keys, callback) -> streamingBatchGet(keys, callback, false))
+        : null;
+    this.nearCache = clientConfig.getNearCacheMaxEntryCount() > 0
+        ? new NearCache<>(
+            clientConfig.getNearCacheMaxEntryCount(),
+            clientConfig.getNearCacheMaxByteSize(),
+            clientConfig.getNearCacheTtlInMs(),
+            clientConfig.getTime())
+        : null;
   }
 
   @Override
@@ -403,6 +420,16 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
   @Override
   public CompletableFuture<V> get(K key, Optional<ClientStats> stats, long preRequestTimeInNS)
       throws VeniceClientException {
+    if (nearCache != null) {
+      V cachedValue = nearCache.get(key);
+      stats.ifPresent(clientStats -> clientStats.recordNearCacheLookup(cachedValue == null ? 0 : 1, 1));
+      if (cachedValue != null) {
+        return CompletableFuture.completedFuture(cachedValue);
+      }
+    }
+    if (singleGetBatcher != null) {
+      return singleGetBatcher.get(key);
+    }
     byte[] serializedKey = getKeySerializerForRequest().serialize(key);
     String requestPath = getStorageRequestPathForSingleKey(serializedKey);
     CompletableFuture<V> valueFuture = new CompletableFuture<>();
@@ -430,7 +457,11 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
                   (clientStats) -> clientStats
                       .recordResponseDecompressionTime(LatencyUtils.getLatencyInMS(decompressionStartTime)));
               RecordDeserializer<V> deserializer = getDataRecordDeserializer(response.getSchemaId());
-              valueFuture.complete(tryToDeserialize(deserializer, data, response.getSchemaId(), key));
+              V value = tryToDeserialize(deserializer, data, response.getSchemaId(), key);
+              if (nearCache != null) {
+                putInNearCache(stats, response.getStoreVersion(), key, value, response.getBody().length);
+              }
+              valueFuture.complete(value);
               responseCompleteReporter.report();
             }
           } catch (Exception e) {
@@ -637,14 +668,31 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
                   resultSchema);
               getStats().ifPresent(stats -> stats.recordMultiGetFallback(1));
             }
-            onRecordReceived(key, value);
+            // Locally computed results are passed along as is, so that the top-K and aggregations cover all of them
+            super.onRecordReceived(
+                key,
+                value != null ? new ComputeGenericRecord(value, computeRequest.getValueSchema()) : null);
           }
 
           @Override
           public void onRecordReceived(K key, GenericRecord value) {
-            super.onRecordReceived(
-                key,
-                value != null ? new ComputeGenericRecord(value, computeRequest.getValueSchema()) : null);
+            ComputeGenericRecord result =
+                value != null ? new ComputeGenericRecord(value, computeRequest.getValueSchema()) : null;
+            if (result != null && computeRequest.hasReduction()) {
+              // Remote compute only returns the top-K records, which are already covered by the partial aggregations
+              computeRequest.getReducer().offerTopKRecord(key, result);
+              return;
+            }
+            super.onRecordReceived(key, result);
+          }
+
+          @Override
+          public void onPartialAggregationReceived(ComputeAggregationResponseV1 partialResponse) {
+            if (!computeRequest.hasReduction()) {
+              super.onPartialAggregationReceived(partialResponse);
+              return;
+            }
+            computeRequest.getReducer().mergePartialAggregations(partialResponse);
           }
 
           @Override
@@ -677,6 +725,9 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
       TransportClientStreamingCallback callback,
       Optional<ClientStats> stats) throws VeniceClientException {
     Map<String, String> headers = new HashMap<>(COMPUTE_HEADER_MAP_FOR_STREAMING_V3);
+    if (computeRequest.hasReduction()) {
+      headers.put(HttpConstants.VENICE_API_VERSION, Integer.toString(computeRequest.getComputeRequestVersion()));
+    }
     int schemaId = getSchemaReader().getValueSchemaId(computeRequest.getValueSchema());
     headers.put(VENICE_KEY_COUNT, Integer.toString(keyList.size()));
     headers.put(VENICE_COMPUTE_VALUE_SCHEMA_ID, Integer.toString(schemaId));
@@ -722,6 +773,9 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
    */
   @Override
   public void close() {
+    if (singleGetBatcher != null) {
+      singleGetBatcher.close();
+    }
     IOUtils.closeQuietly(transportClient, LOGGER::error);
     IOUtils.closeQuietly(schemaReader, LOGGER::error);
     IOUtils.closeQuietly(compressorFactory, LOGGER::error);
@@ -806,20 +860,120 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
 
   @Override
   public void streamingBatchGet(Set<K> keys, StreamingCallback<K, V> callback) throws VeniceClientException {
+    streamingBatchGet(keys, callback, true);
+  }
+
+  /**
+   * @param lookUpNearCache false for the batches of single gets, whose keys were already looked up in the near cache by
+   *                        {@link #get(Object, Optional, long)}, so their values are only cached once received
+   */
+  private void streamingBatchGet(Set<K> keys, StreamingCallback<K, V> callback, boolean lookUpNearCache)
+      throws VeniceClientException {
     if (handleCallbackForEmptyKeySet(keys, callback)) {
       // empty key set
       return;
     }
-    List<K> keyList = new ArrayList<>(keys);
     TrackingStreamingCallback<K, V> decoderCallback = DelegatingTrackingCallback.wrap(callback);
-    RecordStreamDecoder decoder = new MultiGetRecordStreamDecoder<>(
-        keyList,
-        decoderCallback,
-        getDeserializationExecutor(),
-        streamingFooterRecordDeserializer,
-        this::getDataRecordDeserializer,
-        this::decompressRecord);
-    streamingBatchGet(keyList, decoder, decoderCallback.getStats());
+    Optional<ClientStats> stats = decoderCallback.getStats();
+    if (nearCache != null && !lookUpNearCache) {
+      List<K> keyList = new ArrayList<>(keys);
+      streamingBatchGet(keyList, new NearCachePopulatingRecordStreamDecoder(keyList, decoderCallback), stats);
+      return;
+    }
+    if (nearCache == null) {
+      List<K> keyList = new ArrayList<>(keys);
+      RecordStreamDecoder decoder = new MultiGetRecordStreamDecoder<>(
+          keyList,
+          decoderCallback,
+          getDeserializationExecutor(),
+          streamingFooterRecordDeserializer,
+          this::getDataRecordDeserializer,
+          this::decompressRecord);
+      streamingBatchGet(keyList, decoder, stats);
+      return;
+    }
+
+    // Serve the cached keys locally, and only request the other ones
+    List<K> keyList = new ArrayList<>(keys.size());
+    int hitCount = 0;
+    for (K key: keys) {
+      V cachedValue = nearCache.get(key);
+      if (cachedValue == null) {
+        keyList.add(key);
+      } else {
+        decoderCallback.onRecordReceived(key, cachedValue);
+        decoderCallback.onRecordDeserialized();
+        hitCount++;
+      }
+    }
+    int cachedKeyCount = hitCount;
+    stats.ifPresent(clientStats -> clientStats.recordNearCacheLookup(cachedKeyCount, keys.size()));
+    if (cachedKeyCount > 0) {
+      decoderCallback = new DelegatingTrackingCallback<K, V>(decoderCallback) {
+        @Override
+        public void onDeserializationCompletion(
+            Optional<Exception> exception,
+            int successKeyCount,
+            int duplicateEntryCount) {
+          super.onDeserializationCompletion(exception, successKeyCount + cachedKeyCount, duplicateEntryCount);
+        }
+      };
+    }
+    if (keyList.isEmpty()) {
+      decoderCallback.onCompletion(Optional.empty());
+      decoderCallback.onDeserializationCompletion(Optional.empty(), 0, 0);
+      return;
+    }
+    streamingBatchGet(keyList, new NearCachePopulatingRecordStreamDecoder(keyList, decoderCallback), stats);
+  }
+
+  private void putInNearCache(Optional<ClientStats> stats, int storeVersion, K key, V value, int valueSize) {
+    int evictionCount = nearCache.put(storeVersion, key, value, valueSize);
+    stats.ifPresent(clientStats -> {
+      clientStats.recordNearCacheEviction(evictionCount);
+      clientStats.recordNearCacheSize(nearCache.getByteSize(), nearCache.getEntryCount());
+    });
+  }
+
+  /**
+   * Caches the values received for a batch get, in the version of the store which served them according to the
+   * response headers.
+   */
+  private class NearCachePopulatingRecordStreamDecoder extends MultiGetRecordStreamDecoder<K, V> {
+    private final List<K> keyList;
+    private final Optional<ClientStats> stats;
+    private volatile int storeVersion = NearCache.UNKNOWN_VERSION;
+
+    NearCachePopulatingRecordStreamDecoder(List<K> keyList, TrackingStreamingCallback<K, V> callback) {
+      super(
+          keyList,
+          callback,
+          getDeserializationExecutor(),
+          streamingFooterRecordDeserializer,
+          AbstractAvroStoreClient.this::getDataRecordDeserializer,
+          AbstractAvroStoreClient.this::decompressRecord);
+      this.keyList = keyList;
+      this.stats = callback.getStats();
+    }
+
+    @Override
+    public void onHeaderReceived(Map<String, String> headers) {
+      String storeVersionHeader = headers.get(HttpConstants.VENICE_STORE_VERSION);
+      if (storeVersionHeader != null) {
+        storeVersion = Integer.parseInt(storeVersionHeader);
+      }
+      super.onHeaderReceived(headers);
+    }
+
+    @Override
+    protected V getValueRecord(MultiGetResponseRecordV1 envelope, CompressionStrategy compression) {
+      int valueSize = envelope.value.remaining();
+      V value = super.getValueRecord(envelope, compression);
+      if (value != null) {
+        putInNearCache(stats, storeVersion, keyList.get(envelope.keyIndex), value, valueSize);
+      }
+      return value;
+    }
   }
 
   private void streamingBatchGet(
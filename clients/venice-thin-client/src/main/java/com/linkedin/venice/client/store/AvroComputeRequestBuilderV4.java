@@ -2,13 +2,20 @@ package com.linkedin.venice.client.store;
 
 import static com.linkedin.venice.VeniceConstants.COMPUTE_REQUEST_VERSION_V4;
 import static org.apache.avro.Schema.Type.RECORD;
+import static org.apache.avro.Schema.Type.UNION;
 
 import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.client.schema.SchemaAndToString;
 import com.linkedin.venice.client.store.predicate.AndPredicate;
 import com.linkedin.venice.client.store.predicate.EqualsRelationalOperator;
+import com.linkedin.venice.client.store.predicate.InRelationalOperator;
+import com.linkedin.venice.client.store.predicate.IsNullRelationalOperator;
+import com.linkedin.venice.client.store.predicate.NotPredicate;
+import com.linkedin.venice.client.store.predicate.OrPredicate;
 import com.linkedin.venice.client.store.predicate.Predicate;
+import com.linkedin.venice.client.store.predicate.PredicateBuilder;
+import com.linkedin.venice.client.store.predicate.RangeRelationalOperator;
 import com.linkedin.venice.client.store.streaming.StreamingCallback;
 import com.linkedin.venice.compute.ComputeRequestWrapper;
 import com.linkedin.venice.exceptions.VeniceException;
@@ -31,30 +38,112 @@ public class AvroComputeRequestBuilderV4<K> extends AvroComputeRequestBuilderV3<
     super(storeClient, latestValueSchema);
   }
 
+  /**
+   * The equality conditions on the leading key fields, which are combined by AND operators at the top level of the
+   * predicate, are turned into a key prefix used to seek the matching records. The rest of the predicate, if any,
+   * including the equality conditions on the key fields following the first key field without one, is evaluated
+   * against each key of that range before its value gets deserialized.
+   */
   @Override
-  public void executeWithFilter(
-      Predicate requiredPrefixFields,
-      StreamingCallback<GenericRecord, GenericRecord> callback) {
-    byte[] prefixBytes = extractKeyPrefixBytesFromPredicate(requiredPrefixFields, storeClient.getKeySchema());
+  public void executeWithFilter(Predicate predicate, StreamingCallback<GenericRecord, GenericRecord> callback) {
+    checkNoReduction();
+    Map<String, Object> keyFieldsFromPredicate = new HashMap<>();
+    List<Predicate> residualPredicates = new ArrayList<>();
+    if (predicate != null) {
+      checkKeySchema(storeClient.getKeySchema());
+      checkFieldPaths(predicate, storeClient.getKeySchema());
+      Map<String, EqualsRelationalOperator> keyFieldEqualities = new HashMap<>();
+      splitPredicate(predicate, keyFieldEqualities, residualPredicates);
+      extractLeadingKeyFields(
+          storeClient.getKeySchema(),
+          keyFieldEqualities,
+          keyFieldsFromPredicate,
+          residualPredicates);
+    }
+    byte[] prefixBytes = null;
+    if (predicate != null && (!keyFieldsFromPredicate.isEmpty() || residualPredicates.isEmpty())) {
+      prefixBytes = extractKeyPrefixBytes(keyFieldsFromPredicate, storeClient.getKeySchema());
+    }
     SchemaAndToString resultSchema = getResultSchema();
     ComputeRequestWrapper computeRequestWrapper = generateComputeRequest(resultSchema, true);
-    storeClient.computeWithKeyPrefixFilter(prefixBytes, computeRequestWrapper, callback);
-  }
-
-  private byte[] extractKeyPrefixBytesFromPredicate(Predicate requiredPrefixFields, Schema keySchema) {
-    if (requiredPrefixFields == null) {
-      return null;
+    if (residualPredicates.isEmpty()) {
+      storeClient.computeWithKeyPrefixFilter(prefixBytes, computeRequestWrapper, callback);
+    } else {
+      Predicate keyFilter = residualPredicates.size() == 1
+          ? residualPredicates.get(0)
+          : PredicateBuilder.and(residualPredicates.toArray(new Predicate[0]));
+      storeClient.computeWithKeyPrefixFilter(prefixBytes, keyFilter, computeRequestWrapper, callback);
     }
+  }
 
+  private void checkKeySchema(Schema keySchema) {
     if (keySchema == null) {
       throw new VeniceClientException("Key schema cannot be null");
     } else if (RECORD != keySchema.getType()) {
       throw new VeniceClientException("Key schema must be of type Record to execute with a filter on key fields");
     }
+  }
 
-    Map<String, Object> keyFieldsFromPredicate = new HashMap<>();
-    populateKeyFieldMapFromPredicate(requiredPrefixFields, keyFieldsFromPredicate);
+  /**
+   * The predicates evaluate a field which does not exist as null, so a misspelled field would silently match no key, or
+   * all the keys under a {@link NotPredicate} or an {@link IsNullRelationalOperator}. Every field path referenced by
+   * the predicate is thus checked against the key schema before executing the request.
+   */
+  private void checkFieldPaths(Predicate predicate, Schema keySchema) {
+    String fieldPath = null;
+    if (predicate instanceof AndPredicate) {
+      for (Predicate p: ((AndPredicate) predicate).getChildPredicates()) {
+        checkFieldPaths(p, keySchema);
+      }
+    } else if (predicate instanceof OrPredicate) {
+      for (Predicate p: ((OrPredicate) predicate).getChildPredicates()) {
+        checkFieldPaths(p, keySchema);
+      }
+    } else if (predicate instanceof NotPredicate) {
+      checkFieldPaths(((NotPredicate) predicate).getChildPredicate(), keySchema);
+    } else if (predicate instanceof EqualsRelationalOperator) {
+      fieldPath = ((EqualsRelationalOperator) predicate).getFieldName();
+    } else if (predicate instanceof RangeRelationalOperator) {
+      fieldPath = ((RangeRelationalOperator) predicate).getFieldName();
+    } else if (predicate instanceof InRelationalOperator) {
+      fieldPath = ((InRelationalOperator) predicate).getFieldName();
+    } else if (predicate instanceof IsNullRelationalOperator) {
+      fieldPath = ((IsNullRelationalOperator) predicate).getFieldName();
+    }
+    if (fieldPath == null) {
+      // The null predicates are rejected while splitting the predicate, and the custom predicates are opaque
+      return;
+    }
+    Schema schema = keySchema;
+    for (String fieldName: fieldPath.split("\\.")) {
+      schema = getFieldSchema(schema, fieldName);
+      if (schema == null) {
+        throw new VeniceException("Key field \"" + fieldPath + "\" does not exist in the key schema");
+      }
+    }
+  }
+
+  /**
+   * @return the schema of the given field of a record, or of any record branch of a union, e.g. an optional record
+   */
+  private static Schema getFieldSchema(Schema schema, String fieldName) {
+    if (schema.getType() == UNION) {
+      for (Schema branch: schema.getTypes()) {
+        Schema fieldSchema = getFieldSchema(branch, fieldName);
+        if (fieldSchema != null) {
+          return fieldSchema;
+        }
+      }
+      return null;
+    }
+    if (schema.getType() != RECORD) {
+      return null;
+    }
+    Schema.Field field = schema.getField(fieldName);
+    return field == null ? null : field.schema();
+  }
 
+  private byte[] extractKeyPrefixBytes(Map<String, Object> keyFieldsFromPredicate, Schema keySchema) {
     List<Schema.Field> prefixFields =
         getAndCheckExpectedPrefixFields(keySchema.getFields(), keyFieldsFromPredicate.keySet());
     Schema prefixSchema = Schema.createRecord("prefixSchema", "", "", false);
@@ -77,22 +166,54 @@ public class AvroComputeRequestBuilderV4<K> extends AvroComputeRequestBuilderV3<
     }
   }
 
-  private void populateKeyFieldMapFromPredicate(Predicate predicate, Map<String, Object> keyFields) {
+  /**
+   * Splits the predicate into the equality conditions on top-level fields, which must hold for all the matching
+   * records, and the remaining predicates, which are all combined by an AND operator.
+   */
+  private void splitPredicate(
+      Predicate predicate,
+      Map<String, EqualsRelationalOperator> keyFields,
+      List<Predicate> residualPredicates) {
     if (predicate instanceof AndPredicate) {
       List<Predicate> childPredicates = ((AndPredicate) predicate).getChildPredicates();
       for (Predicate p: childPredicates) {
-        populateKeyFieldMapFromPredicate(p, keyFields);
+        splitPredicate(p, keyFields, residualPredicates);
       }
-    } else if (predicate instanceof EqualsRelationalOperator) {
+    } else if (predicate instanceof EqualsRelationalOperator
+        && !((EqualsRelationalOperator) predicate).isNestedField()) {
       EqualsRelationalOperator equalsPredicate = (EqualsRelationalOperator) predicate;
-      if (keyFields.containsKey(equalsPredicate.getFieldName())
-          && !keyFields.get(equalsPredicate.getFieldName()).equals(equalsPredicate.getExpectedValue())) {
+      EqualsRelationalOperator previousPredicate = keyFields.get(equalsPredicate.getFieldName());
+      if (previousPredicate != null
+          && !previousPredicate.getExpectedValue().equals(equalsPredicate.getExpectedValue())) {
         throw new VeniceException("Key field \"" + equalsPredicate.getFieldName() + "\" cannot have multiple values");
       }
-      keyFields.put(equalsPredicate.getFieldName(), equalsPredicate.getExpectedValue());
+      keyFields.put(equalsPredicate.getFieldName(), equalsPredicate);
+    } else if (predicate == null) {
+      throw new VeniceException("Invalid filtering predicate. Filtering predicate cannot contain null predicates");
     } else {
-      throw new VeniceException(
-          "Invalid filtering predicate. Filtering predicate can only contain AND and EQUALS operators");
+      residualPredicates.add(predicate);
+    }
+  }
+
+  /**
+   * Only the equality conditions on the contiguous run of leading key fields can be turned into a key prefix, the
+   * other ones are moved into the residual predicates.
+   */
+  private void extractLeadingKeyFields(
+      Schema keySchema,
+      Map<String, EqualsRelationalOperator> keyFieldEqualities,
+      Map<String, Object> leadingKeyFields,
+      List<Predicate> residualPredicates) {
+    boolean leading = true;
+    for (Schema.Field keyField: keySchema.getFields()) {
+      EqualsRelationalOperator equalsPredicate = keyFieldEqualities.get(keyField.name());
+      if (equalsPredicate == null) {
+        leading = false;
+      } else if (leading) {
+        leadingKeyFields.put(keyField.name(), equalsPredicate.getExpectedValue());
+      } else {
+        residualPredicates.add(equalsPredicate);
+      }
     }
   }
 
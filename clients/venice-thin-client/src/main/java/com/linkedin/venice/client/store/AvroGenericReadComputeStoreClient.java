@@ -2,6 +2,7 @@ package com.linkedin.venice.client.store;
 
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.client.stats.ClientStats;
+import com.linkedin.venice.client.store.predicate.Predicate;
 import com.linkedin.venice.client.store.streaming.StreamingCallback;
 import com.linkedin.venice.compute.ComputeRequestWrapper;
 import java.util.Optional;
@@ -58,4 +59,17 @@ public interface AvroGenericReadComputeStoreClient<K, V> extends AvroGenericStor
       byte[] keyPrefix,
       ComputeRequestWrapper computeRequestWrapper,
       StreamingCallback<GenericRecord, GenericRecord> callback) throws VeniceClientException;
+
+  /**
+   * Same as {@link #computeWithKeyPrefixFilter(byte[], ComputeRequestWrapper, StreamingCallback)}, but only the keys
+   * matching the given filter are computed, and the values of the other keys are not deserialized at all.
+   */
+  default void computeWithKeyPrefixFilter(
+      byte[] keyPrefix,
+      Predicate keyFilter,
+      ComputeRequestWrapper computeRequestWrapper,
+      StreamingCallback<GenericRecord, GenericRecord> callback) throws VeniceClientException {
+    throw new VeniceClientException(
+        "ComputeWithKeyPrefixFilter with a key filter is not supported by this store client");
+  }
 }
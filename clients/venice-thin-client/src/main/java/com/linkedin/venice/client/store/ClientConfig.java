@@ -11,6 +11,7 @@ import io.tehuti.utils.Time;
 import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import org.apache.avro.Schema;
 import org.apache.avro.specific.SpecificRecord;
@@ -26,6 +27,9 @@ public class ClientConfig<T extends SpecificRecord> {
   public static final String DEFAULT_CLUSTER_DISCOVERY_D2_SERVICE_NAME = "venice-discovery";
   public static final String DEFAULT_D2_ZK_BASE_PATH = "/d2";
   public static final Duration DEFAULT_SCHEMA_REFRESH_PERIOD = Duration.ofMillis(0);
+  public static final int DEFAULT_SINGLE_GET_BATCHING_MAX_KEY_COUNT = 100;
+  public static final long DEFAULT_NEAR_CACHE_MAX_BYTE_SIZE = 64 * 1024 * 1024; // 64MB
+  public static final long DEFAULT_NEAR_CACHE_TTL_IN_MS = TimeUnit.MINUTES.toMillis(1);
 
   // Basic settings
   private String storeName;
@@ -56,6 +60,11 @@ public class ClientConfig<T extends SpecificRecord> {
   private boolean remoteComputationOnly = false;
   private Duration schemaRefreshPeriod = DEFAULT_SCHEMA_REFRESH_PERIOD;
   private Optional<Predicate<Schema>> preferredSchemaFilter = Optional.empty();
+  private long singleGetBatchingWindowInMicros = 0;
+  private int singleGetBatchingMaxKeyCount = DEFAULT_SINGLE_GET_BATCHING_MAX_KEY_COUNT;
+  private int nearCacheMaxEntryCount = 0;
+  private long nearCacheMaxByteSize = DEFAULT_NEAR_CACHE_MAX_BYTE_SIZE;
+  private long nearCacheTtlInMs = DEFAULT_NEAR_CACHE_TTL_IN_MS;
 
   // Security settings
   private boolean isHttps = false;
@@ -119,6 +128,11 @@ public class ClientConfig<T extends SpecificRecord> {
         .setProjectionFieldValidationEnabled(config.isProjectionFieldValidationEnabled())
         .setPreferredSchemaFilter(config.getPreferredSchemaFilter().orElse(null))
         .setSchemaRefreshPeriod(config.getSchemaRefreshPeriod())
+        .setSingleGetBatchingWindowInMicros(config.getSingleGetBatchingWindowInMicros())
+        .setSingleGetBatchingMaxKeyCount(config.getSingleGetBatchingMaxKeyCount())
+        .setNearCacheMaxEntryCount(config.getNearCacheMaxEntryCount())
+        .setNearCacheMaxByteSize(config.getNearCacheMaxByteSize())
+        .setNearCacheTtlInMs(config.getNearCacheTtlInMs())
 
         // HttpTransport settings
         .setMaxConnectionsPerRoute(config.getMaxConnectionsPerRoute())
@@ -462,6 +476,75 @@ public class ClientConfig<T extends SpecificRecord> {
     return this;
   }
 
+  public long getSingleGetBatchingWindowInMicros() {
+    return singleGetBatchingWindowInMicros;
+  }
+
+  /**
+   * When positive, the concurrent single gets issued within this window are sent together as a single streaming batch
+   * get, see {@link SingleGetBatcher}. Disabled by default.
+   */
+  public ClientConfig<T> setSingleGetBatchingWindowInMicros(long singleGetBatchingWindowInMicros) {
+    this.singleGetBatchingWindowInMicros = singleGetBatchingWindowInMicros;
+    return this;
+  }
+
+  public int getSingleGetBatchingMaxKeyCount() {
+    return singleGetBatchingMaxKeyCount;
+  }
+
+  /**
+   * The batch of single gets is sent right away once it reaches this number of distinct keys.
+   */
+  public ClientConfig<T> setSingleGetBatchingMaxKeyCount(int singleGetBatchingMaxKeyCount) {
+    this.singleGetBatchingMaxKeyCount = singleGetBatchingMaxKeyCount;
+    return this;
+  }
+
+  public int getNearCacheMaxEntryCount() {
+    return nearCacheMaxEntryCount;
+  }
+
+  /**
+   * When positive, the values read by the client are kept in a {@link NearCache} of at most this number of entries,
+   * to serve the subsequent reads of the same keys locally. Disabled by default.
+   *
+   * The thin client only learns about a version swap from the responses of the router, which the cache hits don't
+   * go through: after a swap, the cached values of the previous version keep being served until a cache miss sees the
+   * new version, which invalidates the cache, or until they expire after {@link #getNearCacheTtlInMs()}. So a store
+   * whose reads are all served by the cache may serve the previous version for up to the TTL after a swap.
+   */
+  public ClientConfig<T> setNearCacheMaxEntryCount(int nearCacheMaxEntryCount) {
+    this.nearCacheMaxEntryCount = nearCacheMaxEntryCount;
+    return this;
+  }
+
+  public long getNearCacheMaxByteSize() {
+    return nearCacheMaxByteSize;
+  }
+
+  /**
+   * The near cache evicts its least recently used entries once the approximate size of its values exceeds this bound.
+   */
+  public ClientConfig<T> setNearCacheMaxByteSize(long nearCacheMaxByteSize) {
+    this.nearCacheMaxByteSize = nearCacheMaxByteSize;
+    return this;
+  }
+
+  public long getNearCacheTtlInMs() {
+    return nearCacheTtlInMs;
+  }
+
+  /**
+   * The entries of the near cache expire after this duration, which bounds the staleness of the cached values of
+   * hybrid stores, and of the values of the previous version after a version swap. The entries don't expire if it's
+   * not positive, in which case a version swap is only noticed by a cache miss.
+   */
+  public ClientConfig<T> setNearCacheTtlInMs(long nearCacheTtlInMs) {
+    this.nearCacheTtlInMs = nearCacheTtlInMs;
+    return this;
+  }
+
   public Time getTime() {
     return time;
   }
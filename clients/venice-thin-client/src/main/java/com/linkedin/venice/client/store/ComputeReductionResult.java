@@ -0,0 +1,82 @@
+package com.linkedin.venice.client.store;
+
+import com.linkedin.venice.client.exceptions.VeniceClientException;
+import com.linkedin.venice.compute.ComputeAggregator;
+import com.linkedin.venice.compute.ComputeResultReducer;
+import com.linkedin.venice.compute.protocol.request.enums.ComputeAggregationType;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.avro.generic.GenericRecord;
+
+
+/**
+ * The result of {@link ComputeRequestBuilder#executeWithReduction(java.util.Set)}, which contains the top-K records
+ * and the aggregations specified in the request.
+ * @param <K>
+ */
+public class ComputeReductionResult<K> {
+  private final Map<K, ComputeGenericRecord> topKRecords;
+  private final ComputeAggregator aggregator;
+
+  ComputeReductionResult(ComputeResultReducer reducer) {
+    Map<K, ComputeGenericRecord> records = new LinkedHashMap<>();
+    for (Map.Entry<Object, GenericRecord> entry: reducer.getTopKRecords()) {
+      records.put((K) entry.getKey(), (ComputeGenericRecord) entry.getValue());
+    }
+    this.topKRecords = Collections.unmodifiableMap(records);
+    this.aggregator = reducer.getAggregator();
+  }
+
+  /**
+   * @return the top-K records, iterated from the highest score to the lowest one
+   */
+  public Map<K, ComputeGenericRecord> getTopKRecords() {
+    return topKRecords;
+  }
+
+  /**
+   * @return the number of non-null values covered by the given aggregation
+   */
+  public long getCount(String resultFieldName) {
+    return aggregator.getCount(getAggregationIndex(resultFieldName, null));
+  }
+
+  public double getSum(String resultFieldName) {
+    return aggregator.getValue(getAggregationIndex(resultFieldName, ComputeAggregationType.SUM));
+  }
+
+  /**
+   * @return the min value, or null if there was no value to aggregate
+   */
+  public Double getMin(String resultFieldName) {
+    return aggregator.getValue(getAggregationIndex(resultFieldName, ComputeAggregationType.MIN));
+  }
+
+  /**
+   * @return the max value, or null if there was no value to aggregate
+   */
+  public Double getMax(String resultFieldName) {
+    return aggregator.getValue(getAggregationIndex(resultFieldName, ComputeAggregationType.MAX));
+  }
+
+  /**
+   * @return the count of values per bucket, see {@link ComputeRequestBuilder#histogram}
+   */
+  public List<Long> getHistogram(String resultFieldName) {
+    return aggregator.getBucketCounts(getAggregationIndex(resultFieldName, ComputeAggregationType.HISTOGRAM));
+  }
+
+  private int getAggregationIndex(String resultFieldName, ComputeAggregationType expectedType) {
+    int index = aggregator.indexOf(resultFieldName);
+    if (index < 0) {
+      throw new VeniceClientException("Unknown aggregation: " + resultFieldName);
+    }
+    if (expectedType != null && aggregator.getType(index) != expectedType) {
+      throw new VeniceClientException(
+          "Aggregation: " + resultFieldName + " is a " + aggregator.getType(index) + ", not a " + expectedType);
+    }
+    return index;
+  }
+}
@@ -69,6 +69,71 @@ public interface ComputeRequestBuilder<K> {
       List<Float> hadamardProductParam,
       String resultFieldName);
 
+  /**
+   * Setup top-K selection: only the k result records with the highest values of the given field are returned, and
+   * records without a value are never selected. This requires {@link #executeWithReduction(Set)}.
+   * @param scoreFieldName : numeric field of the compute result, either projected or computed by another operation
+   * @param k : number of records to return
+   * @return
+   */
+  default ComputeRequestBuilder<K> topK(String scoreFieldName, int k) {
+    throw new VeniceClientException("Top-K is not supported by " + getClass().getName());
+  }
+
+  /**
+   * Setup sum aggregation over all the result records. This requires {@link #executeWithReduction(Set)}.
+   * @param fieldName : numeric field of the compute result, either projected or computed by another operation
+   * @param resultFieldName : name of the aggregation in {@link ComputeReductionResult}
+   * @return
+   */
+  default ComputeRequestBuilder<K> sum(String fieldName, String resultFieldName) {
+    throw new VeniceClientException("Aggregations are not supported by " + getClass().getName());
+  }
+
+  /**
+   * Setup min aggregation over all the result records. This requires {@link #executeWithReduction(Set)}.
+   * @param fieldName : numeric field of the compute result, either projected or computed by another operation
+   * @param resultFieldName : name of the aggregation in {@link ComputeReductionResult}
+   * @return
+   */
+  default ComputeRequestBuilder<K> min(String fieldName, String resultFieldName) {
+    throw new VeniceClientException("Aggregations are not supported by " + getClass().getName());
+  }
+
+  /**
+   * Setup max aggregation over all the result records. This requires {@link #executeWithReduction(Set)}.
+   * @param fieldName : numeric field of the compute result, either projected or computed by another operation
+   * @param resultFieldName : name of the aggregation in {@link ComputeReductionResult}
+   * @return
+   */
+  default ComputeRequestBuilder<K> max(String fieldName, String resultFieldName) {
+    throw new VeniceClientException("Aggregations are not supported by " + getClass().getName());
+  }
+
+  /**
+   * Setup histogram aggregation over all the result records. n boundaries define n + 1 buckets, where bucket i
+   * counts the values v such that boundaries[i - 1] <= v < boundaries[i]. This requires
+   * {@link #executeWithReduction(Set)}.
+   * @param fieldName : numeric field of the compute result, either projected or computed by another operation
+   * @param bucketBoundaries : strictly ascending bucket boundaries
+   * @param resultFieldName : name of the aggregation in {@link ComputeReductionResult}
+   * @return
+   */
+  default ComputeRequestBuilder<K> histogram(String fieldName, List<Double> bucketBoundaries, String resultFieldName) {
+    throw new VeniceClientException("Aggregations are not supported by " + getClass().getName());
+  }
+
+  /**
+   * Send compute request to Venice with top-K and/or aggregations, which are computed by the storage nodes so that
+   * only the selected records and the partial aggregation results are sent back, instead of one record per key.
+   * @param keys : keys for the candidate records
+   * @return
+   * @throws VeniceClientException
+   */
+  default CompletableFuture<ComputeReductionResult<K>> executeWithReduction(Set<K> keys) throws VeniceClientException {
+    throw new VeniceClientException("Top-K and aggregations are not supported by " + getClass().getName());
+  }
+
   /**
    * Send compute request to Venice, and this should be the last step of the compute specification.
    * @param keys : keys for the candidate records
@@ -106,7 +171,11 @@ public interface ComputeRequestBuilder<K> {
    *
    * This experimental feature is subject to backwards-incompatible changes in the future.
    *
-   * @param predicate : predicate which specifies some required leading top-level key fields
+   * The equality conditions on leading top-level key fields are used to seek the matching keys, and the rest of the
+   * predicate, e.g. ranges, IN-sets, OR, NOT and null checks, is evaluated on the keys before their values get
+   * deserialized. See {@link com.linkedin.venice.client.store.predicate.PredicateBuilder}.
+   *
+   * @param predicate : predicate on the key fields, which may specify some required leading top-level key fields
    * @param callback : streaming callback which stores the result from the compute request
    * @throws VeniceClientException
    */
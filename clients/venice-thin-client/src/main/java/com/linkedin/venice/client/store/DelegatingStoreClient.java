@@ -2,6 +2,7 @@ package com.linkedin.venice.client.store;
 
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.client.stats.ClientStats;
+import com.linkedin.venice.client.store.predicate.Predicate;
 import com.linkedin.venice.client.store.streaming.StreamingCallback;
 import com.linkedin.venice.compute.ComputeRequestWrapper;
 import java.util.Map;
@@ -109,4 +110,13 @@ public class DelegatingStoreClient<K, V> extends InternalAvroStoreClient<K, V> {
       StreamingCallback<GenericRecord, GenericRecord> callback) {
     innerStoreClient.computeWithKeyPrefixFilter(keyPrefix, computeRequestWrapper, callback);
   }
+
+  @Override
+  public void computeWithKeyPrefixFilter(
+      byte[] keyPrefix,
+      Predicate keyFilter,
+      ComputeRequestWrapper computeRequestWrapper,
+      StreamingCallback<GenericRecord, GenericRecord> callback) {
+    innerStoreClient.computeWithKeyPrefixFilter(keyPrefix, keyFilter, computeRequestWrapper, callback);
+  }
 }
@@ -0,0 +1,220 @@
+package com.linkedin.venice.client.store;
+
+import com.linkedin.venice.client.store.transport.TransportClientResponse;
+import com.linkedin.venice.utils.Time;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * A client side cache of the values of a store version, to serve the reads of hot keys without going over the network.
+ *
+ * The cache only holds the values of a single version of the store at a time. The version of each read and write is
+ * checked against it, and the cache is invalidated as soon as a newer version is seen, e.g. after a version swap. The
+ * reads and writes of an older version, e.g. the responses of the requests sent before the version swap, bypass the
+ * cache instead, so that they don't flip it back and forth between the versions.
+ * Besides, the cache is bounded by a number of entries and by an approximate size in bytes, evicting the least
+ * recently used entries first, and the entries expire after a TTL, which bounds the staleness of the values of hybrid
+ * stores, and of the clients only learning about the version swaps through their reads.
+ *
+ * The cache is split in segments by key hash, each one with its own lock, its own share of the bounds and its own
+ * view of the version, so that the concurrent reads of different keys don't contend with each other.
+ *
+ * Only the existing keys are cached, and the cached values are shared between the readers of the same key, like for
+ * the object cache of Da Vinci.
+ */
+public class NearCache<K, V> {
+  public static final int UNKNOWN_VERSION = TransportClientResponse.UNKNOWN_STORE_VERSION;
+  /**
+   * Approximate size of the key, the entry and the bookkeeping of each cached value.
+   */
+  private static final int ENTRY_OVERHEAD_IN_BYTES = 64;
+  private static final int MAX_SEGMENT_COUNT = 16;
+
+  private final Segment<K, V>[] segments;
+  private final long ttlInMs;
+  private final Time time;
+  /**
+   * The latest version written into the cache, used by the reads which don't know the version they target. It never
+   * goes backwards.
+   */
+  private final AtomicInteger latestVersion = new AtomicInteger(UNKNOWN_VERSION);
+
+  public NearCache(int maxEntryCount, long maxByteSize, long ttlInMs, Time time) {
+    if (maxEntryCount <= 0) {
+      throw new IllegalArgumentException("Param maxEntryCount should be positive: " + maxEntryCount);
+    }
+    if (maxByteSize <= 0) {
+      throw new IllegalArgumentException("Param maxByteSize should be positive: " + maxByteSize);
+    }
+    int segmentCount = Math.min(MAX_SEGMENT_COUNT, maxEntryCount);
+    this.segments = new Segment[segmentCount];
+    for (int i = 0; i < segmentCount; i++) {
+      this.segments[i] = new Segment<>(maxEntryCount / segmentCount, maxByteSize / segmentCount);
+    }
+    this.ttlInMs = ttlInMs;
+    this.time = time;
+  }
+
+  /**
+   * @return the cached value of the key in the latest version written into the cache, or null if it's not cached
+   */
+  public V get(K key) {
+    return get(latestVersion.get(), key);
+  }
+
+  /**
+   * @return the cached value of the key in the given version, or null if it's not cached
+   */
+  public V get(int version, K key) {
+    if (version == UNKNOWN_VERSION) {
+      return null;
+    }
+    return getSegment(key).get(version, key, time.getMilliseconds());
+  }
+
+  /**
+   * Caches the value of the key in the given version, invalidating the values of any older version. The value is
+   * dropped if the cache already holds a newer version.
+   *
+   * @param valueSize the size of the serialized value, to approximate the memory held by the deserialized one
+   * @return the number of entries evicted to make room for the value
+   */
+  public int put(int version, K key, V value, int valueSize) {
+    if (version == UNKNOWN_VERSION || value == null) {
+      return 0;
+    }
+    if (version > latestVersion.get()) {
+      latestVersion.accumulateAndGet(version, Math::max);
+    }
+    long expirationTimeInMs = ttlInMs > 0 ? time.getMilliseconds() + ttlInMs : Long.MAX_VALUE;
+    return getSegment(key)
+        .put(version, key, new Entry<>(value, valueSize + ENTRY_OVERHEAD_IN_BYTES, expirationTimeInMs));
+  }
+
+  public long getByteSize() {
+    long byteSize = 0;
+    for (Segment<K, V> segment: segments) {
+      byteSize += segment.getByteSize();
+    }
+    return byteSize;
+  }
+
+  public int getEntryCount() {
+    int entryCount = 0;
+    for (Segment<K, V> segment: segments) {
+      entryCount += segment.getEntryCount();
+    }
+    return entryCount;
+  }
+
+  public void clear() {
+    for (Segment<K, V> segment: segments) {
+      segment.clear();
+    }
+  }
+
+  private Segment<K, V> getSegment(K key) {
+    int hash = key.hashCode();
+    // Spread the higher bits, as the hash codes of the keys often differ in their lower bits only
+    return segments[Math.floorMod(hash ^ (hash >>> 16), segments.length)];
+  }
+
+  private static class Entry<V> {
+    private final V value;
+    private final int byteSize;
+    private final long expirationTimeInMs;
+
+    private Entry(V value, int byteSize, long expirationTimeInMs) {
+      this.value = value;
+      this.byteSize = byteSize;
+      this.expirationTimeInMs = expirationTimeInMs;
+    }
+  }
+
+  private static class Segment<K, V> {
+    private final int maxEntryCount;
+    private final long maxByteSize;
+    // All the fields below are guarded by this
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private int version = UNKNOWN_VERSION;
+    private long byteSize = 0;
+
+    private Segment(int maxEntryCount, long maxByteSize) {
+      this.maxEntryCount = Math.max(1, maxEntryCount);
+      this.maxByteSize = maxByteSize;
+    }
+
+    private synchronized V get(int version, K key, long nowInMs) {
+      if (version != this.version) {
+        if (version > this.version) {
+          invalidate(version);
+        }
+        return null;
+      }
+      Entry<V> entry = entries.get(key);
+      if (entry == null) {
+        return null;
+      }
+      if (entry.expirationTimeInMs <= nowInMs) {
+        remove(key, entry);
+        return null;
+      }
+      return entry.value;
+    }
+
+    private synchronized int put(int version, K key, Entry<V> entry) {
+      int evictedEntryCount = 0;
+      if (version < this.version) {
+        return evictedEntryCount;
+      }
+      if (version > this.version) {
+        evictedEntryCount += invalidate(version);
+      }
+      if (entry.byteSize > maxByteSize) {
+        return evictedEntryCount;
+      }
+      Entry<V> previousEntry = entries.put(key, entry);
+      byteSize += entry.byteSize;
+      if (previousEntry != null) {
+        byteSize -= previousEntry.byteSize;
+      }
+      Iterator<Map.Entry<K, Entry<V>>> leastRecentlyUsedEntries = entries.entrySet().iterator();
+      while (entries.size() > maxEntryCount || byteSize > maxByteSize) {
+        Map.Entry<K, Entry<V>> evictedEntry = leastRecentlyUsedEntries.next();
+        leastRecentlyUsedEntries.remove();
+        byteSize -= evictedEntry.getValue().byteSize;
+        evictedEntryCount++;
+      }
+      return evictedEntryCount;
+    }
+
+    private int invalidate(int newVersion) {
+      int invalidatedEntryCount = entries.size();
+      entries.clear();
+      byteSize = 0;
+      version = newVersion;
+      return invalidatedEntryCount;
+    }
+
+    private void remove(K key, Entry<V> entry) {
+      entries.remove(key);
+      byteSize -= entry.byteSize;
+    }
+
+    private synchronized long getByteSize() {
+      return byteSize;
+    }
+
+    private synchronized int getEntryCount() {
+      return entries.size();
+    }
+
+    private synchronized void clear() {
+      entries.clear();
+      byteSize = 0;
+    }
+  }
+}
@@ -0,0 +1,180 @@
+package com.linkedin.venice.client.store;
+
+import com.linkedin.venice.client.exceptions.VeniceClientException;
+import com.linkedin.venice.client.store.streaming.StreamingCallback;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+
+/**
+ * This class coalesces the concurrent single gets of a store client into streaming batch gets, for applications which
+ * issue many single gets at once, e.g. one per candidate of a ranking fan-out, and would otherwise pay for a request,
+ * its headers and its scattering per key.
+ *
+ * The first single get of a batch opens a window of {@link #windowInMicros}, and the batch is sent as one streaming
+ * batch get when the window elapses, or right away once it holds {@link #maxKeyCount} distinct keys. The future of
+ * each single get is completed on its own, as soon as the record of its key is received:
+ * 1. The keys received with a null value don't exist, like for a single get.
+ * 2. The keys which are not received by the completion of the batch get, fail with the exception of the batch get, so
+ *    a partial failure only fails the keys it affects. They are considered missing if the batch get succeeded.
+ *
+ * The single gets go through this class at the bottom of the store client, so the decorators above it, e.g. the ones
+ * doing the long-tail retries and the stats, keep seeing them as single gets.
+ *
+ * Each store client has its own batcher, whose scheduler sends the batches once their window elapses, so a slow
+ * client doesn't hold back the batches of the other ones. The batcher must be closed along with its store client.
+ */
+public class SingleGetBatcher<K, V> implements Closeable {
+  private final long windowInMicros;
+  private final int maxKeyCount;
+  private final BiConsumer<Set<K>, StreamingCallback<K, V>> streamingBatchGetFunction;
+  private final ScheduledExecutorService scheduler;
+  // Whether the scheduler was created by this batcher, and so must be shut down with it
+  private final boolean ownsScheduler;
+
+  // Guarded by this
+  private Map<K, List<CompletableFuture<V>>> pendingBatch = null;
+  private boolean closed = false;
+
+  public SingleGetBatcher(
+      long windowInMicros,
+      int maxKeyCount,
+      BiConsumer<Set<K>, StreamingCallback<K, V>> streamingBatchGetFunction) {
+    this(
+        windowInMicros,
+        maxKeyCount,
+        streamingBatchGetFunction,
+        Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("Venice-Single-Get-Batching")),
+        true);
+  }
+
+  /**
+   * @param scheduler is not shut down by {@link #close()}, since it's owned by the caller
+   */
+  public SingleGetBatcher(
+      long windowInMicros,
+      int maxKeyCount,
+      BiConsumer<Set<K>, StreamingCallback<K, V>> streamingBatchGetFunction,
+      ScheduledExecutorService scheduler) {
+    this(windowInMicros, maxKeyCount, streamingBatchGetFunction, scheduler, false);
+  }
+
+  private SingleGetBatcher(
+      long windowInMicros,
+      int maxKeyCount,
+      BiConsumer<Set<K>, StreamingCallback<K, V>> streamingBatchGetFunction,
+      ScheduledExecutorService scheduler,
+      boolean ownsScheduler) {
+    if (windowInMicros <= 0) {
+      throw new IllegalArgumentException("Param windowInMicros should be positive: " + windowInMicros);
+    }
+    if (maxKeyCount <= 0) {
+      throw new IllegalArgumentException("Param maxKeyCount should be positive: " + maxKeyCount);
+    }
+    this.windowInMicros = windowInMicros;
+    this.maxKeyCount = maxKeyCount;
+    this.streamingBatchGetFunction = streamingBatchGetFunction;
+    this.scheduler = scheduler;
+    this.ownsScheduler = ownsScheduler;
+  }
+
+  public CompletableFuture<V> get(K key) {
+    CompletableFuture<V> valueFuture = new CompletableFuture<>();
+    Map<K, List<CompletableFuture<V>>> fullBatch = null;
+    synchronized (this) {
+      if (closed) {
+        valueFuture.completeExceptionally(new VeniceClientException("The single get batcher is closed"));
+        return valueFuture;
+      }
+      if (pendingBatch == null) {
+        Map<K, List<CompletableFuture<V>>> newBatch = new HashMap<>();
+        pendingBatch = newBatch;
+        scheduler.schedule(() -> sendWhenPending(newBatch), windowInMicros, TimeUnit.MICROSECONDS);
+      }
+      pendingBatch.computeIfAbsent(key, k -> new ArrayList<>(1)).add(valueFuture);
+      if (pendingBatch.size() >= maxKeyCount) {
+        fullBatch = pendingBatch;
+        pendingBatch = null;
+      }
+    }
+    if (fullBatch != null) {
+      send(fullBatch);
+    }
+    return valueFuture;
+  }
+
+  private void sendWhenPending(Map<K, List<CompletableFuture<V>>> batch) {
+    synchronized (this) {
+      if (pendingBatch != batch) {
+        // Already sent since it got full
+        return;
+      }
+      pendingBatch = null;
+    }
+    send(batch);
+  }
+
+  private void send(Map<K, List<CompletableFuture<V>>> batch) {
+    try {
+      streamingBatchGetFunction.accept(batch.keySet(), new StreamingCallback<K, V>() {
+        @Override
+        public void onRecordReceived(K key, V value) {
+          List<CompletableFuture<V>> valueFutures = batch.get(key);
+          if (valueFutures != null) {
+            valueFutures.forEach(valueFuture -> valueFuture.complete(value));
+          }
+        }
+
+        @Override
+        public void onCompletion(Optional<Exception> exception) {
+          completeRemaining(batch, exception.orElse(null));
+        }
+      });
+    } catch (Exception e) {
+      completeRemaining(batch, e);
+    }
+  }
+
+  /**
+   * Fails the single gets of the batch which is still pending, and shuts down the scheduler if it's owned by this
+   * batcher.
+   */
+  @Override
+  public void close() {
+    Map<K, List<CompletableFuture<V>>> batch;
+    synchronized (this) {
+      closed = true;
+      batch = pendingBatch;
+      pendingBatch = null;
+    }
+    if (batch != null) {
+      completeRemaining(batch, new VeniceClientException("The single get batcher is closed"));
+    }
+    if (ownsScheduler) {
+      scheduler.shutdownNow();
+    }
+  }
+
+  private void completeRemaining(Map<K, List<CompletableFuture<V>>> batch, Exception exception) {
+    for (List<CompletableFuture<V>> valueFutures: batch.values()) {
+      for (CompletableFuture<V> valueFuture: valueFutures) {
+        if (exception == null) {
+          valueFuture.complete(null);
+        } else {
+          valueFuture.completeExceptionally(exception);
+        }
+      }
+    }
+  }
+}
@@ -1,21 +1,15 @@
 package com.linkedin.venice.client.store.predicate;
 
 import com.linkedin.venice.annotation.Experimental;
-import com.linkedin.venice.client.exceptions.VeniceClientException;
-import java.util.Objects;
-import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericRecord;
 
 
 public class EqualsRelationalOperator implements Predicate {
-  private final String fieldName;
+  private final FieldPath fieldPath;
   private final Object expectedValue;
 
   EqualsRelationalOperator(String fieldName, Object expectedValue) {
-    if (fieldName == null) {
-      throw new VeniceClientException("fieldName cannot be null.");
-    }
-    this.fieldName = fieldName;
+    this.fieldPath = new FieldPath(fieldName);
     this.expectedValue = expectedValue;
   }
 
@@ -24,17 +18,21 @@ public class EqualsRelationalOperator implements Predicate {
     if (dataRecord == null) {
       return false;
     } else {
-      Schema.Field field = dataRecord.getSchema().getField(fieldName);
-      if (field == null) {
-        return this.expectedValue == null;
-      }
-      return Objects.deepEquals(dataRecord.get(field.pos()), expectedValue);
+      return PredicateUtils.valueEquals(fieldPath.getValue(dataRecord), expectedValue);
     }
   }
 
   @Experimental
   public String getFieldName() {
-    return fieldName;
+    return fieldPath.getPath();
+  }
+
+  /**
+   * @return true if the field name is a path to a field of a nested record, rather than a top-level field
+   */
+  @Experimental
+  public boolean isNestedField() {
+    return fieldPath.isNested();
   }
 
   @Experimental
@@ -0,0 +1,82 @@
+package com.linkedin.venice.client.store.predicate;
+
+import com.linkedin.venice.client.exceptions.VeniceClientException;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+
+
+/**
+ * A dot-separated path to a (potentially nested) field of a {@link GenericRecord}, e.g. "address.zipCode".
+ *
+ * The position of the top-level field is resolved once per schema and cached, since the predicates are typically
+ * evaluated against many records sharing the same schema, e.g. all the keys of a partition.
+ */
+final class FieldPath {
+  private final String path;
+  private final String[] fieldNames;
+  private volatile ResolvedPosition resolvedPosition;
+
+  FieldPath(String path) {
+    if (path == null) {
+      throw new VeniceClientException("fieldName cannot be null.");
+    }
+    this.path = path;
+    this.fieldNames = path.split("\\.", -1);
+    for (String fieldName: fieldNames) {
+      if (fieldName.isEmpty()) {
+        throw new VeniceClientException("Invalid field path: " + path);
+      }
+    }
+  }
+
+  String getPath() {
+    return path;
+  }
+
+  boolean isNested() {
+    return fieldNames.length > 1;
+  }
+
+  /**
+   * @return the value of the field, or null if the field or any of its enclosing records is null or does not exist
+   */
+  Object getValue(GenericRecord record) {
+    int position = getTopLevelPosition(record.getSchema());
+    if (position < 0) {
+      return null;
+    }
+    Object current = record.get(position);
+    for (int i = 1; i < fieldNames.length; i++) {
+      if (!(current instanceof GenericRecord)) {
+        return null;
+      }
+      GenericRecord currentRecord = (GenericRecord) current;
+      Schema.Field field = currentRecord.getSchema().getField(fieldNames[i]);
+      if (field == null) {
+        return null;
+      }
+      current = currentRecord.get(field.pos());
+    }
+    return current;
+  }
+
+  private int getTopLevelPosition(Schema schema) {
+    ResolvedPosition resolved = resolvedPosition;
+    if (resolved == null || resolved.schema != schema) {
+      Schema.Field field = schema.getField(fieldNames[0]);
+      resolved = new ResolvedPosition(schema, field == null ? -1 : field.pos());
+      resolvedPosition = resolved;
+    }
+    return resolved.position;
+  }
+
+  private static class ResolvedPosition {
+    private final Schema schema;
+    private final int position;
+
+    private ResolvedPosition(Schema schema, int position) {
+      this.schema = schema;
+      this.position = position;
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package com.linkedin.venice.client.store.predicate;
+
+import com.linkedin.venice.annotation.Experimental;
+import com.linkedin.venice.client.exceptions.VeniceClientException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import org.apache.avro.generic.GenericRecord;
+
+
+/**
+ * Matches the records whose field is equal to any of the expected values. The lookup is a hash set lookup, so this
+ * should be preferred to an {@link OrPredicate} of many {@link EqualsRelationalOperator}.
+ */
+public class InRelationalOperator implements Predicate {
+  private final FieldPath fieldPath;
+  private final Set<Object> expectedValues;
+
+  InRelationalOperator(String fieldName, Collection<?> expectedValues) {
+    if (expectedValues == null) {
+      throw new VeniceClientException("expectedValues cannot be null.");
+    }
+    this.fieldPath = new FieldPath(fieldName);
+    Set<Object> values = new HashSet<>(expectedValues.size());
+    for (Object expectedValue: expectedValues) {
+      values.add(PredicateUtils.normalize(expectedValue));
+    }
+    this.expectedValues = Collections.unmodifiableSet(values);
+  }
+
+  @Override
+  public boolean evaluate(GenericRecord dataRecord) {
+    if (dataRecord == null) {
+      return false;
+    }
+    return expectedValues.contains(PredicateUtils.normalize(fieldPath.getValue(dataRecord)));
+  }
+
+  @Experimental
+  public String getFieldName() {
+    return fieldPath.getPath();
+  }
+
+  @Experimental
+  public Set<Object> getExpectedValues() {
+    return expectedValues;
+  }
+}
@@ -0,0 +1,27 @@
+package com.linkedin.venice.client.store.predicate;
+
+import com.linkedin.venice.annotation.Experimental;
+import org.apache.avro.generic.GenericRecord;
+
+
+/**
+ * Matches the records whose field is null. A field which does not exist, or whose enclosing record is null, is
+ * considered null as well.
+ */
+public class IsNullRelationalOperator implements Predicate {
+  private final FieldPath fieldPath;
+
+  IsNullRelationalOperator(String fieldName) {
+    this.fieldPath = new FieldPath(fieldName);
+  }
+
+  @Override
+  public boolean evaluate(GenericRecord dataRecord) {
+    return dataRecord != null && fieldPath.getValue(dataRecord) == null;
+  }
+
+  @Experimental
+  public String getFieldName() {
+    return fieldPath.getPath();
+  }
+}
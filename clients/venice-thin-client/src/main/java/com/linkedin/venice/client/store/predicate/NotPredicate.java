@@ -0,0 +1,25 @@
+package com.linkedin.venice.client.store.predicate;
+
+import com.linkedin.venice.client.exceptions.VeniceClientException;
+import org.apache.avro.generic.GenericRecord;
+
+
+public class NotPredicate implements Predicate {
+  private final Predicate predicate;
+
+  NotPredicate(Predicate predicate) {
+    if (predicate == null) {
+      throw new VeniceClientException("predicate cannot be null.");
+    }
+    this.predicate = predicate;
+  }
+
+  @Override
+  public boolean evaluate(GenericRecord genericRecord) {
+    return genericRecord != null && !predicate.evaluate(genericRecord);
+  }
+
+  public Predicate getChildPredicate() {
+    return predicate;
+  }
+}
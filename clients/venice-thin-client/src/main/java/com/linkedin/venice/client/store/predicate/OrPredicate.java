@@ -0,0 +1,29 @@
+package com.linkedin.venice.client.store.predicate;
+
+import java.util.Arrays;
+import java.util.List;
+import org.apache.avro.generic.GenericRecord;
+
+
+public class OrPredicate implements Predicate {
+  private final Predicate[] predicates;
+
+  OrPredicate(Predicate... predicates) {
+    this.predicates = predicates;
+  }
+
+  @Override
+  public boolean evaluate(GenericRecord genericRecord) {
+    for (Predicate predicate: predicates) {
+      if (predicate.evaluate(genericRecord)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  public List<Predicate> getChildPredicates() {
+    return Arrays.asList(predicates);
+  }
+}
@@ -1,16 +1,74 @@
 package com.linkedin.venice.client.store.predicate;
 
 import com.linkedin.venice.annotation.Experimental;
+import java.util.Arrays;
+import java.util.Collection;
 
 
+/**
+ * Builds the predicates used to filter records, e.g. by {@link com.linkedin.venice.client.store.ComputeRequestBuilder#executeWithFilter}.
+ *
+ * The field names can be dot-separated paths to fields of nested records, e.g. "address.zipCode". A field which does
+ * not exist, or whose enclosing record is null, is considered null.
+ */
 public class PredicateBuilder {
   @Experimental
   public static Predicate and(Predicate... predicates) {
     return new AndPredicate(predicates);
   }
 
+  @Experimental
+  public static Predicate or(Predicate... predicates) {
+    return new OrPredicate(predicates);
+  }
+
+  @Experimental
+  public static Predicate not(Predicate predicate) {
+    return new NotPredicate(predicate);
+  }
+
   @Experimental
   public static Predicate equalTo(String fieldName, Object expectedValue) {
     return new EqualsRelationalOperator(fieldName, expectedValue);
   }
+
+  @Experimental
+  public static Predicate lessThan(String fieldName, Object bound) {
+    return new RangeRelationalOperator(fieldName, RangeRelationalOperator.Comparison.LESS_THAN, bound);
+  }
+
+  @Experimental
+  public static Predicate lessThanOrEqualTo(String fieldName, Object bound) {
+    return new RangeRelationalOperator(fieldName, RangeRelationalOperator.Comparison.LESS_THAN_OR_EQUAL_TO, bound);
+  }
+
+  @Experimental
+  public static Predicate greaterThan(String fieldName, Object bound) {
+    return new RangeRelationalOperator(fieldName, RangeRelationalOperator.Comparison.GREATER_THAN, bound);
+  }
+
+  @Experimental
+  public static Predicate greaterThanOrEqualTo(String fieldName, Object bound) {
+    return new RangeRelationalOperator(fieldName, RangeRelationalOperator.Comparison.GREATER_THAN_OR_EQUAL_TO, bound);
+  }
+
+  @Experimental
+  public static Predicate in(String fieldName, Collection<?> expectedValues) {
+    return new InRelationalOperator(fieldName, expectedValues);
+  }
+
+  @Experimental
+  public static Predicate in(String fieldName, Object... expectedValues) {
+    return new InRelationalOperator(fieldName, Arrays.asList(expectedValues));
+  }
+
+  @Experimental
+  public static Predicate isNull(String fieldName) {
+    return new IsNullRelationalOperator(fieldName);
+  }
+
+  @Experimental
+  public static Predicate isNotNull(String fieldName) {
+    return new NotPredicate(new IsNullRelationalOperator(fieldName));
+  }
 }
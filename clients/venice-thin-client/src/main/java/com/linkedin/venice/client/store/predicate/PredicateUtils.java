@@ -0,0 +1,52 @@
+package com.linkedin.venice.client.store.predicate;
+
+import java.util.Objects;
+
+
+final class PredicateUtils {
+  private PredicateUtils() {
+  }
+
+  /**
+   * Deserialized Avro strings are {@link org.apache.avro.util.Utf8} while the user specified values are typically
+   * {@link String}, so all the {@link CharSequence} are compared by their content.
+   */
+  static Object normalize(Object value) {
+    return value instanceof CharSequence ? value.toString() : value;
+  }
+
+  static boolean valueEquals(Object actualValue, Object expectedValue) {
+    return Objects.deepEquals(normalize(actualValue), normalize(expectedValue));
+  }
+
+  /**
+   * @return the result of comparing the two values, or null if they are not comparable, e.g. if either is null
+   */
+  static Integer compare(Object actualValue, Object expectedValue) {
+    if (actualValue == null || expectedValue == null) {
+      return null;
+    }
+    if (actualValue instanceof Number && expectedValue instanceof Number) {
+      if (isIntegral(actualValue) && isIntegral(expectedValue)) {
+        return Long.compare(((Number) actualValue).longValue(), ((Number) expectedValue).longValue());
+      }
+      double actual = ((Number) actualValue).doubleValue();
+      double expected = ((Number) expectedValue).doubleValue();
+      if (Double.isNaN(actual) || Double.isNaN(expected)) {
+        return null;
+      }
+      return Double.compare(actual, expected);
+    }
+    if (actualValue instanceof CharSequence && expectedValue instanceof CharSequence) {
+      return actualValue.toString().compareTo(expectedValue.toString());
+    }
+    if (actualValue instanceof Comparable && actualValue.getClass() == expectedValue.getClass()) {
+      return ((Comparable) actualValue).compareTo(expectedValue);
+    }
+    return null;
+  }
+
+  private static boolean isIntegral(Object value) {
+    return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+  }
+}
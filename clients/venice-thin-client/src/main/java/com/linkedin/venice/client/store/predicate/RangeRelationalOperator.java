@@ -0,0 +1,67 @@
+package com.linkedin.venice.client.store.predicate;
+
+import com.linkedin.venice.annotation.Experimental;
+import com.linkedin.venice.client.exceptions.VeniceClientException;
+import org.apache.avro.generic.GenericRecord;
+
+
+/**
+ * Compares a numeric or string field with a bound. Null fields, and values which cannot be compared with the bound,
+ * never match.
+ */
+public class RangeRelationalOperator implements Predicate {
+  public enum Comparison {
+    LESS_THAN, LESS_THAN_OR_EQUAL_TO, GREATER_THAN, GREATER_THAN_OR_EQUAL_TO
+  }
+
+  private final FieldPath fieldPath;
+  private final Comparison comparison;
+  private final Object bound;
+
+  RangeRelationalOperator(String fieldName, Comparison comparison, Object bound) {
+    if (bound == null) {
+      throw new VeniceClientException("bound cannot be null.");
+    }
+    this.fieldPath = new FieldPath(fieldName);
+    this.comparison = comparison;
+    this.bound = bound;
+  }
+
+  @Override
+  public boolean evaluate(GenericRecord dataRecord) {
+    if (dataRecord == null) {
+      return false;
+    }
+    Integer result = PredicateUtils.compare(fieldPath.getValue(dataRecord), bound);
+    if (result == null) {
+      return false;
+    }
+    switch (comparison) {
+      case LESS_THAN:
+        return result < 0;
+      case LESS_THAN_OR_EQUAL_TO:
+        return result <= 0;
+      case GREATER_THAN:
+        return result > 0;
+      case GREATER_THAN_OR_EQUAL_TO:
+        return result >= 0;
+      default:
+        throw new VeniceClientException("Unknown comparison: " + comparison);
+    }
+  }
+
+  @Experimental
+  public String getFieldName() {
+    return fieldPath.getPath();
+  }
+
+  @Experimental
+  public Comparison getComparison() {
+    return comparison;
+  }
+
+  @Experimental
+  public Object getBound() {
+    return bound;
+  }
+}
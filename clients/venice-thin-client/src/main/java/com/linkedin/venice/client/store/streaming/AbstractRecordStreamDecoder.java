@@ -115,6 +115,9 @@ public abstract class AbstractRecordStreamDecoder<ENVELOPE, K, V> implements Rec
       Map<K, V> resultMap = new HashMap<>();
       for (ENVELOPE record: availableRecords) {
         final int keyIdx = getKeyIndex(record);
+        if (keyIdx != KEY_ID_FOR_STREAMING_FOOTER && handleSpecialRecord(keyIdx, record)) {
+          continue;
+        }
         validateKeyIdx(keyIdx);
         if (KEY_ID_FOR_STREAMING_FOOTER == keyIdx) {
           // Deserialize footer record
@@ -229,6 +232,16 @@ public abstract class AbstractRecordStreamDecoder<ENVELOPE, K, V> implements Rec
         });
   }
 
+  /**
+   * Hook for the records whose key index doesn't map to any key and isn't the footer record, such as the partial
+   * aggregation results of a compute request.
+   *
+   * @return true if the record has been handled, false if it should be processed as a regular record
+   */
+  protected boolean handleSpecialRecord(int keyIdx, ENVELOPE envelope) {
+    return false;
+  }
+
   protected abstract ReadEnvelopeChunkedDeserializer<ENVELOPE> getEnvelopeDeserializer(int schemaId);
 
   protected abstract StreamingFooterRecordV1 getStreamingFooterRecord(ENVELOPE envelope);
@@ -3,6 +3,7 @@ package com.linkedin.venice.client.store.streaming;
 import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compute.protocol.response.ComputeAggregationResponseV1;
 import com.linkedin.venice.read.protocol.response.streaming.StreamingFooterRecordV1;
 import com.linkedin.venice.serializer.RecordDeserializer;
 import java.nio.ByteBuffer;
@@ -26,6 +27,11 @@ public class ClientComputeRecordStreamDecoder<K, V> implements RecordStreamDecod
     public abstract void onRawRecordReceived(K key, V value);
 
     public abstract void onRemoteComputeStateChange(boolean enabled);
+
+    /** Called for the partial aggregation results of a partition, which are only returned by remote compute */
+    public void onPartialAggregationReceived(ComputeAggregationResponseV1 partialResponse) {
+      throw new VeniceClientException("Received partial aggregation results for a request without aggregations");
+    }
   }
 
   private final Function<Map<String, String>, RecordStreamDecoder> decoderProvider;
@@ -66,7 +72,8 @@ public class ClientComputeRecordStreamDecoder<K, V> implements RecordStreamDecod
             callback,
             deserializationExecutor,
             streamingFooterRecordDeserializer,
-            computeDeserializerProvider.get());
+            computeDeserializerProvider.get(),
+            callback::onPartialAggregationReceived);
       }
     };
   }
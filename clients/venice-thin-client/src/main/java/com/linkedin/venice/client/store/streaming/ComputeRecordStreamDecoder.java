@@ -1,18 +1,24 @@
 package com.linkedin.venice.client.store.streaming;
 
+import static com.linkedin.venice.streaming.StreamingConstants.KEY_ID_FOR_COMPUTE_AGGREGATION;
+
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compute.ComputeUtils;
+import com.linkedin.venice.compute.protocol.response.ComputeAggregationResponseV1;
 import com.linkedin.venice.compute.protocol.response.ComputeResponseRecordV1;
 import com.linkedin.venice.read.protocol.response.streaming.StreamingFooterRecordV1;
 import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
 import com.linkedin.venice.serializer.RecordDeserializer;
 import java.util.List;
 import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 
 public class ComputeRecordStreamDecoder<K, V> extends AbstractRecordStreamDecoder<ComputeResponseRecordV1, K, V> {
   private final RecordDeserializer<StreamingFooterRecordV1> streamingFooterDeserializer;
   private final RecordDeserializer<V> valueDeserializer;
+  private final Consumer<ComputeAggregationResponseV1> partialAggregationConsumer;
 
   public ComputeRecordStreamDecoder(
       List<K> keyList,
@@ -20,9 +26,36 @@ public class ComputeRecordStreamDecoder<K, V> extends AbstractRecordStreamDecode
       Executor deserializationExecutor,
       RecordDeserializer<StreamingFooterRecordV1> streamingFooterDeserializer,
       RecordDeserializer<V> valueDeserializer) {
+    this(keyList, callback, deserializationExecutor, streamingFooterDeserializer, valueDeserializer, null);
+  }
+
+  /**
+   * @param partialAggregationConsumer receives the partial aggregation results of the request, which are only
+   *                                   returned if the request specifies aggregations, so it can be null otherwise
+   */
+  public ComputeRecordStreamDecoder(
+      List<K> keyList,
+      TrackingStreamingCallback<K, V> callback,
+      Executor deserializationExecutor,
+      RecordDeserializer<StreamingFooterRecordV1> streamingFooterDeserializer,
+      RecordDeserializer<V> valueDeserializer,
+      Consumer<ComputeAggregationResponseV1> partialAggregationConsumer) {
     super(keyList, callback, deserializationExecutor);
     this.streamingFooterDeserializer = streamingFooterDeserializer;
     this.valueDeserializer = valueDeserializer;
+    this.partialAggregationConsumer = partialAggregationConsumer;
+  }
+
+  @Override
+  protected boolean handleSpecialRecord(int keyIdx, ComputeResponseRecordV1 envelope) {
+    if (keyIdx != KEY_ID_FOR_COMPUTE_AGGREGATION) {
+      return false;
+    }
+    if (partialAggregationConsumer == null) {
+      throw new VeniceClientException("Received partial aggregation results for a request without aggregations");
+    }
+    partialAggregationConsumer.accept(ComputeUtils.deserializeComputeAggregationResponse(envelope.value));
+    return true;
   }
 
   @Override
@@ -399,11 +399,17 @@ public class D2TransportClient extends TransportClient {
         compressionStrategy = CompressionStrategy.valueOf(Integer.parseInt(compressionHeader));
       }
 
+      int storeVersion = TransportClientResponse.UNKNOWN_STORE_VERSION;
+      String storeVersionHeader = result.getHeader(HttpConstants.VENICE_STORE_VERSION);
+      if (storeVersionHeader != null) {
+        storeVersion = Integer.parseInt(storeVersionHeader);
+      }
+
       /**
        * TODO: consider to pass back {@link java.io.InputStream} instead of making a copy of response bytes
        */
       byte[] body = result.getEntity().copyBytes();
-      completeFuture(statusCode, schemaId, compressionStrategy, body);
+      completeFuture(statusCode, schemaId, compressionStrategy, body, storeVersion);
     }
   }
 
@@ -135,6 +135,9 @@ public class HttpTransportClient extends TransportClient {
           responseHeaderMap.put(
               HttpConstants.VENICE_COMPRESSION_STRATEGY,
               Integer.toString(response.getCompressionStrategy().getValue()));
+          if (response.getStoreVersion() != TransportClientResponse.UNKNOWN_STORE_VERSION) {
+            responseHeaderMap.put(HttpConstants.VENICE_STORE_VERSION, Integer.toString(response.getStoreVersion()));
+          }
           callback.onHeaderReceived(responseHeaderMap);
 
           callback.onDataReceived(ByteBuffer.wrap(response.getBody()));
@@ -221,8 +224,14 @@ public class HttpTransportClient extends TransportClient {
         compressionStrategy = CompressionStrategy.valueOf(Integer.parseInt(compressionHeader.getValue()));
       }
 
+      int storeVersion = TransportClientResponse.UNKNOWN_STORE_VERSION;
+      Header storeVersionHeader = result.getFirstHeader(HttpConstants.VENICE_STORE_VERSION);
+      if (storeVersionHeader != null) {
+        storeVersion = Integer.parseInt(storeVersionHeader.getValue());
+      }
+
       byte[] body = result.getBody() != null ? result.getBody().getBodyBytes() : null;
-      completeFuture(statusCode, schemaId, compressionStrategy, body);
+      completeFuture(statusCode, schemaId, compressionStrategy, body, storeVersion);
     }
   }
 
@@ -23,8 +23,17 @@ public class TransportClientCallback {
   }
 
   public void completeFuture(int statusCode, int schemaId, CompressionStrategy compressionStrategy, byte[] body) {
+    completeFuture(statusCode, schemaId, compressionStrategy, body, TransportClientResponse.UNKNOWN_STORE_VERSION);
+  }
+
+  public void completeFuture(
+      int statusCode,
+      int schemaId,
+      CompressionStrategy compressionStrategy,
+      byte[] body,
+      int storeVersion) {
     if ((statusCode < 300 && statusCode >= 200)) {
-      valueFuture.complete(new TransportClientResponse(schemaId, compressionStrategy, body));
+      valueFuture.complete(new TransportClientResponse(schemaId, compressionStrategy, body, storeVersion));
     } else if (statusCode == HttpStatus.SC_NOT_FOUND) {
       valueFuture.complete(null);
     } else {
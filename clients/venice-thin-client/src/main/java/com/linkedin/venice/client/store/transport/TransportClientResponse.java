@@ -9,14 +9,22 @@ import java.util.Arrays;
  * This class is used to capture the result returned by {@link TransportClient}
  */
 public class TransportClientResponse {
+  public static final int UNKNOWN_STORE_VERSION = -1;
+
   private int schemaId;
   private CompressionStrategy compressionStrategy;
   private byte[] body;
+  private int storeVersion;
 
   public TransportClientResponse(int schemaId, CompressionStrategy compressionStrategy, byte[] body) {
+    this(schemaId, compressionStrategy, body, UNKNOWN_STORE_VERSION);
+  }
+
+  public TransportClientResponse(int schemaId, CompressionStrategy compressionStrategy, byte[] body, int storeVersion) {
     this.schemaId = schemaId;
     this.compressionStrategy = compressionStrategy;
     this.body = body;
+    this.storeVersion = storeVersion;
   }
 
   public int getSchemaId() {
@@ -31,6 +39,14 @@ public class TransportClientResponse {
     return this.body;
   }
 
+  /**
+   * @return the version of the store which served the response, or {@link #UNKNOWN_STORE_VERSION} if the backend
+   *         didn't tell
+   */
+  public int getStoreVersion() {
+    return this.storeVersion;
+  }
+
   public boolean isSchemaIdValid() {
     return schemaId != SchemaData.INVALID_VALUE_SCHEMA_ID;
   }
@@ -46,7 +62,7 @@ public class TransportClientResponse {
 
     TransportClientResponse that = (TransportClientResponse) o;
     return schemaId == that.schemaId && compressionStrategy == that.compressionStrategy
-        && Arrays.equals(body, that.body);
+        && Arrays.equals(body, that.body) && storeVersion == that.storeVersion;
   }
 
   @Override
@@ -54,6 +70,7 @@ public class TransportClientResponse {
     int result = schemaId;
     result = 31 * result + compressionStrategy.getValue();
     result = 31 * result + Arrays.hashCode(body);
+    result = 31 * result + storeVersion;
     return result;
   }
 }
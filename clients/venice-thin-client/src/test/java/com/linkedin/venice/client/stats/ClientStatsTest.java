@@ -0,0 +1,31 @@
+package com.linkedin.venice.client.stats;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.venice.client.store.ClientConfig;
+import com.linkedin.venice.read.RequestType;
+import io.tehuti.metrics.MetricsRepository;
+import org.testng.annotations.Test;
+
+
+public class ClientStatsTest {
+  @Test
+  public void testNearCacheMetricsOnlyRegisteredWhenEnabled() {
+    String storeName = "test_store";
+    MetricsRepository metricsRepository1 = new MetricsRepository();
+    ClientConfig config1 = new ClientConfig(storeName);
+    ClientStats.getClientStats(metricsRepository1, storeName, RequestType.SINGLE_GET, config1);
+    assertTrue(metricsRepository1.metrics().size() > 0);
+    assertFalse(metricsRepository1.metrics().keySet().stream().anyMatch(name -> name.contains("near_cache_")));
+
+    MetricsRepository metricsRepository2 = new MetricsRepository();
+    ClientConfig config2 = new ClientConfig(storeName).setNearCacheMaxEntryCount(100);
+    ClientStats stats = ClientStats.getClientStats(metricsRepository2, storeName, RequestType.SINGLE_GET, config2);
+    stats.recordNearCacheLookup(1, 2);
+    stats.recordNearCacheEviction(1);
+    stats.recordNearCacheSize(1024, 10);
+    assertTrue(metricsRepository2.metrics().containsKey("." + storeName + "--near_cache_hit_ratio.SimpleRatioStat"));
+    assertTrue(metricsRepository2.metrics().containsKey("." + storeName + "--near_cache_entry_count.Max"));
+  }
+}
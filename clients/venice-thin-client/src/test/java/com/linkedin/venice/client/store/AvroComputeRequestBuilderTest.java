@@ -1,17 +1,26 @@
 package com.linkedin.venice.client.store;
 
+import static com.linkedin.venice.VeniceConstants.COMPUTE_REQUEST_VERSION_V5;
 import static com.linkedin.venice.VeniceConstants.VENICE_COMPUTATION_ERROR_MAP_FIELD_NAME;
 import static com.linkedin.venice.client.store.predicate.PredicateBuilder.and;
 import static com.linkedin.venice.client.store.predicate.PredicateBuilder.equalTo;
+import static com.linkedin.venice.client.store.predicate.PredicateBuilder.greaterThan;
+import static com.linkedin.venice.client.store.predicate.PredicateBuilder.in;
+import static com.linkedin.venice.client.store.predicate.PredicateBuilder.lessThan;
+import static com.linkedin.venice.client.store.predicate.PredicateBuilder.not;
+import static com.linkedin.venice.client.store.predicate.PredicateBuilder.or;
 import static com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType.COSINE_SIMILARITY;
 import static com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType.DOT_PRODUCT;
 import static com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType.HADAMARD_PRODUCT;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.client.store.predicate.Predicate;
+import com.linkedin.venice.client.store.predicate.PredicateBuilder;
 import com.linkedin.venice.client.store.streaming.StreamingCallback;
 import com.linkedin.venice.compute.ComputeRequestWrapper;
 import com.linkedin.venice.compute.protocol.request.ComputeOperation;
@@ -25,10 +34,13 @@ import com.linkedin.venice.utils.Utils;
 import io.tehuti.utils.Time;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
@@ -229,6 +241,85 @@ public class AvroComputeRequestBuilderTest {
     Assert.assertEquals(hadamardProduct.hadamardProductParam, expectedHadamardProductParam);
   }
 
+  @Test
+  public void testComputeRequestBuilderWithReduction() {
+    AbstractAvroStoreClient mockClient = getMockClient();
+    ArgumentCaptor<ComputeRequestWrapper> computeRequestCaptor = ArgumentCaptor.forClass(ComputeRequestWrapper.class);
+    ArgumentCaptor<StreamingCallback> callbackCaptor = ArgumentCaptor.forClass(StreamingCallback.class);
+
+    AvroComputeRequestBuilderV3<String> computeRequestBuilder =
+        new AvroComputeRequestBuilderV3<>(mockClient, VALID_RECORD_SCHEMA);
+    CompletableFuture<ComputeReductionResult<String>> resultFuture = computeRequestBuilder.project("int_field")
+        .dotProduct("float_array_field1", dotProductParam, "score")
+        .topK("score", 1)
+        .sum("int_field", "int_field_sum")
+        .histogram("score", Arrays.asList(0.0, 10.0), "score_histogram")
+        .executeWithReduction(keys);
+    verify(mockClient).compute(
+        computeRequestCaptor.capture(),
+        Mockito.eq(keys),
+        Mockito.any(Schema.class),
+        callbackCaptor.capture(),
+        Mockito.anyLong());
+    ComputeRequestWrapper capturedComputeRequest = computeRequestCaptor.getValue();
+    Assert.assertTrue(capturedComputeRequest.hasReduction());
+    Assert.assertEquals(capturedComputeRequest.getComputeRequestVersion(), COMPUTE_REQUEST_VERSION_V5);
+
+    // Results computed on the client side are reduced by the callback
+    Schema resultSchema = new Schema.Parser().parse(capturedComputeRequest.getResultSchemaStr().toString());
+    StreamingCallback<String, ComputeGenericRecord> callback = callbackCaptor.getValue();
+    for (int i = 0; i < 3; i++) {
+      GenericRecord result = new GenericData.Record(resultSchema);
+      result.put("int_field", i);
+      result.put("score", (float) i * 10);
+      result.put(VENICE_COMPUTATION_ERROR_MAP_FIELD_NAME, new HashMap<>());
+      callback.onRecordReceived("key_" + i, new ComputeGenericRecord(result, VALID_RECORD_SCHEMA));
+    }
+    callback.onRecordReceived("missing_key", null);
+    callback.onCompletion(Optional.empty());
+
+    ComputeReductionResult<String> reductionResult = resultFuture.join();
+    Assert.assertEquals(reductionResult.getTopKRecords().keySet(), Collections.singleton("key_2"));
+    Assert.assertEquals(reductionResult.getSum("int_field_sum"), 3.0, 0.0);
+    Assert.assertEquals(reductionResult.getCount("int_field_sum"), 3);
+    Assert.assertEquals(reductionResult.getHistogram("score_histogram"), Arrays.asList(0L, 1L, 2L));
+    Assert.assertThrows(VeniceClientException.class, () -> reductionResult.getMin("int_field_sum"));
+    Assert.assertThrows(VeniceClientException.class, () -> reductionResult.getSum("unknown"));
+  }
+
+  @Test
+  public void testReductionValidation() {
+    AbstractAvroStoreClient mockClient = getMockClient();
+    VeniceClientException e = Assert.expectThrows(
+        VeniceClientException.class,
+        () -> new AvroComputeRequestBuilderV3<String>(mockClient, VALID_RECORD_SCHEMA).project("int_field")
+            .sum("int_field", "int_field_sum")
+            .execute(keys));
+    Assert.assertEquals(e.getMessage(), "Top-K and aggregations are only supported by executeWithReduction");
+
+    e = Assert.expectThrows(
+        VeniceClientException.class,
+        () -> new AvroComputeRequestBuilderV3<String>(mockClient, VALID_RECORD_SCHEMA).project("int_field")
+            .executeWithReduction(keys));
+    Assert.assertEquals(e.getMessage(), "Top-K or at least one aggregation is required by executeWithReduction");
+
+    // The aggregated field must be part of the compute result
+    e = Assert.expectThrows(
+        VeniceClientException.class,
+        () -> new AvroComputeRequestBuilderV3<String>(mockClient, VALID_RECORD_SCHEMA).project("int_field")
+            .max("float_field", "float_field_max")
+            .executeWithReduction(keys));
+    Assert.assertTrue(e.getMessage().contains("float_field"));
+
+    // The score field must be numeric
+    e = Assert.expectThrows(
+        VeniceClientException.class,
+        () -> new AvroComputeRequestBuilderV3<String>(mockClient, VALID_RECORD_SCHEMA).project("record_field")
+            .topK("record_field", 10)
+            .executeWithReduction(keys));
+    Assert.assertTrue(e.getMessage().contains("isn't numeric"));
+  }
+
   @Test(expectedExceptions = VeniceClientException.class, expectedExceptionsMessageRegExp = "Only value schema with 'RECORD' type is supported")
   public void testComputeAgainstNonRecordSchema() {
     AbstractAvroStoreClient mockClient = getMockClient();
@@ -431,30 +522,76 @@ public class AvroComputeRequestBuilderTest {
     Assert.assertEquals(streamingCallbackCaptor.getValue(), callback);
   }
 
-  @Test(expectedExceptions = VeniceException.class, expectedExceptionsMessageRegExp = "The specified key fields must be leading fields in the key schema")
+  @Test
   public void testFilterExtractPrefixBytesNonPrefixFields() {
     AbstractAvroStoreClient mockClient = getMockClient();
     doReturn(KEY_SCHEMA).when(mockClient).getKeySchema();
+    ArgumentCaptor<byte[]> prefixByteCaptor = ArgumentCaptor.forClass(byte[].class);
+    ArgumentCaptor<Predicate> keyFilterCaptor = ArgumentCaptor.forClass(Predicate.class);
 
     AvroComputeRequestBuilderV4<GenericRecord> computeRequestBuilder =
         new AvroComputeRequestBuilderV4(mockClient, VALID_RECORD_SCHEMA);
 
+    // "companyId" has no equality, so the equality on "int_field" cannot be part of the prefix
     Predicate requiredKeyFields = and(equalTo("int_field", 1234), equalTo("id", "1234"));
+    computeRequestBuilder.project("int_field").executeWithFilter(requiredKeyFields, new DummyStreamingCallback());
 
-    computeRequestBuilder
-        .project(VALID_RECORD_SCHEMA.getFields().stream().map(Schema.Field::name).collect(Collectors.toList()))
-        .executeWithFilter(requiredKeyFields, new StreamingCallback<GenericRecord, GenericRecord>() {
-          @Override
-          public void onRecordReceived(GenericRecord key, GenericRecord value) {
-          }
+    verify(mockClient).computeWithKeyPrefixFilter(
+        prefixByteCaptor.capture(),
+        keyFilterCaptor.capture(),
+        any(ComputeRequestWrapper.class),
+        any(StreamingCallback.class));
 
-          @Override
-          public void onCompletion(Optional<Exception> exception) {
-          }
-        });
+    Schema prefixSchema = new Schema.Parser().parse(
+        "{\"type\": \"record\", \"name\": \"KeyRecord\", \"fields\": [{\"name\": \"id\", \"type\": \"string\"}]}");
+    GenericData.Record expectedPrefix = new GenericData.Record(prefixSchema);
+    expectedPrefix.put("id", "1234");
+    byte[] expectedPrefixBytes =
+        SerializerDeserializerFactory.getAvroGenericSerializer(prefixSchema).serialize(expectedPrefix);
+    Assert.assertTrue(Arrays.equals(prefixByteCaptor.getValue(), expectedPrefixBytes));
+
+    GenericRecord key = new GenericData.Record(KEY_SCHEMA);
+    key.put("id", "1234");
+    key.put("companyId", "5678");
+    key.put("int_field", 1234);
+    Predicate keyFilter = keyFilterCaptor.getValue();
+    Assert.assertTrue(keyFilter.evaluate(key));
+    key.put("int_field", 1235);
+    Assert.assertFalse(keyFilter.evaluate(key));
   }
 
-  @Test(expectedExceptions = VeniceException.class, expectedExceptionsMessageRegExp = "The specified key fields must be leading fields in the key schema")
+  @Test
+  public void testFilterWithEqualityOnNonLeadingKeyFieldOnly() {
+    AbstractAvroStoreClient mockClient = getMockClient();
+    doReturn(KEY_SCHEMA).when(mockClient).getKeySchema();
+    ArgumentCaptor<Predicate> keyFilterCaptor = ArgumentCaptor.forClass(Predicate.class);
+
+    AvroComputeRequestBuilderV4<GenericRecord> computeRequestBuilder =
+        new AvroComputeRequestBuilderV4(mockClient, VALID_RECORD_SCHEMA);
+    computeRequestBuilder.project("int_field")
+        .executeWithFilter(and(equalTo("companyId", "5678"), lessThan("id", "5")), new DummyStreamingCallback());
+
+    // Without any equality on the leading key field, all the keys are scanned with both predicates
+    verify(mockClient).computeWithKeyPrefixFilter(
+        isNull(),
+        keyFilterCaptor.capture(),
+        any(ComputeRequestWrapper.class),
+        any(StreamingCallback.class));
+
+    GenericRecord key = new GenericData.Record(KEY_SCHEMA);
+    key.put("id", "1234");
+    key.put("companyId", "5678");
+    key.put("int_field", 1);
+    Predicate keyFilter = keyFilterCaptor.getValue();
+    Assert.assertTrue(keyFilter.evaluate(key));
+    key.put("companyId", "1234");
+    Assert.assertFalse(keyFilter.evaluate(key));
+    key.put("companyId", "5678");
+    key.put("id", "6789");
+    Assert.assertFalse(keyFilter.evaluate(key));
+  }
+
+  @Test(expectedExceptions = VeniceException.class, expectedExceptionsMessageRegExp = "Key field \"fake_field.\" does not exist in the key schema")
   public void testFilterExtractPrefixBytesNonExistentFields() {
     AbstractAvroStoreClient mockClient = getMockClient();
     doReturn(KEY_SCHEMA).when(mockClient).getKeySchema();
@@ -477,6 +614,102 @@ public class AvroComputeRequestBuilderTest {
         });
   }
 
+  @Test
+  public void testFilterWithNonExistentFieldsInResidualPredicates() {
+    AbstractAvroStoreClient mockClient = getMockClient();
+    doReturn(KEY_SCHEMA).when(mockClient).getKeySchema();
+
+    AvroComputeRequestBuilderV4<GenericRecord> computeRequestBuilder =
+        new AvroComputeRequestBuilderV4(mockClient, VALID_RECORD_SCHEMA);
+    computeRequestBuilder.project("int_field");
+    List<Predicate> predicates = Arrays.asList(
+        and(equalTo("id", "1234"), greaterThan("fake_field", 10)),
+        in("fake_field", "1", "2"),
+        not(equalTo("fake_field", "1")),
+        PredicateBuilder.isNull("fake_field"),
+        or(equalTo("int_field", 5), PredicateBuilder.isNotNull("fake_field")),
+        // A nested path into a field which is not a record does not exist either
+        equalTo("companyId.fake_field", "1"));
+    for (Predicate predicate: predicates) {
+      VeniceException e = Assert.expectThrows(
+          VeniceException.class,
+          () -> computeRequestBuilder.executeWithFilter(predicate, new DummyStreamingCallback()));
+      Assert.assertTrue(e.getMessage().contains("does not exist in the key schema"), e.getMessage());
+    }
+    verify(mockClient, Mockito.never()).computeWithKeyPrefixFilter(
+        any(),
+        any(Predicate.class),
+        any(ComputeRequestWrapper.class),
+        any(StreamingCallback.class));
+  }
+
+  @Test
+  public void testFilterWithResidualKeyPredicate() {
+    AbstractAvroStoreClient mockClient = getMockClient();
+    doReturn(KEY_SCHEMA).when(mockClient).getKeySchema();
+    ArgumentCaptor<byte[]> prefixByteCaptor = ArgumentCaptor.forClass(byte[].class);
+    ArgumentCaptor<Predicate> keyFilterCaptor = ArgumentCaptor.forClass(Predicate.class);
+
+    AvroComputeRequestBuilderV4<GenericRecord> computeRequestBuilder =
+        new AvroComputeRequestBuilderV4(mockClient, VALID_RECORD_SCHEMA);
+    Predicate rangePredicate = greaterThan("int_field", 10);
+    Predicate orPredicate = or(in("companyId", "1", "2"), equalTo("int_field", 5));
+    computeRequestBuilder.project("int_field")
+        .executeWithFilter(and(equalTo("id", "1234"), rangePredicate, orPredicate), new DummyStreamingCallback());
+
+    verify(mockClient).computeWithKeyPrefixFilter(
+        prefixByteCaptor.capture(),
+        keyFilterCaptor.capture(),
+        any(ComputeRequestWrapper.class),
+        any(StreamingCallback.class));
+
+    Schema prefixSchema = new Schema.Parser().parse(
+        "{\"type\": \"record\", \"name\": \"KeyRecord\", \"fields\": [{\"name\": \"id\", \"type\": \"string\"}]}");
+    GenericData.Record expectedPrefix = new GenericData.Record(prefixSchema);
+    expectedPrefix.put("id", "1234");
+    byte[] expectedPrefixBytes =
+        SerializerDeserializerFactory.getAvroGenericSerializer(prefixSchema).serialize(expectedPrefix);
+    Assert.assertTrue(Arrays.equals(prefixByteCaptor.getValue(), expectedPrefixBytes));
+
+    // The prefix fields are not evaluated again, only the residual predicates are
+    GenericRecord key = new GenericData.Record(KEY_SCHEMA);
+    key.put("id", "5678");
+    key.put("companyId", "2");
+    key.put("int_field", 11);
+    Predicate keyFilter = keyFilterCaptor.getValue();
+    Assert.assertTrue(keyFilter.evaluate(key));
+    key.put("int_field", 10);
+    Assert.assertFalse(keyFilter.evaluate(key));
+  }
+
+  @Test
+  public void testFilterWithoutKeyPrefix() {
+    AbstractAvroStoreClient mockClient = getMockClient();
+    doReturn(KEY_SCHEMA).when(mockClient).getKeySchema();
+    Predicate keyFilter = greaterThan("int_field", 10);
+
+    AvroComputeRequestBuilderV4<GenericRecord> computeRequestBuilder =
+        new AvroComputeRequestBuilderV4(mockClient, VALID_RECORD_SCHEMA);
+    computeRequestBuilder.project("int_field").executeWithFilter(keyFilter, new DummyStreamingCallback());
+
+    // Without any equality condition, all the keys are scanned
+    verify(mockClient).computeWithKeyPrefixFilter(
+        isNull(),
+        Mockito.eq(keyFilter),
+        any(ComputeRequestWrapper.class),
+        any(StreamingCallback.class));
+  }
+
+  private static class DummyStreamingCallback implements StreamingCallback<GenericRecord, GenericRecord> {
+    @Override
+    public void onRecordReceived(GenericRecord key, GenericRecord value) {
+    }
+
+    @Override
+    public void onCompletion(Optional<Exception> exception) {
+    }
+  }
+
   private AbstractAvroStoreClient getMockClient() {
     AbstractAvroStoreClient mockClient = mock(AbstractAvroStoreClient.class);
     String storeName = Utils.getUniqueString("store_for_mock_client");
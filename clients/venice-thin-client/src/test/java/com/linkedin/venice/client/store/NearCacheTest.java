@@ -0,0 +1,123 @@
+package com.linkedin.venice.client.store;
+
+import com.linkedin.venice.utils.TestMockTime;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class NearCacheTest {
+  @Test
+  public void testGetAndPut() {
+    NearCache<String, String> cache = new NearCache<>(100, 1024 * 1024, 0, new TestMockTime());
+    Assert.assertNull(cache.get(1, "key1"));
+    Assert.assertNull(cache.get("key1"));
+
+    Assert.assertEquals(cache.put(1, "key1", "value1", 10), 0);
+    Assert.assertEquals(cache.get(1, "key1"), "value1");
+    Assert.assertEquals(cache.get("key1"), "value1");
+    Assert.assertEquals(cache.getEntryCount(), 1);
+    Assert.assertTrue(cache.getByteSize() > 10);
+
+    cache.put(1, "key1", "value2", 10);
+    Assert.assertEquals(cache.get(1, "key1"), "value2");
+    Assert.assertEquals(cache.getEntryCount(), 1);
+
+    cache.clear();
+    Assert.assertNull(cache.get(1, "key1"));
+    Assert.assertEquals(cache.getByteSize(), 0);
+  }
+
+  @Test
+  public void testUnknownVersionIsIgnored() {
+    NearCache<String, String> cache = new NearCache<>(100, 1024 * 1024, 0, new TestMockTime());
+    cache.put(NearCache.UNKNOWN_VERSION, "key1", "value1", 10);
+    Assert.assertNull(cache.get("key1"));
+    Assert.assertEquals(cache.getEntryCount(), 0);
+
+    cache.put(1, "key1", null, 10);
+    Assert.assertEquals(cache.getEntryCount(), 0);
+  }
+
+  @Test
+  public void testVersionSwapInvalidatesCache() {
+    // Single segment, to make the eviction count deterministic
+    NearCache<String, String> cache = new NearCache<>(1, 1024 * 1024, 0, new TestMockTime());
+    cache.put(1, "key1", "value1", 10);
+    Assert.assertEquals(cache.get(1, "key1"), "value1");
+
+    // A read of the new version invalidates the values of the old one
+    Assert.assertNull(cache.get(2, "key1"));
+    Assert.assertNull(cache.get(1, "key1"));
+
+    cache.put(2, "key1", "value2", 10);
+    Assert.assertEquals(cache.put(3, "key1", "value3", 10), 1);
+    Assert.assertEquals(cache.get("key1"), "value3");
+    Assert.assertEquals(cache.getEntryCount(), 1);
+  }
+
+  @Test
+  public void testOlderVersionIsIgnored() {
+    NearCache<String, String> cache = new NearCache<>(1, 1024 * 1024, 0, new TestMockTime());
+    cache.put(2, "key1", "value2", 10);
+
+    // The reads and writes of an older version neither invalidate the cache nor move its latest version backwards
+    Assert.assertNull(cache.get(1, "key1"));
+    Assert.assertEquals(cache.put(1, "key2", "value1", 10), 0);
+    Assert.assertNull(cache.get(1, "key2"));
+    Assert.assertNull(cache.get(2, "key2"));
+    Assert.assertEquals(cache.get("key1"), "value2");
+    Assert.assertEquals(cache.get(2, "key1"), "value2");
+    Assert.assertEquals(cache.getEntryCount(), 1);
+  }
+
+  @Test
+  public void testEntryCountBound() {
+    NearCache<Integer, String> cache = new NearCache<>(16, 1024 * 1024, 0, new TestMockTime());
+    int evictedEntryCount = 0;
+    for (int i = 0; i < 1000; i++) {
+      evictedEntryCount += cache.put(1, i, "value" + i, 10);
+    }
+    Assert.assertTrue(cache.getEntryCount() <= 16);
+    Assert.assertEquals(evictedEntryCount, 1000 - cache.getEntryCount());
+    Assert.assertEquals(cache.get(1, 999), "value999");
+  }
+
+  @Test
+  public void testByteSizeBound() {
+    // 16 segments of 10 entries and 1000 bytes each, the keys below all belong to the same segment
+    NearCache<Integer, String> cache = new NearCache<>(160, 16000, 0, new TestMockTime());
+    cache.put(1, 16, "value16", 100);
+    cache.put(1, 32, "value32", 100);
+
+    // The least recently used entry is evicted first
+    cache.get(1, 16);
+    Assert.assertEquals(cache.put(1, 48, "value48", 700), 1);
+    Assert.assertEquals(cache.get(1, 16), "value16");
+    Assert.assertNull(cache.get(1, 32));
+    Assert.assertEquals(cache.get(1, 48), "value48");
+    Assert.assertTrue(cache.getByteSize() <= 1000);
+
+    // A value larger than its segment is not cached
+    Assert.assertEquals(cache.put(1, 64, "value64", 2000), 0);
+    Assert.assertNull(cache.get(1, 64));
+    Assert.assertEquals(cache.getEntryCount(), 2);
+  }
+
+  @Test
+  public void testTtl() {
+    TestMockTime time = new TestMockTime();
+    NearCache<String, String> cache = new NearCache<>(100, 1024 * 1024, 1000, time);
+    cache.put(1, "key1", "value1", 10);
+    time.addMilliseconds(999);
+    Assert.assertEquals(cache.get(1, "key1"), "value1");
+    time.addMilliseconds(1);
+    Assert.assertNull(cache.get(1, "key1"));
+    Assert.assertEquals(cache.getEntryCount(), 0);
+    Assert.assertEquals(cache.getByteSize(), 0);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testInvalidMaxEntryCount() {
+    new NearCache<String, String>(0, 1024, 0, new TestMockTime());
+  }
+}
@@ -0,0 +1,172 @@
+package com.linkedin.venice.client.store;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.venice.client.exceptions.VeniceClientException;
+import com.linkedin.venice.client.store.streaming.StreamingCallback;
+import com.linkedin.venice.utils.TestUtils;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.mockito.ArgumentCaptor;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class SingleGetBatcherTest {
+  private static class RecordingBatchGetFunction {
+    final List<Set<String>> keySets = new ArrayList<>();
+    final List<StreamingCallback<String, String>> callbacks = new ArrayList<>();
+
+    void streamingBatchGet(Set<String> keys, StreamingCallback<String, String> callback) {
+      keySets.add(new HashSet<>(keys));
+      callbacks.add(callback);
+    }
+  }
+
+  @Test
+  public void testFullBatchIsSentRightAway() throws Exception {
+    RecordingBatchGetFunction function = new RecordingBatchGetFunction();
+    ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+    SingleGetBatcher<String, String> batcher = new SingleGetBatcher<>(1000, 2, function::streamingBatchGet, scheduler);
+
+    CompletableFuture<String> future1 = batcher.get("key1");
+    Assert.assertTrue(function.keySets.isEmpty());
+    CompletableFuture<String> future2 = batcher.get("key2");
+    Assert.assertEquals(function.keySets.size(), 1);
+    Assert.assertEquals(function.keySets.get(0).size(), 2);
+
+    StreamingCallback<String, String> callback = function.callbacks.get(0);
+    callback.onRecordReceived("key2", "value2");
+    Assert.assertFalse(future1.isDone());
+    Assert.assertEquals(future2.get(), "value2");
+    callback.onRecordReceived("key1", "value1");
+    callback.onCompletion(Optional.empty());
+    Assert.assertEquals(future1.get(), "value1");
+  }
+
+  @Test
+  public void testBatchIsSentWhenWindowElapses() throws Exception {
+    RecordingBatchGetFunction function = new RecordingBatchGetFunction();
+    ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+    SingleGetBatcher<String, String> batcher = new SingleGetBatcher<>(1000, 10, function::streamingBatchGet, scheduler);
+
+    CompletableFuture<String> future1 = batcher.get("key1");
+    CompletableFuture<String> future2 = batcher.get("key1");
+    ArgumentCaptor<Runnable> flushCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(scheduler).schedule(flushCaptor.capture(), anyLong(), any(TimeUnit.class));
+    Assert.assertTrue(function.keySets.isEmpty());
+
+    flushCaptor.getValue().run();
+    Assert.assertEquals(function.keySets.size(), 1);
+    Assert.assertEquals(function.keySets.get(0).size(), 1);
+    function.callbacks.get(0).onRecordReceived("key1", "value1");
+    Assert.assertEquals(future1.get(), "value1");
+    Assert.assertEquals(future2.get(), "value1");
+  }
+
+  @Test
+  public void testFlushOfSentBatchIsIgnored() {
+    RecordingBatchGetFunction function = new RecordingBatchGetFunction();
+    ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+    SingleGetBatcher<String, String> batcher = new SingleGetBatcher<>(1000, 1, function::streamingBatchGet, scheduler);
+
+    batcher.get("key1");
+    ArgumentCaptor<Runnable> flushCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(scheduler).schedule(flushCaptor.capture(), anyLong(), any(TimeUnit.class));
+    Assert.assertEquals(function.keySets.size(), 1);
+
+    flushCaptor.getValue().run();
+    Assert.assertEquals(function.keySets.size(), 1);
+  }
+
+  @Test
+  public void testMissingAndFailedKeys() throws Exception {
+    RecordingBatchGetFunction function = new RecordingBatchGetFunction();
+    ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+    SingleGetBatcher<String, String> batcher = new SingleGetBatcher<>(1000, 3, function::streamingBatchGet, scheduler);
+
+    CompletableFuture<String> future1 = batcher.get("key1");
+    CompletableFuture<String> future2 = batcher.get("key2");
+    CompletableFuture<String> future3 = batcher.get("key3");
+    StreamingCallback<String, String> callback = function.callbacks.get(0);
+    callback.onRecordReceived("key1", "value1");
+    callback.onRecordReceived("key2", null);
+    callback.onCompletion(Optional.of(new VeniceClientException("Partial failure")));
+
+    Assert.assertEquals(future1.get(), "value1");
+    Assert.assertNull(future2.get());
+    try {
+      future3.get();
+      Assert.fail("ExecutionException is expected");
+    } catch (ExecutionException e) {
+      Assert.assertTrue(e.getCause() instanceof VeniceClientException);
+    }
+  }
+
+  @Test
+  public void testKeysAreMissingWhenBatchGetSucceeds() throws Exception {
+    RecordingBatchGetFunction function = new RecordingBatchGetFunction();
+    ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+    SingleGetBatcher<String, String> batcher = new SingleGetBatcher<>(1000, 1, function::streamingBatchGet, scheduler);
+
+    CompletableFuture<String> future = batcher.get("key1");
+    function.callbacks.get(0).onCompletion(Optional.empty());
+    Assert.assertNull(future.get());
+  }
+
+  @Test
+  public void testBatchGetThrowing() {
+    ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+    SingleGetBatcher<String, String> batcher = new SingleGetBatcher<>(1000, 1, (keys, callback) -> {
+      throw new VeniceClientException("Failed to send");
+    }, scheduler);
+
+    CompletableFuture<String> future = batcher.get("key1");
+    Assert.assertTrue(future.isCompletedExceptionally());
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testInvalidWindow() {
+    new SingleGetBatcher<String, String>(0, 1, (keys, callback) -> {}, mock(ScheduledExecutorService.class));
+  }
+
+  @Test
+  public void testCloseFailsPendingBatch() {
+    RecordingBatchGetFunction function = new RecordingBatchGetFunction();
+    ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+    SingleGetBatcher<String, String> batcher = new SingleGetBatcher<>(1000, 10, function::streamingBatchGet, scheduler);
+
+    CompletableFuture<String> future = batcher.get("key1");
+    batcher.close();
+    Assert.assertTrue(future.isCompletedExceptionally());
+    Assert.assertTrue(batcher.get("key2").isCompletedExceptionally());
+    Assert.assertTrue(function.keySets.isEmpty());
+    // The scheduler is owned by the caller
+    verify(scheduler, never()).shutdownNow();
+  }
+
+  @Test
+  public void testOwnSchedulerIsShutDownOnClose() throws Exception {
+    RecordingBatchGetFunction function = new RecordingBatchGetFunction();
+    SingleGetBatcher<String, String> batcher = new SingleGetBatcher<>(1000, 10, function::streamingBatchGet);
+    CompletableFuture<String> future = batcher.get("key1");
+    TestUtils
+        .waitForNonDeterministicAssertion(5, TimeUnit.SECONDS, () -> Assert.assertEquals(function.keySets.size(), 1));
+    function.callbacks.get(0).onRecordReceived("key1", "value1");
+    Assert.assertEquals(future.get(), "value1");
+
+    batcher.close();
+    Assert.assertTrue(batcher.get("key1").isCompletedExceptionally());
+  }
+}
@@ -2,11 +2,22 @@ package com.linkedin.venice.client.store.predicate;
 
 import static com.linkedin.venice.client.store.predicate.PredicateBuilder.and;
 import static com.linkedin.venice.client.store.predicate.PredicateBuilder.equalTo;
+import static com.linkedin.venice.client.store.predicate.PredicateBuilder.greaterThan;
+import static com.linkedin.venice.client.store.predicate.PredicateBuilder.greaterThanOrEqualTo;
+import static com.linkedin.venice.client.store.predicate.PredicateBuilder.in;
+import static com.linkedin.venice.client.store.predicate.PredicateBuilder.isNotNull;
+import static com.linkedin.venice.client.store.predicate.PredicateBuilder.isNull;
+import static com.linkedin.venice.client.store.predicate.PredicateBuilder.lessThan;
+import static com.linkedin.venice.client.store.predicate.PredicateBuilder.lessThanOrEqualTo;
+import static com.linkedin.venice.client.store.predicate.PredicateBuilder.not;
+import static com.linkedin.venice.client.store.predicate.PredicateBuilder.or;
 
 import com.linkedin.venice.client.exceptions.VeniceClientException;
+import java.util.Arrays;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.util.Utf8;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -239,4 +250,89 @@ public class PredicateTest {
   public void testPredicateCreationWithNullFieldName() {
     Assert.assertThrows(VeniceClientException.class, () -> and(equalTo(null, null)));
   }
+
+  @Test
+  public void testRangePredicates() {
+    GenericRecord keyRecord = new GenericData.Record(KEY_SCHEMA);
+    keyRecord.put("stringField", new Utf8(STRING_FIELD_VALUE));
+    keyRecord.put("intField", INT_FIELD_VALUE);
+
+    Assert.assertTrue(lessThan("intField", INT_FIELD_VALUE + 1).evaluate(keyRecord));
+    Assert.assertFalse(lessThan("intField", INT_FIELD_VALUE).evaluate(keyRecord));
+    Assert.assertTrue(lessThanOrEqualTo("intField", INT_FIELD_VALUE).evaluate(keyRecord));
+    Assert.assertTrue(greaterThan("intField", 100L).evaluate(keyRecord));
+    Assert.assertTrue(greaterThanOrEqualTo("intField", (double) INT_FIELD_VALUE).evaluate(keyRecord));
+    Assert.assertFalse(greaterThan("intField", INT_FIELD_VALUE + 0.5).evaluate(keyRecord));
+    // Strings are compared by content, regardless of their implementation
+    Assert.assertTrue(greaterThan("stringField", "hello").evaluate(keyRecord));
+    Assert.assertTrue(lessThan("stringField", "i").evaluate(keyRecord));
+    // Null and incomparable values never match
+    Assert.assertFalse(lessThan("intField", "abc").evaluate(keyRecord));
+    Assert.assertFalse(lessThan("nonExistentField", 1).evaluate(keyRecord));
+    Assert.assertFalse(not(lessThan("nonExistentField", 1)).evaluate(null));
+    Assert.assertThrows(VeniceClientException.class, () -> lessThan("intField", null));
+  }
+
+  @Test
+  public void testInPredicate() {
+    GenericRecord keyRecord = new GenericData.Record(KEY_SCHEMA);
+    keyRecord.put("stringField", new Utf8(STRING_FIELD_VALUE));
+    keyRecord.put("intField", INT_FIELD_VALUE);
+
+    Assert.assertTrue(in("stringField", "foo", STRING_FIELD_VALUE).evaluate(keyRecord));
+    Assert.assertTrue(in("intField", Arrays.asList(1, INT_FIELD_VALUE)).evaluate(keyRecord));
+    Assert.assertFalse(in("intField", 1, 2, 3).evaluate(keyRecord));
+    Assert.assertFalse(in("intField").evaluate(keyRecord));
+    Assert.assertTrue(in("nonExistentField", (Object) null).evaluate(keyRecord));
+  }
+
+  @Test
+  public void testLogicalPredicates() {
+    GenericRecord keyRecord = new GenericData.Record(KEY_SCHEMA);
+    keyRecord.put("stringField", STRING_FIELD_VALUE);
+    keyRecord.put("intField", INT_FIELD_VALUE);
+
+    Assert.assertTrue(or(equalTo("intField", 1), equalTo("stringField", STRING_FIELD_VALUE)).evaluate(keyRecord));
+    Assert.assertFalse(or(equalTo("intField", 1), equalTo("stringField", "foo")).evaluate(keyRecord));
+    Assert.assertFalse(or().evaluate(keyRecord));
+    Assert.assertTrue(not(equalTo("intField", 1)).evaluate(keyRecord));
+    Assert.assertFalse(not(equalTo("intField", INT_FIELD_VALUE)).evaluate(keyRecord));
+    Assert.assertTrue(
+        and(not(in("intField", 1, 2)), or(lessThan("intField", 0), greaterThan("intField", 0))).evaluate(keyRecord));
+    Assert.assertThrows(VeniceClientException.class, () -> not(null));
+  }
+
+  @Test
+  public void testNestedFieldPredicates() {
+    String nestedRecordSchemaString = "{\"type\": \"record\", \"name\": \"Address\", \"fields\": ["
+        + "{\"name\": \"zipCode\", \"type\": \"int\"}, {\"name\": \"city\", \"type\": [\"null\", \"string\"]}]}";
+    Schema keySchema = new Schema.Parser().parse(
+        "{\"type\": \"record\", \"name\": \"KeyWithNestedRecord\", \"fields\": ["
+            + "{\"name\": \"id\", \"type\": \"string\"}, {\"name\": \"address\", \"type\": [\"null\", "
+            + nestedRecordSchemaString + "]}]}");
+    Schema addressSchema = keySchema.getField("address").schema().getTypes().get(1);
+
+    GenericRecord address = new GenericData.Record(addressSchema);
+    address.put("zipCode", 94043);
+    address.put("city", null);
+    GenericRecord keyRecord = new GenericData.Record(keySchema);
+    keyRecord.put("id", "id");
+    keyRecord.put("address", address);
+
+    Assert.assertTrue(equalTo("address.zipCode", 94043).evaluate(keyRecord));
+    Assert.assertTrue(greaterThan("address.zipCode", 90000).evaluate(keyRecord));
+    Assert.assertTrue(isNull("address.city").evaluate(keyRecord));
+    Assert.assertTrue(isNotNull("address.zipCode").evaluate(keyRecord));
+    Assert.assertTrue(isNull("address.nonExistentField").evaluate(keyRecord));
+
+    // A null enclosing record makes all its fields null
+    keyRecord.put("address", null);
+    Assert.assertTrue(isNull("address").evaluate(keyRecord));
+    Assert.assertTrue(isNull("address.zipCode").evaluate(keyRecord));
+    Assert.assertFalse(greaterThan("address.zipCode", 90000).evaluate(keyRecord));
+    Assert.assertFalse(isNull("address.zipCode").evaluate(null));
+
+    Assert.assertThrows(VeniceClientException.class, () -> isNull("address..zipCode"));
+    Assert.assertThrows(VeniceClientException.class, () -> isNull(null));
+  }
 }
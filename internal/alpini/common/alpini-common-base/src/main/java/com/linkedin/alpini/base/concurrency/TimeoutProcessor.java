@@ -12,11 +12,13 @@ import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
@@ -29,6 +31,9 @@ import org.apache.logging.log4j.Logger;
  * designed to handle schedulable tasks where cancellation is rare. However, for the purposes of handling
  * timeouts, we would prefer cancellation to be the common case and the tasks should be rarely run.
  *
+ * The events are either kept in a {@link NavigableMap} guarded by locks, or in a hierarchical hashed timing wheel (see
+ * {@link #withTimingWheel}) where scheduling is lock-free and cancellation is O(1).
+ *
  * @author Antony T Curtis &lt;acurtis@linkedin.com&gt;
  *
  * @see ScheduledExecutorService
@@ -39,6 +44,18 @@ public class TimeoutProcessor implements Executor {
 
   private static final long TICKING_INTERVAL_MILLISECONDS = 1000;
 
+  /** Duration of one tick of the timing wheel, which matches the granularity of {@link #absoluteTime} */
+  private static final long WHEEL_TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  /** Each level of the timing wheel has 2^WHEEL_BITS slots */
+  private static final int WHEEL_BITS = 8;
+  private static final int WHEEL_SLOTS = 1 << WHEEL_BITS;
+  private static final int WHEEL_MASK = WHEEL_SLOTS - 1;
+
+  /** 4 levels of 256 slots cover 2^32 ticks, which is about 49 days */
+  private static final int WHEEL_LEVELS = 4;
+  private static final long WHEEL_MAX_DELTA = (1L << (WHEEL_BITS * WHEEL_LEVELS)) - 1;
+
   /** No operation Runnable */
   private static final Runnable NOP = () -> {
     // Does nothing;
@@ -69,6 +86,10 @@ public class TimeoutProcessor implements Executor {
   // EventStore entity
   private final NavigableMap<Long, TimeoutEvent> _eventsMap;
 
+  // Replaces the EventStore entity when using the timing wheel
+  private final TimingWheel _timingWheel;
+
+  // Null when using the timing wheel
   private final EventStore _eventStore;
 
   // lock to guard eventsMap
@@ -333,14 +354,34 @@ public class TimeoutProcessor implements Executor {
     this(registry, TICKING_INTERVAL_MILLISECONDS);
   }
 
+  /**
+   * For internal unit test only
+   * @param eventStore the {@link EventStore} to keep the events in, or null to keep them in a {@link TimingWheel}, in
+   *                   which case the {@param tickingInterval} does not apply either.
+   */
   TimeoutProcessor(ResourceRegistry registry, long tickingInterval, EventStore eventStore, int executorThreadCount) {
     _registry = registry == null ? (registry = new ResourceRegistry()) : null; // SUPPRESS CHECKSTYLE InnerAssignment
     _executor = registry.factory(ShutdownableExecutors.class)
         .newScheduledThreadPool(executorThreadCount, new NamedThreadFactory("timeout-processor"));
 
-    _eventStore = Objects.requireNonNull(eventStore);
-    _eventsMap = _eventStore.buildCorrespondentMap();
-    _executor.scheduleAtFixedRate(_tick, 0, tickingInterval, TimeUnit.MILLISECONDS);
+    _eventStore = eventStore;
+    if (eventStore == null) {
+      // The wheel ticks on demand, only while it has pending timeouts
+      _eventsMap = null;
+      _timingWheel = new TimingWheel();
+    } else {
+      _eventsMap = _eventStore.buildCorrespondentMap();
+      _timingWheel = null;
+      _executor.scheduleAtFixedRate(_tick, 0, tickingInterval, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * Creates a {@link TimeoutProcessor} keeping the events in a lock-free hierarchical hashed timing wheel, where
+   * scheduling does not contend on any lock and cancellation is O(1), instead of a {@link NavigableMap}.
+   */
+  public static TimeoutProcessor withTimingWheel(ResourceRegistry registry, int executorThreadCount) {
+    return new TimeoutProcessor(registry, TICKING_INTERVAL_MILLISECONDS, null, executorThreadCount);
   }
 
   /**
@@ -371,7 +412,15 @@ public class TimeoutProcessor implements Executor {
 
   @Override
   public String toString() {
-    return _eventStore.name();
+    return _timingWheel != null ? "TimingWheel" : _eventStore.name();
+  }
+
+  /**
+   * For internal unit test only
+   * @return whether the timing wheel is ticking, which it only does while it has pending timeouts.
+   */
+  boolean isTimingWheelTicking() {
+    return _timingWheel != null && _timingWheel._ticking.get();
   }
 
   private void scheduleFirstNodeInEvents() {
@@ -402,6 +451,9 @@ public class TimeoutProcessor implements Executor {
    */
   public TimeoutFuture schedule(Runnable task, long delay, TimeUnit unit) {
     Long time = absoluteTime(delay, unit);
+    if (_timingWheel != null) {
+      return _timingWheel.schedule(task, time);
+    }
     return _eventStore.schedule(
         task,
         new TimeoutEvent(time),
@@ -592,6 +644,210 @@ public class TimeoutProcessor implements Executor {
     }
   }
 
+  /**
+   * Hierarchical hashed timing wheel of {@link #WHEEL_LEVELS} levels of {@link #WHEEL_SLOTS} slots each, where a slot
+   * of level L spans 256^L ticks. A timeout is kept in the lowest level whose range covers its deadline, and is moved
+   * down to the lower levels as the wheel turns, until it expires from the level 0.
+   *
+   * The slots are only ever accessed by the thread advancing the wheel, so they need no lock: {@link #schedule} and
+   * {@link WheelTimeout#cancel()} only append to lock-free queues which are drained on every tick. A cancelled timeout
+   * is unlinked from its slot in O(1) by the next tick, and the task of a cancelled timeout is never run.
+   *
+   * The wheel only ticks every millisecond while it has pending timeouts: the first scheduled timeout starts the
+   * ticking, and the tick which finds the wheel empty stops it, so an idle wheel costs no wake up at all. At most one
+   * tick is scheduled at any time, which is what makes the thread advancing the wheel unique.
+   */
+  private final class TimingWheel implements Runnable {
+    private final long _startNanos = Time.nanoTime();
+    private final ConcurrentLinkedQueue<WheelTimeout> _pending = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<WheelTimeout> _cancelled = new ConcurrentLinkedQueue<>();
+    private final DoublyLinkedList<WheelTimeout>[][] _slots;
+
+    /** Whether a tick is scheduled or running */
+    private final AtomicBoolean _ticking = new AtomicBoolean();
+
+    /** Empty list swapped with a slot which is being drained, so that the slot may be refilled while draining */
+    private DoublyLinkedList<WheelTimeout> _spare = new DoublyLinkedList<>();
+
+    /** The next tick to expire */
+    private long _currentTick;
+
+    /** Number of timeouts in the slots */
+    private int _size;
+
+    @SuppressWarnings("unchecked")
+    private TimingWheel() {
+      _slots = new DoublyLinkedList[WHEEL_LEVELS][WHEEL_SLOTS];
+      for (DoublyLinkedList<WheelTimeout>[] level: _slots) {
+        for (int i = 0; i < WHEEL_SLOTS; i++) {
+          level[i] = new DoublyLinkedList<>();
+        }
+      }
+    }
+
+    private TimeoutFuture schedule(Runnable task, long time) {
+      TimeoutFuture future = new TimeoutFuture();
+      // Rounds up, so that a timeout never fires before its deadline
+      long tick = (time - _startNanos + WHEEL_TICK_NANOS - 1) / WHEEL_TICK_NANOS;
+      _pending.add(new WheelTimeout(future, RunOnce.make(task), tick));
+      if (!_ticking.get() && _ticking.compareAndSet(false, true)) {
+        scheduleTick();
+      }
+      return future;
+    }
+
+    private void scheduleTick() {
+      _executor.schedule(this, WHEEL_TICK_NANOS, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * The task which advances the wheel on every tick, and schedules the next tick unless the wheel is empty.
+     */
+    @Override
+    public void run() {
+      try {
+        advance();
+      } catch (RejectedExecutionException e) {
+        // nothing to log here since the executor is shutting down
+        LOG.debug("RejectedExecutionException: {}", e.getMessage());
+      } catch (Throwable t) {
+        LOG.warn("Caught a throwable. But next tick would continue.", t);
+      }
+      try {
+        if (_size > 0 || !_pending.isEmpty()) {
+          scheduleTick();
+          return;
+        }
+        _ticking.set(false);
+        // A timeout may have been scheduled while the ticking was still on, in which case nobody else ticks for it
+        if (!_pending.isEmpty() && _ticking.compareAndSet(false, true)) {
+          scheduleTick();
+        }
+      } catch (RejectedExecutionException e) {
+        // nothing to log here since the executor is shutting down
+        LOG.debug("RejectedExecutionException: {}", e.getMessage());
+      }
+    }
+
+    /**
+     * Expires all the ticks which have elapsed.
+     */
+    private void advance() {
+      long nowTick = (Time.nanoTime() - _startNanos) / WHEEL_TICK_NANOS;
+
+      for (WheelTimeout timeout = _cancelled.poll(); timeout != null; timeout = _cancelled.poll()) {
+        if (timeout.unlink()) {
+          _size--;
+        }
+      }
+      if (_size == 0 && _currentTick < nowTick) {
+        // Skips the ticks elapsed while the wheel was idle, there is nothing to expire in them
+        _currentTick = nowTick;
+      }
+      for (WheelTimeout timeout = _pending.poll(); timeout != null; timeout = _pending.poll()) {
+        if (!timeout.isDone()) {
+          place(timeout);
+          _size++;
+        }
+      }
+
+      for (; _currentTick <= nowTick; _currentTick++) {
+        // Moves down the timeouts of the higher levels when the lower levels wrap around, highest level first
+        for (int level = WHEEL_LEVELS - 1; level > 0; level--) {
+          if ((_currentTick & ((1L << (WHEEL_BITS * level)) - 1)) == 0) {
+            DoublyLinkedList<WheelTimeout> slot = drain(level, _currentTick);
+            for (WheelTimeout timeout = slot.poll(); timeout != null; timeout = slot.poll()) {
+              if (timeout.isDone()) {
+                _size--;
+              } else {
+                place(timeout);
+              }
+            }
+          }
+        }
+        DoublyLinkedList<WheelTimeout> slot = drain(0, _currentTick);
+        for (WheelTimeout timeout = slot.poll(); timeout != null; timeout = slot.poll()) {
+          if (timeout._tick > _currentTick) {
+            // Only happens to the timeouts beyond the range of the wheel
+            place(timeout);
+          } else {
+            _size--;
+            timeout.execute();
+          }
+        }
+      }
+    }
+
+    private void place(WheelTimeout timeout) {
+      long delta = Math.min(Math.max(timeout._tick - _currentTick, 0), WHEEL_MAX_DELTA);
+      long tick = _currentTick + delta;
+      int level = 0;
+      while (delta >= (1L << (WHEEL_BITS * (level + 1)))) {
+        level++;
+      }
+      _slots[level][(int) (tick >>> (WHEEL_BITS * level)) & WHEEL_MASK].add(timeout);
+    }
+
+    /**
+     * Empties the slot of the given level which contains the given tick.
+     * @return the timeouts of the slot, which must all be polled before the next call.
+     */
+    private DoublyLinkedList<WheelTimeout> drain(int level, long tick) {
+      int index = (int) (tick >>> (WHEEL_BITS * level)) & WHEEL_MASK;
+      DoublyLinkedList<WheelTimeout> slot = _slots[level][index];
+      if (slot.isEmpty()) {
+        return slot;
+      }
+      _slots[level][index] = _spare;
+      _spare = slot;
+      return slot;
+    }
+  }
+
+  /**
+   * Internal representation of a timeout of the {@link TimingWheel}
+   */
+  private final class WheelTimeout extends DoublyLinkedList.Entry<WheelTimeout> implements TimeoutInterface {
+    private final AtomicReference<Runnable> _task;
+    private final TimeoutFuture _public;
+    private final long _tick;
+
+    private WheelTimeout(TimeoutFuture pub, Runnable task, long tick) {
+      assert pub._future == null;
+      _task = new AtomicReference<>(task);
+      _public = pub;
+      _tick = tick;
+      pub._future = this;
+    }
+
+    /**
+     * Schedules the timeout task to be executed.
+     */
+    private void execute() {
+      Runnable task = _task.getAndSet(NOP);
+      if (task != NOP) {
+        _public._future = DEFUNCT;
+        _executor.execute(task);
+      }
+    }
+
+    @Override
+    public boolean isDone() {
+      return _task.get() == NOP;
+    }
+
+    @Override
+    public boolean cancel() {
+      if (_task.getAndSet(NOP) != NOP) {
+        _public._future = DEFUNCT;
+        // The timeout is unlinked from its slot by the thread advancing the wheel
+        _timingWheel._cancelled.add(this);
+        return true;
+      }
+      return false;
+    }
+  }
+
   interface TimeoutInterface {
     boolean isDone();
 
@@ -26,10 +26,11 @@ public class TestTimeoutProcessor {
   TimeoutProcessor _timeout;
 
   @DataProvider(name = "TimeoutProcessor")
-  // testing skipList and treeMap
+  // testing skipList, treeMap and timingWheel
   public static Object[] processor() {
     return new Object[] { new TimeoutProcessor(null, 300, TimeoutProcessor.EventStore.SkipList, 1),
-        new TimeoutProcessor(null, 300, TimeoutProcessor.EventStore.TreeMap, 1) };
+        new TimeoutProcessor(null, 300, TimeoutProcessor.EventStore.TreeMap, 1),
+        TimeoutProcessor.withTimingWheel(null, 1) };
   }
 
   @AfterMethod(groups = { "unit" })
@@ -287,4 +288,37 @@ public class TestTimeoutProcessor {
           "Event fired after " + actualDelay + "ms (" + expectedDelay + "ms expected).");
     });
   }
+
+  @Test(groups = { "unit" })
+  public void testTimingWheelOnlyTicksWithPendingTimeouts() throws Exception {
+    _timeout = TimeoutProcessor.withTimingWheel(null, 1);
+    Assert.assertFalse(_timeout.isTimingWheelTicking());
+
+    // A cancelled timeout stops the ticking once it is unlinked from the wheel
+    TimeoutProcessor.TimeoutFuture cancelled = _timeout.schedule(() -> {}, 1, TimeUnit.HOURS);
+    Assert.assertTrue(_timeout.isTimingWheelTicking());
+    Assert.assertTrue(cancelled.cancel());
+    waitForIdleTimingWheel();
+
+    // After the wheel was idle, a new timeout still fires on time
+    Thread.sleep(200L);
+    CompletableFuture<Long> fired = new CompletableFuture<>();
+    long startTime = System.nanoTime();
+    _timeout.schedule(
+        () -> fired.complete(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)),
+        50,
+        TimeUnit.MILLISECONDS);
+    Assert.assertTrue(_timeout.isTimingWheelTicking());
+    long actualDelay = fired.get(3, TimeUnit.SECONDS);
+    Assert.assertTrue(actualDelay >= 49 && actualDelay < 500, "Event fired after " + actualDelay + "ms");
+    waitForIdleTimingWheel();
+  }
+
+  private void waitForIdleTimingWheel() throws InterruptedException {
+    int i = 0;
+    while (_timeout.isTimingWheelTicking() && i++ < 100) {
+      Thread.sleep(10L);
+    }
+    Assert.assertFalse(_timeout.isTimingWheelTicking());
+  }
 }
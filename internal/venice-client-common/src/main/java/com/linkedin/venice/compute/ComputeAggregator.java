@@ -0,0 +1,239 @@
+package com.linkedin.venice.compute;
+
+import com.linkedin.venice.compute.protocol.request.ComputeAggregation;
+import com.linkedin.venice.compute.protocol.request.enums.ComputeAggregationType;
+import com.linkedin.venice.compute.protocol.response.ComputeAggregationResponseV1;
+import com.linkedin.venice.compute.protocol.response.ComputeAggregationResultV1;
+import com.linkedin.venice.exceptions.VeniceException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+
+
+/**
+ * Accumulates the aggregations of a compute request, either from compute result records via
+ * {@link #accumulate(GenericRecord)}, or from the partial results computed somewhere else via
+ * {@link #merge(ComputeAggregationResponseV1)}. Null values are ignored by all the aggregations.
+ *
+ * The histogram aggregation uses n ascending bucket boundaries to define n + 1 buckets, where bucket i contains the
+ * values v such that boundaries[i - 1] <= v < boundaries[i].
+ *
+ * This class is not thread-safe.
+ */
+public class ComputeAggregator {
+  private final List<ComputeAggregation> aggregations;
+  private final ComputeAggregationType[] types;
+  private final double[][] bucketBoundaries;
+  private final long[] counts;
+  private final double[] values;
+  private final long[][] bucketCounts;
+
+  // Field positions of the last seen result schema, which rarely changes within a request
+  private Schema resultSchema;
+  private int[] fieldPositions;
+
+  public ComputeAggregator(List<ComputeAggregation> aggregations) {
+    int size = aggregations.size();
+    this.aggregations = aggregations;
+    this.types = new ComputeAggregationType[size];
+    this.bucketBoundaries = new double[size][];
+    this.counts = new long[size];
+    this.values = new double[size];
+    this.bucketCounts = new long[size][];
+    for (int i = 0; i < size; i++) {
+      ComputeAggregation aggregation = aggregations.get(i);
+      types[i] = ComputeAggregationType.valueOf(aggregation.aggregationType);
+      List<Double> boundaries = aggregation.bucketBoundaries;
+      bucketBoundaries[i] = new double[boundaries == null ? 0 : boundaries.size()];
+      for (int j = 0; j < bucketBoundaries[i].length; j++) {
+        bucketBoundaries[i][j] = boundaries.get(j);
+        if (j > 0 && bucketBoundaries[i][j] <= bucketBoundaries[i][j - 1]) {
+          throw new VeniceException(
+              "Bucket boundaries of aggregation: " + aggregation.resultFieldName + " must be strictly ascending, got: "
+                  + boundaries);
+        }
+      }
+      bucketCounts[i] = new long[types[i] == ComputeAggregationType.HISTOGRAM ? bucketBoundaries[i].length + 1 : 0];
+    }
+    reset();
+  }
+
+  public List<ComputeAggregation> getAggregations() {
+    return aggregations;
+  }
+
+  /**
+   * Adds the values of the aggregated fields of the given compute result record.
+   */
+  public void accumulate(GenericRecord resultRecord) {
+    if (resultRecord.getSchema() != resultSchema) {
+      resolveFieldPositions(resultRecord.getSchema());
+    }
+    for (int i = 0; i < types.length; i++) {
+      Object value = resultRecord.get(fieldPositions[i]);
+      if (value instanceof Number) {
+        add(i, ((Number) value).doubleValue());
+      }
+    }
+  }
+
+  private void resolveFieldPositions(Schema schema) {
+    int[] positions = new int[aggregations.size()];
+    for (int i = 0; i < positions.length; i++) {
+      String fieldName = aggregations.get(i).field.toString();
+      Schema.Field field = schema.getField(fieldName);
+      if (field == null) {
+        throw new VeniceException("Aggregated field: " + fieldName + " is not in the compute result schema");
+      }
+      positions[i] = field.pos();
+    }
+    this.fieldPositions = positions;
+    this.resultSchema = schema;
+  }
+
+  private void add(int index, double value) {
+    if (Double.isNaN(value)) {
+      return;
+    }
+    counts[index]++;
+    switch (types[index]) {
+      case SUM:
+        values[index] += value;
+        break;
+      case MIN:
+        values[index] = Math.min(values[index], value);
+        break;
+      case MAX:
+        values[index] = Math.max(values[index], value);
+        break;
+      case HISTOGRAM:
+        bucketCounts[index][getBucketIndex(bucketBoundaries[index], value)]++;
+        break;
+      default:
+        throw new VeniceException("Unsupported compute aggregation type: " + types[index]);
+    }
+  }
+
+  static int getBucketIndex(double[] boundaries, double value) {
+    int index = Arrays.binarySearch(boundaries, value);
+    // An exact match on boundary i belongs to bucket i + 1, otherwise the insertion point is the bucket index
+    return index >= 0 ? index + 1 : -(index + 1);
+  }
+
+  /**
+   * Merges partial results computed over a disjoint set of records.
+   */
+  public void merge(ComputeAggregationResponseV1 partialResponse) {
+    List<ComputeAggregationResultV1> results = partialResponse.results;
+    if (results.size() != types.length) {
+      throw new VeniceException(
+          "Expected " + types.length + " partial aggregation results for partition: " + partialResponse.partitionId
+              + ", but got: " + results.size());
+    }
+    for (int i = 0; i < types.length; i++) {
+      ComputeAggregationResultV1 result = results.get(i);
+      if (result.count == 0) {
+        continue;
+      }
+      counts[i] += result.count;
+      switch (types[i]) {
+        case SUM:
+          values[i] += result.value;
+          break;
+        case MIN:
+          values[i] = Math.min(values[i], result.value);
+          break;
+        case MAX:
+          values[i] = Math.max(values[i], result.value);
+          break;
+        case HISTOGRAM:
+          if (result.bucketCounts.size() != bucketCounts[i].length) {
+            throw new VeniceException(
+                "Expected " + bucketCounts[i].length + " histogram buckets for aggregation: "
+                    + aggregations.get(i).resultFieldName + ", but got: " + result.bucketCounts.size());
+          }
+          for (int j = 0; j < bucketCounts[i].length; j++) {
+            bucketCounts[i][j] += result.bucketCounts.get(j);
+          }
+          break;
+        default:
+          throw new VeniceException("Unsupported compute aggregation type: " + types[i]);
+      }
+    }
+  }
+
+  public ComputeAggregationResponseV1 toPartialResponse(int partitionId) {
+    List<ComputeAggregationResultV1> results = new ArrayList<>(types.length);
+    for (int i = 0; i < types.length; i++) {
+      ComputeAggregationResultV1 result = new ComputeAggregationResultV1();
+      result.count = counts[i];
+      result.value = values[i];
+      result.bucketCounts = getBucketCounts(i);
+      results.add(result);
+    }
+    ComputeAggregationResponseV1 response = new ComputeAggregationResponseV1();
+    response.partitionId = partitionId;
+    response.results = results;
+    return response;
+  }
+
+  public void reset() {
+    for (int i = 0; i < types.length; i++) {
+      counts[i] = 0;
+      Arrays.fill(bucketCounts[i], 0);
+      switch (types[i]) {
+        case MIN:
+          values[i] = Double.POSITIVE_INFINITY;
+          break;
+        case MAX:
+          values[i] = Double.NEGATIVE_INFINITY;
+          break;
+        default:
+          values[i] = 0;
+      }
+    }
+  }
+
+  /**
+   * @return the index of the aggregation with the given result field name, or -1 if there is none
+   */
+  public int indexOf(String resultFieldName) {
+    for (int i = 0; i < aggregations.size(); i++) {
+      if (aggregations.get(i).resultFieldName.toString().equals(resultFieldName)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  public ComputeAggregationType getType(int index) {
+    return types[index];
+  }
+
+  /**
+   * @return the number of non-null values which were aggregated
+   */
+  public long getCount(int index) {
+    return counts[index];
+  }
+
+  /**
+   * @return the sum, min or max of the aggregated values, or null for min and max if no value was aggregated
+   */
+  public Double getValue(int index) {
+    if (counts[index] == 0 && types[index] != ComputeAggregationType.SUM) {
+      return null;
+    }
+    return values[index];
+  }
+
+  public List<Long> getBucketCounts(int index) {
+    List<Long> result = new ArrayList<>(bucketCounts[index].length);
+    for (long bucketCount: bucketCounts[index]) {
+      result.add(bucketCount);
+    }
+    return result;
+  }
+}
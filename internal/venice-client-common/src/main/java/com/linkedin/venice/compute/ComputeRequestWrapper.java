@@ -1,10 +1,16 @@
 package com.linkedin.venice.compute;
 
+import static com.linkedin.venice.VeniceConstants.COMPUTE_REQUEST_VERSION_V3;
+import static com.linkedin.venice.VeniceConstants.COMPUTE_REQUEST_VERSION_V5;
 import static com.linkedin.venice.serializer.FastSerializerDeserializerFactory.getFastAvroGenericSerializer;
 
+import com.linkedin.venice.compute.protocol.request.ComputeAggregation;
 import com.linkedin.venice.compute.protocol.request.ComputeOperation;
 import com.linkedin.venice.compute.protocol.request.ComputeRequestV3;
+import com.linkedin.venice.compute.protocol.request.ComputeRequestV5;
+import com.linkedin.venice.compute.protocol.request.TopK;
 import com.linkedin.venice.serializer.RecordSerializer;
+import java.util.Collections;
 import java.util.List;
 import org.apache.avro.Schema;
 
@@ -13,20 +19,23 @@ import org.apache.avro.Schema;
  * This class is used by the client to encapsulate the information it needs about a compute request.
  *
  * N.B.: This class used to contain multiple versions of the {@link ComputeRequestV3} but it was not necessary
- * since all the versions were anyway compatible with one another. We are now keeping only the latest version
- * used on the wire, which is 3 (version 4 was never used as a wire protocol). We can always revisit this if
- * the need to evolve read compute comes into play.
+ * since all the versions were anyway compatible with one another. Version 4 was never used as a wire protocol.
+ * Version 5 adds top-K and aggregations as new fields, so it is only used on the wire by requests which specify
+ * them, and all the other requests keep using version 3, which all the routers and servers understand.
  */
 public class ComputeRequestWrapper {
-  public static final int LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST = 3;
+  public static final int LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST = COMPUTE_REQUEST_VERSION_V5;
 
-  private static final RecordSerializer<ComputeRequestV3> SERIALIZER =
+  private static final RecordSerializer<ComputeRequestV3> SERIALIZER_V3 =
       getFastAvroGenericSerializer(ComputeRequestV3.SCHEMA$);
+  private static final RecordSerializer<ComputeRequestV5> SERIALIZER_V5 =
+      getFastAvroGenericSerializer(ComputeRequestV5.SCHEMA$);
 
-  private final ComputeRequestV3 computeRequest;
+  private final ComputeRequestV5 computeRequest;
   private final Schema valueSchema;
   private final List<Schema.Field> operationResultFields;
   private final boolean originallyStreaming;
+  private final ComputeResultReducer reducer;
 
   public ComputeRequestWrapper(
       Schema valueSchema,
@@ -34,16 +43,45 @@ public class ComputeRequestWrapper {
       String resultSchemaString,
       List<ComputeOperation> operations,
       boolean originallyStreaming) {
-    this.computeRequest = new ComputeRequestV3();
+    this(valueSchema, resultSchema, resultSchemaString, operations, originallyStreaming, null, Collections.emptyList());
+  }
+
+  public ComputeRequestWrapper(
+      Schema valueSchema,
+      Schema resultSchema,
+      String resultSchemaString,
+      List<ComputeOperation> operations,
+      boolean originallyStreaming,
+      TopK topK,
+      List<ComputeAggregation> aggregations) {
+    this.computeRequest = new ComputeRequestV5();
     this.computeRequest.setResultSchemaStr(resultSchemaString);
     this.computeRequest.setOperations((List) operations);
+    this.computeRequest.setTopK(topK);
+    this.computeRequest.setAggregations(aggregations);
     this.valueSchema = valueSchema;
     this.operationResultFields = ComputeUtils.getOperationResultFields(operations, resultSchema);
     this.originallyStreaming = originallyStreaming;
+    this.reducer =
+        ComputeUtils.isReductionRequest(topK, aggregations) ? new ComputeResultReducer(topK, aggregations) : null;
   }
 
   public byte[] serialize() {
-    return SERIALIZER.serialize(this.computeRequest);
+    if (hasReduction()) {
+      return SERIALIZER_V5.serialize(this.computeRequest);
+    }
+    // Version 3 is a prefix of version 5, so the request without top-K and aggregations projects to it as is
+    ComputeRequestV3 computeRequestV3 = new ComputeRequestV3();
+    computeRequestV3.setResultSchemaStr(this.computeRequest.getResultSchemaStr());
+    computeRequestV3.setOperations(this.computeRequest.getOperations());
+    return SERIALIZER_V3.serialize(computeRequestV3);
+  }
+
+  /**
+   * @return the protocol version of the bytes returned by {@link #serialize()}, which has to be sent along with them
+   */
+  public int getComputeRequestVersion() {
+    return hasReduction() ? COMPUTE_REQUEST_VERSION_V5 : COMPUTE_REQUEST_VERSION_V3;
   }
 
   public CharSequence getResultSchemaStr() {
@@ -65,4 +103,15 @@ public class ComputeRequestWrapper {
   public boolean isRequestOriginallyStreaming() {
     return this.originallyStreaming;
   }
+
+  /**
+   * @return true if the request asks for top-K records or aggregations, which are combined by {@link #getReducer()}
+   */
+  public boolean hasReduction() {
+    return this.reducer != null;
+  }
+
+  public ComputeResultReducer getReducer() {
+    return this.reducer;
+  }
 }
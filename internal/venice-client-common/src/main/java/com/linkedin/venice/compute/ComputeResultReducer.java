@@ -0,0 +1,104 @@
+package com.linkedin.venice.compute;
+
+import com.linkedin.venice.compute.protocol.request.ComputeAggregation;
+import com.linkedin.venice.compute.protocol.request.TopK;
+import com.linkedin.venice.compute.protocol.response.ComputeAggregationResponseV1;
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+
+
+/**
+ * Client side counterpart of the top-K and aggregations computed by the storage nodes. It combines:
+ *
+ * 1. Compute results which were computed locally (e.g. multi-get fallback or Da Vinci), via
+ *    {@link #accumulate(Object, GenericRecord)}, which feeds both the top-K selection and the aggregations.
+ * 2. Records which already are the top-K of some storage node, via {@link #offerTopKRecord(Object, GenericRecord)}.
+ * 3. Partial aggregation results of a partition, via {@link #mergePartialAggregations(ComputeAggregationResponseV1)},
+ *    or the ones of a whole response via {@link #mergePartialAggregations(Collection)}. Duplicate partial results of
+ *    the same partition, which are caused by retries, are dropped.
+ *
+ * Records of the same key are only considered once, since retries can return them more than once.
+ *
+ * This class is thread-safe, since records are received concurrently by the deserialization threads.
+ */
+public class ComputeResultReducer {
+  private final TopK topK;
+  private final TopKSelector<Map.Entry<Object, GenericRecord>> topKSelector;
+  private final ComputeAggregator aggregator;
+  private final Set<Integer> mergedPartitions = new HashSet<>();
+  private final Set<Object> seenKeys = new HashSet<>();
+
+  public ComputeResultReducer(TopK topK, List<ComputeAggregation> aggregations) {
+    this.topK = topK;
+    this.topKSelector = topK == null ? null : new TopKSelector<>(topK.k);
+    this.aggregator = new ComputeAggregator(aggregations);
+  }
+
+  public TopK getTopK() {
+    return topK;
+  }
+
+  public synchronized void accumulate(Object key, GenericRecord result) {
+    if (result == null || !seenKeys.add(key)) {
+      return;
+    }
+    offerTopKRecordInternal(key, result);
+    aggregator.accumulate(result);
+  }
+
+  public synchronized void offerTopKRecord(Object key, GenericRecord result) {
+    if (result == null || !seenKeys.add(key)) {
+      return;
+    }
+    offerTopKRecordInternal(key, result);
+  }
+
+  private void offerTopKRecordInternal(Object key, GenericRecord result) {
+    if (topKSelector == null) {
+      return;
+    }
+    // Access the field by position, since records with computation errors may throw when accessed by field name
+    Schema.Field scoreField = result.getSchema().getField(topK.field.toString());
+    double score = scoreField == null ? Double.NaN : ComputeUtils.toScore(result.get(scoreField.pos()));
+    topKSelector.offer(score, new AbstractMap.SimpleImmutableEntry<>(key, result));
+  }
+
+  public synchronized void mergePartialAggregations(ComputeAggregationResponseV1 partialResponse) {
+    if (mergedPartitions.add(partialResponse.partitionId)) {
+      aggregator.merge(partialResponse);
+    }
+  }
+
+  /**
+   * Merges the partial aggregation results of a response which completed successfully, so that a response failing
+   * half way doesn't contribute the partitions it has already returned. A retry only covers the keys of the responses
+   * which didn't complete, so all the partial results of a partition cover the same keys, and the ones of the first
+   * completed response are kept.
+   */
+  public synchronized void mergePartialAggregations(Collection<ComputeAggregationResponseV1> partialResponses) {
+    for (ComputeAggregationResponseV1 partialResponse: partialResponses) {
+      mergePartialAggregations(partialResponse);
+    }
+  }
+
+  /**
+   * @return the top-K records, from the highest score to the lowest one, or an empty list if top-K wasn't requested
+   */
+  public synchronized List<Map.Entry<Object, GenericRecord>> getTopKRecords() {
+    return topKSelector == null ? Collections.emptyList() : topKSelector.getItemsInDescendingOrder();
+  }
+
+  /**
+   * N.B.: The returned aggregator must not be used concurrently with this reducer.
+   */
+  public ComputeAggregator getAggregator() {
+    return aggregator;
+  }
+}
@@ -1,29 +1,40 @@
 package com.linkedin.venice.compute;
 
+import static com.linkedin.venice.VeniceConstants.COMPUTE_REQUEST_VERSION_V5;
+import static com.linkedin.venice.serializer.FastSerializerDeserializerFactory.getFastAvroGenericSerializer;
 import static com.linkedin.venice.serializer.FastSerializerDeserializerFactory.getFastAvroSpecificDeserializer;
 
 import com.linkedin.avro.api.PrimitiveFloatList;
 import com.linkedin.venice.VeniceConstants;
+import com.linkedin.venice.compute.protocol.request.ComputeAggregation;
 import com.linkedin.venice.compute.protocol.request.ComputeOperation;
 import com.linkedin.venice.compute.protocol.request.ComputeRequest;
 import com.linkedin.venice.compute.protocol.request.ComputeRequestV3;
+import com.linkedin.venice.compute.protocol.request.ComputeRequestV5;
 import com.linkedin.venice.compute.protocol.request.CosineSimilarity;
 import com.linkedin.venice.compute.protocol.request.Count;
 import com.linkedin.venice.compute.protocol.request.DotProduct;
 import com.linkedin.venice.compute.protocol.request.HadamardProduct;
+import com.linkedin.venice.compute.protocol.request.TopK;
+import com.linkedin.venice.compute.protocol.request.enums.ComputeAggregationType;
 import com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType;
+import com.linkedin.venice.compute.protocol.response.ComputeAggregationResponseV1;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.utils.CollectionUtils;
 import com.linkedin.venice.utils.Pair;
 import com.linkedin.venice.utils.RedundantExceptionFilter;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -42,6 +53,7 @@ import org.apache.logging.log4j.Logger;
 public class ComputeUtils {
   private static final Logger LOGGER = LogManager.getLogger(ComputeUtils.class);
   public static final String CACHED_SQUARED_L2_NORM_KEY = "CACHED_SQUARED_L2_NORM_KEY";
+  public static final String CACHED_FLOAT_ARRAY_KEY = "CACHED_FLOAT_ARRAY_KEY";
   public static final Pattern VALID_AVRO_NAME_PATTERN = Pattern.compile("\\A[A-Za-z_][A-Za-z0-9_]*\\z");
   public static final String ILLEGAL_AVRO_CHARACTER = "[^A-Za-z0-9_]";
   public static final String ILLEGAL_AVRO_CHARACTER_REPLACEMENT = "_";
@@ -59,10 +71,114 @@ public class ComputeUtils {
   private static final RecordDeserializer<ComputeRequest> DESERIALIZER =
       getFastAvroSpecificDeserializer(ComputeRequestV3.SCHEMA$, ComputeRequest.class);
 
+  private static final RecordDeserializer<ComputeRequest> V5_DESERIALIZER =
+      getFastAvroSpecificDeserializer(ComputeRequestV5.SCHEMA$, ComputeRequest.class);
+
+  private static final RecordSerializer<ComputeAggregationResponseV1> AGGREGATION_RESPONSE_SERIALIZER =
+      getFastAvroGenericSerializer(ComputeAggregationResponseV1.SCHEMA$);
+  private static final RecordDeserializer<ComputeAggregationResponseV1> AGGREGATION_RESPONSE_DESERIALIZER =
+      getFastAvroSpecificDeserializer(ComputeAggregationResponseV1.SCHEMA$, ComputeAggregationResponseV1.class);
+
+  public static ByteBuffer serializeComputeAggregationResponse(ComputeAggregationResponseV1 response) {
+    return ByteBuffer.wrap(AGGREGATION_RESPONSE_SERIALIZER.serialize(response));
+  }
+
+  public static ComputeAggregationResponseV1 deserializeComputeAggregationResponse(ByteBuffer value) {
+    return AGGREGATION_RESPONSE_DESERIALIZER.deserialize(value);
+  }
+
   public static ComputeRequest deserializeComputeRequest(BinaryDecoder decoder, ComputeRequest reuse) {
     return DESERIALIZER.deserialize(reuse, decoder);
   }
 
+  /**
+   * Version 5 added top-level fields to the compute request, so it has to be decoded with its own writer schema. All
+   * the previous versions are decoded with the schema of {@link ComputeRequestV3}, see {@link #DESERIALIZER}; version
+   * 4 was never used over the wire.
+   */
+  public static ComputeRequest deserializeComputeRequest(
+      BinaryDecoder decoder,
+      ComputeRequest reuse,
+      int protocolVersion) {
+    if (protocolVersion >= COMPUTE_REQUEST_VERSION_V5) {
+      return V5_DESERIALIZER.deserialize(reuse, decoder);
+    }
+    return DESERIALIZER.deserialize(reuse, decoder);
+  }
+
+  /**
+   * @return true if the request asks for top-K records or aggregations instead of one result per key
+   */
+  public static boolean isReductionRequest(TopK topK, List<ComputeAggregation> aggregations) {
+    return topK != null || (aggregations != null && !aggregations.isEmpty());
+  }
+
+  /**
+   * Sanity check of the top-K and aggregations of a compute request: all of them must operate on numeric fields of
+   * the compute result schema, and the aggregation result names must be unique.
+   */
+  public static void checkComputeReduction(TopK topK, List<ComputeAggregation> aggregations, Schema resultSchema) {
+    if (topK != null) {
+      if (topK.k < 0) {
+        throw new VeniceException("Top-K requires a non-negative k, got: " + topK.k);
+      }
+      checkNumericResultField("Top-K", topK.field.toString(), resultSchema);
+    }
+    Set<String> aggregationResultNames = new HashSet<>();
+    for (ComputeAggregation aggregation: aggregations) {
+      ComputeAggregationType aggregationType = ComputeAggregationType.valueOf(aggregation.aggregationType);
+      checkNumericResultField(aggregationType.toString(), aggregation.field.toString(), resultSchema);
+      if (!aggregationResultNames.add(aggregation.resultFieldName.toString())) {
+        throw new VeniceException(
+            "Aggregation result name: " + aggregation.resultFieldName + " has been specified more than once");
+      }
+    }
+  }
+
+  private static void checkNumericResultField(String operation, String fieldName, Schema resultSchema) {
+    Schema.Field field = resultSchema.getField(fieldName);
+    if (field == null) {
+      throw new VeniceException(
+          operation + " field: " + fieldName
+              + " must either be projected or be the result of another compute operation");
+    }
+    if (!isNumericSchema(field.schema())) {
+      throw new VeniceException(operation + " field: " + fieldName + " isn't numeric. Got: " + field.schema());
+    }
+  }
+
+  /**
+   * @return true if the schema is 'INT', 'LONG', 'FLOAT' or 'DOUBLE', or a union of null and one of those.
+   */
+  public static boolean isNumericSchema(Schema schema) {
+    switch (schema.getType()) {
+      case INT:
+      case LONG:
+      case FLOAT:
+      case DOUBLE:
+        return true;
+      case UNION:
+        List<Schema> branches = schema.getTypes();
+        if (branches.size() != 2) {
+          return false;
+        }
+        if (branches.get(0).getType() == Schema.Type.NULL) {
+          return isNumericSchema(branches.get(1));
+        }
+        return branches.get(1).getType() == Schema.Type.NULL && isNumericSchema(branches.get(0));
+      default:
+        return false;
+    }
+  }
+
+  /**
+   * @return the value of a numeric compute result field as a double, or {@link Double#NaN} if there is no value,
+   *         which excludes the record from the top-K selection.
+   */
+  public static double toScore(Object fieldValue) {
+    return fieldValue instanceof Number ? ((Number) fieldValue).doubleValue() : Double.NaN;
+  }
+
   public static void checkResultSchema(Schema resultSchema, Schema valueSchema, List<ComputeOperation> operations) {
     if (resultSchema.getType() != Schema.Type.RECORD || valueSchema.getType() != Schema.Type.RECORD) {
       throw new VeniceException("Compute result schema and value schema must be RECORD type");
@@ -141,6 +257,44 @@ public class ComputeUtils {
     }
   }
 
+  /**
+   * Checks whether a compute request can be served by only decoding the float vectors it operates on, with the
+   * {@link FloatVectorProjectingDatumReader}, instead of deserializing the whole value record. That is the case when
+   * every operation is a dot product, a cosine similarity or a hadamard product over a float vector field, and when no
+   * other value field is projected into the result.
+   *
+   * @return the sorted names of the float vector fields the operations read, or null if the request is not eligible.
+   */
+  public static Set<String> getFloatVectorProjectionFields(
+      List<ComputeOperation> operations,
+      Schema resultSchema,
+      Schema valueSchema) {
+    Set<String> vectorFieldNames = new TreeSet<>();
+    for (ComputeOperation operation: operations) {
+      ComputeOperationType operationType = ComputeOperationType.valueOf(operation);
+      switch (operationType) {
+        case DOT_PRODUCT:
+        case COSINE_SIMILARITY:
+        case HADAMARD_PRODUCT:
+          String fieldName = operationType.getOperator().getOperatorFieldName(operation);
+          Schema.Field valueField = valueSchema.getField(fieldName);
+          if (valueField == null || !FloatVectorProjectingDatumReader.isFloatVectorSchema(valueField.schema())) {
+            return null;
+          }
+          vectorFieldNames.add(fieldName);
+          break;
+        default:
+          return null;
+      }
+    }
+    for (Schema.Field resultField: resultSchema.getFields()) {
+      if (valueSchema.getField(resultField.name()) != null && !vectorFieldNames.contains(resultField.name())) {
+        return null;
+      }
+    }
+    return vectorFieldNames;
+  }
+
   /**
    * According to Avro specification (https://avro.apache.org/docs/1.7.7/spec.html#Names):
    *
@@ -169,7 +323,12 @@ public class ComputeUtils {
     if (list1.size() != list2.size()) {
       throw new VeniceException("Two lists are with different dimensions: " + list1.size() + ", and " + list2.size());
     }
-    if (list1 instanceof PrimitiveFloatList && list2 instanceof PrimitiveFloatList) {
+    if (list1 instanceof FloatArrayBackedList && list2 instanceof FloatArrayBackedList) {
+      return dotProduct(
+          ((FloatArrayBackedList) list1).elements(),
+          ((FloatArrayBackedList) list2).elements(),
+          list1.size());
+    } else if (list1 instanceof PrimitiveFloatList && list2 instanceof PrimitiveFloatList) {
       PrimitiveFloatList primitiveFloatList1 = (PrimitiveFloatList) list1;
       PrimitiveFloatList primitiveFloatList2 = (PrimitiveFloatList) list2;
       return dotProduct(list1.size(), primitiveFloatList1::getPrimitive, primitiveFloatList2::getPrimitive);
@@ -178,11 +337,31 @@ public class ComputeUtils {
     }
   }
 
+  /**
+   * Same as {@link #dotProduct(List, List)}, except that when the value vector was decoded into a
+   * {@link FloatArrayBackedList}, the parameter vector is converted to a primitive array once per request (see
+   * {@link #getCachedFloatArray(List, Map)}) and the product is computed over the two primitive arrays.
+   */
+  public static float dotProduct(List<Float> param, List<Float> valueVector, Map<String, Object> context) {
+    if (valueVector instanceof FloatArrayBackedList && param.size() == valueVector.size()) {
+      return dotProduct(
+          getCachedFloatArray(param, context),
+          ((FloatArrayBackedList) valueVector).elements(),
+          valueVector.size());
+    }
+    return dotProduct(param, valueVector);
+  }
+
   public static List<Float> hadamardProduct(List<Float> list1, List<Float> list2) {
     if (list1.size() != list2.size()) {
       throw new VeniceException("Two lists are with different dimensions: " + list1.size() + ", and " + list2.size());
     }
-    if (list1 instanceof PrimitiveFloatList && list2 instanceof PrimitiveFloatList) {
+    if (list1 instanceof FloatArrayBackedList && list2 instanceof FloatArrayBackedList) {
+      return hadamardProduct(
+          ((FloatArrayBackedList) list1).elements(),
+          ((FloatArrayBackedList) list2).elements(),
+          list1.size());
+    } else if (list1 instanceof PrimitiveFloatList && list2 instanceof PrimitiveFloatList) {
       PrimitiveFloatList primitiveFloatList1 = (PrimitiveFloatList) list1;
       PrimitiveFloatList primitiveFloatList2 = (PrimitiveFloatList) list2;
       return hadamardProduct(list1.size(), primitiveFloatList1::getPrimitive, primitiveFloatList2::getPrimitive);
@@ -191,6 +370,60 @@ public class ComputeUtils {
     }
   }
 
+  /**
+   * Same as {@link #hadamardProduct(List, List)}, with the same treatment of {@link FloatArrayBackedList} as
+   * {@link #dotProduct(List, List, Map)}.
+   */
+  public static List<Float> hadamardProduct(List<Float> param, List<Float> valueVector, Map<String, Object> context) {
+    if (valueVector instanceof FloatArrayBackedList && param.size() == valueVector.size()) {
+      return hadamardProduct(
+          getCachedFloatArray(param, context),
+          ((FloatArrayBackedList) valueVector).elements(),
+          valueVector.size());
+    }
+    return hadamardProduct(param, valueVector);
+  }
+
+  /**
+   * Compute parameters are immutable for the whole request, so their primitive copy is cached in the shared context,
+   * keyed by the identity of the parameter list, and reused for every record of the request.
+   */
+  static float[] getCachedFloatArray(List<Float> list, Map<String, Object> context) {
+    if (list instanceof FloatArrayBackedList) {
+      return ((FloatArrayBackedList) list).elements();
+    }
+    IdentityHashMap<List<Float>, float[]> cachedFloatArrays =
+        context == null ? null : (IdentityHashMap<List<Float>, float[]>) context.get(CACHED_FLOAT_ARRAY_KEY);
+    float[] floatArray = cachedFloatArrays == null ? null : cachedFloatArrays.get(list);
+    if (floatArray == null) {
+      floatArray = toFloatArray(list);
+      if (context != null) {
+        if (cachedFloatArrays == null) {
+          cachedFloatArrays = new IdentityHashMap<>();
+          context.put(CACHED_FLOAT_ARRAY_KEY, cachedFloatArrays);
+        }
+        cachedFloatArrays.put(list, floatArray);
+      }
+    }
+    return floatArray;
+  }
+
+  private static float[] toFloatArray(List<Float> list) {
+    int size = list.size();
+    float[] floatArray = new float[size];
+    if (list instanceof PrimitiveFloatList) {
+      PrimitiveFloatList primitiveFloatList = (PrimitiveFloatList) list;
+      for (int i = 0; i < size; i++) {
+        floatArray[i] = primitiveFloatList.getPrimitive(i);
+      }
+    } else {
+      for (int i = 0; i < size; i++) {
+        floatArray[i] = list.get(i);
+      }
+    }
+    return floatArray;
+  }
+
   public static List<Schema.Field> getOperationResultFields(List<ComputeOperation> operations, Schema resultSchema) {
     List<Schema.Field> operationResultFields = new ArrayList<>(operations.size());
     ComputeOperation computeOperation;
@@ -232,6 +465,45 @@ public class ComputeUtils {
     return dotProductResult;
   }
 
+  /**
+   * Primitive array flavor of the dot product. The summation order is the same as for the list-based flavor, so that
+   * both of them produce bit-identical results for the same input.
+   */
+  public static float dotProduct(float[] array1, float[] array2, int size) {
+    float dotProductResult = 0.0f;
+
+    // round up size to the largest multiple of 4
+    int i = 0;
+    int limit = (size >> 2) << 2;
+
+    for (; i < limit; i += 4) {
+      float s0 = array1[i] * array2[i];
+      float s1 = array1[i + 1] * array2[i + 1];
+      float s2 = array1[i + 2] * array2[i + 2];
+      float s3 = array1[i + 3] * array2[i + 3];
+
+      dotProductResult += (s0 + s1 + s2 + s3);
+    }
+
+    // Multiply the remaining elements
+    for (; i < size; i++) {
+      dotProductResult += array1[i] * array2[i];
+    }
+    return dotProductResult;
+  }
+
+  /**
+   * Primitive array flavor of the hadamard product. There is no loop-carried dependency here, so this simple loop is
+   * a candidate for the JIT's superword (SIMD) optimization.
+   */
+  public static List<Float> hadamardProduct(float[] array1, float[] array2, int size) {
+    float[] floats = new float[size];
+    for (int i = 0; i < size; i++) {
+      floats[i] = array1[i] * array2[i];
+    }
+    return CollectionUtils.asUnmodifiableList(floats);
+  }
+
   private static List<Float> hadamardProduct(
       int size,
       FloatSupplierByIndex floatSupplier1,
@@ -259,7 +531,10 @@ public class ComputeUtils {
   }
 
   public static float squaredL2Norm(List<Float> list) {
-    if (list instanceof PrimitiveFloatList) {
+    if (list instanceof FloatArrayBackedList) {
+      float[] elements = ((FloatArrayBackedList) list).elements();
+      return dotProduct(elements, elements, list.size());
+    } else if (list instanceof PrimitiveFloatList) {
       PrimitiveFloatList primitiveFloatList = (PrimitiveFloatList) list;
       int size = primitiveFloatList.size();
       FloatSupplierByIndex floatSupplierByIndex = primitiveFloatList::getPrimitive;
@@ -39,7 +39,7 @@ public class CosineSimilarityOperator implements ReadComputeOperator {
         return;
       }
 
-      float dotProductResult = ComputeUtils.dotProduct(cosSimilarityParam, valueVector);
+      float dotProductResult = ComputeUtils.dotProduct(cosSimilarityParam, valueVector, context);
       float valueVectorSquaredL2Norm = ComputeUtils.squaredL2Norm(valueVector);
       float cosSimilarityParamSquaredL2Norm;
       // Build the context as we go though all the computations
@@ -0,0 +1,109 @@
+package com.linkedin.venice.compute;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+
+/**
+ * A growable {@link java.util.List} of floats which exposes its backing primitive array, so that read compute
+ * operators can run their kernels directly against a {@code float[]} without boxing or per-element virtual calls.
+ *
+ * Instances are meant to be reused across records: {@link #clear()} resets the size without releasing the backing
+ * array, so decoding vectors of similar dimensions into the same instance does not allocate.
+ *
+ * This class is not thread-safe.
+ */
+public class FloatArrayBackedList extends AbstractList<Float> implements RandomAccess {
+  private static final int DEFAULT_CAPACITY = 16;
+
+  private float[] elements;
+  private int size;
+
+  public FloatArrayBackedList() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public FloatArrayBackedList(int initialCapacity) {
+    if (initialCapacity < 0) {
+      throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+    }
+    this.elements = new float[initialCapacity];
+  }
+
+  /**
+   * Wraps the given array without copying it. The returned list will see any later change made to the array.
+   */
+  public static FloatArrayBackedList wrap(float[] array) {
+    FloatArrayBackedList list = new FloatArrayBackedList(0);
+    list.elements = array;
+    list.size = array.length;
+    return list;
+  }
+
+  /**
+   * @return the backing array, whose length may be greater than {@link #size()}.
+   */
+  public float[] elements() {
+    return elements;
+  }
+
+  public float getPrimitive(int index) {
+    rangeCheck(index);
+    return elements[index];
+  }
+
+  public void addPrimitive(float value) {
+    if (size == elements.length) {
+      ensureCapacity(size + 1);
+    }
+    elements[size++] = value;
+  }
+
+  /**
+   * Grows the backing array, if necessary, so that it can hold at least {@code minCapacity} elements.
+   */
+  public void ensureCapacity(int minCapacity) {
+    if (minCapacity > elements.length) {
+      int newCapacity = Math.max(minCapacity, elements.length + (elements.length >> 1));
+      elements = Arrays.copyOf(elements, newCapacity);
+    }
+  }
+
+  @Override
+  public Float get(int index) {
+    return getPrimitive(index);
+  }
+
+  @Override
+  public Float set(int index, Float element) {
+    rangeCheck(index);
+    float previous = elements[index];
+    elements[index] = element;
+    return previous;
+  }
+
+  @Override
+  public boolean add(Float element) {
+    addPrimitive(element);
+    modCount++;
+    return true;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public void clear() {
+    size = 0;
+    modCount++;
+  }
+
+  private void rangeCheck(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+    }
+  }
+}
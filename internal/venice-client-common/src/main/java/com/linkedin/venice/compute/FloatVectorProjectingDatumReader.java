@@ -0,0 +1,186 @@
+package com.linkedin.venice.compute;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.Decoder;
+
+
+/**
+ * A {@link DatumReader} specialized for read compute over float vectors. Instead of materializing the whole value
+ * record, it walks the writer schema once and:
+ *
+ * 1. Decodes the requested {@code array<float>} fields (optionally wrapped in a union with null) straight into a
+ *    reused {@link FloatArrayBackedList}, so that the operators can work on a primitive {@code float[]}.
+ * 2. Skips every other field without materializing it, and stops decoding right after the last requested field.
+ *
+ * All the fields of the returned record which are not requested are set to null. The reader is stateless beyond its
+ * immutable decoding plan, so a single instance can be shared across threads.
+ *
+ * Use {@link #isSupported(Schema, Schema, Set)} to check whether a writer/reader schema pair can be decoded
+ * with this reader before constructing it.
+ */
+public class FloatVectorProjectingDatumReader implements DatumReader<GenericRecord> {
+  private static final int NOT_A_UNION = -1;
+  private static final int UNSUPPORTED_TYPE = -2;
+  private static final int SKIP = -1;
+
+  private final Schema readerSchema;
+  /** Writer schemas of the fields up to and including the last requested one, in encoding order. */
+  private final Schema[] writerFieldSchemas;
+  /** For each entry of {@link #writerFieldSchemas}, either {@link #SKIP} or the index of the vector to decode. */
+  private final int[] writerFieldVectorIndexes;
+  private final int[] vectorReaderFieldPositions;
+  /** For each vector, the index of the array branch within the writer union, or {@link #NOT_A_UNION}. */
+  private final int[] vectorArrayBranchIndexes;
+  private final int[] unprojectedReaderFieldPositions;
+
+  public FloatVectorProjectingDatumReader(Schema writerSchema, Schema readerSchema, Set<String> vectorFieldNames) {
+    if (!isSupported(writerSchema, readerSchema, vectorFieldNames)) {
+      throw new VeniceException(
+          "Fields " + vectorFieldNames + " cannot be projected as float vectors from writer schema " + writerSchema
+              + " to reader schema " + readerSchema);
+    }
+    this.readerSchema = readerSchema;
+
+    int lastRequestedWriterFieldPos = -1;
+    for (String fieldName: vectorFieldNames) {
+      lastRequestedWriterFieldPos = Math.max(lastRequestedWriterFieldPos, writerSchema.getField(fieldName).pos());
+    }
+    List<Schema.Field> writerFields = writerSchema.getFields();
+    this.writerFieldSchemas = new Schema[lastRequestedWriterFieldPos + 1];
+    this.writerFieldVectorIndexes = new int[lastRequestedWriterFieldPos + 1];
+    this.vectorReaderFieldPositions = new int[vectorFieldNames.size()];
+    this.vectorArrayBranchIndexes = new int[vectorFieldNames.size()];
+    int vectorIndex = 0;
+    for (int i = 0; i <= lastRequestedWriterFieldPos; i++) {
+      Schema.Field writerField = writerFields.get(i);
+      writerFieldSchemas[i] = writerField.schema();
+      if (vectorFieldNames.contains(writerField.name())) {
+        writerFieldVectorIndexes[i] = vectorIndex;
+        vectorReaderFieldPositions[vectorIndex] = readerSchema.getField(writerField.name()).pos();
+        vectorArrayBranchIndexes[vectorIndex] = getFloatArrayBranchIndex(writerField.schema());
+        vectorIndex++;
+      } else {
+        writerFieldVectorIndexes[i] = SKIP;
+      }
+    }
+
+    List<Integer> unprojectedPositions = new ArrayList<>();
+    for (Schema.Field readerField: readerSchema.getFields()) {
+      if (!vectorFieldNames.contains(readerField.name())) {
+        unprojectedPositions.add(readerField.pos());
+      }
+    }
+    this.unprojectedReaderFieldPositions = new int[unprojectedPositions.size()];
+    for (int i = 0; i < unprojectedPositions.size(); i++) {
+      unprojectedReaderFieldPositions[i] = unprojectedPositions.get(i);
+    }
+  }
+
+  /**
+   * @return true if all the given fields exist in both schemas, and are either {@code array<float>} or a union of
+   *         null and {@code array<float>} in both of them.
+   */
+  public static boolean isSupported(Schema writerSchema, Schema readerSchema, Set<String> vectorFieldNames) {
+    if (writerSchema.getType() != Schema.Type.RECORD || readerSchema.getType() != Schema.Type.RECORD
+        || vectorFieldNames.isEmpty()) {
+      return false;
+    }
+    for (String fieldName: vectorFieldNames) {
+      Schema.Field writerField = writerSchema.getField(fieldName);
+      Schema.Field readerField = readerSchema.getField(fieldName);
+      if (writerField == null || readerField == null) {
+        return false;
+      }
+      if (getFloatArrayBranchIndex(writerField.schema()) == UNSUPPORTED_TYPE
+          || getFloatArrayBranchIndex(readerField.schema()) == UNSUPPORTED_TYPE) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return true if the schema is {@code array<float>} or a union of null and {@code array<float>}.
+   */
+  public static boolean isFloatVectorSchema(Schema schema) {
+    return getFloatArrayBranchIndex(schema) != UNSUPPORTED_TYPE;
+  }
+
+  private static int getFloatArrayBranchIndex(Schema schema) {
+    if (isFloatArray(schema)) {
+      return NOT_A_UNION;
+    }
+    if (schema.getType() != Schema.Type.UNION) {
+      return UNSUPPORTED_TYPE;
+    }
+    List<Schema> branches = schema.getTypes();
+    if (branches.size() != 2) {
+      return UNSUPPORTED_TYPE;
+    }
+    if (branches.get(0).getType() == Schema.Type.NULL && isFloatArray(branches.get(1))) {
+      return 1;
+    }
+    if (branches.get(1).getType() == Schema.Type.NULL && isFloatArray(branches.get(0))) {
+      return 0;
+    }
+    return UNSUPPORTED_TYPE;
+  }
+
+  private static boolean isFloatArray(Schema schema) {
+    return schema.getType() == Schema.Type.ARRAY && schema.getElementType().getType() == Schema.Type.FLOAT;
+  }
+
+  @Override
+  public void setSchema(Schema schema) {
+    throw new UnsupportedOperationException(
+        getClass().getSimpleName() + " is bound to its writer schema at construction time");
+  }
+
+  @Override
+  public GenericRecord read(GenericRecord reuse, Decoder in) throws IOException {
+    GenericRecord record = (GenericRecord) GenericData.get().newRecord(reuse, readerSchema);
+    for (int pos: unprojectedReaderFieldPositions) {
+      record.put(pos, null);
+    }
+    for (int i = 0; i < writerFieldSchemas.length; i++) {
+      int vectorIndex = writerFieldVectorIndexes[i];
+      if (vectorIndex == SKIP) {
+        GenericDatumReader.skip(writerFieldSchemas[i], in);
+      } else {
+        readVector(vectorIndex, record, in);
+      }
+    }
+    // Nothing after the last requested field is needed, so the rest of the input is intentionally left unread.
+    return record;
+  }
+
+  private void readVector(int vectorIndex, GenericRecord record, Decoder in) throws IOException {
+    int readerFieldPos = vectorReaderFieldPositions[vectorIndex];
+    int arrayBranchIndex = vectorArrayBranchIndexes[vectorIndex];
+    if (arrayBranchIndex != NOT_A_UNION && in.readIndex() != arrayBranchIndex) {
+      record.put(readerFieldPos, null);
+      return;
+    }
+    Object previousValue = record.get(readerFieldPos);
+    FloatArrayBackedList vector = previousValue instanceof FloatArrayBackedList
+        ? (FloatArrayBackedList) previousValue
+        : new FloatArrayBackedList();
+    vector.clear();
+    for (long blockSize = in.readArrayStart(); blockSize > 0; blockSize = in.arrayNext()) {
+      vector.ensureCapacity(vector.size() + (int) blockSize);
+      for (long j = 0; j < blockSize; j++) {
+        vector.addPrimitive(in.readFloat());
+      }
+    }
+    record.put(readerFieldPos, vector);
+  }
+}
@@ -0,0 +1,17 @@
+package com.linkedin.venice.compute;
+
+import com.linkedin.venice.serializer.AvroGenericDeserializer;
+import java.util.Set;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+
+
+/**
+ * Deserializer backed by a {@link FloatVectorProjectingDatumReader}, which only materializes the given float vector
+ * fields of the value record.
+ */
+public class FloatVectorProjectingDeserializer extends AvroGenericDeserializer<GenericRecord> {
+  public FloatVectorProjectingDeserializer(Schema writer, Schema reader, Set<String> vectorFieldNames) {
+    super(new FloatVectorProjectingDatumReader(writer, reader, vectorFieldNames));
+  }
+}
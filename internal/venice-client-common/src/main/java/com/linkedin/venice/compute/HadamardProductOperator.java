@@ -36,7 +36,7 @@ public class HadamardProductOperator implements ReadComputeOperator {
         return;
       }
 
-      List<Float> hadamardProductResult = ComputeUtils.hadamardProduct(dotProductParam, valueVector);
+      List<Float> hadamardProductResult = ComputeUtils.hadamardProduct(dotProductParam, valueVector, context);
       putResult(resultRecord, resultField, hadamardProductResult);
     } catch (Exception e) {
       putResult(resultRecord, resultField, null);
@@ -0,0 +1,89 @@
+package com.linkedin.venice.compute;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+
+/**
+ * Keeps the k items with the highest scores out of all the items offered to it, using a bounded min-heap so that
+ * selecting among n items costs O(n * log(k)) time and O(k) space.
+ *
+ * {@link #accepts(double)} can be used to skip any expensive preparation of an item (e.g. serialization) which would
+ * be rejected anyway.
+ *
+ * This class is not thread-safe.
+ */
+public class TopKSelector<T> {
+  private static final Comparator<ScoredItem<?>> ASCENDING_SCORE_COMPARATOR =
+      Comparator.comparingDouble(item -> item.score);
+
+  private final int k;
+  private final PriorityQueue<ScoredItem<T>> minHeap;
+
+  public TopKSelector(int k) {
+    if (k < 0) {
+      throw new IllegalArgumentException("k must not be negative, got: " + k);
+    }
+    this.k = k;
+    // The heap never holds more than k + 1 items
+    this.minHeap = new PriorityQueue<>(Math.max(1, Math.min(k, 1024) + 1), ASCENDING_SCORE_COMPARATOR);
+  }
+
+  public int getK() {
+    return k;
+  }
+
+  /**
+   * @return true if an item with the given score would currently be kept by {@link #offer(double, Object)}
+   */
+  public boolean accepts(double score) {
+    if (k == 0 || Double.isNaN(score)) {
+      return false;
+    }
+    return minHeap.size() < k || score > minHeap.peek().score;
+  }
+
+  /**
+   * @return true if the item was kept, which may evict the item with the lowest score
+   */
+  public boolean offer(double score, T item) {
+    if (!accepts(score)) {
+      return false;
+    }
+    minHeap.add(new ScoredItem<>(score, item));
+    if (minHeap.size() > k) {
+      minHeap.poll();
+    }
+    return true;
+  }
+
+  public int size() {
+    return minHeap.size();
+  }
+
+  /**
+   * @return the kept items, from the highest score to the lowest one
+   */
+  public List<T> getItemsInDescendingOrder() {
+    List<ScoredItem<T>> scoredItems = new ArrayList<>(minHeap);
+    scoredItems.sort(Collections.reverseOrder(ASCENDING_SCORE_COMPARATOR));
+    List<T> items = new ArrayList<>(scoredItems.size());
+    for (ScoredItem<T> scoredItem: scoredItems) {
+      items.add(scoredItem.item);
+    }
+    return items;
+  }
+
+  private static class ScoredItem<T> {
+    private final double score;
+    private final T item;
+
+    private ScoredItem(double score, T item) {
+      this.score = score;
+      this.item = item;
+    }
+  }
+}
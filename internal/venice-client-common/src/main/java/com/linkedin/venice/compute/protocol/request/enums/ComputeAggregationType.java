@@ -0,0 +1,35 @@
+package com.linkedin.venice.compute.protocol.request.enums;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.EnumUtils;
+import com.linkedin.venice.utils.VeniceEnumValue;
+
+
+/**
+ * Aggregations which can be computed over the compute result records of a request, see
+ * {@link com.linkedin.venice.compute.protocol.request.ComputeAggregation}.
+ */
+public enum ComputeAggregationType implements VeniceEnumValue {
+  SUM(0), MIN(1), MAX(2), HISTOGRAM(3);
+
+  private final int value;
+  private static final ComputeAggregationType[] TYPES_ARRAY =
+      EnumUtils.getEnumValuesArray(ComputeAggregationType.class);
+
+  ComputeAggregationType(int value) {
+    this.value = value;
+  }
+
+  public static ComputeAggregationType valueOf(int value) {
+    try {
+      return TYPES_ARRAY[value];
+    } catch (IndexOutOfBoundsException e) {
+      throw new VeniceException("Invalid compute aggregation type: " + value);
+    }
+  }
+
+  @Override
+  public int getValue() {
+    return value;
+  }
+}
@@ -19,7 +19,7 @@ import java.util.Map;
  */
 public final class SchemaData {
   private final String storeName;
-  private SchemaEntry keySchema;
+  private volatile SchemaEntry keySchema;
   private final SparseConcurrentList<SchemaEntry> valueSchemaMap;
   private final Map<SchemaEntry, Integer> valueSchemaRMap;
   private final Map<GeneratedSchemaID, DerivedSchemaEntry> updateSchemaMap;
@@ -50,6 +50,17 @@ public final class SchemaData {
     this.rmdSchemaExistenceSet = new SparseConcurrentList<>();
   }
 
+  /**
+   * Copies all the schemas of the given {@link SchemaData}, to build a new snapshot of them without mutating the one
+   * which may be in use.
+   */
+  public SchemaData(SchemaData schemaData) {
+    this(schemaData.getStoreName(), schemaData.getKeySchema());
+    schemaData.getValueSchemas().forEach(this::addValueSchema);
+    schemaData.getDerivedSchemas().forEach(this::addDerivedSchema);
+    schemaData.getReplicationMetadataSchemas().forEach(this::addReplicationMetadataSchema);
+  }
+
   public String getStoreName() {
     return storeName;
   }
@@ -71,11 +82,12 @@ public final class SchemaData {
 
   public void addValueSchema(SchemaEntry valueSchema) {
     // value schema should be unique in store level, same as schema id
+    this.valueSchemaMap.set(valueSchema.getId(), valueSchema);
+    this.valueSchemaRMap.put(valueSchema, Integer.valueOf(valueSchema.getId()));
+    // Bump the max id last, so that a lookup of the max id always finds its schema
     synchronized (this) {
       this.maxValueSchemaId = Math.max(valueSchema.getId(), this.maxValueSchemaId);
     }
-    this.valueSchemaMap.set(valueSchema.getId(), valueSchema);
-    this.valueSchemaRMap.put(valueSchema, Integer.valueOf(valueSchema.getId()));
   }
 
   public DerivedSchemaEntry getDerivedSchema(int valueSchemaId, int derivedSchemaId) {
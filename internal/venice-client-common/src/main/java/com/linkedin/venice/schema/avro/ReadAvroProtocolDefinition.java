@@ -4,7 +4,9 @@ import com.linkedin.venice.compute.protocol.request.ComputeRequestV1;
 import com.linkedin.venice.compute.protocol.request.ComputeRequestV2;
 import com.linkedin.venice.compute.protocol.request.ComputeRequestV3;
 import com.linkedin.venice.compute.protocol.request.ComputeRequestV4;
+import com.linkedin.venice.compute.protocol.request.ComputeRequestV5;
 import com.linkedin.venice.compute.protocol.request.router.ComputeRouterRequestKeyV1;
+import com.linkedin.venice.compute.protocol.response.ComputeAggregationResponseV1;
 import com.linkedin.venice.compute.protocol.response.ComputeResponseRecordV1;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.read.protocol.request.router.MultiGetRouterRequestKeyV1;
@@ -76,11 +78,23 @@ public enum ReadAvroProtocolDefinition {
    */
   COMPUTE_REQUEST_V4(4, Optional.of(ComputeRequestV4.class), Optional.of(ComputeRequestV4.SCHEMA$)),
 
+  /**
+   * Compute request v5. It includes support for top-K and aggregations.
+   */
+  COMPUTE_REQUEST_V5(5, Optional.of(ComputeRequestV5.class), Optional.of(ComputeRequestV5.SCHEMA$)),
+
   /**
    * Response record for compute v1
    */
   COMPUTE_RESPONSE_V1(1, Optional.of(ComputeResponseRecordV1.class), Optional.of(ComputeResponseRecordV1.SCHEMA$)),
 
+  /**
+   * Partial aggregation results for compute v5, sent as the value of a {@link ComputeResponseRecordV1}.
+   */
+  COMPUTE_AGGREGATION_RESPONSE_V1(
+      1, Optional.of(ComputeAggregationResponseV1.class), Optional.of(ComputeAggregationResponseV1.SCHEMA$)
+  ),
+
   /**
    * Router request key for read compute v1.
    */
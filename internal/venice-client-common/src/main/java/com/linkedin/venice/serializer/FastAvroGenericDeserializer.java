@@ -2,7 +2,10 @@ package com.linkedin.venice.serializer;
 
 import com.linkedin.avro.fastserde.FastGenericDatumReader;
 import com.linkedin.avro.fastserde.FastSerdeCache;
+import java.io.IOException;
 import org.apache.avro.Schema;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.Decoder;
 
 
 /**
@@ -11,6 +14,53 @@ import org.apache.avro.Schema;
  */
 public class FastAvroGenericDeserializer<V> extends AvroGenericDeserializer<V> {
   public FastAvroGenericDeserializer(Schema writer, Schema reader, FastSerdeCache cache) {
-    super(new FastGenericDatumReader<>(writer, reader, cache));
+    super(
+        new SlowPathTrackingDatumReader<>(new FastGenericDatumReader<>(writer, reader, cache), writer, reader, cache));
+  }
+
+  /**
+   * Until the fast class of the schema pair is generated, {@link FastGenericDatumReader} falls back to the vanilla
+   * Avro decoder, and this class records the time spent in it, see
+   * {@link FastSerializerDeserializerFactory#getSlowPathDeserializationTimeInNs()}.
+   */
+  private static class SlowPathTrackingDatumReader<V> implements DatumReader<V> {
+    private final DatumReader<V> datumReader;
+    private final Schema writer;
+    private final Schema reader;
+    private final FastSerdeCache cache;
+    private volatile boolean fastClassGenerated = false;
+
+    private SlowPathTrackingDatumReader(
+        DatumReader<V> datumReader,
+        Schema writer,
+        Schema reader,
+        FastSerdeCache cache) {
+      this.datumReader = datumReader;
+      this.writer = writer;
+      this.reader = reader;
+      this.cache = cache;
+    }
+
+    @Override
+    public void setSchema(Schema schema) {
+      datumReader.setSchema(schema);
+    }
+
+    @Override
+    public V read(V reuse, Decoder in) throws IOException {
+      if (fastClassGenerated) {
+        return datumReader.read(reuse, in);
+      }
+      if (FastSerializerDeserializerFactory.isFastGenericDeserializerGenerated(writer, reader, cache)) {
+        fastClassGenerated = true;
+        return datumReader.read(reuse, in);
+      }
+      long startTimeInNs = System.nanoTime();
+      try {
+        return datumReader.read(reuse, in);
+      } finally {
+        FastSerializerDeserializerFactory.recordSlowPathDeserialization(System.nanoTime() - startTimeInNs);
+      }
+    }
   }
 }
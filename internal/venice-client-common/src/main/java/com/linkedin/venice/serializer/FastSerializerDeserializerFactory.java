@@ -10,6 +10,7 @@ import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 import org.apache.avro.Schema;
 import org.apache.avro.specific.SpecificData;
 import org.apache.avro.specific.SpecificRecord;
@@ -33,6 +34,12 @@ public class FastSerializerDeserializerFactory extends SerializerDeserializerFac
 
   private static Map<Schema, AvroSerializer<Object>> avroFastGenericSerializerMap = new VeniceConcurrentHashMap<>();
 
+  /**
+   * The reads done by the vanilla Avro decoder, because the fast class of their schema pair was not generated yet.
+   */
+  private static final LongAdder SLOW_PATH_DESERIALIZATION_COUNT = new LongAdder();
+  private static final LongAdder SLOW_PATH_DESERIALIZATION_TIME_NS = new LongAdder();
+
   /**
    * Verify whether fast-avro could generate a fast specific deserializer, but there is no guarantee that
    * the success of all other fast specific deserializer generation in the future.
@@ -91,13 +98,43 @@ public class FastSerializerDeserializerFactory extends SerializerDeserializerFac
         Collections.singletonList(VeniceException.class));
   }
 
+  /**
+   * Generates the fast class of the schema pair in the calling thread, instead of the thread pool of the fast-avro
+   * cache, and caches it for the later reads.
+   */
+  public static void buildFastAvroGenericDeserializer(Schema writerSchema, Schema readerSchema) {
+    if (!cache.buildFastGenericDeserializer(writerSchema, readerSchema).hasDynamicClassGenerationDone()) {
+      throw new VeniceException("Failed to generate fast generic de-serializer for Avro schema  " + writerSchema);
+    }
+  }
+
   private static void tryCacheFastGenericDeserializer(Schema writerSchema, Schema readerSchema) {
-    FastDeserializer<?> fastDeserializer = cache.getFastGenericDeserializer(writerSchema, readerSchema);
-    if (!fastDeserializer.hasDynamicClassGenerationDone()) {
+    if (!isFastGenericDeserializerGenerated(writerSchema, readerSchema, cache)) {
       throw new VeniceException("Failed to generate fast generic de-serializer for Avro schema  " + writerSchema);
     }
   }
 
+  /**
+   * @return whether the fast class of the schema pair is generated, triggering its generation otherwise
+   */
+  static boolean isFastGenericDeserializerGenerated(Schema writerSchema, Schema readerSchema, FastSerdeCache cache) {
+    FastDeserializer<?> fastDeserializer = cache.getFastGenericDeserializer(writerSchema, readerSchema);
+    return fastDeserializer.hasDynamicClassGenerationDone();
+  }
+
+  static void recordSlowPathDeserialization(long latencyInNs) {
+    SLOW_PATH_DESERIALIZATION_COUNT.increment();
+    SLOW_PATH_DESERIALIZATION_TIME_NS.add(latencyInNs);
+  }
+
+  public static long getSlowPathDeserializationCount() {
+    return SLOW_PATH_DESERIALIZATION_COUNT.sum();
+  }
+
+  public static long getSlowPathDeserializationTimeInNs() {
+    return SLOW_PATH_DESERIALIZATION_TIME_NS.sum();
+  }
+
   public static <V> RecordDeserializer<V> getFastAvroGenericDeserializer(Schema writer, Schema reader) {
     SchemaPairAndClassContainer container = new SchemaPairAndClassContainer(writer, reader, Object.class);
     return (AvroGenericDeserializer<V>) avroFastGenericDeserializerMap
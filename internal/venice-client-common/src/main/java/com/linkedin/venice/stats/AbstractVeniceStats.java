@@ -59,6 +59,18 @@ public class AbstractVeniceStats {
     }
   }
 
+  /**
+   * Registers the gauges of a new {@link StripedStatsSensor} under the same metric names as a sensor made of
+   * {@link TehutiUtils#getPercentileStatWithAvgAndMax(String, String)} would have, so that reporters cannot tell them
+   * apart.
+   */
+  protected StripedStatsSensor registerStripedStatsSensor(String sensorName, StripedStatsSensor parent) {
+    StripedStatsSensor sensor = new StripedStatsSensor(parent);
+    sensor.getGauges()
+        .forEach((attributeName, gauge) -> registerSensorAttributeGauge(sensorName, attributeName, gauge));
+    return sensor;
+  }
+
   protected Sensor registerSensor(String sensorName, Sensor[] parents, MeasurableStat... stats) {
     return registerSensor(getSensorFullName(getName(), sensorName), null, parents, stats);
   }
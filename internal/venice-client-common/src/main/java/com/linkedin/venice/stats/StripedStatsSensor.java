@@ -0,0 +1,221 @@
+package com.linkedin.venice.stats;
+
+import com.linkedin.venice.utils.SystemTime;
+import com.linkedin.venice.utils.Time;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.DoubleConsumer;
+import java.util.function.ToDoubleFunction;
+
+
+/**
+ * A low overhead alternative to a {@link io.tehuti.metrics.Sensor} made of {@link io.tehuti.metrics.stats.Percentiles},
+ * {@link io.tehuti.metrics.stats.Avg} and {@link io.tehuti.metrics.stats.Max}, for the latencies recorded on every
+ * request, whose synchronized recording into Tehuti sensors shows up in profiles.
+ *
+ * The samples are counted in a log-linear histogram, which is striped by thread so that concurrent recordings mostly
+ * update different cache lines, and only merged when the metrics get measured. Recording thus never locks: it is a
+ * couple of atomic updates on the stripe of the current thread, plus the same on the parent, if any, which is how the
+ * total of all the stores is kept. Each bucket of the histogram spans 1/16th of a power of two, so the percentiles
+ * are reported within ~3% of the samples, while the average and the max are exact.
+ *
+ * This metric class has the same trade-off as {@link LongAdderRateGauge}: the metrics are computed over the samples
+ * recorded since the previous measurement rather than over sliding windows, and they are cached for
+ * {@link LongAdderRateGauge#RATE_GAUGE_CACHE_DURATION_IN_SECONDS}, so that all the metrics of a collection come from
+ * the same samples.
+ */
+public class StripedStatsSensor implements DoubleConsumer {
+  /**
+   * The samples are accumulated as longs, with a precision of a thousandth of their unit, e.g. microseconds for
+   * latencies in milliseconds.
+   */
+  static final double SCALE = 1000;
+
+  private static final int SUB_BUCKET_BITS = 4;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  // Values are capped at 2^40 / SCALE, i.e. ~12 days for latencies in milliseconds
+  private static final int VALUE_BITS = 40;
+  private static final long MAX_VALUE = (1L << VALUE_BITS) - 1;
+  static final int BUCKET_COUNT = (VALUE_BITS - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+  private static final int STRIPE_COUNT =
+      Math.min(8, Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1));
+
+  private static final long CACHE_DURATION_MS =
+      LongAdderRateGauge.RATE_GAUGE_CACHE_DURATION_IN_SECONDS * Time.MS_PER_SECOND;
+
+  /**
+   * The metrics are reported under the same names as the ones of
+   * {@link TehutiUtils#getPercentileStatWithAvgAndMax(String, String)}.
+   */
+  private static final Map<String, ToDoubleFunction<Snapshot>> METRICS = new LinkedHashMap<>();
+  static {
+    METRICS.put("50thPercentile", snapshot -> snapshot.getPercentile(50));
+    METRICS.put("95thPercentile", snapshot -> snapshot.getPercentile(95));
+    METRICS.put("99thPercentile", snapshot -> snapshot.getPercentile(99));
+    METRICS.put("Avg", Snapshot::getAvg);
+    METRICS.put("Max", Snapshot::getMax);
+  }
+
+  // The stripes are only allocated once a thread mapped to them records something
+  private final AtomicReferenceArray<Stripe> stripes = new AtomicReferenceArray<>(STRIPE_COUNT);
+  private final StripedStatsSensor parent;
+  private final Time time;
+  private long lastMeasurementTime;
+  private Snapshot lastSnapshot;
+
+  public StripedStatsSensor(StripedStatsSensor parent) {
+    this(parent, new SystemTime());
+  }
+
+  public StripedStatsSensor(StripedStatsSensor parent, Time time) {
+    this.parent = parent;
+    this.time = time;
+    this.lastMeasurementTime = time.getMilliseconds();
+  }
+
+  public void record(double value) {
+    long scaledValue = Math.max(0, Math.min(MAX_VALUE, Math.round(value * SCALE)));
+    getStripe().record(scaledValue);
+    if (parent != null) {
+      parent.record(value);
+    }
+  }
+
+  @Override
+  public void accept(double value) {
+    record(value);
+  }
+
+  /**
+   * @return the gauges to register for this sensor, by attribute name
+   */
+  public Map<String, Gauge> getGauges() {
+    Map<String, Gauge> gauges = new LinkedHashMap<>();
+    METRICS.forEach((attributeName, metric) -> gauges.put(attributeName, new Gauge(() -> measure(metric))));
+    return gauges;
+  }
+
+  private double measure(ToDoubleFunction<Snapshot> metric) {
+    return metric.applyAsDouble(getSnapshot());
+  }
+
+  /**
+   * N.B.: Like {@link LongAdderRateGauge}, this is meant to be queried by the metric system ~1/minute.
+   */
+  private synchronized Snapshot getSnapshot() {
+    long currentTimeMs = time.getMilliseconds();
+    if (lastSnapshot == null || currentTimeMs - lastMeasurementTime >= CACHE_DURATION_MS) {
+      lastMeasurementTime = currentTimeMs;
+      lastSnapshot = new Snapshot();
+      for (int i = 0; i < STRIPE_COUNT; i++) {
+        Stripe stripe = stripes.get(i);
+        if (stripe != null) {
+          stripe.drainTo(lastSnapshot);
+        }
+      }
+    }
+    return lastSnapshot;
+  }
+
+  private Stripe getStripe() {
+    int index = (int) Thread.currentThread().getId() & (STRIPE_COUNT - 1);
+    Stripe stripe = stripes.get(index);
+    if (stripe == null) {
+      stripes.compareAndSet(index, null, new Stripe());
+      stripe = stripes.get(index);
+    }
+    return stripe;
+  }
+
+  /**
+   * Values below 2 * {@link #SUB_BUCKET_COUNT} have a bucket each. Above, each power of two is split into
+   * {@link #SUB_BUCKET_COUNT} buckets, indexed by the bits following the highest one bit.
+   */
+  static int getBucketIndex(long scaledValue) {
+    if (scaledValue < 2 * SUB_BUCKET_COUNT) {
+      return (int) scaledValue;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(scaledValue);
+    int subBucket = (int) (scaledValue >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+  }
+
+  /**
+   * @return the value in the middle of the bucket
+   */
+  static double getBucketValue(int bucketIndex) {
+    if (bucketIndex < 2 * SUB_BUCKET_COUNT) {
+      return bucketIndex;
+    }
+    int exponent = bucketIndex / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+    int subBucket = bucketIndex & (SUB_BUCKET_COUNT - 1);
+    long bucketWidth = 1L << (exponent - SUB_BUCKET_BITS);
+    return (SUB_BUCKET_COUNT + subBucket) * bucketWidth + (bucketWidth - 1) / 2.0;
+  }
+
+  private static final class Stripe {
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong(-1);
+
+    private void record(long scaledValue) {
+      counts.getAndIncrement(getBucketIndex(scaledValue));
+      sum.getAndAdd(scaledValue);
+      long currentMax;
+      while ((currentMax = max.get()) < scaledValue && !max.compareAndSet(currentMax, scaledValue)) {
+        // Retry until this value is recorded, or a larger one was
+      }
+    }
+
+    /**
+     * Each counter is reset atomically, so the samples recorded concurrently are either part of this snapshot or of
+     * the next one.
+     */
+    private void drainTo(Snapshot snapshot) {
+      for (int i = 0; i < BUCKET_COUNT; i++) {
+        if (counts.get(i) > 0) {
+          long count = counts.getAndSet(i, 0);
+          snapshot.counts[i] += count;
+          snapshot.count += count;
+        }
+      }
+      snapshot.sum += sum.getAndSet(0);
+      snapshot.max = Math.max(snapshot.max, max.getAndSet(-1));
+    }
+  }
+
+  private static final class Snapshot {
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long count = 0;
+    private long sum = 0;
+    private long max = -1;
+
+    private double getPercentile(double percentile) {
+      if (count == 0) {
+        return Double.NaN;
+      }
+      long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+      long seen = 0;
+      for (int i = 0; i < BUCKET_COUNT; i++) {
+        seen += counts[i];
+        if (seen >= rank) {
+          // The middle of the bucket might be above the largest sample
+          return Math.min(getBucketValue(i), max) / SCALE;
+        }
+      }
+      return max / SCALE;
+    }
+
+    private double getAvg() {
+      return count == 0 ? Double.NaN : sum / SCALE / count;
+    }
+
+    private double getMax() {
+      return max < 0 ? Double.NaN : max / SCALE;
+    }
+  }
+}
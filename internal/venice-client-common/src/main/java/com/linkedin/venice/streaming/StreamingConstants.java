@@ -12,6 +12,12 @@ public class StreamingConstants {
    */
   public static final int KEY_ID_FOR_STREAMING_FOOTER = -1000000;
 
+  /**
+   * Special key id of the compute response records carrying partial aggregation results, whose value is a serialized
+   * {@link com.linkedin.venice.compute.protocol.response.ComputeAggregationResponseV1}.
+   */
+  public static final int KEY_ID_FOR_COMPUTE_AGGREGATION = -1000001;
+
   private StreamingConstants() {
   }
 }
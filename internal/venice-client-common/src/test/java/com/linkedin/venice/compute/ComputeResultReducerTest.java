@@ -0,0 +1,151 @@
+package com.linkedin.venice.compute;
+
+import com.linkedin.venice.compute.protocol.request.ComputeAggregation;
+import com.linkedin.venice.compute.protocol.request.TopK;
+import com.linkedin.venice.compute.protocol.request.enums.ComputeAggregationType;
+import com.linkedin.venice.compute.protocol.response.ComputeAggregationResponseV1;
+import com.linkedin.venice.exceptions.VeniceException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class ComputeResultReducerTest {
+  private static final Schema RESULT_SCHEMA = SchemaBuilder.record("Result")
+      .fields()
+      .name("score")
+      .type()
+      .optional()
+      .floatType()
+      .name("count")
+      .type()
+      .intType()
+      .noDefault()
+      .name("name")
+      .type()
+      .stringType()
+      .noDefault()
+      .endRecord();
+
+  private static GenericRecord result(Float score, int count) {
+    GenericRecord record = new GenericData.Record(RESULT_SCHEMA);
+    record.put("score", score);
+    record.put("count", count);
+    record.put("name", "name");
+    return record;
+  }
+
+  private static ComputeAggregation aggregation(
+      ComputeAggregationType type,
+      String field,
+      String resultFieldName,
+      List<Double> bucketBoundaries) {
+    ComputeAggregation aggregation = new ComputeAggregation();
+    aggregation.aggregationType = type.getValue();
+    aggregation.field = field;
+    aggregation.resultFieldName = resultFieldName;
+    aggregation.bucketBoundaries = bucketBoundaries;
+    return aggregation;
+  }
+
+  private static List<ComputeAggregation> allAggregations() {
+    return Arrays.asList(
+        aggregation(ComputeAggregationType.SUM, "count", "sum", Collections.emptyList()),
+        aggregation(ComputeAggregationType.MIN, "score", "min", Collections.emptyList()),
+        aggregation(ComputeAggregationType.MAX, "score", "max", Collections.emptyList()),
+        aggregation(ComputeAggregationType.HISTOGRAM, "score", "histogram", Arrays.asList(0.0, 10.0)));
+  }
+
+  @Test
+  public void testAccumulate() {
+    ComputeResultReducer reducer = new ComputeResultReducer(new TopK("score", 2), allAggregations());
+    reducer.accumulate("a", result(5f, 1));
+    reducer.accumulate("b", result(null, 2));
+    reducer.accumulate("c", result(-1f, 3));
+    reducer.accumulate("d", result(10f, 4));
+    // Duplicate key, e.g. because of a retry
+    reducer.accumulate("d", result(10f, 4));
+
+    List<Map.Entry<Object, GenericRecord>> topKRecords = reducer.getTopKRecords();
+    Assert.assertEquals(topKRecords.size(), 2);
+    Assert.assertEquals(topKRecords.get(0).getKey(), "d");
+    Assert.assertEquals(topKRecords.get(1).getKey(), "a");
+
+    ComputeAggregator aggregator = reducer.getAggregator();
+    Assert.assertEquals(aggregator.getValue(aggregator.indexOf("sum")), 10.0);
+    Assert.assertEquals(aggregator.getCount(aggregator.indexOf("sum")), 4);
+    Assert.assertEquals(aggregator.getValue(aggregator.indexOf("min")), -1.0);
+    Assert.assertEquals(aggregator.getValue(aggregator.indexOf("max")), 10.0);
+    Assert.assertEquals(aggregator.getCount(aggregator.indexOf("max")), 3);
+    // 10 is a boundary, so it belongs to the last bucket
+    Assert.assertEquals(aggregator.getBucketCounts(aggregator.indexOf("histogram")), Arrays.asList(1L, 1L, 1L));
+  }
+
+  @Test
+  public void testMergePartialAggregations() {
+    ComputeAggregator partition0 = new ComputeAggregator(allAggregations());
+    partition0.accumulate(result(1f, 1));
+    partition0.accumulate(result(20f, 2));
+    ComputeAggregator partition1 = new ComputeAggregator(allAggregations());
+    partition1.accumulate(result(null, 5));
+
+    ComputeResultReducer reducer = new ComputeResultReducer(null, allAggregations());
+    ComputeAggregationResponseV1 partialResponse0 = partition0.toPartialResponse(0);
+    reducer.mergePartialAggregations(partialResponse0);
+    // Duplicate partition, e.g. because of a retry
+    reducer.mergePartialAggregations(Arrays.asList(partition1.toPartialResponse(1), partialResponse0));
+    Assert.assertTrue(reducer.getTopKRecords().isEmpty());
+
+    ComputeAggregator aggregator = reducer.getAggregator();
+    Assert.assertEquals(aggregator.getValue(aggregator.indexOf("sum")), 8.0);
+    Assert.assertEquals(aggregator.getValue(aggregator.indexOf("min")), 1.0);
+    Assert.assertEquals(aggregator.getValue(aggregator.indexOf("max")), 20.0);
+    Assert.assertEquals(aggregator.getBucketCounts(aggregator.indexOf("histogram")), Arrays.asList(0L, 1L, 1L));
+
+    // Serialization round trip of the partial results
+    ComputeAggregationResponseV1 deserialized = ComputeUtils
+        .deserializeComputeAggregationResponse(ComputeUtils.serializeComputeAggregationResponse(partialResponse0));
+    Assert.assertEquals(deserialized.partitionId, 0);
+    Assert.assertEquals(deserialized.results.size(), allAggregations().size());
+    Assert.assertEquals(deserialized.results.get(0).count, 2);
+  }
+
+  @Test
+  public void testEmptyAggregations() {
+    ComputeResultReducer reducer = new ComputeResultReducer(null, allAggregations());
+    ComputeAggregator aggregator = reducer.getAggregator();
+    Assert.assertEquals(aggregator.getValue(aggregator.indexOf("sum")), 0.0);
+    Assert.assertNull(aggregator.getValue(aggregator.indexOf("min")));
+    Assert.assertNull(aggregator.getValue(aggregator.indexOf("max")));
+    Assert.assertEquals(aggregator.indexOf("unknown"), -1);
+  }
+
+  @Test
+  public void testCheckComputeReduction() {
+    ComputeUtils.checkComputeReduction(new TopK("score", 1), allAggregations(), RESULT_SCHEMA);
+    Assert.assertThrows(
+        VeniceException.class,
+        () -> ComputeUtils.checkComputeReduction(new TopK("name", 1), Collections.emptyList(), RESULT_SCHEMA));
+    Assert.assertThrows(
+        VeniceException.class,
+        () -> ComputeUtils.checkComputeReduction(new TopK("missing", 1), Collections.emptyList(), RESULT_SCHEMA));
+    List<ComputeAggregation> duplicateNames = new ArrayList<>(allAggregations());
+    duplicateNames.add(aggregation(ComputeAggregationType.SUM, "score", "sum", Collections.emptyList()));
+    Assert.assertThrows(
+        VeniceException.class,
+        () -> ComputeUtils.checkComputeReduction(null, duplicateNames, RESULT_SCHEMA));
+    Assert.assertThrows(
+        VeniceException.class,
+        () -> new ComputeAggregator(
+            Collections.singletonList(
+                aggregation(ComputeAggregationType.HISTOGRAM, "score", "histogram", Arrays.asList(1.0, 1.0)))));
+  }
+}
@@ -9,6 +9,7 @@ import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
 import com.linkedin.venice.VeniceConstants;
 import com.linkedin.venice.compute.protocol.request.ComputeOperation;
 import com.linkedin.venice.compute.protocol.request.Count;
+import com.linkedin.venice.compute.protocol.request.DotProduct;
 import com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -17,6 +18,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeSet;
 import org.apache.avro.Schema;
 import org.apache.avro.SchemaBuilder;
 import org.apache.avro.generic.GenericData;
@@ -159,6 +161,133 @@ public class ComputeUtilsTest {
     Assert.assertEquals(result, expectedOutput);
   }
 
+  @Test
+  public void testFloatArrayBackedListMatchesListBasedKernels() {
+    int size = 1023;
+    List<Float> list1 = new ArrayList<>(size);
+    List<Float> list2 = new ArrayList<>(size);
+    FloatArrayBackedList floatArrayList1 = new FloatArrayBackedList();
+    FloatArrayBackedList floatArrayList2 = new FloatArrayBackedList();
+    for (int i = 0; i < size; i++) {
+      float value1 = (float) Math.sin(i);
+      float value2 = (float) Math.cos(i) / (i + 1);
+      list1.add(value1);
+      list2.add(value2);
+      floatArrayList1.addPrimitive(value1);
+      floatArrayList2.addPrimitive(value2);
+    }
+
+    // The primitive kernels must be bit-identical to the list-based ones.
+    Assert.assertEquals(
+        Float.floatToIntBits(ComputeUtils.dotProduct(floatArrayList1, floatArrayList2)),
+        Float.floatToIntBits(ComputeUtils.dotProduct(list1, list2)));
+    Assert.assertEquals(
+        Float.floatToIntBits(ComputeUtils.squaredL2Norm(floatArrayList1)),
+        Float.floatToIntBits(ComputeUtils.squaredL2Norm(list1)));
+    Assert.assertEquals(
+        ComputeUtils.hadamardProduct(floatArrayList1, floatArrayList2),
+        ComputeUtils.hadamardProduct(list1, list2));
+
+    Map<String, Object> context = new HashMap<>();
+    Assert.assertEquals(
+        Float.floatToIntBits(ComputeUtils.dotProduct(list1, floatArrayList2, context)),
+        Float.floatToIntBits(ComputeUtils.dotProduct(list1, list2)));
+    Assert.assertEquals(
+        ComputeUtils.hadamardProduct(list1, floatArrayList2, context),
+        ComputeUtils.hadamardProduct(list1, list2));
+    // The primitive copy of the param must be cached and reused
+    Assert
+        .assertSame(ComputeUtils.getCachedFloatArray(list1, context), ComputeUtils.getCachedFloatArray(list1, context));
+  }
+
+  @Test
+  public void testGetFloatVectorProjectionFields() {
+    Schema valueSchema = SchemaBuilder.record("Value")
+        .fields()
+        .name("id")
+        .type()
+        .stringType()
+        .noDefault()
+        .name("embedding")
+        .type()
+        .array()
+        .items()
+        .floatType()
+        .noDefault()
+        .name("nullableEmbedding")
+        .type()
+        .nullable()
+        .array()
+        .items()
+        .floatType()
+        .noDefault()
+        .name("tags")
+        .type()
+        .array()
+        .items()
+        .stringType()
+        .noDefault()
+        .endRecord();
+    Schema resultSchema = SchemaBuilder.record("Result")
+        .fields()
+        .name("embedding_score")
+        .type()
+        .nullable()
+        .floatType()
+        .noDefault()
+        .name("nullableEmbedding_score")
+        .type()
+        .nullable()
+        .floatType()
+        .noDefault()
+        .endRecord();
+
+    List<ComputeOperation> operations = new ArrayList<>();
+    operations.add(createDotProductOperation("embedding", "embedding_score"));
+    operations.add(createDotProductOperation("nullableEmbedding", "nullableEmbedding_score"));
+    Assert.assertEquals(
+        ComputeUtils.getFloatVectorProjectionFields(operations, resultSchema, valueSchema),
+        new TreeSet<>(Arrays.asList("embedding", "nullableEmbedding")));
+
+    // Projecting any other value field requires the full record
+    Schema resultSchemaWithProjection = SchemaBuilder.record("Result")
+        .fields()
+        .name("id")
+        .type()
+        .stringType()
+        .noDefault()
+        .name("embedding_score")
+        .type()
+        .nullable()
+        .floatType()
+        .noDefault()
+        .endRecord();
+    Assert.assertNull(
+        ComputeUtils.getFloatVectorProjectionFields(operations.subList(0, 1), resultSchemaWithProjection, valueSchema));
+
+    // Operating on anything else than a float vector is not eligible either
+    ComputeOperation countOperation = new ComputeOperation();
+    countOperation.setOperationType(ComputeOperationType.COUNT.getValue());
+    Count count = new Count();
+    count.setField("tags");
+    count.setResultFieldName("embedding_score");
+    countOperation.setOperation(count);
+    Assert.assertNull(
+        ComputeUtils
+            .getFloatVectorProjectionFields(Collections.singletonList(countOperation), resultSchema, valueSchema));
+  }
+
+  private static ComputeOperation createDotProductOperation(String fieldName, String resultFieldName) {
+    DotProduct dotProduct = new DotProduct();
+    dotProduct.setField(fieldName);
+    dotProduct.setResultFieldName(resultFieldName);
+    dotProduct.setDotProductParam(Arrays.asList(1.0f, 2.0f));
+    ComputeOperation operation = new ComputeOperation();
+    operation.setOperationType(ComputeOperationType.DOT_PRODUCT.getValue());
+    operation.setOperation(dotProduct);
+    return operation;
+  }
+
   private static GenericRecord createGetNullableFieldValueAsListRecord() {
     Schema schema = SchemaBuilder.record("SampleSchema")
         .fields()
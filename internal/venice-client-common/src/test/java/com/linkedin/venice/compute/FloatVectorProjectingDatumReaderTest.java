@@ -0,0 +1,162 @@
+package com.linkedin.venice.compute;
+
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class FloatVectorProjectingDatumReaderTest {
+  private static final Schema VALUE_SCHEMA = SchemaBuilder.record("Value")
+      .fields()
+      .name("id")
+      .type()
+      .stringType()
+      .noDefault()
+      .name("embedding")
+      .type()
+      .array()
+      .items()
+      .floatType()
+      .noDefault()
+      .name("attributes")
+      .type()
+      .map()
+      .values()
+      .stringType()
+      .noDefault()
+      .name("nullableEmbedding")
+      .type()
+      .nullable()
+      .array()
+      .items()
+      .floatType()
+      .noDefault()
+      .name("count")
+      .type()
+      .intType()
+      .noDefault()
+      .endRecord();
+
+  private static final Set<String> VECTOR_FIELDS = new TreeSet<>(Arrays.asList("embedding", "nullableEmbedding"));
+
+  @Test
+  public void testProjectedDecodingMatchesFullDecoding() {
+    GenericRecord value = createValue("key", 1000, true);
+    byte[] bytes = serialize(value);
+
+    GenericRecord projected =
+        new FloatVectorProjectingDeserializer(VALUE_SCHEMA, VALUE_SCHEMA, VECTOR_FIELDS).deserialize(bytes);
+    RecordDeserializer<GenericRecord> fullDeserializer =
+        SerializerDeserializerFactory.getAvroGenericDeserializer(VALUE_SCHEMA, VALUE_SCHEMA);
+    GenericRecord full = fullDeserializer.deserialize(bytes);
+
+    Assert.assertTrue(projected.get("embedding") instanceof FloatArrayBackedList);
+    Assert.assertEquals(projected.get("embedding"), full.get("embedding"));
+    Assert.assertEquals(projected.get("nullableEmbedding"), full.get("nullableEmbedding"));
+    // Fields which are not requested are not materialized
+    Assert.assertNull(projected.get("id"));
+    Assert.assertNull(projected.get("attributes"));
+    Assert.assertNull(projected.get("count"));
+  }
+
+  @Test
+  public void testNullVectorAndRecordReuse() {
+    FloatVectorProjectingDeserializer deserializer =
+        new FloatVectorProjectingDeserializer(VALUE_SCHEMA, VALUE_SCHEMA, VECTOR_FIELDS);
+    GenericRecord reuse = new GenericData.Record(VALUE_SCHEMA);
+    reuse.put("id", "stale");
+
+    GenericRecord first = deserializer.deserialize(reuse, serialize(createValue("key1", 64, true)));
+    Assert.assertSame(first, reuse);
+    Assert.assertNull(first.get("id"));
+    Object firstEmbedding = first.get("embedding");
+    Assert.assertEquals(((List<Float>) firstEmbedding).size(), 64);
+
+    GenericRecord second = deserializer.deserialize(first, serialize(createValue("key2", 32, false)));
+    Assert.assertNull(second.get("nullableEmbedding"));
+    // The vector is decoded into the same instance
+    Assert.assertSame(second.get("embedding"), firstEmbedding);
+    Assert.assertEquals(((List<Float>) second.get("embedding")).size(), 32);
+    Assert.assertEquals(((List<Float>) second.get("embedding")).get(31), 31.0f);
+  }
+
+  @Test
+  public void testSchemaEvolution() {
+    // The reader only knows about the vector fields, while the writer has them at different positions
+    Schema readerSchema = SchemaBuilder.record("Value")
+        .fields()
+        .name("nullableEmbedding")
+        .type()
+        .nullable()
+        .array()
+        .items()
+        .floatType()
+        .noDefault()
+        .name("embedding")
+        .type()
+        .array()
+        .items()
+        .floatType()
+        .noDefault()
+        .endRecord();
+    Assert.assertTrue(FloatVectorProjectingDatumReader.isSupported(VALUE_SCHEMA, readerSchema, VECTOR_FIELDS));
+
+    GenericRecord value = createValue("key", 16, true);
+    GenericRecord projected =
+        new FloatVectorProjectingDeserializer(VALUE_SCHEMA, readerSchema, VECTOR_FIELDS).deserialize(serialize(value));
+    Assert.assertEquals(projected.get("embedding"), value.get("embedding"));
+    Assert.assertEquals(projected.get("nullableEmbedding"), value.get("nullableEmbedding"));
+  }
+
+  @Test
+  public void testUnsupportedSchemas() {
+    Assert.assertFalse(
+        FloatVectorProjectingDatumReader
+            .isSupported(VALUE_SCHEMA, VALUE_SCHEMA, new TreeSet<>(Collections.singletonList("attributes"))));
+    Assert.assertFalse(
+        FloatVectorProjectingDatumReader
+            .isSupported(VALUE_SCHEMA, VALUE_SCHEMA, new TreeSet<>(Collections.singletonList("missing"))));
+    Assert.assertFalse(FloatVectorProjectingDatumReader.isSupported(VALUE_SCHEMA, VALUE_SCHEMA, new TreeSet<>()));
+
+    Schema writerSchemaWithoutVector = SchemaBuilder.record("Value").fields().requiredString("id").endRecord();
+    Assert.assertFalse(
+        FloatVectorProjectingDatumReader.isSupported(writerSchemaWithoutVector, VALUE_SCHEMA, VECTOR_FIELDS));
+    Assert.assertThrows(
+        () -> new FloatVectorProjectingDatumReader(writerSchemaWithoutVector, VALUE_SCHEMA, VECTOR_FIELDS));
+  }
+
+  private static GenericRecord createValue(String id, int dimension, boolean withNullableEmbedding) {
+    List<Float> embedding = new ArrayList<>(dimension);
+    for (int i = 0; i < dimension; i++) {
+      embedding.add((float) i);
+    }
+    Map<String, String> attributes = new HashMap<>();
+    attributes.put("color", "blue");
+    GenericRecord value = new GenericData.Record(VALUE_SCHEMA);
+    value.put("id", id);
+    value.put("embedding", embedding);
+    value.put("attributes", attributes);
+    value.put("nullableEmbedding", withNullableEmbedding ? Arrays.asList(0.5f, -1.5f, 2.5f) : null);
+    value.put("count", dimension);
+    return value;
+  }
+
+  private static byte[] serialize(GenericRecord record) {
+    RecordSerializer<GenericRecord> serializer = SerializerDeserializerFactory.getAvroGenericSerializer(VALUE_SCHEMA);
+    return serializer.serialize(record);
+  }
+}
@@ -0,0 +1,47 @@
+package com.linkedin.venice.compute;
+
+import java.util.Arrays;
+import java.util.Collections;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TopKSelectorTest {
+  @Test
+  public void testSelectsHighestScores() {
+    TopKSelector<String> selector = new TopKSelector<>(3);
+    double[] scores = { 5, 1, 9, 3, 7, 2, 8 };
+    for (double score: scores) {
+      selector.offer(score, "item_" + (int) score);
+    }
+    Assert.assertEquals(selector.size(), 3);
+    Assert.assertEquals(selector.getItemsInDescendingOrder(), Arrays.asList("item_9", "item_8", "item_7"));
+  }
+
+  @Test
+  public void testAccepts() {
+    TopKSelector<String> selector = new TopKSelector<>(2);
+    Assert.assertTrue(selector.offer(1, "a"));
+    Assert.assertTrue(selector.offer(3, "b"));
+    // Full heap, only scores above the current minimum are accepted
+    Assert.assertFalse(selector.accepts(1));
+    Assert.assertTrue(selector.accepts(2));
+    Assert.assertFalse(selector.accepts(Double.NaN));
+    Assert.assertFalse(selector.offer(0.5, "c"));
+    Assert.assertTrue(selector.offer(2, "d"));
+    Assert.assertEquals(selector.getItemsInDescendingOrder(), Arrays.asList("b", "d"));
+  }
+
+  @Test
+  public void testZeroK() {
+    TopKSelector<String> selector = new TopKSelector<>(0);
+    Assert.assertFalse(selector.accepts(Double.MAX_VALUE));
+    Assert.assertFalse(selector.offer(1, "a"));
+    Assert.assertEquals(selector.getItemsInDescendingOrder(), Collections.emptyList());
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testNegativeK() {
+    new TopKSelector<>(-1);
+  }
+}
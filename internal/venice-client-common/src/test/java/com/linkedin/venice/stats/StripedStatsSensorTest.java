@@ -0,0 +1,96 @@
+package com.linkedin.venice.stats;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.venice.utils.TestMockTime;
+import com.linkedin.venice.utils.Time;
+import io.tehuti.metrics.MetricsRepository;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.testng.annotations.Test;
+
+
+public class StripedStatsSensorTest {
+  private static final long CACHE_DURATION_MS =
+      LongAdderRateGauge.RATE_GAUGE_CACHE_DURATION_IN_SECONDS * Time.MS_PER_SECOND;
+
+  @Test
+  public void testBuckets() {
+    int previousIndex = -1;
+    for (long value = 0; value < 1_000_000; value++) {
+      int index = StripedStatsSensor.getBucketIndex(value);
+      assertTrue(index == previousIndex || index == previousIndex + 1, "Buckets must be contiguous at " + value);
+      // The middle of the bucket is within 1/32nd of any value of the bucket
+      assertEquals(StripedStatsSensor.getBucketValue(index), value, value / 32.0 + 0.5);
+      previousIndex = index;
+    }
+    assertEquals(StripedStatsSensor.getBucketIndex((1L << 40) - 1), StripedStatsSensor.BUCKET_COUNT - 1);
+  }
+
+  @Test
+  public void testMetricsAcrossThreads() throws InterruptedException {
+    TestMockTime time = new TestMockTime();
+    StripedStatsSensor total = new StripedStatsSensor(null, time);
+    StripedStatsSensor sensor = new StripedStatsSensor(total, time);
+    Map<String, Gauge> gauges = sensor.getGauges();
+    Map<String, Gauge> totalGauges = total.getGauges();
+
+    int threadCount = 4;
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    try {
+      for (int i = 0; i < threadCount; i++) {
+        executor.submit(() -> {
+          for (int j = 1; j <= 100; j++) {
+            sensor.record(j / 10.0);
+          }
+        });
+      }
+    } finally {
+      executor.shutdown();
+      assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+    total.record(20.0);
+
+    assertEquals(measure(gauges, "Max"), 10.0);
+    assertEquals(measure(gauges, "Avg"), 5.05, 0.001);
+    assertEquals(measure(gauges, "50thPercentile"), 5.0, 5.0 / 16);
+    assertEquals(measure(gauges, "95thPercentile"), 9.5, 9.5 / 16);
+    assertEquals(measure(gauges, "99thPercentile"), 9.9, 9.9 / 16);
+    assertEquals(measure(totalGauges, "Max"), 20.0);
+    assertEquals(measure(totalGauges, "Avg"), (5.05 * 400 + 20.0) / 401, 0.001);
+
+    // The measurements are cached
+    sensor.record(100.0);
+    assertEquals(measure(gauges, "Max"), 10.0);
+    time.addMilliseconds(CACHE_DURATION_MS);
+    assertEquals(measure(gauges, "Max"), 100.0);
+    assertEquals(measure(gauges, "Avg"), 100.0);
+    assertEquals(measure(gauges, "50thPercentile"), 100.0, 100.0 / 16);
+
+    // Nothing was recorded since the previous measurement
+    time.addMilliseconds(CACHE_DURATION_MS);
+    for (String attributeName: gauges.keySet()) {
+      assertTrue(Double.isNaN(measure(gauges, attributeName)), attributeName);
+    }
+  }
+
+  @Test
+  public void testMetricNames() {
+    MetricsRepository metricsRepository = new MetricsRepository();
+    AbstractVeniceStats stats = new AbstractVeniceStats(metricsRepository, "store");
+    StripedStatsSensor sensor = stats.registerStripedStatsSensor("latency", null);
+    sensor.record(1.0);
+    for (String attributeName: new String[] { "50thPercentile", "95thPercentile", "99thPercentile", "Avg", "Max" }) {
+      assertNotNull(metricsRepository.getMetric(".store--latency." + attributeName), attributeName);
+    }
+    assertEquals(metricsRepository.getMetric(".store--latency.Max").value(), 1.0);
+  }
+
+  private static double measure(Map<String, Gauge> gauges, String attributeName) {
+    return gauges.get(attributeName).measure(null, 0);
+  }
+}
@@ -322,6 +322,12 @@ public class ConfigKeys {
    */
   public static final String CONTROLLER_STORE_GRAVEYARD_CLEANUP_ENABLED = "controller.store.graveyard.cleanup.enabled";
 
+  /**
+   * Whether to write the stores into ZK in the compact binary format instead of json. Default is false. It must only
+   * be enabled once all the routers, servers and clients reading the stores from ZK can read the binary format.
+   */
+  public static final String CONTROLLER_STORE_BINARY_FORMAT_ENABLED = "controller.store.binary.format.enabled";
+
   /**
    * When store graveyard cleanup is enabled, delete the graveyard znode if it has not been changed for a specific time.
    * Default is 0 min.
@@ -403,6 +409,34 @@ public class ConfigKeys {
   public static final String SERVER_INGESTION_TASK_MAX_IDLE_COUNT = "server.ingestion.task.max.idle.count";
   public static final String STORE_WRITER_BUFFER_MEMORY_CAPACITY = "store.writer.buffer.memory.capacity";
   public static final String STORE_WRITER_BUFFER_NOTIFY_DELTA = "store.writer.buffer.notify.delta";
+
+  /**
+   * The memory capacity shared by the transient records of all the leader partitions of the host, which keep the
+   * values produced to the version topic until they are persisted. When it is full, the consumer thread of the leader
+   * waits for some of them to be persisted before buffering more. A non-positive value disables the limit.
+   */
+  public static final String SERVER_TRANSIENT_RECORD_BUFFER_MEMORY_CAPACITY =
+      "server.transient.record.buffer.memory.capacity";
+
+  /**
+   * The maximum time a consumer thread waits for the transient record buffer to have enough memory, after which the
+   * record is buffered anyway, so that a leaked buffer cannot stall the ingestion indefinitely.
+   */
+  public static final String SERVER_TRANSIENT_RECORD_BUFFER_MAX_WAIT_TIME_MS =
+      "server.transient.record.buffer.max.wait.time.ms";
+
+  /**
+   * The maximum number of pending produce calls per leader partition when the leader produce is pipelined: the
+   * consumer thread hands each produce call to {@link #SERVER_LEADER_PRODUCE_PIPELINE_THREAD_COUNT} threads and moves
+   * on to the next record, until this many are pending. A non-positive value disables the pipelining.
+   */
+  public static final String SERVER_LEADER_PRODUCE_PIPELINE_WINDOW_SIZE = "server.leader.produce.pipeline.window.size";
+
+  /**
+   * The number of threads running the produce calls of the pipelined leaders of the host.
+   */
+  public static final String SERVER_LEADER_PRODUCE_PIPELINE_THREAD_COUNT =
+      "server.leader.produce.pipeline.thread.count";
   public static final String SERVER_REST_SERVICE_STORAGE_THREAD_NUM = "server.rest.service.storage.thread.num";
   public static final String SERVER_NETTY_IDLE_TIME_SECONDS = "server.netty.idle.time.seconds";
   public static final String SERVER_MAX_REQUEST_SIZE = "server.max.request.size";
@@ -553,6 +587,14 @@ public class ConfigKeys {
    */
   public static final String SERVER_COMPUTE_FAST_AVRO_ENABLED = "server.compute.fast.avro.enabled";
 
+  /**
+   * Whether to serve compute requests which only consist of dot product, cosine similarity and hadamard product
+   * operations over float vector fields by decoding those vectors straight into primitive float arrays, skipping all
+   * the other fields of the value record.
+   */
+  public static final String SERVER_COMPUTE_FLOAT_VECTOR_PROJECTION_ENABLED =
+      "server.compute.float.vector.projection.enabled";
+
   /**
    * Whether to enable parallel lookup for batch-get.
    */
@@ -563,6 +605,42 @@ public class ConfigKeys {
    */
   public static final String SERVER_PARALLEL_BATCH_GET_CHUNK_SIZE = "server.parallel.batch.get.chunk.size";
 
+  /**
+   * Whether to serve batch gets of non-chunked stores by reading the values straight from RocksDB into pooled direct
+   * buffers, which are then written to the socket as is, instead of copying them into intermediate heap buffers.
+   * When enabled, it takes precedence over the parallel lookup of {@link #SERVER_ENABLE_PARALLEL_BATCH_GET}.
+   */
+  public static final String SERVER_ZERO_COPY_BATCH_GET_ENABLED = "server.zero.copy.batch.get.enabled";
+
+  /**
+   * Initial size of the direct buffer allocated for each value by the zero-copy batch get. Values which are bigger
+   * than this are read a second time into a buffer of the right size, so it should be larger than most values.
+   */
+  public static final String SERVER_ZERO_COPY_BATCH_GET_VALUE_BUFFER_SIZE =
+      "server.zero.copy.batch.get.value.buffer.size";
+
+  /**
+   * Whether to serve single gets through the allocation-free fast path: the request and response objects are pooled,
+   * the values of non-chunked stores are read straight into pooled direct buffers of
+   * {@link #SERVER_ZERO_COPY_BATCH_GET_VALUE_BUFFER_SIZE} bytes.
+   */
+  public static final String SERVER_SINGLE_GET_FAST_PATH_ENABLED = "server.single.get.fast.path.enabled";
+
+  /**
+   * Whether to record the latencies of the read requests into lock-free striped histograms instead of synchronized
+   * Tehuti sensors. The metrics keep the same names, but they are computed over the requests since the previous
+   * collection instead of sliding windows.
+   */
+  public static final String SERVER_LOW_OVERHEAD_LATENCY_METRICS_ENABLED =
+      "server.low.overhead.latency.metrics.enabled";
+
+  /**
+   * Whether to stream the chunks of the large values of single gets out one at a time, as they are read from the
+   * storage engine, instead of assembling each value before sending its response. The response is the same on the
+   * wire, but the server only holds one chunk of a large value at a time.
+   */
+  public static final String SERVER_LARGE_VALUE_STREAMING_ENABLED = "server.large.value.streaming.enabled";
+
   /**
    * The request early termination threshold map:
    * The key will be store name, and the value will be the actual threshold.
@@ -606,6 +684,56 @@ public class ConfigKeys {
    */
   public static final String SERVER_SHARED_CONSUMER_ASSIGNMENT_STRATEGY = "server.shared.consumer.assignment.strategy";
 
+  /**
+   * How often the shared consumer pool measures the consumed bytes per second of each partition and, for the partition
+   * wise assignment strategy, moves hot partitions from the most loaded consumer to the least loaded one. The placement
+   * of new partitions also takes the measured load into account. 0 disables the throughput-aware assignment.
+   */
+  public static final String SERVER_SHARED_CONSUMER_LOAD_REBALANCE_INTERVAL_MS =
+      "server.shared.consumer.load.rebalance.interval.ms";
+
+  /**
+   * The ratio between the load of the most loaded consumer and the average load of the pool, above which partitions are
+   * moved to another consumer. Only used when {@link #SERVER_SHARED_CONSUMER_LOAD_REBALANCE_INTERVAL_MS} is positive.
+   */
+  public static final String SERVER_SHARED_CONSUMER_LOAD_SKEW_THRESHOLD = "server.shared.consumer.load.skew.threshold";
+
+  /**
+   * Whether the storage node serves consistent snapshots of its ready-to-serve partitions to its peers, so that new
+   * replicas can bootstrap from them instead of re-ingesting the whole version topic.
+   */
+  public static final String SERVER_BLOB_SNAPSHOT_SERVING_ENABLED = "server.blob.snapshot.serving.enabled";
+
+  /**
+   * Whether a new replica tries to bootstrap from the snapshot of a ready-to-serve peer, and then resumes ingestion from
+   * the offset of the snapshot. The peers need {@link #SERVER_BLOB_SNAPSHOT_SERVING_ENABLED} to be enabled.
+   */
+  public static final String SERVER_BLOB_SNAPSHOT_BOOTSTRAP_ENABLED = "server.blob.snapshot.bootstrap.enabled";
+
+  /**
+   * Maximum number of bytes per second that a storage node sends, and receives, for all the snapshot transfers.
+   */
+  public static final String SERVER_BLOB_SNAPSHOT_TRANSFER_MAX_BYTES_PER_SECOND =
+      "server.blob.snapshot.transfer.max.bytes.per.second";
+
+  /**
+   * How long a served snapshot is kept on disk after it was last accessed. Peers bootstrapping in the meantime reuse it.
+   */
+  public static final String SERVER_BLOB_SNAPSHOT_RETENTION_MS = "server.blob.snapshot.retention.ms";
+
+  /**
+   * Size of the memory segments the records of the {@link com.linkedin.venice.meta.PersistenceType#OFF_HEAP} storage
+   * engine are allocated from. Records bigger than a segment get a dedicated one.
+   */
+  public static final String OFF_HEAP_STORAGE_SEGMENT_SIZE = "off.heap.storage.segment.size";
+
+  /**
+   * Whether the segments of the {@link com.linkedin.venice.meta.PersistenceType#OFF_HEAP} storage engine are memory
+   * mapped from files under the data base path, so that the OS can page them out under memory pressure, instead of
+   * being allocated as direct buffers.
+   */
+  public static final String OFF_HEAP_STORAGE_MMAP_ENABLED = "off.heap.storage.mmap.enabled";
+
   /**
    * Whether to enable leaked resource cleanup in storage node.
    * Right now, it only covers leaked storage partitions on disk.
@@ -706,6 +834,22 @@ public class ConfigKeys {
   public static final String SERVER_INGESTION_ISOLATION_METRIC_REQUEST_TIMEOUT_SECONDS =
       "server.ingestion.isolation.metric.request.timeout.seconds";
 
+  /**
+   * Whether the main process should follow the partitions ingested by the forked ingestion process with RocksDB
+   * secondary instances. While the forked process ingests a partition, the main process serves the data flushed so far,
+   * unless the reads can fall back to Venice. The partition is ready to serve as soon as the forked process reports it
+   * completed, while the main process takes the database over and resumes the ingestion.
+   */
+  public static final String SERVER_INGESTION_ISOLATION_SECONDARY_READ_ENABLED =
+      "server.ingestion.isolation.secondary.read.enabled";
+
+  /**
+   * Interval at which the secondary partitions of the main process catch up with the databases written by the forked
+   * ingestion process, check {@link #SERVER_INGESTION_ISOLATION_SECONDARY_READ_ENABLED}.
+   */
+  public static final String SERVER_INGESTION_ISOLATION_SECONDARY_CATCH_UP_INTERVAL_MS =
+      "server.ingestion.isolation.secondary.catch.up.interval.ms";
+
   /**
    * whether to enable checksum verification in the ingestion path from kafka to database persistency. If enabled it will
    * keep a running checksum for all and only PUT kafka data message received in the ingestion task and periodically
@@ -786,6 +930,19 @@ public class ConfigKeys {
    */
   public static final String SERVER_SCHEMA_FAST_CLASS_WARMUP_TIMEOUT = "server.schema.fast.class.warmup.timeout";
 
+  /**
+   * Whether to generate the fast avro classes of the value schemas in use by all the read-compute, write-compute and
+   * active/active stores at start time, before the server starts serving reads. The number of value schemas per store
+   * is defined by {@link #SERVER_NUM_SCHEMA_FAST_CLASS_WARMUP}.
+   */
+  public static final String SERVER_FAST_CLASS_WARMUP_AT_START_TIME_ENABLED =
+      "server.fast.class.warmup.at.start.time.enabled";
+
+  /**
+   * Number of threads used to generate the fast avro classes at start time in parallel.
+   */
+  public static final String SERVER_FAST_CLASS_WARMUP_THREAD_COUNT = "server.fast.class.warmup.thread.count";
+
   /**
    * The following 3 configs define controller url, d2 service name and d2 zk host in the region that server is located.
    * Either url or d2 configs must be specified if {@link #SYSTEM_SCHEMA_INITIALIZATION_AT_START_TIME_ENABLED} is true.
@@ -1264,6 +1421,28 @@ public class ConfigKeys {
   public static final String ADMIN_CONSUMPTION_MAX_WORKER_THREAD_POOL_SIZE =
       "admin.consumption.max.worker.thread.pool.size";
 
+  /**
+   * Whether to execute the admin messages of each store as soon as they are delegated, independently of the other
+   * stores, instead of in cycles. With the continuous execution, a slow admin message only holds back its own store,
+   * while the admin topic keeps being consumed. {@code ADMIN_CONSUMPTION_CYCLE_TIMEOUT_MS} then bounds the time spent
+   * by each store execution.
+   */
+  public static final String ADMIN_CONSUMPTION_CONTINUOUS_EXECUTION_ENABLED =
+      "admin.consumption.continuous.execution.enabled";
+
+  /**
+   * The maximum number of delegated admin messages pending to be executed for a single store, after which the
+   * consumption of the admin topic pauses. Only used by the continuous execution.
+   */
+  public static final String ADMIN_CONSUMPTION_MAX_PENDING_MESSAGES_PER_STORE =
+      "admin.consumption.max.pending.messages.per.store";
+
+  /**
+   * The maximum number of delegated admin messages pending to be executed for all the stores, after which the
+   * consumption of the admin topic pauses. Only used by the continuous execution.
+   */
+  public static final String ADMIN_CONSUMPTION_MAX_PENDING_MESSAGES = "admin.consumption.max.pending.messages";
+
   /**
    * This factor is used to estimate potential push size. VPJ reducer multiplies it
    * with total record size and compares it with store storage quota
@@ -1457,6 +1636,13 @@ public class ConfigKeys {
    */
   public static final String ROUTER_HTTP_CLIENT_OPENSSL_ENABLED = "router.http.client.openssl.enabled";
 
+  /**
+   * Whether to keep the timeouts of the Router in a lock-free hierarchical timing wheel instead of a TreeMap guarded
+   * by locks, which is contended when scheduling and cancelling the timeouts of the requests at high QPS.
+   */
+  public static final String ROUTER_TIMEOUT_PROCESSOR_TIMING_WHEEL_ENABLED =
+      "router.timeout.processor.timing.wheel.enabled";
+
   /**
    * In Leader/Follower state transition model, in order to avoid split brain problem (multiple leaders) as much as possible,
    * the newly promoted leader should keep checking whether there is any new messages from the old leader in the version
@@ -1628,6 +1814,27 @@ public class ConfigKeys {
   public static final String ROUTER_HTTP_CLIENT5_SKIP_CIPHER_CHECK_ENABLED =
       "router.http.client5.skip.cipher.check.enabled";
 
+  /**
+   * Maximum number of HTTP/2 connections from the router to each storage node with
+   * the NETTY_HTTP2_CLIENT storage node client type.
+   */
+  public static final String ROUTER_NETTY_HTTP2_CLIENT_MAX_CONNECTIONS_PER_HOST =
+      "router.netty.http2.client.max.connections.per.host";
+
+  /**
+   * Maximum number of concurrent streams of each HTTP/2 connection from the router to a storage node with
+   * the NETTY_HTTP2_CLIENT storage node client type.
+   */
+  public static final String ROUTER_NETTY_HTTP2_CLIENT_MAX_CONCURRENT_STREAMS =
+      "router.netty.http2.client.max.concurrent.streams";
+
+  /**
+   * Initial flow control window size of the streams from the router to the storage nodes with
+   * the NETTY_HTTP2_CLIENT storage node client type.
+   */
+  public static final String ROUTER_NETTY_HTTP2_CLIENT_INITIAL_WINDOW_SIZE =
+      "router.netty.http2.client.initial.window.size";
+
   /**
    * Number of IO threads used for AHAC client.
    */
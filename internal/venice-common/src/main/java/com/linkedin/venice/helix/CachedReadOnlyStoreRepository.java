@@ -11,10 +11,11 @@ import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import com.linkedin.venice.utils.locks.AutoCloseableLock;
 import com.linkedin.venice.utils.locks.ClusterLockManager;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.atomic.AtomicLong;
@@ -24,8 +25,16 @@ import org.apache.helix.manager.zk.ZkBaseDataAccessor;
 import org.apache.helix.zookeeper.impl.client.ZkClient;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.zookeeper.data.Stat;
 
 
+/**
+ * Read only store repository caching all the stores of a cluster, which are loaded from ZK.
+ *
+ * The ZK version of each cached store is tracked, so that {@link #refresh()} only reads the stats of the store znodes,
+ * and only re-reads the data of the new stores and of the stores changed since they were loaded, instead of reading
+ * all the stores again, e.g. on each ZK reconnection.
+ */
 public class CachedReadOnlyStoreRepository implements ReadOnlyStoreRepository {
   private static final Logger LOGGER = LogManager.getLogger(CachedReadOnlyStoreRepository.class);
 
@@ -41,20 +50,55 @@ public class CachedReadOnlyStoreRepository implements ReadOnlyStoreRepository {
   protected final Map<String, Store> storeMap = new VeniceConcurrentHashMap<>();
   private final AtomicLong totalStoreReadQuota = new AtomicLong();
   private final Set<StoreDataChangedListener> listeners = new CopyOnWriteArraySet<>();
+  /**
+   * The ZK version of the cached stores, as of the last time they were read from ZK. A store missing here, or whose
+   * znode has a different version, is re-read by the next {@link #refresh()}.
+   */
+  private final Map<String, Integer> storeZkVersionMap = new VeniceConcurrentHashMap<>();
 
   public CachedReadOnlyStoreRepository(
       ZkClient zkClient,
       String clusterName,
       HelixAdapterSerializer compositeSerializer,
       ClusterLockManager clusterLockManager) {
+    this(zkClient, clusterName, compositeSerializer, clusterLockManager, false);
+  }
+
+  /**
+   * @param storeBinaryFormatEnabled whether to write the stores into ZK with {@link StoreAvroSerializer}'s binary
+   *                                 format instead of json, the stores are read from ZK in both formats anyway.
+   */
+  public CachedReadOnlyStoreRepository(
+      ZkClient zkClient,
+      String clusterName,
+      HelixAdapterSerializer compositeSerializer,
+      ClusterLockManager clusterLockManager,
+      boolean storeBinaryFormatEnabled) {
+    this(
+        zkClient,
+        new ZkBaseDataAccessor<>(zkClient),
+        clusterName,
+        compositeSerializer,
+        clusterLockManager,
+        storeBinaryFormatEnabled);
+  }
+
+  CachedReadOnlyStoreRepository(
+      ZkClient zkClient,
+      ZkBaseDataAccessor<Store> zkDataAccessor,
+      String clusterName,
+      HelixAdapterSerializer compositeSerializer,
+      ClusterLockManager clusterLockManager,
+      boolean storeBinaryFormatEnabled) {
     this.zkClient = zkClient;
-    this.zkDataAccessor = new ZkBaseDataAccessor<>(zkClient);
+    this.zkDataAccessor = zkDataAccessor;
     this.clusterName = clusterName;
     this.clusterStoreRepositoryPath =
         Paths.get(HelixUtils.getHelixClusterZkPath(clusterName), STORE_REPOSITORY_PATH).toString();
     compositeSerializer.registerSerializer(clusterStoreRepositoryPath, new VeniceJsonSerializer<>(Integer.TYPE));
-    compositeSerializer
-        .registerSerializer(getStoreZkPath(PathResourceRegistry.WILDCARD_MATCH_ANY), new StoreJSONSerializer());
+    compositeSerializer.registerSerializer(
+        getStoreZkPath(PathResourceRegistry.WILDCARD_MATCH_ANY),
+        new StoreAvroSerializer(storeBinaryFormatEnabled));
     zkClient.setZkSerializer(compositeSerializer);
     this.clusterLockManager = clusterLockManager;
   }
@@ -105,17 +149,17 @@ public class CachedReadOnlyStoreRepository implements ReadOnlyStoreRepository {
   public void refresh() {
     LOGGER.info("Refresh started for cluster {}'s ", clusterName, getClass().getSimpleName());
     try (AutoCloseableLock ignore = clusterLockManager.createClusterWriteLock()) {
-      List<Store> newStores = getStoresFromZk();
+      List<String> storeNames = getStoreNamesFromZk();
+      List<String> changedStoreNames = getChangedStoreNames(storeNames);
       LOGGER.info(
-          "Got {} stores from cluster {} during refresh in repo: {}",
-          newStores.size(),
+          "Got {} stores from cluster {} during refresh in repo: {}, {} of them are new or changed",
+          storeNames.size(),
           clusterName,
-          getClass().getSimpleName());
-      Set<String> deletedStoreNames = storeMap.values().stream().map(Store::getName).collect(Collectors.toSet());
-      for (Store newStore: newStores) {
-        putStore(newStore);
-        deletedStoreNames.remove(newStore.getName());
-      }
+          getClass().getSimpleName(),
+          changedStoreNames.size());
+      Set<String> deletedStoreNames = new HashSet<>(storeMap.keySet());
+      deletedStoreNames.removeAll(storeNames);
+      deletedStoreNames.addAll(loadStoresFromZk(changedStoreNames));
 
       for (String storeName: deletedStoreNames) {
         removeStore(storeName);
@@ -127,9 +171,10 @@ public class CachedReadOnlyStoreRepository implements ReadOnlyStoreRepository {
   @Override
   public Store refreshOneStore(String storeName) {
     try (AutoCloseableLock ignore = clusterLockManager.createStoreWriteLock(storeName)) {
-      Store newStore = getStoreFromZk(storeName);
+      Stat stat = new Stat();
+      Store newStore = zkDataAccessor.get(getStoreZkPath(storeName), stat, AccessOption.PERSISTENT);
       if (newStore != null) {
-        putStore(newStore);
+        putStoreFromZk(newStore, stat);
       } else {
         removeStore(storeName);
       }
@@ -141,6 +186,7 @@ public class CachedReadOnlyStoreRepository implements ReadOnlyStoreRepository {
   public void clear() {
     try (AutoCloseableLock ignore = clusterLockManager.createClusterWriteLock()) {
       storeMap.clear();
+      storeZkVersionMap.clear();
       totalStoreReadQuota.set(0);
       clusterLockManager.clear();
     }
@@ -173,8 +219,22 @@ public class CachedReadOnlyStoreRepository implements ReadOnlyStoreRepository {
     }
   }
 
+  /**
+   * Puts a store whose ZK version is unknown, e.g. one received from a ZK data change notification, which doesn't come
+   * with the stat of the znode. The cached ZK version of the store is dropped, since it belongs to the previous store,
+   * so the next {@link #refresh()} re-reads the store instead of comparing the znode against a version that doesn't
+   * match the cached store anymore.
+   */
+  protected Store putStoreWithUnknownZkVersion(Store newStore) {
+    try (AutoCloseableLock ignore = clusterLockManager.createStoreWriteLock(newStore.getName())) {
+      storeZkVersionMap.remove(newStore.getName());
+      return putStore(newStore);
+    }
+  }
+
   protected Store removeStore(String storeName) {
     try (AutoCloseableLock ignore = clusterLockManager.createStoreWriteLock(storeName)) {
+      storeZkVersionMap.remove(storeName);
       Store oldStore = storeMap.remove(storeName);
       if (oldStore != null) {
         totalStoreReadQuota.addAndGet(-oldStore.getReadQuotaInCU());
@@ -188,27 +248,91 @@ public class CachedReadOnlyStoreRepository implements ReadOnlyStoreRepository {
     return Paths.get(clusterStoreRepositoryPath, storeName).toString();
   }
 
-  protected Store getStoreFromZk(String storeName) {
-    return zkDataAccessor.get(getStoreZkPath(storeName), null, AccessOption.PERSISTENT);
-  }
-
   /**
    * {@link HelixReadOnlyZKSharedSystemStoreRepository} is overriding this function to filter out
    * stores, which are not necessary to put a watch against during {@link #refresh()}, and if this logic to refresh the zk
    * store repository gets changed in the future, we need to update {@link HelixReadOnlyZKSharedSystemStoreRepository}
    * accordingly.
    */
-  protected List<Store> getStoresFromZk() {
-    List<Store> stores = zkDataAccessor.getChildren(clusterStoreRepositoryPath, null, AccessOption.PERSISTENT);
-    stores.removeIf(Objects::isNull);
-    return stores;
+  protected List<String> getStoreNamesFromZk() {
+    List<String> storeNames = zkDataAccessor.getChildNames(clusterStoreRepositoryPath, AccessOption.PERSISTENT);
+    return storeNames == null ? new ArrayList<>() : storeNames;
   }
 
-  protected List<Store> getStoresFromZk(Collection<String> storeNames) {
+  /**
+   * Reads the given stores from ZK in one batch, and puts them into the cache along with their ZK version.
+   * @return the names of the stores which don't exist in ZK anymore
+   */
+  protected List<String> loadStoresFromZk(Collection<String> storeNames) {
     List<String> paths = storeNames.stream().map(this::getStoreZkPath).collect(Collectors.toList());
-    List<Store> stores = zkDataAccessor.get(paths, null, AccessOption.PERSISTENT);
-    stores.removeIf(Objects::isNull);
-    return stores;
+    List<Stat> stats = new ArrayList<>(paths.size());
+    List<Store> stores = zkDataAccessor.get(paths, stats, AccessOption.PERSISTENT);
+    List<String> missingStoreNames = new ArrayList<>();
+    int i = 0;
+    for (String storeName: storeNames) {
+      Store store = stores.get(i);
+      Stat stat = stats.get(i);
+      i++;
+      if (store == null || stat == null) {
+        missingStoreNames.add(storeName);
+        continue;
+      }
+      putStoreFromZk(store, stat);
+    }
+    return missingStoreNames;
+  }
+
+  /**
+   * Re-reads the given store from ZK only if its znode changed since the store was last read, which only costs a stat
+   * of the znode otherwise.
+   */
+  protected void refreshOneStoreIfChanged(String storeName) {
+    Integer cachedZkVersion = storeZkVersionMap.get(storeName);
+    if (cachedZkVersion != null) {
+      Stat stat = zkDataAccessor.getStat(getStoreZkPath(storeName), AccessOption.PERSISTENT);
+      if (stat != null && stat.getVersion() == cachedZkVersion) {
+        return;
+      }
+    }
+    refreshOneStore(storeName);
+  }
+
+  /**
+   * @return the stores among the given ones which are not cached, or whose znode changed since they were last read
+   */
+  List<String> getChangedStoreNames(List<String> storeNames) {
+    if (storeZkVersionMap.isEmpty()) {
+      // Nothing was loaded yet, so there is no need to check the stats
+      return storeNames;
+    }
+    List<String> paths = storeNames.stream().map(this::getStoreZkPath).collect(Collectors.toList());
+    Stat[] stats = zkDataAccessor.getStats(paths, AccessOption.PERSISTENT);
+    List<String> changedStoreNames = new ArrayList<>();
+    for (int i = 0; i < storeNames.size(); i++) {
+      Integer cachedZkVersion = storeZkVersionMap.get(storeNames.get(i));
+      if (cachedZkVersion == null || stats[i] == null || stats[i].getVersion() != cachedZkVersion) {
+        changedStoreNames.add(storeNames.get(i));
+      }
+    }
+    return changedStoreNames;
+  }
+
+  Integer getCachedZkVersion(String storeName) {
+    return storeZkVersionMap.get(storeName);
+  }
+
+  private void putStoreFromZk(Store store, Stat stat) {
+    String storeName = store.getName();
+    /**
+     * The version is recorded before putting the store, since {@link HelixReadOnlyStoreRepository#putStore} relies on
+     * it to skip re-reading the store it just subscribed to, and it is dropped if the store wasn't cached in the end,
+     * e.g. by {@link SubscriptionBasedStoreRepository}.
+     */
+    storeZkVersionMap.put(storeName, stat.getVersion());
+    putStore(store);
+    if (!storeMap.containsKey(storeName)) {
+      storeZkVersionMap.remove(storeName);
+    }
   }
 
   protected void notifyStoreCreated(Store store) {
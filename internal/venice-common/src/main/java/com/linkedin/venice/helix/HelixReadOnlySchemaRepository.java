@@ -25,6 +25,7 @@ import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.helix.zookeeper.impl.client.ZkClient;
@@ -38,6 +39,13 @@ import org.apache.logging.log4j.Logger;
  * This expected user is router to support venice client schema query operations,
  * and storage node for schema validation;
  *
+ * The schemas of each store are published as a {@link SchemaData} snapshot in {@link #schemaMap}, which is never
+ * mutated once published: the ZK notifications and the force refreshes build a new snapshot from a copy of the
+ * current one, and replace it. So the lookups of the schemas of a cached store don't take any lock, since they are
+ * done per read-compute request and per ingested record, and would otherwise contend on {@link #schemaLock} and stall
+ * behind the refreshes. {@link #schemaLock} only serializes the writers, and the lookups of the stores which are not
+ * cached yet, e.g. during {@link #refresh()}.
+ *
  * TODO:
  * 1. This class needs to periodically clear/warm up local cache since we might miss some notifications:
  *  1.` Re-connect;
@@ -52,7 +60,7 @@ public class HelixReadOnlySchemaRepository implements ReadOnlySchemaRepository,
   public static final int VALUE_SCHEMA_STARTING_ID = 1;
 
   /**
-   * Local cache between store name and store schema.
+   * Local cache between store name and store schema, whose values are immutable snapshots once published.
    */
   private final Map<String, SchemaData> schemaMap = new VeniceConcurrentHashMap<>();
 
@@ -119,6 +127,11 @@ public class HelixReadOnlySchemaRepository implements ReadOnlySchemaRepository,
    */
   private SchemaData getSchemaDataFromCacheOrFetch(String storeName) {
     Store store = getStoreRepository().getStoreOrThrow(storeName);
+    SchemaData cachedSchemaData = getSchemaMap().get(storeName);
+    if (cachedSchemaData != null) {
+      // Lock free, since the published snapshots are never mutated
+      return cachedSchemaData;
+    }
     getSchemaLock().readLock().lock();
     try {
       /**
@@ -165,8 +178,9 @@ public class HelixReadOnlySchemaRepository implements ReadOnlySchemaRepository,
     RetryUtils.executeWithMaxAttempt(() -> {
       try {
         getSchemaLock().writeLock().lock();
-        SchemaData schemaData = getSchemaMap().get(storeName);
+        SchemaData schemaData = new SchemaData(getSchemaMap().get(storeName));
         forceRefreshSchemaData(store, schemaData);
+        getSchemaMap().put(storeName, schemaData);
         if (!isSupersetSchemaReadyToServe(store, schemaData, supersetSchemaId)) {
           throw new InvalidVeniceSchemaException(
               "Unable to refresh superset schema id: " + supersetSchemaId + " for store: " + store.getName());
@@ -508,30 +522,50 @@ public class HelixReadOnlySchemaRepository implements ReadOnlySchemaRepository,
   @Override
   public void handleStoreChanged(Store store) {
     String storeName = store.getName();
-    SchemaData schemaData;
     // Keep under readlock as other threads could be updating (refresh) the map.
     schemaLock.readLock().lock();
     try {
-      schemaData = populateSchemaMap(storeName, store);
+      populateSchemaMap(storeName, store);
     } finally {
       schemaLock.readLock().unlock();
     }
-    maybeRegisterAndPopulateUpdateSchema(store, schemaData);
-    maybeRegisterAndPopulateRmdSchema(store, schemaData);
+    if (!store.isWriteComputationEnabled() && !store.isActiveActiveReplicationEnabled()) {
+      return;
+    }
+    schemaLock.writeLock().lock();
+    try {
+      if (schemaMap.containsKey(storeName)) {
+        updateSchemaData(storeName, schemaData -> {
+          maybeRegisterAndPopulateUpdateSchema(store, schemaData);
+          maybeRegisterAndPopulateRmdSchema(store, schemaData);
+        });
+      }
+    } finally {
+      schemaLock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Publishes a new snapshot of the schemas of the given store, built by applying the given update to a copy of the
+   * current snapshot. It must be called with the write lock of {@link #schemaLock}, so that the concurrent updates
+   * don't overwrite each other.
+   */
+  private void updateSchemaData(String storeName, Consumer<SchemaData> update) {
+    SchemaData schemaData = new SchemaData(schemaMap.get(storeName));
+    update.accept(schemaData);
+    schemaMap.put(storeName, schemaData);
   }
 
   private class KeySchemaChildListener extends SchemaChildListener {
     @Override
-    void handleSchemaChanges(String storeName, List<String> currentChildren) {
-      schemaMap.get(storeName).setKeySchema(accessor.getKeySchema(storeName));
+    void handleSchemaChanges(String storeName, SchemaData schemaData, List<String> currentChildren) {
+      schemaData.setKeySchema(accessor.getKeySchema(storeName));
     }
   }
 
   private class ValueSchemaChildListener extends SchemaChildListener {
     @Override
-    void handleSchemaChanges(String storeName, List<String> currentChildren) {
-      SchemaData schemaData = schemaMap.get(storeName);
-
+    void handleSchemaChanges(String storeName, SchemaData schemaData, List<String> currentChildren) {
       for (String id: currentChildren) {
         if (schemaData.getValueSchema(Integer.parseInt(id)) == null) {
           schemaData.addValueSchema(accessor.getValueSchema(storeName, id));
@@ -542,8 +576,7 @@ public class HelixReadOnlySchemaRepository implements ReadOnlySchemaRepository,
 
   private class DerivedSchemaChildListener extends SchemaChildListener {
     @Override
-    void handleSchemaChanges(String storeName, List<String> currentChildren) {
-      SchemaData schemaData = schemaMap.get(storeName);
+    void handleSchemaChanges(String storeName, SchemaData schemaData, List<String> currentChildren) {
       for (String derivedSchemaIdPairStr: currentChildren) {
         String[] ids = derivedSchemaIdPairStr.split(HelixSchemaAccessor.MULTIPART_SCHEMA_VERSION_DELIMITER);
         if (ids.length != 2) {
@@ -560,8 +593,7 @@ public class HelixReadOnlySchemaRepository implements ReadOnlySchemaRepository,
 
   private class ReplicationMetadataSchemaChildListener extends SchemaChildListener {
     @Override
-    void handleSchemaChanges(String storeName, List<String> currentChildren) {
-      SchemaData schemaData = schemaMap.get(storeName);
+    void handleSchemaChanges(String storeName, SchemaData schemaData, List<String> currentChildren) {
       for (String replicationMetadataVersionIdPairStr: currentChildren) {
         String[] ids =
             replicationMetadataVersionIdPairStr.split(HelixSchemaAccessor.MULTIPART_SCHEMA_VERSION_DELIMITER);
@@ -595,7 +627,7 @@ public class HelixReadOnlySchemaRepository implements ReadOnlySchemaRepository,
       schemaLock.writeLock().lock();
       try {
         if (schemaMap.containsKey(storeName)) {
-          handleSchemaChanges(storeName, currentChildren);
+          updateSchemaData(storeName, schemaData -> handleSchemaChanges(storeName, schemaData, currentChildren));
         } else {
           // Should not happen, since we will add the store entry locally when subscribe its child change
           logger.error("Local schemaMap is missing store entry: {}, which should not happen.", storeName);
@@ -605,7 +637,10 @@ public class HelixReadOnlySchemaRepository implements ReadOnlySchemaRepository,
       }
     }
 
-    abstract void handleSchemaChanges(String storeName, List<String> currentChildren);
+    /**
+     * Applies the changes to the given copy of the schemas of the store, which is published afterwards.
+     */
+    abstract void handleSchemaChanges(String storeName, SchemaData schemaData, List<String> currentChildren);
   }
 
   HelixSchemaAccessor getAccessor() {
@@ -9,6 +9,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import org.apache.helix.manager.zk.ZkBaseDataAccessor;
 import org.apache.helix.zookeeper.impl.client.ZkClient;
 import org.apache.helix.zookeeper.zkclient.IZkChildListener;
 import org.apache.helix.zookeeper.zkclient.IZkDataListener;
@@ -32,6 +33,14 @@ public class HelixReadOnlyStoreRepository extends CachedReadOnlyStoreRepository
     super(zkClient, clusterName, compositeSerializer, new ClusterLockManager(clusterName));
   }
 
+  HelixReadOnlyStoreRepository(
+      ZkClient zkClient,
+      ZkBaseDataAccessor<Store> zkDataAccessor,
+      HelixAdapterSerializer compositeSerializer,
+      String clusterName) {
+    super(zkClient, zkDataAccessor, clusterName, compositeSerializer, new ClusterLockManager(clusterName), false);
+  }
+
   @Override
   public void refresh() {
     try (AutoCloseableLock ignore = clusterLockManager.createClusterWriteLock()) {
@@ -64,7 +73,8 @@ public class HelixReadOnlyStoreRepository extends CachedReadOnlyStoreRepository
         // 2. Store updated in read write repo.
         // 3. Subscribe to data change in read repo.
         // Updates in step 2 will not be reflected until the next update.
-        refreshOneStore(newStore.getName());
+        // The store is only re-read if its znode changed since it was read, which is rarely the case.
+        refreshOneStoreIfChanged(newStore.getName());
       }
       return oldStore;
     }
@@ -82,7 +92,7 @@ public class HelixReadOnlyStoreRepository extends CachedReadOnlyStoreRepository
   }
 
   protected void onStoreChanged(Store newStore) {
-    Store oldStore = putStore(newStore);
+    Store oldStore = putStoreWithUnknownZkVersion(newStore);
     if (oldStore == null) {
       LOGGER.warn("Out of order store change notification, storeName={}.", newStore.getName());
     }
@@ -105,10 +115,7 @@ public class HelixReadOnlyStoreRepository extends CachedReadOnlyStoreRepository
         }
       }
 
-      List<Store> addedStores = getStoresFromZk(addedZkStoreNames);
-      for (Store newStore: addedStores) {
-        putStore(newStore);
-      }
+      loadStoresFromZk(addedZkStoreNames);
 
       for (String zkStoreName: deletedZkStoreNames) {
         removeStore(storeMap.get(zkStoreName).getName());
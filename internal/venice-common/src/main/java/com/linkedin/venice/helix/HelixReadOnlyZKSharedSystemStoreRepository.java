@@ -89,10 +89,8 @@ public class HelixReadOnlyZKSharedSystemStoreRepository extends HelixReadOnlySto
    * @return
    */
   @Override
-  protected List<Store> getStoresFromZk() {
-    return super.getStoresFromZk().stream()
-        .filter(s -> zkSharedSystemStoreSet.contains(s.getName()))
-        .collect(Collectors.toList());
+  protected List<String> getStoreNamesFromZk() {
+    return super.getStoreNamesFromZk().stream().filter(zkSharedSystemStoreSet::contains).collect(Collectors.toList());
   }
 
   /**
@@ -30,7 +30,21 @@ public class HelixReadWriteStoreRepository extends CachedReadOnlyStoreRepository
       String clusterName,
       Optional<MetaStoreWriter> metaStoreWriter,
       ClusterLockManager storeLock) {
-    super(zkClient, clusterName, compositeSerializer, storeLock);
+    this(zkClient, compositeSerializer, clusterName, metaStoreWriter, storeLock, false);
+  }
+
+  /**
+   * @param storeBinaryFormatEnabled whether to write the stores into ZK in the binary format of
+   *                                 {@link StoreAvroSerializer} instead of json.
+   */
+  public HelixReadWriteStoreRepository(
+      ZkClient zkClient,
+      HelixAdapterSerializer compositeSerializer,
+      String clusterName,
+      Optional<MetaStoreWriter> metaStoreWriter,
+      ClusterLockManager storeLock,
+      boolean storeBinaryFormatEnabled) {
+    super(zkClient, clusterName, compositeSerializer, storeLock, storeBinaryFormatEnabled);
     this.clusterName = clusterName;
     this.metaStoreWriter = metaStoreWriter;
   }
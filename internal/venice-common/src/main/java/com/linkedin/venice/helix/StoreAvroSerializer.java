@@ -0,0 +1,147 @@
+package com.linkedin.venice.helix;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.VeniceSerializer;
+import com.linkedin.venice.meta.ZKStore;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import com.linkedin.venice.systemstore.schemas.StoreMetaValue;
+import com.linkedin.venice.utils.Utils;
+import java.io.IOException;
+import java.util.Arrays;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+
+
+/**
+ * Serializer used to convert the data between Store and a compact binary format, which is much smaller and much
+ * cheaper to decode than the json format of {@link StoreJSONSerializer}.
+ *
+ * The binary format is the following:
+ *
+ * 1st byte: The magic byte, should always equal '{@link #MAGIC_BYTE}'.
+ * 2nd byte: The protocol version of {@link AvroProtocolDefinition#METADATA_SYSTEM_SCHEMA_STORE} used to write it.
+ * 3rd byte and onward: The {@link StoreMetaValue} wrapping the {@link ZKStore#dataModel()}, which is the same
+ *    representation as the one of the meta system store, so it evolves the same way.
+ *
+ * The deserialization supports both the binary and the json formats, so the stores written by the older controllers
+ * or before the binary format is enabled can still be read. As a consequence, the binary format must only be enabled
+ * in the controllers once all the routers, servers and clients reading the stores from ZK support it.
+ *
+ * The stores are decoded without any schema reader, so a reader only knows the protocol versions it has been built
+ * with. This is why the written protocol version is pinned to {@link #WRITER_PROTOCOL_VERSION} instead of following
+ * the current protocol version: a newer protocol version must first be rolled out to all the routers, servers and
+ * clients, and only then can {@link #WRITER_PROTOCOL_VERSION} be bumped, in a later release of the controllers.
+ */
+public class StoreAvroSerializer implements VeniceSerializer<Store> {
+  /**
+   * Any byte which is not a valid first byte of a json document works here, since the json format always starts with
+   * '{'.
+   */
+  static final byte MAGIC_BYTE = (byte) 0xA5;
+  private static final int HEADER_LENGTH = 2;
+
+  private static final InternalAvroSpecificSerializer<StoreMetaValue> STORE_META_VALUE_SERIALIZER =
+      AvroProtocolDefinition.METADATA_SYSTEM_SCHEMA_STORE.getSerializer();
+  private static final int CURRENT_PROTOCOL_VERSION =
+      AvroProtocolDefinition.METADATA_SYSTEM_SCHEMA_STORE.getCurrentProtocolVersion();
+
+  /**
+   * The protocol version of the stores written into ZK, see the class doc before bumping it.
+   */
+  static final int WRITER_PROTOCOL_VERSION = 17;
+
+  private final StoreJSONSerializer jsonSerializer = new StoreJSONSerializer();
+  private final boolean binaryFormatEnabled;
+  private final byte writerProtocolVersion;
+  /**
+   * Only set when the written protocol version is older than the current one, in which case the {@link StoreMetaValue}
+   * is projected onto the schema of the written protocol version.
+   */
+  private final RecordDeserializer<GenericRecord> writerSchemaDeserializer;
+  private final RecordSerializer<GenericRecord> writerSchemaSerializer;
+
+  /**
+   * @param binaryFormatEnabled whether to serialize the stores into the binary format, or into the json format
+   */
+  public StoreAvroSerializer(boolean binaryFormatEnabled) {
+    this(binaryFormatEnabled, WRITER_PROTOCOL_VERSION);
+  }
+
+  StoreAvroSerializer(boolean binaryFormatEnabled, int writerProtocolVersion) {
+    if (writerProtocolVersion > CURRENT_PROTOCOL_VERSION) {
+      throw new VeniceException(
+          "Writer protocol version: " + writerProtocolVersion + " is newer than the current protocol version: "
+              + CURRENT_PROTOCOL_VERSION);
+    }
+    this.binaryFormatEnabled = binaryFormatEnabled;
+    this.writerProtocolVersion = (byte) writerProtocolVersion;
+    if (writerProtocolVersion == CURRENT_PROTOCOL_VERSION) {
+      this.writerSchemaDeserializer = null;
+      this.writerSchemaSerializer = null;
+    } else {
+      Schema writerSchema = Utils.getAllSchemasFromResources(AvroProtocolDefinition.METADATA_SYSTEM_SCHEMA_STORE)
+          .get(writerProtocolVersion);
+      if (writerSchema == null) {
+        throw new VeniceException("Unknown writer protocol version: " + writerProtocolVersion);
+      }
+      this.writerSchemaDeserializer = SerializerDeserializerFactory.getAvroGenericDeserializer(
+          AvroProtocolDefinition.METADATA_SYSTEM_SCHEMA_STORE.getCurrentProtocolVersionSchema(),
+          writerSchema);
+      this.writerSchemaSerializer = SerializerDeserializerFactory.getAvroGenericSerializer(writerSchema);
+    }
+  }
+
+  @Override
+  public byte[] serialize(Store object, String path) throws IOException {
+    if (!binaryFormatEnabled) {
+      return jsonSerializer.serialize(object, path);
+    }
+    /**
+     * This function will only serialize {@link ZKStore}.
+     */
+    if (!(object instanceof ZKStore)) {
+      throw new VeniceException("This serializer only supports ZKStore type for binary serialization");
+    }
+    StoreMetaValue value = new StoreMetaValue();
+    value.storeProperties = ((ZKStore) object).dataModel();
+    byte[] payload = STORE_META_VALUE_SERIALIZER.serialize(null, value);
+    if (writerSchemaSerializer != null) {
+      payload = writerSchemaSerializer.serialize(writerSchemaDeserializer.deserialize(payload));
+    }
+    byte[] bytes = new byte[HEADER_LENGTH + payload.length];
+    bytes[0] = MAGIC_BYTE;
+    bytes[1] = writerProtocolVersion;
+    System.arraycopy(payload, 0, bytes, HEADER_LENGTH, payload.length);
+    return bytes;
+  }
+
+  @Override
+  public Store deserialize(byte[] bytes, String path) throws IOException {
+    if (!isBinaryFormat(bytes)) {
+      return jsonSerializer.deserialize(bytes, path);
+    }
+    if (bytes.length < HEADER_LENGTH) {
+      throw new IOException("Invalid binary store of " + bytes.length + " bytes, path: " + path);
+    }
+    if (bytes[1] > CURRENT_PROTOCOL_VERSION) {
+      throw new IOException(
+          "Binary store written with protocol version: " + bytes[1]
+              + ", which is newer than the current protocol version: " + CURRENT_PROTOCOL_VERSION + ", path: " + path);
+    }
+    StoreMetaValue value =
+        STORE_META_VALUE_SERIALIZER.deserialize(Arrays.copyOfRange(bytes, HEADER_LENGTH, bytes.length), bytes[1]);
+    if (value.storeProperties == null) {
+      throw new IOException("Binary store without store properties, path: " + path);
+    }
+    return new ZKStore(value.storeProperties);
+  }
+
+  static boolean isBinaryFormat(byte[] bytes) {
+    return bytes != null && bytes.length > 0 && bytes[0] == MAGIC_BYTE;
+  }
+}
@@ -33,7 +33,13 @@ public enum PersistenceType {
   /**
    * Similar to IN_MEMORY but with different retention rules of data (that is, data is evicted under certain circumstances)
    */
-  CACHE(4);
+  CACHE(4),
+
+  /**
+   * Volatile storage engine keeping the records in off-heap memory behind an open-addressing index, which is invisible
+   * to the GC.
+   */
+  OFF_HEAP(5);
 
   public final int value;
 
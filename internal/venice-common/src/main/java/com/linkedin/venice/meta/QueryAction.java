@@ -23,5 +23,10 @@ public enum QueryAction {
 
   // CURRENT_VERSION is a GET request to /current_version/storename on the storage node to fetch current version for
   // that store
-  CURRENT_VERSION
+  CURRENT_VERSION,
+
+  // BLOB_SNAPSHOT is a GET request to /blob_snapshot/topic/partition on the storage node to fetch the manifest of a
+  // snapshot of that partition, or to /blob_snapshot/topic/partition/snapshot_id/file/position to fetch a chunk of a
+  // file of the snapshot
+  BLOB_SNAPSHOT
 }
@@ -15,7 +15,6 @@ import com.linkedin.venice.meta.OfflinePushStrategy;
 import com.linkedin.venice.meta.Partition;
 import com.linkedin.venice.meta.PartitionAssignment;
 import com.linkedin.venice.utils.Utils;
-import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
@@ -51,8 +50,13 @@ public class OfflinePushStatus {
   private Optional<String> statusDetails = Optional.of(HELIX_RESOURCE_NOT_CREATED);
   private List<StatusSnapshot> statusHistory;
   private String incrementalPushVersion = "";
-  // Key is Partition Id (0 to n-1); value is the corresponding partition status.
-  private Map<Integer, PartitionStatus> partitionIdToStatus;
+  // Index is Partition Id (0 to n-1); value is the corresponding partition status.
+  private final PersistentPartitionStatusArray partitionStatusArray;
+  /**
+   * The last time the partition counters of {@link #partitionStatusArray} were verified, see
+   * {@link #verifyPartitionCounters(long)}. Not part of the push status itself.
+   */
+  private long lastPartitionCountersCheckTimeMs = 0;
 
   private Map<String, String> pushProperties;
 
@@ -66,6 +70,23 @@ public class OfflinePushStatus {
       int numberOfPartition,
       int replicationFactor,
       OfflinePushStrategy strategy) {
+    this(
+        kafkaTopic,
+        numberOfPartition,
+        replicationFactor,
+        strategy,
+        new PersistentPartitionStatusArray(numberOfPartition, replicationFactor));
+    for (int i = 0; i < numberOfPartition; i++) {
+      partitionStatusArray.set(new ReadOnlyPartitionStatus(i, Collections.emptyList()));
+    }
+  }
+
+  private OfflinePushStatus(
+      String kafkaTopic,
+      int numberOfPartition,
+      int replicationFactor,
+      OfflinePushStrategy strategy,
+      PersistentPartitionStatusArray partitionStatusArray) {
     this.kafkaTopic = kafkaTopic;
     this.numberOfPartition = numberOfPartition;
     this.replicationFactor = replicationFactor;
@@ -74,11 +95,7 @@ public class OfflinePushStatus {
     this.currentStatus = STARTED; // Initial push status
     this.statusHistory = new ArrayList<>();
     addHistoricStatus(currentStatus, incrementalPushVersion);
-    this.partitionIdToStatus = new VeniceConcurrentHashMap<>(numberOfPartition);
-    for (int i = 0; i < numberOfPartition; i++) {
-      ReadOnlyPartitionStatus partitionStatus = new ReadOnlyPartitionStatus(i, Collections.emptyList());
-      partitionIdToStatus.put(i, partitionStatus);
-    }
+    this.partitionStatusArray = partitionStatusArray;
   }
 
   public void updateStatus(ExecutionStatus newStatus) {
@@ -157,47 +174,91 @@ public class OfflinePushStatus {
   }
 
   public void setPartitionStatus(PartitionStatus partitionStatus, boolean updateDetails) {
+    putPartitionStatus(partitionStatus);
+    if (updateDetails) {
+      updateStatusDetails();
+    }
+  }
+
+  private void putPartitionStatus(PartitionStatus partitionStatus) {
     if (partitionStatus.getPartitionId() < 0 || partitionStatus.getPartitionId() >= numberOfPartition) {
       throw new IllegalArgumentException(
           "Received an invalid partition:" + partitionStatus.getPartitionId() + " for topic:" + kafkaTopic);
     }
     if (partitionStatus instanceof ReadOnlyPartitionStatus) {
-      partitionIdToStatus.put(partitionStatus.getPartitionId(), partitionStatus);
+      partitionStatusArray.set(partitionStatus);
     } else {
-      partitionIdToStatus
-          .put(partitionStatus.getPartitionId(), ReadOnlyPartitionStatus.fromPartitionStatus(partitionStatus));
-    }
-    if (updateDetails) {
-      updateStatusDetails();
+      partitionStatusArray.set(ReadOnlyPartitionStatus.fromPartitionStatus(partitionStatus));
     }
   }
 
+  /**
+   * The number of finished partitions is read from the partition counters, only the last few incomplete partitions
+   * listed in the details require going through the partitions.
+   */
   private void updateStatusDetails() {
     PushStatusDecider decider = strategy.getPushStatusDecider();
-    Set<Integer> incompletePartitions = new HashSet<>();
-    int finishedPartitions = 0;
-    for (PartitionStatus partitionStatus: getPartitionStatuses()) {
-      int finishedReplicaInPartition = 0;
-      for (ReplicaStatus replicaStatus: partitionStatus.getReplicaStatuses()) {
-        if (replicaStatus.getCurrentStatus().isTerminal()) {
-          finishedReplicaInPartition++;
-        }
-      }
-      if (decider.hasEnoughReplicasForOnePartition(finishedReplicaInPartition, replicationFactor)) {
-        finishedPartitions++;
-      } else {
-        incompletePartitions.add(partitionStatus.getPartitionId());
-      }
-    }
+    int finishedPartitions = partitionStatusArray.getPartitionCountWithTerminalReplicas(
+        finishedReplicas -> decider.hasEnoughReplicasForOnePartition(finishedReplicas, replicationFactor));
     if (finishedPartitions > 0) {
       String message = finishedPartitions + "/" + numberOfPartition + " partitions completed.";
-      if (incompletePartitions.size() > 0 && incompletePartitions.size() <= 5) {
+      int incompletePartitionCount = partitionStatusArray.size() - finishedPartitions;
+      if (incompletePartitionCount > 0 && incompletePartitionCount <= 5) {
+        Set<Integer> incompletePartitions = new HashSet<>();
+        for (PartitionStatus partitionStatus: getPartitionStatuses()) {
+          int finishedReplicaInPartition = 0;
+          for (ReplicaStatus replicaStatus: partitionStatus.getReplicaStatuses()) {
+            if (replicaStatus.getCurrentStatus().isTerminal()) {
+              finishedReplicaInPartition++;
+            }
+          }
+          if (!decider.hasEnoughReplicasForOnePartition(finishedReplicaInPartition, replicationFactor)) {
+            incompletePartitions.add(partitionStatus.getPartitionId());
+          }
+        }
         message += ". Following partitions still not complete " + incompletePartitions;
       }
       setStatusDetails(message);
     }
   }
 
+  /**
+   * @return the number of replicas in the given status, as seen by {@link PushStatusDecider#getReplicaCurrentStatus}
+   */
+  int getReplicaCount(ExecutionStatus status) {
+    return partitionStatusArray.getReplicaCount(status);
+  }
+
+  /**
+   * @return the number of partitions with at least the given number of replicas in {@link ExecutionStatus#COMPLETED}
+   */
+  int getPartitionCountWithCompletedReplicas(int minCompletedReplicas) {
+    return partitionStatusArray.getPartitionCountWithCompletedReplicas(minCompletedReplicas);
+  }
+
+  /**
+   * @return the number of partitions with a replica in {@link ExecutionStatus#END_OF_PUSH_RECEIVED} or with at least
+   *         the given number of replicas in {@link ExecutionStatus#COMPLETED}
+   */
+  int getPartitionCountWithEndOfPushOrCompletedReplicas(int minCompletedReplicas) {
+    return partitionStatusArray.getPartitionCountWithEndOfPushOrCompletedReplicas(minCompletedReplicas);
+  }
+
+  long getLastPartitionCountersCheckTimeMs() {
+    return lastPartitionCountersCheckTimeMs;
+  }
+
+  /**
+   * Recomputes the partition counters, which are otherwise maintained incrementally on each partition status change,
+   * from all the partition statuses. Any difference is logged and fixed.
+   */
+  void verifyPartitionCounters(long currentTimeMs) {
+    if (!partitionStatusArray.recount()) {
+      LOGGER.warn("Partition counters of topic: {} were inconsistent with its partition statuses.", kafkaTopic);
+    }
+    lastPartitionCountersCheckTimeMs = currentTimeMs;
+  }
+
   /**
    * Returns map of partitionId -> list of status history for all working replicas of that partition
    */
@@ -329,14 +390,9 @@ public class OfflinePushStatus {
 
   // Only used by accessor while loading data from Zookeeper.
   public void setPartitionStatuses(List<PartitionStatus> partitionStatuses) {
-    this.partitionIdToStatus.clear();
+    this.partitionStatusArray.clear();
     for (PartitionStatus partitionStatus: partitionStatuses) {
-      if (partitionStatus instanceof ReadOnlyPartitionStatus) {
-        this.partitionIdToStatus.put(partitionStatus.getPartitionId(), partitionStatus);
-      } else {
-        this.partitionIdToStatus
-            .put(partitionStatus.getPartitionId(), ReadOnlyPartitionStatus.fromPartitionStatus(partitionStatus));
-      }
+      putPartitionStatus(partitionStatus);
     }
     updateStatusDetails();
   }
@@ -357,17 +413,22 @@ public class OfflinePushStatus {
     this.successfulPushDurationInSecs = (int) successfulPushDurationInSecs;
   }
 
+  /**
+   * The partition statuses are shared with the cloned push status until either of them updates them, so cloning doesn't
+   * go through all the partitions.
+   */
   public OfflinePushStatus clonePushStatus() {
     OfflinePushStatus clonePushStatus =
-        new OfflinePushStatus(kafkaTopic, numberOfPartition, replicationFactor, strategy);
+        new OfflinePushStatus(kafkaTopic, numberOfPartition, replicationFactor, strategy, partitionStatusArray.copy());
     clonePushStatus.setCurrentStatus(currentStatus);
     clonePushStatus.setStatusDetails(statusDetails.orElse(null));
     // Status history is append-only. So here we don't need to deep copy each object in this list. Simply copy the list
     // itself is able to avoid affecting the object while updating the cloned one.
     clonePushStatus.setStatusHistory(new ArrayList<>(statusHistory));
-    // As same as status history, there is no way update properties inside Partition status object. So only
-    // copy list is enough here.
-    clonePushStatus.setPartitionStatuses(new ArrayList<>(partitionIdToStatus.values()));
+    // As same as status history, there is no way update properties inside Partition status object. So sharing them
+    // is enough here.
+    clonePushStatus.updateStatusDetails();
+    clonePushStatus.lastPartitionCountersCheckTimeMs = lastPartitionCountersCheckTimeMs;
     clonePushStatus.setPushProperties(new HashMap<>(pushProperties));
     clonePushStatus.setIncrementalPushVersion(incrementalPushVersion);
     clonePushStatus.setSuccessfulPushDurationInSecs((successfulPushDurationInSecs));
@@ -397,11 +458,11 @@ public class OfflinePushStatus {
 
   @JsonIgnore
   public Collection<PartitionStatus> getPartitionStatuses() {
-    return Collections.unmodifiableCollection(partitionIdToStatus.values());
+    return Collections.unmodifiableCollection(partitionStatusArray);
   }
 
   public PartitionStatus getPartitionStatus(int partitionId) {
-    return partitionIdToStatus.get(partitionId);
+    return partitionStatusArray.get(partitionId);
   }
 
   private void addHistoricStatus(ExecutionStatus status, String incrementalPushVersion) {
@@ -506,7 +567,7 @@ public class OfflinePushStatus {
     if (successfulPushDurationInSecs != that.successfulPushDurationInSecs) {
       return false;
     }
-    return partitionIdToStatus.equals(that.partitionIdToStatus);
+    return partitionStatusArray.equals(that.partitionStatusArray);
   }
 
   @Override
@@ -518,7 +579,7 @@ public class OfflinePushStatus {
     result = 31 * result + currentStatus.hashCode();
     result = 31 * result + statusDetails.hashCode();
     result = 31 * result + statusHistory.hashCode();
-    result = 31 * result + partitionIdToStatus.hashCode();
+    result = 31 * result + partitionStatusArray.hashCode();
     result = 31 * result + pushProperties.hashCode();
     result = 31 * result + incrementalPushVersion.hashCode();
     result = 31 * result + (int) successfulPushDurationInSecs;
@@ -0,0 +1,355 @@
+package com.linkedin.venice.pushmonitor;
+
+import static com.linkedin.venice.pushmonitor.ExecutionStatus.COMPLETED;
+import static com.linkedin.venice.pushmonitor.ExecutionStatus.END_OF_PUSH_RECEIVED;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.IntPredicate;
+
+
+/**
+ * Persistent array of the partition statuses of one {@link OfflinePushStatus}, along with the counters of replicas and
+ * partitions derived from them.
+ *
+ * The partition statuses are stored in chunks of {@link #CHUNK_SIZE} partitions. A {@link #copy()} shares all the
+ * chunks with the original array, and the first update of a chunk in either of them only copies this chunk, so that
+ * copying a push status on each partition status change doesn't go through all its partitions. The counters are
+ * updated with the summary of the replaced partition status, which is kept along with it, so an update only goes
+ * through the replicas of the updated partition.
+ *
+ * Replicas are counted by their status as seen by {@link PushStatusDecider#getReplicaCurrentStatus}, and partitions by
+ * their number of replicas in {@link ExecutionStatus#COMPLETED} status and in a terminal status, capped to the
+ * replication factor, so that the push status policies can be evaluated on the counters without knowing them.
+ *
+ * This class is not thread-safe, the push statuses are only updated under the store lock before being published.
+ */
+class PersistentPartitionStatusArray extends AbstractCollection<PartitionStatus> {
+  private static final int CHUNK_SHIFT = 6;
+  static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+  private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+  private static final byte[] NO_REPLICA = new byte[0];
+
+  private final int numberOfPartitions;
+  private final int maxReplicaCount;
+  private final Entry[][] chunks;
+  /**
+   * Whether each chunk is only referenced by this array, so it can be updated in place.
+   */
+  private final boolean[] ownedChunks;
+  private int size;
+
+  private final int[] replicaCountByStatus;
+  // The index of the following counters is the number of replicas, capped to the replication factor.
+  private final int[] partitionCountByCompletedReplicas;
+  private final int[] partitionCountByTerminalReplicas;
+  // Only counts the partitions without any replica in END_OF_PUSH_RECEIVED status.
+  private final int[] noEndOfPushPartitionCountByCompletedReplicas;
+  private int endOfPushPartitionCount;
+
+  PersistentPartitionStatusArray(int numberOfPartitions, int replicationFactor) {
+    this.numberOfPartitions = numberOfPartitions;
+    this.maxReplicaCount = Math.max(replicationFactor, 0);
+    this.chunks = new Entry[(numberOfPartitions + CHUNK_MASK) >>> CHUNK_SHIFT][];
+    this.ownedChunks = new boolean[chunks.length];
+    Arrays.fill(ownedChunks, true);
+    this.replicaCountByStatus = new int[ExecutionStatus.values().length];
+    this.partitionCountByCompletedReplicas = new int[maxReplicaCount + 1];
+    this.partitionCountByTerminalReplicas = new int[maxReplicaCount + 1];
+    this.noEndOfPushPartitionCountByCompletedReplicas = new int[maxReplicaCount + 1];
+  }
+
+  private PersistentPartitionStatusArray(PersistentPartitionStatusArray other) {
+    this.numberOfPartitions = other.numberOfPartitions;
+    this.maxReplicaCount = other.maxReplicaCount;
+    this.chunks = other.chunks.clone();
+    // Both arrays now share all the chunks, which have to be copied before being updated by either of them.
+    this.ownedChunks = new boolean[chunks.length];
+    Arrays.fill(other.ownedChunks, false);
+    this.size = other.size;
+    this.replicaCountByStatus = other.replicaCountByStatus.clone();
+    this.partitionCountByCompletedReplicas = other.partitionCountByCompletedReplicas.clone();
+    this.partitionCountByTerminalReplicas = other.partitionCountByTerminalReplicas.clone();
+    this.noEndOfPushPartitionCountByCompletedReplicas = other.noEndOfPushPartitionCountByCompletedReplicas.clone();
+    this.endOfPushPartitionCount = other.endOfPushPartitionCount;
+  }
+
+  /**
+   * @return a copy of this array, sharing all the partition statuses with it, in O(number of partitions / chunk size).
+   */
+  PersistentPartitionStatusArray copy() {
+    return new PersistentPartitionStatusArray(this);
+  }
+
+  PartitionStatus get(int partitionId) {
+    if (partitionId < 0 || partitionId >= numberOfPartitions) {
+      return null;
+    }
+    Entry[] chunk = chunks[partitionId >>> CHUNK_SHIFT];
+    if (chunk == null) {
+      return null;
+    }
+    Entry entry = chunk[partitionId & CHUNK_MASK];
+    return entry == null ? null : entry.partitionStatus;
+  }
+
+  /**
+   * Replaces the status of the partition, which must be read only, and updates the counters accordingly.
+   */
+  void set(PartitionStatus partitionStatus) {
+    int partitionId = partitionStatus.getPartitionId();
+    Entry[] chunk = getWritableChunk(partitionId >>> CHUNK_SHIFT);
+    int index = partitionId & CHUNK_MASK;
+    Entry previousEntry = chunk[index];
+    if (previousEntry == null) {
+      size++;
+    } else {
+      count(previousEntry, -1);
+    }
+    Entry entry = new Entry(partitionStatus);
+    count(entry, 1);
+    chunk[index] = entry;
+  }
+
+  @Override
+  public void clear() {
+    Arrays.fill(chunks, null);
+    Arrays.fill(ownedChunks, true);
+    size = 0;
+    Arrays.fill(replicaCountByStatus, 0);
+    Arrays.fill(partitionCountByCompletedReplicas, 0);
+    Arrays.fill(partitionCountByTerminalReplicas, 0);
+    Arrays.fill(noEndOfPushPartitionCountByCompletedReplicas, 0);
+    endOfPushPartitionCount = 0;
+  }
+
+  /**
+   * Recomputes all the counters from the partition statuses.
+   *
+   * @return true if the recomputed counters are the same as the incrementally maintained ones
+   */
+  boolean recount() {
+    int[] previousReplicaCountByStatus = replicaCountByStatus.clone();
+    int[] previousPartitionCountByCompletedReplicas = partitionCountByCompletedReplicas.clone();
+    int[] previousPartitionCountByTerminalReplicas = partitionCountByTerminalReplicas.clone();
+    int[] previousNoEndOfPushPartitionCountByCompletedReplicas = noEndOfPushPartitionCountByCompletedReplicas.clone();
+    int previousEndOfPushPartitionCount = endOfPushPartitionCount;
+    int previousSize = size;
+
+    Arrays.fill(replicaCountByStatus, 0);
+    Arrays.fill(partitionCountByCompletedReplicas, 0);
+    Arrays.fill(partitionCountByTerminalReplicas, 0);
+    Arrays.fill(noEndOfPushPartitionCountByCompletedReplicas, 0);
+    endOfPushPartitionCount = 0;
+    size = 0;
+    for (int chunkIndex = 0; chunkIndex < chunks.length; chunkIndex++) {
+      if (chunks[chunkIndex] == null) {
+        continue;
+      }
+      Entry[] chunk = getWritableChunk(chunkIndex);
+      for (int i = 0; i < chunk.length; i++) {
+        if (chunk[i] != null) {
+          chunk[i] = new Entry(chunk[i].partitionStatus);
+          count(chunk[i], 1);
+          size++;
+        }
+      }
+    }
+    return Arrays.equals(previousReplicaCountByStatus, replicaCountByStatus)
+        && Arrays.equals(previousPartitionCountByCompletedReplicas, partitionCountByCompletedReplicas)
+        && Arrays.equals(previousPartitionCountByTerminalReplicas, partitionCountByTerminalReplicas)
+        && Arrays
+            .equals(previousNoEndOfPushPartitionCountByCompletedReplicas, noEndOfPushPartitionCountByCompletedReplicas)
+        && previousEndOfPushPartitionCount == endOfPushPartitionCount && previousSize == size;
+  }
+
+  int getReplicaCount(ExecutionStatus status) {
+    return replicaCountByStatus[status.ordinal()];
+  }
+
+  /**
+   * @return the number of partitions with at least the given number of replicas in {@link ExecutionStatus#COMPLETED}
+   *         status. Numbers above the replication factor are treated as the replication factor.
+   */
+  int getPartitionCountWithCompletedReplicas(int minCompletedReplicas) {
+    return sumFrom(partitionCountByCompletedReplicas, minCompletedReplicas);
+  }
+
+  /**
+   * @return the number of partitions with a replica in {@link ExecutionStatus#END_OF_PUSH_RECEIVED} status or with at
+   *         least the given number of replicas in {@link ExecutionStatus#COMPLETED} status.
+   */
+  int getPartitionCountWithEndOfPushOrCompletedReplicas(int minCompletedReplicas) {
+    return endOfPushPartitionCount + sumFrom(noEndOfPushPartitionCountByCompletedReplicas, minCompletedReplicas);
+  }
+
+  /**
+   * @return the number of partitions whose number of replicas in a terminal status matches the given predicate
+   */
+  int getPartitionCountWithTerminalReplicas(IntPredicate hasEnoughReplicas) {
+    int count = 0;
+    for (int replicaCount = 0; replicaCount <= maxReplicaCount; replicaCount++) {
+      if (partitionCountByTerminalReplicas[replicaCount] > 0 && hasEnoughReplicas.test(replicaCount)) {
+        count += partitionCountByTerminalReplicas[replicaCount];
+      }
+    }
+    return count;
+  }
+
+  private int sumFrom(int[] countByReplicas, int minReplicaCount) {
+    int count = 0;
+    for (int replicaCount =
+        Math.min(Math.max(minReplicaCount, 0), maxReplicaCount); replicaCount <= maxReplicaCount; replicaCount++) {
+      count += countByReplicas[replicaCount];
+    }
+    return count;
+  }
+
+  private Entry[] getWritableChunk(int chunkIndex) {
+    Entry[] chunk = chunks[chunkIndex];
+    if (chunk == null) {
+      chunk = new Entry[CHUNK_SIZE];
+      chunks[chunkIndex] = chunk;
+      ownedChunks[chunkIndex] = true;
+    } else if (!ownedChunks[chunkIndex]) {
+      chunk = chunk.clone();
+      chunks[chunkIndex] = chunk;
+      ownedChunks[chunkIndex] = true;
+    }
+    return chunk;
+  }
+
+  private void count(Entry entry, int delta) {
+    for (byte statusOrdinal: entry.replicaStatusOrdinals) {
+      replicaCountByStatus[statusOrdinal] += delta;
+    }
+    int completedReplicas = Math.min(entry.completedReplicas, maxReplicaCount);
+    partitionCountByCompletedReplicas[completedReplicas] += delta;
+    partitionCountByTerminalReplicas[Math.min(entry.terminalReplicas, maxReplicaCount)] += delta;
+    if (entry.endOfPushReceived) {
+      endOfPushPartitionCount += delta;
+    } else {
+      noEndOfPushPartitionCountByCompletedReplicas[completedReplicas] += delta;
+    }
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Iterates the partition statuses by partition id.
+   */
+  @Override
+  public Iterator<PartitionStatus> iterator() {
+    return new Iterator<PartitionStatus>() {
+      private int nextPartitionId = findPartition(0);
+
+      private int findPartition(int fromPartitionId) {
+        for (int partitionId = fromPartitionId; partitionId < numberOfPartitions; partitionId++) {
+          Entry[] chunk = chunks[partitionId >>> CHUNK_SHIFT];
+          if (chunk == null) {
+            // Skip the whole chunk
+            partitionId |= CHUNK_MASK;
+          } else if (chunk[partitionId & CHUNK_MASK] != null) {
+            return partitionId;
+          }
+        }
+        return numberOfPartitions;
+      }
+
+      @Override
+      public boolean hasNext() {
+        return nextPartitionId < numberOfPartitions;
+      }
+
+      @Override
+      public PartitionStatus next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        PartitionStatus partitionStatus = get(nextPartitionId);
+        nextPartitionId = findPartition(nextPartitionId + 1);
+        return partitionStatus;
+      }
+    };
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    PersistentPartitionStatusArray that = (PersistentPartitionStatusArray) o;
+    if (numberOfPartitions != that.numberOfPartitions || size != that.size) {
+      return false;
+    }
+    for (int chunkIndex = 0; chunkIndex < chunks.length; chunkIndex++) {
+      if (chunks[chunkIndex] == that.chunks[chunkIndex]) {
+        // Shared chunk
+        continue;
+      }
+      int firstPartitionId = chunkIndex << CHUNK_SHIFT;
+      int lastPartitionId = Math.min(firstPartitionId + CHUNK_SIZE, numberOfPartitions);
+      for (int partitionId = firstPartitionId; partitionId < lastPartitionId; partitionId++) {
+        if (!Objects.equals(get(partitionId), that.get(partitionId))) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    int result = 0;
+    for (PartitionStatus partitionStatus: this) {
+      result += partitionStatus.hashCode();
+    }
+    return result;
+  }
+
+  /**
+   * A partition status along with its contribution to the counters.
+   */
+  private static final class Entry {
+    private final PartitionStatus partitionStatus;
+    private final byte[] replicaStatusOrdinals;
+    private final int completedReplicas;
+    private final int terminalReplicas;
+    private final boolean endOfPushReceived;
+
+    private Entry(PartitionStatus partitionStatus) {
+      this.partitionStatus = partitionStatus;
+      Collection<ReplicaStatus> replicaStatuses = partitionStatus.getReplicaStatuses();
+      this.replicaStatusOrdinals = replicaStatuses.isEmpty() ? NO_REPLICA : new byte[replicaStatuses.size()];
+      int replicaIndex = 0;
+      int completed = 0;
+      int terminal = 0;
+      boolean endOfPush = false;
+      for (ReplicaStatus replicaStatus: replicaStatuses) {
+        ExecutionStatus status = PushStatusDecider.getReplicaCurrentStatus(replicaStatus.getStatusHistory());
+        replicaStatusOrdinals[replicaIndex++] = (byte) status.ordinal();
+        if (status == COMPLETED) {
+          completed++;
+        } else if (status == END_OF_PUSH_RECEIVED) {
+          endOfPush = true;
+        }
+        if (replicaStatus.getCurrentStatus().isTerminal()) {
+          terminal++;
+        }
+      }
+      this.completedReplicas = completed;
+      this.terminalReplicas = terminal;
+      this.endOfPushReceived = endOfPush;
+    }
+  }
+}
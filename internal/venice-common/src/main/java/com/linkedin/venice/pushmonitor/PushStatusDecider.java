@@ -19,6 +19,7 @@ import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -32,6 +33,11 @@ public abstract class PushStatusDecider {
   private static final String REASON_NOT_IN_EV = "not yet in EXTERNALVIEW";
   private static final String REASON_NOT_ENOUGH_PARTITIONS_IN_EV = "not enough partitions in EXTERNALVIEW";
   private static final String REASON_UNDER_REPLICATED = "does not have enough replicas";
+  /**
+   * How often the partition counters of a push are verified against its partition statuses, along with a full check of
+   * its partitions, regardless of what the counters tell.
+   */
+  static final long PARTITION_COUNTERS_CHECK_INTERVAL_MS = TimeUnit.MINUTES.toMillis(1);
 
   /**
    * Check the current status based on {@link PartitionStatus}
@@ -46,6 +52,13 @@ public abstract class PushStatusDecider {
       return new ExecutionStatusWithDetails(NOT_CREATED);
     }
 
+    long currentTimeMs = System.currentTimeMillis();
+    if (currentTimeMs - pushStatus.getLastPartitionCountersCheckTimeMs() >= PARTITION_COUNTERS_CHECK_INTERVAL_MS) {
+      pushStatus.verifyPartitionCounters(currentTimeMs);
+    } else if (isStartedByPartitionCounters(pushStatus)) {
+      return new ExecutionStatusWithDetails(STARTED);
+    }
+
     boolean isAllPartitionCompleted = true;
     boolean isAllPartitionEndOfPushReceived = true;
     if (pushStatus.getPartitionStatuses().size() != pushStatus.getNumberOfPartition()) {
@@ -91,6 +104,25 @@ public abstract class PushStatusDecider {
     return new ExecutionStatusWithDetails(STARTED);
   }
 
+  /**
+   * Tells from the partition counters of the push, without going through its partitions, whether the push could only be
+   * {@link ExecutionStatus#STARTED} whatever the partition assignment is, which is the case of most of the checks
+   * during a push. This holds when no replica is in {@link ExecutionStatus#ERROR} status, so no partition could be in
+   * error nor have a replica to disable, and when some partitions have neither enough replicas in
+   * {@link ExecutionStatus#COMPLETED} status to be completed nor a replica in
+   * {@link ExecutionStatus#END_OF_PUSH_RECEIVED} status, so the push could be neither completed nor have received the
+   * EOP in all its partitions.
+   */
+  boolean isStartedByPartitionCounters(OfflinePushStatus pushStatus) {
+    if (pushStatus.getReplicaCount(ERROR) > 0) {
+      return false;
+    }
+    int minCompletedReplicas = pushStatus.getReplicationFactor() - getNumberOfToleratedErrors();
+    int numberOfPartitions = pushStatus.getNumberOfPartition();
+    return pushStatus.getPartitionCountWithCompletedReplicas(minCompletedReplicas) < numberOfPartitions
+        && pushStatus.getPartitionCountWithEndOfPushOrCompletedReplicas(minCompletedReplicas) < numberOfPartitions;
+  }
+
   public static List<Instance> getReadyToServeInstances(
       PartitionStatus partitionStatus,
       PartitionAssignment partitionAssignment,
@@ -13,6 +13,7 @@ import com.linkedin.venice.pushstatus.PushStatusValue;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.io.Closeable;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -138,32 +139,13 @@ public class PushStatusStoreReader implements Closeable {
               incrementalPushVersion,
               PushStatusStoreUtils.SERVER_INCREMENTAL_PUSH_PREFIX));
     }
-    // get push status store client
-    AvroSpecificStoreClient<PushStatusKey, PushStatusValue> storeClient = getVeniceClient(storeName);
-    List<CompletableFuture<Map<PushStatusKey, PushStatusValue>>> completableFutures = new ArrayList<>();
-    Map<PushStatusKey, PushStatusValue> pushStatusMap = new HashMap<>();
-    int batchGetLimit = PUSH_STATUS_READER_BATCH_GET_LIMIT;
-    if (batchGetLimitOption.isPresent()) {
-      batchGetLimit = batchGetLimitOption.get();
-    }
-    int numberOfBatchRequests =
-        partitionIds.size() / batchGetLimit + (partitionIds.size() % batchGetLimit == 0 ? 0 : 1);
+    Map<PushStatusKey, PushStatusValue> pushStatusMap;
     try {
-      for (int i = 0; i < numberOfBatchRequests; i++) {
-        int start = i * batchGetLimit;
-        int end = Math.min(pushStatusKeys.size(), start + batchGetLimit);
-        Set<PushStatusKey> keySet = new HashSet<>(pushStatusKeys.subList(start, end));
-        CompletableFuture<Map<PushStatusKey, PushStatusValue>> completableFuture = storeClient.batchGet(keySet);
-        completableFutures.add(completableFuture);
-      }
-      for (CompletableFuture<Map<PushStatusKey, PushStatusValue>> completableFuture: completableFutures) {
-        Map<PushStatusKey, PushStatusValue> statuses = completableFuture.get();
-        if (statuses == null) {
-          LOGGER.warn("Failed to get incremental push status of some partitions. BatchGet returned null.");
-          throw new VeniceException("Failed to get incremental push status of some partitions");
-        }
-        pushStatusMap.putAll(statuses);
-      }
+      pushStatusMap = batchGet(
+          storeName,
+          pushStatusKeys,
+          batchGetLimitOption.orElse(PUSH_STATUS_READER_BATCH_GET_LIMIT),
+          "incremental push status of some partitions");
     } catch (InterruptedException | ExecutionException | VeniceClientException e) {
       LOGGER.error(
           "Failed to get statuses of partitions. store:{}, storeVersion:{} incrementalPushVersion:{} "
@@ -187,6 +169,90 @@ public class PushStatusStoreReader implements Closeable {
     return result;
   }
 
+  /**
+   * Return the statuses of all the replicas of the partitions in the range [0 (inclusive), numberOfPartitions
+   * (exclusive)) reported by the Da Vinci instances, reading them in batch gets of up to
+   * {@link #PUSH_STATUS_READER_BATCH_GET_LIMIT} keys instead of one single get per partition, as done by
+   * {@link #getPartitionStatus}. The partitions without any status are absent from the returned map.
+   * {partitionId: {instance:status, instance:status,...},...}
+   */
+  public Map<Integer, Map<CharSequence, Integer>> getPartitionStatusesInBatch(
+      String storeName,
+      int version,
+      int numberOfPartitions,
+      Optional<String> incrementalPushVersion) {
+    List<PushStatusKey> pushStatusKeys = new ArrayList<>(numberOfPartitions);
+    for (int partitionId = 0; partitionId < numberOfPartitions; partitionId++) {
+      pushStatusKeys.add(PushStatusStoreUtils.getPushKey(version, partitionId, incrementalPushVersion));
+    }
+    Map<PushStatusKey, PushStatusValue> pushStatusMap;
+    try {
+      pushStatusMap =
+          batchGet(storeName, pushStatusKeys, PUSH_STATUS_READER_BATCH_GET_LIMIT, "push status of some partitions");
+    } catch (Exception e) {
+      LOGGER.error("Failed to read push status of {} partitions, store: {}", numberOfPartitions, storeName, e);
+      throw new VeniceException(e);
+    }
+    Map<Integer, Map<CharSequence, Integer>> result = new HashMap<>(pushStatusMap.size());
+    for (int partitionId = 0; partitionId < numberOfPartitions; partitionId++) {
+      PushStatusValue pushStatusValue = pushStatusMap.get(pushStatusKeys.get(partitionId));
+      if (pushStatusValue != null && pushStatusValue.instances != null) {
+        result.put(partitionId, pushStatusValue.instances);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Return the last heartbeat timestamp of each of the given instances, read in batch gets of up to
+   * {@link #PUSH_STATUS_READER_BATCH_GET_LIMIT} keys. The instances which never sent any heartbeat get 0.
+   */
+  public Map<String, Long> getHeartbeats(String storeName, Collection<String> instanceNames) {
+    List<PushStatusKey> pushStatusKeys = new ArrayList<>(instanceNames.size());
+    for (String instanceName: instanceNames) {
+      pushStatusKeys.add(PushStatusStoreUtils.getHeartbeatKey(instanceName));
+    }
+    Map<PushStatusKey, PushStatusValue> pushStatusMap;
+    try {
+      pushStatusMap =
+          batchGet(storeName, pushStatusKeys, PUSH_STATUS_READER_BATCH_GET_LIMIT, "heartbeat of some instances");
+    } catch (Exception e) {
+      throw new VeniceException(e);
+    }
+    Map<String, Long> result = new HashMap<>(instanceNames.size());
+    for (PushStatusKey pushStatusKey: pushStatusKeys) {
+      PushStatusValue pushStatusValue = pushStatusMap.get(pushStatusKey);
+      result.put(
+          pushStatusKey.keyStrings.get(0).toString(),
+          pushStatusValue == null ? 0 : pushStatusValue.reportTimestamp);
+    }
+    return result;
+  }
+
+  private Map<PushStatusKey, PushStatusValue> batchGet(
+      String storeName,
+      List<PushStatusKey> pushStatusKeys,
+      int batchGetLimit,
+      String description) throws InterruptedException, ExecutionException {
+    AvroSpecificStoreClient<PushStatusKey, PushStatusValue> storeClient = getVeniceClient(storeName);
+    List<CompletableFuture<Map<PushStatusKey, PushStatusValue>>> completableFutures = new ArrayList<>();
+    for (int start = 0; start < pushStatusKeys.size(); start += batchGetLimit) {
+      int end = Math.min(pushStatusKeys.size(), start + batchGetLimit);
+      Set<PushStatusKey> keySet = new HashSet<>(pushStatusKeys.subList(start, end));
+      completableFutures.add(storeClient.batchGet(keySet));
+    }
+    Map<PushStatusKey, PushStatusValue> pushStatusMap = new HashMap<>();
+    for (CompletableFuture<Map<PushStatusKey, PushStatusValue>> completableFuture: completableFutures) {
+      Map<PushStatusKey, PushStatusValue> statuses = completableFuture.get();
+      if (statuses == null) {
+        LOGGER.warn("Failed to get {}. BatchGet returned null.", description);
+        throw new VeniceException("Failed to get " + description);
+      }
+      pushStatusMap.putAll(statuses);
+    }
+    return pushStatusMap;
+  }
+
   /**
    * @param instanceName = [hostname + appName]
    */
@@ -207,7 +273,13 @@ public class PushStatusStoreReader implements Closeable {
   }
 
   public boolean isInstanceAlive(String storeName, String instanceName) {
-    long lastReportTimeStamp = getHeartbeat(storeName, instanceName);
+    return isHeartbeatAlive(getHeartbeat(storeName, instanceName));
+  }
+
+  /**
+   * @return whether an instance whose last heartbeat was sent at the given timestamp is still considered alive.
+   */
+  public boolean isHeartbeatAlive(long lastReportTimeStamp) {
     return System.currentTimeMillis() - lastReportTimeStamp <= TimeUnit.SECONDS
         .toMillis(heartbeatExpirationTimeInSeconds);
   }
@@ -28,6 +28,13 @@ public class AvroStoreDeserializerCache<T> implements StoreDeserializerCache<T>
             : SerializerDeserializerFactory::getAvroGenericDeserializer);
   }
 
+  public AvroStoreDeserializerCache(
+      ReadOnlySchemaRepository schemaRepository,
+      String storeName,
+      BiFunction<Schema, Schema, RecordDeserializer<T>> deserializerGetter) {
+    this(id -> schemaRepository.getValueSchema(storeName, id).getSchema(), deserializerGetter);
+  }
+
   public AvroStoreDeserializerCache(SchemaReader schemaReader) {
     this(schemaReader::getValueSchema, FastSerializerDeserializerFactory::getFastAvroGenericDeserializer);
   }
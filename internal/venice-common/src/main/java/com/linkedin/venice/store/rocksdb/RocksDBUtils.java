@@ -16,6 +16,7 @@ public class RocksDBUtils {
 
   private static final String TEMP_SST_FILE_DIR = ".sst_files";
   private static final String TEMP_RMD_SST_FILE_DIR = ".sst_rmd_files";
+  private static final String SECONDARY_DB_DIR = ".secondary";
   private static final String TEMP_SST_FILE_PREFIX = "sst_file_";
   private static final String TEMP_RMD_SST_FILE_PREFIX = "sst_rmd_file_";
 
@@ -55,6 +56,14 @@ public class RocksDBUtils {
     return composePartitionDbDir(dbDir, storeName, partitionId) + File.separator + TEMP_RMD_SST_FILE_DIR;
   }
 
+  /**
+   * The dir of the info logs and the manifest of a RocksDB secondary instance following the partition database, which
+   * is kept inside the partition dir like the temp SST file dirs, so it goes away along with the partition.
+   */
+  public static String composeSecondaryDbDir(String dbDir, String storeName, int partitionId) {
+    return composePartitionDbDir(dbDir, storeName, partitionId) + File.separator + SECONDARY_DB_DIR;
+  }
+
   public static String composeTempSSTFileName(int fileNo) {
     return TEMP_SST_FILE_PREFIX + fileNo;
   }
@@ -0,0 +1,239 @@
+package com.linkedin.venice.helix;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.utils.TestUtils;
+import com.linkedin.venice.utils.locks.ClusterLockManager;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.helix.manager.zk.ZkBaseDataAccessor;
+import org.apache.helix.zookeeper.impl.client.ZkClient;
+import org.apache.zookeeper.data.Stat;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class CachedReadOnlyStoreRepositoryTest {
+  private static final String CLUSTER_NAME = "test-cluster";
+
+  /**
+   * The znodes of the stores, keyed by store name, along with their ZK version.
+   */
+  private final Map<String, Store> zkStores = new HashMap<>();
+  private final Map<String, Integer> zkVersions = new HashMap<>();
+  /**
+   * The names of the stores whose data was read from ZK.
+   */
+  private final List<String> readStoreNames = new ArrayList<>();
+
+  private ZkBaseDataAccessor<Store> zkDataAccessor;
+
+  @BeforeMethod
+  public void setUp() {
+    zkStores.clear();
+    zkVersions.clear();
+    readStoreNames.clear();
+    zkDataAccessor = mockZkDataAccessor();
+  }
+
+  @Test
+  public void testRefreshOnlyReadsNewAndChangedStores() {
+    CachedReadOnlyStoreRepository repo = new CachedReadOnlyStoreRepository(
+        mock(ZkClient.class),
+        zkDataAccessor,
+        CLUSTER_NAME,
+        new HelixAdapterSerializer(),
+        new ClusterLockManager(CLUSTER_NAME),
+        false);
+    writeStore(createStore("unchanged", 10));
+    writeStore(createStore("changed", 10));
+    writeStore(createStore("deleted", 10));
+    repo.refresh();
+    Assert.assertEquals(readStoreNames.size(), 3);
+    Assert.assertEquals(repo.getAllStores().size(), 3);
+    Assert.assertEquals(repo.getTotalStoreReadQuota(), 30);
+    Assert.assertEquals(repo.getCachedZkVersion("changed"), Integer.valueOf(0));
+
+    readStoreNames.clear();
+    writeStore(createStore("changed", 20));
+    deleteStore("deleted");
+    writeStore(createStore("added", 10));
+    repo.refresh();
+    // Only the changed and the newly added stores are read again
+    Assert.assertEqualsNoOrder(readStoreNames.toArray(), new String[] { "changed", "added" });
+    Assert.assertTrue(repo.hasStore("unchanged"));
+    Assert.assertTrue(repo.hasStore("added"));
+    Assert.assertFalse(repo.hasStore("deleted"));
+    Assert.assertNull(repo.getCachedZkVersion("deleted"));
+    Assert.assertEquals(repo.getStore("changed").getReadQuotaInCU(), 20);
+    Assert.assertEquals(repo.getCachedZkVersion("changed"), Integer.valueOf(1));
+    Assert.assertEquals(repo.getTotalStoreReadQuota(), 40);
+
+    // Nothing is read when nothing changed
+    readStoreNames.clear();
+    repo.refresh();
+    Assert.assertTrue(readStoreNames.isEmpty());
+    Assert.assertEquals(repo.getAllStores().size(), 3);
+  }
+
+  @Test
+  public void testGetChangedStoreNames() {
+    CachedReadOnlyStoreRepository repo = new CachedReadOnlyStoreRepository(
+        mock(ZkClient.class),
+        zkDataAccessor,
+        CLUSTER_NAME,
+        new HelixAdapterSerializer(),
+        new ClusterLockManager(CLUSTER_NAME),
+        false);
+    writeStore(createStore("unchanged", 10));
+    writeStore(createStore("changed", 10));
+    repo.refresh();
+
+    writeStore(createStore("changed", 10));
+    writeStore(createStore("added", 10));
+    Assert.assertEquals(
+        repo.getChangedStoreNames(Arrays.asList("unchanged", "changed", "added")),
+        Arrays.asList("changed", "added"));
+    // A store which was deleted in between has no stat, so it is reported to be read again and found missing
+    deleteStore("unchanged");
+    Assert.assertEquals(repo.getChangedStoreNames(Collections.singletonList("unchanged")), Arrays.asList("unchanged"));
+    Assert.assertEquals(repo.loadStoresFromZk(Collections.singletonList("unchanged")), Arrays.asList("unchanged"));
+  }
+
+  @Test
+  public void testRefreshOneStoreIfChanged() {
+    CachedReadOnlyStoreRepository repo = new CachedReadOnlyStoreRepository(
+        mock(ZkClient.class),
+        zkDataAccessor,
+        CLUSTER_NAME,
+        new HelixAdapterSerializer(),
+        new ClusterLockManager(CLUSTER_NAME),
+        false);
+    writeStore(createStore("s1", 10));
+    repo.refresh();
+
+    readStoreNames.clear();
+    repo.refreshOneStoreIfChanged("s1");
+    Assert.assertTrue(readStoreNames.isEmpty());
+
+    writeStore(createStore("s1", 20));
+    repo.refreshOneStoreIfChanged("s1");
+    Assert.assertEquals(readStoreNames, Collections.singletonList("s1"));
+    Assert.assertEquals(repo.getStore("s1").getReadQuotaInCU(), 20);
+    Assert.assertEquals(repo.getCachedZkVersion("s1"), Integer.valueOf(1));
+
+    deleteStore("s1");
+    repo.refreshOneStoreIfChanged("s1");
+    Assert.assertFalse(repo.hasStore("s1"));
+    Assert.assertNull(repo.getCachedZkVersion("s1"));
+  }
+
+  @Test
+  public void testStoreChangeNotificationDropsTheCachedZkVersion() {
+    HelixReadOnlyStoreRepository repo = new HelixReadOnlyStoreRepository(
+        mock(ZkClient.class),
+        zkDataAccessor,
+        new HelixAdapterSerializer(),
+        CLUSTER_NAME);
+    writeStore(createStore("s1", 10));
+    repo.refresh();
+    Assert.assertEquals(repo.getCachedZkVersion("s1"), Integer.valueOf(0));
+
+    // The notification carries the data of the store, but not the version of its znode
+    Store store = createStore("s1", 20);
+    writeStore(store);
+    readStoreNames.clear();
+    repo.onStoreChanged(store.cloneStore());
+    Assert.assertTrue(readStoreNames.isEmpty());
+    Assert.assertEquals(repo.getStore("s1").getReadQuotaInCU(), 20);
+    Assert.assertNull(repo.getCachedZkVersion("s1"));
+
+    // The next refresh reads the store again to learn its version, and the following ones skip it
+    repo.refresh();
+    Assert.assertEquals(readStoreNames, Collections.singletonList("s1"));
+    Assert.assertEquals(repo.getCachedZkVersion("s1"), Integer.valueOf(1));
+    readStoreNames.clear();
+    repo.refresh();
+    Assert.assertTrue(readStoreNames.isEmpty());
+  }
+
+  private Store createStore(String storeName, long readQuotaInCU) {
+    Store store = TestUtils.createTestStore(storeName, "owner", 1L);
+    store.setReadQuotaInCU(readQuotaInCU);
+    return store;
+  }
+
+  private void writeStore(Store store) {
+    zkStores.put(store.getName(), store);
+    zkVersions.merge(store.getName(), 0, (oldVersion, ignore) -> oldVersion + 1);
+  }
+
+  private void deleteStore(String storeName) {
+    zkStores.remove(storeName);
+    zkVersions.remove(storeName);
+  }
+
+  private static String getStoreName(String path) {
+    return path.substring(path.lastIndexOf('/') + 1);
+  }
+
+  private Stat getStat(String storeName) {
+    Integer version = zkVersions.get(storeName);
+    if (version == null) {
+      return null;
+    }
+    Stat stat = new Stat();
+    stat.setVersion(version);
+    return stat;
+  }
+
+  private Store readStore(String storeName) {
+    readStoreNames.add(storeName);
+    Store store = zkStores.get(storeName);
+    return store == null ? null : store.cloneStore();
+  }
+
+  @SuppressWarnings("unchecked")
+  private ZkBaseDataAccessor<Store> mockZkDataAccessor() {
+    ZkBaseDataAccessor<Store> accessor = mock(ZkBaseDataAccessor.class);
+    doAnswer(invocation -> new ArrayList<>(zkStores.keySet())).when(accessor).getChildNames(anyString(), anyInt());
+    doAnswer(invocation -> getStat(getStoreName(invocation.getArgument(0)))).when(accessor)
+        .getStat(anyString(), anyInt());
+    doAnswer(invocation -> {
+      List<String> paths = invocation.getArgument(0);
+      return paths.stream().map(path -> getStat(getStoreName(path))).toArray(Stat[]::new);
+    }).when(accessor).getStats(anyList(), anyInt());
+    doAnswer(invocation -> {
+      String storeName = getStoreName(invocation.getArgument(0));
+      Stat stat = getStat(storeName);
+      if (stat != null) {
+        ((Stat) invocation.getArgument(1)).setVersion(stat.getVersion());
+      }
+      return readStore(storeName);
+    }).when(accessor).get(anyString(), any(Stat.class), anyInt());
+    doAnswer(invocation -> {
+      List<String> paths = invocation.getArgument(0);
+      List<Stat> stats = invocation.getArgument(1);
+      List<Store> stores = new ArrayList<>(paths.size());
+      stats.clear();
+      for (String path: paths) {
+        String storeName = getStoreName(path);
+        stats.add(getStat(storeName));
+        stores.add(readStore(storeName));
+      }
+      return stores;
+    }).when(accessor).get(anyList(), anyList(), anyInt());
+    return accessor;
+  }
+}
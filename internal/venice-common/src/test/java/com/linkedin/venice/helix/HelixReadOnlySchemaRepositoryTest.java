@@ -3,6 +3,7 @@ package com.linkedin.venice.helix;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -28,6 +29,7 @@ import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import com.linkedin.venice.writer.update.UpdateBuilderImplTest;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -36,8 +38,10 @@ import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.apache.avro.Schema;
 import org.apache.helix.zookeeper.impl.client.ZkClient;
+import org.apache.helix.zookeeper.zkclient.IZkChildListener;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.mockito.ArgumentCaptor;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -183,6 +187,38 @@ public class HelixReadOnlySchemaRepositoryTest {
     assertEquals(schemaEntry, schemaEntryToReturn);
   }
 
+  @Test
+  public void testValueSchemaCreationPublishesNewSchemaData() throws Exception {
+    ReadOnlyStoreRepository storeRepository = mock(ReadOnlyStoreRepository.class);
+    ZkClient zkClient = mock(ZkClient.class);
+    HelixSchemaAccessor accessor = mock(HelixSchemaAccessor.class);
+    HelixReadOnlySchemaRepository schemaRepository =
+        new HelixReadOnlySchemaRepository(storeRepository, zkClient, accessor, 10, 100);
+    String storeName = "store";
+    Store store = mock(Store.class);
+    when(store.getLatestSuperSetValueSchemaId()).thenReturn(SchemaData.INVALID_VALUE_SCHEMA_ID);
+    when(storeRepository.getStoreOrThrow(storeName)).thenReturn(store);
+
+    SchemaEntry schemaEntry1 = new SchemaEntry(1, "\"int\"");
+    SchemaEntry schemaEntry2 = new SchemaEntry(2, "\"long\"");
+    when(accessor.getAllValueSchemas(storeName)).thenReturn(Collections.singletonList(schemaEntry1));
+    assertEquals(schemaRepository.getSupersetOrLatestValueSchema(storeName), schemaEntry1);
+    SchemaData previousSchemaData = schemaRepository.getSchemaMap().get(storeName);
+
+    ArgumentCaptor<IZkChildListener> listenerCaptor = ArgumentCaptor.forClass(IZkChildListener.class);
+    verify(accessor).subscribeValueSchemaCreationChange(eq(storeName), listenerCaptor.capture());
+    when(accessor.getValueSchema(storeName, "2")).thenReturn(schemaEntry2);
+    listenerCaptor.getValue()
+        .handleChildChange("/test-cluster/Stores/" + storeName + "/ValueSchema", Arrays.asList("1", "2"));
+
+    // The new schema is published in a new snapshot, and the previous snapshot is left untouched for its readers
+    assertEquals(schemaRepository.getSupersetOrLatestValueSchema(storeName), schemaEntry2);
+    assertEquals(schemaRepository.getValueSchema(storeName, 1), schemaEntry1);
+    Assert.assertNotSame(schemaRepository.getSchemaMap().get(storeName), previousSchemaData);
+    assertEquals(previousSchemaData.getMaxValueSchemaId(), 1);
+    Assert.assertNull(previousSchemaData.getValueSchema(2));
+  }
+
   private static String loadFileAsString(String fileName) {
     try {
       return IOUtils.toString(
@@ -0,0 +1,98 @@
+package com.linkedin.venice.helix;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.BufferReplayPolicy;
+import com.linkedin.venice.meta.DataReplicationPolicy;
+import com.linkedin.venice.meta.HybridStoreConfigImpl;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.VersionImpl;
+import com.linkedin.venice.meta.ViewConfig;
+import com.linkedin.venice.meta.ViewConfigImpl;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.utils.TestUtils;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestStoreAvroSerializer {
+  @Test
+  public void testSerializeAndDeserializeStore() throws IOException {
+    Store store = createStore();
+    StoreAvroSerializer serializer = new StoreAvroSerializer(true);
+    byte[] data = serializer.serialize(store, "");
+    Assert.assertTrue(StoreAvroSerializer.isBinaryFormat(data));
+
+    Store newStore = serializer.deserialize(data, "");
+    Assert.assertEquals(newStore, store);
+    Assert.assertEquals(newStore.getHybridStoreConfig(), store.getHybridStoreConfig());
+    Assert.assertEquals(newStore.getVersions().size(), 1);
+    Assert.assertEquals(newStore.getViewConfigs().keySet(), store.getViewConfigs().keySet());
+
+    // The binary format is smaller than the json one
+    Assert.assertTrue(data.length < new StoreJSONSerializer().serialize(store, "").length);
+  }
+
+  @Test
+  public void testWriterProtocolVersionIsPinned() throws IOException {
+    Store store = createStore();
+    byte[] data = new StoreAvroSerializer(true).serialize(store, "");
+    Assert.assertEquals(data[1], StoreAvroSerializer.WRITER_PROTOCOL_VERSION);
+
+    // A store written with an older protocol version is still readable
+    byte[] olderData =
+        new StoreAvroSerializer(true, StoreAvroSerializer.WRITER_PROTOCOL_VERSION - 1).serialize(store, "");
+    Assert.assertEquals(olderData[1], StoreAvroSerializer.WRITER_PROTOCOL_VERSION - 1);
+    Store newStore = new StoreAvroSerializer(true).deserialize(olderData, "");
+    Assert.assertEquals(newStore.getName(), store.getName());
+    Assert.assertEquals(newStore.getVersions().size(), 1);
+    Assert.assertEquals(newStore.getHybridStoreConfig(), store.getHybridStoreConfig());
+
+    // A store written with an unknown protocol version is rejected with a clear error
+    data[1] = (byte) (AvroProtocolDefinition.METADATA_SYSTEM_SCHEMA_STORE.getCurrentProtocolVersion() + 1);
+    Assert.assertThrows(IOException.class, () -> new StoreAvroSerializer(true).deserialize(data, ""));
+    Assert.assertThrows(
+        VeniceException.class,
+        () -> new StoreAvroSerializer(
+            true,
+            AvroProtocolDefinition.METADATA_SYSTEM_SCHEMA_STORE.getCurrentProtocolVersion() + 1));
+  }
+
+  @Test
+  public void testDeserializeJsonStore() throws IOException {
+    Store store = createStore();
+    byte[] jsonData = new StoreJSONSerializer().serialize(store, "");
+    Assert.assertEquals(new StoreAvroSerializer(true).deserialize(jsonData, ""), store);
+    Assert.assertEquals(new StoreAvroSerializer(false).deserialize(jsonData, ""), store);
+  }
+
+  @Test
+  public void testSerializeIntoJsonWhenBinaryFormatDisabled() throws IOException {
+    Store store = createStore();
+    byte[] data = new StoreAvroSerializer(false).serialize(store, "");
+    Assert.assertFalse(StoreAvroSerializer.isBinaryFormat(data));
+    Assert.assertEquals(new StoreJSONSerializer().deserialize(data, ""), store);
+  }
+
+  private Store createStore() {
+    Store store = TestUtils.createTestStore("s1", "owner", 1L);
+    store.addVersion(new VersionImpl(store.getName(), store.getLargestUsedVersionNumber() + 1, "pushJobId"));
+    store.setHybridStoreConfig(
+        new HybridStoreConfigImpl(
+            1000,
+            1000,
+            HybridStoreConfigImpl.DEFAULT_HYBRID_TIME_LAG_THRESHOLD,
+            DataReplicationPolicy.NON_AGGREGATE,
+            BufferReplayPolicy.REWIND_FROM_EOP));
+    store.setReadQuotaInCU(100);
+    Map<String, ViewConfig> viewConfigMap = new HashMap<>();
+    viewConfigMap.put(
+        "changeCapture",
+        new ViewConfigImpl("com.linkedin.venice.views.ChangeCaptureView", Collections.emptyMap()));
+    store.setViewConfigs(viewConfigMap);
+    return store;
+  }
+}
@@ -164,6 +164,52 @@ public class OfflinePushStatusTest {
     Assert.assertNotEquals(clonedPush, offlinePushStatus);
   }
 
+  @Test
+  public void testPartitionCountersOfClonedPushStatus() {
+    int partitionCount = PersistentPartitionStatusArray.CHUNK_SIZE * 3 + 1;
+    OfflinePushStatus offlinePushStatus =
+        new OfflinePushStatus(kafkaTopic, partitionCount, replicationFactor, strategy);
+    PartitionStatus partitionStatus = new PartitionStatus(1);
+    partitionStatus.updateReplicaStatus("i1", COMPLETED);
+    partitionStatus.updateReplicaStatus("i2", END_OF_PUSH_RECEIVED);
+    offlinePushStatus.setPartitionStatus(partitionStatus);
+
+    OfflinePushStatus clonedPush = offlinePushStatus.clonePushStatus();
+    partitionStatus = new PartitionStatus(partitionCount - 1);
+    partitionStatus.updateReplicaStatus("i1", COMPLETED);
+    partitionStatus.updateReplicaStatus("i2", COMPLETED);
+    clonedPush.setPartitionStatus(partitionStatus);
+    partitionStatus = new PartitionStatus(1);
+    partitionStatus.updateReplicaStatus("i1", ERROR);
+    clonedPush.setPartitionStatus(partitionStatus);
+
+    // Updating the cloned push status doesn't affect the original one
+    Assert.assertEquals(offlinePushStatus.getPartitionStatuses().size(), partitionCount);
+    Assert.assertTrue(offlinePushStatus.getPartitionStatus(partitionCount - 1).getReplicaStatuses().isEmpty());
+    Assert.assertEquals(offlinePushStatus.getPartitionStatus(1).getReplicaStatus("i1"), COMPLETED);
+    Assert.assertEquals(offlinePushStatus.getReplicaCount(COMPLETED), 1);
+    Assert.assertEquals(offlinePushStatus.getReplicaCount(ERROR), 0);
+    Assert.assertEquals(offlinePushStatus.getPartitionCountWithCompletedReplicas(1), 1);
+    Assert.assertEquals(offlinePushStatus.getPartitionCountWithEndOfPushOrCompletedReplicas(2), 1);
+
+    Assert.assertEquals(clonedPush.getPartitionStatuses().size(), partitionCount);
+    Assert.assertEquals(clonedPush.getReplicaCount(COMPLETED), 2);
+    Assert.assertEquals(clonedPush.getReplicaCount(ERROR), 1);
+    Assert.assertEquals(clonedPush.getPartitionCountWithCompletedReplicas(1), 1);
+    Assert.assertEquals(clonedPush.getPartitionCountWithCompletedReplicas(2), 1);
+    Assert.assertEquals(clonedPush.getPartitionCountWithEndOfPushOrCompletedReplicas(2), 1);
+    Assert.assertEquals(clonedPush.getStatusDetails(), "2/" + partitionCount + " partitions completed.");
+
+    // The incrementally maintained counters are the same as the recomputed ones
+    PersistentPartitionStatusArray recomputedStatuses = new PersistentPartitionStatusArray(partitionCount, 2);
+    clonedPush.getPartitionStatuses().forEach(recomputedStatuses::set);
+    Assert.assertTrue(recomputedStatuses.recount());
+    clonedPush.verifyPartitionCounters(1L);
+    Assert.assertEquals(clonedPush.getLastPartitionCountersCheckTimeMs(), 1L);
+    Assert.assertEquals(clonedPush.getReplicaCount(COMPLETED), recomputedStatuses.getReplicaCount(COMPLETED));
+    Assert.assertEquals(clonedPush.clonePushStatus(), clonedPush);
+  }
+
   @Test(expectedExceptions = VeniceException.class, expectedExceptionsMessageRegExp = "Partition 0 not found in partition assignment")
   public void testNPECaughtWhenPollingIncPushStatus() {
     OfflinePushStatus offlinePushStatus =
@@ -6,8 +6,12 @@ import static com.linkedin.venice.pushmonitor.ExecutionStatus.STARTED;
 
 import com.linkedin.venice.helix.HelixState;
 import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.meta.OfflinePushStrategy;
+import com.linkedin.venice.meta.Partition;
 import com.linkedin.venice.meta.PartitionAssignment;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
@@ -75,4 +79,48 @@ public class WaitAllPushStatusDeciderTest extends TestPushStatusDecider {
         statusDecider.getPartitionStatus(partitionStatus, replicationFactor, instanceToStateMap, null),
         COMPLETED);
   }
+
+  @Test
+  public void testCheckPushStatusByPartitionCounters() {
+    OfflinePushStatus pushStatus =
+        new OfflinePushStatus(topic, numberOfPartition, replicationFactor, OfflinePushStrategy.WAIT_ALL_REPLICAS);
+    Assert.assertTrue(statusDecider.isStartedByPartitionCounters(pushStatus));
+    PartitionAssignment onlinePartitionAssignment = new PartitionAssignment(topic, numberOfPartition);
+    for (int i = 0; i < numberOfPartition; i++) {
+      EnumMap<HelixState, List<Instance>> helixStateToInstancesMap = new EnumMap<>(HelixState.class);
+      helixStateToInstancesMap.put(HelixState.STANDBY, createInstances(replicationFactor));
+      onlinePartitionAssignment
+          .addPartition(new Partition(i, helixStateToInstancesMap, new EnumMap<>(ExecutionStatus.class)));
+    }
+
+    // All the replicas of all the partitions completed
+    for (int i = 0; i < numberOfPartition; i++) {
+      PartitionStatus partitionStatus = new PartitionStatus(i);
+      for (int j = 0; j < replicationFactor; j++) {
+        partitionStatus.updateReplicaStatus(nodeId + j, COMPLETED);
+      }
+      pushStatus.setPartitionStatus(partitionStatus);
+      Assert.assertEquals(statusDecider.isStartedByPartitionCounters(pushStatus), i < numberOfPartition - 1);
+    }
+    // The counters are verified on the first check, then the full check is only done when required by the counters
+    Assert.assertEquals(
+        statusDecider.checkPushStatusAndDetailsByPartitionsStatus(pushStatus, onlinePartitionAssignment, null)
+            .getStatus(),
+        COMPLETED);
+    Assert.assertTrue(pushStatus.getLastPartitionCountersCheckTimeMs() > 0);
+    Assert.assertEquals(
+        statusDecider.checkPushStatusAndDetailsByPartitionsStatus(pushStatus, onlinePartitionAssignment, null)
+            .getStatus(),
+        COMPLETED);
+
+    // An ERROR replica always requires the full check
+    PartitionStatus partitionStatus = new PartitionStatus(0);
+    partitionStatus.updateReplicaStatus(nodeId + 0, ERROR);
+    pushStatus.setPartitionStatus(partitionStatus);
+    Assert.assertFalse(statusDecider.isStartedByPartitionCounters(pushStatus));
+    Assert.assertEquals(
+        statusDecider.checkPushStatusAndDetailsByPartitionsStatus(pushStatus, onlinePartitionAssignment, null)
+            .getStatus(),
+        ERROR);
+  }
 }
@@ -0,0 +1,64 @@
+package com.linkedin.venice.router;
+
+import static com.linkedin.venice.HttpConstants.HTTP_GET;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.venice.integration.utils.VeniceClusterWrapper;
+import com.linkedin.venice.integration.utils.VeniceServerWrapper;
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.meta.QueryAction;
+import com.linkedin.venice.router.httpclient.NettyHttp2StorageNodeClient;
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
+import com.linkedin.venice.router.httpclient.StorageNodeClientType;
+import com.linkedin.venice.router.httpclient.VeniceMetaDataRequest;
+import com.linkedin.venice.security.SSLFactory;
+import com.linkedin.venice.utils.SslUtils;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestReadForNettyHttp2Client extends TestRead {
+  @Override
+  protected StorageNodeClientType getStorageNodeClientType() {
+    return StorageNodeClientType.NETTY_HTTP2_CLIENT;
+  }
+
+  @Override
+  protected boolean isRouterHttp2ClientEnabled() {
+    return true;
+  }
+
+  @Test
+  public void testNettyHttp2ClientSendRequest() throws Exception {
+    VeniceClusterWrapper veniceCluster = getVeniceCluster();
+    VeniceServerWrapper serverWrapper = veniceCluster.getVeniceServers().get(0);
+    Instance serverInstance = Instance.fromHostAndPort(serverWrapper.getHost(), serverWrapper.getPort());
+    Optional<SSLFactory> sslFactory = Optional.of(SslUtils.getVeniceLocalSslFactory());
+    // Form a heartbeat request
+    VeniceMetaDataRequest request =
+        new VeniceMetaDataRequest(serverInstance, QueryAction.HEALTH.toString().toLowerCase(), HTTP_GET, true);
+    request.setTimeout(1000);
+
+    VeniceRouterConfig config = mock(VeniceRouterConfig.class);
+    doReturn(1).when(config).getNettyHttp2ClientMaxConnectionsPerHost();
+    doReturn(100).when(config).getNettyHttp2ClientMaxConcurrentStreams();
+    doReturn(1024 * 1024).when(config).getNettyHttp2ClientInitialWindowSize();
+    doReturn(1000).when(config).getSocketTimeout();
+    doReturn(1000).when(config).getConnectionTimeout();
+    NioEventLoopGroup eventLoopGroup = new NioEventLoopGroup(2);
+    try (NettyHttp2StorageNodeClient client =
+        new NettyHttp2StorageNodeClient(sslFactory, config, eventLoopGroup, NioSocketChannel.class)) {
+      CompletableFuture<PortableHttpResponse> responseFuture = new CompletableFuture<>();
+      client.sendRequest(request, responseFuture);
+      Assert.assertEquals(responseFuture.get(3, TimeUnit.SECONDS).getStatusCode(), 200);
+    } finally {
+      eventLoopGroup.shutdownGracefully();
+    }
+  }
+}
@@ -0,0 +1,109 @@
+package com.linkedin.venice.server;
+
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.venice.ConfigKeys;
+import com.linkedin.venice.controllerapi.VersionCreationResponse;
+import com.linkedin.venice.integration.utils.ServiceFactory;
+import com.linkedin.venice.integration.utils.VeniceClusterWrapper;
+import com.linkedin.venice.integration.utils.VeniceServerWrapper;
+import com.linkedin.venice.offsets.OffsetRecord;
+import com.linkedin.venice.pushmonitor.ExecutionStatus;
+import com.linkedin.venice.serialization.avro.VeniceAvroKafkaSerializer;
+import com.linkedin.venice.utils.TestUtils;
+import com.linkedin.venice.utils.Time;
+import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.writer.VeniceWriter;
+import java.io.File;
+import java.util.HashMap;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+
+public class BlobSnapshotBootstrapTest {
+  private static final int RECORD_COUNT = 100;
+  private VeniceClusterWrapper cluster;
+
+  @BeforeClass
+  public void setUp() {
+    cluster = ServiceFactory.getVeniceCluster(1, 0, 1, 2, 1000000, false, false);
+  }
+
+  @AfterClass
+  public void cleanUp() {
+    Utils.closeQuietlyWithErrorLogged(cluster);
+  }
+
+  /**
+   * Pushes a version to two servers, replaces one of them by a new server, and verifies that the new replica has been
+   * bootstrapped from the snapshot served by the remaining one.
+   */
+  @Test(timeOut = 120 * Time.MS_PER_SECOND)
+  public void testNewReplicaBootstrapsFromPeerSnapshot() {
+    VeniceServerWrapper server0 = cluster.addVeniceServer(new Properties(), getServerProperties());
+    VeniceServerWrapper server1 = cluster.addVeniceServer(new Properties(), getServerProperties());
+
+    String storeName = Utils.getUniqueString("blob-snapshot-store");
+    cluster.getNewStore(storeName);
+    VersionCreationResponse response = cluster.getNewVersion(storeName);
+    String topicName = response.getKafkaTopic();
+    try (VeniceWriter<String, String, byte[]> veniceWriter = cluster.getVeniceWriter(topicName)) {
+      veniceWriter.broadcastStartOfPush(new HashMap<>());
+      for (int i = 0; i < RECORD_COUNT; i++) {
+        veniceWriter.put("key_" + i, "value_" + i, 1);
+      }
+      veniceWriter.broadcastEndOfPush(new HashMap<>());
+    }
+    TestUtils.waitForNonDeterministicAssertion(
+        60,
+        TimeUnit.SECONDS,
+        true,
+        () -> Assert.assertEquals(
+            cluster.getLeaderVeniceController()
+                .getVeniceAdmin()
+                .getOffLinePushStatus(cluster.getClusterName(), topicName)
+                .getExecutionStatus(),
+            ExecutionStatus.COMPLETED));
+
+    cluster.removeVeniceServer(server1.getPort());
+    VeniceServerWrapper server2 = cluster.addVeniceServer(new Properties(), getServerProperties());
+
+    TestUtils.waitForNonDeterministicAssertion(60, TimeUnit.SECONDS, true, () -> {
+      AbstractStorageEngine storageEngine =
+          server2.getVeniceServer().getStorageService().getStorageEngineRepository().getLocalStorageEngine(topicName);
+      Assert.assertNotNull(storageEngine);
+      Assert.assertTrue(storageEngine.containsPartition(0));
+      OffsetRecord offsetRecord = server2.getVeniceServer().getStorageMetadataService().getLastOffset(topicName, 0);
+      Assert.assertTrue(offsetRecord.isEndOfPushReceived());
+    });
+
+    // The new replica has been served a snapshot by the remaining one
+    File outgoingSnapshotDir = new File(server0.getDataDirectory(), "blob_snapshots/outgoing");
+    String[] snapshots = outgoingSnapshotDir.list();
+    Assert.assertNotNull(snapshots);
+    Assert.assertEquals(snapshots.length, 1);
+    Assert.assertTrue(snapshots[0].startsWith(topicName + "-0-"), "Unexpected snapshot: " + snapshots[0]);
+
+    AbstractStorageEngine snapshotSource =
+        server0.getVeniceServer().getStorageService().getStorageEngineRepository().getLocalStorageEngine(topicName);
+    AbstractStorageEngine bootstrapped =
+        server2.getVeniceServer().getStorageService().getStorageEngineRepository().getLocalStorageEngine(topicName);
+    VeniceAvroKafkaSerializer keySerializer = new VeniceAvroKafkaSerializer("\"string\"");
+    for (int i = 0; i < RECORD_COUNT; i++) {
+      byte[] key = keySerializer.serialize(topicName, "key_" + i);
+      byte[] value = bootstrapped.get(0, key);
+      Assert.assertNotNull(value, "Missing key: key_" + i);
+      Assert.assertEquals(value, snapshotSource.get(0, key));
+    }
+  }
+
+  private static Properties getServerProperties() {
+    Properties properties = new Properties();
+    properties.put(ConfigKeys.SERVER_BLOB_SNAPSHOT_SERVING_ENABLED, true);
+    properties.put(ConfigKeys.SERVER_BLOB_SNAPSHOT_BOOTSTRAP_ENABLED, true);
+    return properties;
+  }
+}
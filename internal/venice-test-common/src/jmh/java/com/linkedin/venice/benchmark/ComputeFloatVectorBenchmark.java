@@ -0,0 +1,191 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.venice.VeniceConstants;
+import com.linkedin.venice.compute.ComputeUtils;
+import com.linkedin.venice.compute.FloatVectorProjectingDeserializer;
+import com.linkedin.venice.compute.protocol.request.ComputeOperation;
+import com.linkedin.venice.compute.protocol.request.CosineSimilarity;
+import com.linkedin.venice.compute.protocol.request.DotProduct;
+import com.linkedin.venice.compute.protocol.request.HadamardProduct;
+import com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryDecoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Compares the two ways the storage node can serve a read compute request made of dot product, cosine similarity and
+ * hadamard product operations over an embedding:
+ *
+ * 1. Deserializing the whole value record with fast-avro, then running the operators over {@link List<Float>}.
+ * 2. Only decoding the embedding into a reused primitive float array with {@link FloatVectorProjectingDeserializer},
+ *    then running the operators over primitive arrays.
+ *
+ * Each invocation processes {@link #NUMBER_OF_RECORDS} records, which is the equivalent of one batch compute request.
+ */
+@Fork(value = 2, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ComputeFloatVectorBenchmark {
+  private static final int NUMBER_OF_RECORDS = 1_000;
+  private static final String VALUE_SCHEMA_STRING =
+      "{\"type\":\"record\",\"name\":\"EmbeddingValue\",\"fields\":[" + "{\"name\":\"id\",\"type\":\"string\"},"
+          + "{\"name\":\"attributes\",\"type\":{\"type\":\"map\",\"values\":\"string\"}},"
+          + "{\"name\":\"embedding\",\"type\":{\"type\":\"array\",\"items\":\"float\"}},"
+          + "{\"name\":\"timestamp\",\"type\":\"long\"}]}";
+  private static final String RESULT_SCHEMA_STRING = "{\"type\":\"record\",\"name\":\"EmbeddingResult\",\"fields\":["
+      + "{\"name\":\"dotProductResult\",\"type\":[\"null\",\"float\"],\"default\":null},"
+      + "{\"name\":\"cosineSimilarityResult\",\"type\":[\"null\",\"float\"],\"default\":null},"
+      + "{\"name\":\"hadamardProductResult\",\"type\":[\"null\",{\"type\":\"array\",\"items\":\"float\"}],\"default\":null},"
+      + "{\"name\":\"" + VeniceConstants.VENICE_COMPUTATION_ERROR_MAP_FIELD_NAME
+      + "\",\"type\":{\"type\":\"map\",\"values\":\"string\"}}]}";
+
+  @Param({ "64", "128", "256", "512", "1024" })
+  private int dimension;
+
+  private Schema valueSchema;
+  private Schema resultSchema;
+  private ByteBuffer[] serializedValues;
+  private List<ComputeOperation> operations;
+  private List<Schema.Field> operationResultFields;
+  private RecordDeserializer<GenericRecord> fullDeserializer;
+  private RecordDeserializer<GenericRecord> projectingDeserializer;
+  private final Map<String, Object> computeContext = new HashMap<>();
+  private BinaryDecoder reusedDecoder;
+  private GenericRecord reusedValueRecord;
+  private GenericRecord reusedResultRecord;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(dimension);
+    valueSchema = AvroCompatibilityHelper.parse(VALUE_SCHEMA_STRING);
+    resultSchema = AvroCompatibilityHelper.parse(RESULT_SCHEMA_STRING);
+
+    RecordSerializer<GenericRecord> serializer =
+        FastSerializerDeserializerFactory.getFastAvroGenericSerializer(valueSchema);
+    serializedValues = new ByteBuffer[NUMBER_OF_RECORDS];
+    for (int i = 0; i < NUMBER_OF_RECORDS; i++) {
+      Map<String, String> attributes = new HashMap<>();
+      attributes.put("category", "category_" + (i % 17));
+      attributes.put("locale", "en_US");
+      GenericRecord value = new GenericData.Record(valueSchema);
+      value.put("id", "item_" + i);
+      value.put("attributes", attributes);
+      value.put("embedding", randomVector(random));
+      value.put("timestamp", System.currentTimeMillis());
+      serializedValues[i] = ByteBuffer.wrap(serializer.serialize(value));
+    }
+
+    List<Float> param = randomVector(random);
+    DotProduct dotProduct = new DotProduct();
+    dotProduct.setField("embedding");
+    dotProduct.setResultFieldName("dotProductResult");
+    dotProduct.setDotProductParam(param);
+    CosineSimilarity cosineSimilarity = new CosineSimilarity();
+    cosineSimilarity.setField("embedding");
+    cosineSimilarity.setResultFieldName("cosineSimilarityResult");
+    cosineSimilarity.setCosSimilarityParam(param);
+    HadamardProduct hadamardProduct = new HadamardProduct();
+    hadamardProduct.setField("embedding");
+    hadamardProduct.setResultFieldName("hadamardProductResult");
+    hadamardProduct.setHadamardProductParam(param);
+    operations = Arrays.asList(
+        createOperation(ComputeOperationType.DOT_PRODUCT, dotProduct),
+        createOperation(ComputeOperationType.COSINE_SIMILARITY, cosineSimilarity),
+        createOperation(ComputeOperationType.HADAMARD_PRODUCT, hadamardProduct));
+    operationResultFields = ComputeUtils.getOperationResultFields(operations, resultSchema);
+
+    fullDeserializer = FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(valueSchema, valueSchema);
+    Set<String> vectorFields = ComputeUtils.getFloatVectorProjectionFields(operations, resultSchema, valueSchema);
+    projectingDeserializer = new FloatVectorProjectingDeserializer(valueSchema, valueSchema, vectorFields);
+    reusedDecoder = AvroCompatibilityHelper.newBinaryDecoder(new byte[16]);
+    reusedValueRecord = new GenericData.Record(valueSchema);
+    reusedResultRecord = new GenericData.Record(resultSchema);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NUMBER_OF_RECORDS)
+  public void fullDeserializationCompute(Blackhole bh) {
+    compute(fullDeserializer, bh);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NUMBER_OF_RECORDS)
+  public void floatVectorProjectionCompute(Blackhole bh) {
+    compute(projectingDeserializer, bh);
+  }
+
+  private void compute(RecordDeserializer<GenericRecord> deserializer, Blackhole bh) {
+    // Same lifecycle as the storage node: the context lives for the duration of one request
+    computeContext.clear();
+    for (int i = 0; i < NUMBER_OF_RECORDS; i++) {
+      reusedValueRecord = deserializer.deserialize(reusedValueRecord, serializedValues[i].duplicate(), reusedDecoder);
+      clearRecord(reusedResultRecord);
+      bh.consume(
+          ComputeUtils
+              .computeResult(operations, operationResultFields, computeContext, reusedValueRecord, reusedResultRecord));
+    }
+  }
+
+  private static void clearRecord(GenericRecord record) {
+    for (int i = 0; i < record.getSchema().getFields().size(); i++) {
+      record.put(i, null);
+    }
+  }
+
+  private List<Float> randomVector(Random random) {
+    List<Float> vector = new ArrayList<>(dimension);
+    for (int i = 0; i < dimension; i++) {
+      vector.add(random.nextFloat());
+    }
+    return vector;
+  }
+
+  private static ComputeOperation createOperation(ComputeOperationType type, Object operation) {
+    ComputeOperation computeOperation = new ComputeOperation();
+    computeOperation.setOperationType(type.getValue());
+    computeOperation.setOperation(operation);
+    return computeOperation;
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(ComputeFloatVectorBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(opt).run();
+  }
+}
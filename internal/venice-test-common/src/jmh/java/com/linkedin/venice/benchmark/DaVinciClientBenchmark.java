@@ -5,6 +5,8 @@ import static com.linkedin.venice.integration.utils.ServiceFactory.getVeniceClus
 
 import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
 import com.linkedin.davinci.client.DaVinciClient;
+import com.linkedin.davinci.client.DaVinciConfig;
+import com.linkedin.davinci.client.StorageClass;
 import com.linkedin.venice.integration.utils.VeniceClusterCreateOptions;
 import com.linkedin.venice.integration.utils.VeniceClusterWrapper;
 import com.linkedin.venice.utils.TestUtils;
@@ -59,6 +61,10 @@ public class DaVinciClientBenchmark {
   @Param({ "1" })
   int partitionCount;
 
+  // Plain-table RocksDB vs. off-heap memory
+  @Param({ "MEMORY_BACKED_BY_DISK", "MEMORY" })
+  StorageClass storageClass;
+
   VeniceClusterWrapper cluster;
   DaVinciClient<Integer, GenericRecord> client;
 
@@ -84,7 +90,11 @@ public class DaVinciClientBenchmark {
 
     keyCount = (int) (dataSize / valueSize);
     String storeName = buildDenseVectorStore(cluster);
-    client = getGenericAvroDaVinciClient(storeName, cluster);
+    client = getGenericAvroDaVinciClient(
+        storeName,
+        cluster,
+        Utils.getTempDataDirectory().getAbsolutePath(),
+        new DaVinciConfig().setStorageClass(storageClass));
     client.subscribeAll().get(5, TimeUnit.MINUTES);
 
     // Close as much as possible of the stuff we don't need, to minimize interference.
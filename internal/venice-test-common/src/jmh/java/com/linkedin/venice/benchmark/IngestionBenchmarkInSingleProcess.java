@@ -1,17 +1,32 @@
 package com.linkedin.venice.benchmark;
 
+import static com.linkedin.venice.ConfigKeys.SERVER_LEADER_PRODUCE_PIPELINE_WINDOW_SIZE;
+import static com.linkedin.venice.ConfigKeys.SERVER_PROMOTION_TO_LEADER_REPLICA_DELAY_SECONDS;
 import static com.linkedin.venice.integration.utils.ServiceFactory.getGenericAvroDaVinciClient;
+import static com.linkedin.venice.integration.utils.VeniceClusterWrapper.DEFAULT_KEY_SCHEMA;
+import static com.linkedin.venice.integration.utils.VeniceClusterWrapper.DEFAULT_VALUE_SCHEMA;
 
 import com.linkedin.davinci.client.DaVinciClient;
+import com.linkedin.venice.client.store.AvroGenericStoreClient;
+import com.linkedin.venice.client.store.ClientConfig;
+import com.linkedin.venice.client.store.ClientFactory;
+import com.linkedin.venice.controllerapi.UpdateStoreQueryParams;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.integration.utils.ServiceFactory;
 import com.linkedin.venice.integration.utils.VeniceClusterWrapper;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.serialization.VeniceKafkaSerializer;
+import com.linkedin.venice.serialization.avro.VeniceAvroKafkaSerializer;
+import com.linkedin.venice.utils.IntegrationTestPushUtils;
 import com.linkedin.venice.utils.TestUtils;
 import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.writer.VeniceWriter;
+import com.linkedin.venice.writer.VeniceWriterOptions;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Properties;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -35,6 +50,7 @@ import org.openjdk.jmh.profile.GCProfiler;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.testng.Assert;
 
 
 @BenchmarkMode(Mode.AverageTime)
@@ -51,6 +67,10 @@ public class IngestionBenchmarkInSingleProcess {
 
   private VeniceClusterWrapper cluster;
   private String storeName;
+  private String hybridStoreName;
+  private AvroGenericStoreClient<Integer, Object> hybridStoreClient;
+  private VeniceWriter<Object, Object, byte[]> realTimeTopicWriter;
+  private int nextKey = 0;
 
   @Param({ "100" })
   protected String valueLength;
@@ -58,16 +78,27 @@ public class IngestionBenchmarkInSingleProcess {
   @Param({ "FLOAT_VECTOR" })
   protected String valueType;
 
+  /**
+   * Only affects {@link #leaderIngestionBenchmarkTest()}: 0 produces to the version topic from the consumer thread,
+   * and a positive value pipelines the produce calls of the leader with that many pending ones per partition.
+   */
+  @Param({ "0", "64" })
+  protected String leaderProducePipelineWindowSize;
+
   @Setup
   public void setUp() throws Exception {
     Utils.thisIsLocalhost();
-    cluster = ServiceFactory.getVeniceCluster(1, 1, 1);
+    Properties serverProperties = new Properties();
+    serverProperties.put(SERVER_PROMOTION_TO_LEADER_REPLICA_DELAY_SECONDS, 1L);
+    serverProperties.put(SERVER_LEADER_PRODUCE_PIPELINE_WINDOW_SIZE, leaderProducePipelineWindowSize);
+    cluster = ServiceFactory.getVeniceCluster(1, 1, 1, 1, 100, false, false, serverProperties);
 
     if (valueType.equals("FLOAT_VECTOR")) {
       storeName = buildFloatVectorStore(cluster, Integer.parseInt(valueLength));
     } else {
       throw new VeniceException("Value type " + valueType + " is not supported in benchmark.");
     }
+    buildHybridStore(cluster);
 
     // JMH benchmark relies on System.exit to finish one round of benchmark run, otherwise it will hang there.
     TestUtils.restoreSystemExit();
@@ -75,6 +106,8 @@ public class IngestionBenchmarkInSingleProcess {
 
   @TearDown
   public void cleanUp() throws InterruptedException {
+    Utils.closeQuietlyWithErrorLogged(realTimeTopicWriter);
+    Utils.closeQuietlyWithErrorLogged(hybridStoreClient);
     cluster.close();
   }
 
@@ -94,6 +127,24 @@ public class IngestionBenchmarkInSingleProcess {
     }
   }
 
+  /**
+   * Measures the throughput of a hybrid leader: the records written to the real-time topic are consumed by the leader,
+   * which produces them to the version topic, before they are persisted and become readable.
+   */
+  @Benchmark
+  public void leaderIngestionBenchmarkTest() {
+    int lastKey = nextKey + NUM_RECORDS - 1;
+    for (int key = nextKey; key <= lastKey; key++) {
+      realTimeTopicWriter.put(key, key, 1);
+    }
+    realTimeTopicWriter.flush();
+    // The leader processes the records of a partition in order, so all of them are persisted once the last one is
+    TestUtils.waitForNonDeterministicAssertion(60, TimeUnit.SECONDS, () -> {
+      Assert.assertEquals(hybridStoreClient.get(lastKey).get(), lastKey);
+    });
+    nextKey = lastKey + 1;
+  }
+
   public static void main(String[] args) throws RunnerException {
     org.openjdk.jmh.runner.options.Options opt =
         new OptionsBuilder().include(IngestionBenchmarkInSingleProcess.class.getSimpleName())
@@ -112,4 +163,26 @@ public class IngestionBenchmarkInSingleProcess {
     record.put("value", floatVector);
     return cluster.createStore(NUM_RECORDS, record);
   }
+
+  private void buildHybridStore(VeniceClusterWrapper cluster) {
+    hybridStoreName = cluster.createStore(0);
+    cluster.updateStore(
+        hybridStoreName,
+        new UpdateStoreQueryParams().setHybridRewindSeconds(60).setHybridOffsetLagThreshold(10).setPartitionCount(1));
+    cluster.createVersion(hybridStoreName, 0);
+
+    VeniceKafkaSerializer keySerializer = new VeniceAvroKafkaSerializer(DEFAULT_KEY_SCHEMA);
+    VeniceKafkaSerializer valueSerializer = new VeniceAvroKafkaSerializer(DEFAULT_VALUE_SCHEMA);
+    realTimeTopicWriter = IntegrationTestPushUtils
+        .getVeniceWriterFactory(
+            cluster.getPubSubBrokerWrapper(),
+            cluster.getPubSubBrokerWrapper().getPubSubClientsFactory().getProducerAdapterFactory())
+        .createVeniceWriter(
+            new VeniceWriterOptions.Builder(Version.composeRealTimeTopic(hybridStoreName))
+                .setKeySerializer(keySerializer)
+                .setValueSerializer(valueSerializer)
+                .build());
+    hybridStoreClient = ClientFactory.getAndStartGenericAvroClient(
+        ClientConfig.defaultGenericClientConfig(hybridStoreName).setVeniceURL(cluster.getRandomRouterURL()));
+  }
 }
@@ -1,6 +1,7 @@
 package com.linkedin.venice.benchmark;
 
 import static com.linkedin.davinci.kafka.consumer.KafkaConsumerService.ConsumerAssignmentStrategy;
+import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_SECONDARY_READ_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_SHARED_CONSUMER_ASSIGNMENT_STRATEGY;
 import static com.linkedin.venice.ConfigKeys.SORTED_INPUT_DRAINER_SIZE;
 import static com.linkedin.venice.ConfigKeys.UNSORTED_INPUT_DRAINER_SIZE;
@@ -56,6 +57,11 @@ import org.testng.Assert;
  * We call it IngestionBenchmarkWithTwoProcesses since the main process only starts up a Da Vinci client
  * to do ingestion, while the testing cluster (including server, controller, kafka broker etc.) is spawned
  * in another process to maximize testing environment isolation.
+ *
+ * Each invocation subscribes to all the partitions and reads a sample of the keys, so it measures the time taken until
+ * the data is readable. With ingestion isolation, this includes the handover of each partition from the forked
+ * ingestion process to the main process, which the secondary reads shorten by serving the partitions from the data
+ * flushed by the forked process while it ingests them, and by completing them right after the forked process does.
  */
 @BenchmarkMode(Mode.AverageTime)
 @OperationsPerInvocation(VeniceClusterWrapper.NUM_RECORDS)
@@ -71,6 +77,11 @@ public class IngestionBenchmarkWithTwoProcesses {
   @Param({ "1", "2", "4" })
   private static int drainerSize;
 
+  @Param({ "NONE", "ISOLATED", "ISOLATED_WITH_SECONDARY_READ" })
+  private static String ingestionIsolation;
+
+  private static final int READ_SAMPLE_SIZE = 100;
+
   private String storeName;
 
   /**
@@ -123,6 +134,12 @@ public class IngestionBenchmarkWithTwoProcesses {
       backendConfig.put(SERVER_SHARED_CONSUMER_ASSIGNMENT_STRATEGY, strategy);
       backendConfig.put(SORTED_INPUT_DRAINER_SIZE, drainerSize);
       backendConfig.put(UNSORTED_INPUT_DRAINER_SIZE, drainerSize);
+      if (!ingestionIsolation.equals("NONE")) {
+        backendConfig.putAll(TestUtils.getIngestionIsolationPropertyMap());
+        backendConfig.put(
+            SERVER_INGESTION_ISOLATION_SECONDARY_READ_ENABLED,
+            ingestionIsolation.equals("ISOLATED_WITH_SECONDARY_READ"));
+      }
 
       DaVinciClient<String, String> client = getGenericAvroDaVinciClientWithRetries(
           storeName,
@@ -131,6 +148,13 @@ public class IngestionBenchmarkWithTwoProcesses {
           backendConfig);
       // Ingest data to local folder.
       client.subscribeAll().get(120, TimeUnit.SECONDS);
+      // The data has to be readable once the subscription completes.
+      int keyStep = VeniceClusterWrapper.NUM_RECORDS / READ_SAMPLE_SIZE;
+      for (int i = 0; i < VeniceClusterWrapper.NUM_RECORDS; i += keyStep) {
+        Object value = client.get(Integer.toString(i)).get();
+        Assert.assertNotNull(value, "Key " + i + " should be readable after the subscription.");
+        blackhole.consume(value);
+      }
       client.close();
     } catch (IOException | InterruptedException | ExecutionException | TimeoutException e) {
       throw new VeniceException(e);
@@ -0,0 +1,84 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.venice.stats.AbstractVeniceStats;
+import com.linkedin.venice.stats.StripedStatsSensor;
+import com.linkedin.venice.stats.TehutiUtils;
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.Sensor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Compares the throughput of recording a latency from all the threads into a per-store sensor and its total, with
+ * the percentiles, average and max of {@link TehutiUtils#getPercentileStatWithAvgAndMax(String, String)}, either in
+ * synchronized Tehuti sensors, or in {@link StripedStatsSensor}s.
+ */
+@Fork(value = 1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(Threads.MAX)
+public class MetricsRecordingBenchmark {
+  private MetricsRepository metricsRepository;
+  private LatencyStats storeStats;
+
+  @Setup
+  public void setUp() {
+    metricsRepository = new MetricsRepository();
+    LatencyStats totalStats = new LatencyStats(metricsRepository, "total", null);
+    storeStats = new LatencyStats(metricsRepository, "store", totalStats);
+  }
+
+  @TearDown
+  public void tearDown() {
+    metricsRepository.close();
+  }
+
+  @Benchmark
+  public void measureTehutiSensor() {
+    storeStats.tehutiSensor.record(ThreadLocalRandom.current().nextDouble(100));
+  }
+
+  @Benchmark
+  public void measureStripedStatsSensor() {
+    storeStats.stripedSensor.record(ThreadLocalRandom.current().nextDouble(100));
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(MetricsRecordingBenchmark.class.getSimpleName()).build();
+    new Runner(opt).run();
+  }
+
+  private static class LatencyStats extends AbstractVeniceStats {
+    private final Sensor tehutiSensor;
+    private final StripedStatsSensor stripedSensor;
+
+    LatencyStats(MetricsRepository metricsRepository, String name, LatencyStats totalStats) {
+      super(metricsRepository, name);
+      tehutiSensor = registerSensor(
+          "tehuti_latency",
+          totalStats == null ? null : new Sensor[] { totalStats.tehutiSensor },
+          TehutiUtils.getPercentileStatWithAvgAndMax(getName(), "tehuti_latency"));
+      stripedSensor =
+          registerStripedStatsSensor("striped_latency", totalStats == null ? null : totalStats.stripedSensor);
+    }
+  }
+}
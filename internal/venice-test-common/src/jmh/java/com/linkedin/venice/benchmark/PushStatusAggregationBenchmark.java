@@ -0,0 +1,106 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.venice.helix.HelixState;
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.meta.OfflinePushStrategy;
+import com.linkedin.venice.meta.Partition;
+import com.linkedin.venice.meta.PartitionAssignment;
+import com.linkedin.venice.pushmonitor.ExecutionStatus;
+import com.linkedin.venice.pushmonitor.OfflinePushStatus;
+import com.linkedin.venice.pushmonitor.PartitionStatus;
+import com.linkedin.venice.pushmonitor.PushStatusDecider;
+import com.linkedin.venice.pushmonitor.ReadOnlyPartitionStatus;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Measures the cost of handling one replica status report of a push of 10,000 partitions in the controller, as done by
+ * {@code AbstractPushMonitor#onPartitionStatusChange}: cloning the push status, updating the status of the partition
+ * and checking the status of the push.
+ *
+ * While the push is ongoing, the partition counters tell that the push could only be STARTED, so neither the clone nor
+ * the check go through all the partitions. Once all the partitions could be completed, the check has to go through all
+ * of them against the partition assignment.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PushStatusAggregationBenchmark {
+  private static final String TOPIC = "push_status_benchmark_store_v1";
+  private static final int PARTITION_COUNT = 10000;
+  private static final int REPLICATION_FACTOR = 3;
+
+  @Param({ "STARTED", "COMPLETED" })
+  private ExecutionStatus replicaStatus;
+
+  private OfflinePushStatus pushStatus;
+  private PartitionAssignment partitionAssignment;
+  private PushStatusDecider decider;
+  private PartitionStatus[] reportedPartitionStatuses;
+  private int nextPartition = 0;
+
+  @Setup
+  public void setUp() {
+    List<Instance> instances = new ArrayList<>(REPLICATION_FACTOR);
+    for (int i = 0; i < REPLICATION_FACTOR; i++) {
+      instances.add(new Instance("host" + i + "_1234", "host" + i, 1234));
+    }
+    partitionAssignment = new PartitionAssignment(TOPIC, PARTITION_COUNT);
+    pushStatus =
+        new OfflinePushStatus(TOPIC, PARTITION_COUNT, REPLICATION_FACTOR, OfflinePushStrategy.WAIT_ALL_REPLICAS);
+    reportedPartitionStatuses = new PartitionStatus[PARTITION_COUNT];
+    for (int partitionId = 0; partitionId < PARTITION_COUNT; partitionId++) {
+      EnumMap<HelixState, List<Instance>> helixStateToInstancesMap = new EnumMap<>(HelixState.class);
+      helixStateToInstancesMap.put(HelixState.LEADER, instances.subList(0, 1));
+      helixStateToInstancesMap.put(HelixState.STANDBY, instances.subList(1, REPLICATION_FACTOR));
+      partitionAssignment
+          .addPartition(new Partition(partitionId, helixStateToInstancesMap, new EnumMap<>(ExecutionStatus.class)));
+
+      PartitionStatus partitionStatus = new PartitionStatus(partitionId);
+      for (Instance instance: instances) {
+        partitionStatus.updateReplicaStatus(instance.getNodeId(), ExecutionStatus.STARTED);
+        partitionStatus.updateReplicaStatus(instance.getNodeId(), replicaStatus);
+      }
+      pushStatus.setPartitionStatus(partitionStatus, false);
+      reportedPartitionStatuses[partitionId] = ReadOnlyPartitionStatus.fromPartitionStatus(partitionStatus);
+    }
+    decider = pushStatus.getStrategy().getPushStatusDecider();
+    // The first check verifies the partition counters
+    decider.checkPushStatusAndDetailsByPartitionsStatus(pushStatus, partitionAssignment, null);
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(PushStatusAggregationBenchmark.class.getSimpleName()).build();
+    new Runner(opt).run();
+  }
+
+  @Benchmark
+  public void onPartitionStatusChange(Blackhole blackhole) {
+    OfflinePushStatus clonedPushStatus = pushStatus.clonePushStatus();
+    clonedPushStatus.setPartitionStatus(reportedPartitionStatuses[nextPartition]);
+    nextPartition = (nextPartition + 1) % PARTITION_COUNT;
+    pushStatus = clonedPushStatus;
+    blackhole.consume(decider.checkPushStatusAndDetailsByPartitionsStatus(pushStatus, partitionAssignment, null));
+  }
+}
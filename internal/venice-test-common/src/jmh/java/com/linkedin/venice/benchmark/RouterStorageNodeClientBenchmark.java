@@ -0,0 +1,158 @@
+package com.linkedin.venice.benchmark;
+
+import static com.linkedin.venice.integration.utils.ServiceFactory.getVeniceCluster;
+
+import com.linkedin.venice.ConfigKeys;
+import com.linkedin.venice.client.store.AvroGenericStoreClient;
+import com.linkedin.venice.client.store.ClientConfig;
+import com.linkedin.venice.client.store.ClientFactory;
+import com.linkedin.venice.controllerapi.UpdateStoreQueryParams;
+import com.linkedin.venice.integration.utils.VeniceClusterCreateOptions;
+import com.linkedin.venice.integration.utils.VeniceClusterWrapper;
+import com.linkedin.venice.router.httpclient.StorageNodeClientType;
+import com.linkedin.venice.utils.TestUtils;
+import com.linkedin.venice.utils.Utils;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Compares the storage node clients of the router, by sending single gets and batch gets through an SSL router to an
+ * SSL storage node with HTTP/2 enabled.
+ *
+ * Besides the latencies, the CPU time consumed per request is printed at the end of each iteration. It is the CPU time
+ * of the whole process, which also runs the client, the storage node and the rest of the cluster, but those do the
+ * same work with either storage node client, so the difference between the params is the one of the router.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class RouterStorageNodeClientBenchmark {
+  private static final int RECORD_COUNT = 10_000;
+  private static final int BATCH_GET_KEY_COUNT = 100;
+  private static final String VALUE_FIELD_NAME = "value";
+
+  @Param({ "HTTP_CLIENT_5_CLIENT", "NETTY_HTTP2_CLIENT" })
+  private StorageNodeClientType storageNodeClientType;
+
+  private VeniceClusterWrapper cluster;
+  private AvroGenericStoreClient<Integer, Object> client;
+  private final AtomicLong requestCount = new AtomicLong();
+  private long startCpuTimeNs;
+
+  @Setup
+  public void setUp() {
+    Utils.thisIsLocalhost();
+    Properties extraProperties = new Properties();
+    extraProperties.put(ConfigKeys.ROUTER_STORAGE_NODE_CLIENT_TYPE, storageNodeClientType.name());
+    extraProperties.put(ConfigKeys.ROUTER_HTTP_CLIENT5_SKIP_CIPHER_CHECK_ENABLED, true);
+    extraProperties.put(ConfigKeys.SERVER_HTTP2_INBOUND_ENABLED, true);
+    cluster = getVeniceCluster(
+        new VeniceClusterCreateOptions.Builder().numberOfControllers(1)
+            .numberOfServers(1)
+            .numberOfRouters(1)
+            .sslToStorageNodes(true)
+            .extraProperties(extraProperties)
+            .build());
+    String storeName = buildStore(cluster);
+    cluster.useControllerClient(c -> c.updateStore(storeName, new UpdateStoreQueryParams().setReadQuotaInCU(1000000)));
+    client = ClientFactory.getAndStartGenericAvroClient(
+        ClientConfig.defaultGenericClientConfig(storeName).setVeniceURL(cluster.getRandomRouterURL()));
+
+    // JMH benchmark relies on System.exit to finish one round of benchmark run, otherwise it will hang there.
+    TestUtils.restoreSystemExit();
+  }
+
+  @TearDown
+  public void cleanUp() {
+    client.close();
+    cluster.close();
+  }
+
+  @Setup(Level.Iteration)
+  public void startCpuTimeMeasurement() {
+    requestCount.set(0);
+    startCpuTimeNs = getProcessCpuTimeNs();
+  }
+
+  @TearDown(Level.Iteration)
+  public void printCpuTimePerRequest() {
+    long cpuTimeNs = getProcessCpuTimeNs() - startCpuTimeNs;
+    System.out.printf(
+        "%n%s: %.1f us of process CPU time per request%n",
+        storageNodeClientType,
+        cpuTimeNs / 1000.0 / Math.max(1, requestCount.get()));
+  }
+
+  private static long getProcessCpuTimeNs() {
+    return ((com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean())
+        .getProcessCpuTime();
+  }
+
+  private String buildStore(VeniceClusterWrapper cluster) {
+    Schema schema = Schema.parse(
+        "{" + "  \"namespace\" : \"example.avro\"," + "  \"type\": \"record\"," + "  \"name\": \"DenseVector\","
+            + "  \"fields\": [" + "     { \"name\": \"value\", \"type\": {\"type\": \"array\", \"items\": \"float\"} }"
+            + "   ]" + "}");
+    GenericRecord record = new GenericData.Record(schema);
+    Float[] values = new Float[10];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = 1.0f * i;
+    }
+    record.put(VALUE_FIELD_NAME, Arrays.asList(values));
+    return cluster.createStore(RECORD_COUNT, record);
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(RouterStorageNodeClientBenchmark.class.getSimpleName()).build();
+    new Runner(opt).run();
+  }
+
+  @Benchmark
+  public void singleGet(Blackhole blackhole) throws ExecutionException, InterruptedException {
+    requestCount.incrementAndGet();
+    blackhole.consume(client.get(ThreadLocalRandom.current().nextInt(RECORD_COUNT)).get());
+  }
+
+  @Benchmark
+  public void batchGet(Blackhole blackhole) throws ExecutionException, InterruptedException {
+    Set<Integer> keys = new HashSet<>();
+    while (keys.size() < BATCH_GET_KEY_COUNT) {
+      keys.add(ThreadLocalRandom.current().nextInt(RECORD_COUNT));
+    }
+    requestCount.incrementAndGet();
+    blackhole.consume(client.batchGet(keys).get());
+  }
+}
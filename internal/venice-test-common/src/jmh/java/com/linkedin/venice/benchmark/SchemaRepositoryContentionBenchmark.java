@@ -0,0 +1,165 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.venice.helix.HelixAdapterSerializer;
+import com.linkedin.venice.helix.HelixReadOnlySchemaRepository;
+import com.linkedin.venice.helix.HelixReadOnlyStoreRepository;
+import com.linkedin.venice.helix.HelixReadWriteSchemaRepository;
+import com.linkedin.venice.helix.HelixReadWriteStoreRepository;
+import com.linkedin.venice.helix.ZkClientFactory;
+import com.linkedin.venice.integration.utils.ServiceFactory;
+import com.linkedin.venice.integration.utils.ZkServerWrapper;
+import com.linkedin.venice.meta.OfflinePushStrategy;
+import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.meta.ReadStrategy;
+import com.linkedin.venice.meta.RoutingStrategy;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.ZKStore;
+import com.linkedin.venice.utils.TestUtils;
+import com.linkedin.venice.utils.locks.ClusterLockManager;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.helix.zookeeper.impl.client.ZkClient;
+import org.apache.zookeeper.CreateMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Measures the throughput of the schema lookups of {@link HelixReadOnlySchemaRepository} from many threads, as done
+ * by the read compute requests and by the ingestion, optionally while another thread keeps refreshing the repository,
+ * like on the ZK reconnections.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class SchemaRepositoryContentionBenchmark {
+  private static final String CLUSTER_NAME = "schema-repository-benchmark-cluster";
+  private static final String STORE_NAME = "schema_repository_benchmark_store";
+  private static final int VALUE_SCHEMA_COUNT = 20;
+
+  @Param({ "false", "true" })
+  private boolean backgroundRefresh;
+
+  private ZkServerWrapper zkServerWrapper;
+  private ZkClient zkClient;
+  private HelixReadOnlySchemaRepository schemaRepository;
+  private Thread refreshThread;
+  private volatile boolean stopRefresh = false;
+
+  @Setup
+  public void setUp() {
+    zkServerWrapper = ServiceFactory.getZkServer();
+    HelixAdapterSerializer adapter = new HelixAdapterSerializer();
+    zkClient = ZkClientFactory.newZkClient(zkServerWrapper.getAddress());
+    zkClient.setZkSerializer(adapter);
+    zkClient.create("/" + CLUSTER_NAME, null, CreateMode.PERSISTENT);
+    zkClient.create("/" + CLUSTER_NAME + "/Stores", null, CreateMode.PERSISTENT);
+
+    HelixReadWriteStoreRepository storeRWRepo = new HelixReadWriteStoreRepository(
+        zkClient,
+        adapter,
+        CLUSTER_NAME,
+        Optional.empty(),
+        new ClusterLockManager(CLUSTER_NAME));
+    storeRWRepo.refresh();
+    HelixReadOnlyStoreRepository storeRORepo =
+        new HelixReadOnlyStoreRepository(zkClient, adapter, CLUSTER_NAME, 1, 1000);
+    storeRORepo.refresh();
+    HelixReadWriteSchemaRepository schemaRWRepo =
+        new HelixReadWriteSchemaRepository(storeRWRepo, zkClient, adapter, CLUSTER_NAME, Optional.empty());
+    schemaRepository = new HelixReadOnlySchemaRepository(storeRORepo, zkClient, adapter, CLUSTER_NAME, 1, 1000);
+
+    Store store = new ZKStore(
+        STORE_NAME,
+        "owner",
+        System.currentTimeMillis(),
+        PersistenceType.ROCKS_DB,
+        RoutingStrategy.CONSISTENT_HASH,
+        ReadStrategy.ANY_OF_ONLINE,
+        OfflinePushStrategy.WAIT_ALL_REPLICAS,
+        1);
+    storeRWRepo.addStore(store);
+    TestUtils.waitForNonDeterministicCompletion(10, TimeUnit.SECONDS, () -> storeRORepo.hasStore(STORE_NAME));
+    schemaRWRepo.initKeySchema(STORE_NAME, "\"string\"");
+    StringBuilder fields = new StringBuilder("{\"name\":\"f0\",\"type\":\"int\",\"default\":0}");
+    for (int i = 1; i <= VALUE_SCHEMA_COUNT; i++) {
+      fields.append(",{\"name\":\"f").append(i).append("\",\"type\":\"int\",\"default\":0}");
+      schemaRWRepo
+          .addValueSchema(STORE_NAME, "{\"type\":\"record\",\"name\":\"Value\",\"fields\":[" + fields + "]}", i);
+    }
+    TestUtils.waitForNonDeterministicCompletion(
+        10,
+        TimeUnit.SECONDS,
+        () -> schemaRepository.getValueSchemas(STORE_NAME).size() == VALUE_SCHEMA_COUNT);
+
+    if (backgroundRefresh) {
+      refreshThread = new Thread(() -> {
+        while (!stopRefresh) {
+          schemaRepository.refresh();
+          try {
+            Thread.sleep(10);
+          } catch (InterruptedException e) {
+            break;
+          }
+        }
+      }, "SchemaRepositoryContentionBenchmark-Refresh");
+      refreshThread.start();
+    }
+
+    // JMH benchmark relies on System.exit to finish one round of benchmark run, otherwise it will hang there.
+    TestUtils.restoreSystemExit();
+  }
+
+  @TearDown
+  public void cleanUp() throws InterruptedException {
+    stopRefresh = true;
+    if (refreshThread != null) {
+      refreshThread.interrupt();
+      refreshThread.join();
+    }
+    schemaRepository.clear();
+    zkClient.close();
+    zkServerWrapper.close();
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(SchemaRepositoryContentionBenchmark.class.getSimpleName()).build();
+    new Runner(opt).run();
+  }
+
+  @Benchmark
+  public void getValueSchema(Blackhole blackhole) {
+    blackhole.consume(
+        schemaRepository.getValueSchema(STORE_NAME, ThreadLocalRandom.current().nextInt(VALUE_SCHEMA_COUNT) + 1));
+  }
+
+  @Benchmark
+  public void getSupersetOrLatestValueSchema(Blackhole blackhole) {
+    blackhole.consume(schemaRepository.getSupersetOrLatestValueSchema(STORE_NAME));
+  }
+
+  @Benchmark
+  public void getKeySchema(Blackhole blackhole) {
+    blackhole.consume(schemaRepository.getKeySchema(STORE_NAME));
+  }
+}
@@ -0,0 +1,155 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.davinci.store.StoragePartitionConfig;
+import com.linkedin.davinci.store.record.ValueRecord;
+import com.linkedin.davinci.store.rocksdb.RocksDBServerConfig;
+import com.linkedin.davinci.store.rocksdb.RocksDBStorageEngineFactory;
+import com.linkedin.davinci.store.rocksdb.RocksDBStoragePartition;
+import com.linkedin.davinci.store.rocksdb.RocksDBThrottler;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.listener.response.StorageResponseObject;
+import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.VeniceProperties;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.rocksdb.RocksDB;
+
+
+/**
+ * Compares the regular single get path of the storage nodes, which copies the value out of RocksDB into a byte array
+ * wrapped by a {@link ValueRecord} and a fresh {@link StorageResponseObject}, with the fast path, which reads the
+ * value into a pooled direct buffer and takes the response from a pool. Each operation is a whole lookup, from the
+ * key to the release of the response body, as done by Netty once it has been written to the socket.
+ *
+ * The allocation rate per single get is reported by the {@link GCProfiler} as "gc.alloc.rate.norm", which should be
+ * close to zero for the fast path. The parsing of the request and the HTTP encoding of the response are not included.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SingleGetFastPathBenchmark {
+  private static final String DATA_BASE_DIR = Utils.getUniqueTempPath();
+  private static final String KEY_PREFIX = "key_";
+  private static final int ROW_COUNT = 100_000;
+  private static final int SCHEMA_ID = 1;
+  private static final int VALUE_BUFFER_SIZE = 4 * 1024;
+  private static final ByteBufAllocator ALLOCATOR = PooledByteBufAllocator.DEFAULT;
+
+  @Param({ "100", "2500" })
+  private int valueLength;
+
+  private RocksDBStoragePartition storagePartition;
+  private String storeDir;
+  private byte[][] keys;
+
+  @Setup
+  public void setUp() {
+    RocksDB.loadLibrary();
+    String storeName = Utils.getUniqueString("test_store");
+    File storeDirFile = new File(DATA_BASE_DIR, storeName).getAbsoluteFile();
+    if (!storeDirFile.mkdirs()) {
+      throw new VeniceException("Failed to mkdirs for path: " + storeDirFile.getPath());
+    }
+    storeDir = storeDirFile.getPath();
+    VeniceProperties veniceServerProperties =
+        RocksDBLookupApiBenchmark.getServerProperties(PersistenceType.ROCKS_DB, new Properties());
+    storagePartition = new RocksDBStoragePartition(
+        new StoragePartitionConfig(storeName, 0),
+        new RocksDBStorageEngineFactory(new VeniceServerConfig(veniceServerProperties)),
+        DATA_BASE_DIR,
+        null,
+        new RocksDBThrottler(3),
+        new RocksDBServerConfig(veniceServerProperties));
+
+    byte[] value = new byte[valueLength];
+    keys = new byte[ROW_COUNT][];
+    for (int i = 0; i < ROW_COUNT; ++i) {
+      ThreadLocalRandom.current().nextBytes(value);
+      keys[i] = (KEY_PREFIX + i).getBytes(StandardCharsets.UTF_8);
+      storagePartition.put(keys[i], ValueRecord.create(SCHEMA_ID, value).serialize());
+    }
+    storagePartition.sync();
+  }
+
+  @TearDown
+  public void tearDown() {
+    storagePartition.drop();
+    File file = new File(storeDir);
+    if (file.exists() && !file.delete()) {
+      throw new VeniceException("Failed to remove path: " + storeDir);
+    }
+  }
+
+  /**
+   * Same steps as {@link com.linkedin.davinci.storage.chunking.SingleGetChunkingAdapter} for a non-chunked store.
+   */
+  @Benchmark
+  public void measureRegularSingleGet(Blackhole bh) {
+    byte[] key = keys[ThreadLocalRandom.current().nextInt(ROW_COUNT)];
+    StorageResponseObject response = new StorageResponseObject();
+    response.setValueRecord(ValueRecord.parseAndCreate(storagePartition.get(key)));
+    ByteBuf body = response.getResponseBody();
+    bh.consume(response.getResponseSchemaIdHeader());
+    bh.consume(body.readableBytes());
+    body.release();
+  }
+
+  /**
+   * Same steps as the single get fast path of the storage nodes.
+   */
+  @Benchmark
+  public void measureFastPathSingleGet(Blackhole bh) {
+    byte[] key = keys[ThreadLocalRandom.current().nextInt(ROW_COUNT)];
+    StorageResponseObject response = StorageResponseObject.newPooledInstance();
+    ByteBuf keyBuffer = ALLOCATOR.directBuffer(key.length);
+    keyBuffer.writeBytes(key);
+    ByteBuf value = ALLOCATOR.directBuffer(VALUE_BUFFER_SIZE);
+    int valueSize = storagePartition
+        .getIntoDirectBuffer(keyBuffer.internalNioBuffer(0, key.length), value.internalNioBuffer(0, value.capacity()));
+    keyBuffer.release();
+    value.writerIndex(valueSize);
+    int schemaId = value.getInt(0);
+    value.readerIndex(ValueRecord.SCHEMA_HEADER_LENGTH);
+    response.setValueBuffer(value, schemaId);
+    ByteBuf body = response.getResponseBody();
+    bh.consume(response.getResponseSchemaIdHeader());
+    bh.consume(body.readableBytes());
+    response.recycle();
+    body.release();
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(SingleGetFastPathBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(opt).run();
+  }
+}
@@ -0,0 +1,154 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.venice.helix.HelixAdapterSerializer;
+import com.linkedin.venice.helix.HelixReadOnlyStoreRepository;
+import com.linkedin.venice.helix.HelixReadWriteStoreRepository;
+import com.linkedin.venice.helix.ZkClientFactory;
+import com.linkedin.venice.integration.utils.ServiceFactory;
+import com.linkedin.venice.integration.utils.ZkServerWrapper;
+import com.linkedin.venice.meta.BufferReplayPolicy;
+import com.linkedin.venice.meta.DataReplicationPolicy;
+import com.linkedin.venice.meta.HybridStoreConfigImpl;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.VersionImpl;
+import com.linkedin.venice.utils.TestUtils;
+import com.linkedin.venice.utils.locks.ClusterLockManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.apache.helix.AccessOption;
+import org.apache.helix.manager.zk.ZkBaseDataAccessor;
+import org.apache.helix.zookeeper.impl.client.ZkClient;
+import org.apache.zookeeper.CreateMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Measures the time taken by {@link HelixReadOnlyStoreRepository} to load a cluster of 50,000 stores from ZK, as done
+ * by the routers and servers at start time, with the stores written either in json or in the binary format, and the
+ * time taken by the refresh of an already loaded repository, as done on each ZK reconnection.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms8G", "-Xmx8G" })
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StoreRepositoryStartupBenchmark {
+  private static final String CLUSTER_NAME = "store-repository-benchmark-cluster";
+  private static final int STORE_COUNT = 50000;
+  private static final int STORE_WRITE_BATCH_SIZE = 1000;
+
+  @Param({ "false", "true" })
+  private boolean storeBinaryFormatEnabled;
+
+  private ZkServerWrapper zkServerWrapper;
+  private ZkClient zkClient;
+  private HelixAdapterSerializer adapter;
+  private HelixReadOnlyStoreRepository loadedRepository;
+  private HelixReadOnlyStoreRepository coldRepository;
+
+  @Setup
+  public void setUp() {
+    zkServerWrapper = ServiceFactory.getZkServer();
+    adapter = new HelixAdapterSerializer();
+    zkClient = ZkClientFactory.newZkClient(zkServerWrapper.getAddress());
+    zkClient.setZkSerializer(adapter);
+    zkClient.create("/" + CLUSTER_NAME, null, CreateMode.PERSISTENT);
+    zkClient.create("/" + CLUSTER_NAME + "/Stores", null, CreateMode.PERSISTENT);
+
+    // Registers the store serializer writing the requested format
+    new HelixReadWriteStoreRepository(
+        zkClient,
+        adapter,
+        CLUSTER_NAME,
+        Optional.empty(),
+        new ClusterLockManager(CLUSTER_NAME),
+        storeBinaryFormatEnabled);
+    ZkBaseDataAccessor<Store> zkDataAccessor = new ZkBaseDataAccessor<>(zkClient);
+    List<String> paths = new ArrayList<>(STORE_WRITE_BATCH_SIZE);
+    List<Store> stores = new ArrayList<>(STORE_WRITE_BATCH_SIZE);
+    for (int i = 0; i < STORE_COUNT; i++) {
+      Store store = createStore("benchmark_store_" + i);
+      paths.add("/" + CLUSTER_NAME + "/Stores/" + store.getName());
+      stores.add(store);
+      if (paths.size() == STORE_WRITE_BATCH_SIZE || i == STORE_COUNT - 1) {
+        zkDataAccessor.createChildren(paths, stores, AccessOption.PERSISTENT);
+        paths.clear();
+        stores.clear();
+      }
+    }
+
+    loadedRepository = new HelixReadOnlyStoreRepository(zkClient, adapter, CLUSTER_NAME, 1, 1000);
+    loadedRepository.refresh();
+
+    // JMH benchmark relies on System.exit to finish one round of benchmark run, otherwise it will hang there.
+    TestUtils.restoreSystemExit();
+  }
+
+  @TearDown
+  public void cleanUp() {
+    loadedRepository.clear();
+    zkClient.close();
+    zkServerWrapper.close();
+  }
+
+  @TearDown(Level.Invocation)
+  public void clearColdRepository() {
+    if (coldRepository != null) {
+      coldRepository.clear();
+      coldRepository = null;
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(StoreRepositoryStartupBenchmark.class.getSimpleName()).build();
+    new Runner(opt).run();
+  }
+
+  @Benchmark
+  public void coldStartRefresh(Blackhole blackhole) {
+    coldRepository = new HelixReadOnlyStoreRepository(zkClient, adapter, CLUSTER_NAME, 1, 1000);
+    coldRepository.refresh();
+    blackhole.consume(coldRepository.getAllStores().size());
+  }
+
+  @Benchmark
+  public void loadedRefresh(Blackhole blackhole) {
+    loadedRepository.refresh();
+    blackhole.consume(loadedRepository.getAllStores().size());
+  }
+
+  private static Store createStore(String storeName) {
+    Store store = TestUtils.createTestStore(storeName, "owner", System.currentTimeMillis());
+    for (int i = 0; i < 3; i++) {
+      store.addVersion(new VersionImpl(storeName, store.getLargestUsedVersionNumber() + 1, "pushJobId" + i));
+    }
+    store.setCurrentVersionWithoutCheck(store.getLargestUsedVersionNumber());
+    store.setHybridStoreConfig(
+        new HybridStoreConfigImpl(
+            1000,
+            1000,
+            HybridStoreConfigImpl.DEFAULT_HYBRID_TIME_LAG_THRESHOLD,
+            DataReplicationPolicy.NON_AGGREGATE,
+            BufferReplayPolicy.REWIND_FROM_EOP));
+    return store;
+  }
+}
@@ -0,0 +1,78 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.alpini.base.concurrency.TimeoutProcessor;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Measures the throughput of scheduling and cancelling timeouts from many threads on a {@link TimeoutProcessor}, as
+ * done by the router for the requests and their long tail retries, for each of the event stores.
+ *
+ * Most of the timeouts are cancelled before they expire, which is what {@link #scheduleAndCancel} measures, while
+ * {@link #scheduleAndExpire} measures the timeouts which are left to expire.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Threads(16)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TimeoutProcessorBenchmark {
+  private static final Runnable TASK = () -> {
+    // Does nothing
+  };
+
+  @Param({ "TreeMap", "SkipList", "TimingWheel" })
+  private String eventStore;
+
+  private TimeoutProcessor timeoutProcessor;
+
+  @Setup
+  public void setUp() {
+    if ("TimingWheel".equals(eventStore)) {
+      timeoutProcessor = TimeoutProcessor.withTimingWheel(null, 1);
+    } else {
+      timeoutProcessor = new TimeoutProcessor(null, "TreeMap".equals(eventStore), 1);
+    }
+  }
+
+  @TearDown
+  public void cleanUp() throws InterruptedException {
+    timeoutProcessor.shutdownNow();
+    timeoutProcessor.awaitTermination(10, TimeUnit.SECONDS);
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(TimeoutProcessorBenchmark.class.getSimpleName()).build();
+    new Runner(opt).run();
+  }
+
+  @Benchmark
+  public void scheduleAndCancel(Blackhole blackhole) {
+    TimeoutProcessor.TimeoutFuture future = timeoutProcessor.schedule(TASK, 10, TimeUnit.SECONDS);
+    blackhole.consume(future.cancel());
+  }
+
+  @Benchmark
+  public void scheduleAndExpire(Blackhole blackhole) {
+    blackhole.consume(timeoutProcessor.schedule(TASK, 10, TimeUnit.MILLISECONDS));
+  }
+}
@@ -12,6 +12,7 @@ import com.linkedin.venice.utils.Utils;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
@@ -25,6 +26,7 @@ import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OperationsPerInvocation;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -37,11 +39,16 @@ import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 
+/**
+ * Measures the single gets of the thin client, issued {@link #concurrency} at a time, with and without coalescing them
+ * into batch gets. The average time is per single get, so the latency of each of them is roughly the average time
+ * multiplied by the concurrency.
+ */
 @Fork(value = 2, jvmArgs = { "-Xms4G", "-Xmx4G" })
 @Warmup(iterations = 2)
 @Measurement(iterations = 3)
 @State(Scope.Benchmark)
-@BenchmarkMode(Mode.AverageTime)
+@BenchmarkMode({ Mode.AverageTime, Mode.Throughput })
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
 public class VeniceClientBenchmark {
   protected static final int KEY_COUNT = 100_000;
@@ -49,6 +56,12 @@ public class VeniceClientBenchmark {
   protected static final String VALUE_FIELD_NAME = "value";
   protected int[] keys = new int[KEY_COUNT];
 
+  @Param({ "1", "16", "64" })
+  protected int concurrency;
+
+  @Param({ "0", "200" })
+  protected long singleGetBatchingWindowInMicros;
+
   protected VeniceClusterWrapper cluster;
   protected AvroGenericStoreClient client;
 
@@ -59,7 +72,9 @@ public class VeniceClientBenchmark {
     String storeName = buildStore(cluster);
     cluster.useControllerClient(c -> c.updateStore(storeName, new UpdateStoreQueryParams().setReadQuotaInCU(10000)));
     client = ClientFactory.getAndStartGenericAvroClient(
-        ClientConfig.defaultGenericClientConfig(storeName).setVeniceURL(cluster.getRandomRouterURL()));
+        ClientConfig.defaultGenericClientConfig(storeName)
+            .setVeniceURL(cluster.getRandomRouterURL())
+            .setSingleGetBatchingWindowInMicros(singleGetBatchingWindowInMicros));
 
     Random random = ThreadLocalRandom.current();
     for (int i = 0; i < KEY_COUNT; ++i) {
@@ -99,8 +114,15 @@ public class VeniceClientBenchmark {
   @Benchmark
   @OperationsPerInvocation(KEY_COUNT)
   public void runAvroClientQueries(Blackhole blackhole) throws ExecutionException, InterruptedException {
-    for (int i = 0; i < KEY_COUNT; ++i) {
-      blackhole.consume(client.get(keys[i]).get());
+    CompletableFuture[] futures = new CompletableFuture[concurrency];
+    for (int i = 0; i < KEY_COUNT; i += concurrency) {
+      int count = Math.min(concurrency, KEY_COUNT - i);
+      for (int j = 0; j < count; ++j) {
+        futures[j] = client.get(keys[i + j]);
+      }
+      for (int j = 0; j < count; ++j) {
+        blackhole.consume(futures[j].get());
+      }
     }
   }
 }
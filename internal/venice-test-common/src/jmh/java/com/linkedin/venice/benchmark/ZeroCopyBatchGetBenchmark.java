@@ -0,0 +1,178 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.davinci.store.StoragePartitionConfig;
+import com.linkedin.davinci.store.record.ValueRecord;
+import com.linkedin.davinci.store.rocksdb.RocksDBServerConfig;
+import com.linkedin.davinci.store.rocksdb.RocksDBStorageEngineFactory;
+import com.linkedin.davinci.store.rocksdb.RocksDBStoragePartition;
+import com.linkedin.davinci.store.rocksdb.RocksDBThrottler;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.listener.response.MultiGetResponseWrapper;
+import com.linkedin.venice.listener.response.ZeroCopyMultiGetResponseWrapper;
+import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
+import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.VeniceProperties;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.rocksdb.RocksDB;
+
+
+/**
+ * Compares the heap based batch get path of the storage nodes, which copies the values out of RocksDB into byte arrays
+ * and then serializes all the records into yet another byte array, with the zero-copy one, which reads the values
+ * into pooled direct buffers and only encodes the framing around them. Each operation is a whole batch get, from the
+ * lookups to the release of the response body, as done by Netty once it has been written to the socket.
+ *
+ * The allocation rate per batch get is reported by the {@link GCProfiler} as "gc.alloc.rate.norm".
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ZeroCopyBatchGetBenchmark {
+  private static final String DATA_BASE_DIR = Utils.getUniqueTempPath();
+  private static final String KEY_PREFIX = "key_";
+  private static final int ROW_COUNT = 100_000;
+  private static final int SCHEMA_ID = 1;
+  private static final ByteBufAllocator ALLOCATOR = PooledByteBufAllocator.DEFAULT;
+
+  @Param({ "10", "100" })
+  private int batchSize;
+
+  @Param({ "100", "2500" })
+  private int valueLength;
+
+  private RocksDBStoragePartition storagePartition;
+  private String storeDir;
+
+  @Setup
+  public void setUp() {
+    RocksDB.loadLibrary();
+    String storeName = Utils.getUniqueString("test_store");
+    File storeDirFile = new File(DATA_BASE_DIR, storeName).getAbsoluteFile();
+    if (!storeDirFile.mkdirs()) {
+      throw new VeniceException("Failed to mkdirs for path: " + storeDirFile.getPath());
+    }
+    storeDir = storeDirFile.getPath();
+    VeniceProperties veniceServerProperties =
+        RocksDBLookupApiBenchmark.getServerProperties(PersistenceType.ROCKS_DB, new Properties());
+    storagePartition = new RocksDBStoragePartition(
+        new StoragePartitionConfig(storeName, 0),
+        new RocksDBStorageEngineFactory(new VeniceServerConfig(veniceServerProperties)),
+        DATA_BASE_DIR,
+        null,
+        new RocksDBThrottler(3),
+        new RocksDBServerConfig(veniceServerProperties));
+
+    byte[] value = new byte[valueLength];
+    for (int i = 0; i < ROW_COUNT; ++i) {
+      ThreadLocalRandom.current().nextBytes(value);
+      storagePartition.put((KEY_PREFIX + i).getBytes(), ValueRecord.create(SCHEMA_ID, value).serialize());
+    }
+    storagePartition.sync();
+  }
+
+  @TearDown
+  public void tearDown() {
+    storagePartition.drop();
+    File file = new File(storeDir);
+    if (file.exists() && !file.delete()) {
+      throw new VeniceException("Failed to remove path: " + storeDir);
+    }
+  }
+
+  private List<byte[]> getRandomKeys() {
+    List<byte[]> keys = new ArrayList<>(batchSize);
+    int start = ThreadLocalRandom.current().nextInt(ROW_COUNT - batchSize);
+    for (int i = 0; i < batchSize; i++) {
+      keys.add((KEY_PREFIX + (start + i)).getBytes());
+    }
+    return keys;
+  }
+
+  @Benchmark
+  public void measureHeapBatchGet(Blackhole bh) {
+    List<byte[]> keys = getRandomKeys();
+    MultiGetResponseWrapper response = new MultiGetResponseWrapper(batchSize);
+    for (int i = 0; i < batchSize; i++) {
+      byte[] value = storagePartition.get(keys.get(i));
+      MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+      record.keyIndex = i;
+      record.schemaId = ValueRecord.parseSchemaId(value);
+      record.value = ValueRecord.parseDataAsNIOByteBuffer(value);
+      response.addRecord(record);
+    }
+    ByteBuf body = response.getResponseBody();
+    bh.consume(body.readableBytes());
+    body.release();
+  }
+
+  /**
+   * Same steps as the zero-copy batch get of the storage nodes.
+   */
+  @Benchmark
+  public void measureZeroCopyBatchGet(Blackhole bh) {
+    List<byte[]> keys = getRandomKeys();
+    ZeroCopyMultiGetResponseWrapper response = new ZeroCopyMultiGetResponseWrapper(batchSize, ALLOCATOR);
+    ByteBuf keyBuffer = ALLOCATOR.directBuffer(batchSize * 16);
+    List<ByteBuffer> keyBuffers = new ArrayList<>(batchSize);
+    List<ByteBuf> values = new ArrayList<>(batchSize);
+    List<ByteBuffer> valueBuffers = new ArrayList<>(batchSize);
+    for (byte[] key: keys) {
+      int keyOffset = keyBuffer.writerIndex();
+      keyBuffer.writeBytes(key);
+      keyBuffers.add(keyBuffer.nioBuffer(keyOffset, key.length));
+      ByteBuf value = ALLOCATOR.directBuffer(valueLength + ValueRecord.SCHEMA_HEADER_LENGTH);
+      values.add(value);
+      valueBuffers.add(value.nioBuffer(0, value.capacity()));
+    }
+    int[] valueSizes = storagePartition.multiGetIntoDirectBuffers(keyBuffers, valueBuffers);
+    for (int i = 0; i < batchSize; i++) {
+      ByteBuf value = values.get(i);
+      value.writerIndex(valueSizes[i]);
+      int schemaId = value.getInt(0);
+      value.readerIndex(ValueRecord.SCHEMA_HEADER_LENGTH);
+      response.addRecord(i, value, schemaId);
+    }
+    keyBuffer.release();
+    ByteBuf body = response.getResponseBody();
+    bh.consume(body.readableBytes());
+    body.release();
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(ZeroCopyBatchGetBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(opt).run();
+  }
+}
@@ -5,6 +5,7 @@ import com.linkedin.venice.acl.AclCreationDeletionListener;
 import com.linkedin.venice.acl.DynamicAccessController;
 import com.linkedin.venice.common.VeniceSystemStoreType;
 import com.linkedin.venice.controller.stats.AggPartitionHealthStats;
+import com.linkedin.venice.controller.stats.DaVinciPushStatusScanStats;
 import com.linkedin.venice.controller.stats.VeniceAdminStats;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.helix.HelixAdapterSerializer;
@@ -112,7 +113,8 @@ public class HelixVeniceClusterResources implements VeniceResource {
         adapterSerializer,
         clusterName,
         metaStoreWriter,
-        clusterLockManager);
+        clusterLockManager,
+        config.isStoreBinaryFormatEnabled());
     this.storeMetadataRepository = new HelixReadWriteStoreRepositoryAdapter(
         admin.getReadOnlyZKSharedSystemStoreRepository(),
         readWriteStoreRepository,
@@ -167,7 +169,8 @@ public class HelixVeniceClusterResources implements VeniceResource {
         helixAdminClient,
         config,
         admin.getPushStatusStoreReader(),
-        admin.getDisabledPartitionStats(clusterName));
+        admin.getDisabledPartitionStats(clusterName),
+        new DaVinciPushStatusScanStats(metricsRepository, clusterName));
 
     this.leakedPushStatusCleanUpService = new LeakedPushStatusCleanUpService(
         clusterName,
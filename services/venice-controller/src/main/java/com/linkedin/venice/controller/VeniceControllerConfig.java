@@ -4,7 +4,10 @@ import static com.linkedin.venice.ConfigConstants.DEFAULT_TOPIC_DELETION_STATUS_
 import static com.linkedin.venice.ConfigKeys.ACTIVE_ACTIVE_ENABLED_ON_CONTROLLER;
 import static com.linkedin.venice.ConfigKeys.ACTIVE_ACTIVE_REAL_TIME_SOURCE_FABRIC_LIST;
 import static com.linkedin.venice.ConfigKeys.ADMIN_CHECK_READ_METHOD_FOR_KAFKA;
+import static com.linkedin.venice.ConfigKeys.ADMIN_CONSUMPTION_CONTINUOUS_EXECUTION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ADMIN_CONSUMPTION_CYCLE_TIMEOUT_MS;
+import static com.linkedin.venice.ConfigKeys.ADMIN_CONSUMPTION_MAX_PENDING_MESSAGES;
+import static com.linkedin.venice.ConfigKeys.ADMIN_CONSUMPTION_MAX_PENDING_MESSAGES_PER_STORE;
 import static com.linkedin.venice.ConfigKeys.ADMIN_CONSUMPTION_MAX_WORKER_THREAD_POOL_SIZE;
 import static com.linkedin.venice.ConfigKeys.ADMIN_CONSUMPTION_TIMEOUT_MINUTES;
 import static com.linkedin.venice.ConfigKeys.ADMIN_HELIX_MESSAGING_CHANNEL_ENABLED;
@@ -46,6 +49,7 @@ import static com.linkedin.venice.ConfigKeys.CONTROLLER_PARENT_SYSTEM_STORE_HEAR
 import static com.linkedin.venice.ConfigKeys.CONTROLLER_PARENT_SYSTEM_STORE_REPAIR_CHECK_INTERVAL_SECONDS;
 import static com.linkedin.venice.ConfigKeys.CONTROLLER_PARENT_SYSTEM_STORE_REPAIR_RETRY_COUNT;
 import static com.linkedin.venice.ConfigKeys.CONTROLLER_PARENT_SYSTEM_STORE_REPAIR_SERVICE_ENABLED;
+import static com.linkedin.venice.ConfigKeys.CONTROLLER_STORE_BINARY_FORMAT_ENABLED;
 import static com.linkedin.venice.ConfigKeys.CONTROLLER_STORE_GRAVEYARD_CLEANUP_DELAY_MINUTES;
 import static com.linkedin.venice.ConfigKeys.CONTROLLER_STORE_GRAVEYARD_CLEANUP_ENABLED;
 import static com.linkedin.venice.ConfigKeys.CONTROLLER_STORE_GRAVEYARD_CLEANUP_SLEEP_INTERVAL_BETWEEN_LIST_FETCH_MINUTES;
@@ -164,6 +168,9 @@ public class VeniceControllerConfig extends VeniceControllerClusterConfig {
   private final long adminConsumptionTimeoutMinute;
   private final long adminConsumptionCycleTimeoutMs;
   private final int adminConsumptionMaxWorkerThreadPoolSize;
+  private final boolean adminConsumptionContinuousExecutionEnabled;
+  private final int adminConsumptionMaxPendingMessagesPerStore;
+  private final int adminConsumptionMaxPendingMessages;
   private final double storageEngineOverheadRatio;
   private final long topicCreationThrottlingTimeWindowMs;
   private final long deprecatedJobTopicRetentionMs;
@@ -287,6 +294,8 @@ public class VeniceControllerConfig extends VeniceControllerClusterConfig {
 
   private final boolean storeGraveyardCleanupEnabled;
 
+  private final boolean storeBinaryFormatEnabled;
+
   private final int storeGraveyardCleanupDelayMinutes;
 
   private final int storeGraveyardCleanupSleepIntervalBetweenListFetchMinutes;
@@ -389,6 +398,11 @@ public class VeniceControllerConfig extends VeniceControllerClusterConfig {
     // A value of one will result in a bad message for one store to block the admin message consumption of other stores.
     // Consider changing the config to > 1
     this.adminConsumptionMaxWorkerThreadPoolSize = props.getInt(ADMIN_CONSUMPTION_MAX_WORKER_THREAD_POOL_SIZE, 1);
+    this.adminConsumptionContinuousExecutionEnabled =
+        props.getBoolean(ADMIN_CONSUMPTION_CONTINUOUS_EXECUTION_ENABLED, false);
+    this.adminConsumptionMaxPendingMessagesPerStore =
+        props.getInt(ADMIN_CONSUMPTION_MAX_PENDING_MESSAGES_PER_STORE, 1000);
+    this.adminConsumptionMaxPendingMessages = props.getInt(ADMIN_CONSUMPTION_MAX_PENDING_MESSAGES, 50000);
     this.storageEngineOverheadRatio = props.getDouble(STORAGE_ENGINE_OVERHEAD_RATIO, 0.85d);
 
     // The default retention will allow Kafka remove as much data as possible.
@@ -508,6 +522,7 @@ public class VeniceControllerConfig extends VeniceControllerClusterConfig {
     this.unregisterMetricForDeletedStoreEnabled = props.getBoolean(UNREGISTER_METRIC_FOR_DELETED_STORE_ENABLED, false);
     this.identityParserClassName = props.getString(IDENTITY_PARSER_CLASS, DefaultIdentityParser.class.getName());
     this.storeGraveyardCleanupEnabled = props.getBoolean(CONTROLLER_STORE_GRAVEYARD_CLEANUP_ENABLED, false);
+    this.storeBinaryFormatEnabled = props.getBoolean(CONTROLLER_STORE_BINARY_FORMAT_ENABLED, false);
     this.storeGraveyardCleanupDelayMinutes = props.getInt(CONTROLLER_STORE_GRAVEYARD_CLEANUP_DELAY_MINUTES, 0);
     this.storeGraveyardCleanupSleepIntervalBetweenListFetchMinutes =
         props.getInt(CONTROLLER_STORE_GRAVEYARD_CLEANUP_SLEEP_INTERVAL_BETWEEN_LIST_FETCH_MINUTES, 15);
@@ -707,6 +722,18 @@ public class VeniceControllerConfig extends VeniceControllerClusterConfig {
     return adminConsumptionMaxWorkerThreadPoolSize;
   }
 
+  public boolean isAdminConsumptionContinuousExecutionEnabled() {
+    return adminConsumptionContinuousExecutionEnabled;
+  }
+
+  public int getAdminConsumptionMaxPendingMessagesPerStore() {
+    return adminConsumptionMaxPendingMessagesPerStore;
+  }
+
+  public int getAdminConsumptionMaxPendingMessages() {
+    return adminConsumptionMaxPendingMessages;
+  }
+
   public static Map<String, String> parseClusterMap(VeniceProperties clusterPros, String datacenterAllowlist) {
     return parseClusterMap(clusterPros, datacenterAllowlist, false);
   }
@@ -954,6 +981,10 @@ public class VeniceControllerConfig extends VeniceControllerClusterConfig {
     return storeGraveyardCleanupEnabled;
   }
 
+  public boolean isStoreBinaryFormatEnabled() {
+    return storeBinaryFormatEnabled;
+  }
+
   public int getStoreGraveyardCleanupDelayMinutes() {
     return storeGraveyardCleanupDelayMinutes;
   }
@@ -9,6 +9,7 @@ import com.linkedin.venice.controller.VeniceControllerConfig;
 import com.linkedin.venice.controller.VeniceHelixAdmin;
 import com.linkedin.venice.controller.ZkAdminTopicMetadataAccessor;
 import com.linkedin.venice.controller.stats.AdminConsumptionStats;
+import com.linkedin.venice.controller.stats.AggAdminExecutionStats;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.pubsub.PubSubConsumerAdapterFactory;
 import com.linkedin.venice.pubsub.PubSubTopicRepository;
@@ -104,10 +105,14 @@ public class AdminConsumerService extends AbstractVeniceService {
         admin.getExecutionIdAccessor(),
         config.isParent(),
         new AdminConsumptionStats(metricsRepository, clusterName + "-admin_consumption_task"),
+        new AggAdminExecutionStats(clusterName, metricsRepository),
         config.getAdminTopicReplicationFactor(),
         config.getMinInSyncReplicasAdminTopics(),
         config.getAdminConsumptionCycleTimeoutMs(),
         config.getAdminConsumptionMaxWorkerThreadPoolSize(),
+        config.isAdminConsumptionContinuousExecutionEnabled(),
+        config.getAdminConsumptionMaxPendingMessagesPerStore(),
+        config.getAdminConsumptionMaxPendingMessages(),
         pubSubTopicRepository,
         pubSubMessageDeserializer,
         config.getRegionName());
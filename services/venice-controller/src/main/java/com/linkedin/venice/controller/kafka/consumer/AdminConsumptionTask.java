@@ -10,6 +10,7 @@ import com.linkedin.venice.controller.kafka.protocol.admin.KillOfflinePushJob;
 import com.linkedin.venice.controller.kafka.protocol.enums.AdminMessageType;
 import com.linkedin.venice.controller.kafka.protocol.serializer.AdminOperationSerializer;
 import com.linkedin.venice.controller.stats.AdminConsumptionStats;
+import com.linkedin.venice.controller.stats.AggAdminExecutionStats;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.exceptions.validation.DataValidationException;
 import com.linkedin.venice.exceptions.validation.DuplicateDataException;
@@ -38,12 +39,15 @@ import com.linkedin.venice.utils.Utils;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
@@ -51,9 +55,11 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -72,6 +78,46 @@ public class AdminConsumptionTask implements Runnable, Closeable {
     Exception exception;
   }
 
+  /**
+   * The execution of the pending admin messages of one store on the worker pool, used when the continuous execution is
+   * enabled. The execution is only considered as finished once its thread has exited {@link AdminExecutionTask#call()},
+   * since a cancelled {@link Future} is done right away, while its thread could still be processing the message.
+   */
+  private static class StoreExecution implements Callable<Void> {
+    private static final int PENDING = 0;
+    private static final int RUNNING = 1;
+    private static final int EXITED = 2;
+
+    private final AdminExecutionTask task;
+    private final long submitTimestamp;
+    private final long lastSucceededExecutionIdAtSubmitTime;
+    private final AtomicInteger state = new AtomicInteger(PENDING);
+    private Future<Void> future;
+    private boolean timedOut = false;
+
+    StoreExecution(AdminExecutionTask task, long lastSucceededExecutionIdAtSubmitTime) {
+      this.task = task;
+      this.submitTimestamp = System.currentTimeMillis();
+      this.lastSucceededExecutionIdAtSubmitTime = lastSucceededExecutionIdAtSubmitTime;
+    }
+
+    @Override
+    public Void call() {
+      if (!state.compareAndSet(PENDING, RUNNING)) {
+        return null;
+      }
+      try {
+        return task.call();
+      } finally {
+        state.set(EXITED);
+      }
+    }
+
+    boolean hasExited() {
+      return state.compareAndSet(PENDING, EXITED) || state.get() == EXITED;
+    }
+  }
+
   // A simplified version of ProducerTracker that only checks against previous message's producer info.
   private static class ProducerInfo {
     private GUID producerGUID;
@@ -140,6 +186,7 @@ public class AdminConsumptionTask implements Runnable, Closeable {
   private final AtomicBoolean isRunning;
   private final AdminOperationSerializer deserializer;
   private final AdminConsumptionStats stats;
+  private final AggAdminExecutionStats executionStats;
   private final int adminTopicReplicationFactor;
   private final Optional<Integer> minInSyncReplicas;
   private final boolean remoteConsumptionEnabled;
@@ -175,6 +222,32 @@ public class AdminConsumptionTask implements Runnable, Closeable {
   }
 
   private final long processingCycleTimeoutInMs;
+  /**
+   * Whether each store's admin messages are executed as soon as they are delegated, independently of the other
+   * stores, instead of in cycles waiting for all the stores, see {@link #executeMessagesContinuously()}.
+   */
+  private final boolean continuousExecutionEnabled;
+  /**
+   * The delegation of the admin messages pauses, and so does the polling, once a store or all the stores together
+   * have this many pending admin messages. Only used when the continuous execution is enabled.
+   */
+  private final int maxPendingAdminMessagesPerStore;
+  private final int maxPendingAdminMessages;
+  /**
+   * The number of admin messages in {@link #storeAdminOperationsMapWithOffset}, incremented when they are delegated and
+   * decremented when they are executed or skipped, so the limits are checked without going through all the stores. It
+   * is replaced on unsubscription, so that the executions which did not exit in time can't skew the new count.
+   */
+  private AtomicInteger pendingAdminMessagesCount = new AtomicInteger();
+  /**
+   * The stores which reached {@link #maxPendingAdminMessagesPerStore} when their last admin message was delegated, only
+   * accessed by the consumption thread.
+   */
+  private final Set<String> storesAtPendingAdminMessagesLimit = new HashSet<>();
+  /**
+   * The in-flight execution of each store, only accessed by the consumption thread.
+   */
+  private final Map<String, StoreExecution> storeExecutions = new HashMap<>();
   /**
    * Once all admin messages in a cycle is processed successfully, the id would be updated together with the offset.
    * It represents a kind of comparable progress of admin topic consumption among all controllers.
@@ -255,10 +328,14 @@ public class AdminConsumptionTask implements Runnable, Closeable {
       ExecutionIdAccessor executionIdAccessor,
       boolean isParentController,
       AdminConsumptionStats stats,
+      AggAdminExecutionStats executionStats,
       int adminTopicReplicationFactor,
       Optional<Integer> minInSyncReplicas,
       long processingCycleTimeoutInMs,
       int maxWorkerThreadPoolSize,
+      boolean continuousExecutionEnabled,
+      int maxPendingAdminMessagesPerStore,
+      int maxPendingAdminMessages,
       PubSubTopicRepository pubSubTopicRepository,
       PubSubMessageDeserializer pubSubMessageDeserializer,
       String regionName) {
@@ -273,6 +350,7 @@ public class AdminConsumptionTask implements Runnable, Closeable {
     this.isSubscribed = false;
     this.topicExists = false;
     this.stats = stats;
+    this.executionStats = executionStats;
     this.adminTopicReplicationFactor = adminTopicReplicationFactor;
     this.minInSyncReplicas = minInSyncReplicas;
     this.consumer = consumer;
@@ -280,6 +358,9 @@ public class AdminConsumptionTask implements Runnable, Closeable {
     this.adminTopicMetadataAccessor = adminTopicMetadataAccessor;
     this.executionIdAccessor = executionIdAccessor;
     this.processingCycleTimeoutInMs = processingCycleTimeoutInMs;
+    this.continuousExecutionEnabled = continuousExecutionEnabled;
+    this.maxPendingAdminMessagesPerStore = maxPendingAdminMessagesPerStore;
+    this.maxPendingAdminMessages = maxPendingAdminMessages;
 
     this.storeAdminOperationsMapWithOffset = new ConcurrentHashMap<>();
     this.problematicStores = new ConcurrentHashMap<>();
@@ -372,6 +453,10 @@ public class AdminConsumptionTask implements Runnable, Closeable {
         }
 
         while (!undelegatedRecords.isEmpty()) {
+          if (continuousExecutionEnabled && isPendingAdminMessagesLimitReached()) {
+            // The remaining records stay undelegated, which also pauses the polling until the stores catch up.
+            break;
+          }
           try {
             long executionId = delegateMessage(undelegatedRecords.peek());
             if (executionId == lastDelegatedExecutionId) {
@@ -404,7 +489,11 @@ public class AdminConsumptionTask implements Runnable, Closeable {
           recordConsumptionLag();
           lastUpdateTimeForConsumptionOffsetLag = System.currentTimeMillis();
         }
-        executeMessagesAndCollectResults();
+        if (continuousExecutionEnabled) {
+          executeMessagesContinuously();
+        } else {
+          executeMessagesAndCollectResults();
+        }
         stats.setAdminConsumptionFailedOffset(failingOffset);
       } catch (Exception e) {
         LOGGER.error("Exception thrown while running admin consumption task", e);
@@ -454,7 +543,10 @@ public class AdminConsumptionTask implements Runnable, Closeable {
   private void unSubscribe() {
     if (isSubscribed) {
       consumer.unSubscribe(new PubSubTopicPartitionImpl(pubSubTopic, AdminTopicUtils.ADMIN_TOPIC_PARTITION_ID));
+      cancelStoreExecutions();
       storeAdminOperationsMapWithOffset.clear();
+      pendingAdminMessagesCount = new AtomicInteger();
+      storesAtPendingAdminMessagesLimit.clear();
       problematicStores.clear();
       undelegatedRecords.clear();
       failingOffset = UNASSIGNED_VALUE;
@@ -495,6 +587,7 @@ public class AdminConsumptionTask implements Runnable, Closeable {
       if (!entry.getValue().isEmpty()) {
         if (checkOffsetToSkip(entry.getValue().peek().getOffset(), false)) {
           entry.getValue().remove();
+          pendingAdminMessagesCount.decrementAndGet();
           skipOffsetCommandHasBeenProcessed = true;
         }
         tasks.add(
@@ -505,10 +598,12 @@ public class AdminConsumptionTask implements Runnable, Closeable {
                 lastSucceededExecutionIdMap,
                 lastPersistedExecutionId,
                 entry.getValue(),
+                pendingAdminMessagesCount,
                 admin,
                 executionIdAccessor,
                 isParentController,
                 stats,
+                executionStats,
                 regionName));
         stores.add(entry.getKey());
       }
@@ -603,6 +698,226 @@ public class AdminConsumptionTask implements Runnable, Closeable {
     }
   }
 
+  /**
+   * Execute the pending admin messages of each store on the worker threads, independently of the other stores, while
+   * the consumption thread keeps polling and delegating new admin messages. Each call collects the results of the
+   * finished store executions, cancels the ones taking longer than {@code processingCycleTimeoutInMs} and submits a new
+   * execution for each store with pending admin messages and no in-flight execution.
+   *
+   * Since the stores progress at their own pace, the checkpoint persisted to ZK is the low watermark of all the stores:
+   * the offset and execution id right before the oldest pending admin message. The admin messages after it which were
+   * already executed by some stores are skipped by those stores on replay thanks to their last succeeded execution id
+   * in {@link ExecutionIdAccessor}.
+   */
+  private void executeMessagesContinuously() {
+    if (lastSucceededExecutionIdMap == null || storeExecutions.isEmpty()) {
+      // The in-flight executions keep the map up-to-date, so it's only reloaded when none of them can be using it.
+      lastSucceededExecutionIdMap =
+          new ConcurrentHashMap<>(executionIdAccessor.getLastSucceededExecutionIdMap(clusterName));
+    }
+    collectStoreExecutions();
+    if (!isRunning.get()) {
+      return;
+    }
+
+    boolean skipOffsetCommandHasBeenProcessed = false;
+    int pendingAdminMessagesCount = 0;
+    int storesWithPendingAdminMessagesCount = 0;
+    long smallestPendingOffset = UNASSIGNED_VALUE;
+    long smallestPendingExecutionId = UNASSIGNED_VALUE;
+    Iterator<Map.Entry<String, Queue<AdminOperationWrapper>>> iterator =
+        storeAdminOperationsMapWithOffset.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<String, Queue<AdminOperationWrapper>> entry = iterator.next();
+      String storeName = entry.getKey();
+      Queue<AdminOperationWrapper> queue = entry.getValue();
+      boolean inFlight = storeExecutions.containsKey(storeName);
+      if (!inFlight && !queue.isEmpty() && checkOffsetToSkip(queue.peek().getOffset(), false)) {
+        queue.remove();
+        pendingAdminMessagesCount.decrementAndGet();
+        problematicStores.remove(storeName);
+        skipOffsetCommandHasBeenProcessed = true;
+      }
+      AdminOperationWrapper head = queue.peek();
+      if (head == null) {
+        if (!inFlight) {
+          iterator.remove();
+        }
+        continue;
+      }
+      pendingAdminMessagesCount += queue.size();
+      storesWithPendingAdminMessagesCount++;
+      if (smallestPendingOffset == UNASSIGNED_VALUE || head.getOffset() < smallestPendingOffset) {
+        smallestPendingOffset = head.getOffset();
+        smallestPendingExecutionId = head.getAdminOperation().executionId;
+      }
+      if (!inFlight) {
+        submitStoreExecution(storeName, queue);
+      }
+    }
+    if (skipOffsetCommandHasBeenProcessed) {
+      resetOffsetToSkip();
+    }
+
+    if (problematicStores.isEmpty()) {
+      // Ensure failingOffset from the delegateMessage is not overwritten.
+      if (failingOffset <= lastOffset) {
+        failingOffset = UNASSIGNED_VALUE;
+      }
+    } else {
+      long smallestOffset = UNASSIGNED_VALUE;
+      for (AdminErrorInfo errorInfo: problematicStores.values()) {
+        if (smallestOffset == UNASSIGNED_VALUE || errorInfo.offset < smallestOffset) {
+          smallestOffset = errorInfo.offset;
+        }
+      }
+      if (failingOffset <= lastOffset) {
+        failingOffset = smallestOffset;
+      }
+    }
+
+    if (smallestPendingOffset == UNASSIGNED_VALUE) {
+      if (storeExecutions.isEmpty()) {
+        // All the delegated admin messages were successfully executed or skipped.
+        persistAdminTopicMetadata();
+      }
+    } else if (smallestPendingOffset - 1 > lastPersistedOffset) {
+      persistAdminTopicMetadata(smallestPendingOffset - 1, smallestPendingExecutionId - 1);
+    }
+    stats.recordPendingAdminMessagesCount(pendingAdminMessagesCount);
+    stats.recordStoresWithPendingAdminMessagesCount(storesWithPendingAdminMessagesCount);
+  }
+
+  private void submitStoreExecution(String storeName, Queue<AdminOperationWrapper> queue) {
+    AdminExecutionTask task = new AdminExecutionTask(
+        LOGGER,
+        clusterName,
+        storeName,
+        lastSucceededExecutionIdMap,
+        lastPersistedExecutionId,
+        queue,
+        pendingAdminMessagesCount,
+        admin,
+        executionIdAccessor,
+        isParentController,
+        stats,
+        executionStats,
+        regionName);
+    StoreExecution execution =
+        new StoreExecution(task, lastSucceededExecutionIdMap.getOrDefault(storeName, UNASSIGNED_VALUE));
+    try {
+      execution.future = executorService.submit(execution);
+      storeExecutions.put(storeName, execution);
+    } catch (RejectedExecutionException e) {
+      // The worker queue is full, the store will be submitted again in the next iteration.
+      LOGGER.warn("Unable to submit the admin execution of store {}, will retry later", storeName);
+    }
+  }
+
+  /**
+   * Collect the results of the finished store executions, and cancel the ones running for longer than
+   * {@code processingCycleTimeoutInMs}. A store is only marked as problematic for a timeout when it made no progress,
+   * which is the same as the cycle based execution in {@link #executeMessagesAndCollectResults()}.
+   */
+  private void collectStoreExecutions() {
+    Iterator<Map.Entry<String, StoreExecution>> iterator = storeExecutions.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<String, StoreExecution> entry = iterator.next();
+      String storeName = entry.getKey();
+      StoreExecution execution = entry.getValue();
+      Queue<AdminOperationWrapper> queue = storeAdminOperationsMapWithOffset.get(storeName);
+      if (!execution.future.isDone()) {
+        if (System.currentTimeMillis() - execution.submitTimestamp < processingCycleTimeoutInMs) {
+          continue;
+        }
+        execution.future.cancel(true);
+      }
+      if (execution.future.isCancelled()) {
+        if (!execution.timedOut) {
+          execution.timedOut = true;
+          long lastSucceededId = lastSucceededExecutionIdMap.getOrDefault(storeName, UNASSIGNED_VALUE);
+          AdminOperationWrapper head = queue == null ? null : queue.peek();
+          if (lastSucceededId == execution.lastSucceededExecutionIdAtSubmitTime && head != null) {
+            // only mark the store problematic if no progress is made and there are still message(s) in the queue.
+            AdminErrorInfo errorInfo = new AdminErrorInfo();
+            errorInfo.exception =
+                new VeniceException("Could not finish processing admin message for store " + storeName + " in time");
+            errorInfo.offset = head.getOffset();
+            problematicStores.put(storeName, errorInfo);
+            LOGGER.warn(errorInfo.exception.getMessage());
+          }
+        }
+        // The store can only be executed again once the cancelled thread stops touching its queue.
+        if (execution.hasExited()) {
+          iterator.remove();
+        }
+        continue;
+      }
+      try {
+        execution.future.get();
+        problematicStores.remove(storeName);
+      } catch (ExecutionException e) {
+        AdminErrorInfo errorInfo = new AdminErrorInfo();
+        errorInfo.exception = e;
+        errorInfo.offset = queue.peek().getOffset();
+        problematicStores.put(storeName, errorInfo);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      iterator.remove();
+    }
+  }
+
+  /**
+   * @return whether a store, or all the stores together, reached their maximum number of pending admin messages.
+   */
+  private boolean isPendingAdminMessagesLimitReached() {
+    if (pendingAdminMessagesCount.get() >= maxPendingAdminMessages) {
+      return true;
+    }
+    // Only the stores which reached their limit are checked again, to find out whether they caught up in the meantime
+    storesAtPendingAdminMessagesLimit.removeIf(storeName -> {
+      Queue<AdminOperationWrapper> queue = storeAdminOperationsMapWithOffset.get(storeName);
+      return queue == null || queue.size() < maxPendingAdminMessagesPerStore;
+    });
+    return !storesAtPendingAdminMessagesLimit.isEmpty();
+  }
+
+  private void enqueueAdminOperation(String storeName, AdminOperationWrapper adminOperationWrapper) {
+    Queue<AdminOperationWrapper> queue =
+        storeAdminOperationsMapWithOffset.computeIfAbsent(storeName, n -> new LinkedBlockingQueue<>());
+    queue.add(adminOperationWrapper);
+    pendingAdminMessagesCount.incrementAndGet();
+    if (queue.size() >= maxPendingAdminMessagesPerStore) {
+      storesAtPendingAdminMessagesLimit.add(storeName);
+    }
+  }
+
+  /**
+   * Cancel the in-flight store executions and wait for their threads to exit, so that none of them keeps processing
+   * admin messages once this controller is no longer consuming the admin topic.
+   */
+  private void cancelStoreExecutions() {
+    if (storeExecutions.isEmpty()) {
+      return;
+    }
+    for (StoreExecution execution: storeExecutions.values()) {
+      execution.future.cancel(true);
+    }
+    long deadline = System.currentTimeMillis() + processingCycleTimeoutInMs;
+    for (Map.Entry<String, StoreExecution> entry: storeExecutions.entrySet()) {
+      while (!entry.getValue().hasExited()) {
+        if (System.currentTimeMillis() > deadline) {
+          LOGGER.warn("Admin execution of store {} did not stop in time after cancellation", entry.getKey());
+          break;
+        }
+        Utils.sleep(10);
+      }
+    }
+    storeExecutions.clear();
+  }
+
   private void internalClose() {
     unSubscribe();
     executorService.shutdownNow();
@@ -694,15 +1009,13 @@ public class AdminConsumptionTask implements Runnable, Closeable {
       List<Store> stores = admin.getAllStores(clusterName);
       for (Store store: stores) {
         String storeName = store.getName();
-        Queue<AdminOperationWrapper> operationQueue =
-            storeAdminOperationsMapWithOffset.computeIfAbsent(storeName, n -> new LinkedList<>());
         AdminOperationWrapper adminOperationWrapper = new AdminOperationWrapper(
             adminOperation,
             record.getOffset(),
             producerTimestamp,
             brokerTimestamp,
             System.currentTimeMillis());
-        operationQueue.add(adminOperationWrapper);
+        enqueueAdminOperation(storeName, adminOperationWrapper);
         stats.recordAdminMessageMMLatency(
             Math.max(
                 0,
@@ -726,8 +1039,7 @@ public class AdminConsumptionTask implements Runnable, Closeable {
       stats.recordAdminMessageDelegateLatency(
           Math.max(0, adminOperationWrapper.getDelegateTimestamp() - adminOperationWrapper.getLocalBrokerTimestamp()));
       String storeName = extractStoreName(adminOperation);
-      storeAdminOperationsMapWithOffset.putIfAbsent(storeName, new LinkedList<>());
-      storeAdminOperationsMapWithOffset.get(storeName).add(adminOperationWrapper);
+      enqueueAdminOperation(storeName, adminOperationWrapper);
 
     }
     return executionId;
@@ -838,18 +1150,20 @@ public class AdminConsumptionTask implements Runnable, Closeable {
   }
 
   private void persistAdminTopicMetadata() {
-    if (lastDelegatedExecutionId == lastPersistedExecutionId && lastOffset == lastPersistedOffset) {
+    persistAdminTopicMetadata(lastOffset, lastDelegatedExecutionId);
+  }
+
+  private void persistAdminTopicMetadata(long offset, long executionId) {
+    if (executionId == lastPersistedExecutionId && offset == lastPersistedOffset) {
       // Skip since there are no new admin messages processed.
       return;
     }
     Map<String, Long> metadata = remoteConsumptionEnabled
-        ? AdminTopicMetadataAccessor
-            .generateMetadataMap(localOffsetCheckpointAtStartTime, lastOffset, lastDelegatedExecutionId)
-        : AdminTopicMetadataAccessor
-            .generateMetadataMap(lastOffset, upstreamOffsetCheckpointAtStartTime, lastDelegatedExecutionId);
+        ? AdminTopicMetadataAccessor.generateMetadataMap(localOffsetCheckpointAtStartTime, offset, executionId)
+        : AdminTopicMetadataAccessor.generateMetadataMap(offset, upstreamOffsetCheckpointAtStartTime, executionId);
     adminTopicMetadataAccessor.updateMetadata(clusterName, metadata);
-    lastPersistedOffset = lastOffset;
-    lastPersistedExecutionId = lastDelegatedExecutionId;
+    lastPersistedOffset = offset;
+    lastPersistedExecutionId = executionId;
     stats.setAdminConsumptionCheckpointOffset(lastPersistedOffset);
   }
 
@@ -37,6 +37,7 @@ import com.linkedin.venice.controller.kafka.protocol.admin.UpdateStore;
 import com.linkedin.venice.controller.kafka.protocol.admin.ValueSchemaCreation;
 import com.linkedin.venice.controller.kafka.protocol.enums.AdminMessageType;
 import com.linkedin.venice.controller.stats.AdminConsumptionStats;
+import com.linkedin.venice.controller.stats.AggAdminExecutionStats;
 import com.linkedin.venice.controllerapi.UpdateStoragePersonaQueryParams;
 import com.linkedin.venice.controllerapi.UpdateStoreQueryParams;
 import com.linkedin.venice.exceptions.VeniceException;
@@ -57,6 +58,7 @@ import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.Logger;
 
@@ -74,10 +76,13 @@ public class AdminExecutionTask implements Callable<Void> {
   private final String regionName;
   private final String storeName;
   private final Queue<AdminOperationWrapper> internalTopic;
+  // The pending admin messages of all the stores, decremented as the ones of this store are executed
+  private final AtomicInteger pendingAdminMessagesCount;
   private final VeniceHelixAdmin admin;
   private final ExecutionIdAccessor executionIdAccessor;
   private final boolean isParentController;
   private final AdminConsumptionStats stats;
+  private final AggAdminExecutionStats executionStats;
   private final ConcurrentHashMap<String, Long> lastSucceededExecutionIdMap;
   private final long lastPersistedExecutionId;
 
@@ -88,10 +93,12 @@ public class AdminExecutionTask implements Callable<Void> {
       ConcurrentHashMap<String, Long> lastSucceededExecutionIdMap,
       long lastPersistedExecutionId,
       Queue<AdminOperationWrapper> internalTopic,
+      AtomicInteger pendingAdminMessagesCount,
       VeniceHelixAdmin admin,
       ExecutionIdAccessor executionIdAccessor,
       boolean isParentController,
       AdminConsumptionStats stats,
+      AggAdminExecutionStats executionStats,
       String regionName) {
     this.LOGGER = LOGGER;
     this.clusterName = clusterName;
@@ -99,10 +106,12 @@ public class AdminExecutionTask implements Callable<Void> {
     this.lastSucceededExecutionIdMap = lastSucceededExecutionIdMap;
     this.lastPersistedExecutionId = lastPersistedExecutionId;
     this.internalTopic = internalTopic;
+    this.pendingAdminMessagesCount = pendingAdminMessagesCount;
     this.admin = admin;
     this.executionIdAccessor = executionIdAccessor;
     this.isParentController = isParentController;
     this.stats = stats;
+    this.executionStats = executionStats;
     this.regionName = regionName;
   }
 
@@ -123,6 +132,11 @@ public class AdminExecutionTask implements Callable<Void> {
                   0,
                   adminOperationWrapper.getStartProcessingTimestamp()
                       - adminOperationWrapper.getLocalBrokerTimestamp()));
+          executionStats.recordAdminMessageQueueTime(
+              storeName,
+              Math.max(
+                  0,
+                  adminOperationWrapper.getStartProcessingTimestamp() - adminOperationWrapper.getDelegateTimestamp()));
         }
         processMessage(adminOperationWrapper.getAdminOperation());
         long completionTimestamp = System.currentTimeMillis();
@@ -132,9 +146,11 @@ public class AdminExecutionTask implements Callable<Void> {
         } else {
           stats.recordAdminMessageProcessLatency(processLatency);
         }
+        executionStats.recordAdminMessageExecutionTime(storeName, processLatency);
         stats.recordAdminMessageTotalLatency(
             Math.max(0, completionTimestamp - adminOperationWrapper.getProducerTimestamp()));
         internalTopic.remove();
+        pendingAdminMessagesCount.decrementAndGet();
       } catch (Exception e) {
         // Retry of the admin operation is handled automatically by keeping the failed admin operation inside the queue.
         // The queue with the problematic operation will be delegated and retried by the worker thread in the next
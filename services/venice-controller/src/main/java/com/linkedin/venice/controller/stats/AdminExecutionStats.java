@@ -0,0 +1,38 @@
+package com.linkedin.venice.controller.stats;
+
+import com.linkedin.venice.stats.AbstractVeniceStats;
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.Sensor;
+import io.tehuti.metrics.stats.Avg;
+import io.tehuti.metrics.stats.Max;
+
+
+/**
+ * Per store metrics of the execution of the admin messages by the
+ * {@link com.linkedin.venice.controller.kafka.consumer.AdminExecutionTask}.
+ */
+public class AdminExecutionStats extends AbstractVeniceStats {
+  /**
+   * The time difference between the message delegated to the store's queue and the first attempt to process it.
+   */
+  private final Sensor adminMessageQueueTimeSensor;
+  /**
+   * The time difference between the first attempt to process the message and when it's fully processed, including
+   * the retries.
+   */
+  private final Sensor adminMessageExecutionTimeSensor;
+
+  public AdminExecutionStats(MetricsRepository metricsRepository, String name) {
+    super(metricsRepository, name);
+    adminMessageQueueTimeSensor = registerSensor("admin_message_queue_time_ms", new Avg(), new Max());
+    adminMessageExecutionTimeSensor = registerSensor("admin_message_execution_time_ms", new Avg(), new Max());
+  }
+
+  public void recordAdminMessageQueueTime(double value) {
+    adminMessageQueueTimeSensor.record(value);
+  }
+
+  public void recordAdminMessageExecutionTime(double value) {
+    adminMessageExecutionTimeSensor.record(value);
+  }
+}
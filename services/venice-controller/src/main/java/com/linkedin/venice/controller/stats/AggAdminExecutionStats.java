@@ -0,0 +1,21 @@
+package com.linkedin.venice.controller.stats;
+
+import com.linkedin.venice.stats.AbstractVeniceAggStats;
+import io.tehuti.metrics.MetricsRepository;
+
+
+public class AggAdminExecutionStats extends AbstractVeniceAggStats<AdminExecutionStats> {
+  public AggAdminExecutionStats(String clusterName, MetricsRepository metricsRepository) {
+    super(clusterName, metricsRepository, AdminExecutionStats::new);
+  }
+
+  public void recordAdminMessageQueueTime(String storeName, double value) {
+    totalStats.recordAdminMessageQueueTime(value);
+    getStoreStats(storeName).recordAdminMessageQueueTime(value);
+  }
+
+  public void recordAdminMessageExecutionTime(String storeName, double value) {
+    totalStats.recordAdminMessageExecutionTime(value);
+    getStoreStats(storeName).recordAdminMessageExecutionTime(value);
+  }
+}
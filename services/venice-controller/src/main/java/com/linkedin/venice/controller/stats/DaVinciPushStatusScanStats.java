@@ -0,0 +1,57 @@
+package com.linkedin.venice.controller.stats;
+
+import com.linkedin.venice.stats.AbstractVeniceStats;
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.Sensor;
+import io.tehuti.metrics.stats.Avg;
+import io.tehuti.metrics.stats.Max;
+
+
+/**
+ * Metrics of the periodic scans of the Da Vinci push statuses by
+ * {@link com.linkedin.venice.pushmonitor.PushStatusCollector}.
+ */
+public class DaVinciPushStatusScanStats extends AbstractVeniceStats {
+  private final Sensor scanLatencySensor;
+  /**
+   * The number of partition status keys read from the push status stores in one scan.
+   */
+  private final Sensor partitionStatusKeyCountSensor;
+  /**
+   * The number of heartbeat keys read from the push status stores in one scan, which excludes the instances whose
+   * cached heartbeat is still recent enough to consider them alive.
+   */
+  private final Sensor heartbeatKeyCountSensor;
+  /**
+   * The number of topics whose status records and instance liveness didn't change since the previous scan, so their
+   * Da Vinci push status wasn't re-evaluated.
+   */
+  private final Sensor unchangedTopicCountSensor;
+
+  public DaVinciPushStatusScanStats(MetricsRepository metricsRepository, String name) {
+    super(metricsRepository, name);
+    scanLatencySensor = registerSensorIfAbsent("davinci_push_status_scan_latency", new Avg(), new Max());
+    partitionStatusKeyCountSensor =
+        registerSensorIfAbsent("davinci_push_status_scan_partition_status_key_count", new Avg(), new Max());
+    heartbeatKeyCountSensor =
+        registerSensorIfAbsent("davinci_push_status_scan_heartbeat_key_count", new Avg(), new Max());
+    unchangedTopicCountSensor =
+        registerSensorIfAbsent("davinci_push_status_scan_unchanged_topic_count", new Avg(), new Max());
+  }
+
+  public void recordScanLatency(double latencyInMs) {
+    scanLatencySensor.record(latencyInMs);
+  }
+
+  public void recordPartitionStatusKeyCount(int count) {
+    partitionStatusKeyCountSensor.record(count);
+  }
+
+  public void recordHeartbeatKeyCount(int count) {
+    heartbeatKeyCountSensor.record(count);
+  }
+
+  public void recordUnchangedTopicCount(int count) {
+    unchangedTopicCountSensor.record(count);
+  }
+}
@@ -2,6 +2,7 @@ package com.linkedin.venice.pushmonitor;
 
 import com.linkedin.venice.controller.HelixAdminClient;
 import com.linkedin.venice.controller.VeniceControllerConfig;
+import com.linkedin.venice.controller.stats.DaVinciPushStatusScanStats;
 import com.linkedin.venice.controller.stats.DisabledPartitionStats;
 import com.linkedin.venice.ingestion.control.RealTimeTopicSwitcher;
 import com.linkedin.venice.meta.Instance;
@@ -38,7 +39,8 @@ public class PartitionStatusBasedPushMonitor extends AbstractPushMonitor {
       HelixAdminClient helixAdminClient,
       VeniceControllerConfig controllerConfig,
       PushStatusStoreReader pushStatusStoreReader,
-      DisabledPartitionStats disabledPartitionStats) {
+      DisabledPartitionStats disabledPartitionStats,
+      DaVinciPushStatusScanStats daVinciPushStatusScanStats) {
     super(
         clusterName,
         offlinePushAccessor,
@@ -53,7 +55,8 @@ public class PartitionStatusBasedPushMonitor extends AbstractPushMonitor {
         helixAdminClient,
         controllerConfig,
         pushStatusStoreReader,
-        disabledPartitionStats);
+        disabledPartitionStats,
+        daVinciPushStatusScanStats);
   }
 
   @Override
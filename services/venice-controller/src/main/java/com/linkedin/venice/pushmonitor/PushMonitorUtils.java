@@ -9,6 +9,8 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -37,6 +39,28 @@ public class PushMonitorUtils {
       throw new VeniceException("PushStatusStoreReader is null");
     }
     LOGGER.info("Getting Da Vinci push status for topic: {}", topicName);
+    String storeName = Version.parseStoreFromKafkaTopicName(topicName);
+    int version = Version.parseVersionFromVersionTopicName(topicName);
+    return getDaVinciPushStatusAndDetails(
+        topicName,
+        partitionCount,
+        partitionId -> reader.getPartitionStatus(storeName, version, partitionId, incrementalPushVersion),
+        instanceName -> reader.isInstanceAlive(storeName, instanceName),
+        incrementalPushVersion,
+        maxOfflineInstance);
+  }
+
+  /**
+   * Compute the Da Vinci push status of a topic from the replica statuses of each partition and the liveness of the
+   * Da Vinci instances, leaving it to the caller to decide how to read them from the push status store.
+   */
+  static ExecutionStatusWithDetails getDaVinciPushStatusAndDetails(
+      String topicName,
+      int partitionCount,
+      IntFunction<Map<CharSequence, Integer>> partitionStatusGetter,
+      Predicate<String> instanceLivenessChecker,
+      Optional<String> incrementalPushVersion,
+      int maxOfflineInstance) {
     boolean allMiddleStatusReceived = true;
     ExecutionStatus completeStatus = incrementalPushVersion.isPresent()
         ? ExecutionStatus.END_OF_INCREMENTAL_PUSH_RECEIVED
@@ -46,20 +70,17 @@ public class PushMonitorUtils {
         : ExecutionStatus.END_OF_PUSH_RECEIVED;
     Optional<String> erroredReplica = Optional.empty();
     int erroredPartitionId = 0;
-    String storeName = Version.parseStoreFromKafkaTopicName(topicName);
-    int version = Version.parseVersionFromVersionTopicName(topicName);
     int completedPartitions = 0;
     int totalReplicaCount = 0;
     int liveReplicaCount = 0;
     Set<Integer> incompletePartition = new HashSet<>();
     for (int partitionId = 0; partitionId < partitionCount; partitionId++) {
-      Map<CharSequence, Integer> instances =
-          reader.getPartitionStatus(storeName, version, partitionId, incrementalPushVersion);
+      Map<CharSequence, Integer> instances = partitionStatusGetter.apply(partitionId);
       boolean allInstancesCompleted = true;
       totalReplicaCount += instances.size();
       for (Map.Entry<CharSequence, Integer> entry: instances.entrySet()) {
         ExecutionStatus status = ExecutionStatus.fromInt(entry.getValue());
-        boolean isInstanceAlive = reader.isInstanceAlive(storeName, entry.getKey().toString());
+        boolean isInstanceAlive = instanceLivenessChecker.test(entry.getKey().toString());
         if (!isInstanceAlive) {
           continue;
         }
@@ -151,6 +172,14 @@ public class PushMonitorUtils {
     return new ExecutionStatusWithDetails(ExecutionStatus.STARTED, statusDetail, noDaVinciStatusReported);
   }
 
+  /**
+   * @return whether the push of the topic has too many dead Da Vinci instances, and is waiting for them to come back
+   *         before failing.
+   */
+  static boolean isWaitingForDeadInstances(String topicName) {
+    return storeVersionToDVCDeadInstanceTimeMap.containsKey(topicName);
+  }
+
   static void setDaVinciErrorInstanceWaitTime(int time) {
     daVinciErrorInstanceWaitTime = time;
   }
@@ -2,16 +2,20 @@ package com.linkedin.venice.pushmonitor;
 
 import static java.lang.Thread.*;
 
+import com.linkedin.venice.controller.stats.DaVinciPushStatusScanStats;
 import com.linkedin.venice.meta.ReadWriteStoreRepository;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.pushstatushelper.PushStatusStoreReader;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -30,6 +34,11 @@ import org.apache.logging.log4j.Logger;
  * If push status store is not enabled for the store, it will report directly upon receiving terminal server status,
  * otherwise it will record the server status and keep polling Da Vinci status to determine the aggregate status and will
  * only report if the aggregate status is terminal status.
+ *
+ * Each scan reads the Da Vinci partition statuses of every ongoing push with batch gets, and the heartbeats of the
+ * Da Vinci instances with one batch get per store, only for the instances whose heartbeat cached from the previous
+ * scans is too old to consider them alive. The Da Vinci status of a push is only re-evaluated when its partition
+ * statuses or the liveness of its instances changed since the previous scan.
  */
 public class PushStatusCollector {
   private static final Logger LOGGER = LogManager.getLogger(PushStatusCollector.class);
@@ -48,6 +57,11 @@ public class PushStatusCollector {
   private final AtomicBoolean isStarted = new AtomicBoolean(false);
 
   private final Map<String, Integer> topicToNoDaVinciStatusRetryCountMap = new HashMap<>();
+  /**
+   * The last known heartbeat timestamp of the Da Vinci instances of each store, only accessed by the scan thread.
+   */
+  private Map<String, Map<String, Long>> storeToInstanceHeartbeatMap = new HashMap<>();
+  private final DaVinciPushStatusScanStats scanStats;
 
   public PushStatusCollector(
       ReadWriteStoreRepository storeRepository,
@@ -58,7 +72,8 @@ public class PushStatusCollector {
       int daVinciPushStatusScanIntervalInSeconds,
       int daVinciPushStatusScanThreadNumber,
       int daVinciPushStatusNoReportRetryMaxAttempts,
-      int daVinciPushStatusScanMaxOfflineInstance) {
+      int daVinciPushStatusScanMaxOfflineInstance,
+      DaVinciPushStatusScanStats scanStats) {
     this.storeRepository = storeRepository;
     this.pushStatusStoreReader = pushStatusStoreReader;
     this.pushCompletedHandler = pushCompletedHandler;
@@ -68,6 +83,7 @@ public class PushStatusCollector {
     this.daVinciPushStatusScanThreadNumber = daVinciPushStatusScanThreadNumber;
     this.daVinciPushStatusNoReportRetryMaxAttempts = daVinciPushStatusNoReportRetryMaxAttempts;
     this.daVinciPushStatusScanMaxOfflineInstance = daVinciPushStatusScanMaxOfflineInstance;
+    this.scanStats = scanStats;
   }
 
   public void start() {
@@ -114,7 +130,10 @@ public class PushStatusCollector {
   }
 
   private void scanDaVinciPushStatus() {
-    List<CompletableFuture<TopicPushStatus>> resultList = new ArrayList<>();
+    long scanStartTime = System.currentTimeMillis();
+    List<TopicPushStatus> pushStatuses = new ArrayList<>();
+    List<CompletableFuture<TopicPushStatus>> readResultList = new ArrayList<>();
+    int partitionStatusKeyCount = 0;
     for (Map.Entry<String, TopicPushStatus> entry: topicToPushStatusMap.entrySet()) {
       String topicName = entry.getKey();
       TopicPushStatus pushStatus = entry.getValue();
@@ -123,29 +142,48 @@ public class PushStatusCollector {
       }
       if (pushStatus.getDaVinciStatus() != null && pushStatus.getDaVinciStatus().getStatus().isTerminal()
           && !pushStatus.getDaVinciStatus().isNoDaVinciStatusReport()) {
-        resultList.add(CompletableFuture.completedFuture(pushStatus));
+        pushStatuses.add(pushStatus);
       } else {
-        resultList.add(CompletableFuture.supplyAsync(() -> {
-          ExecutionStatusWithDetails statusWithDetails = PushMonitorUtils.getDaVinciPushStatusAndDetails(
-              pushStatusStoreReader,
-              topicName,
-              pushStatus.getPartitionCount(),
-              Optional.empty(),
-              daVinciPushStatusScanMaxOfflineInstance);
-          pushStatus.setDaVinciStatus(statusWithDetails);
+        partitionStatusKeyCount += pushStatus.getPartitionCount();
+        readResultList.add(CompletableFuture.supplyAsync(() -> {
+          pushStatus.setPartitionStatuses(
+              pushStatusStoreReader.getPartitionStatusesInBatch(
+                  Version.parseStoreFromKafkaTopicName(topicName),
+                  Version.parseVersionFromVersionTopicName(topicName),
+                  pushStatus.getPartitionCount(),
+                  Optional.empty()));
           return pushStatus;
         }, pushStatusStoreScanExecutor));
       }
     }
-    // Collect the executor result and compute aggregate results for ongoing pushes.
-    for (CompletableFuture<TopicPushStatus> future: resultList) {
-      TopicPushStatus pushStatus;
+    // Collect the partition statuses read by the executor and compute the Da Vinci status of the scanned topics.
+    List<TopicPushStatus> readPushStatuses = new ArrayList<>(readResultList.size());
+    for (CompletableFuture<TopicPushStatus> future: readResultList) {
       try {
-        pushStatus = future.get();
+        readPushStatuses.add(future.get());
       } catch (Exception e) {
         LOGGER.error("Caught exception when getting future result of push status : " + e.getMessage());
+      }
+    }
+    Set<String> failedStoreNames = new HashSet<>();
+    int heartbeatKeyCount = refreshInstanceHeartbeats(readPushStatuses, failedStoreNames);
+    int unchangedTopicCount = 0;
+    for (TopicPushStatus pushStatus: readPushStatuses) {
+      if (failedStoreNames.contains(Version.parseStoreFromKafkaTopicName(pushStatus.getTopicName()))) {
         continue;
       }
+      if (!updateDaVinciStatus(pushStatus)) {
+        unchangedTopicCount++;
+      }
+      pushStatuses.add(pushStatus);
+    }
+    scanStats.recordPartitionStatusKeyCount(partitionStatusKeyCount);
+    scanStats.recordHeartbeatKeyCount(heartbeatKeyCount);
+    scanStats.recordUnchangedTopicCount(unchangedTopicCount);
+    scanStats.recordScanLatency(System.currentTimeMillis() - scanStartTime);
+
+    // Compute aggregate results for ongoing pushes.
+    for (TopicPushStatus pushStatus: pushStatuses) {
       ExecutionStatusWithDetails daVinciStatus = pushStatus.getDaVinciStatus();
       if (daVinciStatus.isNoDaVinciStatusReport()) {
         LOGGER.info("Received empty DaVinci status report for topic: {}", pushStatus.topicName);
@@ -207,6 +245,88 @@ public class PushStatusCollector {
     }
   }
 
+  /**
+   * Read the heartbeats of the Da Vinci instances of the given topics, except the ones whose cached heartbeat is still
+   * recent enough to consider them alive, with one batch get per store.
+   * @param failedStoreNames filled with the stores whose heartbeats couldn't be read.
+   * @return the number of heartbeats read.
+   */
+  private int refreshInstanceHeartbeats(List<TopicPushStatus> pushStatuses, Set<String> failedStoreNames) {
+    Map<String, Map<String, Long>> newStoreToInstanceHeartbeatMap = new HashMap<>();
+    Map<String, List<String>> storeToInstancesToRefresh = new HashMap<>();
+    for (TopicPushStatus pushStatus: pushStatuses) {
+      String storeName = Version.parseStoreFromKafkaTopicName(pushStatus.getTopicName());
+      Map<String, Long> cachedHeartbeats = storeToInstanceHeartbeatMap.getOrDefault(storeName, Collections.emptyMap());
+      Map<String, Long> heartbeats = newStoreToInstanceHeartbeatMap.computeIfAbsent(storeName, s -> new HashMap<>());
+      for (Map<CharSequence, Integer> instances: pushStatus.getPartitionStatuses().values()) {
+        for (CharSequence instance: instances.keySet()) {
+          String instanceName = instance.toString();
+          if (heartbeats.containsKey(instanceName)) {
+            continue;
+          }
+          Long heartbeat = cachedHeartbeats.get(instanceName);
+          if (heartbeat == null || !pushStatusStoreReader.isHeartbeatAlive(heartbeat)) {
+            storeToInstancesToRefresh.computeIfAbsent(storeName, s -> new ArrayList<>()).add(instanceName);
+            heartbeat = 0L;
+          }
+          heartbeats.put(instanceName, heartbeat);
+        }
+      }
+    }
+    int heartbeatKeyCount = 0;
+    for (Map.Entry<String, List<String>> entry: storeToInstancesToRefresh.entrySet()) {
+      try {
+        newStoreToInstanceHeartbeatMap.get(entry.getKey())
+            .putAll(pushStatusStoreReader.getHeartbeats(entry.getKey(), entry.getValue()));
+        heartbeatKeyCount += entry.getValue().size();
+      } catch (Exception e) {
+        LOGGER.error("Caught exception when reading the Da Vinci heartbeats of store: {}", entry.getKey(), e);
+        failedStoreNames.add(entry.getKey());
+      }
+    }
+    // Only keep the instances of the ongoing pushes.
+    storeToInstanceHeartbeatMap = newStoreToInstanceHeartbeatMap;
+    return heartbeatKeyCount;
+  }
+
+  /**
+   * Compute the Da Vinci status of the topic from its last read partition statuses, unless they and the liveness of
+   * their instances are the same as in the previous scan.
+   * @return whether the Da Vinci status was re-evaluated.
+   */
+  private boolean updateDaVinciStatus(TopicPushStatus pushStatus) {
+    String topicName = pushStatus.getTopicName();
+    Map<String, Long> heartbeats = storeToInstanceHeartbeatMap
+        .getOrDefault(Version.parseStoreFromKafkaTopicName(topicName), Collections.emptyMap());
+    Map<Integer, Map<CharSequence, Integer>> partitionStatuses = pushStatus.getPartitionStatuses();
+    Set<String> deadInstances = new HashSet<>();
+    for (Map<CharSequence, Integer> instances: partitionStatuses.values()) {
+      for (CharSequence instance: instances.keySet()) {
+        String instanceName = instance.toString();
+        if (!pushStatusStoreReader.isHeartbeatAlive(heartbeats.getOrDefault(instanceName, 0L))) {
+          deadInstances.add(instanceName);
+        }
+      }
+    }
+    if (pushStatus.getLastEvaluatedDaVinciStatus() != null
+        && partitionStatuses.equals(pushStatus.getLastEvaluatedPartitionStatuses())
+        && deadInstances.equals(pushStatus.getLastEvaluatedDeadInstances())
+        && !PushMonitorUtils.isWaitingForDeadInstances(topicName)) {
+      pushStatus.setDaVinciStatus(pushStatus.getLastEvaluatedDaVinciStatus());
+      return false;
+    }
+    ExecutionStatusWithDetails statusWithDetails = PushMonitorUtils.getDaVinciPushStatusAndDetails(
+        topicName,
+        pushStatus.getPartitionCount(),
+        partitionId -> partitionStatuses.getOrDefault(partitionId, Collections.emptyMap()),
+        instanceName -> !deadInstances.contains(instanceName),
+        Optional.empty(),
+        daVinciPushStatusScanMaxOfflineInstance);
+    pushStatus.setLastEvaluation(partitionStatuses, deadInstances, statusWithDetails);
+    pushStatus.setDaVinciStatus(statusWithDetails);
+    return true;
+  }
+
   public void handleServerPushStatusUpdate(String topicName, ExecutionStatus executionStatus, String detailsString) {
     // Update the server topic status in the data structure and wait for async DVC status scan thread to pick up.
     TopicPushStatus topicPushStatus = topicToPushStatusMap.computeIfPresent(topicName, (topic, pushStatus) -> {
@@ -245,6 +365,7 @@ public class PushStatusCollector {
       }
       topicToPushStatusMap.clear();
       topicToNoDaVinciStatusRetryCountMap.clear();
+      storeToInstanceHeartbeatMap = new HashMap<>();
     }
   }
 
@@ -258,6 +379,10 @@ public class PushStatusCollector {
     private final int partitionCount;
     private ExecutionStatusWithDetails serverStatus;
     private ExecutionStatusWithDetails daVinciStatus;
+    private Map<Integer, Map<CharSequence, Integer>> partitionStatuses = Collections.emptyMap();
+    private Map<Integer, Map<CharSequence, Integer>> lastEvaluatedPartitionStatuses;
+    private Set<String> lastEvaluatedDeadInstances;
+    private ExecutionStatusWithDetails lastEvaluatedDaVinciStatus;
 
     private boolean isMonitoring;
 
@@ -298,5 +423,34 @@ public class PushStatusCollector {
     public String getTopicName() {
       return topicName;
     }
+
+    public void setPartitionStatuses(Map<Integer, Map<CharSequence, Integer>> partitionStatuses) {
+      this.partitionStatuses = partitionStatuses;
+    }
+
+    public Map<Integer, Map<CharSequence, Integer>> getPartitionStatuses() {
+      return partitionStatuses;
+    }
+
+    public void setLastEvaluation(
+        Map<Integer, Map<CharSequence, Integer>> partitionStatuses,
+        Set<String> deadInstances,
+        ExecutionStatusWithDetails daVinciStatus) {
+      this.lastEvaluatedPartitionStatuses = partitionStatuses;
+      this.lastEvaluatedDeadInstances = deadInstances;
+      this.lastEvaluatedDaVinciStatus = daVinciStatus;
+    }
+
+    public Map<Integer, Map<CharSequence, Integer>> getLastEvaluatedPartitionStatuses() {
+      return lastEvaluatedPartitionStatuses;
+    }
+
+    public Set<String> getLastEvaluatedDeadInstances() {
+      return lastEvaluatedDeadInstances;
+    }
+
+    public ExecutionStatusWithDetails getLastEvaluatedDaVinciStatus() {
+      return lastEvaluatedDaVinciStatus;
+    }
   }
 }
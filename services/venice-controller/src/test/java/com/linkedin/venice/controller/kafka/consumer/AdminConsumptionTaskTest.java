@@ -57,6 +57,7 @@ import com.linkedin.venice.controller.kafka.protocol.enums.AdminMessageType;
 import com.linkedin.venice.controller.kafka.protocol.enums.SchemaType;
 import com.linkedin.venice.controller.kafka.protocol.serializer.AdminOperationSerializer;
 import com.linkedin.venice.controller.stats.AdminConsumptionStats;
+import com.linkedin.venice.controller.stats.AggAdminExecutionStats;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.guid.GuidUtils;
 import com.linkedin.venice.kafka.TopicManager;
@@ -229,6 +230,28 @@ public class AdminConsumptionTaskTest {
       boolean remoteConsumptionEnabled,
       String remoteKafkaServerUrl,
       int maxWorkerThreadPoolSize) {
+    return getAdminConsumptionTask(
+        pollStrategy,
+        isParent,
+        stats,
+        mock(AggAdminExecutionStats.class),
+        adminConsumptionCycleTimeoutMs,
+        remoteConsumptionEnabled,
+        remoteKafkaServerUrl,
+        maxWorkerThreadPoolSize,
+        false);
+  }
+
+  private AdminConsumptionTask getAdminConsumptionTask(
+      PollStrategy pollStrategy,
+      boolean isParent,
+      AdminConsumptionStats stats,
+      AggAdminExecutionStats executionStats,
+      long adminConsumptionCycleTimeoutMs,
+      boolean remoteConsumptionEnabled,
+      String remoteKafkaServerUrl,
+      int maxWorkerThreadPoolSize,
+      boolean continuousExecutionEnabled) {
     MockInMemoryConsumer inMemoryKafkaConsumer =
         new MockInMemoryConsumer(inMemoryKafkaBroker, pollStrategy, mockKafkaConsumer);
 
@@ -248,10 +271,14 @@ public class AdminConsumptionTaskTest {
         executionIdAccessor,
         isParent,
         stats,
+        executionStats,
         1,
         Optional.empty(),
         adminConsumptionCycleTimeoutMs,
         maxWorkerThreadPoolSize,
+        continuousExecutionEnabled,
+        1000,
+        50000,
         pubSubTopicRepository,
         pubSubMessageDeserializer,
         "dc-0");
@@ -1602,6 +1629,85 @@ public class AdminConsumptionTaskTest {
 
   }
 
+  @Test(timeOut = 2 * TIMEOUT)
+  public void testLongRunningBadTaskWithContinuousExecution() throws Exception {
+    String storeName1 = "test_store1";
+    String storeName2 = "test_store2";
+    String storeTopicName1 = storeName1 + "_v1";
+    String storeTopicName2 = storeName2 + "_v1";
+    veniceWriter.put(
+        emptyKeyBytes,
+        getStoreCreationMessage(clusterName, storeName1, owner, keySchema, valueSchema, 1),
+        AdminOperationSerializer.LATEST_SCHEMA_ID_FOR_ADMIN_OPERATION);
+    veniceWriter.put(
+        emptyKeyBytes,
+        getStoreCreationMessage(clusterName, storeName2, owner, keySchema, valueSchema, 2),
+        AdminOperationSerializer.LATEST_SCHEMA_ID_FOR_ADMIN_OPERATION);
+    veniceWriter.put(
+        emptyKeyBytes,
+        getKillOfflinePushJobMessage(clusterName, storeTopicName1, 3),
+        AdminOperationSerializer.LATEST_SCHEMA_ID_FOR_ADMIN_OPERATION);
+    veniceWriter.put(
+        emptyKeyBytes,
+        getKillOfflinePushJobMessage(clusterName, storeTopicName2, 4),
+        AdminOperationSerializer.LATEST_SCHEMA_ID_FOR_ADMIN_OPERATION);
+
+    when(admin.hasStore(clusterName, storeName1)).thenReturn(false);
+    when(admin.hasStore(clusterName, storeName2)).thenReturn(false);
+
+    // Delay by more than the execution timeout, so the execution of the first store keeps being cancelled.
+    doAnswer(AdditionalAnswers.answersWithDelay(2000, invocation -> {
+      return null;
+    })).when(admin).createStore(clusterName, storeName1, owner, keySchema, valueSchema, false);
+
+    AggAdminExecutionStats executionStats = mock(AggAdminExecutionStats.class);
+    AdminConsumptionTask task = getAdminConsumptionTask(
+        new RandomPollStrategy(),
+        false,
+        mock(AdminConsumptionStats.class),
+        executionStats,
+        1000,
+        false,
+        null,
+        3,
+        true);
+
+    executor.submit(task);
+
+    // The second store makes progress while the first store is stuck, and the checkpoint stays right before the
+    // oldest pending message.
+    TestUtils.waitForNonDeterministicAssertion(TIMEOUT, TimeUnit.MILLISECONDS, () -> {
+      Assert.assertEquals(
+          executionIdAccessor.getLastSucceededExecutionIdMap(clusterName).getOrDefault(storeName2, -1L).longValue(),
+          4L);
+      Assert.assertEquals(task.getFailingOffset(), 1L);
+      Assert.assertEquals(getLastOffset(clusterName), 0L);
+      Assert.assertEquals(getLastExecutionId(clusterName), 0L);
+    });
+    Assert.assertNull(task.getLastSucceededExecutionId(storeName1));
+    verify(executionStats, atLeastOnce()).recordAdminMessageQueueTime(eq(storeName2), anyDouble());
+    verify(executionStats, atLeastOnce()).recordAdminMessageExecutionTime(eq(storeName2), anyDouble());
+
+    // Once we skip the failing message, the store should recover
+    task.skipMessageWithOffset(1);
+    TestUtils.waitForNonDeterministicAssertion(
+        TIMEOUT,
+        TimeUnit.MILLISECONDS,
+        () -> Assert.assertEquals(getLastOffset(clusterName), 4L));
+
+    Assert.assertEquals(getLastExecutionId(clusterName), 4L);
+    Assert.assertEquals(
+        executionIdAccessor.getLastSucceededExecutionIdMap(clusterName).getOrDefault(storeName1, -1L).longValue(),
+        3L);
+    Assert.assertEquals(task.getFailingOffset(), -1L);
+
+    task.close();
+    executor.shutdown();
+    executor.awaitTermination(TIMEOUT, TimeUnit.MILLISECONDS);
+
+    verify(admin, times(1)).createStore(clusterName, storeName2, owner, keySchema, valueSchema, false);
+  }
+
   @Test(timeOut = TIMEOUT)
   public void testSystemStoreMessageOrder() throws InterruptedException, IOException {
     doThrow(new VeniceException("Prevent store creation")).when(admin)
@@ -15,6 +15,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.linkedin.venice.controller.HelixAdminClient;
+import com.linkedin.venice.controller.stats.DaVinciPushStatusScanStats;
 import com.linkedin.venice.controller.stats.DisabledPartitionStats;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.helix.CachedReadOnlyStoreRepository;
@@ -63,7 +64,8 @@ public class PartitionStatusBasedPushMonitorTest extends AbstractPushMonitorTest
         helixAdminClient,
         getMockControllerConfig(),
         null,
-        mock(DisabledPartitionStats.class));
+        mock(DisabledPartitionStats.class),
+        mock(DaVinciPushStatusScanStats.class));
   }
 
   @Override
@@ -82,7 +84,8 @@ public class PartitionStatusBasedPushMonitorTest extends AbstractPushMonitorTest
         mock(HelixAdminClient.class),
         getMockControllerConfig(),
         null,
-        mock(DisabledPartitionStats.class));
+        mock(DisabledPartitionStats.class),
+        mock(DaVinciPushStatusScanStats.class));
   }
 
   @Test
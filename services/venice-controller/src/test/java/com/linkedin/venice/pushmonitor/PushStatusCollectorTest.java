@@ -1,16 +1,20 @@
 package com.linkedin.venice.pushmonitor;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.linkedin.venice.controller.stats.DaVinciPushStatusScanStats;
 import com.linkedin.venice.meta.ReadWriteStoreRepository;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.pushstatushelper.PushStatusStoreReader;
 import com.linkedin.venice.utils.TestUtils;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
@@ -58,7 +62,8 @@ public class PushStatusCollectorTest {
         1,
         4,
         1,
-        20);
+        20,
+        mock(DaVinciPushStatusScanStats.class));
     pushStatusCollector.start();
 
     pushStatusCollector.subscribeTopic(regularStoreTopicV1, 10);
@@ -77,15 +82,21 @@ public class PushStatusCollectorTest {
     Map<CharSequence, Integer> errorInstancePushStatus = Collections.singletonMap("instance", 12);
     Map<CharSequence, Integer> startedInstancePushStatus = Collections.singletonMap("instance", 2);
 
-    when(pushStatusStoreReader.getPartitionStatus(daVinciStoreName, 2, 0, Optional.empty()))
-        .thenReturn(startedInstancePushStatus, successfulInstancePushStatus);
-    when(pushStatusStoreReader.getPartitionStatus(daVinciStoreName, 3, 0, Optional.empty()))
-        .thenReturn(startedInstancePushStatus, successfulInstancePushStatus);
-    when(pushStatusStoreReader.getPartitionStatus(daVinciStoreName, 4, 0, Optional.empty()))
-        .thenReturn(startedInstancePushStatus, errorInstancePushStatus);
-    when(pushStatusStoreReader.getPartitionStatus(daVinciStoreName, 5, 0, Optional.empty()))
-        .thenReturn(startedInstancePushStatus, errorInstancePushStatus);
-    when(pushStatusStoreReader.isInstanceAlive(daVinciStoreName, "instance")).thenReturn(true);
+    when(pushStatusStoreReader.getPartitionStatusesInBatch(daVinciStoreName, 2, 1, Optional.empty())).thenReturn(
+        Collections.singletonMap(0, startedInstancePushStatus),
+        Collections.singletonMap(0, successfulInstancePushStatus));
+    when(pushStatusStoreReader.getPartitionStatusesInBatch(daVinciStoreName, 3, 1, Optional.empty())).thenReturn(
+        Collections.singletonMap(0, startedInstancePushStatus),
+        Collections.singletonMap(0, successfulInstancePushStatus));
+    when(pushStatusStoreReader.getPartitionStatusesInBatch(daVinciStoreName, 4, 1, Optional.empty())).thenReturn(
+        Collections.singletonMap(0, startedInstancePushStatus),
+        Collections.singletonMap(0, errorInstancePushStatus));
+    when(pushStatusStoreReader.getPartitionStatusesInBatch(daVinciStoreName, 5, 1, Optional.empty())).thenReturn(
+        Collections.singletonMap(0, startedInstancePushStatus),
+        Collections.singletonMap(0, errorInstancePushStatus));
+    when(pushStatusStoreReader.getHeartbeats(eq(daVinciStoreName), any()))
+        .thenReturn(Collections.singletonMap("instance", 1L));
+    when(pushStatusStoreReader.isHeartbeatAlive(1L)).thenReturn(true);
     pushStatusCollector.subscribeTopic(daVinciStoreTopicV1, 1);
     Assert.assertFalse(pushStatusCollector.getTopicToPushStatusMap().containsKey(daVinciStoreTopicV1));
 
@@ -98,7 +109,8 @@ public class PushStatusCollectorTest {
         2,
         TimeUnit.SECONDS,
         true,
-        () -> verify(pushStatusStoreReader, atLeast(1)).getPartitionStatus(daVinciStoreName, 2, 0, Optional.empty()));
+        () -> verify(pushStatusStoreReader, atLeast(1))
+            .getPartitionStatusesInBatch(daVinciStoreName, 2, 1, Optional.empty()));
     Assert.assertEquals(pushCompletedCount.get(), 0);
     pushStatusCollector.handleServerPushStatusUpdate(daVinciStoreTopicV2, ExecutionStatus.COMPLETED, null);
     TestUtils.waitForNonDeterministicAssertion(
@@ -116,7 +128,8 @@ public class PushStatusCollectorTest {
         2,
         TimeUnit.SECONDS,
         true,
-        () -> verify(pushStatusStoreReader, atLeast(1)).getPartitionStatus(daVinciStoreName, 3, 0, Optional.empty()));
+        () -> verify(pushStatusStoreReader, atLeast(1))
+            .getPartitionStatusesInBatch(daVinciStoreName, 3, 1, Optional.empty()));
     Assert.assertEquals(pushErrorCount.get(), 0);
     pushStatusCollector.handleServerPushStatusUpdate(daVinciStoreTopicV3, ExecutionStatus.ERROR, "ERROR!!!!");
     TestUtils.waitForNonDeterministicAssertion(
@@ -134,7 +147,8 @@ public class PushStatusCollectorTest {
         2,
         TimeUnit.SECONDS,
         true,
-        () -> verify(pushStatusStoreReader, atLeast(1)).getPartitionStatus(daVinciStoreName, 4, 0, Optional.empty()));
+        () -> verify(pushStatusStoreReader, atLeast(1))
+            .getPartitionStatusesInBatch(daVinciStoreName, 4, 1, Optional.empty()));
     Assert.assertEquals(pushErrorCount.get(), 0);
     pushStatusCollector.handleServerPushStatusUpdate(daVinciStoreTopicV4, ExecutionStatus.COMPLETED, null);
     TestUtils.waitForNonDeterministicAssertion(
@@ -152,7 +166,8 @@ public class PushStatusCollectorTest {
         2,
         TimeUnit.SECONDS,
         true,
-        () -> verify(pushStatusStoreReader, atLeast(1)).getPartitionStatus(daVinciStoreName, 5, 0, Optional.empty()));
+        () -> verify(pushStatusStoreReader, atLeast(1))
+            .getPartitionStatusesInBatch(daVinciStoreName, 5, 1, Optional.empty()));
     Assert.assertEquals(pushErrorCount.get(), 0);
     pushStatusCollector.handleServerPushStatusUpdate(daVinciStoreTopicV5, ExecutionStatus.ERROR, null);
     TestUtils.waitForNonDeterministicAssertion(
@@ -190,7 +205,8 @@ public class PushStatusCollectorTest {
         1,
         4,
         1,
-        20);
+        20,
+        mock(DaVinciPushStatusScanStats.class));
     pushStatusCollector.start();
 
     pushCompletedCount.set(0);
@@ -199,11 +215,17 @@ public class PushStatusCollectorTest {
     Map<CharSequence, Integer> errorInstancePushStatus = Collections.singletonMap("instance", 12);
     Map<CharSequence, Integer> startedInstancePushStatus = Collections.singletonMap("instance", 2);
 
-    when(pushStatusStoreReader.getPartitionStatus(daVinciStoreName, 2, 0, Optional.empty()))
-        .thenReturn(Collections.emptyMap(), startedInstancePushStatus, successfulInstancePushStatus);
-    when(pushStatusStoreReader.getPartitionStatus(daVinciStoreName, 3, 0, Optional.empty()))
-        .thenReturn(Collections.emptyMap(), startedInstancePushStatus, errorInstancePushStatus);
-    when(pushStatusStoreReader.isInstanceAlive(daVinciStoreName, "instance")).thenReturn(true);
+    when(pushStatusStoreReader.getPartitionStatusesInBatch(daVinciStoreName, 2, 1, Optional.empty())).thenReturn(
+        Collections.emptyMap(),
+        Collections.singletonMap(0, startedInstancePushStatus),
+        Collections.singletonMap(0, successfulInstancePushStatus));
+    when(pushStatusStoreReader.getPartitionStatusesInBatch(daVinciStoreName, 3, 1, Optional.empty())).thenReturn(
+        Collections.emptyMap(),
+        Collections.singletonMap(0, startedInstancePushStatus),
+        Collections.singletonMap(0, errorInstancePushStatus));
+    when(pushStatusStoreReader.getHeartbeats(eq(daVinciStoreName), any()))
+        .thenReturn(Collections.singletonMap("instance", 1L));
+    when(pushStatusStoreReader.isHeartbeatAlive(1L)).thenReturn(true);
     pushStatusCollector.subscribeTopic(daVinciStoreTopicV1, 1);
     Assert.assertFalse(pushStatusCollector.getTopicToPushStatusMap().containsKey(daVinciStoreTopicV1));
 
@@ -216,7 +238,8 @@ public class PushStatusCollectorTest {
         5,
         TimeUnit.SECONDS,
         false,
-        () -> verify(pushStatusStoreReader, times(3)).getPartitionStatus(daVinciStoreName, 2, 0, Optional.empty()));
+        () -> verify(pushStatusStoreReader, times(3))
+            .getPartitionStatusesInBatch(daVinciStoreName, 2, 1, Optional.empty()));
     Assert.assertEquals(pushCompletedCount.get(), 0);
     pushStatusCollector.handleServerPushStatusUpdate(daVinciStoreTopicV2, ExecutionStatus.COMPLETED, null);
     TestUtils.waitForNonDeterministicAssertion(
@@ -234,7 +257,8 @@ public class PushStatusCollectorTest {
         5,
         TimeUnit.SECONDS,
         false,
-        () -> verify(pushStatusStoreReader, times(3)).getPartitionStatus(daVinciStoreName, 3, 0, Optional.empty()));
+        () -> verify(pushStatusStoreReader, times(3))
+            .getPartitionStatusesInBatch(daVinciStoreName, 3, 1, Optional.empty()));
     Assert.assertEquals(pushErrorCount.get(), 0);
     pushStatusCollector.handleServerPushStatusUpdate(daVinciStoreTopicV3, ExecutionStatus.COMPLETED, null);
     TestUtils.waitForNonDeterministicAssertion(
@@ -272,7 +296,8 @@ public class PushStatusCollectorTest {
         1,
         4,
         0,
-        20);
+        20,
+        mock(DaVinciPushStatusScanStats.class));
     pushStatusCollector.start();
 
     pushCompletedCount.set(0);
@@ -280,9 +305,11 @@ public class PushStatusCollectorTest {
     Map<CharSequence, Integer> successfulInstancePushStatus = Collections.singletonMap("instance", 10);
     Map<CharSequence, Integer> startedInstancePushStatus = Collections.singletonMap("instance", 2);
 
-    when(pushStatusStoreReader.getPartitionStatus(daVinciStoreName, 2, 0, Optional.empty()))
+    when(pushStatusStoreReader.getPartitionStatusesInBatch(daVinciStoreName, 2, 1, Optional.empty()))
         .thenReturn(Collections.emptyMap());
-    when(pushStatusStoreReader.isInstanceAlive(daVinciStoreName, "instance")).thenReturn(true);
+    when(pushStatusStoreReader.getHeartbeats(eq(daVinciStoreName), any()))
+        .thenReturn(Collections.singletonMap("instance", 1L));
+    when(pushStatusStoreReader.isHeartbeatAlive(1L)).thenReturn(true);
     pushStatusCollector.subscribeTopic(daVinciStoreTopicV1, 1);
     Assert.assertFalse(pushStatusCollector.getTopicToPushStatusMap().containsKey(daVinciStoreTopicV1));
 
@@ -295,7 +322,8 @@ public class PushStatusCollectorTest {
         5,
         TimeUnit.SECONDS,
         false,
-        () -> verify(pushStatusStoreReader, atLeast(3)).getPartitionStatus(daVinciStoreName, 2, 0, Optional.empty()));
+        () -> verify(pushStatusStoreReader, atLeast(3))
+            .getPartitionStatusesInBatch(daVinciStoreName, 2, 1, Optional.empty()));
     Assert.assertEquals(pushCompletedCount.get(), 0);
     pushStatusCollector.handleServerPushStatusUpdate(daVinciStoreTopicV2, ExecutionStatus.COMPLETED, null);
     TestUtils.waitForNonDeterministicAssertion(
@@ -308,12 +336,12 @@ public class PushStatusCollectorTest {
     pushCompletedCount.set(0);
     pushErrorCount.set(0);
 
-    when(pushStatusStoreReader.getPartitionStatus(daVinciStoreName, 3, 0, Optional.empty())).thenReturn(
+    when(pushStatusStoreReader.getPartitionStatusesInBatch(daVinciStoreName, 3, 1, Optional.empty())).thenReturn(
         Collections.emptyMap(),
         Collections.emptyMap(),
         Collections.emptyMap(),
-        startedInstancePushStatus,
-        successfulInstancePushStatus);
+        Collections.singletonMap(0, startedInstancePushStatus),
+        Collections.singletonMap(0, successfulInstancePushStatus));
 
     pushStatusCollector.subscribeTopic(daVinciStoreTopicV3, 1);
     Assert.assertTrue(pushStatusCollector.getTopicToPushStatusMap().containsKey(daVinciStoreTopicV3));
@@ -321,7 +349,8 @@ public class PushStatusCollectorTest {
         10,
         TimeUnit.SECONDS,
         false,
-        () -> verify(pushStatusStoreReader, times(5)).getPartitionStatus(daVinciStoreName, 3, 0, Optional.empty()));
+        () -> verify(pushStatusStoreReader, times(5))
+            .getPartitionStatusesInBatch(daVinciStoreName, 3, 1, Optional.empty()));
     Assert.assertEquals(pushCompletedCount.get(), 0);
     pushStatusCollector.handleServerPushStatusUpdate(daVinciStoreTopicV3, ExecutionStatus.COMPLETED, null);
     TestUtils.waitForNonDeterministicAssertion(
@@ -330,4 +359,57 @@ public class PushStatusCollectorTest {
         false,
         () -> Assert.assertEquals(pushCompletedCount.get(), 1));
   }
+
+  @Test
+  public void testDaVinciHeartbeatsAreCachedBetweenScans() {
+    ReadWriteStoreRepository storeRepository = mock(ReadWriteStoreRepository.class);
+    PushStatusStoreReader pushStatusStoreReader = mock(PushStatusStoreReader.class);
+    DaVinciPushStatusScanStats scanStats = mock(DaVinciPushStatusScanStats.class);
+
+    String daVinciStoreName = "daVinciStore";
+    String daVinciStoreTopicV2 = "daVinciStore_v2";
+    Store daVinciStore = mock(Store.class);
+    when(daVinciStore.isDaVinciPushStatusStoreEnabled()).thenReturn(true);
+    when(storeRepository.getStore(daVinciStoreName)).thenReturn(daVinciStore);
+
+    PushStatusCollector pushStatusCollector = new PushStatusCollector(
+        storeRepository,
+        pushStatusStoreReader,
+        x -> {},
+        (x, y) -> {},
+        true,
+        1,
+        4,
+        1,
+        20,
+        scanStats);
+    pushStatusCollector.start();
+
+    Map<CharSequence, Integer> startedInstancePushStatus = new HashMap<>();
+    startedInstancePushStatus.put("instance1", 2);
+    startedInstancePushStatus.put("instance2", 2);
+    Map<Integer, Map<CharSequence, Integer>> partitionStatuses = new HashMap<>();
+    partitionStatuses.put(0, startedInstancePushStatus);
+    partitionStatuses.put(1, startedInstancePushStatus);
+    Map<String, Long> heartbeats = new HashMap<>();
+    heartbeats.put("instance1", 1L);
+    heartbeats.put("instance2", 1L);
+    when(pushStatusStoreReader.getPartitionStatusesInBatch(daVinciStoreName, 2, 2, Optional.empty()))
+        .thenReturn(partitionStatuses);
+    when(pushStatusStoreReader.getHeartbeats(eq(daVinciStoreName), any())).thenReturn(heartbeats);
+    when(pushStatusStoreReader.isHeartbeatAlive(1L)).thenReturn(true);
+
+    pushStatusCollector.subscribeTopic(daVinciStoreTopicV2, 2);
+    TestUtils.waitForNonDeterministicAssertion(
+        5,
+        TimeUnit.SECONDS,
+        false,
+        () -> verify(pushStatusStoreReader, atLeast(3))
+            .getPartitionStatusesInBatch(daVinciStoreName, 2, 2, Optional.empty()));
+    pushStatusCollector.clear();
+
+    // The heartbeats of the live instances are only read once, and the unchanged statuses are not re-evaluated.
+    verify(pushStatusStoreReader, times(1)).getHeartbeats(eq(daVinciStoreName), any());
+    verify(scanStats, atLeast(2)).recordUnchangedTopicCount(1);
+  }
 }
@@ -55,6 +55,7 @@ import com.linkedin.venice.router.api.path.VenicePath;
 import com.linkedin.venice.router.api.routing.helix.HelixGroupSelector;
 import com.linkedin.venice.router.httpclient.ApacheHttpAsyncStorageNodeClient;
 import com.linkedin.venice.router.httpclient.HttpClient5StorageNodeClient;
+import com.linkedin.venice.router.httpclient.NettyHttp2StorageNodeClient;
 import com.linkedin.venice.router.httpclient.StorageNodeClient;
 import com.linkedin.venice.router.stats.AdminOperationsStats;
 import com.linkedin.venice.router.stats.AggHostHealthStats;
@@ -88,8 +89,10 @@ import io.netty.channel.EventLoopGroup;
 import io.netty.channel.MultithreadEventLoopGroup;
 import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.util.concurrent.DefaultThreadFactory;
 import io.tehuti.metrics.MetricsRepository;
 import java.net.InetSocketAddress;
@@ -396,11 +399,14 @@ public class RouterServer extends AbstractVeniceService {
     workerExecutor = registry.factory(ShutdownableExecutors.class)
         .newCachedThreadPool(new DefaultThreadFactory("RouterThread", true, Thread.MAX_PRIORITY));
     /**
-     * Use TreeMap inside TimeoutProcessor; the other option ConcurrentSkipList has performance issue.
+     * Use TreeMap inside TimeoutProcessor unless the timing wheel is enabled; the other option ConcurrentSkipList has
+     * performance issue.
      *
      * Refer to more context on {@link VeniceRouterConfig#checkProperties(VeniceProperties)}
      */
-    timeoutProcessor = new TimeoutProcessor(registry, true, 1);
+    timeoutProcessor = config.isTimeoutProcessorTimingWheelEnabled()
+        ? TimeoutProcessor.withTimingWheel(registry, 1)
+        : new TimeoutProcessor(registry, true, 1);
 
     Optional<SSLFactory> sslFactoryForRequests = Optional.empty();
     if (config.isSslToStorageNodes()) {
@@ -415,17 +421,20 @@ public class RouterServer extends AbstractVeniceService {
     }
     VenicePartitionFinder partitionFinder = new VenicePartitionFinder(routingDataRepository, metadataRepository);
     Class<? extends AbstractChannel> serverSocketChannelClass;
+    Class<? extends AbstractChannel> socketChannelClass;
     boolean useEpoll = true;
     try {
       serverEventLoopGroup = new EpollEventLoopGroup(ROUTER_BOSS_THREAD_NUM);
       workerEventLoopGroup = new EpollEventLoopGroup(config.getRouterIOWorkerCount(), workerExecutor);
       serverSocketChannelClass = EpollServerSocketChannel.class;
+      socketChannelClass = EpollSocketChannel.class;
     } catch (LinkageError error) {
       useEpoll = false;
       LOGGER.info("Epoll is only supported on Linux; switching to NIO");
       serverEventLoopGroup = new NioEventLoopGroup(ROUTER_BOSS_THREAD_NUM);
       workerEventLoopGroup = new NioEventLoopGroup(config.getRouterIOWorkerCount(), workerExecutor);
       serverSocketChannelClass = NioServerSocketChannel.class;
+      socketChannelClass = NioSocketChannel.class;
     }
 
     switch (config.getStorageNodeClientType()) {
@@ -438,6 +447,11 @@ public class RouterServer extends AbstractVeniceService {
         LOGGER.info("Router will use HTTP CLIENT5");
         storageNodeClient = new HttpClient5StorageNodeClient(sslFactoryForRequests, config);
         break;
+      case NETTY_HTTP2_CLIENT:
+        LOGGER.info("Router will use Netty HTTP/2 client");
+        storageNodeClient =
+            new NettyHttp2StorageNodeClient(sslFactoryForRequests, config, workerEventLoopGroup, socketChannelClass);
+        break;
       default:
         throw new VeniceException(
             "Router client type " + config.getStorageNodeClientType().toString() + " is not supported!");
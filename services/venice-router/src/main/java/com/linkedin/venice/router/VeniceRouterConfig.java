@@ -71,6 +71,9 @@ import static com.linkedin.venice.ConfigKeys.ROUTER_META_STORE_SHADOW_READ_ENABL
 import static com.linkedin.venice.ConfigKeys.ROUTER_MULTIGET_TARDY_LATENCY_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_MULTI_KEY_ROUTING_STRATEGY;
 import static com.linkedin.venice.ConfigKeys.ROUTER_NETTY_GRACEFUL_SHUTDOWN_PERIOD_SECONDS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_NETTY_HTTP2_CLIENT_INITIAL_WINDOW_SIZE;
+import static com.linkedin.venice.ConfigKeys.ROUTER_NETTY_HTTP2_CLIENT_MAX_CONCURRENT_STREAMS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_NETTY_HTTP2_CLIENT_MAX_CONNECTIONS_PER_HOST;
 import static com.linkedin.venice.ConfigKeys.ROUTER_PENDING_CONNECTION_RESUME_THRESHOLD_PER_ROUTE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_PER_NODE_CLIENT_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_PER_NODE_CLIENT_THREAD_COUNT;
@@ -84,6 +87,7 @@ import static com.linkedin.venice.ConfigKeys.ROUTER_SOCKET_TIMEOUT;
 import static com.linkedin.venice.ConfigKeys.ROUTER_STATEFUL_HEALTHCHECK_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_STORAGE_NODE_CLIENT_TYPE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_THROTTLE_CLIENT_SSL_HANDSHAKES;
+import static com.linkedin.venice.ConfigKeys.ROUTER_TIMEOUT_PROCESSOR_TIMING_WHEEL_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_UNHEALTHY_PENDING_CONNECTION_THRESHOLD_PER_ROUTE;
 import static com.linkedin.venice.ConfigKeys.ROUTE_DNS_CACHE_HOST_PATTERN;
 import static com.linkedin.venice.ConfigKeys.SSL_TO_KAFKA_LEGACY;
@@ -198,6 +202,9 @@ public class VeniceRouterConfig {
   private int httpClient5PoolSize;
   private int httpClient5TotalIOThreadCount;
   private boolean httpClient5SkipCipherCheck;
+  private int nettyHttp2ClientMaxConnectionsPerHost;
+  private int nettyHttp2ClientMaxConcurrentStreams;
+  private int nettyHttp2ClientInitialWindowSize;
   private boolean http2InboundEnabled;
   private int http2MaxConcurrentStreams;
   private int http2MaxFrameSize;
@@ -209,6 +216,7 @@ public class VeniceRouterConfig {
   private int routerIOWorkerCount;
   private double perStoreRouterQuotaBuffer;
   private boolean httpClientOpensslEnabled;
+  private boolean timeoutProcessorTimingWheelEnabled;
 
   public VeniceRouterConfig(VeniceProperties props) {
     try {
@@ -370,6 +378,9 @@ public class VeniceRouterConfig {
     httpClient5TotalIOThreadCount =
         props.getInt(ROUTER_HTTP_CLIENT5_TOTAL_IO_THREAD_COUNT, Runtime.getRuntime().availableProcessors());
     httpClient5SkipCipherCheck = props.getBoolean(ROUTER_HTTP_CLIENT5_SKIP_CIPHER_CHECK_ENABLED, false);
+    nettyHttp2ClientMaxConnectionsPerHost = props.getInt(ROUTER_NETTY_HTTP2_CLIENT_MAX_CONNECTIONS_PER_HOST, 2);
+    nettyHttp2ClientMaxConcurrentStreams = props.getInt(ROUTER_NETTY_HTTP2_CLIENT_MAX_CONCURRENT_STREAMS, 100);
+    nettyHttp2ClientInitialWindowSize = props.getInt(ROUTER_NETTY_HTTP2_CLIENT_INITIAL_WINDOW_SIZE, 8 * 1024 * 1024);
     http2InboundEnabled = props.getBoolean(ROUTER_HTTP2_INBOUND_ENABLED, false);
     http2MaxConcurrentStreams = props.getInt(ROUTER_HTTP2_MAX_CONCURRENT_STREAMS, 100);
     http2MaxFrameSize = props.getInt(ROUTER_HTTP2_MAX_FRAME_SIZE, 8 * 1024 * 1024);
@@ -386,6 +397,7 @@ public class VeniceRouterConfig {
     routerIOWorkerCount = props.getInt(ROUTER_IO_WORKER_COUNT, 24);
     perStoreRouterQuotaBuffer = props.getDouble(ROUTER_PER_STORE_ROUTER_QUOTA_BUFFER, 1.5);
     httpClientOpensslEnabled = props.getBoolean(ROUTER_HTTP_CLIENT_OPENSSL_ENABLED, true);
+    timeoutProcessorTimingWheelEnabled = props.getBoolean(ROUTER_TIMEOUT_PROCESSOR_TIMING_WHEEL_ENABLED, false);
   }
 
   public double getPerStoreRouterQuotaBuffer() {
@@ -789,6 +801,18 @@ public class VeniceRouterConfig {
     return httpClient5SkipCipherCheck;
   }
 
+  public int getNettyHttp2ClientMaxConnectionsPerHost() {
+    return nettyHttp2ClientMaxConnectionsPerHost;
+  }
+
+  public int getNettyHttp2ClientMaxConcurrentStreams() {
+    return nettyHttp2ClientMaxConcurrentStreams;
+  }
+
+  public int getNettyHttp2ClientInitialWindowSize() {
+    return nettyHttp2ClientInitialWindowSize;
+  }
+
   public boolean isHttp2InboundEnabled() {
     return http2InboundEnabled;
   }
@@ -828,4 +852,8 @@ public class VeniceRouterConfig {
   public boolean isHttpClientOpensslEnabled() {
     return httpClientOpensslEnabled;
   }
+
+  public boolean isTimeoutProcessorTimingWheelEnabled() {
+    return timeoutProcessorTimingWheelEnabled;
+  }
 }
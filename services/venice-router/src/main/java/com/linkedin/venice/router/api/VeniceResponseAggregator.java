@@ -229,6 +229,11 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
       }
     }
 
+    if (!venicePath.isStreamingRequest() && finalResponse.status().equals(OK)) {
+      // Let the clients know which version served the response, e.g. to invalidate their near cache on version swaps
+      finalResponse.headers().set(HttpConstants.VENICE_STORE_VERSION, versionNumber);
+    }
+
     HttpResponseStatus responseStatus = finalResponse.status();
     Map<String, TimeValue> allMetrics = metrics.getMetrics();
     /**
@@ -1,6 +1,7 @@
 package com.linkedin.venice.router.api.path;
 
 import static com.linkedin.venice.HttpConstants.VENICE_COMPUTE_VALUE_SCHEMA_ID;
+import static com.linkedin.venice.VeniceConstants.COMPUTE_REQUEST_VERSION_V5;
 import static com.linkedin.venice.compute.ComputeRequestWrapper.LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST;
 import static com.linkedin.venice.router.api.VenicePathParser.TYPE_COMPUTE;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
@@ -9,6 +10,7 @@ import com.linkedin.alpini.netty4.misc.BasicFullHttpRequest;
 import com.linkedin.alpini.router.api.RouterException;
 import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.compute.protocol.request.ComputeRequestV3;
+import com.linkedin.venice.compute.protocol.request.ComputeRequestV5;
 import com.linkedin.venice.compute.protocol.request.router.ComputeRouterRequestKeyV1;
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.read.protocol.request.router.MultiGetRouterRequestKeyV1;
@@ -36,14 +38,12 @@ import org.apache.avro.io.OptimizedBinaryDecoderFactory;
 
 
 public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKeyV1> {
-  private static final Schema EMPTY_RECORD_SCHEMA = Schema.createRecord(
-      ComputeRequestV3.class.getSimpleName(),
-      "no-op",
-      ComputeRequestV3.class.getPackage().getName(),
-      false,
-      Collections.emptyList());
+  private static final Schema EMPTY_RECORD_SCHEMA = getEmptyRecordSchema(ComputeRequestV3.class);
+  private static final Schema EMPTY_RECORD_SCHEMA_V5 = getEmptyRecordSchema(ComputeRequestV5.class);
   private static final ThreadLocal<GenericRecord> EMPTY_COMPUTE_REQUEST_RECORD =
       ThreadLocal.withInitial(() -> new GenericData.Record(EMPTY_RECORD_SCHEMA));
+  private static final ThreadLocal<GenericRecord> EMPTY_COMPUTE_REQUEST_RECORD_V5 =
+      ThreadLocal.withInitial(() -> new GenericData.Record(EMPTY_RECORD_SCHEMA_V5));
 
   /**
    * N.B. This deserializer takes V3 as the writer schema, but the reader schema is just an empty record.
@@ -52,19 +52,22 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
    *
    * 1. The router need not actually read the compute request, but rather merely skip over it. That is why we use an
    *    empty record. It cannot be any empty record though, it has to be one with the same FQCN, which is why we build
-   *    it the way we do in {@link #EMPTY_RECORD_SCHEMA}.
+   *    it the way we do in {@link #getEmptyRecordSchema(Class)}.
    *
    * 2. Historically, we've had three versions of the compute request used over the wire (V1 through V3), but in fact,
    *    V3 is capable of deserializing the previous two as well. This is because these schemas have only ever added new
    *    branches to the {@link com.linkedin.venice.compute.protocol.request.ComputeRequest#operations} union, and thus
    *    the schema with all the branches can deserialize those with fewer branches. For this reason, it is not necessary
-   *    here to take the schema the client used to encode as the writer schema the router uses to decode. If, however,
-   *    in the future, we keep evolving the compute request protocol, we need to reevaluate if the evolution will
-   *    require passing in the precise writer schema used. For example, if adding a new field, we would need to start
-   *    using the correct writer schema (either V3 or the newer one).
+   *    here to take the schema the client used to encode as the writer schema the router uses to decode.
+   *
+   * 3. V5 added new fields (top-K and aggregations), so the requests of that version need to be skipped with their
+   *    own writer schema, see {@link #COMPUTE_REQUEST_V5_NO_OP_DESERIALIZER}. Version 4 was never used over the wire.
    */
   private static final RecordDeserializer<GenericRecord> COMPUTE_REQUEST_NO_OP_DESERIALIZER =
       FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(ComputeRequestV3.SCHEMA$, EMPTY_RECORD_SCHEMA);
+  private static final RecordDeserializer<GenericRecord> COMPUTE_REQUEST_V5_NO_OP_DESERIALIZER =
+      FastSerializerDeserializerFactory
+          .getFastAvroGenericDeserializer(ComputeRequestV5.SCHEMA$, EMPTY_RECORD_SCHEMA_V5);
   private static final RecordDeserializer<ByteBuffer> COMPUTE_REQUEST_CLIENT_KEY_V1_DESERIALIZER =
       FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(
           ReadAvroProtocolDefinition.COMPUTE_REQUEST_CLIENT_KEY_V1.getSchema(),
@@ -72,8 +75,21 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
   private static final RecordSerializer<ComputeRouterRequestKeyV1> COMPUTE_ROUTER_REQUEST_KEY_V1_SERIALIZER =
       FastSerializerDeserializerFactory.getFastAvroGenericSerializer(ComputeRouterRequestKeyV1.getClassSchema());
 
-  private static void skipOverComputeRequest(BinaryDecoder decoder) {
-    COMPUTE_REQUEST_NO_OP_DESERIALIZER.deserialize(EMPTY_COMPUTE_REQUEST_RECORD.get(), decoder);
+  private static Schema getEmptyRecordSchema(Class<?> computeRequestClass) {
+    return Schema.createRecord(
+        computeRequestClass.getSimpleName(),
+        "no-op",
+        computeRequestClass.getPackage().getName(),
+        false,
+        Collections.emptyList());
+  }
+
+  private static void skipOverComputeRequest(BinaryDecoder decoder, int computeRequestVersion) {
+    if (computeRequestVersion >= COMPUTE_REQUEST_VERSION_V5) {
+      COMPUTE_REQUEST_V5_NO_OP_DESERIALIZER.deserialize(EMPTY_COMPUTE_REQUEST_RECORD_V5.get(), decoder);
+    } else {
+      COMPUTE_REQUEST_NO_OP_DESERIALIZER.deserialize(EMPTY_COMPUTE_REQUEST_RECORD.get(), decoder);
+    }
   }
 
   private final byte[] requestContent;
@@ -123,7 +139,7 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
      */
     BinaryDecoder decoder = OptimizedBinaryDecoderFactory.defaultFactory()
         .createOptimizedBinaryDecoder(requestContent, 0, requestContent.length);
-    skipOverComputeRequest(decoder);
+    skipOverComputeRequest(decoder, computeRequestVersion);
     try {
       // record the length of the serialized ComputeRequest
       computeRequestLengthInBytes = requestContent.length - decoder.inputStream().available();
@@ -16,6 +16,7 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -285,13 +286,17 @@ public abstract class VenicePath implements ResourcePath<RouterKey> {
       // Defensive code
       throw new IllegalStateException("VeniceChunkedWriteHandler has already been setup");
     }
+    // Let the clients know which version served the response, e.g. to invalidate their near cache on version swaps
+    Map<CharSequence, String> streamingResponseHeaders = new HashMap<>();
+    getResponseHeaders().ifPresent(streamingResponseHeaders::putAll);
+    streamingResponseHeaders.put(HttpConstants.VENICE_STORE_VERSION, Integer.toString(versionNumber));
     this.chunkedResponse = new VeniceChunkedResponse(
         storeName,
         getStreamingRequestType(),
         ctx,
         chunkedWriteHandler,
         routerStats,
-        getResponseHeaders());
+        Optional.of(streamingResponseHeaders));
   }
 
   public void setResponseHeaders(Map<CharSequence, String> responseHeaders) {
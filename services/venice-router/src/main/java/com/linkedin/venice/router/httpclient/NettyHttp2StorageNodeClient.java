@@ -0,0 +1,317 @@
+package com.linkedin.venice.router.httpclient;
+
+import com.linkedin.alpini.consts.QOS;
+import com.linkedin.alpini.netty4.pool.BasicDnsResolver;
+import com.linkedin.alpini.netty4.pool.ChannelPoolManager;
+import com.linkedin.alpini.netty4.pool.ChannelPoolManagerImpl;
+import com.linkedin.alpini.netty4.pool.FixedChannelPoolFactory;
+import com.linkedin.alpini.netty4.pool.Http2AwareChannelPool;
+import com.linkedin.alpini.netty4.pool.ManagedChannelPool;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.security.SSLFactory;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.MultithreadEventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.pool.ChannelHealthChecker;
+import io.netty.channel.pool.ChannelPoolHandler;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ClientAuth;
+import io.netty.handler.ssl.IdentityCipherSuiteFilter;
+import io.netty.handler.ssl.JdkSslContext;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.util.concurrent.Future;
+import java.net.InetSocketAddress;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import javax.annotation.Nonnull;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * A {@link StorageNodeClient} built on the alpini channel pools, which runs on the event loops of the router instead of
+ * on I/O threads of its own like {@link HttpClient5StorageNodeClient}, so a sub-request is sent and its response is
+ * handled without any thread hop.
+ *
+ * The sub-requests to a storage node are multiplexed as HTTP/2 streams over a few TLS connections, which are managed
+ * by a {@link ChannelPoolManagerImpl} whose pools are {@link Http2AwareChannelPool}s. "h2" is the only protocol
+ * advertised through ALPN, so the storage nodes need to have
+ * {@link com.linkedin.venice.ConfigKeys#SERVER_HTTP2_INBOUND_ENABLED} turned on.
+ *
+ * The content of a response is handed over to the router as the {@link ByteBuf} aggregated from the HTTP/2 data
+ * frames, without being copied. All the buffers of this client come from an unpooled heap allocator, so a response
+ * whose content never gets released, e.g. in an error path, is simply garbage collected.
+ */
+public class NettyHttp2StorageNodeClient implements StorageNodeClient {
+  private static final Logger LOGGER = LogManager.getLogger(NettyHttp2StorageNodeClient.class);
+
+  private static final String QUEUE_NAME = "storage-node";
+  private static final ByteBufAllocator ALLOCATOR = new UnpooledByteBufAllocator(false, true);
+
+  private final ChannelPoolManager channelPoolManager;
+  private final int socketTimeout;
+
+  public NettyHttp2StorageNodeClient(
+      Optional<SSLFactory> sslFactory,
+      VeniceRouterConfig routerConfig,
+      MultithreadEventLoopGroup workerEventLoopGroup,
+      Class<? extends Channel> socketChannelClass) {
+    SSLFactory factory = sslFactory.orElseThrow(
+        () -> new VeniceException("Param 'sslFactory' must be present while using " + this.getClass().getSimpleName()));
+    SslContext sslContext = new JdkSslContext(
+        factory.getSSLContext(),
+        true,
+        null,
+        IdentityCipherSuiteFilter.INSTANCE,
+        new ApplicationProtocolConfig(
+            ApplicationProtocolConfig.Protocol.ALPN,
+            ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+            ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+            ApplicationProtocolNames.HTTP_2),
+        ClientAuth.NONE,
+        null,
+        false);
+    Http2Settings http2Settings = Http2Settings.defaultSettings()
+        .pushEnabled(false)
+        .initialWindowSize(routerConfig.getNettyHttp2ClientInitialWindowSize());
+    this.socketTimeout = routerConfig.getSocketTimeout();
+
+    Bootstrap bootstrap = new Bootstrap().group(workerEventLoopGroup)
+        .channel(socketChannelClass)
+        .option(ChannelOption.ALLOCATOR, ALLOCATOR)
+        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, routerConfig.getConnectionTimeout())
+        .handler(new ChannelInitializer<Channel>() {
+          @Override
+          protected void initChannel(Channel ch) {
+            /**
+             * The HTTP/2 handlers are added right away rather than once ALPN completes, since
+             * {@link Http2AwareChannelPool} only opens streams over connections whose pipeline is already set up.
+             * The HTTP/2 preface is held by the {@link io.netty.handler.ssl.SslHandler} until the handshake is done.
+             */
+            ch.pipeline()
+                .addLast(
+                    sslContext.newHandler(ch.alloc()),
+                    Http2FrameCodecBuilder.forClient().initialSettings(http2Settings).build(),
+                    new Http2MultiplexHandler(new ChannelInboundHandlerAdapter()));
+          }
+        });
+
+    FixedChannelPoolFactory channelPoolFactory = new FixedChannelPoolFactory(
+        bootstrap,
+        routerConfig.getConnectionTimeout(),
+        1,
+        routerConfig.getNettyHttp2ClientMaxConnectionsPerHost(),
+        Integer.MAX_VALUE,
+        false,
+        0,
+        ChannelHealthChecker.ACTIVE,
+        null) {
+      @Override
+      public ManagedChannelPool construct(
+          @Nonnull ChannelPoolManager manager,
+          @Nonnull ChannelPoolHandler handler,
+          @Nonnull EventLoopGroup eventLoop,
+          @Nonnull InetSocketAddress address) {
+        Http2AwareChannelPool pool = new Http2AwareChannelPool(
+            super.construct(manager, handler, eventLoop, address),
+            ch -> ch.config().setAllocator(ALLOCATOR),
+            ch -> ch.pipeline().addLast(new HttpObjectAggregator(Integer.MAX_VALUE)));
+        pool.setMaxConcurrentStreams(routerConfig.getNettyHttp2ClientMaxConcurrentStreams());
+        return pool;
+      }
+    };
+    /**
+     * The number of pending requests is already bounded by the router, so the pools do not limit their waiters, and a
+     * single pool per storage node is shared by all the event loops, since its connections are multiplexed.
+     */
+    this.channelPoolManager = new ChannelPoolManagerImpl(
+        workerEventLoopGroup,
+        channelPoolFactory,
+        new BasicDnsResolver(),
+        Integer.MAX_VALUE,
+        true,
+        false,
+        false);
+    LOGGER.info(
+        "Constructing NettyHttp2StorageNodeClient with max connections per host: {}, max concurrent streams: {}",
+        routerConfig.getNettyHttp2ClientMaxConnectionsPerHost(),
+        routerConfig.getNettyHttp2ClientMaxConcurrentStreams());
+  }
+
+  @Override
+  public void start() {
+
+  }
+
+  /**
+   * The connections are closed asynchronously, and the event loops they run on are shut down by the router.
+   */
+  @Override
+  public void close() {
+    channelPoolManager.closeAll();
+  }
+
+  @Override
+  public void query(
+      Instance host,
+      VenicePath path,
+      Consumer<PortableHttpResponse> completedCallBack,
+      Consumer<Throwable> failedCallBack,
+      BooleanSupplier cancelledCallBack) {
+    byte[] body = path.getBody();
+    FullHttpRequest request = new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        path.getHttpMethod(),
+        "/" + path.getLocation(),
+        body == null ? Unpooled.EMPTY_BUFFER : Unpooled.wrappedBuffer(body));
+    path.setupVeniceHeaders((k, v) -> request.headers().add(k, v));
+    send(host, request, socketTimeout, completedCallBack, failedCallBack);
+  }
+
+  @Override
+  public void sendRequest(VeniceMetaDataRequest request, CompletableFuture<PortableHttpResponse> responseFuture) {
+    FullHttpRequest httpRequest = new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.valueOf(request.getMethod()),
+        "/" + request.getQuery(),
+        Unpooled.EMPTY_BUFFER);
+    send(
+        request.getHost(),
+        httpRequest,
+        request.hasTimeout() ? request.getTimeout() : socketTimeout,
+        responseFuture::complete,
+        responseFuture::completeExceptionally);
+  }
+
+  private void send(
+      Instance host,
+      FullHttpRequest request,
+      int timeoutMs,
+      Consumer<PortableHttpResponse> completedCallBack,
+      Consumer<Throwable> failedCallBack) {
+    String hostNameAndPort = host.getHost() + ":" + host.getSslPort();
+    request.headers().set(HttpHeaderNames.HOST, hostNameAndPort);
+    HttpUtil.setContentLength(request, request.content().readableBytes());
+    channelPoolManager.acquire(hostNameAndPort, QUEUE_NAME, QOS.NORMAL).addListener((Future<Channel> future) -> {
+      if (!future.isSuccess()) {
+        request.release();
+        failedCallBack.accept(future.cause());
+        return;
+      }
+      Channel stream = future.getNow();
+      stream.pipeline()
+          .addLast(
+              new ReadTimeoutHandler(timeoutMs, TimeUnit.MILLISECONDS),
+              new ResponseHandler(completedCallBack, failedCallBack));
+      stream.writeAndFlush(request).addListener(writeFuture -> {
+        if (!writeFuture.isSuccess()) {
+          stream.pipeline().fireExceptionCaught(writeFuture.cause());
+        }
+      });
+    });
+  }
+
+  /**
+   * Hands over the response of a stream, or its failure, to the callbacks, and then gives the stream back to its pool,
+   * which closes it.
+   */
+  private final class ResponseHandler extends SimpleChannelInboundHandler<FullHttpResponse> {
+    private final Consumer<PortableHttpResponse> completedCallBack;
+    private final Consumer<Throwable> failedCallBack;
+    private boolean done = false;
+
+    ResponseHandler(Consumer<PortableHttpResponse> completedCallBack, Consumer<Throwable> failedCallBack) {
+      // The response is released by its consumer
+      super(false);
+      this.completedCallBack = completedCallBack;
+      this.failedCallBack = failedCallBack;
+    }
+
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, FullHttpResponse response) {
+      if (done) {
+        response.release();
+        return;
+      }
+      done = true;
+      channelPoolManager.release(ctx.channel());
+      completedCallBack.accept(new NettyHttp2Response(response));
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+      fail(ctx.channel(), cause);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+      fail(ctx.channel(), new VeniceException("Stream to " + ctx.channel().parent().remoteAddress() + " was closed"));
+      super.channelInactive(ctx);
+    }
+
+    private void fail(Channel stream, Throwable cause) {
+      if (!done) {
+        done = true;
+        channelPoolManager.release(stream);
+        failedCallBack.accept(cause);
+      }
+    }
+  }
+
+  private static final class NettyHttp2Response implements PortableHttpResponse {
+    private final FullHttpResponse response;
+
+    NettyHttp2Response(FullHttpResponse response) {
+      this.response = response;
+    }
+
+    @Override
+    public int getStatusCode() {
+      return response.status().code();
+    }
+
+    @Override
+    public ByteBuf getContentInByteBuf() {
+      return response.content();
+    }
+
+    @Override
+    public boolean containsHeader(String headerName) {
+      return response.headers().contains(headerName);
+    }
+
+    @Override
+    public String getFirstHeader(String headerName) {
+      return response.headers().get(headerName);
+    }
+  }
+}
@@ -13,9 +13,9 @@ import static org.testng.FileAssert.fail;
 import com.linkedin.alpini.netty4.misc.BasicFullHttpRequest;
 import com.linkedin.alpini.router.api.RouterException;
 import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.VeniceConstants;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.CompressorFactory;
-import com.linkedin.venice.compute.ComputeRequestWrapper;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.helix.HelixReadOnlyStoreConfigRepository;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
@@ -135,7 +135,7 @@ public class TestVenicePathParser {
         storeName,
         TestVeniceComputePath.getComputeRequest(),
         keys,
-        ComputeRequestWrapper.LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST);
+        VeniceConstants.COMPUTE_REQUEST_VERSION_V3);
 
     // Verify request rejection when neither read-compute or client-compute is available.
     doReturn(false).when(storeRepository).isReadComputationEnabled(any());
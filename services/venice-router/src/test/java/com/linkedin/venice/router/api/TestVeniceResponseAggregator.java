@@ -65,6 +65,7 @@ public class TestVeniceResponseAggregator {
     VenicePath path = mock(VenicePath.class);
     doReturn(requestType).when(path).getRequestType();
     doReturn(storeName).when(path).getStoreName();
+    doReturn(1).when(path).getVersionNumber();
     doReturn(null).when(path).getChunkedResponse();
     doReturn(new VeniceResponseDecompressor(false, routerStats, request, storeName, 1, compressorFactory)).when(path)
         .getResponseDecompressor();
@@ -100,6 +101,7 @@ public class TestVeniceResponseAggregator {
     FullHttpResponse finalResponse = responseAggregator.buildResponse(request, metrics, gatheredResponses);
     Assert.assertEquals(finalResponse.status(), OK);
     Assert.assertEquals(finalResponse.content().array(), fakeContent);
+    Assert.assertEquals(finalResponse.headers().get(HttpConstants.VENICE_STORE_VERSION), "1");
     verify(mockStatsForSingleGet).recordFanoutRequestCount(storeName, 1);
     verify(mockStatsForSingleGet).recordResponseSize(storeName, fakeContent.length);
   }
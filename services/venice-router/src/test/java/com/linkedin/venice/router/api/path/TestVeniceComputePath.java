@@ -1,6 +1,7 @@
 package com.linkedin.venice.router.api.path;
 
-import static com.linkedin.venice.compute.ComputeRequestWrapper.LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST;
+import static com.linkedin.venice.VeniceConstants.COMPUTE_REQUEST_VERSION_V3;
+import static com.linkedin.venice.VeniceConstants.COMPUTE_REQUEST_VERSION_V5;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyInt;
@@ -10,11 +11,15 @@ import static org.mockito.Mockito.when;
 import com.linkedin.alpini.netty4.misc.BasicFullHttpRequest;
 import com.linkedin.alpini.router.api.RouterException;
 import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.compute.protocol.request.ComputeAggregation;
 import com.linkedin.venice.compute.protocol.request.ComputeOperation;
 import com.linkedin.venice.compute.protocol.request.ComputeRequestV1;
 import com.linkedin.venice.compute.protocol.request.ComputeRequestV2;
+import com.linkedin.venice.compute.protocol.request.ComputeRequestV5;
 import com.linkedin.venice.compute.protocol.request.CosineSimilarity;
 import com.linkedin.venice.compute.protocol.request.DotProduct;
+import com.linkedin.venice.compute.protocol.request.TopK;
+import com.linkedin.venice.compute.protocol.request.enums.ComputeAggregationType;
 import com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType;
 import com.linkedin.venice.partitioner.VenicePartitioner;
 import com.linkedin.venice.router.api.VenicePartitionFinder;
@@ -28,6 +33,8 @@ import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpVersion;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
@@ -113,8 +120,8 @@ public class TestVeniceComputePath {
         SerializerDeserializerFactory.getAvroGenericSerializer(ComputeRequestV1.getClassSchema());
     int expectedLength = computeRequestSerializer.serialize(computeRequest).length;
 
-    // test all compute request versions
-    for (int apiVersion = 1; apiVersion <= LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST; apiVersion++) {
+    // test all compute request versions which can carry a V1 request, V5 is covered by testV5DeserializationCorrectness
+    for (int apiVersion = 1; apiVersion < COMPUTE_REQUEST_VERSION_V5; apiVersion++) {
       BasicFullHttpRequest request = getComputeHttpRequest(resourceName, computeRequest, keys, apiVersion);
 
       VeniceComputePath computePath = new VeniceComputePath(
@@ -131,6 +138,52 @@ public class TestVeniceComputePath {
     }
   }
 
+  @Test
+  public void testV5DeserializationCorrectness() throws RouterException {
+    String storeName = Utils.getUniqueString("test_store");
+    int versionNumber = 1;
+    String resourceName = storeName + "_v" + versionNumber;
+    List<ByteBuffer> keys = new ArrayList<>();
+    for (int i = 0; i < 5; ++i) {
+      keys.add(ByteBuffer.wrap(("key_" + i).getBytes()));
+    }
+
+    ComputeRequestV1 computeRequestV1 = getComputeRequest();
+    ComputeRequestV5 computeRequest = new ComputeRequestV5();
+    computeRequest.operations = computeRequestV1.operations;
+    computeRequest.resultSchemaStr = computeRequestV1.resultSchemaStr;
+    computeRequest.topK = new TopK("member_score", 3);
+    ComputeAggregation aggregation = new ComputeAggregation();
+    aggregation.aggregationType = ComputeAggregationType.HISTOGRAM.getValue();
+    aggregation.field = "member_score";
+    aggregation.resultFieldName = "member_score_histogram";
+    aggregation.bucketBoundaries = Arrays.asList(0.0, 10.0);
+    computeRequest.aggregations = Collections.singletonList(aggregation);
+
+    RecordSerializer<ComputeRequestV5> computeRequestSerializer =
+        SerializerDeserializerFactory.getAvroGenericSerializer(ComputeRequestV5.getClassSchema());
+    byte[] serializedComputeRequest = computeRequestSerializer.serialize(computeRequest);
+    RecordSerializer<ByteBuffer> keySerializer = SerializerDeserializerFactory
+        .getAvroGenericSerializer(ReadAvroProtocolDefinition.COMPUTE_REQUEST_CLIENT_KEY_V1.getSchema());
+    BasicFullHttpRequest request = getComputeHttpRequest(
+        resourceName,
+        ArrayUtils.addAll(serializedComputeRequest, keySerializer.serializeObjects(keys)),
+        COMPUTE_REQUEST_VERSION_V5);
+
+    VeniceComputePath computePath = new VeniceComputePath(
+        storeName,
+        versionNumber,
+        resourceName,
+        request,
+        getVenicePartitionFinder(-1),
+        10,
+        false,
+        -1,
+        1);
+    Assert.assertEquals(computePath.getComputeRequestLengthInBytes(), serializedComputeRequest.length);
+    Assert.assertEquals(computePath.getPartitionKeys().size(), keys.size());
+  }
+
   @Test
   public void testComputeRequestVersionBackwardCompatible() {
     // generate a version 1 record
@@ -220,9 +273,9 @@ public class TestVeniceComputePath {
 
     VeniceComputePath computePath = new VeniceComputePath(
         storeName,
-        LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST,
+        COMPUTE_REQUEST_VERSION_V3,
         resourceName,
-        getComputeHttpRequest(resourceName, getComputeRequest(), keys, LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST),
+        getComputeHttpRequest(resourceName, getComputeRequest(), keys, COMPUTE_REQUEST_VERSION_V3),
         getVenicePartitionFinder(-1),
         maxKeyCount,
         smartLongTailRetryEnabled,
@@ -0,0 +1,139 @@
+package com.linkedin.venice.listener;
+
+import com.linkedin.venice.meta.ReadOnlySchemaRepository;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.schema.SchemaEntry;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.service.AbstractVeniceService;
+import com.linkedin.venice.stats.FastClassWarmupStats;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.LatencyUtils;
+import com.linkedin.venice.utils.Pair;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.apache.avro.Schema;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * This class generates the fast avro classes of the value schemas in use at start time, before the server starts
+ * serving reads. Otherwise, the classes are generated lazily by the first reads of each schema pair, which fall back
+ * to the vanilla Avro decoder meanwhile, and this shows up as a latency spike after each deployment.
+ *
+ * For each read-compute, write-compute or active/active store, the latest value schemas are warmed up as writer
+ * schemas, against the superset or latest value schema as reader schema, which is the schema pair used by read compute
+ * and by the merges of the ingestion. The schema pairs are generated in parallel, on the warmup threads themselves
+ * rather than in the thread pool of the fast-avro cache, and the start waits for all of them, each one being bounded by
+ * a timeout. A schema pair failing to be generated doesn't fail the start, since it will be
+ * generated lazily on the read path anyway.
+ */
+public class FastClassWarmupService extends AbstractVeniceService {
+  private static final Logger LOGGER = LogManager.getLogger(FastClassWarmupService.class);
+
+  private final ReadOnlyStoreRepository storeRepository;
+  private final ReadOnlySchemaRepository schemaRepository;
+  private final int numSchemaPerStore;
+  private final int threadCount;
+  private final long timeoutPerSchemaPairInMs;
+  private final FastClassWarmupStats stats;
+
+  public FastClassWarmupService(
+      ReadOnlyStoreRepository storeRepository,
+      ReadOnlySchemaRepository schemaRepository,
+      int numSchemaPerStore,
+      int threadCount,
+      long timeoutPerSchemaPairInMs,
+      FastClassWarmupStats stats) {
+    this.storeRepository = storeRepository;
+    this.schemaRepository = schemaRepository;
+    this.numSchemaPerStore = numSchemaPerStore;
+    this.threadCount = threadCount;
+    this.timeoutPerSchemaPairInMs = timeoutPerSchemaPairInMs;
+    this.stats = stats;
+  }
+
+  @Override
+  public boolean startInner() throws Exception {
+    long startTimeInNs = System.nanoTime();
+    Set<Pair<Schema, Schema>> schemaPairs = getSchemaPairsInUse();
+    int failedSchemaPairCount = 0;
+    ExecutorService executor =
+        Executors.newFixedThreadPool(threadCount, new DaemonThreadFactory("Venice-Fast-Class-Warmup"));
+    try {
+      Map<Pair<Schema, Schema>, Future<?>> futures = new LinkedHashMap<>(schemaPairs.size());
+      for (Pair<Schema, Schema> schemaPair: schemaPairs) {
+        futures.put(
+            schemaPair,
+            executor.submit(
+                () -> FastSerializerDeserializerFactory
+                    .buildFastAvroGenericDeserializer(schemaPair.getFirst(), schemaPair.getSecond())));
+      }
+      for (Map.Entry<Pair<Schema, Schema>, Future<?>> entry: futures.entrySet()) {
+        Pair<Schema, Schema> schemaPair = entry.getKey();
+        try {
+          entry.getValue().get(timeoutPerSchemaPairInMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+          failedSchemaPairCount++;
+          entry.getValue().cancel(true);
+          LOGGER.warn(
+              "Failed to generate the fast class of writer schema: {} and reader schema: {}",
+              schemaPair.getFirst(),
+              schemaPair.getSecond(),
+              e instanceof ExecutionException ? e.getCause() : e);
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    double warmupTimeInMs = LatencyUtils.getLatencyInMS(startTimeInNs);
+    stats.recordWarmup(schemaPairs.size(), failedSchemaPairCount, warmupTimeInMs);
+    LOGGER.info(
+        "Generated the fast classes of {} schema pairs in {} ms, {} failed",
+        schemaPairs.size(),
+        warmupTimeInMs,
+        failedSchemaPairCount);
+    return true;
+  }
+
+  @Override
+  public void stopInner() throws Exception {
+    // Do nothing
+  }
+
+  /**
+   * @return the (writer schema, reader schema) pairs in use
+   */
+  Set<Pair<Schema, Schema>> getSchemaPairsInUse() {
+    Set<Pair<Schema, Schema>> schemaPairs = new LinkedHashSet<>();
+    for (Store store: storeRepository.getAllStores()) {
+      if (!store.isReadComputationEnabled() && !store.isWriteComputationEnabled()
+          && !store.isActiveActiveReplicationEnabled()) {
+        continue;
+      }
+      try {
+        Schema readerSchema = schemaRepository.getSupersetOrLatestValueSchema(store.getName()).getSchema();
+        List<SchemaEntry> valueSchemas = new ArrayList<>(schemaRepository.getValueSchemas(store.getName()));
+        valueSchemas.sort(Comparator.comparingInt(SchemaEntry::getId).reversed());
+        for (SchemaEntry valueSchema: valueSchemas.subList(0, Math.min(numSchemaPerStore, valueSchemas.size()))) {
+          schemaPairs.add(new Pair<>(valueSchema.getSchema(), readerSchema));
+        }
+      } catch (Exception e) {
+        LOGGER.warn("Failed to get the value schemas of store: {}", store.getName(), e);
+      }
+    }
+    return schemaPairs;
+  }
+}
@@ -81,6 +81,7 @@ public class HttpChannelInitializer extends ChannelInitializer<SocketChannel> {
 
     boolean isKeyValueProfilingEnabled = serverConfig.isKeyValueProfilingEnabled();
     boolean isUnregisterMetricForDeletedStoreEnabled = serverConfig.isUnregisterMetricForDeletedStoreEnabled();
+    boolean isLowOverheadLatencyMetricsEnabled = serverConfig.isLowOverheadLatencyMetricsEnabled();
 
     this.singleGetStats = new AggServerHttpRequestStats(
         metricsRepository,
@@ -88,21 +89,24 @@ public class HttpChannelInitializer extends ChannelInitializer<SocketChannel> {
         isKeyValueProfilingEnabled,
         storeMetadataRepository,
         isUnregisterMetricForDeletedStoreEnabled,
-        isDaVinciClient);
+        isDaVinciClient,
+        isLowOverheadLatencyMetricsEnabled);
     this.multiGetStats = new AggServerHttpRequestStats(
         metricsRepository,
         RequestType.MULTI_GET,
         isKeyValueProfilingEnabled,
         storeMetadataRepository,
         isUnregisterMetricForDeletedStoreEnabled,
-        isDaVinciClient);
+        isDaVinciClient,
+        isLowOverheadLatencyMetricsEnabled);
     this.computeStats = new AggServerHttpRequestStats(
         metricsRepository,
         RequestType.COMPUTE,
         isKeyValueProfilingEnabled,
         storeMetadataRepository,
         isUnregisterMetricForDeletedStoreEnabled,
-        isDaVinciClient);
+        isDaVinciClient,
+        isLowOverheadLatencyMetricsEnabled);
 
     if (serverConfig.isComputeFastAvroEnabled()) {
       LOGGER.info("Fast avro for compute is enabled");
@@ -218,8 +222,11 @@ public class HttpChannelInitializer extends ChannelInitializer<SocketChannel> {
           pipeline.addLast(storeAclHandler.get());
         }
       }
-      pipeline
-          .addLast(new RouterRequestHttpHandler(statsHandler, serverConfig.getStoreToEarlyTerminationThresholdMSMap()));
+      pipeline.addLast(
+          new RouterRequestHttpHandler(
+              statsHandler,
+              serverConfig.getStoreToEarlyTerminationThresholdMSMap(),
+              serverConfig.isSingleGetFastPathEnabled()));
       if (quotaEnforcer != null) {
         pipeline.addLast(quotaEnforcer);
       }
@@ -16,6 +16,7 @@ import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.listener.response.BinaryResponse;
 import com.linkedin.venice.listener.response.HttpShortcutResponse;
+import com.linkedin.venice.listener.response.StorageResponseObject;
 import com.linkedin.venice.utils.ExceptionUtils;
 import com.linkedin.venice.utils.ObjectMapperFactory;
 import io.netty.buffer.ByteBuf;
@@ -24,7 +25,9 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelOutboundHandlerAdapter;
 import io.netty.channel.ChannelPromise;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
-import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import java.nio.charset.StandardCharsets;
 
@@ -51,6 +54,8 @@ public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
     int responseRcu = 1;
     CompressionStrategy compressionStrategy = CompressionStrategy.NO_OP;
     boolean isStreamingResponse = false;
+    // The size of a large value whose chunks are written after the headers, see StorageReadRequestHandler#writeChunks
+    int chunkedValueSize = -1;
     try {
       if (msg instanceof ReadResponse) {
         ReadResponse obj = (ReadResponse) msg;
@@ -58,7 +63,11 @@ public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
         setStats(statsContext, obj);
 
         compressionStrategy = obj.getCompressionStrategy();
-        if (obj.isFound()) {
+        if (obj instanceof StorageResponseObject && ((StorageResponseObject) obj).getChunkedValueReader() != null) {
+          body = Unpooled.EMPTY_BUFFER;
+          chunkedValueSize = ((StorageResponseObject) obj).getChunkedValueReader().getValueSize();
+          schemaIdHeader = obj.getResponseSchemaIdHeader();
+        } else if (obj.isFound()) {
           body = obj.getResponseBody();
           schemaIdHeader = obj.getResponseSchemaIdHeader();
         } else {
@@ -67,6 +76,10 @@ public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
         }
         isStreamingResponse = obj.isStreamingResponse();
         responseRcu = obj.getRCU();
+        if (obj instanceof StorageResponseObject) {
+          // Nothing references the single get response anymore, the body is owned by the HTTP response from now on
+          ((StorageResponseObject) obj).recycle();
+        }
       } else if (msg instanceof HttpShortcutResponse) {
         // For Early terminated requests
         HttpShortcutResponse shortcutResponse = (HttpShortcutResponse) msg;
@@ -133,6 +146,10 @@ public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
       } else if (msg instanceof DefaultFullHttpResponse) {
         ctx.writeAndFlush(msg);
         return;
+      } else if (msg instanceof HttpContent) {
+        // A chunk of a large value, whose completion tells when to read the next one
+        ctx.writeAndFlush(msg, promise);
+        return;
       } else {
         responseStatus = INTERNAL_SERVER_ERROR;
         body = Unpooled.wrappedBuffer(
@@ -142,6 +159,7 @@ public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
       }
     } catch (Exception e) {
       responseStatus = INTERNAL_SERVER_ERROR;
+      chunkedValueSize = -1;
       body = Unpooled.wrappedBuffer(
           ("Internal Server Error:\n\n" + ExceptionUtils.stackTraceToString(e) + "\n(End of server-side stacktrace)\n")
               .getBytes(StandardCharsets.UTF_8));
@@ -150,9 +168,11 @@ public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
       statsHandler.setResponseStatus(responseStatus);
     }
 
-    FullHttpResponse response = new DefaultFullHttpResponse(HTTP_1_1, responseStatus, body);
+    HttpResponse response = chunkedValueSize < 0
+        ? new DefaultFullHttpResponse(HTTP_1_1, responseStatus, body)
+        : new DefaultHttpResponse(HTTP_1_1, responseStatus);
     response.headers().set(CONTENT_TYPE, contentType);
-    response.headers().set(CONTENT_LENGTH, body.readableBytes());
+    response.headers().set(CONTENT_LENGTH, chunkedValueSize < 0 ? body.readableBytes() : chunkedValueSize);
     response.headers().set(HttpConstants.VENICE_COMPRESSION_STRATEGY, compressionStrategy.getValue());
     response.headers().set(HttpConstants.VENICE_SCHEMA_ID, schemaIdHeader);
     response.headers().set(HttpConstants.VENICE_REQUEST_RCU, responseRcu);
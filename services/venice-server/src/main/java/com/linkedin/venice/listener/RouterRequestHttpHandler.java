@@ -2,6 +2,7 @@ package com.linkedin.venice.listener;
 
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.listener.request.AdminRequest;
+import com.linkedin.venice.listener.request.BlobSnapshotRequest;
 import com.linkedin.venice.listener.request.ComputeRouterRequestWrapper;
 import com.linkedin.venice.listener.request.CurrentVersionRequest;
 import com.linkedin.venice.listener.request.DictionaryFetchRequest;
@@ -41,11 +42,24 @@ public class RouterRequestHttpHandler extends SimpleChannelInboundHandler<FullHt
   private static final Logger LOGGER = LogManager.getLogger(RouterRequestHttpHandler.class);
   private final StatsHandler statsHandler;
   private final Map<String, Integer> storeToEarlyTerminationThresholdMSMap;
+  private final boolean singleGetFastPathEnabled;
 
   public RouterRequestHttpHandler(StatsHandler handler, Map<String, Integer> storeToEarlyTerminationThresholdMSMap) {
+    this(handler, storeToEarlyTerminationThresholdMSMap, false);
+  }
+
+  /**
+   * @param singleGetFastPathEnabled whether the single get requests are pooled, since they are recycled by
+   *                                 {@link StorageReadRequestHandler} in the single get fast path only
+   */
+  public RouterRequestHttpHandler(
+      StatsHandler handler,
+      Map<String, Integer> storeToEarlyTerminationThresholdMSMap,
+      boolean singleGetFastPathEnabled) {
     super();
     this.statsHandler = handler;
     this.storeToEarlyTerminationThresholdMSMap = storeToEarlyTerminationThresholdMSMap;
+    this.singleGetFastPathEnabled = singleGetFastPathEnabled;
   }
 
   @Override
@@ -78,7 +92,7 @@ public class RouterRequestHttpHandler extends SimpleChannelInboundHandler<FullHt
           HttpMethod requestMethod = req.method();
           if (requestMethod.equals(HttpMethod.GET)) {
             // TODO: evaluate whether we can replace single-get by multi-get
-            GetRouterRequest getRouterRequest = GetRouterRequest.parseGetHttpRequest(req);
+            GetRouterRequest getRouterRequest = GetRouterRequest.parseGetHttpRequest(req, singleGetFastPathEnabled);
             setupRequestTimeout(getRouterRequest);
             statsHandler.setRequestInfo(getRouterRequest);
             ctx.fireChannelRead(getRouterRequest);
@@ -127,6 +141,11 @@ public class RouterRequestHttpHandler extends SimpleChannelInboundHandler<FullHt
           statsHandler.setStoreName(currentVersionRequest.getStoreName());
           ctx.fireChannelRead(currentVersionRequest);
           break;
+        case BLOB_SNAPSHOT:
+          BlobSnapshotRequest blobSnapshotRequest = BlobSnapshotRequest.parseGetHttpRequest(req);
+          statsHandler.setStoreName(blobSnapshotRequest.getStoreName());
+          ctx.fireChannelRead(blobSnapshotRequest);
+          break;
         default:
           throw new VeniceException("Unrecognized query action");
       }
@@ -11,6 +11,7 @@ import com.linkedin.venice.stats.ServerHttpRequestStats;
 import com.linkedin.venice.utils.LatencyUtils;
 import io.netty.channel.ChannelDuplexHandler;
 import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
 import io.netty.handler.codec.http.HttpResponseStatus;
@@ -22,6 +23,8 @@ public class StatsHandler extends ChannelDuplexHandler {
   private final AggServerHttpRequestStats singleGetStats;
   private final AggServerHttpRequestStats multiGetStats;
   private final AggServerHttpRequestStats computeStats;
+  // Shared by all the requests of the channel, so that no listener gets allocated per request
+  private final ChannelFutureListener writeCompletionListener = this::recordStats;
 
   public StatsHandler(
       AggServerHttpRequestStats singleGetStats,
@@ -179,42 +182,45 @@ public class StatsHandler extends ChannelDuplexHandler {
 
   @Override
   public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws VeniceException {
-    ChannelFuture future = ctx.writeAndFlush(msg);
-    future.addListener((result) -> {
-      // reset the StatsHandler for the new request. This is necessary since instances are channel-based
-      // and channels are ready for the future requests as soon as the current has been handled.
-      serverStatsContext.setNewRequest();
-
-      if (serverStatsContext.getResponseStatus() == null) {
-        throw new VeniceException("request status could not be null");
-      }
+    // The promise is passed along, so that the writers can tell when their message is written
+    ChannelFuture future = ctx.writeAndFlush(msg, promise.unvoid());
+    future.addListener(writeCompletionListener);
+  }
 
-      // we don't record if it is a health check request
-      if (serverStatsContext.isHealthCheck()) {
-        return;
-      }
+  private void recordStats(ChannelFuture result) {
+    // reset the StatsHandler for the new request. This is necessary since instances are channel-based
+    // and channels are ready for the future requests as soon as the current has been handled.
+    serverStatsContext.setNewRequest();
 
-      /**
-       * TODO: Need to do more investigation to figure out why this callback could be triggered
-       * multiple times for a single request
-       */
-      if (!serverStatsContext.isStatCallBackExecuted()) {
-        ServerHttpRequestStats serverHttpRequestStats = serverStatsContext.getStoreName() == null
-            ? null
-            : serverStatsContext.getCurrentStats().getStoreStats(serverStatsContext.getStoreName());
-        serverStatsContext.recordBasicMetrics(serverHttpRequestStats);
-        double elapsedTime = LatencyUtils.getLatencyInMS(serverStatsContext.getRequestStartTimeInNS());
-        // if ResponseStatus is either OK or NOT_FOUND and the channel write is succeed,
-        // records a successRequest in stats. Otherwise, records a errorRequest in stats;
-        if (result.isSuccess() && (serverStatsContext.getResponseStatus().equals(OK)
-            || serverStatsContext.getResponseStatus().equals(NOT_FOUND))) {
-          serverStatsContext.successRequest(serverHttpRequestStats, elapsedTime);
-        } else {
-          serverStatsContext.errorRequest(serverHttpRequestStats, elapsedTime);
-        }
-
-        serverStatsContext.setStatCallBackExecuted(true);
+    if (serverStatsContext.getResponseStatus() == null) {
+      throw new VeniceException("request status could not be null");
+    }
+
+    // we don't record if it is a health check request
+    if (serverStatsContext.isHealthCheck()) {
+      return;
+    }
+
+    /**
+     * TODO: Need to do more investigation to figure out why this callback could be triggered
+     * multiple times for a single request
+     */
+    if (!serverStatsContext.isStatCallBackExecuted()) {
+      ServerHttpRequestStats serverHttpRequestStats = serverStatsContext.getStoreName() == null
+          ? null
+          : serverStatsContext.getCurrentStats().getStoreStats(serverStatsContext.getStoreName());
+      serverStatsContext.recordBasicMetrics(serverHttpRequestStats);
+      double elapsedTime = LatencyUtils.getLatencyInMS(serverStatsContext.getRequestStartTimeInNS());
+      // if ResponseStatus is either OK or NOT_FOUND and the channel write is succeed,
+      // records a successRequest in stats. Otherwise, records a errorRequest in stats;
+      if (result.isSuccess() && (serverStatsContext.getResponseStatus().equals(OK)
+          || serverStatsContext.getResponseStatus().equals(NOT_FOUND))) {
+        serverStatsContext.successRequest(serverHttpRequestStats, elapsedTime);
+      } else {
+        serverStatsContext.errorRequest(serverHttpRequestStats, elapsedTime);
       }
-    });
+
+      serverStatsContext.setStatCallBackExecuted(true);
+    }
   }
 }
@@ -1,6 +1,7 @@
 package com.linkedin.venice.listener;
 
 import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.davinci.blobtransfer.BlobSnapshotManager;
 import com.linkedin.davinci.compression.StorageEngineBackedCompressorFactory;
 import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.listener.response.AdminResponse;
@@ -11,15 +12,23 @@ import com.linkedin.davinci.storage.DiskHealthCheckService;
 import com.linkedin.davinci.storage.MetadataRetriever;
 import com.linkedin.davinci.storage.StorageEngineRepository;
 import com.linkedin.davinci.storage.chunking.BatchGetChunkingAdapter;
+import com.linkedin.davinci.storage.chunking.ChunkedValueReader;
+import com.linkedin.davinci.storage.chunking.ChunkingUtils;
 import com.linkedin.davinci.storage.chunking.GenericRecordChunkingAdapter;
 import com.linkedin.davinci.storage.chunking.SingleGetChunkingAdapter;
 import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.cleaner.ResourceReadUsageTracker;
 import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.compute.ComputeAggregator;
 import com.linkedin.venice.compute.ComputeUtils;
+import com.linkedin.venice.compute.FloatVectorProjectingDatumReader;
+import com.linkedin.venice.compute.FloatVectorProjectingDeserializer;
+import com.linkedin.venice.compute.TopKSelector;
+import com.linkedin.venice.compute.protocol.request.ComputeAggregation;
 import com.linkedin.venice.compute.protocol.request.ComputeOperation;
 import com.linkedin.venice.compute.protocol.request.ComputeRequest;
+import com.linkedin.venice.compute.protocol.request.TopK;
 import com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType;
 import com.linkedin.venice.compute.protocol.request.router.ComputeRouterRequestKeyV1;
 import com.linkedin.venice.compute.protocol.response.ComputeResponseRecordV1;
@@ -27,6 +36,7 @@ import com.linkedin.venice.exceptions.OperationNotAllowedException;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.exceptions.VeniceNoStoreException;
 import com.linkedin.venice.listener.request.AdminRequest;
+import com.linkedin.venice.listener.request.BlobSnapshotRequest;
 import com.linkedin.venice.listener.request.ComputeRouterRequestWrapper;
 import com.linkedin.venice.listener.request.CurrentVersionRequest;
 import com.linkedin.venice.listener.request.DictionaryFetchRequest;
@@ -40,6 +50,7 @@ import com.linkedin.venice.listener.response.ComputeResponseWrapper;
 import com.linkedin.venice.listener.response.HttpShortcutResponse;
 import com.linkedin.venice.listener.response.MultiGetResponseWrapper;
 import com.linkedin.venice.listener.response.StorageResponseObject;
+import com.linkedin.venice.listener.response.ZeroCopyMultiGetResponseWrapper;
 import com.linkedin.venice.meta.PartitionerConfig;
 import com.linkedin.venice.meta.PartitionerConfigImpl;
 import com.linkedin.venice.meta.ReadOnlySchemaRepository;
@@ -55,6 +66,7 @@ import com.linkedin.venice.schema.SchemaEntry;
 import com.linkedin.venice.serialization.AvroStoreDeserializerCache;
 import com.linkedin.venice.serialization.StoreDeserializerCache;
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordDeserializer;
 import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
 import com.linkedin.venice.streaming.StreamingConstants;
@@ -66,25 +78,37 @@ import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.PartitionUtils;
 import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.ints.IntLists;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
@@ -103,6 +127,7 @@ import org.apache.logging.log4j.Logger;
 @ChannelHandler.Sharable
 public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
   private static final Logger LOGGER = LogManager.getLogger(StorageReadRequestHandler.class);
+  private static final ByteBufAllocator ZERO_COPY_ALLOCATOR = PooledByteBufAllocator.DEFAULT;
 
   private final DiskHealthCheckService diskHealthCheckService;
   private final ThreadPoolExecutor executor;
@@ -114,13 +139,25 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
   private final Map<Utf8, Schema> computeResultSchemaCache;
   private final boolean fastAvroEnabled;
   private final Function<Schema, RecordSerializer<GenericRecord>> genericSerializerGetter;
+  private final BiFunction<Schema, Schema, RecordDeserializer<GenericRecord>> genericDeserializerGetter;
+  private final boolean computeFloatVectorProjectionEnabled;
   private final boolean parallelBatchGetEnabled;
   private final int parallelBatchGetChunkSize;
+  private final boolean zeroCopyBatchGetEnabled;
+  private final int zeroCopyBatchGetValueBufferSize;
+  private final boolean singleGetFastPathEnabled;
+  private final boolean largeValueStreamingEnabled;
   private final boolean keyValueProfilingEnabled;
   private final VeniceServerConfig serverConfig;
   private final Map<String, PerStoreVersionState> perStoreVersionStateMap = new VeniceConcurrentHashMap<>();
   private final Map<String, StoreDeserializerCache<GenericRecord>> storeDeserializerCacheMap =
       new VeniceConcurrentHashMap<>();
+  /**
+   * Keyed by store name and the set of float vector fields read by the compute operations, see
+   * {@link #getComputeDeserializerCache}.
+   */
+  private final Map<String, StoreDeserializerCache<GenericRecord>> floatVectorProjectionDeserializerCacheMap =
+      new VeniceConcurrentHashMap<>();
   private final StorageEngineBackedCompressorFactory compressorFactory;
   private final Optional<ResourceReadUsageTracker> resourceReadUsageTracker;
 
@@ -204,9 +241,17 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     this.genericSerializerGetter = fastAvroEnabled
         ? FastSerializerDeserializerFactory::getFastAvroGenericSerializer
         : SerializerDeserializerFactory::getAvroGenericSerializer;
+    this.genericDeserializerGetter = fastAvroEnabled
+        ? FastSerializerDeserializerFactory::getFastAvroGenericDeserializer
+        : SerializerDeserializerFactory::getAvroGenericDeserializer;
+    this.computeFloatVectorProjectionEnabled = serverConfig.isComputeFloatVectorProjectionEnabled();
     this.computeResultSchemaCache = new VeniceConcurrentHashMap<>();
     this.parallelBatchGetEnabled = parallelBatchGetEnabled;
     this.parallelBatchGetChunkSize = parallelBatchGetChunkSize;
+    this.zeroCopyBatchGetEnabled = serverConfig.isZeroCopyBatchGetEnabled();
+    this.zeroCopyBatchGetValueBufferSize = serverConfig.getZeroCopyBatchGetValueBufferSize();
+    this.singleGetFastPathEnabled = serverConfig.isSingleGetFastPathEnabled();
+    this.largeValueStreamingEnabled = serverConfig.isLargeValueStreamingEnabled();
     this.keyValueProfilingEnabled = serverConfig.isKeyValueProfilingEnabled();
     this.serverConfig = serverConfig;
     this.compressorFactory = compressorFactory;
@@ -255,7 +300,8 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
        * Eventually, we either pick up the new parallel implementation or keep the original one, so it is fine
        * to have some duplicate code for the time-being.
        */
-      if (parallelBatchGetEnabled && request.getRequestType().equals(RequestType.MULTI_GET)) {
+      if (parallelBatchGetEnabled && !zeroCopyBatchGetEnabled
+          && request.getRequestType().equals(RequestType.MULTI_GET)) {
         handleMultiGetRequestInParallel((MultiGetRouterRequestWrapper) request, parallelBatchGetChunkSize)
             .whenComplete((v, e) -> {
               if (e != null) {
@@ -297,7 +343,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
           ReadResponse response;
           switch (request.getRequestType()) {
             case SINGLE_GET:
-              response = handleSingleGetRequest((GetRouterRequest) request);
+              response = handleSingleGetRequest((GetRouterRequest) request, largeValueStreamingEnabled);
               break;
             case MULTI_GET:
               response = handleMultiGetRequest((MultiGetRouterRequestWrapper) request);
@@ -314,7 +360,14 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
           if (request.isStreamingRequest()) {
             response.setStreamingResponse();
           }
+          // The response gets recycled once written, so the reader must be retrieved beforehand
+          ChunkedValueReader chunkedValueReader = response instanceof StorageResponseObject
+              ? ((StorageResponseObject) response).getChunkedValueReader()
+              : null;
           context.writeAndFlush(response);
+          if (chunkedValueReader != null) {
+            writeChunks(context, chunkedValueReader, executor);
+          }
         } catch (VeniceNoStoreException e) {
           HttpResponseStatus status = getHttpResponseStatus(e);
           context.writeAndFlush(new HttpShortcutResponse("No storage exists for: " + e.getStoreName(), status));
@@ -328,6 +381,11 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
               new HttpShortcutResponse(e.getMessage(), HttpResponseStatus.INTERNAL_SERVER_ERROR);
           shortcutResponse.setMisroutedStoreVersion(checkMisroutedStoreVersionRequest(request));
           context.writeAndFlush(shortcutResponse);
+        } finally {
+          if (singleGetFastPathEnabled && request instanceof GetRouterRequest) {
+            // All the handlers are done with the request, which was only used to fill the response and the stats
+            ((GetRouterRequest) request).recycle();
+          }
         }
       });
 
@@ -355,6 +413,8 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     } else if (message instanceof CurrentVersionRequest) {
       ServerCurrentVersionResponse response = handleCurrentVersionRequest((CurrentVersionRequest) message);
       context.writeAndFlush(response);
+    } else if (message instanceof BlobSnapshotRequest) {
+      handleBlobSnapshotRequest(context, (BlobSnapshotRequest) message);
     } else {
       context.writeAndFlush(
           new HttpShortcutResponse(
@@ -490,6 +550,14 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
   }
 
   public ReadResponse handleSingleGetRequest(GetRouterRequest request) {
+    return handleSingleGetRequest(request, false);
+  }
+
+  /**
+   * @param largeValueStreamingAllowed whether the chunks of a large value may be left to {@link #writeChunks}, which
+   *                                   only the Netty HTTP pipeline does; otherwise the value is assembled.
+   */
+  private ReadResponse handleSingleGetRequest(GetRouterRequest request, boolean largeValueStreamingAllowed) {
     String topic = request.getResourceName();
     PerStoreVersionState perStoreVersionState = getPerStoreVersionState(topic);
     int subPartition = getSubPartitionId(request.getPartition(), request.getKeyBytes(), perStoreVersionState);
@@ -497,21 +565,142 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
 
     AbstractStorageEngine storageEngine = perStoreVersionState.storageEngine;
     boolean isChunked = storageEngine.isChunked();
-    StorageResponseObject response = new StorageResponseObject();
+    StorageResponseObject response =
+        singleGetFastPathEnabled ? StorageResponseObject.newPooledInstance() : new StorageResponseObject();
     response.setCompressionStrategy(storageEngine.getCompressionStrategy());
     response.setDatabaseLookupLatency(0);
 
-    ValueRecord valueRecord = SingleGetChunkingAdapter.get(storageEngine, subPartition, key, isChunked, response);
-    response.setValueRecord(valueRecord);
+    if (singleGetFastPathEnabled && !isChunked) {
+      lookupIntoDirectBuffer(storageEngine, subPartition, key, response);
+    } else if (largeValueStreamingAllowed && isChunked) {
+      lookupForStreaming(storageEngine, subPartition, key, response);
+    } else {
+      response.setValueRecord(SingleGetChunkingAdapter.get(storageEngine, subPartition, key, isChunked, response));
+    }
 
     if (keyValueProfilingEnabled) {
       response.setKeySizeList(IntLists.singleton(key.length));
-      response.setValueSizeList(IntLists.singleton(response.isFound() ? valueRecord.getDataSize() : -1));
+      int valueSize = -1;
+      if (response.getChunkedValueReader() != null) {
+        valueSize = response.getChunkedValueReader().getValueSize();
+      } else if (response.isFound()) {
+        valueSize = response.getResponseBody().readableBytes();
+      }
+      response.setValueSizeList(IntLists.singleton(valueSize));
     }
 
     return response;
   }
 
+  /**
+   * Reads the value of a non-chunked store straight from the storage engine into a pooled direct buffer, which becomes
+   * the response body as is, instead of copying it into a byte array wrapped by a {@link ValueRecord}.
+   */
+  private void lookupIntoDirectBuffer(
+      AbstractStorageEngine storageEngine,
+      int partitionId,
+      byte[] key,
+      StorageResponseObject response) {
+    // RocksDB only accepts direct keys
+    ByteBuf keyBuffer = ZERO_COPY_ALLOCATOR.directBuffer(key.length);
+    ByteBuf value = ZERO_COPY_ALLOCATOR.directBuffer(zeroCopyBatchGetValueBufferSize);
+    try {
+      keyBuffer.writeBytes(key);
+      long databaseLookupStartTimeInNS = System.nanoTime();
+      // The internal NIO buffers of pooled buffers are cached, unlike the ones returned by nioBuffer()
+      int valueSize = storageEngine.getIntoDirectBuffer(
+          partitionId,
+          keyBuffer.internalNioBuffer(0, key.length),
+          value.internalNioBuffer(0, value.capacity()));
+      while (valueSize > value.capacity()) {
+        // The value got truncated, so read it again into a buffer of the right size
+        value.release();
+        value = null;
+        value = ZERO_COPY_ALLOCATOR.directBuffer(valueSize);
+        valueSize = storageEngine.getIntoDirectBuffer(
+            partitionId,
+            keyBuffer.internalNioBuffer(0, key.length),
+            value.internalNioBuffer(0, valueSize));
+      }
+      response.setDatabaseLookupLatency(LatencyUtils.getLatencyInMS(databaseLookupStartTimeInNS));
+      if (valueSize < 0) {
+        return;
+      }
+      value.writerIndex(valueSize);
+      int schemaId = value.getInt(0);
+      value.readerIndex(ValueRecord.SCHEMA_HEADER_LENGTH);
+      response.addValueSize(valueSize);
+      response.setValueBuffer(value, schemaId);
+      // From now on, the value is owned by the response
+      value = null;
+    } finally {
+      keyBuffer.release();
+      if (value != null) {
+        value.release();
+      }
+    }
+  }
+
+  /**
+   * Looks up the top-level key of a chunked store, without reading the chunks of a large value: they are only read
+   * by {@link #writeChunks} once the headers of the response are written.
+   */
+  private void lookupForStreaming(
+      AbstractStorageEngine storageEngine,
+      int partitionId,
+      byte[] key,
+      StorageResponseObject response) {
+    long databaseLookupStartTimeInNS = System.nanoTime();
+    byte[] value =
+        storageEngine.get(partitionId, ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(key));
+    response.setDatabaseLookupLatency(LatencyUtils.getLatencyInMS(databaseLookupStartTimeInNS));
+    if (value == null) {
+      return;
+    }
+    ChunkedValueReader chunkedValueReader = ChunkedValueReader.create(storageEngine, partitionId, value);
+    if (chunkedValueReader == null) {
+      response.addValueSize(value.length);
+      response.setValueRecord(ValueRecord.parseAndCreate(value));
+    } else {
+      response.addValueSize(chunkedValueReader.getValueSize());
+      response.incrementMultiChunkLargeValueCount();
+      response.setChunkedValueReader(chunkedValueReader);
+    }
+  }
+
+  /**
+   * Writes the chunks of a large value after the headers of its response, one at a time: the next chunk is only read
+   * from the storage engine, in {@param executor}, once the previous one is written to the channel, so that the memory
+   * held by the response is bounded by the size of a chunk rather than by the size of the value. The headers already
+   * carry the status and the content length by then, so a failure can only be reported by closing the connection.
+   */
+  private void writeChunks(ChannelHandlerContext context, ChunkedValueReader chunkedValueReader, Executor executor) {
+    ByteBuf chunk;
+    try {
+      chunk = chunkedValueReader.readNextChunk();
+    } catch (Exception e) {
+      LOGGER.error("Failed to read a chunk of a large value, closing the connection", e);
+      context.close();
+      return;
+    }
+    if (!chunkedValueReader.hasNextChunk()) {
+      context.writeAndFlush(new DefaultLastHttpContent(chunk));
+      return;
+    }
+    context.writeAndFlush(new DefaultHttpContent(chunk)).addListener(future -> {
+      if (!future.isSuccess()) {
+        // The connection is gone, so there is nobody left to send the remaining chunks to
+        return;
+      }
+      try {
+        executor.execute(() -> writeChunks(context, chunkedValueReader, executor));
+      } catch (RejectedExecutionException e) {
+        LOGGER.error("Failed to schedule the read of the next chunk of a large value, closing the connection", e);
+        context.close();
+      }
+    });
+  }
+
   private CompletableFuture<ReadResponse> handleMultiGetRequestInParallel(
       MultiGetRouterRequestWrapper request,
       int parallelChunkSize) {
@@ -603,6 +792,9 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     Iterable<MultiGetRouterRequestKeyV1> keys = request.getKeys();
     PerStoreVersionState perStoreVersionState = getPerStoreVersionState(request.getResourceName());
     AbstractStorageEngine storageEngine = perStoreVersionState.storageEngine;
+    if (zeroCopyBatchGetEnabled && !storageEngine.isChunked()) {
+      return handleZeroCopyMultiGetRequest(request, perStoreVersionState);
+    }
 
     MultiGetResponseWrapper responseWrapper = new MultiGetResponseWrapper(request.getKeyCount());
     responseWrapper.setCompressionStrategy(storageEngine.getCompressionStrategy());
@@ -634,6 +826,120 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     return responseWrapper;
   }
 
+  /**
+   * Serves a batch get of a non-chunked store without copying the values on heap. The values are read by RocksDB
+   * straight into pooled direct buffers, with one multiGet per run of consecutive keys of the same partition, and these
+   * buffers become part of the response body as is, see {@link ZeroCopyMultiGetResponseWrapper}.
+   */
+  private ReadResponse handleZeroCopyMultiGetRequest(
+      MultiGetRouterRequestWrapper request,
+      PerStoreVersionState perStoreVersionState) {
+    AbstractStorageEngine storageEngine = perStoreVersionState.storageEngine;
+    ZeroCopyMultiGetResponseWrapper responseWrapper =
+        new ZeroCopyMultiGetResponseWrapper(request.getKeyCount(), ZERO_COPY_ALLOCATOR);
+    responseWrapper.setCompressionStrategy(storageEngine.getCompressionStrategy());
+    responseWrapper.setDatabaseLookupLatency(0);
+
+    int totalKeySize = 0;
+    for (MultiGetRouterRequestKeyV1 key: request.getKeys()) {
+      totalKeySize += key.keyBytes.remaining();
+    }
+    // RocksDB only accepts direct keys, so they are all copied into a single direct buffer
+    ByteBuf keyBuffer = ZERO_COPY_ALLOCATOR.directBuffer(totalKeySize);
+    List<MultiGetRouterRequestKeyV1> batchKeys = new ArrayList<>();
+    List<ByteBuffer> batchKeyBuffers = new ArrayList<>();
+    int batchPartitionId = -1;
+    try {
+      for (MultiGetRouterRequestKeyV1 key: request.getKeys()) {
+        int subPartitionId = getSubPartitionId(key.partitionId, key.keyBytes, perStoreVersionState);
+        if (subPartitionId != batchPartitionId && !batchKeys.isEmpty()) {
+          lookupZeroCopyBatch(request, storageEngine, batchPartitionId, batchKeys, batchKeyBuffers, responseWrapper);
+          batchKeys.clear();
+          batchKeyBuffers.clear();
+        }
+        batchPartitionId = subPartitionId;
+        int keyOffset = keyBuffer.writerIndex();
+        int keyPosition = key.keyBytes.position();
+        keyBuffer.writeBytes(key.keyBytes);
+        key.keyBytes.position(keyPosition);
+        batchKeys.add(key);
+        batchKeyBuffers.add(keyBuffer.nioBuffer(keyOffset, keyBuffer.writerIndex() - keyOffset));
+      }
+      if (!batchKeys.isEmpty()) {
+        lookupZeroCopyBatch(request, storageEngine, batchPartitionId, batchKeys, batchKeyBuffers, responseWrapper);
+      }
+    } catch (RuntimeException e) {
+      responseWrapper.release();
+      throw e;
+    } finally {
+      keyBuffer.release();
+    }
+    return responseWrapper;
+  }
+
+  private void lookupZeroCopyBatch(
+      MultiGetRouterRequestWrapper request,
+      AbstractStorageEngine storageEngine,
+      int partitionId,
+      List<MultiGetRouterRequestKeyV1> keys,
+      List<ByteBuffer> keyBuffers,
+      ZeroCopyMultiGetResponseWrapper responseWrapper) {
+    if (request.shouldRequestBeTerminatedEarly()) {
+      throw new VeniceRequestEarlyTerminationException(request.getStoreName());
+    }
+    List<ByteBuf> values = new ArrayList<>(keys.size());
+    List<ByteBuffer> valueBuffers = new ArrayList<>(keys.size());
+    try {
+      for (int i = 0; i < keys.size(); i++) {
+        ByteBuf value = ZERO_COPY_ALLOCATOR.directBuffer(zeroCopyBatchGetValueBufferSize);
+        values.add(value);
+        valueBuffers.add(value.nioBuffer(0, value.capacity()));
+      }
+      long databaseLookupStartTimeInNS = System.nanoTime();
+      int[] valueSizes = storageEngine.multiGetIntoDirectBuffers(partitionId, keyBuffers, valueBuffers);
+      responseWrapper.addDatabaseLookupLatency(LatencyUtils.getLatencyInMS(databaseLookupStartTimeInNS));
+      for (int i = 0; i < keys.size(); i++) {
+        ByteBuf value = values.get(i);
+        int valueSize = valueSizes[i];
+        while (valueSize > value.capacity()) {
+          // The value got truncated, so read it again into a buffer of the right size
+          value.release();
+          value = ZERO_COPY_ALLOCATOR.directBuffer(valueSize);
+          values.set(i, value);
+          valueSize = storageEngine.multiGetIntoDirectBuffers(
+              partitionId,
+              Collections.singletonList(keyBuffers.get(i)),
+              Collections.singletonList(value.nioBuffer(0, valueSize)))[0];
+        }
+        // From now on, the value is either released or owned by the response
+        values.set(i, null);
+        MultiGetRouterRequestKeyV1 key = keys.get(i);
+        if (valueSize < 0) {
+          value.release();
+          if (request.isStreamingRequest()) {
+            // Negative key index to indicate the non-existing keys, see handleMultiGetRequest
+            responseWrapper.addRecord(
+                Math.negateExact(key.keyIndex),
+                Unpooled.EMPTY_BUFFER,
+                StreamingConstants.NON_EXISTING_KEY_SCHEMA_ID);
+          }
+          continue;
+        }
+        value.writerIndex(valueSize);
+        int schemaId = value.getInt(0);
+        value.readerIndex(ValueRecord.SCHEMA_HEADER_LENGTH);
+        responseWrapper.addValueSize(valueSize);
+        responseWrapper.addRecord(key.keyIndex, value, schemaId);
+      }
+    } finally {
+      for (ByteBuf value: values) {
+        if (value != null) {
+          value.release();
+        }
+      }
+    }
+  }
+
   private ReadResponse handleComputeRequest(ComputeRouterRequestWrapper request) {
     if (!metadataRepository.isReadComputationEnabled(request.getStoreName())) {
       throw new OperationNotAllowedException(
@@ -646,6 +952,13 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     PerStoreVersionState storeVersion = getPerStoreVersionState(request.getResourceName());
     VeniceCompressor compressor =
         compressorFactory.getCompressor(storeVersion.storageEngine.getCompressionStrategy(), request.getResourceName());
+    List<ComputeOperation> operations = request.getComputeRequest().getOperations();
+    StoreDeserializerCache<GenericRecord> deserializerCache = getComputeDeserializerCache(
+        request.getStoreName(),
+        storeVersion,
+        operations,
+        resultSchema,
+        valueSchemaEntry.getSchema());
 
     // Reuse the same value record and result record instances for all values
     ReusableObjects reusableObjects = threadLocalReusableObjects.get();
@@ -656,8 +969,27 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     reusableObjects.computeContext.clear();
 
     ComputeResponseWrapper response = new ComputeResponseWrapper(request.getKeyCount());
-    List<ComputeOperation> operations = request.getComputeRequest().getOperations();
     List<Schema.Field> operationResultFields = ComputeUtils.getOperationResultFields(operations, resultSchema);
+    TopK topK = request.getComputeRequest().getTopK();
+    List<ComputeAggregation> aggregations = request.getComputeRequest().getAggregations();
+    if (ComputeUtils.isReductionRequest(topK, aggregations)) {
+      ComputeUtils.checkComputeReduction(topK, aggregations, resultSchema);
+      return handleComputeReduction(
+          request,
+          topK,
+          aggregations,
+          operations,
+          operationResultFields,
+          storeVersion,
+          deserializerCache,
+          reusableValueRecord,
+          valueSchemaEntry.getId(),
+          compressor,
+          response,
+          reusableObjects,
+          reusableResultRecord,
+          resultSerializer);
+    }
     int hits = 0;
     for (ComputeRouterRequestKeyV1 key: request.getKeys()) {
       AvroRecordUtils.clearRecord(reusableResultRecord);
@@ -665,6 +997,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
           operations,
           operationResultFields,
           storeVersion,
+          deserializerCache,
           key,
           reusableValueRecord,
           valueSchemaEntry.getId(),
@@ -680,6 +1013,125 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     return response;
   }
 
+  /**
+   * Computes the top-K records and the aggregations of a compute request instead of returning one result per key:
+   *
+   * 1. Only the records which currently are in the top-K get serialized, and only the final top-K records of this
+   *    request are returned.
+   * 2. The aggregations are computed per partition, and returned as one record per partition whose key index is
+   *    {@link StreamingConstants#KEY_ID_FOR_COMPUTE_AGGREGATION}, so that the router or the client can drop the
+   *    duplicate partial results caused by retries when merging them.
+   *
+   * Non-existing keys are not returned, even for streaming requests, since the response doesn't map to the keys.
+   */
+  private ReadResponse handleComputeReduction(
+      ComputeRouterRequestWrapper request,
+      TopK topK,
+      List<ComputeAggregation> aggregations,
+      List<ComputeOperation> operations,
+      List<Schema.Field> operationResultFields,
+      PerStoreVersionState storeVersion,
+      StoreDeserializerCache<GenericRecord> deserializerCache,
+      GenericRecord reusableValueRecord,
+      int readerSchemaId,
+      VeniceCompressor compressor,
+      ComputeResponseWrapper response,
+      ReusableObjects reusableObjects,
+      GenericRecord reusableResultRecord,
+      RecordSerializer<GenericRecord> resultSerializer) {
+    TopKSelector<ComputeResponseRecordV1> topKSelector = topK == null ? null : new TopKSelector<>(topK.k);
+    Map<Integer, ComputeAggregator> partitionAggregators = new HashMap<>();
+    int hits = 0;
+    for (ComputeRouterRequestKeyV1 key: request.getKeys()) {
+      AvroRecordUtils.clearRecord(reusableResultRecord);
+      GenericRecord result = computeResult(
+          operations,
+          operationResultFields,
+          storeVersion,
+          deserializerCache,
+          key,
+          reusableValueRecord,
+          readerSchemaId,
+          compressor,
+          response,
+          reusableObjects,
+          reusableResultRecord);
+      if (result == null) {
+        continue;
+      }
+      hits++;
+      if (!aggregations.isEmpty()) {
+        partitionAggregators.computeIfAbsent(key.getPartitionId(), p -> new ComputeAggregator(aggregations))
+            .accumulate(result);
+      }
+      if (topKSelector != null) {
+        double score = ComputeUtils.toScore(result.get(topK.field.toString()));
+        if (topKSelector.accepts(score)) {
+          // The result record is reused, so it has to be serialized right away
+          long serializeStartTimeInNS = System.nanoTime();
+          ComputeResponseRecordV1 record = new ComputeResponseRecordV1();
+          record.keyIndex = key.getKeyIndex();
+          record.value = ByteBuffer.wrap(resultSerializer.serialize(result));
+          response.addReadComputeSerializationLatency(LatencyUtils.getLatencyInMS(serializeStartTimeInNS));
+          topKSelector.offer(score, record);
+        }
+      }
+    }
+    if (topKSelector != null) {
+      for (ComputeResponseRecordV1 record: topKSelector.getItemsInDescendingOrder()) {
+        response.addReadComputeOutputSize(record.value.remaining());
+        response.addRecord(record);
+      }
+    }
+    for (Map.Entry<Integer, ComputeAggregator> entry: partitionAggregators.entrySet()) {
+      ComputeResponseRecordV1 record = new ComputeResponseRecordV1();
+      record.keyIndex = StreamingConstants.KEY_ID_FOR_COMPUTE_AGGREGATION;
+      record.value =
+          ComputeUtils.serializeComputeAggregationResponse(entry.getValue().toPartialResponse(entry.getKey()));
+      response.addReadComputeOutputSize(record.value.remaining());
+      response.addRecord(record);
+    }
+    incrementOperatorCounters(response, operations, hits);
+    return response;
+  }
+
+  /**
+   * @return a deserializer cache which only decodes the float vectors read by the operations when the request is
+   *         eligible for it (see {@link ComputeUtils#getFloatVectorProjectionFields}), or the regular deserializer
+   *         cache of the store otherwise. Writer schemas which cannot be projected fall back to the regular
+   *         deserializer.
+   */
+  private StoreDeserializerCache<GenericRecord> getComputeDeserializerCache(
+      String storeName,
+      PerStoreVersionState storeVersion,
+      List<ComputeOperation> operations,
+      Schema resultSchema,
+      Schema valueSchema) {
+    if (!computeFloatVectorProjectionEnabled) {
+      return storeVersion.storeDeserializerCache;
+    }
+    Set<String> vectorFieldNames = ComputeUtils.getFloatVectorProjectionFields(operations, resultSchema, valueSchema);
+    if (vectorFieldNames == null) {
+      return storeVersion.storeDeserializerCache;
+    }
+    return floatVectorProjectionDeserializerCacheMap.computeIfAbsent(
+        storeName + vectorFieldNames,
+        k -> new AvroStoreDeserializerCache<>(
+            schemaRepository,
+            storeName,
+            (writer, reader) -> getFloatVectorProjectingDeserializer(writer, reader, vectorFieldNames)));
+  }
+
+  private RecordDeserializer<GenericRecord> getFloatVectorProjectingDeserializer(
+      Schema writerSchema,
+      Schema readerSchema,
+      Set<String> vectorFieldNames) {
+    if (FloatVectorProjectingDatumReader.isSupported(writerSchema, readerSchema, vectorFieldNames)) {
+      return new FloatVectorProjectingDeserializer(writerSchema, readerSchema, vectorFieldNames);
+    }
+    return genericDeserializerGetter.apply(writerSchema, readerSchema);
+  }
+
   private BinaryResponse handleDictionaryFetchRequest(DictionaryFetchRequest request) {
     ByteBuffer dictionary = metadataRetriever.getStoreVersionCompressionDictionary(request.getResourceName());
     return new BinaryResponse(dictionary);
@@ -693,6 +1145,48 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     return metadataRetriever.getCurrentVersionResponse(request.getStoreName());
   }
 
+  /**
+   * The snapshot requests are executed asynchronously by the {@link BlobSnapshotManager}, in its own thread pool.
+   */
+  private void handleBlobSnapshotRequest(ChannelHandlerContext context, BlobSnapshotRequest request) {
+    Optional<BlobSnapshotManager> blobSnapshotManager = metadataRetriever.getBlobSnapshotManager();
+    if (!blobSnapshotManager.isPresent()) {
+      context.writeAndFlush(
+          new HttpShortcutResponse("Blob snapshot serving is not enabled", HttpResponseStatus.SERVICE_UNAVAILABLE));
+      return;
+    }
+    CompletableFuture<ByteBuffer> future;
+    if (request.isManifestRequest()) {
+      future = blobSnapshotManager.get()
+          .getManifest(request.getResourceName(), request.getPartition())
+          .thenApply(manifest -> ByteBuffer.wrap(manifest.toBytes()));
+    } else {
+      future = blobSnapshotManager.get()
+          .readFileChunk(
+              request.getResourceName(),
+              request.getPartition(),
+              request.getSnapshotId(),
+              request.getFileName(),
+              request.getPosition());
+    }
+    future.whenComplete((body, e) -> {
+      if (e == null) {
+        context.writeAndFlush(new BinaryResponse(body));
+        return;
+      }
+      Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+      if (cause instanceof VeniceNoStoreException) {
+        context.writeAndFlush(
+            new HttpShortcutResponse(
+                "No storage exists for: " + request.getResourceName(),
+                HttpResponseStatus.NOT_FOUND));
+      } else {
+        LOGGER.error("Exception thrown for blob snapshot request of {}", request.getResourceName(), cause);
+        context.writeAndFlush(new HttpShortcutResponse(cause.getMessage(), HttpResponseStatus.INTERNAL_SERVER_ERROR));
+      }
+    });
+  }
+
   private Schema getComputeResultSchema(ComputeRequest computeRequest, Schema valueSchema) {
     Utf8 resultSchemaStr = (Utf8) computeRequest.getResultSchemaStr();
     Schema resultSchema = computeResultSchemaCache.get(resultSchemaStr);
@@ -746,6 +1240,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       List<ComputeOperation> operations,
       List<Schema.Field> operationResultFields,
       PerStoreVersionState storeVersion,
+      StoreDeserializerCache<GenericRecord> deserializerCache,
       ComputeRouterRequestKeyV1 key,
       GenericRecord reusableValueRecord,
       int readerSchemaId,
@@ -753,8 +1248,15 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       ComputeResponseWrapper response,
       ReusableObjects reusableObjects,
       GenericRecord reusableResultRecord) {
-    reusableValueRecord =
-        readValueRecord(key, storeVersion, readerSchemaId, compressor, response, reusableObjects, reusableValueRecord);
+    reusableValueRecord = readValueRecord(
+        key,
+        storeVersion,
+        deserializerCache,
+        readerSchemaId,
+        compressor,
+        response,
+        reusableObjects,
+        reusableValueRecord);
     if (reusableValueRecord == null) {
       return null;
     }
@@ -773,6 +1275,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
   private GenericRecord readValueRecord(
       ComputeRouterRequestKeyV1 key,
       PerStoreVersionState storeVersion,
+      StoreDeserializerCache<GenericRecord> deserializerCache,
       int readerSchemaId,
       VeniceCompressor compressor,
       ReadResponse response,
@@ -790,7 +1293,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
         storeVersion.storageEngine.isChunked(),
         response,
         readerSchemaId,
-        storeVersion.storeDeserializerCache,
+        deserializerCache,
         compressor);
   }
 
@@ -41,6 +41,8 @@ public class GrpcOutboundResponseHandler extends VeniceServerGrpcHandler {
 
       byte[] array = new byte[body.readableBytes()];
       body.getBytes(body.readerIndex(), array);
+      // The body may be made of pooled buffers, e.g. for zero-copy batch gets
+      body.release();
       veniceServerResponseBuilder.setData(ByteString.copyFrom(array))
           .setCompressionStrategy(compressionStrategy.getValue());
 
@@ -0,0 +1,79 @@
+package com.linkedin.venice.listener.request;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.request.RequestHelper;
+import io.netty.handler.codec.http.HttpRequest;
+
+
+/**
+ * {@code BlobSnapshotRequest} encapsulates a GET request to blob_snapshot/topic/partition on the storage node to fetch
+ * the manifest of a snapshot of the partition, or to blob_snapshot/topic/partition/snapshot_id/file/position to fetch
+ * a chunk of a file of the snapshot.
+ */
+public class BlobSnapshotRequest {
+  private final String resourceName;
+  private final int partition;
+  private final long snapshotId;
+  private final String fileName;
+  private final long position;
+
+  private BlobSnapshotRequest(String resourceName, int partition, long snapshotId, String fileName, long position) {
+    this.resourceName = resourceName;
+    this.partition = partition;
+    this.snapshotId = snapshotId;
+    this.fileName = fileName;
+    this.position = position;
+  }
+
+  public static BlobSnapshotRequest parseGetHttpRequest(HttpRequest request) {
+    String uri = request.uri();
+    String[] requestParts = RequestHelper.getRequestParts(uri);
+
+    try {
+      if (requestParts.length == 4) {
+        // [0]""/[1]"action"/[2]"topic"/[3]"partition"
+        return new BlobSnapshotRequest(requestParts[2], Integer.parseInt(requestParts[3]), -1, null, -1);
+      } else if (requestParts.length == 7) {
+        // [0]""/[1]"action"/[2]"topic"/[3]"partition"/[4]"snapshot id"/[5]"file"/[6]"position"
+        return new BlobSnapshotRequest(
+            requestParts[2],
+            Integer.parseInt(requestParts[3]),
+            Long.parseLong(requestParts[4]),
+            requestParts[5],
+            Long.parseLong(requestParts[6]));
+      }
+    } catch (NumberFormatException e) {
+      throw new VeniceException("Not a valid request for a BLOB_SNAPSHOT action: " + uri, e);
+    }
+    throw new VeniceException("Not a valid request for a BLOB_SNAPSHOT action: " + uri);
+  }
+
+  public String getResourceName() {
+    return resourceName;
+  }
+
+  public String getStoreName() {
+    return Version.parseStoreFromKafkaTopicName(resourceName);
+  }
+
+  public int getPartition() {
+    return partition;
+  }
+
+  public boolean isManifestRequest() {
+    return fileName == null;
+  }
+
+  public long getSnapshotId() {
+    return snapshotId;
+  }
+
+  public String getFileName() {
+    return fileName;
+  }
+
+  public long getPosition() {
+    return position;
+  }
+}
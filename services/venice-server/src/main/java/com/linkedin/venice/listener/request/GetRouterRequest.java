@@ -10,6 +10,7 @@ import com.linkedin.venice.utils.EncodingUtils;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.QueryStringDecoder;
+import io.netty.util.Recycler;
 import java.nio.charset.StandardCharsets;
 
 
@@ -17,12 +18,25 @@ import java.nio.charset.StandardCharsets;
  * {@code GetRouterRequest} encapsulates a GET request to storage/resourcename/partition/key on the storage node for a single-get operation.
  */
 public class GetRouterRequest extends RouterRequest {
-  private final int partition;
-  private final byte[] keyBytes;
+  private static final Recycler<GetRouterRequest> RECYCLER = new Recycler<GetRouterRequest>() {
+    @Override
+    protected GetRouterRequest newObject(Handle<GetRouterRequest> handle) {
+      return new GetRouterRequest(handle);
+    }
+  };
+
+  private final Recycler.Handle<GetRouterRequest> recyclerHandle;
+  private int partition;
+  private byte[] keyBytes;
+
+  private GetRouterRequest(Recycler.Handle<GetRouterRequest> recyclerHandle) {
+    this.recyclerHandle = recyclerHandle;
+  }
 
-  private GetRouterRequest(String resourceName, int partition, byte[] keyBytes, HttpRequest request) {
+  private GetRouterRequest(String resourceName, HttpRequest request, int partition, byte[] keyBytes) {
     super(resourceName, request);
 
+    this.recyclerHandle = null;
     this.partition = partition;
     this.keyBytes = keyBytes;
   }
@@ -30,6 +44,7 @@ public class GetRouterRequest extends RouterRequest {
   private GetRouterRequest(String resourceName, int partition, byte[] keyBytes) {
     super(resourceName, false, false);
 
+    this.recyclerHandle = null;
     this.partition = partition;
     this.keyBytes = keyBytes;
   }
@@ -42,6 +57,16 @@ public class GetRouterRequest extends RouterRequest {
     return keyBytes;
   }
 
+  /**
+   * Give this request back to its pool, if it comes from one. The request must not be accessed afterwards.
+   */
+  public void recycle() {
+    if (recyclerHandle != null) {
+      keyBytes = null;
+      recyclerHandle.recycle(this);
+    }
+  }
+
   @Override
   public RequestType getRequestType() {
     return RequestType.SINGLE_GET;
@@ -53,6 +78,14 @@ public class GetRouterRequest extends RouterRequest {
   }
 
   public static GetRouterRequest parseGetHttpRequest(HttpRequest request) {
+    return parseGetHttpRequest(request, false);
+  }
+
+  /**
+   * @param pooled whether to take the request from a pool, in which case it must be given back by {@link #recycle()}
+   *               once it has been handled, which is only the case in the single get fast path
+   */
+  public static GetRouterRequest parseGetHttpRequest(HttpRequest request, boolean pooled) {
     String uri = request.uri();
     String[] requestParts = RequestHelper.getRequestParts(uri);
     if (requestParts.length == 5) {
@@ -60,7 +93,14 @@ public class GetRouterRequest extends RouterRequest {
       String topicName = requestParts[2];
       int partition = Integer.parseInt(requestParts[3]);
       byte[] keyBytes = getKeyBytesFromUrlKeyString(requestParts[4]);
-      return new GetRouterRequest(topicName, partition, keyBytes, request);
+      if (!pooled) {
+        return new GetRouterRequest(topicName, request, partition, keyBytes);
+      }
+      GetRouterRequest getRouterRequest = RECYCLER.get();
+      getRouterRequest.init(topicName, request);
+      getRouterRequest.partition = partition;
+      getRouterRequest.keyBytes = keyBytes;
+      return getRouterRequest;
     } else {
       throw new VeniceException("Not a valid request for a STORAGE action: " + uri);
     }
@@ -17,10 +17,10 @@ public abstract class RouterRequest {
   public static final long NO_REQUEST_TIMEOUT = -1;
 
   private long requestTimeoutInNS = NO_REQUEST_TIMEOUT;
-  private final boolean isRetryRequest;
-  private final String resourceName;
-  private final String storeName;
-  private final boolean isStreamingRequest;
+  private boolean isRetryRequest;
+  private String resourceName;
+  private String storeName;
+  private boolean isStreamingRequest;
 
   public RouterRequest(String resourceName, HttpRequest request) {
     this.isRetryRequest = containRetryHeader(request);
@@ -36,6 +36,21 @@ public abstract class RouterRequest {
     this.isStreamingRequest = isStreamingRequest;
   }
 
+  /**
+   * For the requests which are pooled, and get initialized by {@link #init(String, HttpRequest)} every time they are
+   * reused.
+   */
+  protected RouterRequest() {
+  }
+
+  protected void init(String resourceName, HttpRequest request) {
+    this.requestTimeoutInNS = NO_REQUEST_TIMEOUT;
+    this.isRetryRequest = containRetryHeader(request);
+    this.isStreamingRequest = StreamingUtils.isStreamingEnabled(request);
+    this.resourceName = resourceName;
+    this.storeName = Version.parseStoreFromKafkaTopicName(resourceName);
+  }
+
   public void setRequestTimeoutInNS(long requestTimeoutInNS) {
     this.requestTimeoutInNS = requestTimeoutInNS;
   }
@@ -1,15 +1,60 @@
 package com.linkedin.venice.listener.response;
 
 import com.linkedin.davinci.listener.response.ReadResponse;
+import com.linkedin.davinci.storage.chunking.ChunkedValueReader;
 import com.linkedin.davinci.store.record.ValueRecord;
 import io.netty.buffer.ByteBuf;
+import io.netty.util.Recycler;
 
 
 public class StorageResponseObject extends ReadResponse {
+  private static final Recycler<StorageResponseObject> RECYCLER = new Recycler<StorageResponseObject>() {
+    @Override
+    protected StorageResponseObject newObject(Handle<StorageResponseObject> handle) {
+      return new StorageResponseObject(handle);
+    }
+  };
+
+  private final Recycler.Handle<StorageResponseObject> recyclerHandle;
+
   // Value record storing both schema id and the real data
   private ValueRecord valueRecord;
 
+  // Alternatively, the value without its schema header, read straight from the storage engine into a pooled buffer
+  private ByteBuf valueBuffer;
+  private int valueSchemaId;
+
+  // Alternatively, the reader of the chunks of a large value, which are written after the headers of the response
+  private ChunkedValueReader chunkedValueReader;
+
   public StorageResponseObject() {
+    this(null);
+  }
+
+  private StorageResponseObject(Recycler.Handle<StorageResponseObject> recyclerHandle) {
+    this.recyclerHandle = recyclerHandle;
+  }
+
+  /**
+   * @return a response from the pool, which should be given back with {@link #recycle()} once it has been written
+   */
+  public static StorageResponseObject newPooledInstance() {
+    return RECYCLER.get();
+  }
+
+  /**
+   * Give this response back to its pool, if it comes from one. The response must not be accessed afterwards.
+   */
+  public void recycle() {
+    if (recyclerHandle == null) {
+      return;
+    }
+    reset();
+    valueRecord = null;
+    valueBuffer = null;
+    valueSchemaId = 0;
+    chunkedValueReader = null;
+    recyclerHandle.recycle(this);
   }
 
   public void setValueRecord(ValueRecord valueRecord) {
@@ -20,9 +65,29 @@ public class StorageResponseObject extends ReadResponse {
     return valueRecord;
   }
 
+  /**
+   * @param valueBuffer the value without its schema header, whose ownership goes to the caller of
+   *                    {@link #getResponseBody()} from now on
+   */
+  public void setValueBuffer(ByteBuf valueBuffer, int schemaId) {
+    this.valueBuffer = valueBuffer;
+    this.valueSchemaId = schemaId;
+  }
+
+  public void setChunkedValueReader(ChunkedValueReader chunkedValueReader) {
+    this.chunkedValueReader = chunkedValueReader;
+  }
+
+  /**
+   * @return the reader of the chunks of a large value, if the value is streamed rather than held in the response body
+   */
+  public ChunkedValueReader getChunkedValueReader() {
+    return chunkedValueReader;
+  }
+
   @Override
   public boolean isFound() {
-    return this.valueRecord != null;
+    return this.valueRecord != null || this.valueBuffer != null || this.chunkedValueReader != null;
   }
 
   public int getRecordCount() {
@@ -35,11 +100,14 @@ public class StorageResponseObject extends ReadResponse {
 
   @Override
   public ByteBuf getResponseBody() {
-    return getValueRecord().getData();
+    return valueBuffer != null ? valueBuffer : getValueRecord().getData();
   }
 
   @Override
   public int getResponseSchemaIdHeader() {
-    return getValueRecord().getSchemaId();
+    if (chunkedValueReader != null) {
+      return chunkedValueReader.getSchemaId();
+    }
+    return valueBuffer != null ? valueSchemaId : getValueRecord().getSchemaId();
   }
 }
@@ -0,0 +1,111 @@
+package com.linkedin.venice.listener.response;
+
+import com.linkedin.davinci.listener.response.ReadResponse;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
+import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
+
+
+/**
+ * A batch get response which is encoded while the values are added to it, instead of being serialized by
+ * {@link MultiGetResponseWrapper} into a fresh byte array once all of them have been looked up.
+ *
+ * Each {@link MultiGetResponseRecordV1} is made of three fields: the key index, the value bytes and the schema id.
+ * The value buffers are added as is into a {@link CompositeByteBuf}, and only the Avro framing around them (i.e. the
+ * zig-zag varints of the key index, the value length and the schema id) is written into a separate framing buffer,
+ * slices of which are interleaved with the values. The result is byte for byte what the Avro serializer of
+ * {@link MultiGetResponseRecordV1} would produce for the same records, so the clients don't see any difference.
+ *
+ * N.B.: This class owns the buffers added to it, which are released either when the body returned by
+ * {@link #getResponseBody()} is released, or by {@link #release()} if the response is never sent.
+ */
+public class ZeroCopyMultiGetResponseWrapper extends ReadResponse {
+  /**
+   * The max size of a zig-zag varint is 5 bytes for an int, and each record has three of them.
+   */
+  private static final int MAX_FRAMING_SIZE_PER_RECORD = 15;
+
+  private final CompositeByteBuf body;
+  private final ByteBuf framing;
+  private int framingFlushedIndex = 0;
+  private int recordCount = 0;
+  private boolean released = false;
+
+  public ZeroCopyMultiGetResponseWrapper(int maxKeyCount, ByteBufAllocator allocator) {
+    // No max number of components, otherwise the composite buffer would consolidate them by copying
+    this.body = allocator.compositeDirectBuffer(Integer.MAX_VALUE);
+    this.framing = allocator.directBuffer(Math.max(maxKeyCount, 1) * MAX_FRAMING_SIZE_PER_RECORD);
+  }
+
+  /**
+   * @param value the value without its schema header, which is owned by this response from now on
+   */
+  public void addRecord(int keyIndex, ByteBuf value, int schemaId) {
+    writeZigZagVarInt(framing, keyIndex);
+    writeZigZagVarInt(framing, value.readableBytes());
+    if (value.isReadable()) {
+      flushFraming();
+      body.addComponent(true, value);
+    } else {
+      value.release();
+    }
+    // Flushed together with the framing of the next record
+    writeZigZagVarInt(framing, schemaId);
+    recordCount++;
+  }
+
+  private void flushFraming() {
+    int length = framing.writerIndex() - framingFlushedIndex;
+    if (length > 0) {
+      body.addComponent(true, framing.retainedSlice(framingFlushedIndex, length));
+      framingFlushedIndex = framing.writerIndex();
+    }
+  }
+
+  static void writeZigZagVarInt(ByteBuf buffer, int value) {
+    int n = (value << 1) ^ (value >> 31);
+    while ((n & ~0x7F) != 0) {
+      buffer.writeByte((n & 0x7F) | 0x80);
+      n >>>= 7;
+    }
+    buffer.writeByte(n);
+  }
+
+  @Override
+  public int getRecordCount() {
+    return recordCount;
+  }
+
+  /**
+   * N.B.: The ownership of the returned buffer goes to the caller, so this function can only be called once.
+   */
+  @Override
+  public ByteBuf getResponseBody() {
+    if (released) {
+      throw new IllegalStateException("The response body has already been handed over or released");
+    }
+    flushFraming();
+    // The slices of the framing buffer which are part of the body hold their own reference to it
+    framing.release();
+    released = true;
+    return body;
+  }
+
+  /**
+   * Release all the buffers of this response, in case it won't be sent.
+   */
+  public void release() {
+    if (!released) {
+      framing.release();
+      body.release();
+      released = true;
+    }
+  }
+
+  @Override
+  public int getResponseSchemaIdHeader() {
+    return ReadAvroProtocolDefinition.MULTI_GET_RESPONSE_V1.getProtocolVersion();
+  }
+}
@@ -37,6 +37,7 @@ import com.linkedin.venice.helix.SafeHelixManager;
 import com.linkedin.venice.helix.ZkAllowlistAccessor;
 import com.linkedin.venice.kafka.protocol.state.PartitionState;
 import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
+import com.linkedin.venice.listener.FastClassWarmupService;
 import com.linkedin.venice.listener.ListenerService;
 import com.linkedin.venice.listener.ServerStoreAclHandler;
 import com.linkedin.venice.listener.StoreValueSchemasCacheService;
@@ -57,6 +58,7 @@ import com.linkedin.venice.servicediscovery.ServiceDiscoveryAnnouncer;
 import com.linkedin.venice.stats.AggRocksDBStats;
 import com.linkedin.venice.stats.BackupVersionOptimizationServiceStats;
 import com.linkedin.venice.stats.DiskHealthStats;
+import com.linkedin.venice.stats.FastClassWarmupStats;
 import com.linkedin.venice.stats.VeniceJVMStats;
 import com.linkedin.venice.system.store.ControllerClientBackedSystemSchemaInitializer;
 import com.linkedin.venice.utils.CollectionUtils;
@@ -431,6 +433,18 @@ public class VeniceServer {
         new StoreValueSchemasCacheService(metadataRepo, schemaRepo);
     services.add(storeValueSchemasCacheService);
 
+    if (serverConfig.isFastClassWarmupAtStartTimeEnabled()) {
+      // Generate the fast avro classes of the schemas in use before serving reads
+      services.add(
+          new FastClassWarmupService(
+              metadataRepo,
+              schemaRepo,
+              serverConfig.getNumSchemaFastClassWarmup(),
+              serverConfig.getFastClassWarmupThreadCount(),
+              serverConfig.getFastClassSchemaWarmupTimeout(),
+              new FastClassWarmupStats(metricsRepository, "FastClassWarmup")));
+    }
+
     // create and add ListenerServer for handling GET requests
     ListenerService listenerService = createListenerService(
         storageService.getStorageEngineRepository(),
@@ -18,9 +18,31 @@ public class AggServerHttpRequestStats extends AbstractVeniceAggStoreStats<Serve
       ReadOnlyStoreRepository metadataRepository,
       boolean unregisterMetricForDeletedStoreEnabled,
       boolean isDaVinciClient) {
+    this(
+        metricsRepository,
+        requestType,
+        isKeyValueProfilingEnabled,
+        metadataRepository,
+        unregisterMetricForDeletedStoreEnabled,
+        isDaVinciClient,
+        false);
+  }
+
+  public AggServerHttpRequestStats(
+      MetricsRepository metricsRepository,
+      RequestType requestType,
+      boolean isKeyValueProfilingEnabled,
+      ReadOnlyStoreRepository metadataRepository,
+      boolean unregisterMetricForDeletedStoreEnabled,
+      boolean isDaVinciClient,
+      boolean isLowOverheadLatencyMetricsEnabled) {
     super(
         metricsRepository,
-        new ServerHttpRequestStatsSupplier(requestType, isKeyValueProfilingEnabled, isDaVinciClient),
+        new ServerHttpRequestStatsSupplier(
+            requestType,
+            isKeyValueProfilingEnabled,
+            isDaVinciClient,
+            isLowOverheadLatencyMetricsEnabled),
         metadataRepository,
         unregisterMetricForDeletedStoreEnabled);
   }
@@ -30,14 +52,17 @@ public class AggServerHttpRequestStats extends AbstractVeniceAggStoreStats<Serve
     private final boolean isKeyValueProfilingEnabled;
 
     private boolean isDaVinciClient;
+    private final boolean isLowOverheadLatencyMetricsEnabled;
 
     ServerHttpRequestStatsSupplier(
         RequestType requestType,
         boolean isKeyValueProfilingEnabled,
-        boolean isDaVinciClient) {
+        boolean isDaVinciClient,
+        boolean isLowOverheadLatencyMetricsEnabled) {
       this.requestType = requestType;
       this.isKeyValueProfilingEnabled = isKeyValueProfilingEnabled;
       this.isDaVinciClient = isDaVinciClient;
+      this.isLowOverheadLatencyMetricsEnabled = isLowOverheadLatencyMetricsEnabled;
     }
 
     @Override
@@ -56,7 +81,8 @@ public class AggServerHttpRequestStats extends AbstractVeniceAggStoreStats<Serve
           requestType,
           isKeyValueProfilingEnabled,
           totalStats,
-          isDaVinciClient);
+          isDaVinciClient,
+          isLowOverheadLatencyMetricsEnabled);
     }
   }
 
@@ -0,0 +1,42 @@
+package com.linkedin.venice.stats;
+
+import com.linkedin.venice.listener.FastClassWarmupService;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.utils.LatencyUtils;
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.Sensor;
+
+
+/**
+ * {@code FastClassWarmupStats} records the outcome of the fast avro class generation done by the
+ * {@link FastClassWarmupService} at start time, and the reads which still fell back to the vanilla Avro decoder since
+ * the fast class of their schema pair was not generated yet.
+ */
+public class FastClassWarmupStats extends AbstractVeniceStats {
+  private final Sensor warmupSchemaPairCountSensor;
+  private final Sensor warmupFailedSchemaPairCountSensor;
+  private final Sensor warmupTimeSensor;
+
+  public FastClassWarmupStats(MetricsRepository metricsRepository, String name) {
+    super(metricsRepository, name);
+
+    this.warmupSchemaPairCountSensor = registerSensor("warmup_schema_pair_count", new Gauge());
+    this.warmupFailedSchemaPairCountSensor = registerSensor("warmup_failed_schema_pair_count", new Gauge());
+    this.warmupTimeSensor = registerSensor("warmup_time_ms", new Gauge());
+    // Cumulative since the start of the process
+    registerSensor(
+        "slow_path_deserialization_count",
+        new Gauge(() -> FastSerializerDeserializerFactory.getSlowPathDeserializationCount()));
+    registerSensor(
+        "slow_path_deserialization_time_ms",
+        new Gauge(
+            () -> LatencyUtils
+                .convertLatencyFromNSToMS(FastSerializerDeserializerFactory.getSlowPathDeserializationTimeInNs())));
+  }
+
+  public void recordWarmup(int schemaPairCount, int failedSchemaPairCount, double warmupTimeInMs) {
+    this.warmupSchemaPairCountSensor.record(schemaPairCount);
+    this.warmupFailedSchemaPairCountSensor.record(failedSchemaPairCount);
+    this.warmupTimeSensor.record(warmupTimeInMs);
+  }
+}
@@ -11,6 +11,7 @@ import io.tehuti.metrics.stats.OccurrenceRate;
 import io.tehuti.metrics.stats.Rate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.DoubleConsumer;
 import java.util.function.Supplier;
 
 
@@ -21,28 +22,28 @@ import java.util.function.Supplier;
 public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
   private final Sensor successRequestSensor;
   private final Sensor errorRequestSensor;
-  private final Sensor successRequestLatencySensor;
-  private final Sensor errorRequestLatencySensor;
-  private final Sensor databaseLookupLatencySensor;
-  private final Sensor databaseLookupLatencyForSmallValueSensor;
-  private final Sensor databaseLookupLatencyForLargeValueSensor;
+  private final DoubleConsumer successRequestLatencySensor;
+  private final DoubleConsumer errorRequestLatencySensor;
+  private final DoubleConsumer databaseLookupLatencySensor;
+  private final DoubleConsumer databaseLookupLatencyForSmallValueSensor;
+  private final DoubleConsumer databaseLookupLatencyForLargeValueSensor;
   private final Sensor multiChunkLargeValueCountSensor;
   private final Sensor requestKeyCountSensor;
   private final Sensor successRequestKeyCountSensor;
   private final Sensor requestSizeInBytesSensor;
-  private final Sensor storageExecutionHandlerSubmissionWaitTime;
+  private final DoubleConsumer storageExecutionHandlerSubmissionWaitTime;
   private final Sensor storageExecutionQueueLenSensor;
 
-  private final Sensor requestFirstPartLatencySensor;
-  private final Sensor requestSecondPartLatencySensor;
-  private final Sensor requestPartsInvokeDelayLatencySensor;
+  private final DoubleConsumer requestFirstPartLatencySensor;
+  private final DoubleConsumer requestSecondPartLatencySensor;
+  private final DoubleConsumer requestPartsInvokeDelayLatencySensor;
   private final Sensor requestPartCountSensor;
 
-  private final Sensor readComputeLatencySensor;
-  private final Sensor readComputeLatencyForSmallValueSensor;
-  private final Sensor readComputeLatencyForLargeValueSensor;
-  private final Sensor readComputeDeserializationLatencySensor;
-  private final Sensor readComputeSerializationLatencySensor;
+  private final DoubleConsumer readComputeLatencySensor;
+  private final DoubleConsumer readComputeLatencyForSmallValueSensor;
+  private final DoubleConsumer readComputeLatencyForLargeValueSensor;
+  private final DoubleConsumer readComputeDeserializationLatencySensor;
+  private final DoubleConsumer readComputeSerializationLatencySensor;
   private final Sensor readComputeEfficiencySensor;
   private final Sensor dotProductCountSensor;
   private final Sensor cosineSimilaritySensor;
@@ -59,6 +60,8 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
   private final Sensor successRequestKeyRatioSensor, successRequestRatioSensor;
   private final Sensor misroutedStoreVersionSensor;
 
+  private final boolean isLowOverheadLatencyMetricsEnabled;
+
   private static final MetricsRepository dummySystemStoreMetricRepo = new MetricsRepository();
 
   public ServerHttpRequestStats(
@@ -67,8 +70,10 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
       RequestType requestType,
       boolean isKeyValueProfilingEnabled,
       ServerHttpRequestStats totalStats,
-      boolean isDaVinciClient) {
+      boolean isDaVinciClient,
+      boolean isLowOverheadLatencyMetricsEnabled) {
     super(isDaVinciClient ? dummySystemStoreMetricRepo : metricsRepository, storeName, requestType);
+    this.isLowOverheadLatencyMetricsEnabled = isLowOverheadLatencyMetricsEnabled;
 
     /**
      * Check java doc of function: {@link TehutiUtils.RatioStat} to understand why choosing {@link Rate} instead of
@@ -83,42 +88,44 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
     successRequestRatioSensor =
         registerSensor("success_request_ratio", new TehutiUtils.RatioStat(successRequest, errorRequest));
 
-    errorRequestLatencySensor = registerPerStoreAndTotal(
+    errorRequestLatencySensor = registerLatencyPerStoreAndTotal(
         "error_request_latency",
         totalStats,
         () -> totalStats.errorRequestLatencySensor,
-        TehutiUtils.getPercentileStatWithAvgAndMax(getName(), getFullMetricName("error_request_latency")));
+        () -> TehutiUtils.getPercentileStatWithAvgAndMax(getName(), getFullMetricName("error_request_latency")));
 
-    successRequestLatencySensor = registerPerStoreAndTotal(
+    successRequestLatencySensor = registerLatencyPerStoreAndTotal(
         "success_request_latency",
         totalStats,
         () -> totalStats.successRequestLatencySensor,
-        TehutiUtils.getPercentileStatWithAvgAndMax(getName(), getFullMetricName("success_request_latency")));
-    databaseLookupLatencySensor = registerPerStoreAndTotal(
+        () -> TehutiUtils.getPercentileStatWithAvgAndMax(getName(), getFullMetricName("success_request_latency")));
+    databaseLookupLatencySensor = registerLatencyPerStoreAndTotal(
         "storage_engine_query_latency",
         totalStats,
         () -> totalStats.databaseLookupLatencySensor,
-        TehutiUtils.getPercentileStat(getName(), getFullMetricName("storage_engine_query_latency")),
-        new Avg(),
-        new Max());
-    databaseLookupLatencyForSmallValueSensor = registerPerStoreAndTotal(
+        () -> new MeasurableStat[] {
+            TehutiUtils.getPercentileStat(getName(), getFullMetricName("storage_engine_query_latency")), new Avg(),
+            new Max() });
+    databaseLookupLatencyForSmallValueSensor = registerLatencyPerStoreAndTotal(
         "storage_engine_query_latency_for_small_value",
         totalStats,
         () -> totalStats.databaseLookupLatencyForSmallValueSensor,
-        TehutiUtils.getPercentileStatWithAvgAndMax(
+        () -> TehutiUtils.getPercentileStatWithAvgAndMax(
             getName(),
             getFullMetricName("storage_engine_query_latency_for_small_value")));
-    databaseLookupLatencyForLargeValueSensor = registerPerStoreAndTotal(
+    databaseLookupLatencyForLargeValueSensor = registerLatencyPerStoreAndTotal(
         "storage_engine_query_latency_for_large_value",
         totalStats,
         () -> totalStats.databaseLookupLatencyForLargeValueSensor,
-        TehutiUtils.getPercentileStatWithAvgAndMax(
+        () -> TehutiUtils.getPercentileStatWithAvgAndMax(
             getName(),
             getFullMetricName("storage_engine_query_latency_for_large_value")));
 
-    storageExecutionHandlerSubmissionWaitTime = registerSensor(
+    storageExecutionHandlerSubmissionWaitTime = registerLatencyPerStoreAndTotal(
         "storage_execution_handler_submission_wait_time",
-        TehutiUtils.getPercentileStatWithAvgAndMax(
+        null,
+        null,
+        () -> TehutiUtils.getPercentileStatWithAvgAndMax(
             getName(),
             getFullMetricName("storage_execution_handler_submission_wait_time")));
 
@@ -193,22 +200,23 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
         "success_request_key_ratio",
         new TehutiUtils.SimpleRatioStat(successRequestKeyCount, requestKeyCount));
 
-    requestFirstPartLatencySensor = registerPerStoreAndTotal(
+    requestFirstPartLatencySensor = registerLatencyPerStoreAndTotal(
         "request_first_part_latency",
         totalStats,
         () -> totalStats.requestFirstPartLatencySensor,
-        TehutiUtils.getPercentileStatWithAvgAndMax(getName(), getFullMetricName("request_first_part_latency")));
-    requestSecondPartLatencySensor = registerPerStoreAndTotal(
+        () -> TehutiUtils.getPercentileStatWithAvgAndMax(getName(), getFullMetricName("request_first_part_latency")));
+    requestSecondPartLatencySensor = registerLatencyPerStoreAndTotal(
         "request_second_part_latency",
         totalStats,
         () -> totalStats.requestSecondPartLatencySensor,
-        TehutiUtils.getPercentileStatWithAvgAndMax(getName(), getFullMetricName("request_second_part_latency")));
+        () -> TehutiUtils.getPercentileStatWithAvgAndMax(getName(), getFullMetricName("request_second_part_latency")));
 
-    requestPartsInvokeDelayLatencySensor = registerPerStoreAndTotal(
+    requestPartsInvokeDelayLatencySensor = registerLatencyPerStoreAndTotal(
         "request_parts_invoke_delay_latency",
         totalStats,
         () -> totalStats.requestPartsInvokeDelayLatencySensor,
-        TehutiUtils.getPercentileStatWithAvgAndMax(getName(), getFullMetricName("request_parts_invoke_delay_latency")));
+        () -> TehutiUtils
+            .getPercentileStatWithAvgAndMax(getName(), getFullMetricName("request_parts_invoke_delay_latency")));
 
     requestPartCountSensor = registerPerStoreAndTotal(
         "request_part_count",
@@ -218,40 +226,40 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
         new Min(),
         new Max());
 
-    readComputeLatencySensor = registerPerStoreAndTotal(
+    readComputeLatencySensor = registerLatencyPerStoreAndTotal(
         "storage_engine_read_compute_latency",
         totalStats,
         () -> totalStats.readComputeLatencySensor,
-        TehutiUtils
+        () -> TehutiUtils
             .getPercentileStatWithAvgAndMax(getName(), getFullMetricName("storage_engine_read_compute_latency")));
-    readComputeLatencyForSmallValueSensor = registerPerStoreAndTotal(
+    readComputeLatencyForSmallValueSensor = registerLatencyPerStoreAndTotal(
         "storage_engine_read_compute_latency_for_small_value",
         totalStats,
         () -> totalStats.readComputeLatencyForSmallValueSensor,
-        TehutiUtils.getPercentileStatWithAvgAndMax(
+        () -> TehutiUtils.getPercentileStatWithAvgAndMax(
             getName(),
             getFullMetricName("storage_engine_read_compute_latency_for_small_value")));
-    readComputeLatencyForLargeValueSensor = registerPerStoreAndTotal(
+    readComputeLatencyForLargeValueSensor = registerLatencyPerStoreAndTotal(
         "storage_engine_read_compute_latency_for_large_value",
         totalStats,
         () -> totalStats.readComputeLatencyForLargeValueSensor,
-        TehutiUtils.getPercentileStatWithAvgAndMax(
+        () -> TehutiUtils.getPercentileStatWithAvgAndMax(
             getName(),
             getFullMetricName("storage_engine_read_compute_latency_for_large_value")));
 
-    readComputeDeserializationLatencySensor = registerPerStoreAndTotal(
+    readComputeDeserializationLatencySensor = registerLatencyPerStoreAndTotal(
         "storage_engine_read_compute_deserialization_latency",
         totalStats,
         () -> totalStats.readComputeDeserializationLatencySensor,
-        TehutiUtils.getPercentileStatWithAvgAndMax(
+        () -> TehutiUtils.getPercentileStatWithAvgAndMax(
             getName(),
             getFullMetricName("storage_engine_read_compute_deserialization_latency")));
 
-    readComputeSerializationLatencySensor = registerPerStoreAndTotal(
+    readComputeSerializationLatencySensor = registerLatencyPerStoreAndTotal(
         "storage_engine_read_compute_serialization_latency",
         totalStats,
         () -> totalStats.readComputeSerializationLatencySensor,
-        TehutiUtils.getPercentileStatWithAvgAndMax(
+        () -> TehutiUtils.getPercentileStatWithAvgAndMax(
             getName(),
             getFullMetricName("storage_engine_read_compute_serialization_latency")));
 
@@ -325,6 +333,28 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
     return registerSensor(sensorName, parent, stats);
   }
 
+  /**
+   * Same as {@link #registerPerStoreAndTotal}, for the latencies recorded on every request. When the low overhead
+   * latency metrics are enabled, they are recorded into a {@link StripedStatsSensor} reported under the same names,
+   * and the given stats are not created at all.
+   */
+  private DoubleConsumer registerLatencyPerStoreAndTotal(
+      String sensorName,
+      ServerHttpRequestStats totalStats,
+      Supplier<DoubleConsumer> totalSensor,
+      Supplier<MeasurableStat[]> stats) {
+    if (isLowOverheadLatencyMetricsEnabled) {
+      StripedStatsSensor parent = totalStats == null ? null : (StripedStatsSensor) totalSensor.get();
+      return registerStripedStatsSensor(getFullMetricName(sensorName), parent);
+    }
+    Sensor sensor = registerPerStoreAndTotal(
+        sensorName,
+        totalStats,
+        () -> getMetricsRepository().getSensor(totalStats.getSensorFullName(getFullMetricName(sensorName))),
+        stats.get());
+    return sensor::record;
+  }
+
   public void recordSuccessRequest() {
     successRequestSensor.record();
   }
@@ -334,19 +364,19 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
   }
 
   public void recordSuccessRequestLatency(double latency) {
-    successRequestLatencySensor.record(latency);
+    successRequestLatencySensor.accept(latency);
   }
 
   public void recordErrorRequestLatency(double latency) {
-    errorRequestLatencySensor.record(latency);
+    errorRequestLatencySensor.accept(latency);
   }
 
   public void recordDatabaseLookupLatency(double latency, boolean assembledMultiChunkLargeValue) {
-    databaseLookupLatencySensor.record(latency);
+    databaseLookupLatencySensor.accept(latency);
     if (assembledMultiChunkLargeValue) {
-      databaseLookupLatencyForLargeValueSensor.record(latency);
+      databaseLookupLatencyForLargeValueSensor.accept(latency);
     } else {
-      databaseLookupLatencyForSmallValueSensor.record(latency);
+      databaseLookupLatencyForSmallValueSensor.accept(latency);
     }
   }
 
@@ -367,7 +397,7 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
   }
 
   public void recordStorageExecutionHandlerSubmissionWaitTime(double submissionWaitTime) {
-    storageExecutionHandlerSubmissionWaitTime.record(submissionWaitTime);
+    storageExecutionHandlerSubmissionWaitTime.accept(submissionWaitTime);
   }
 
   public void recordStorageExecutionQueueLen(int len) {
@@ -375,15 +405,15 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
   }
 
   public void recordRequestFirstPartLatency(double latency) {
-    requestFirstPartLatencySensor.record(latency);
+    requestFirstPartLatencySensor.accept(latency);
   }
 
   public void recordRequestSecondPartLatency(double latency) {
-    requestSecondPartLatencySensor.record(latency);
+    requestSecondPartLatencySensor.accept(latency);
   }
 
   public void recordRequestPartsInvokeDelayLatency(double latency) {
-    requestPartsInvokeDelayLatencySensor.record(latency);
+    requestPartsInvokeDelayLatencySensor.accept(latency);
   }
 
   public void recordRequestPartCount(int partCount) {
@@ -391,20 +421,20 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
   }
 
   public void recordReadComputeLatency(double latency, boolean assembledMultiChunkLargeValue) {
-    readComputeLatencySensor.record(latency);
+    readComputeLatencySensor.accept(latency);
     if (assembledMultiChunkLargeValue) {
-      readComputeLatencyForLargeValueSensor.record(latency);
+      readComputeLatencyForLargeValueSensor.accept(latency);
     } else {
-      readComputeLatencyForSmallValueSensor.record(latency);
+      readComputeLatencyForSmallValueSensor.accept(latency);
     }
   }
 
   public void recordReadComputeDeserializationLatency(double latency, boolean assembledMultiChunkLargeValue) {
-    readComputeDeserializationLatencySensor.record(latency);
+    readComputeDeserializationLatencySensor.accept(latency);
   }
 
   public void recordReadComputeSerializationLatency(double latency, boolean assembledMultiChunkLargeValue) {
-    readComputeSerializationLatencySensor.record(latency);
+    readComputeSerializationLatencySensor.accept(latency);
   }
 
   public void recordReadComputeEfficiency(double efficiency) {
@@ -0,0 +1,72 @@
+package com.linkedin.venice.listener;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.venice.meta.ReadOnlySchemaRepository;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.schema.SchemaEntry;
+import com.linkedin.venice.stats.FastClassWarmupStats;
+import com.linkedin.venice.utils.Pair;
+import io.tehuti.metrics.MetricsRepository;
+import java.util.Arrays;
+import java.util.Set;
+import org.apache.avro.Schema;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class FastClassWarmupServiceTest {
+  private static final String VALUE_SCHEMA_V1 =
+      "{\"type\":\"record\",\"name\":\"Value\",\"fields\":[{\"name\":\"f1\",\"type\":\"int\",\"default\":0}]}";
+  private static final String VALUE_SCHEMA_V2 = "{\"type\":\"record\",\"name\":\"Value\",\"fields\":["
+      + "{\"name\":\"f1\",\"type\":\"int\",\"default\":0},{\"name\":\"f2\",\"type\":\"string\",\"default\":\"\"}]}";
+  private static final String VALUE_SCHEMA_V3 = "{\"type\":\"record\",\"name\":\"Value\",\"fields\":["
+      + "{\"name\":\"f1\",\"type\":\"int\",\"default\":0},{\"name\":\"f2\",\"type\":\"string\",\"default\":\"\"},"
+      + "{\"name\":\"f3\",\"type\":\"long\",\"default\":0}]}";
+
+  @Test
+  public void testWarmupOfSchemaPairsInUse() throws Exception {
+    Store computeStore = mockStore("compute_store", true);
+    Store plainStore = mockStore("plain_store", false);
+    ReadOnlyStoreRepository storeRepository = mock(ReadOnlyStoreRepository.class);
+    doReturn(Arrays.asList(computeStore, plainStore)).when(storeRepository).getAllStores();
+
+    SchemaEntry v1 = new SchemaEntry(1, VALUE_SCHEMA_V1);
+    SchemaEntry v2 = new SchemaEntry(2, VALUE_SCHEMA_V2);
+    SchemaEntry v3 = new SchemaEntry(3, VALUE_SCHEMA_V3);
+    ReadOnlySchemaRepository schemaRepository = mock(ReadOnlySchemaRepository.class);
+    doReturn(Arrays.asList(v1, v2, v3)).when(schemaRepository).getValueSchemas("compute_store");
+    doReturn(v3).when(schemaRepository).getSupersetOrLatestValueSchema("compute_store");
+
+    MetricsRepository metricsRepository = new MetricsRepository();
+    FastClassWarmupService warmupService = new FastClassWarmupService(
+        storeRepository,
+        schemaRepository,
+        2,
+        2,
+        60000,
+        new FastClassWarmupStats(metricsRepository, "FastClassWarmup"));
+
+    // Only the latest 2 value schemas of the compute store are warmed up
+    Set<Pair<Schema, Schema>> schemaPairs = warmupService.getSchemaPairsInUse();
+    Assert.assertEquals(schemaPairs.size(), 2);
+    Assert.assertTrue(schemaPairs.contains(new Pair<>(v3.getSchema(), v3.getSchema())));
+    Assert.assertTrue(schemaPairs.contains(new Pair<>(v2.getSchema(), v3.getSchema())));
+
+    warmupService.start();
+    Assert.assertEquals(metricsRepository.getMetric(".FastClassWarmup--warmup_schema_pair_count.Gauge").value(), 2.0);
+    Assert.assertEquals(
+        metricsRepository.getMetric(".FastClassWarmup--warmup_failed_schema_pair_count.Gauge").value(),
+        0.0);
+    warmupService.stop();
+  }
+
+  private Store mockStore(String storeName, boolean readComputationEnabled) {
+    Store store = mock(Store.class);
+    doReturn(storeName).when(store).getName();
+    doReturn(readComputationEnabled).when(store).isReadComputationEnabled();
+    return store;
+  }
+}
@@ -14,18 +14,24 @@ import com.google.protobuf.ByteString;
 import com.linkedin.davinci.listener.response.MetadataResponse;
 import com.linkedin.davinci.listener.response.ReadResponse;
 import com.linkedin.davinci.listener.response.ServerCurrentVersionResponse;
+import com.linkedin.davinci.storage.chunking.ChunkedValueReader;
 import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.listener.grpc.GrpcRequestContext;
 import com.linkedin.venice.listener.grpc.handlers.GrpcOutboundResponseHandler;
+import com.linkedin.venice.listener.response.StorageResponseObject;
 import com.linkedin.venice.protocols.VeniceServerResponse;
 import com.linkedin.venice.utils.ObjectMapperFactory;
 import io.grpc.stub.StreamObserver;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
@@ -167,6 +173,37 @@ public class OutboundHttpWrapperHandlerTest {
     outboundHttpWrapperHandler.write(mockCtx, msg, null);
   }
 
+  @Test
+  public void testWriteStreamedLargeValueResponse() {
+    ChunkedValueReader chunkedValueReader = mock(ChunkedValueReader.class);
+    when(chunkedValueReader.getValueSize()).thenReturn(3 * 1024 * 1024);
+    when(chunkedValueReader.getSchemaId()).thenReturn(2);
+    StorageResponseObject msg = new StorageResponseObject();
+    msg.setChunkedValueReader(chunkedValueReader);
+    StatsHandler statsHandler = mock(StatsHandler.class);
+    when(statsHandler.getServerStatsContext()).thenReturn(mock(ServerStatsContext.class));
+    ChannelHandlerContext mockCtx = mock(ChannelHandlerContext.class);
+
+    OutboundHttpWrapperHandler outboundHttpWrapperHandler = new OutboundHttpWrapperHandler(statsHandler);
+
+    // Only the headers are written, the chunks of the value follow as separate contents
+    when(mockCtx.writeAndFlush(any())).then(i -> {
+      HttpResponse actualResponse = (HttpResponse) i.getArguments()[0];
+      Assert.assertFalse(actualResponse instanceof FullHttpResponse);
+      Assert.assertEquals(actualResponse.status(), HttpResponseStatus.OK);
+      Assert.assertEquals(actualResponse.headers().getInt(CONTENT_LENGTH).intValue(), 3 * 1024 * 1024);
+      Assert.assertEquals(actualResponse.headers().getInt(HttpConstants.VENICE_SCHEMA_ID).intValue(), 2);
+      return null;
+    });
+    outboundHttpWrapperHandler.write(mockCtx, msg, null);
+    verify(mockCtx).writeAndFlush(any());
+
+    HttpContent chunk = new DefaultHttpContent(Unpooled.wrappedBuffer(new byte[] { 1, 2, 3 }));
+    ChannelPromise promise = mock(ChannelPromise.class);
+    outboundHttpWrapperHandler.write(mockCtx, chunk, promise);
+    verify(mockCtx).writeAndFlush(chunk, promise);
+  }
+
   @Test
   public void testGrpcWrite() {
     ByteBuf mockBody = mock(ByteBuf.class);
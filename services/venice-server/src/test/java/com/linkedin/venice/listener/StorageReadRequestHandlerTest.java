@@ -7,6 +7,7 @@ import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
@@ -28,6 +29,7 @@ import com.linkedin.davinci.listener.response.MetadataResponse;
 import com.linkedin.davinci.storage.DiskHealthCheckService;
 import com.linkedin.davinci.storage.MetadataRetriever;
 import com.linkedin.davinci.storage.StorageEngineRepository;
+import com.linkedin.davinci.storage.chunking.ChunkingUtils;
 import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.davinci.store.rocksdb.RocksDBServerConfig;
@@ -45,6 +47,7 @@ import com.linkedin.venice.exceptions.PersistenceFailureException;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.grpc.GrpcErrorCodes;
 import com.linkedin.venice.listener.grpc.GrpcRequestContext;
+import com.linkedin.venice.listener.grpc.handlers.GrpcOutboundResponseHandler;
 import com.linkedin.venice.listener.grpc.handlers.GrpcStorageReadRequestHandler;
 import com.linkedin.venice.listener.grpc.handlers.VeniceServerGrpcHandler;
 import com.linkedin.venice.listener.request.AdminRequest;
@@ -83,9 +86,12 @@ import com.linkedin.venice.serializer.AvroSerializer;
 import com.linkedin.venice.serializer.RecordDeserializer;
 import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import com.linkedin.venice.streaming.StreamingUtils;
 import com.linkedin.venice.unit.kafka.SimplePartitioner;
+import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.DataProviderUtils;
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
@@ -234,6 +240,59 @@ public class StorageReadRequestHandlerTest {
     assertEquals(responseObject.getValueRecord().getSchemaId(), schemaId);
   }
 
+  @Test
+  public void testSingleGetFastPath() throws Exception {
+    String keyString = "test-key";
+    String valueString = "test-value";
+    int schemaId = 1;
+    int partition = 2;
+    byte[] valueBytes = ValueRecord.create(schemaId, valueString.getBytes()).serialize();
+    int subPartition = getSubPartitionId(partition, keyString.getBytes());
+    doReturn(true).when(serverConfig).isSingleGetFastPathEnabled();
+    // Too small for the value, which has to be read again
+    doReturn(4).when(serverConfig).getZeroCopyBatchGetValueBufferSize();
+    doAnswer(invocation -> {
+      ByteBuffer key = invocation.getArgument(1);
+      byte[] keyBytes = new byte[key.remaining()];
+      key.duplicate().get(keyBytes);
+      if (!keyString.equals(new String(keyBytes))) {
+        return -1;
+      }
+      ByteBuffer value = invocation.getArgument(2);
+      value.duplicate().put(valueBytes, 0, Math.min(value.remaining(), valueBytes.length));
+      return valueBytes.length;
+    }).when(storageEngine).getIntoDirectBuffer(eq(subPartition), any(), any());
+
+    StorageReadRequestHandler requestHandler = createStorageReadRequestHandler();
+    String uri = "/" + TYPE_STORAGE + "/test-topic_v1/" + partition + "/" + keyString;
+    requestHandler.channelRead(
+        context,
+        GetRouterRequest
+            .parseGetHttpRequest(new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri), true));
+    verify(context, times(1)).writeAndFlush(argumentCaptor.capture());
+    StorageResponseObject responseObject = (StorageResponseObject) argumentCaptor.getValue();
+    Assert.assertTrue(responseObject.isFound());
+    Assert.assertNull(responseObject.getValueRecord());
+    Assert.assertEquals(responseObject.getResponseSchemaIdHeader(), schemaId);
+    ByteBuf body = responseObject.getResponseBody();
+    Assert.assertTrue(body.isDirect());
+    Assert.assertEquals(body.toString(StandardCharsets.UTF_8), valueString);
+    body.release();
+    responseObject.recycle();
+
+    // Missing keys are not found, and the requests are recycled so parse another one
+    uri = "/" + TYPE_STORAGE + "/test-topic_v1/" + partition + "/missing-key";
+    requestHandler.channelRead(
+        context,
+        GetRouterRequest
+            .parseGetHttpRequest(new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri), true));
+    verify(context, times(2)).writeAndFlush(argumentCaptor.capture());
+    responseObject = (StorageResponseObject) argumentCaptor.getValue();
+    Assert.assertFalse(responseObject.isFound());
+    Assert.assertEquals(responseObject.getRecordCount(), 0);
+    responseObject.recycle();
+  }
+
   @Test
   public void testDiskHealthCheckService() throws Exception {
     doReturn(true).when(healthCheckService).isDiskHealthy();
@@ -604,6 +663,63 @@ public class StorageReadRequestHandlerTest {
     assertTrue(builder.getErrorMessage().contains("Internal Error"));
   }
 
+  @Test
+  public void testGrpcSingleGetAssemblesLargeValueWithStreamingEnabled() {
+    String keyString = "test-key";
+    int partition = 2;
+    int subPartition = getSubPartitionId(partition, keyString.getBytes());
+    doReturn(true).when(serverConfig).isLargeValueStreamingEnabled();
+    doReturn(true).when(storageEngine).isChunked();
+    doReturn(CompressionStrategy.NO_OP).when(storageEngine).getCompressionStrategy();
+
+    // The value is made of 2 chunks referenced by a manifest stored under the top-level key
+    byte[] valuePayload = "large-test-value".getBytes();
+    ChunkedValueManifest chunkedValueManifest = new ChunkedValueManifest();
+    chunkedValueManifest.keysWithChunkIdSuffix = new ArrayList<>(2);
+    chunkedValueManifest.schemaId = 1;
+    chunkedValueManifest.size = valuePayload.length;
+    int chunkLength = valuePayload.length / 2;
+    for (byte i = 0; i < 2; i++) {
+      byte[] chunkKey = new byte[] { i };
+      byte[] chunk = new byte[ValueRecord.SCHEMA_HEADER_LENGTH + chunkLength];
+      ByteUtils.writeInt(chunk, AvroProtocolDefinition.CHUNK.currentProtocolVersion.get(), 0);
+      System.arraycopy(valuePayload, i * chunkLength, chunk, ValueRecord.SCHEMA_HEADER_LENGTH, chunkLength);
+      doReturn(chunk).when(storageEngine).get(eq(subPartition), eq(chunkKey));
+      chunkedValueManifest.keysWithChunkIdSuffix.add(ByteBuffer.wrap(chunkKey));
+    }
+    byte[] serializedCVM = SerializerDeserializerFactory.getAvroGenericSerializer(ChunkedValueManifest.SCHEMA$)
+        .serialize(chunkedValueManifest);
+    byte[] manifest = new byte[ValueRecord.SCHEMA_HEADER_LENGTH + serializedCVM.length];
+    ByteUtils.writeInt(manifest, AvroProtocolDefinition.CHUNKED_VALUE_MANIFEST.currentProtocolVersion.get(), 0);
+    System.arraycopy(serializedCVM, 0, manifest, ValueRecord.SCHEMA_HEADER_LENGTH, serializedCVM.length);
+    byte[] topLevelKey = ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(keyString.getBytes());
+    doReturn(manifest).when(storageEngine).get(eq(subPartition), eq(topLevelKey));
+    doReturn(manifest).when(storageEngine).get(eq(subPartition), eq(ByteBuffer.wrap(topLevelKey)));
+
+    VeniceClientRequest clientRequest = VeniceClientRequest.newBuilder()
+        .setResourceName("test-store_v1")
+        .setPartition(partition)
+        .setKeyString(keyString)
+        .build();
+    VeniceServerResponse.Builder builder = VeniceServerResponse.newBuilder();
+    GrpcRequestContext ctx = new GrpcRequestContext(clientRequest, builder, null);
+    ctx.setRouterRequest(GetRouterRequest.grpcGetRouterRequest(clientRequest));
+    ctx.setGrpcStatsContext(mock(ServerStatsContext.class));
+    GrpcStorageReadRequestHandler grpcReadRequestHandler =
+        new GrpcStorageReadRequestHandler(createStorageReadRequestHandler());
+    GrpcOutboundResponseHandler outboundResponseHandler = new GrpcOutboundResponseHandler();
+    grpcReadRequestHandler.addNextHandler(outboundResponseHandler);
+    VeniceServerGrpcHandler mockNextHandler = mock(VeniceServerGrpcHandler.class);
+    outboundResponseHandler.addNextHandler(mockNextHandler);
+    grpcReadRequestHandler.processRequest(ctx);
+
+    // gRPC has no way to stream the chunks, so the value is assembled
+    Assert.assertFalse(ctx.hasError(), builder.getErrorMessage());
+    Assert.assertEquals(builder.getSchemaId(), 1);
+    Assert.assertEquals(builder.getData().toByteArray(), valuePayload);
+    verify(mockNextHandler).processRequest(ctx);
+  }
+
   @Test
   public void testMisRoutedStoreVersion() throws Exception {
     String storeName = "testStore";
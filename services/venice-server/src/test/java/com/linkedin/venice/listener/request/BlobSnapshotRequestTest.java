@@ -0,0 +1,55 @@
+package com.linkedin.venice.listener.request;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.QueryAction;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpVersion;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class BlobSnapshotRequestTest {
+  private static final String ACTION = QueryAction.BLOB_SNAPSHOT.toString().toLowerCase();
+
+  @Test
+  public void testParseManifestRequest() {
+    String uri = "/" + ACTION + "/test_store_v1/3";
+    HttpRequest httpRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri);
+    BlobSnapshotRequest testRequest = BlobSnapshotRequest.parseGetHttpRequest(httpRequest);
+
+    Assert.assertEquals(testRequest.getResourceName(), "test_store_v1");
+    Assert.assertEquals(testRequest.getStoreName(), "test_store");
+    Assert.assertEquals(testRequest.getPartition(), 3);
+    Assert.assertTrue(testRequest.isManifestRequest());
+  }
+
+  @Test
+  public void testParseFileChunkRequest() {
+    String uri = "/" + ACTION + "/test_store_v1/3/1234/000010.sst/4194304";
+    HttpRequest httpRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri);
+    BlobSnapshotRequest testRequest = BlobSnapshotRequest.parseGetHttpRequest(httpRequest);
+
+    Assert.assertEquals(testRequest.getResourceName(), "test_store_v1");
+    Assert.assertEquals(testRequest.getPartition(), 3);
+    Assert.assertFalse(testRequest.isManifestRequest());
+    Assert.assertEquals(testRequest.getSnapshotId(), 1234L);
+    Assert.assertEquals(testRequest.getFileName(), "000010.sst");
+    Assert.assertEquals(testRequest.getPosition(), 4194304L);
+  }
+
+  @Test
+  public void testParseInvalidHttpRequest() {
+    for (String uri: new String[] { "/" + ACTION + "/test_store_v1", "/" + ACTION + "/test_store_v1/partition",
+        "/" + ACTION + "/test_store_v1/3/1234/000010.sst" }) {
+      HttpRequest httpRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri);
+      try {
+        BlobSnapshotRequest.parseGetHttpRequest(httpRequest);
+        Assert.fail("Venice Exception was not thrown");
+      } catch (VeniceException e) {
+        Assert.assertEquals(e.getMessage(), "Not a valid request for a BLOB_SNAPSHOT action: " + uri);
+      }
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package com.linkedin.venice.listener.response;
+
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
+import com.linkedin.venice.streaming.StreamingConstants;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class ZeroCopyMultiGetResponseWrapperTest {
+  @Test
+  public void testEncodingMatchesAvroSerializer() {
+    // Key indexes, value sizes and schema ids which cover zig-zag varints of different lengths
+    int[] keyIndexes = { 0, 1, 63, 64, 8191, -5, Integer.MAX_VALUE };
+    int[] valueSizes = { 10, 0, 127, 128, 20000, 0, 3 };
+    int[] schemaIds = { 1, 2, 64, 65, 1000, StreamingConstants.NON_EXISTING_KEY_SCHEMA_ID, Integer.MAX_VALUE };
+
+    MultiGetResponseWrapper expectedResponse = new MultiGetResponseWrapper(keyIndexes.length);
+    ZeroCopyMultiGetResponseWrapper response =
+        new ZeroCopyMultiGetResponseWrapper(keyIndexes.length, PooledByteBufAllocator.DEFAULT);
+    List<ByteBuf> values = new ArrayList<>();
+    for (int i = 0; i < keyIndexes.length; i++) {
+      byte[] valueBytes = new byte[valueSizes[i]];
+      for (int j = 0; j < valueBytes.length; j++) {
+        valueBytes[j] = (byte) (i + j);
+      }
+      MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+      record.keyIndex = keyIndexes[i];
+      record.value = ByteBuffer.wrap(valueBytes);
+      record.schemaId = schemaIds[i];
+      expectedResponse.addRecord(record);
+
+      ByteBuf value = PooledByteBufAllocator.DEFAULT.directBuffer(valueBytes.length);
+      value.writeBytes(valueBytes);
+      values.add(value);
+      response.addRecord(keyIndexes[i], value, schemaIds[i]);
+    }
+    Assert.assertEquals(response.getRecordCount(), keyIndexes.length);
+
+    ByteBuf body = response.getResponseBody();
+    Assert.assertEquals(ByteBufUtil.getBytes(body), ByteBufUtil.getBytes(expectedResponse.getResponseBody()));
+    Assert.assertThrows(IllegalStateException.class, response::getResponseBody);
+
+    // Releasing the body releases all the value buffers
+    Assert.assertTrue(body.release());
+    for (ByteBuf value: values) {
+      Assert.assertEquals(value.refCnt(), 0);
+    }
+  }
+
+  @Test
+  public void testRelease() {
+    ZeroCopyMultiGetResponseWrapper response = new ZeroCopyMultiGetResponseWrapper(2, PooledByteBufAllocator.DEFAULT);
+    ByteBuf value = PooledByteBufAllocator.DEFAULT.directBuffer(4);
+    value.writeInt(42);
+    response.addRecord(0, value, 1);
+    response.addRecord(-1, Unpooled.EMPTY_BUFFER, StreamingConstants.NON_EXISTING_KEY_SCHEMA_ID);
+    response.release();
+    Assert.assertEquals(value.refCnt(), 0);
+    // Releasing twice is a no-op
+    response.release();
+  }
+}
@@ -179,4 +179,35 @@ public class AggServerHttpRequestStatsTest {
         10,
         "storage_engine_large_value_lookup rate should be positive");
   }
+
+  @Test
+  public void testLowOverheadLatencyMetricsKeepTheSameNames() {
+    MetricsRepository tehutiMetricsRepository = new MetricsRepository();
+    MetricsRepository lowOverheadMetricsRepository = new MetricsRepository();
+    ServerHttpRequestStats tehutiStats = new AggServerHttpRequestStats(
+        tehutiMetricsRepository,
+        RequestType.SINGLE_GET,
+        false,
+        Mockito.mock(ReadOnlyStoreRepository.class),
+        true,
+        false,
+        false).getStoreStats(STORE_FOO);
+    ServerHttpRequestStats lowOverheadStats = new AggServerHttpRequestStats(
+        lowOverheadMetricsRepository,
+        RequestType.SINGLE_GET,
+        false,
+        Mockito.mock(ReadOnlyStoreRepository.class),
+        true,
+        false,
+        true).getStoreStats(STORE_FOO);
+
+    tehutiStats.recordSuccessRequestLatency(5.0);
+    lowOverheadStats.recordSuccessRequestLatency(5.0);
+    Assert.assertEquals(lowOverheadMetricsRepository.metrics().keySet(), tehutiMetricsRepository.metrics().keySet());
+    for (String metricName: new String[] { "." + STORE_FOO + "--success_request_latency.Max",
+        ".total--success_request_latency.Max" }) {
+      Assert.assertEquals(lowOverheadMetricsRepository.getMetric(metricName).value(), 5.0, metricName);
+      Assert.assertEquals(tehutiMetricsRepository.getMetric(metricName).value(), 5.0, metricName);
+    }
+  }
 }